@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.common;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+
+/**
+ * Adds the extensions the runtime adds to a consumed event before it is pushed to a client, once copying the event
+ * with {@link CloudEventBuilder#from} at every hop, once recording them in an {@link EventEnvelope} and building the
+ * event at the end.
+ *
+ * <p>Run with {@code ./gradlew :eventmesh-common:jmh}, add {@code -prof gc} to the jmh arguments to compare the
+ * allocation per message ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventEnvelopeBenchmark {
+
+    @Param({"4", "16"})
+    private int extensions;
+
+    private CloudEvent event;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        CloudEventBuilder builder = CloudEventBuilder.v1()
+            .withId(UUID.randomUUID().toString())
+            .withSource(URI.create("/"))
+            .withType("eventmesh")
+            .withSubject("TEST-TOPIC")
+            .withData("content".getBytes(StandardCharsets.UTF_8));
+        for (int i = 0; i < extensions; i++) {
+            builder.withExtension("ext" + i, "value" + i);
+        }
+        event = builder.build();
+    }
+
+    @Benchmark
+    public CloudEvent builderCopies() {
+        CloudEvent received = CloudEventBuilder.from(event)
+            .withExtension("reqmq2eventmeshtimestamp", "1")
+            .withExtension("reqreceiveeventmeship", "127.0.0.1")
+            .build();
+        return CloudEventBuilder.from(received)
+            .withExtension("reqeventmesh2ctimestamp", "2")
+            .withExtension("rspsys", "5023")
+            .withExtension("rspgroup", "group")
+            .withExtension("rspidc", "idc")
+            .withExtension("rspip", "127.0.0.1")
+            .build();
+    }
+
+    @Benchmark
+    public CloudEvent envelope() {
+        EventEnvelope received = EventEnvelope.wrap(event)
+            .withExtension("reqmq2eventmeshtimestamp", "1")
+            .withExtension("reqreceiveeventmeship", "127.0.0.1");
+        return EventEnvelope.copyOf(received)
+            .withExtension("reqeventmesh2ctimestamp", "2")
+            .withExtension("rspsys", "5023")
+            .withExtension("rspgroup", "group")
+            .withExtension("rspidc", "idc")
+            .withExtension("rspip", "127.0.0.1")
+            .toCloudEvent();
+    }
+}
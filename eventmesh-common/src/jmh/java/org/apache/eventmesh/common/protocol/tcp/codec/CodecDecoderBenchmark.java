@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.common.protocol.tcp.codec;
+
+import org.apache.eventmesh.common.Constants;
+import org.apache.eventmesh.common.protocol.tcp.Command;
+import org.apache.eventmesh.common.protocol.tcp.Header;
+import org.apache.eventmesh.common.protocol.tcp.Package;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+/**
+ * Decodes a batch of frames delivered in fragments of {@code fragmentSize} bytes, compares the length-field framed
+ * {@link Codec.Decoder} with the {@link ReplayingCodecDecoder} it replaced.
+ *
+ * <p>Run with {@code ./gradlew :eventmesh-common:jmh}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CodecDecoderBenchmark {
+
+    private static final int FRAMES = 64;
+
+    @Param({"64", "512", "65536"})
+    private int fragmentSize;
+
+    @Param({"1024"})
+    private int bodySize;
+
+    private ByteBuf[] fragments;
+
+    private EmbeddedChannel frameDecoderChannel;
+
+    private EmbeddedChannel replayingDecoderChannel;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        EmbeddedChannel encoderChannel = new EmbeddedChannel(new Codec.Encoder());
+        byte[] body = new byte[bodySize];
+        Arrays.fill(body, (byte) 'a');
+        ByteBuf frames = Unpooled.buffer();
+        for (int i = 0; i < FRAMES; i++) {
+            Header header = new Header(Command.ASYNC_MESSAGE_TO_SERVER, 0, null, UUID.randomUUID().toString());
+            header.putProperty(Constants.PROTOCOL_TYPE, Codec.CLOUD_EVENTS_PROTOCOL_NAME);
+            header.putProperty(Constants.PROTOCOL_VERSION, "1.0");
+            header.putProperty(Constants.PROTOCOL_DESC, "tcp");
+            encoderChannel.writeOutbound(new Package(header, body));
+            ByteBuf frame = encoderChannel.readOutbound();
+            frames.writeBytes(frame);
+            frame.release();
+        }
+        encoderChannel.finish();
+
+        int count = (frames.readableBytes() + fragmentSize - 1) / fragmentSize;
+        fragments = new ByteBuf[count];
+        for (int i = 0; i < count; i++) {
+            fragments[i] = Unpooled.unreleasableBuffer(frames.readSlice(Math.min(fragmentSize, frames.readableBytes())));
+        }
+
+        frameDecoderChannel = new EmbeddedChannel(new Codec.Decoder());
+        replayingDecoderChannel = new EmbeddedChannel(new ReplayingCodecDecoder());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        frameDecoderChannel.finishAndReleaseAll();
+        replayingDecoderChannel.finishAndReleaseAll();
+    }
+
+    @Benchmark
+    public void frameDecoder(Blackhole blackhole) {
+        decode(frameDecoderChannel, blackhole);
+    }
+
+    @Benchmark
+    public void replayingDecoder(Blackhole blackhole) {
+        decode(replayingDecoderChannel, blackhole);
+    }
+
+    private void decode(EmbeddedChannel channel, Blackhole blackhole) {
+        for (ByteBuf fragment : fragments) {
+            fragment.readerIndex(0);
+            channel.writeInbound(fragment);
+            for (Object pkg = channel.readInbound(); pkg != null; pkg = channel.readInbound()) {
+                blackhole.consume(pkg);
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.common.protocol.tcp.codec;
+
+import org.apache.eventmesh.common.Constants;
+import org.apache.eventmesh.common.protocol.tcp.Header;
+import org.apache.eventmesh.common.protocol.tcp.Package;
+
+import java.util.List;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ReplayingDecoder;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * The {@link ReplayingDecoder} based decoder {@link Codec.Decoder} replaced, kept as the baseline of
+ * {@link CodecDecoderBenchmark}. Message bodies are returned as strings like the original did for message commands.
+ */
+public class ReplayingCodecDecoder extends ReplayingDecoder<Package> {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) throws Exception {
+        final byte[] flagBytes = new byte[9];
+        in.readBytes(flagBytes);
+        final byte[] versionBytes = new byte[4];
+        in.readBytes(versionBytes);
+
+        final int length = in.readInt();
+        final int headerLength = in.readInt();
+        final int bodyLength = length - 8 - headerLength;
+
+        final byte[] headerData = new byte[headerLength];
+        in.readBytes(headerData);
+        Header header = OBJECT_MAPPER.readValue(new String(headerData, Constants.DEFAULT_CHARSET), Header.class);
+
+        final byte[] bodyData = new byte[bodyLength];
+        in.readBytes(bodyData);
+        out.add(new Package(header, new String(bodyData, Constants.DEFAULT_CHARSET)));
+    }
+}
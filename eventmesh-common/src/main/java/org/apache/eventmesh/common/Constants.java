@@ -168,4 +168,9 @@ public class Constants {
      * application/cloudevents+json Content-type
      */
     public static final String CONTENT_TYPE_CLOUDEVENTS_JSON = "application/cloudevents+json";
+
+    /**
+     * application/cloudevents+protobuf Content-type
+     */
+    public static final String CONTENT_TYPE_CLOUDEVENTS_PROTOBUF = "application/cloudevents+protobuf";
 }
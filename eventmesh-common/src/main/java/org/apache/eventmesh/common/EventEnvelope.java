@@ -0,0 +1,369 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.common;
+
+import java.net.URI;
+import java.time.OffsetDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.CloudEventData;
+import io.cloudevents.SpecVersion;
+import io.cloudevents.core.builder.CloudEventBuilder;
+import io.cloudevents.core.v1.CloudEventV1;
+import io.cloudevents.rw.CloudEventContextReader;
+import io.cloudevents.rw.CloudEventContextWriter;
+import io.cloudevents.rw.CloudEventRWException;
+
+/**
+ * CloudEvent as it passes through the runtime: the event received from a connector or a client, plus the extensions
+ * the runtime adds to it on the way, such as timestamps and the route.
+ *
+ * <p>Adding an extension to a CloudEvent through {@link CloudEventBuilder#from} copies every attribute and extension
+ * of the event, the envelope only records the extension instead. Hand {@link #toCloudEvent()} to protocol adaptors and
+ * connectors, which build the event exactly once, and {@link #unwrap} the event to acknowledge it to the connector it
+ * came from.
+ *
+ * <p>An envelope is not thread safe, use {@link #copyOf} before adding extensions to an event that other threads
+ * may read, e.g. one broadcast to several sessions. Copies share the extensions added before the copy.
+ */
+public final class EventEnvelope implements CloudEvent, CloudEventContextReader {
+
+    private final CloudEvent event;
+
+    /**
+     * Added extensions, latest first. The nodes are immutable so copies of the envelope share them.
+     */
+    private Extension extensions;
+
+    private CloudEvent materialized;
+
+    private EventEnvelope(CloudEvent event, Extension extensions) {
+        this.event = Objects.requireNonNull(event, "event can not be null");
+        this.extensions = extensions;
+    }
+
+    /**
+     * @return the event itself if it is an envelope already
+     */
+    public static EventEnvelope wrap(CloudEvent event) {
+        if (event instanceof EventEnvelope) {
+            return (EventEnvelope) event;
+        }
+        return new EventEnvelope(event, null);
+    }
+
+    /**
+     * @return a new envelope of the same event, with the extensions added so far
+     */
+    public static EventEnvelope copyOf(CloudEvent event) {
+        if (event instanceof EventEnvelope) {
+            EventEnvelope envelope = (EventEnvelope) event;
+            return new EventEnvelope(envelope.event, envelope.extensions);
+        }
+        return wrap(event);
+    }
+
+    /**
+     * @return the event with the added extensions, as an immutable CloudEvent
+     */
+    public static CloudEvent materialize(CloudEvent event) {
+        return event instanceof EventEnvelope ? ((EventEnvelope) event).toCloudEvent() : event;
+    }
+
+    /**
+     * @return the event the envelope was created from, without the added extensions
+     */
+    public static CloudEvent unwrap(CloudEvent event) {
+        return event instanceof EventEnvelope ? ((EventEnvelope) event).event : event;
+    }
+
+    public EventEnvelope withExtension(String name, String value) {
+        return addExtension(name, value);
+    }
+
+    public EventEnvelope withExtension(String name, Number value) {
+        return addExtension(name, value);
+    }
+
+    public EventEnvelope withExtension(String name, Boolean value) {
+        return addExtension(name, value);
+    }
+
+    /**
+     * Build the event with the added extensions, the result is kept until the next extension is added.
+     */
+    public CloudEvent toCloudEvent() {
+        if (extensions == null) {
+            return event;
+        }
+        if (materialized == null) {
+            CloudEventBuilder builder = CloudEventBuilder.from(event);
+            applyTo(builder, extensions);
+            materialized = builder.build();
+        }
+        return materialized;
+    }
+
+    @Override
+    public CloudEventData getData() {
+        return event.getData();
+    }
+
+    @Override
+    public SpecVersion getSpecVersion() {
+        return event.getSpecVersion();
+    }
+
+    @Override
+    public String getId() {
+        return event.getId();
+    }
+
+    @Override
+    public String getType() {
+        return event.getType();
+    }
+
+    @Override
+    public URI getSource() {
+        return event.getSource();
+    }
+
+    @Override
+    public String getDataContentType() {
+        return event.getDataContentType();
+    }
+
+    @Override
+    public URI getDataSchema() {
+        return event.getDataSchema();
+    }
+
+    @Override
+    public String getSubject() {
+        return event.getSubject();
+    }
+
+    @Override
+    public OffsetDateTime getTime() {
+        return event.getTime();
+    }
+
+    @Override
+    public Object getAttribute(String attributeName) {
+        return event.getAttribute(attributeName);
+    }
+
+    @Override
+    public Object getExtension(String extensionName) {
+        for (Extension extension = extensions; extension != null; extension = extension.next) {
+            if (extension.name.equals(extensionName)) {
+                return extension.value;
+            }
+        }
+        return event.getExtension(extensionName);
+    }
+
+    @Override
+    public Set<String> getExtensionNames() {
+        if (extensions == null) {
+            return event.getExtensionNames();
+        }
+        Set<String> names = new HashSet<>(event.getExtensionNames());
+        for (Extension extension = extensions; extension != null; extension = extension.next) {
+            names.add(extension.name);
+        }
+        return names;
+    }
+
+    /**
+     * Write the attributes of the event and the latest value of every extension, an added extension replaces the
+     * extension of the event with the same name.
+     */
+    @Override
+    public void readContext(CloudEventContextWriter writer) throws CloudEventRWException {
+        if (extensions == null && event instanceof CloudEventContextReader) {
+            ((CloudEventContextReader) event).readContext(writer);
+            return;
+        }
+        Map<String, Object> added = new LinkedHashMap<>();
+        for (Extension extension = extensions; extension != null; extension = extension.next) {
+            added.putIfAbsent(extension.name, extension.value);
+        }
+        if (event instanceof CloudEventContextReader) {
+            ((CloudEventContextReader) event).readContext(new ShadowedWriter(writer, added.keySet()));
+        } else {
+            for (String name : event.getSpecVersion().getAllAttributes()) {
+                // the spec version is written by the event writer, not as a context attribute
+                if (!CloudEventV1.SPECVERSION.equals(name)) {
+                    writeExtension(writer, name, event.getAttribute(name));
+                }
+            }
+            for (String name : event.getExtensionNames()) {
+                if (!added.containsKey(name)) {
+                    writeExtension(writer, name, event.getExtension(name));
+                }
+            }
+        }
+        for (Map.Entry<String, Object> extension : added.entrySet()) {
+            writeExtension(writer, extension.getKey(), extension.getValue());
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("EventEnvelope{event=").append(event).append(", extensions={");
+        for (Extension extension = extensions; extension != null; extension = extension.next) {
+            sb.append(extension.name).append('=').append(extension.value);
+            if (extension.next != null) {
+                sb.append(", ");
+            }
+        }
+        return sb.append("}}").toString();
+    }
+
+    private EventEnvelope addExtension(String name, Object value) {
+        extensions = new Extension(name, value, extensions);
+        materialized = null;
+        return this;
+    }
+
+    /**
+     * Apply the oldest extension first, so the latest value of a repeated extension wins.
+     */
+    private static void applyTo(CloudEventBuilder builder, Extension extension) {
+        if (extension == null) {
+            return;
+        }
+        applyTo(builder, extension.next);
+        if (extension.value instanceof Number) {
+            builder.withExtension(extension.name, (Number) extension.value);
+        } else if (extension.value instanceof Boolean) {
+            builder.withExtension(extension.name, (Boolean) extension.value);
+        } else {
+            builder.withExtension(extension.name, (String) extension.value);
+        }
+    }
+
+    private static void writeExtension(CloudEventContextWriter writer, String name, Object value) {
+        if (value instanceof Number) {
+            writer.withContextAttribute(name, (Number) value);
+        } else if (value instanceof Boolean) {
+            writer.withContextAttribute(name, (Boolean) value);
+        } else if (value instanceof URI) {
+            writer.withContextAttribute(name, (URI) value);
+        } else if (value instanceof OffsetDateTime) {
+            writer.withContextAttribute(name, (OffsetDateTime) value);
+        } else if (value instanceof byte[]) {
+            writer.withContextAttribute(name, (byte[]) value);
+        } else if (value != null) {
+            writer.withContextAttribute(name, value.toString());
+        }
+    }
+
+    /**
+     * Drops the attributes the envelope writes itself.
+     */
+    private static final class ShadowedWriter implements CloudEventContextWriter {
+
+        private final CloudEventContextWriter writer;
+
+        private final Set<String> shadowed;
+
+        private ShadowedWriter(CloudEventContextWriter writer, Set<String> shadowed) {
+            this.writer = writer;
+            this.shadowed = shadowed;
+        }
+
+        @Override
+        public CloudEventContextWriter withContextAttribute(String name, String value) {
+            if (!shadowed.contains(name)) {
+                writer.withContextAttribute(name, value);
+            }
+            return this;
+        }
+
+        @Override
+        public CloudEventContextWriter withContextAttribute(String name, URI value) {
+            if (!shadowed.contains(name)) {
+                writer.withContextAttribute(name, value);
+            }
+            return this;
+        }
+
+        @Override
+        public CloudEventContextWriter withContextAttribute(String name, OffsetDateTime value) {
+            if (!shadowed.contains(name)) {
+                writer.withContextAttribute(name, value);
+            }
+            return this;
+        }
+
+        @Override
+        public CloudEventContextWriter withContextAttribute(String name, Number value) {
+            if (!shadowed.contains(name)) {
+                writer.withContextAttribute(name, value);
+            }
+            return this;
+        }
+
+        @Override
+        public CloudEventContextWriter withContextAttribute(String name, Integer value) {
+            if (!shadowed.contains(name)) {
+                writer.withContextAttribute(name, value);
+            }
+            return this;
+        }
+
+        @Override
+        public CloudEventContextWriter withContextAttribute(String name, Boolean value) {
+            if (!shadowed.contains(name)) {
+                writer.withContextAttribute(name, value);
+            }
+            return this;
+        }
+
+        @Override
+        public CloudEventContextWriter withContextAttribute(String name, byte[] value) {
+            if (!shadowed.contains(name)) {
+                writer.withContextAttribute(name, value);
+            }
+            return this;
+        }
+    }
+
+    private static final class Extension {
+
+        private final String name;
+
+        private final Object value;
+
+        private final Extension next;
+
+        private Extension(String name, Object value, Extension next) {
+            this.name = name;
+            this.value = value;
+            this.next = next;
+        }
+    }
+}
@@ -24,6 +24,7 @@ import org.apache.commons.collections4.CollectionUtils;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.assertj.core.util.Strings;
 
@@ -85,6 +86,44 @@ public class CommonConfiguration {
     private Integer eventMeshFetchRegistryAddrInterval = 10 * 1000;
 
 
+    @ConfigFiled(field = "server.retry.tickInMills")
+    private Integer eventMeshRetryTickInMills = 10;
+
+    @ConfigFiled(field = "server.retry.wheelSize")
+    private Integer eventMeshRetryWheelSize = 512;
+
+    @ConfigFiled(field = "server.retry.groupMaxPending")
+    private Integer eventMeshRetryGroupMaxPending = 2000;
+
+
+    /**
+     * Permits per second of every producer group on one server, 0 means unlimited
+     */
+    @ConfigFiled(field = "server.rateLimit.groupPermitsPerSecond")
+    private int eventMeshRateLimitGroupPermitsPerSecond = 0;
+
+    /**
+     * Permits per second of every topic on one server, 0 means unlimited
+     */
+    @ConfigFiled(field = "server.rateLimit.topicPermitsPerSecond")
+    private int eventMeshRateLimitTopicPermitsPerSecond = 0;
+
+    /**
+     * Permits per second of single producer groups, from eventMesh.server.rateLimit.group.{group}, overriding the default
+     */
+    @ConfigFiled(field = "server.rateLimit.group")
+    private Map<String, Integer> eventMeshRateLimitGroupPermits;
+
+    /**
+     * Permits per second of single topics, from eventMesh.server.rateLimit.topic.{topic}, overriding the default
+     */
+    @ConfigFiled(field = "server.rateLimit.topic")
+    private Map<String, Integer> eventMeshRateLimitTopicPermits;
+
+    @ConfigFiled(field = "server.rateLimit.reloadIntervalInMills")
+    private int eventMeshRateLimitReloadIntervalInMills = 30 * 1000;
+
+
     @ConfigFiled(field = "server.trace.enabled")
     private boolean eventMeshServerTraceEnable = false;
 
@@ -94,6 +133,19 @@ public class CommonConfiguration {
     @ConfigFiled(field = "server.registry.enabled")
     private boolean eventMeshServerRegistryEnable = false;
 
+    /**
+     * Netty transport of the servers, auto, epoll, kqueue or nio, see {@link org.apache.eventmesh.common.enums.NettyTransport}
+     */
+    @ConfigFiled(field = "server.netty.transport")
+    private String eventMeshServerNettyTransport = "auto";
+
+    /**
+     * Number of acceptor threads of a server, more than one binds the port once per thread with SO_REUSEPORT, which only
+     * the native transports support
+     */
+    @ConfigFiled(field = "server.netty.acceptorNum")
+    private int eventMeshServerNettyAcceptorNum = 1;
+
 
     @ConfigFiled(field = "server.provide.protocols", reload = true)
     private List<String> eventMeshProvideServerProtocols;
@@ -40,7 +40,7 @@ public class ConfigService {
     /**
      * Unified configuration Properties corresponding to eventmesh.properties
      */
-    private Properties properties = new Properties();
+    private volatile Properties properties = new Properties();
 
     @Getter
     private String rootPath;
@@ -73,6 +73,19 @@ public class ConfigService {
         return this.properties;
     }
 
+    /**
+     * Re-read the root configuration file, so that configuration instances built afterwards see the changes made to it
+     * since startup
+     */
+    public void refreshRootConfig() throws IOException {
+        if (Strings.isNullOrEmpty(rootPath)) {
+            return;
+        }
+        ConfigInfo configInfo = new ConfigInfo();
+        configInfo.setPath(rootPath);
+        properties = this.getConfig(configInfo);
+    }
+
     public <T> T buildConfigInstance(Class<?> clazz) {
         Config[] configArray = clazz.getAnnotationsByType(Config.class);
         if (configArray.length == 0) {
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.common.protocol;
+
+import java.io.Serializable;
+
+/**
+ * Batch push settings of a http subscription, the events of the topic are collected per subscriber url and
+ * delivered in one request when any of the limits is reached.
+ */
+public class BatchPushConfig implements Serializable {
+
+    private static final long serialVersionUID = -3062744431935390237L;
+
+    public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
+    public static final int DEFAULT_MAX_BATCH_BYTES = 1024 * 1024;
+
+    public static final long DEFAULT_MAX_LINGER_MILLS = 10;
+
+    /**
+     * max number of events in one request
+     */
+    private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+    /**
+     * max size of the serialized events in one request
+     */
+    private int maxBatchBytes = DEFAULT_MAX_BATCH_BYTES;
+
+    /**
+     * max time the first event of a batch waits for more events
+     */
+    private long maxLingerMills = DEFAULT_MAX_LINGER_MILLS;
+
+    public BatchPushConfig() {
+    }
+
+    public BatchPushConfig(int maxBatchSize, int maxBatchBytes, long maxLingerMills) {
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchBytes = maxBatchBytes;
+        this.maxLingerMills = maxLingerMills;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public int getMaxBatchBytes() {
+        return maxBatchBytes;
+    }
+
+    public void setMaxBatchBytes(int maxBatchBytes) {
+        this.maxBatchBytes = maxBatchBytes;
+    }
+
+    public long getMaxLingerMills() {
+        return maxLingerMills;
+    }
+
+    public void setMaxLingerMills(long maxLingerMills) {
+        this.maxLingerMills = maxLingerMills;
+    }
+
+    /**
+     * @return true if more than one event can be delivered in one request
+     */
+    public boolean isEnabled() {
+        return maxBatchSize > 1;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchPushConfig{"
+                + "maxBatchSize=" + maxBatchSize
+                + ", maxBatchBytes=" + maxBatchBytes
+                + ", maxLingerMills=" + maxLingerMills
+                + '}';
+    }
+}
@@ -34,6 +34,11 @@ public class SubscriptionItem implements Serializable {
     @JsonDeserialize(converter = SubscriptionTypeConverter.class)
     private SubscriptionType type;
 
+    /**
+     * batch push settings for http subscribers, null if every event is pushed in its own request
+     */
+    private BatchPushConfig batchPush;
+
     public SubscriptionItem() {
     }
 
@@ -67,12 +72,21 @@ public class SubscriptionItem implements Serializable {
         this.mode = mode;
     }
 
+    public BatchPushConfig getBatchPush() {
+        return batchPush;
+    }
+
+    public void setBatchPush(BatchPushConfig batchPush) {
+        this.batchPush = batchPush;
+    }
+
     @Override
     public String toString() {
         return "SubscriptionItem{"
                 + "topic=" + topic
                 + ", mode=" + mode
                 + ", type=" + type
+                + ", batchPush=" + batchPush
                 + '}';
     }
 
@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.common.protocol.grpc.common;
+
+import org.apache.eventmesh.common.protocol.grpc.protos.CloudEvent.CloudEventAttributeValue;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.CloudEventData;
+import io.cloudevents.SpecVersion;
+import io.cloudevents.core.builder.CloudEventBuilder;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Timestamp;
+
+/**
+ * Converts between {@link CloudEvent} and the CloudEvents protobuf format message carried by
+ * {@code SimpleMessage.cloudEvent} and {@code BatchMessage.MessageItem.cloudEvent}.
+ */
+public class CloudEventProtoConverter {
+
+    private static final String DATA_CONTENT_TYPE = "datacontenttype";
+    private static final String DATA_SCHEMA = "dataschema";
+    private static final String SUBJECT = "subject";
+    private static final String TIME = "time";
+
+    private CloudEventProtoConverter() {
+    }
+
+    public static org.apache.eventmesh.common.protocol.grpc.protos.CloudEvent toProto(CloudEvent event) {
+        org.apache.eventmesh.common.protocol.grpc.protos.CloudEvent.Builder builder =
+            org.apache.eventmesh.common.protocol.grpc.protos.CloudEvent.newBuilder()
+                .setId(event.getId())
+                .setSource(event.getSource().toString())
+                .setSpecVersion(event.getSpecVersion().toString())
+                .setType(event.getType());
+
+        if (event.getDataContentType() != null) {
+            builder.putAttributes(DATA_CONTENT_TYPE, CloudEventAttributeValue.newBuilder().setCeString(event.getDataContentType()).build());
+        }
+        if (event.getDataSchema() != null) {
+            builder.putAttributes(DATA_SCHEMA, CloudEventAttributeValue.newBuilder().setCeUri(event.getDataSchema().toString()).build());
+        }
+        if (event.getSubject() != null) {
+            builder.putAttributes(SUBJECT, CloudEventAttributeValue.newBuilder().setCeString(event.getSubject()).build());
+        }
+        if (event.getTime() != null) {
+            builder.putAttributes(TIME, CloudEventAttributeValue.newBuilder().setCeTimestamp(toTimestamp(event.getTime())).build());
+        }
+        for (String name : event.getExtensionNames()) {
+            Object value = event.getExtension(name);
+            if (value != null) {
+                builder.putAttributes(name, toAttributeValue(value));
+            }
+        }
+
+        CloudEventData data = event.getData();
+        if (data != null) {
+            byte[] bytes = data.toBytes();
+            if (isTextContent(event.getDataContentType())) {
+                builder.setTextData(new String(bytes, StandardCharsets.UTF_8));
+            } else {
+                builder.setBinaryData(ByteString.copyFrom(bytes));
+            }
+        }
+        return builder.build();
+    }
+
+    public static CloudEvent fromProto(org.apache.eventmesh.common.protocol.grpc.protos.CloudEvent proto) {
+        CloudEventBuilder builder = CloudEventBuilder.fromSpecVersion(SpecVersion.parse(proto.getSpecVersion()))
+            .withId(proto.getId())
+            .withSource(URI.create(proto.getSource()))
+            .withType(proto.getType());
+
+        for (Map.Entry<String, CloudEventAttributeValue> entry : proto.getAttributesMap().entrySet()) {
+            String name = entry.getKey();
+            CloudEventAttributeValue value = entry.getValue();
+            switch (name) {
+                case DATA_CONTENT_TYPE:
+                    builder.withDataContentType(value.getCeString());
+                    break;
+                case DATA_SCHEMA:
+                    builder.withDataSchema(URI.create(value.hasCeUri() ? value.getCeUri() : value.getCeString()));
+                    break;
+                case SUBJECT:
+                    builder.withSubject(value.getCeString());
+                    break;
+                case TIME:
+                    builder.withTime(toOffsetDateTime(value.getCeTimestamp()));
+                    break;
+                default:
+                    withExtension(builder, name, value);
+                    break;
+            }
+        }
+
+        switch (proto.getDataCase()) {
+            case BINARY_DATA:
+                builder.withData(proto.getBinaryData().toByteArray());
+                break;
+            case TEXT_DATA:
+                builder.withData(proto.getTextData().getBytes(StandardCharsets.UTF_8));
+                break;
+            default:
+                break;
+        }
+        return builder.build();
+    }
+
+    private static CloudEventAttributeValue toAttributeValue(Object value) {
+        CloudEventAttributeValue.Builder builder = CloudEventAttributeValue.newBuilder();
+        if (value instanceof Boolean) {
+            builder.setCeBoolean((Boolean) value);
+        } else if (value instanceof Integer) {
+            builder.setCeInteger((Integer) value);
+        } else if (value instanceof byte[]) {
+            builder.setCeBytes(ByteString.copyFrom((byte[]) value));
+        } else if (value instanceof URI) {
+            builder.setCeUri(value.toString());
+        } else if (value instanceof OffsetDateTime) {
+            builder.setCeTimestamp(toTimestamp((OffsetDateTime) value));
+        } else {
+            builder.setCeString(value.toString());
+        }
+        return builder.build();
+    }
+
+    private static void withExtension(CloudEventBuilder builder, String name, CloudEventAttributeValue value) {
+        switch (value.getAttrCase()) {
+            case CE_BOOLEAN:
+                builder.withExtension(name, value.getCeBoolean());
+                break;
+            case CE_INTEGER:
+                builder.withExtension(name, value.getCeInteger());
+                break;
+            case CE_BYTES:
+                builder.withExtension(name, value.getCeBytes().toByteArray());
+                break;
+            case CE_URI:
+                builder.withExtension(name, URI.create(value.getCeUri()));
+                break;
+            case CE_URI_REF:
+                builder.withExtension(name, URI.create(value.getCeUriRef()));
+                break;
+            case CE_TIMESTAMP:
+                builder.withExtension(name, toOffsetDateTime(value.getCeTimestamp()));
+                break;
+            default:
+                builder.withExtension(name, value.getCeString());
+                break;
+        }
+    }
+
+    private static boolean isTextContent(String contentType) {
+        return contentType != null
+            && (contentType.startsWith("text/") || contentType.contains("json") || contentType.contains("xml"));
+    }
+
+    private static Timestamp toTimestamp(OffsetDateTime time) {
+        return Timestamp.newBuilder().setSeconds(time.toEpochSecond()).setNanos(time.getNano()).build();
+    }
+
+    private static OffsetDateTime toOffsetDateTime(Timestamp timestamp) {
+        return OffsetDateTime.ofInstant(Instant.ofEpochSecond(timestamp.getSeconds(), timestamp.getNanos()), ZoneOffset.UTC);
+    }
+}
@@ -233,6 +233,33 @@ public final class BatchMessage extends
 
         String getPropertiesOrThrow(
                 String key);
+
+        /**
+         * <pre>
+         * the event in the CloudEvents protobuf format, used instead of content
+         * </pre>
+         *
+         * <code>.eventmesh.common.protocol.grpc.CloudEvent cloudEvent = 7;</code>
+         */
+        boolean hasCloudEvent();
+
+        /**
+         * <pre>
+         * the event in the CloudEvents protobuf format, used instead of content
+         * </pre>
+         *
+         * <code>.eventmesh.common.protocol.grpc.CloudEvent cloudEvent = 7;</code>
+         */
+        CloudEvent getCloudEvent();
+
+        /**
+         * <pre>
+         * the event in the CloudEvents protobuf format, used instead of content
+         * </pre>
+         *
+         * <code>.eventmesh.common.protocol.grpc.CloudEvent cloudEvent = 7;</code>
+         */
+        CloudEventOrBuilder getCloudEventOrBuilder();
     }
 
     /**
@@ -322,6 +349,19 @@ public final class BatchMessage extends
                                     properties__.getKey(), properties__.getValue());
                             break;
                         }
+                        case 58: {
+                            CloudEvent.Builder subBuilder = null;
+                            if (cloudEvent_ != null) {
+                                subBuilder = cloudEvent_.toBuilder();
+                            }
+                            cloudEvent_ = input.readMessage(CloudEvent.parser(), extensionRegistry);
+                            if (subBuilder != null) {
+                                subBuilder.mergeFrom(cloudEvent_);
+                                cloudEvent_ = subBuilder.buildPartial();
+                            }
+
+                            break;
+                        }
                     }
                 }
             } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -539,6 +579,42 @@ public final class BatchMessage extends
             return map.get(key);
         }
 
+        public static final int CLOUDEVENT_FIELD_NUMBER = 7;
+        private CloudEvent cloudEvent_;
+
+        /**
+         * <pre>
+         * the event in the CloudEvents protobuf format, used instead of content
+         * </pre>
+         *
+         * <code>.eventmesh.common.protocol.grpc.CloudEvent cloudEvent = 7;</code>
+         */
+        public boolean hasCloudEvent() {
+            return cloudEvent_ != null;
+        }
+
+        /**
+         * <pre>
+         * the event in the CloudEvents protobuf format, used instead of content
+         * </pre>
+         *
+         * <code>.eventmesh.common.protocol.grpc.CloudEvent cloudEvent = 7;</code>
+         */
+        public CloudEvent getCloudEvent() {
+            return cloudEvent_ == null ? CloudEvent.getDefaultInstance() : cloudEvent_;
+        }
+
+        /**
+         * <pre>
+         * the event in the CloudEvents protobuf format, used instead of content
+         * </pre>
+         *
+         * <code>.eventmesh.common.protocol.grpc.CloudEvent cloudEvent = 7;</code>
+         */
+        public CloudEventOrBuilder getCloudEventOrBuilder() {
+            return getCloudEvent();
+        }
+
         private byte memoizedIsInitialized = -1;
 
         public final boolean isInitialized() {
@@ -572,6 +648,9 @@ public final class BatchMessage extends
                             internalGetProperties(),
                             PropertiesDefaultEntryHolder.defaultEntry,
                             6);
+            if (cloudEvent_ != null) {
+                output.writeMessage(7, getCloudEvent());
+            }
             unknownFields.writeTo(output);
         }
 
@@ -605,6 +684,10 @@ public final class BatchMessage extends
                 size += com.google.protobuf.CodedOutputStream
                         .computeMessageSize(6, properties__);
             }
+            if (cloudEvent_ != null) {
+                size += com.google.protobuf.CodedOutputStream
+                        .computeMessageSize(7, getCloudEvent());
+            }
             size += unknownFields.getSerializedSize();
             memoizedSize = size;
             return size;
@@ -632,6 +715,7 @@ public final class BatchMessage extends
                     .equals(other.getTag())
                     && internalGetProperties().equals(
                     other.internalGetProperties())
+                    && (hasCloudEvent() ? other.hasCloudEvent() && getCloudEvent().equals(other.getCloudEvent()) : !other.hasCloudEvent())
                     && unknownFields.equals(other.unknownFields);
         }
 
@@ -656,6 +740,10 @@ public final class BatchMessage extends
                 hash = (37 * hash) + PROPERTIES_FIELD_NUMBER;
                 hash = (53 * hash) + internalGetProperties().hashCode();
             }
+            if (hasCloudEvent()) {
+                hash = (37 * hash) + CLOUDEVENT_FIELD_NUMBER;
+                hash = (53 * hash) + getCloudEvent().hashCode();
+            }
             hash = (29 * hash) + unknownFields.hashCode();
             memoizedHashCode = hash;
             return hash;
@@ -832,6 +920,12 @@ public final class BatchMessage extends
                 seqNum_ = "";
                 tag_ = "";
                 internalGetMutableProperties().clear();
+                if (cloudEventBuilder_ == null) {
+                    cloudEvent_ = null;
+                } else {
+                    cloudEvent_ = null;
+                    cloudEventBuilder_ = null;
+                }
                 return this;
             }
 
@@ -863,6 +957,11 @@ public final class BatchMessage extends
                 result.tag_ = tag_;
                 result.properties_ = internalGetProperties();
                 result.properties_.makeImmutable();
+                if (cloudEventBuilder_ == null) {
+                    result.cloudEvent_ = cloudEvent_;
+                } else {
+                    result.cloudEvent_ = cloudEventBuilder_.build();
+                }
                 result.bitField0_ = to_bitField0_;
                 onBuilt();
                 return result;
@@ -933,6 +1032,9 @@ public final class BatchMessage extends
                 }
                 internalGetMutableProperties().mergeFrom(
                         other.internalGetProperties());
+                if (other.hasCloudEvent()) {
+                    mergeCloudEvent(other.getCloudEvent());
+                }
                 this.mergeUnknownFields(other.unknownFields);
                 onChanged();
                 return this;
@@ -1364,6 +1466,165 @@ public final class BatchMessage extends
                 return this;
             }
 
+            private CloudEvent cloudEvent_ = null;
+            private com.google.protobuf.SingleFieldBuilderV3<
+                    CloudEvent, CloudEvent.Builder, CloudEventOrBuilder> cloudEventBuilder_;
+
+            /**
+             * <pre>
+             * the event in the CloudEvents protobuf format, used instead of content
+             * </pre>
+             *
+             * <code>.eventmesh.common.protocol.grpc.CloudEvent cloudEvent = 7;</code>
+             */
+            public boolean hasCloudEvent() {
+                return cloudEventBuilder_ != null || cloudEvent_ != null;
+            }
+
+            /**
+             * <pre>
+             * the event in the CloudEvents protobuf format, used instead of content
+             * </pre>
+             *
+             * <code>.eventmesh.common.protocol.grpc.CloudEvent cloudEvent = 7;</code>
+             */
+            public CloudEvent getCloudEvent() {
+                if (cloudEventBuilder_ == null) {
+                    return cloudEvent_ == null ? CloudEvent.getDefaultInstance() : cloudEvent_;
+                } else {
+                    return cloudEventBuilder_.getMessage();
+                }
+            }
+
+            /**
+             * <pre>
+             * the event in the CloudEvents protobuf format, used instead of content
+             * </pre>
+             *
+             * <code>.eventmesh.common.protocol.grpc.CloudEvent cloudEvent = 7;</code>
+             */
+            public Builder setCloudEvent(CloudEvent value) {
+                if (cloudEventBuilder_ == null) {
+                    Objects.requireNonNull(value, "CloudEvent can not be null");
+                    cloudEvent_ = value;
+                    onChanged();
+                } else {
+                    cloudEventBuilder_.setMessage(value);
+                }
+
+                return this;
+            }
+
+            /**
+             * <pre>
+             * the event in the CloudEvents protobuf format, used instead of content
+             * </pre>
+             *
+             * <code>.eventmesh.common.protocol.grpc.CloudEvent cloudEvent = 7;</code>
+             */
+            public Builder setCloudEvent(
+                    CloudEvent.Builder builderForValue) {
+                if (cloudEventBuilder_ == null) {
+                    cloudEvent_ = builderForValue.build();
+                    onChanged();
+                } else {
+                    cloudEventBuilder_.setMessage(builderForValue.build());
+                }
+
+                return this;
+            }
+
+            /**
+             * <pre>
+             * the event in the CloudEvents protobuf format, used instead of content
+             * </pre>
+             *
+             * <code>.eventmesh.common.protocol.grpc.CloudEvent cloudEvent = 7;</code>
+             */
+            public Builder mergeCloudEvent(CloudEvent value) {
+                if (cloudEventBuilder_ == null) {
+                    if (cloudEvent_ != null) {
+                        cloudEvent_ = CloudEvent.newBuilder(cloudEvent_).mergeFrom(value).buildPartial();
+                    } else {
+                        cloudEvent_ = value;
+                    }
+                    onChanged();
+                } else {
+                    cloudEventBuilder_.mergeFrom(value);
+                }
+
+                return this;
+            }
+
+            /**
+             * <pre>
+             * the event in the CloudEvents protobuf format, used instead of content
+             * </pre>
+             *
+             * <code>.eventmesh.common.protocol.grpc.CloudEvent cloudEvent = 7;</code>
+             */
+            public Builder clearCloudEvent() {
+                if (cloudEventBuilder_ == null) {
+                    cloudEvent_ = null;
+                    onChanged();
+                } else {
+                    cloudEvent_ = null;
+                    cloudEventBuilder_ = null;
+                }
+
+                return this;
+            }
+
+            /**
+             * <pre>
+             * the event in the CloudEvents protobuf format, used instead of content
+             * </pre>
+             *
+             * <code>.eventmesh.common.protocol.grpc.CloudEvent cloudEvent = 7;</code>
+             */
+            public CloudEvent.Builder getCloudEventBuilder() {
+                onChanged();
+                return getCloudEventFieldBuilder().getBuilder();
+            }
+
+            /**
+             * <pre>
+             * the event in the CloudEvents protobuf format, used instead of content
+             * </pre>
+             *
+             * <code>.eventmesh.common.protocol.grpc.CloudEvent cloudEvent = 7;</code>
+             */
+            public CloudEventOrBuilder getCloudEventOrBuilder() {
+                if (cloudEventBuilder_ != null) {
+                    return cloudEventBuilder_.getMessageOrBuilder();
+                } else {
+                    return cloudEvent_ == null ?
+                            CloudEvent.getDefaultInstance() : cloudEvent_;
+                }
+            }
+
+            /**
+             * <pre>
+             * the event in the CloudEvents protobuf format, used instead of content
+             * </pre>
+             *
+             * <code>.eventmesh.common.protocol.grpc.CloudEvent cloudEvent = 7;</code>
+             */
+            private com.google.protobuf.SingleFieldBuilderV3<
+                    CloudEvent, CloudEvent.Builder, CloudEventOrBuilder>
+            getCloudEventFieldBuilder() {
+                if (cloudEventBuilder_ == null) {
+                    cloudEventBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+                            CloudEvent, CloudEvent.Builder, CloudEventOrBuilder>(
+                            getCloudEvent(),
+                            getParentForChildren(),
+                            isClean());
+                    cloudEvent_ = null;
+                }
+                return cloudEventBuilder_;
+            }
+
+
             public final Builder setUnknownFields(
                     final com.google.protobuf.UnknownFieldSet unknownFields) {
                 return super.setUnknownFieldsProto3(unknownFields);
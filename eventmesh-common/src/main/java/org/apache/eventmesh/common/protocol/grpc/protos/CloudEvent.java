@@ -0,0 +1,2945 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: eventmesh-client.proto
+
+package org.apache.eventmesh.common.protocol.grpc.protos;
+
+import java.util.Objects;
+
+/**
+ * <pre>
+ * CloudEvent in the CloudEvents protobuf format, the attributes are typed fields and the data is carried as is
+ * </pre>
+ *
+ * Protobuf type {@code eventmesh.common.protocol.grpc.CloudEvent}
+ */
+@SuppressWarnings({"all"})
+public final class CloudEvent extends
+        com.google.protobuf.GeneratedMessageV3 implements
+        // @@protoc_insertion_point(message_implements:eventmesh.common.protocol.grpc.CloudEvent)
+        CloudEventOrBuilder {
+    private static final long serialVersionUID = 0L;
+
+    // Use CloudEvent.newBuilder() to construct.
+    private CloudEvent(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+        super(builder);
+    }
+
+    private CloudEvent() {
+        id_ = "";
+        source_ = "";
+        specVersion_ = "";
+        type_ = "";
+    }
+
+    @Override
+    public final com.google.protobuf.UnknownFieldSet getUnknownFields() {
+        return this.unknownFields;
+    }
+
+    private CloudEvent(com.google.protobuf.CodedInputStream input,
+                       com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+        this();
+        if (extensionRegistry == null) {
+            throw new NullPointerException();
+        }
+        int mutable_bitField0_ = 0;
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+                com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+            boolean done = false;
+            while (!done) {
+                int tag = input.readTag();
+                switch (tag) {
+                    case 0:
+                        done = true;
+                        break;
+                    default: {
+                        if (!parseUnknownFieldProto3(
+                                input, unknownFields, extensionRegistry, tag)) {
+                            done = true;
+                        }
+                        break;
+                    }
+                    case 10: {
+                        id_ = input.readStringRequireUtf8();
+                        break;
+                    }
+                    case 18: {
+                        source_ = input.readStringRequireUtf8();
+                        break;
+                    }
+                    case 26: {
+                        specVersion_ = input.readStringRequireUtf8();
+                        break;
+                    }
+                    case 34: {
+                        type_ = input.readStringRequireUtf8();
+                        break;
+                    }
+                    case 42: {
+                        if (!((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+                            attributes_ = com.google.protobuf.MapField.newMapField(
+                                    AttributesDefaultEntryHolder.defaultEntry);
+                            mutable_bitField0_ |= 0x00000010;
+                        }
+                        com.google.protobuf.MapEntry<String, CloudEventAttributeValue>
+                                attributes__ = input.readMessage(
+                                AttributesDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+                        attributes_.getMutableMap().put(
+                                attributes__.getKey(), attributes__.getValue());
+                        break;
+                    }
+                    case 50: {
+                        data_ = input.readBytes();
+                        dataCase_ = 6;
+                        break;
+                    }
+                    case 58: {
+                        String s = input.readStringRequireUtf8();
+                        dataCase_ = 7;
+                        data_ = s;
+                        break;
+                    }
+                }
+            }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+            throw new com.google.protobuf.InvalidProtocolBufferException(
+                    e).setUnfinishedMessage(this);
+        } finally {
+            this.unknownFields = unknownFields.build();
+            makeExtensionsImmutable();
+        }
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+    getDescriptor() {
+        return EventmeshGrpc.internal_static_eventmesh_common_protocol_grpc_CloudEvent_descriptor;
+    }
+
+    @SuppressWarnings({"rawtypes"})
+    protected com.google.protobuf.MapField internalGetMapField(int number) {
+        switch (number) {
+            case 5:
+                return internalGetAttributes();
+            default:
+                throw new RuntimeException(
+                        "Invalid map field number: " + number);
+        }
+    }
+
+    protected FieldAccessorTable internalGetFieldAccessorTable() {
+        return EventmeshGrpc.internal_static_eventmesh_common_protocol_grpc_CloudEvent_fieldAccessorTable
+                .ensureFieldAccessorsInitialized(
+                        CloudEvent.class, Builder.class);
+    }
+
+    public interface CloudEventAttributeValueOrBuilder extends
+            // @@protoc_insertion_point(interface_extends:eventmesh.common.protocol.grpc.CloudEvent.CloudEventAttributeValue)
+            com.google.protobuf.MessageOrBuilder {
+
+        /**
+         * <code>bool ce_boolean = 1;</code>
+         */
+        boolean hasCeBoolean();
+
+        /**
+         * <code>bool ce_boolean = 1;</code>
+         */
+        boolean getCeBoolean();
+
+        /**
+         * <code>int32 ce_integer = 2;</code>
+         */
+        boolean hasCeInteger();
+
+        /**
+         * <code>int32 ce_integer = 2;</code>
+         */
+        int getCeInteger();
+
+        /**
+         * <code>string ce_string = 3;</code>
+         */
+        boolean hasCeString();
+
+        /**
+         * <code>string ce_string = 3;</code>
+         */
+        String getCeString();
+
+        /**
+         * <code>string ce_string = 3;</code>
+         */
+        com.google.protobuf.ByteString getCeStringBytes();
+
+        /**
+         * <code>bytes ce_bytes = 4;</code>
+         */
+        boolean hasCeBytes();
+
+        /**
+         * <code>bytes ce_bytes = 4;</code>
+         */
+        com.google.protobuf.ByteString getCeBytes();
+
+        /**
+         * <code>string ce_uri = 5;</code>
+         */
+        boolean hasCeUri();
+
+        /**
+         * <code>string ce_uri = 5;</code>
+         */
+        String getCeUri();
+
+        /**
+         * <code>string ce_uri = 5;</code>
+         */
+        com.google.protobuf.ByteString getCeUriBytes();
+
+        /**
+         * <code>string ce_uri_ref = 6;</code>
+         */
+        boolean hasCeUriRef();
+
+        /**
+         * <code>string ce_uri_ref = 6;</code>
+         */
+        String getCeUriRef();
+
+        /**
+         * <code>string ce_uri_ref = 6;</code>
+         */
+        com.google.protobuf.ByteString getCeUriRefBytes();
+
+        /**
+         * <code>.google.protobuf.Timestamp ce_timestamp = 7;</code>
+         */
+        boolean hasCeTimestamp();
+
+        /**
+         * <code>.google.protobuf.Timestamp ce_timestamp = 7;</code>
+         */
+        com.google.protobuf.Timestamp getCeTimestamp();
+
+        /**
+         * <code>.google.protobuf.Timestamp ce_timestamp = 7;</code>
+         */
+        com.google.protobuf.TimestampOrBuilder getCeTimestampOrBuilder();
+
+        public CloudEventAttributeValue.AttrCase getAttrCase();
+    }
+
+    /**
+     * Protobuf type {@code eventmesh.common.protocol.grpc.CloudEvent.CloudEventAttributeValue}
+     */
+    public static final class CloudEventAttributeValue extends
+            com.google.protobuf.GeneratedMessageV3 implements
+            // @@protoc_insertion_point(message_implements:eventmesh.common.protocol.grpc.CloudEvent.CloudEventAttributeValue)
+            CloudEventAttributeValueOrBuilder {
+        private static final long serialVersionUID = 0L;
+
+        // Use CloudEventAttributeValue.newBuilder() to construct.
+        private CloudEventAttributeValue(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+            super(builder);
+        }
+
+        private CloudEventAttributeValue() {
+        }
+
+        @Override
+        public final com.google.protobuf.UnknownFieldSet getUnknownFields() {
+            return this.unknownFields;
+        }
+
+        private CloudEventAttributeValue(com.google.protobuf.CodedInputStream input,
+                                         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+                throws com.google.protobuf.InvalidProtocolBufferException {
+            this();
+            if (extensionRegistry == null) {
+                throw new NullPointerException();
+            }
+            com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+                    com.google.protobuf.UnknownFieldSet.newBuilder();
+            try {
+                boolean done = false;
+                while (!done) {
+                    int tag = input.readTag();
+                    switch (tag) {
+                        case 0:
+                            done = true;
+                            break;
+                        default: {
+                            if (!parseUnknownFieldProto3(
+                                    input, unknownFields, extensionRegistry, tag)) {
+                                done = true;
+                            }
+                            break;
+                        }
+                        case 8: {
+                            attr_ = input.readBool();
+                            attrCase_ = 1;
+                            break;
+                        }
+                        case 16: {
+                            attr_ = input.readInt32();
+                            attrCase_ = 2;
+                            break;
+                        }
+                        case 26: {
+                            String s = input.readStringRequireUtf8();
+                            attrCase_ = 3;
+                            attr_ = s;
+                            break;
+                        }
+                        case 34: {
+                            attr_ = input.readBytes();
+                            attrCase_ = 4;
+                            break;
+                        }
+                        case 42: {
+                            String s = input.readStringRequireUtf8();
+                            attrCase_ = 5;
+                            attr_ = s;
+                            break;
+                        }
+                        case 50: {
+                            String s = input.readStringRequireUtf8();
+                            attrCase_ = 6;
+                            attr_ = s;
+                            break;
+                        }
+                        case 58: {
+                            com.google.protobuf.Timestamp.Builder subBuilder = null;
+                            if (attrCase_ == 7) {
+                                subBuilder = ((com.google.protobuf.Timestamp) attr_).toBuilder();
+                            }
+                            attr_ = input.readMessage(com.google.protobuf.Timestamp.parser(), extensionRegistry);
+                            if (subBuilder != null) {
+                                subBuilder.mergeFrom((com.google.protobuf.Timestamp) attr_);
+                                attr_ = subBuilder.buildPartial();
+                            }
+                            attrCase_ = 7;
+                            break;
+                        }
+                    }
+                }
+            } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+                throw e.setUnfinishedMessage(this);
+            } catch (java.io.IOException e) {
+                throw new com.google.protobuf.InvalidProtocolBufferException(
+                        e).setUnfinishedMessage(this);
+            } finally {
+                this.unknownFields = unknownFields.build();
+                makeExtensionsImmutable();
+            }
+        }
+
+        public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+            return EventmeshGrpc.internal_static_eventmesh_common_protocol_grpc_CloudEvent_CloudEventAttributeValue_descriptor;
+        }
+
+        protected FieldAccessorTable internalGetFieldAccessorTable() {
+            return EventmeshGrpc.internal_static_eventmesh_common_protocol_grpc_CloudEvent_CloudEventAttributeValue_fieldAccessorTable
+                    .ensureFieldAccessorsInitialized(
+                            CloudEventAttributeValue.class, Builder.class);
+        }
+
+        private int attrCase_ = 0;
+        private Object attr_;
+
+        public enum AttrCase
+                implements com.google.protobuf.Internal.EnumLite {
+            CE_BOOLEAN(1),
+            CE_INTEGER(2),
+            CE_STRING(3),
+            CE_BYTES(4),
+            CE_URI(5),
+            CE_URI_REF(6),
+            CE_TIMESTAMP(7),
+            ATTR_NOT_SET(0);
+            private final int value;
+
+            private AttrCase(int value) {
+                this.value = value;
+            }
+
+            /**
+             * @deprecated Use {@link #forNumber(int)} instead.
+             */
+            @Deprecated
+            public static AttrCase valueOf(int value) {
+                return forNumber(value);
+            }
+
+            public static AttrCase forNumber(int value) {
+                switch (value) {
+                    case 1:
+                        return CE_BOOLEAN;
+                    case 2:
+                        return CE_INTEGER;
+                    case 3:
+                        return CE_STRING;
+                    case 4:
+                        return CE_BYTES;
+                    case 5:
+                        return CE_URI;
+                    case 6:
+                        return CE_URI_REF;
+                    case 7:
+                        return CE_TIMESTAMP;
+                    case 0:
+                        return ATTR_NOT_SET;
+                    default:
+                        return null;
+                }
+            }
+
+            public int getNumber() {
+                return this.value;
+            }
+        }
+
+        public AttrCase getAttrCase() {
+            return AttrCase.forNumber(attrCase_);
+        }
+
+        public static final int CE_BOOLEAN_FIELD_NUMBER = 1;
+
+        /**
+         * <code>bool ce_boolean = 1;</code>
+         */
+        public boolean hasCeBoolean() {
+            return attrCase_ == 1;
+        }
+
+        /**
+         * <code>bool ce_boolean = 1;</code>
+         */
+        public boolean getCeBoolean() {
+            if (attrCase_ == 1) {
+                return (Boolean) attr_;
+            }
+            return false;
+        }
+
+        public static final int CE_INTEGER_FIELD_NUMBER = 2;
+
+        /**
+         * <code>int32 ce_integer = 2;</code>
+         */
+        public boolean hasCeInteger() {
+            return attrCase_ == 2;
+        }
+
+        /**
+         * <code>int32 ce_integer = 2;</code>
+         */
+        public int getCeInteger() {
+            if (attrCase_ == 2) {
+                return (Integer) attr_;
+            }
+            return 0;
+        }
+
+        public static final int CE_STRING_FIELD_NUMBER = 3;
+
+        /**
+         * <code>string ce_string = 3;</code>
+         */
+        public boolean hasCeString() {
+            return attrCase_ == 3;
+        }
+
+        /**
+         * <code>string ce_string = 3;</code>
+         */
+        public String getCeString() {
+            return getStringAttr(3);
+        }
+
+        /**
+         * <code>string ce_string = 3;</code>
+         */
+        public com.google.protobuf.ByteString getCeStringBytes() {
+            return getStringAttrBytes(3);
+        }
+
+        public static final int CE_BYTES_FIELD_NUMBER = 4;
+
+        /**
+         * <code>bytes ce_bytes = 4;</code>
+         */
+        public boolean hasCeBytes() {
+            return attrCase_ == 4;
+        }
+
+        /**
+         * <code>bytes ce_bytes = 4;</code>
+         */
+        public com.google.protobuf.ByteString getCeBytes() {
+            if (attrCase_ == 4) {
+                return (com.google.protobuf.ByteString) attr_;
+            }
+            return com.google.protobuf.ByteString.EMPTY;
+        }
+
+        public static final int CE_URI_FIELD_NUMBER = 5;
+
+        /**
+         * <code>string ce_uri = 5;</code>
+         */
+        public boolean hasCeUri() {
+            return attrCase_ == 5;
+        }
+
+        /**
+         * <code>string ce_uri = 5;</code>
+         */
+        public String getCeUri() {
+            return getStringAttr(5);
+        }
+
+        /**
+         * <code>string ce_uri = 5;</code>
+         */
+        public com.google.protobuf.ByteString getCeUriBytes() {
+            return getStringAttrBytes(5);
+        }
+
+        public static final int CE_URI_REF_FIELD_NUMBER = 6;
+
+        /**
+         * <code>string ce_uri_ref = 6;</code>
+         */
+        public boolean hasCeUriRef() {
+            return attrCase_ == 6;
+        }
+
+        /**
+         * <code>string ce_uri_ref = 6;</code>
+         */
+        public String getCeUriRef() {
+            return getStringAttr(6);
+        }
+
+        /**
+         * <code>string ce_uri_ref = 6;</code>
+         */
+        public com.google.protobuf.ByteString getCeUriRefBytes() {
+            return getStringAttrBytes(6);
+        }
+
+        private String getStringAttr(int number) {
+            Object ref = "";
+            if (attrCase_ == number) {
+                ref = attr_;
+            }
+            if (ref instanceof String) {
+                return (String) ref;
+            } else {
+                com.google.protobuf.ByteString bs =
+                        (com.google.protobuf.ByteString) ref;
+                String s = bs.toStringUtf8();
+                if (attrCase_ == number) {
+                    attr_ = s;
+                }
+                return s;
+            }
+        }
+
+        private com.google.protobuf.ByteString getStringAttrBytes(int number) {
+            Object ref = "";
+            if (attrCase_ == number) {
+                ref = attr_;
+            }
+            if (ref instanceof String) {
+                com.google.protobuf.ByteString b =
+                        com.google.protobuf.ByteString.copyFromUtf8(
+                                (String) ref);
+                if (attrCase_ == number) {
+                    attr_ = b;
+                }
+                return b;
+            } else {
+                return (com.google.protobuf.ByteString) ref;
+            }
+        }
+
+        public static final int CE_TIMESTAMP_FIELD_NUMBER = 7;
+
+        /**
+         * <code>.google.protobuf.Timestamp ce_timestamp = 7;</code>
+         */
+        public boolean hasCeTimestamp() {
+            return attrCase_ == 7;
+        }
+
+        /**
+         * <code>.google.protobuf.Timestamp ce_timestamp = 7;</code>
+         */
+        public com.google.protobuf.Timestamp getCeTimestamp() {
+            if (attrCase_ == 7) {
+                return (com.google.protobuf.Timestamp) attr_;
+            }
+            return com.google.protobuf.Timestamp.getDefaultInstance();
+        }
+
+        /**
+         * <code>.google.protobuf.Timestamp ce_timestamp = 7;</code>
+         */
+        public com.google.protobuf.TimestampOrBuilder getCeTimestampOrBuilder() {
+            return getCeTimestamp();
+        }
+
+        private byte memoizedIsInitialized = -1;
+
+        public final boolean isInitialized() {
+            if (memoizedIsInitialized == 1) return true;
+            if (memoizedIsInitialized == 0) return false;
+
+            memoizedIsInitialized = 1;
+            return true;
+        }
+
+        public void writeTo(com.google.protobuf.CodedOutputStream output)
+                throws java.io.IOException {
+            switch (attrCase_) {
+                case 1:
+                    output.writeBool(1, (Boolean) attr_);
+                    break;
+                case 2:
+                    output.writeInt32(2, (Integer) attr_);
+                    break;
+                case 3:
+                case 5:
+                case 6:
+                    com.google.protobuf.GeneratedMessageV3.writeString(output, attrCase_, attr_);
+                    break;
+                case 4:
+                    output.writeBytes(4, (com.google.protobuf.ByteString) attr_);
+                    break;
+                case 7:
+                    output.writeMessage(7, (com.google.protobuf.Timestamp) attr_);
+                    break;
+                default:
+                    break;
+            }
+            unknownFields.writeTo(output);
+        }
+
+        public int getSerializedSize() {
+            int size = memoizedSize;
+            if (size != -1) return size;
+
+            size = 0;
+            switch (attrCase_) {
+                case 1:
+                    size += com.google.protobuf.CodedOutputStream
+                            .computeBoolSize(1, (Boolean) attr_);
+                    break;
+                case 2:
+                    size += com.google.protobuf.CodedOutputStream
+                            .computeInt32Size(2, (Integer) attr_);
+                    break;
+                case 3:
+                case 5:
+                case 6:
+                    size += com.google.protobuf.GeneratedMessageV3.computeStringSize(attrCase_, attr_);
+                    break;
+                case 4:
+                    size += com.google.protobuf.CodedOutputStream
+                            .computeBytesSize(4, (com.google.protobuf.ByteString) attr_);
+                    break;
+                case 7:
+                    size += com.google.protobuf.CodedOutputStream
+                            .computeMessageSize(7, (com.google.protobuf.Timestamp) attr_);
+                    break;
+                default:
+                    break;
+            }
+            size += unknownFields.getSerializedSize();
+            memoizedSize = size;
+            return size;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof CloudEventAttributeValue)) {
+                return super.equals(obj);
+            }
+            CloudEventAttributeValue other = (CloudEventAttributeValue) obj;
+
+            if (!getAttrCase().equals(other.getAttrCase())) {
+                return false;
+            }
+            boolean result;
+            switch (attrCase_) {
+                case 1:
+                    result = getCeBoolean() == other.getCeBoolean();
+                    break;
+                case 2:
+                    result = getCeInteger() == other.getCeInteger();
+                    break;
+                case 3:
+                    result = getCeString().equals(other.getCeString());
+                    break;
+                case 4:
+                    result = getCeBytes().equals(other.getCeBytes());
+                    break;
+                case 5:
+                    result = getCeUri().equals(other.getCeUri());
+                    break;
+                case 6:
+                    result = getCeUriRef().equals(other.getCeUriRef());
+                    break;
+                case 7:
+                    result = getCeTimestamp().equals(other.getCeTimestamp());
+                    break;
+                default:
+                    result = true;
+            }
+            return result && unknownFields.equals(other.unknownFields);
+        }
+
+        @Override
+        public int hashCode() {
+            if (memoizedHashCode != 0) {
+                return memoizedHashCode;
+            }
+            int hash = 41;
+            hash = (19 * hash) + getDescriptor().hashCode();
+            switch (attrCase_) {
+                case 1:
+                    hash = (37 * hash) + CE_BOOLEAN_FIELD_NUMBER;
+                    hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(getCeBoolean());
+                    break;
+                case 2:
+                    hash = (37 * hash) + CE_INTEGER_FIELD_NUMBER;
+                    hash = (53 * hash) + getCeInteger();
+                    break;
+                case 3:
+                    hash = (37 * hash) + CE_STRING_FIELD_NUMBER;
+                    hash = (53 * hash) + getCeString().hashCode();
+                    break;
+                case 4:
+                    hash = (37 * hash) + CE_BYTES_FIELD_NUMBER;
+                    hash = (53 * hash) + getCeBytes().hashCode();
+                    break;
+                case 5:
+                    hash = (37 * hash) + CE_URI_FIELD_NUMBER;
+                    hash = (53 * hash) + getCeUri().hashCode();
+                    break;
+                case 6:
+                    hash = (37 * hash) + CE_URI_REF_FIELD_NUMBER;
+                    hash = (53 * hash) + getCeUriRef().hashCode();
+                    break;
+                case 7:
+                    hash = (37 * hash) + CE_TIMESTAMP_FIELD_NUMBER;
+                    hash = (53 * hash) + getCeTimestamp().hashCode();
+                    break;
+                default:
+                    break;
+            }
+            hash = (29 * hash) + unknownFields.hashCode();
+            memoizedHashCode = hash;
+            return hash;
+        }
+
+        public static CloudEventAttributeValue parseFrom(
+                java.nio.ByteBuffer data)
+                throws com.google.protobuf.InvalidProtocolBufferException {
+            return PARSER.parseFrom(data);
+        }
+
+        public static CloudEventAttributeValue parseFrom(
+                java.nio.ByteBuffer data,
+                com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+                throws com.google.protobuf.InvalidProtocolBufferException {
+            return PARSER.parseFrom(data, extensionRegistry);
+        }
+
+        public static CloudEventAttributeValue parseFrom(
+                com.google.protobuf.ByteString data)
+                throws com.google.protobuf.InvalidProtocolBufferException {
+            return PARSER.parseFrom(data);
+        }
+
+        public static CloudEventAttributeValue parseFrom(
+                com.google.protobuf.ByteString data,
+                com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+                throws com.google.protobuf.InvalidProtocolBufferException {
+            return PARSER.parseFrom(data, extensionRegistry);
+        }
+
+        public static CloudEventAttributeValue parseFrom(byte[] data)
+                throws com.google.protobuf.InvalidProtocolBufferException {
+            return PARSER.parseFrom(data);
+        }
+
+        public static CloudEventAttributeValue parseFrom(
+                byte[] data,
+                com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+                throws com.google.protobuf.InvalidProtocolBufferException {
+            return PARSER.parseFrom(data, extensionRegistry);
+        }
+
+        public static CloudEventAttributeValue parseFrom(java.io.InputStream input)
+                throws java.io.IOException {
+            return com.google.protobuf.GeneratedMessageV3
+                    .parseWithIOException(PARSER, input);
+        }
+
+        public static CloudEventAttributeValue parseFrom(
+                java.io.InputStream input,
+                com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+                throws java.io.IOException {
+            return com.google.protobuf.GeneratedMessageV3
+                    .parseWithIOException(PARSER, input, extensionRegistry);
+        }
+
+        public static CloudEventAttributeValue parseDelimitedFrom(java.io.InputStream input)
+                throws java.io.IOException {
+            return com.google.protobuf.GeneratedMessageV3
+                    .parseDelimitedWithIOException(PARSER, input);
+        }
+
+        public static CloudEventAttributeValue parseDelimitedFrom(
+                java.io.InputStream input,
+                com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+                throws java.io.IOException {
+            return com.google.protobuf.GeneratedMessageV3
+                    .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+        }
+
+        public static CloudEventAttributeValue parseFrom(
+                com.google.protobuf.CodedInputStream input)
+                throws java.io.IOException {
+            return com.google.protobuf.GeneratedMessageV3
+                    .parseWithIOException(PARSER, input);
+        }
+
+        public static CloudEventAttributeValue parseFrom(
+                com.google.protobuf.CodedInputStream input,
+                com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+                throws java.io.IOException {
+            return com.google.protobuf.GeneratedMessageV3
+                    .parseWithIOException(PARSER, input, extensionRegistry);
+        }
+
+        public Builder newBuilderForType() {
+            return newBuilder();
+        }
+
+        public static Builder newBuilder() {
+            return DEFAULT_INSTANCE.toBuilder();
+        }
+
+        public static Builder newBuilder(CloudEventAttributeValue prototype) {
+            return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+        }
+
+        public Builder toBuilder() {
+            return this == DEFAULT_INSTANCE
+                    ? new Builder() : new Builder().mergeFrom(this);
+        }
+
+        @Override
+        protected Builder newBuilderForType(
+                BuilderParent parent) {
+            return new Builder(parent);
+        }
+
+        /**
+         * Protobuf type {@code eventmesh.common.protocol.grpc.CloudEvent.CloudEventAttributeValue}
+         */
+        public static final class Builder extends
+                com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+                // @@protoc_insertion_point(builder_implements:eventmesh.common.protocol.grpc.CloudEvent.CloudEventAttributeValue)
+                CloudEventAttributeValueOrBuilder {
+            public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+                return EventmeshGrpc.internal_static_eventmesh_common_protocol_grpc_CloudEvent_CloudEventAttributeValue_descriptor;
+            }
+
+            protected FieldAccessorTable
+            internalGetFieldAccessorTable() {
+                return EventmeshGrpc.internal_static_eventmesh_common_protocol_grpc_CloudEvent_CloudEventAttributeValue_fieldAccessorTable
+                        .ensureFieldAccessorsInitialized(
+                                CloudEventAttributeValue.class, Builder.class);
+            }
+
+            // Construct using org.apache.eventmesh.common.protocol.grpc.protos.CloudEvent.CloudEventAttributeValue.newBuilder()
+            private Builder() {
+                maybeForceBuilderInitialization();
+            }
+
+            private Builder(
+                    BuilderParent parent) {
+                super(parent);
+                maybeForceBuilderInitialization();
+            }
+
+            private void maybeForceBuilderInitialization() {
+                if (com.google.protobuf.GeneratedMessageV3
+                        .alwaysUseFieldBuilders) {
+                }
+            }
+
+            public Builder clear() {
+                super.clear();
+                if (ceTimestampBuilder_ != null) {
+                    ceTimestampBuilder_.clear();
+                }
+                attrCase_ = 0;
+                attr_ = null;
+                return this;
+            }
+
+            public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+                return EventmeshGrpc.internal_static_eventmesh_common_protocol_grpc_CloudEvent_CloudEventAttributeValue_descriptor;
+            }
+
+            public CloudEventAttributeValue getDefaultInstanceForType() {
+                return CloudEventAttributeValue.getDefaultInstance();
+            }
+
+            public CloudEventAttributeValue build() {
+                CloudEventAttributeValue result = buildPartial();
+                if (!result.isInitialized()) {
+                    throw newUninitializedMessageException(result);
+                }
+                return result;
+            }
+
+            public CloudEventAttributeValue buildPartial() {
+                CloudEventAttributeValue result = new CloudEventAttributeValue(this);
+                if (attrCase_ == 7 && ceTimestampBuilder_ != null) {
+                    result.attr_ = ceTimestampBuilder_.build();
+                } else {
+                    result.attr_ = attr_;
+                }
+                result.attrCase_ = attrCase_;
+                onBuilt();
+                return result;
+            }
+
+            public Builder clone() {
+                return (Builder) super.clone();
+            }
+
+            public Builder setField(
+                    com.google.protobuf.Descriptors.FieldDescriptor field,
+                    Object value) {
+                return (Builder) super.setField(field, value);
+            }
+
+            public Builder clearField(
+                    com.google.protobuf.Descriptors.FieldDescriptor field) {
+                return (Builder) super.clearField(field);
+            }
+
+            public Builder clearOneof(
+                    com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+                return (Builder) super.clearOneof(oneof);
+            }
+
+            public Builder setRepeatedField(
+                    com.google.protobuf.Descriptors.FieldDescriptor field,
+                    int index, Object value) {
+                return (Builder) super.setRepeatedField(field, index, value);
+            }
+
+            public Builder addRepeatedField(
+                    com.google.protobuf.Descriptors.FieldDescriptor field,
+                    Object value) {
+                return (Builder) super.addRepeatedField(field, value);
+            }
+
+            public Builder mergeFrom(com.google.protobuf.Message other) {
+                if (other instanceof CloudEventAttributeValue) {
+                    return mergeFrom((CloudEventAttributeValue) other);
+                } else {
+                    super.mergeFrom(other);
+                    return this;
+                }
+            }
+
+            public Builder mergeFrom(CloudEventAttributeValue other) {
+                if (other == CloudEventAttributeValue.getDefaultInstance()) return this;
+                switch (other.getAttrCase()) {
+                    case CE_BOOLEAN: {
+                        setCeBoolean(other.getCeBoolean());
+                        break;
+                    }
+                    case CE_INTEGER: {
+                        setCeInteger(other.getCeInteger());
+                        break;
+                    }
+                    case CE_STRING:
+                    case CE_URI:
+                    case CE_URI_REF: {
+                        attrCase_ = other.attrCase_;
+                        attr_ = other.attr_;
+                        onChanged();
+                        break;
+                    }
+                    case CE_BYTES: {
+                        setCeBytes(other.getCeBytes());
+                        break;
+                    }
+                    case CE_TIMESTAMP: {
+                        mergeCeTimestamp(other.getCeTimestamp());
+                        break;
+                    }
+                    case ATTR_NOT_SET: {
+                        break;
+                    }
+                }
+                this.mergeUnknownFields(other.unknownFields);
+                onChanged();
+                return this;
+            }
+
+            public final boolean isInitialized() {
+                return true;
+            }
+
+            public Builder mergeFrom(
+                    com.google.protobuf.CodedInputStream input,
+                    com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+                    throws java.io.IOException {
+                CloudEventAttributeValue parsedMessage = null;
+                try {
+                    parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+                } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+                    parsedMessage = (CloudEventAttributeValue) e.getUnfinishedMessage();
+                    throw e.unwrapIOException();
+                } finally {
+                    if (parsedMessage != null) {
+                        mergeFrom(parsedMessage);
+                    }
+                }
+                return this;
+            }
+
+            private int attrCase_ = 0;
+            private Object attr_;
+
+            public AttrCase getAttrCase() {
+                return AttrCase.forNumber(attrCase_);
+            }
+
+            public Builder clearAttr() {
+                attrCase_ = 0;
+                attr_ = null;
+                onChanged();
+                return this;
+            }
+
+            /**
+             * <code>bool ce_boolean = 1;</code>
+             */
+            public boolean hasCeBoolean() {
+                return attrCase_ == 1;
+            }
+
+            /**
+             * <code>bool ce_boolean = 1;</code>
+             */
+            public boolean getCeBoolean() {
+                if (attrCase_ == 1) {
+                    return (Boolean) attr_;
+                }
+                return false;
+            }
+
+            /**
+             * <code>bool ce_boolean = 1;</code>
+             */
+            public Builder setCeBoolean(boolean value) {
+                attrCase_ = 1;
+                attr_ = value;
+                onChanged();
+                return this;
+            }
+
+            /**
+             * <code>bool ce_boolean = 1;</code>
+             */
+            public Builder clearCeBoolean() {
+                return clearAttr(1);
+            }
+
+            /**
+             * <code>int32 ce_integer = 2;</code>
+             */
+            public boolean hasCeInteger() {
+                return attrCase_ == 2;
+            }
+
+            /**
+             * <code>int32 ce_integer = 2;</code>
+             */
+            public int getCeInteger() {
+                if (attrCase_ == 2) {
+                    return (Integer) attr_;
+                }
+                return 0;
+            }
+
+            /**
+             * <code>int32 ce_integer = 2;</code>
+             */
+            public Builder setCeInteger(int value) {
+                attrCase_ = 2;
+                attr_ = value;
+                onChanged();
+                return this;
+            }
+
+            /**
+             * <code>int32 ce_integer = 2;</code>
+             */
+            public Builder clearCeInteger() {
+                return clearAttr(2);
+            }
+
+            /**
+             * <code>string ce_string = 3;</code>
+             */
+            public boolean hasCeString() {
+                return attrCase_ == 3;
+            }
+
+            /**
+             * <code>string ce_string = 3;</code>
+             */
+            public String getCeString() {
+                return getStringAttr(3);
+            }
+
+            /**
+             * <code>string ce_string = 3;</code>
+             */
+            public com.google.protobuf.ByteString getCeStringBytes() {
+                return getStringAttrBytes(3);
+            }
+
+            /**
+             * <code>string ce_string = 3;</code>
+             */
+            public Builder setCeString(String value) {
+                Objects.requireNonNull(value, "CeString can not be null");
+                return setStringAttr(3, value);
+            }
+
+            /**
+             * <code>string ce_string = 3;</code>
+             */
+            public Builder clearCeString() {
+                return clearAttr(3);
+            }
+
+            /**
+             * <code>string ce_string = 3;</code>
+             */
+            public Builder setCeStringBytes(com.google.protobuf.ByteString value) {
+                Objects.requireNonNull(value, "CeStringBytes can not be null");
+                checkByteStringIsUtf8(value);
+                return setStringAttr(3, value);
+            }
+
+            /**
+             * <code>bytes ce_bytes = 4;</code>
+             */
+            public boolean hasCeBytes() {
+                return attrCase_ == 4;
+            }
+
+            /**
+             * <code>bytes ce_bytes = 4;</code>
+             */
+            public com.google.protobuf.ByteString getCeBytes() {
+                if (attrCase_ == 4) {
+                    return (com.google.protobuf.ByteString) attr_;
+                }
+                return com.google.protobuf.ByteString.EMPTY;
+            }
+
+            /**
+             * <code>bytes ce_bytes = 4;</code>
+             */
+            public Builder setCeBytes(com.google.protobuf.ByteString value) {
+                Objects.requireNonNull(value, "CeBytes can not be null");
+                attrCase_ = 4;
+                attr_ = value;
+                onChanged();
+                return this;
+            }
+
+            /**
+             * <code>bytes ce_bytes = 4;</code>
+             */
+            public Builder clearCeBytes() {
+                return clearAttr(4);
+            }
+
+            /**
+             * <code>string ce_uri = 5;</code>
+             */
+            public boolean hasCeUri() {
+                return attrCase_ == 5;
+            }
+
+            /**
+             * <code>string ce_uri = 5;</code>
+             */
+            public String getCeUri() {
+                return getStringAttr(5);
+            }
+
+            /**
+             * <code>string ce_uri = 5;</code>
+             */
+            public com.google.protobuf.ByteString getCeUriBytes() {
+                return getStringAttrBytes(5);
+            }
+
+            /**
+             * <code>string ce_uri = 5;</code>
+             */
+            public Builder setCeUri(String value) {
+                Objects.requireNonNull(value, "CeUri can not be null");
+                return setStringAttr(5, value);
+            }
+
+            /**
+             * <code>string ce_uri = 5;</code>
+             */
+            public Builder clearCeUri() {
+                return clearAttr(5);
+            }
+
+            /**
+             * <code>string ce_uri = 5;</code>
+             */
+            public Builder setCeUriBytes(com.google.protobuf.ByteString value) {
+                Objects.requireNonNull(value, "CeUriBytes can not be null");
+                checkByteStringIsUtf8(value);
+                return setStringAttr(5, value);
+            }
+
+            /**
+             * <code>string ce_uri_ref = 6;</code>
+             */
+            public boolean hasCeUriRef() {
+                return attrCase_ == 6;
+            }
+
+            /**
+             * <code>string ce_uri_ref = 6;</code>
+             */
+            public String getCeUriRef() {
+                return getStringAttr(6);
+            }
+
+            /**
+             * <code>string ce_uri_ref = 6;</code>
+             */
+            public com.google.protobuf.ByteString getCeUriRefBytes() {
+                return getStringAttrBytes(6);
+            }
+
+            /**
+             * <code>string ce_uri_ref = 6;</code>
+             */
+            public Builder setCeUriRef(String value) {
+                Objects.requireNonNull(value, "CeUriRef can not be null");
+                return setStringAttr(6, value);
+            }
+
+            /**
+             * <code>string ce_uri_ref = 6;</code>
+             */
+            public Builder clearCeUriRef() {
+                return clearAttr(6);
+            }
+
+            /**
+             * <code>string ce_uri_ref = 6;</code>
+             */
+            public Builder setCeUriRefBytes(com.google.protobuf.ByteString value) {
+                Objects.requireNonNull(value, "CeUriRefBytes can not be null");
+                checkByteStringIsUtf8(value);
+                return setStringAttr(6, value);
+            }
+
+            private String getStringAttr(int number) {
+                Object ref = "";
+                if (attrCase_ == number) {
+                    ref = attr_;
+                }
+                if (!(ref instanceof String)) {
+                    com.google.protobuf.ByteString bs =
+                            (com.google.protobuf.ByteString) ref;
+                    String s = bs.toStringUtf8();
+                    if (attrCase_ == number) {
+                        attr_ = s;
+                    }
+                    return s;
+                } else {
+                    return (String) ref;
+                }
+            }
+
+            private com.google.protobuf.ByteString getStringAttrBytes(int number) {
+                Object ref = "";
+                if (attrCase_ == number) {
+                    ref = attr_;
+                }
+                if (ref instanceof String) {
+                    com.google.protobuf.ByteString b =
+                            com.google.protobuf.ByteString.copyFromUtf8(
+                                    (String) ref);
+                    if (attrCase_ == number) {
+                        attr_ = b;
+                    }
+                    return b;
+                } else {
+                    return (com.google.protobuf.ByteString) ref;
+                }
+            }
+
+            private Builder setStringAttr(int number, Object value) {
+                attrCase_ = number;
+                attr_ = value;
+                onChanged();
+                return this;
+            }
+
+            private Builder clearAttr(int number) {
+                if (attrCase_ == number) {
+                    attrCase_ = 0;
+                    attr_ = null;
+                    onChanged();
+                }
+                return this;
+            }
+
+            private com.google.protobuf.SingleFieldBuilderV3<
+                    com.google.protobuf.Timestamp, com.google.protobuf.Timestamp.Builder,
+                    com.google.protobuf.TimestampOrBuilder> ceTimestampBuilder_;
+
+            /**
+             * <code>.google.protobuf.Timestamp ce_timestamp = 7;</code>
+             */
+            public boolean hasCeTimestamp() {
+                return attrCase_ == 7;
+            }
+
+            /**
+             * <code>.google.protobuf.Timestamp ce_timestamp = 7;</code>
+             */
+            public com.google.protobuf.Timestamp getCeTimestamp() {
+                if (attrCase_ != 7) {
+                    return com.google.protobuf.Timestamp.getDefaultInstance();
+                }
+                if (ceTimestampBuilder_ == null) {
+                    return (com.google.protobuf.Timestamp) attr_;
+                } else {
+                    return ceTimestampBuilder_.getMessage();
+                }
+            }
+
+            /**
+             * <code>.google.protobuf.Timestamp ce_timestamp = 7;</code>
+             */
+            public Builder setCeTimestamp(com.google.protobuf.Timestamp value) {
+                if (ceTimestampBuilder_ == null) {
+                    Objects.requireNonNull(value, "CeTimestamp can not be null");
+                    attr_ = value;
+                    onChanged();
+                } else {
+                    ceTimestampBuilder_.setMessage(value);
+                }
+                attrCase_ = 7;
+                return this;
+            }
+
+            /**
+             * <code>.google.protobuf.Timestamp ce_timestamp = 7;</code>
+             */
+            public Builder setCeTimestamp(
+                    com.google.protobuf.Timestamp.Builder builderForValue) {
+                if (ceTimestampBuilder_ == null) {
+                    attr_ = builderForValue.build();
+                    onChanged();
+                } else {
+                    ceTimestampBuilder_.setMessage(builderForValue.build());
+                }
+                attrCase_ = 7;
+                return this;
+            }
+
+            /**
+             * <code>.google.protobuf.Timestamp ce_timestamp = 7;</code>
+             */
+            public Builder mergeCeTimestamp(com.google.protobuf.Timestamp value) {
+                if (ceTimestampBuilder_ == null) {
+                    if (attrCase_ == 7 && attr_ != com.google.protobuf.Timestamp.getDefaultInstance()) {
+                        attr_ = com.google.protobuf.Timestamp.newBuilder((com.google.protobuf.Timestamp) attr_)
+                                .mergeFrom(value).buildPartial();
+                    } else {
+                        attr_ = value;
+                    }
+                    onChanged();
+                } else {
+                    if (attrCase_ == 7) {
+                        ceTimestampBuilder_.mergeFrom(value);
+                    } else {
+                        ceTimestampBuilder_.setMessage(value);
+                    }
+                }
+                attrCase_ = 7;
+                return this;
+            }
+
+            /**
+             * <code>.google.protobuf.Timestamp ce_timestamp = 7;</code>
+             */
+            public Builder clearCeTimestamp() {
+                if (ceTimestampBuilder_ == null) {
+                    return clearAttr(7);
+                }
+                if (attrCase_ == 7) {
+                    attrCase_ = 0;
+                    attr_ = null;
+                }
+                ceTimestampBuilder_.clear();
+                return this;
+            }
+
+            /**
+             * <code>.google.protobuf.Timestamp ce_timestamp = 7;</code>
+             */
+            public com.google.protobuf.Timestamp.Builder getCeTimestampBuilder() {
+                return getCeTimestampFieldBuilder().getBuilder();
+            }
+
+            /**
+             * <code>.google.protobuf.Timestamp ce_timestamp = 7;</code>
+             */
+            public com.google.protobuf.TimestampOrBuilder getCeTimestampOrBuilder() {
+                if (attrCase_ == 7 && ceTimestampBuilder_ != null) {
+                    return ceTimestampBuilder_.getMessageOrBuilder();
+                }
+                return getCeTimestamp();
+            }
+
+            /**
+             * <code>.google.protobuf.Timestamp ce_timestamp = 7;</code>
+             */
+            private com.google.protobuf.SingleFieldBuilderV3<
+                    com.google.protobuf.Timestamp, com.google.protobuf.Timestamp.Builder,
+                    com.google.protobuf.TimestampOrBuilder>
+            getCeTimestampFieldBuilder() {
+                if (ceTimestampBuilder_ == null) {
+                    if (attrCase_ != 7) {
+                        attr_ = com.google.protobuf.Timestamp.getDefaultInstance();
+                    }
+                    ceTimestampBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+                            com.google.protobuf.Timestamp, com.google.protobuf.Timestamp.Builder,
+                            com.google.protobuf.TimestampOrBuilder>(
+                            (com.google.protobuf.Timestamp) attr_,
+                            getParentForChildren(),
+                            isClean());
+                    attr_ = null;
+                }
+                attrCase_ = 7;
+                onChanged();
+                return ceTimestampBuilder_;
+            }
+
+            public final Builder setUnknownFields(final com.google.protobuf.UnknownFieldSet unknownFields) {
+                return super.setUnknownFieldsProto3(unknownFields);
+            }
+
+            public final Builder mergeUnknownFields(final com.google.protobuf.UnknownFieldSet unknownFields) {
+                return super.mergeUnknownFields(unknownFields);
+            }
+
+            // @@protoc_insertion_point(builder_scope:eventmesh.common.protocol.grpc.CloudEvent.CloudEventAttributeValue)
+        }
+
+        // @@protoc_insertion_point(class_scope:eventmesh.common.protocol.grpc.CloudEvent.CloudEventAttributeValue)
+        private static final CloudEventAttributeValue DEFAULT_INSTANCE;
+
+        static {
+            DEFAULT_INSTANCE = new CloudEventAttributeValue();
+        }
+
+        public static CloudEventAttributeValue getDefaultInstance() {
+            return DEFAULT_INSTANCE;
+        }
+
+        private static final com.google.protobuf.Parser<CloudEventAttributeValue> PARSER =
+                new com.google.protobuf.AbstractParser<CloudEventAttributeValue>() {
+                    public CloudEventAttributeValue parsePartialFrom(
+                            com.google.protobuf.CodedInputStream input,
+                            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+                            throws com.google.protobuf.InvalidProtocolBufferException {
+                        return new CloudEventAttributeValue(input, extensionRegistry);
+                    }
+                };
+
+        public static com.google.protobuf.Parser<CloudEventAttributeValue> parser() {
+            return PARSER;
+        }
+
+        @Override
+        public com.google.protobuf.Parser<CloudEventAttributeValue> getParserForType() {
+            return PARSER;
+        }
+
+        public CloudEventAttributeValue getDefaultInstanceForType() {
+            return DEFAULT_INSTANCE;
+        }
+    }
+
+    private int bitField0_;
+    private int dataCase_ = 0;
+    private Object data_;
+
+    public enum DataCase
+            implements com.google.protobuf.Internal.EnumLite {
+        BINARY_DATA(6),
+        TEXT_DATA(7),
+        DATA_NOT_SET(0);
+        private final int value;
+
+        private DataCase(int value) {
+            this.value = value;
+        }
+
+        /**
+         * @deprecated Use {@link #forNumber(int)} instead.
+         */
+        @Deprecated
+        public static DataCase valueOf(int value) {
+            return forNumber(value);
+        }
+
+        public static DataCase forNumber(int value) {
+            switch (value) {
+                case 6:
+                    return BINARY_DATA;
+                case 7:
+                    return TEXT_DATA;
+                case 0:
+                    return DATA_NOT_SET;
+                default:
+                    return null;
+            }
+        }
+
+        public int getNumber() {
+            return this.value;
+        }
+    }
+
+    public DataCase getDataCase() {
+        return DataCase.forNumber(dataCase_);
+    }
+
+    public static final int ID_FIELD_NUMBER = 1;
+    private volatile Object id_;
+
+    /**
+     * <code>string id = 1;</code>
+     */
+    public String getId() {
+        Object ref = id_;
+        if (ref instanceof String) {
+            return (String) ref;
+        } else {
+            com.google.protobuf.ByteString bs =
+                    (com.google.protobuf.ByteString) ref;
+            String s = bs.toStringUtf8();
+            id_ = s;
+            return s;
+        }
+    }
+
+    /**
+     * <code>string id = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+    getIdBytes() {
+        Object ref = id_;
+        if (ref instanceof String) {
+            com.google.protobuf.ByteString b =
+                    com.google.protobuf.ByteString.copyFromUtf8(
+                            (String) ref);
+            id_ = b;
+            return b;
+        } else {
+            return (com.google.protobuf.ByteString) ref;
+        }
+    }
+
+    public static final int SOURCE_FIELD_NUMBER = 2;
+    private volatile Object source_;
+
+    /**
+     * <code>string source = 2;</code>
+     */
+    public String getSource() {
+        Object ref = source_;
+        if (ref instanceof String) {
+            return (String) ref;
+        } else {
+            com.google.protobuf.ByteString bs =
+                    (com.google.protobuf.ByteString) ref;
+            String s = bs.toStringUtf8();
+            source_ = s;
+            return s;
+        }
+    }
+
+    /**
+     * <code>string source = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+    getSourceBytes() {
+        Object ref = source_;
+        if (ref instanceof String) {
+            com.google.protobuf.ByteString b =
+                    com.google.protobuf.ByteString.copyFromUtf8(
+                            (String) ref);
+            source_ = b;
+            return b;
+        } else {
+            return (com.google.protobuf.ByteString) ref;
+        }
+    }
+
+    public static final int SPEC_VERSION_FIELD_NUMBER = 3;
+    private volatile Object specVersion_;
+
+    /**
+     * <code>string spec_version = 3;</code>
+     */
+    public String getSpecVersion() {
+        Object ref = specVersion_;
+        if (ref instanceof String) {
+            return (String) ref;
+        } else {
+            com.google.protobuf.ByteString bs =
+                    (com.google.protobuf.ByteString) ref;
+            String s = bs.toStringUtf8();
+            specVersion_ = s;
+            return s;
+        }
+    }
+
+    /**
+     * <code>string spec_version = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+    getSpecVersionBytes() {
+        Object ref = specVersion_;
+        if (ref instanceof String) {
+            com.google.protobuf.ByteString b =
+                    com.google.protobuf.ByteString.copyFromUtf8(
+                            (String) ref);
+            specVersion_ = b;
+            return b;
+        } else {
+            return (com.google.protobuf.ByteString) ref;
+        }
+    }
+
+    public static final int TYPE_FIELD_NUMBER = 4;
+    private volatile Object type_;
+
+    /**
+     * <code>string type = 4;</code>
+     */
+    public String getType() {
+        Object ref = type_;
+        if (ref instanceof String) {
+            return (String) ref;
+        } else {
+            com.google.protobuf.ByteString bs =
+                    (com.google.protobuf.ByteString) ref;
+            String s = bs.toStringUtf8();
+            type_ = s;
+            return s;
+        }
+    }
+
+    /**
+     * <code>string type = 4;</code>
+     */
+    public com.google.protobuf.ByteString
+    getTypeBytes() {
+        Object ref = type_;
+        if (ref instanceof String) {
+            com.google.protobuf.ByteString b =
+                    com.google.protobuf.ByteString.copyFromUtf8(
+                            (String) ref);
+            type_ = b;
+            return b;
+        } else {
+            return (com.google.protobuf.ByteString) ref;
+        }
+    }
+
+    public static final int ATTRIBUTES_FIELD_NUMBER = 5;
+
+    private static final class AttributesDefaultEntryHolder {
+        static final com.google.protobuf.MapEntry<
+                String, CloudEventAttributeValue> defaultEntry =
+                com.google.protobuf.MapEntry
+                        .<String, CloudEventAttributeValue>newDefaultInstance(
+                                EventmeshGrpc.internal_static_eventmesh_common_protocol_grpc_CloudEvent_AttributesEntry_descriptor,
+                                com.google.protobuf.WireFormat.FieldType.STRING,
+                                "",
+                                com.google.protobuf.WireFormat.FieldType.MESSAGE,
+                                CloudEventAttributeValue.getDefaultInstance());
+    }
+
+    private com.google.protobuf.MapField<
+            String, CloudEventAttributeValue> attributes_;
+
+    private com.google.protobuf.MapField<String, CloudEventAttributeValue>
+    internalGetAttributes() {
+        if (attributes_ == null) {
+            return com.google.protobuf.MapField.emptyMapField(
+                    AttributesDefaultEntryHolder.defaultEntry);
+        }
+        return attributes_;
+    }
+
+    public int getAttributesCount() {
+        return internalGetAttributes().getMap().size();
+    }
+
+    /**
+     * <code>map&lt;string, .eventmesh.common.protocol.grpc.CloudEvent.CloudEventAttributeValue&gt; attributes = 5;</code>
+     */
+
+    public boolean containsAttributes(String key) {
+        Objects.requireNonNull(key, "key can not be null");
+        return internalGetAttributes().getMap().containsKey(key);
+    }
+
+    /**
+     * Use {@link #getAttributesMap()} instead.
+     */
+    @Deprecated
+    public java.util.Map<String, CloudEventAttributeValue> getAttributes() {
+        return getAttributesMap();
+    }
+
+    /**
+     * <code>map&lt;string, .eventmesh.common.protocol.grpc.CloudEvent.CloudEventAttributeValue&gt; attributes = 5;</code>
+     */
+
+    public java.util.Map<String, CloudEventAttributeValue> getAttributesMap() {
+        return internalGetAttributes().getMap();
+    }
+
+    /**
+     * <code>map&lt;string, .eventmesh.common.protocol.grpc.CloudEvent.CloudEventAttributeValue&gt; attributes = 5;</code>
+     */
+
+    public CloudEventAttributeValue getAttributesOrDefault(
+            String key,
+            CloudEventAttributeValue defaultValue) {
+        Objects.requireNonNull(key, "key can not be null");
+
+        java.util.Map<String, CloudEventAttributeValue> map =
+                internalGetAttributes().getMap();
+        CloudEventAttributeValue value = map.get(key);
+        if (value == null) return defaultValue;
+        return value;
+    }
+
+    /**
+     * <code>map&lt;string, .eventmesh.common.protocol.grpc.CloudEvent.CloudEventAttributeValue&gt; attributes = 5;</code>
+     */
+
+    public CloudEventAttributeValue getAttributesOrThrow(
+            String key) {
+        Objects.requireNonNull(key, "key can not be null");
+
+        java.util.Map<String, CloudEventAttributeValue> map = internalGetAttributes().getMap();
+
+        if (!map.containsKey(key)) {
+            throw new IllegalArgumentException();
+        }
+        return map.get(key);
+    }
+
+    public static final int BINARY_DATA_FIELD_NUMBER = 6;
+
+    /**
+     * <code>bytes binary_data = 6;</code>
+     */
+    public boolean hasBinaryData() {
+        return dataCase_ == 6;
+    }
+
+    /**
+     * <code>bytes binary_data = 6;</code>
+     */
+    public com.google.protobuf.ByteString getBinaryData() {
+        if (dataCase_ == 6) {
+            return (com.google.protobuf.ByteString) data_;
+        }
+        return com.google.protobuf.ByteString.EMPTY;
+    }
+
+    public static final int TEXT_DATA_FIELD_NUMBER = 7;
+
+    /**
+     * <code>string text_data = 7;</code>
+     */
+    public boolean hasTextData() {
+        return dataCase_ == 7;
+    }
+
+    /**
+     * <code>string text_data = 7;</code>
+     */
+    public String getTextData() {
+        Object ref = "";
+        if (dataCase_ == 7) {
+            ref = data_;
+        }
+        if (ref instanceof String) {
+            return (String) ref;
+        } else {
+            com.google.protobuf.ByteString bs =
+                    (com.google.protobuf.ByteString) ref;
+            String s = bs.toStringUtf8();
+            if (dataCase_ == 7) {
+                data_ = s;
+            }
+            return s;
+        }
+    }
+
+    /**
+     * <code>string text_data = 7;</code>
+     */
+    public com.google.protobuf.ByteString
+    getTextDataBytes() {
+        Object ref = "";
+        if (dataCase_ == 7) {
+            ref = data_;
+        }
+        if (ref instanceof String) {
+            com.google.protobuf.ByteString b =
+                    com.google.protobuf.ByteString.copyFromUtf8(
+                            (String) ref);
+            if (dataCase_ == 7) {
+                data_ = b;
+            }
+            return b;
+        } else {
+            return (com.google.protobuf.ByteString) ref;
+        }
+    }
+
+    private byte memoizedIsInitialized = -1;
+
+    public final boolean isInitialized() {
+        if (memoizedIsInitialized == 1) return true;
+        if (memoizedIsInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+            throws java.io.IOException {
+        if (!getIdBytes().isEmpty()) {
+            com.google.protobuf.GeneratedMessageV3.writeString(output, 1, id_);
+        }
+        if (!getSourceBytes().isEmpty()) {
+            com.google.protobuf.GeneratedMessageV3.writeString(output, 2, source_);
+        }
+        if (!getSpecVersionBytes().isEmpty()) {
+            com.google.protobuf.GeneratedMessageV3.writeString(output, 3, specVersion_);
+        }
+        if (!getTypeBytes().isEmpty()) {
+            com.google.protobuf.GeneratedMessageV3.writeString(output, 4, type_);
+        }
+        com.google.protobuf.GeneratedMessageV3
+                .serializeStringMapTo(
+                        output,
+                        internalGetAttributes(),
+                        AttributesDefaultEntryHolder.defaultEntry,
+                        5);
+        if (dataCase_ == 6) {
+            output.writeBytes(6, (com.google.protobuf.ByteString) data_);
+        }
+        if (dataCase_ == 7) {
+            com.google.protobuf.GeneratedMessageV3.writeString(output, 7, data_);
+        }
+        unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+        int size = memoizedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (!getIdBytes().isEmpty()) {
+            size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, id_);
+        }
+        if (!getSourceBytes().isEmpty()) {
+            size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, source_);
+        }
+        if (!getSpecVersionBytes().isEmpty()) {
+            size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, specVersion_);
+        }
+        if (!getTypeBytes().isEmpty()) {
+            size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, type_);
+        }
+        for (java.util.Map.Entry<String, CloudEventAttributeValue> entry
+                : internalGetAttributes().getMap().entrySet()) {
+            com.google.protobuf.MapEntry<String, CloudEventAttributeValue>
+                    attributes__ = AttributesDefaultEntryHolder.defaultEntry.newBuilderForType()
+                    .setKey(entry.getKey())
+                    .setValue(entry.getValue())
+                    .build();
+            size += com.google.protobuf.CodedOutputStream
+                    .computeMessageSize(5, attributes__);
+        }
+        if (dataCase_ == 6) {
+            size += com.google.protobuf.CodedOutputStream
+                    .computeBytesSize(6, (com.google.protobuf.ByteString) data_);
+        }
+        if (dataCase_ == 7) {
+            size += com.google.protobuf.GeneratedMessageV3.computeStringSize(7, data_);
+        }
+        size += unknownFields.getSerializedSize();
+        memoizedSize = size;
+        return size;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == this) {
+            return true;
+        }
+
+        if (!(obj instanceof CloudEvent)) {
+            return super.equals(obj);
+        }
+
+        CloudEvent other = (CloudEvent) obj;
+        boolean result = getId().equals(other.getId())
+                && getSource().equals(other.getSource())
+                && getSpecVersion().equals(other.getSpecVersion())
+                && getType().equals(other.getType())
+                && internalGetAttributes().equals(other.internalGetAttributes())
+                && getDataCase().equals(other.getDataCase());
+        if (!result) {
+            return false;
+        }
+        switch (dataCase_) {
+            case 6:
+                result = getBinaryData().equals(other.getBinaryData());
+                break;
+            case 7:
+                result = getTextData().equals(other.getTextData());
+                break;
+            default:
+                break;
+        }
+        return result && unknownFields.equals(other.unknownFields);
+    }
+
+    @Override
+    public int hashCode() {
+        if (memoizedHashCode != 0) {
+            return memoizedHashCode;
+        }
+        int hash = 41;
+        hash = (19 * hash) + getDescriptor().hashCode();
+        hash = (37 * hash) + ID_FIELD_NUMBER;
+        hash = (53 * hash) + getId().hashCode();
+        hash = (37 * hash) + SOURCE_FIELD_NUMBER;
+        hash = (53 * hash) + getSource().hashCode();
+        hash = (37 * hash) + SPEC_VERSION_FIELD_NUMBER;
+        hash = (53 * hash) + getSpecVersion().hashCode();
+        hash = (37 * hash) + TYPE_FIELD_NUMBER;
+        hash = (53 * hash) + getType().hashCode();
+        if (!internalGetAttributes().getMap().isEmpty()) {
+            hash = (37 * hash) + ATTRIBUTES_FIELD_NUMBER;
+            hash = (53 * hash) + internalGetAttributes().hashCode();
+        }
+        switch (dataCase_) {
+            case 6:
+                hash = (37 * hash) + BINARY_DATA_FIELD_NUMBER;
+                hash = (53 * hash) + getBinaryData().hashCode();
+                break;
+            case 7:
+                hash = (37 * hash) + TEXT_DATA_FIELD_NUMBER;
+                hash = (53 * hash) + getTextData().hashCode();
+                break;
+            default:
+                break;
+        }
+        hash = (29 * hash) + unknownFields.hashCode();
+        memoizedHashCode = hash;
+        return hash;
+    }
+
+    public static CloudEvent parseFrom(
+            java.nio.ByteBuffer data)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+    }
+
+    public static CloudEvent parseFrom(
+            java.nio.ByteBuffer data,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+    }
+
+    public static CloudEvent parseFrom(
+            com.google.protobuf.ByteString data)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+    }
+
+    public static CloudEvent parseFrom(
+            com.google.protobuf.ByteString data,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+    }
+
+    public static CloudEvent parseFrom(byte[] data)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+    }
+
+    public static CloudEvent parseFrom(
+            byte[] data,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+    }
+
+    public static CloudEvent parseFrom(java.io.InputStream input)
+            throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+                .parseWithIOException(PARSER, input);
+    }
+
+    public static CloudEvent parseFrom(
+            java.io.InputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+                .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static CloudEvent parseDelimitedFrom(java.io.InputStream input)
+            throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+                .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static CloudEvent parseDelimitedFrom(
+            java.io.InputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+                .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static CloudEvent parseFrom(
+            com.google.protobuf.CodedInputStream input)
+            throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+                .parseWithIOException(PARSER, input);
+    }
+
+    public static CloudEvent parseFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+                .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() {
+        return newBuilder();
+    }
+
+    public static Builder newBuilder() {
+        return DEFAULT_INSTANCE.toBuilder();
+    }
+
+    public static Builder newBuilder(CloudEvent prototype) {
+        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+
+    public Builder toBuilder() {
+        return this == DEFAULT_INSTANCE
+                ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @Override
+    protected Builder newBuilderForType(
+            BuilderParent parent) {
+        return new Builder(parent);
+    }
+
+    /**
+     * Protobuf type {@code eventmesh.common.protocol.grpc.CloudEvent}
+     */
+    public static final class Builder extends
+            com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+            // @@protoc_insertion_point(builder_implements:eventmesh.common.protocol.grpc.CloudEvent)
+            CloudEventOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+            return EventmeshGrpc.internal_static_eventmesh_common_protocol_grpc_CloudEvent_descriptor;
+        }
+
+        @SuppressWarnings({"rawtypes"})
+        protected com.google.protobuf.MapField internalGetMapField(
+                int number) {
+            switch (number) {
+                case 5:
+                    return internalGetAttributes();
+                default:
+                    throw new RuntimeException(
+                            "Invalid map field number: " + number);
+            }
+        }
+
+        @SuppressWarnings({"rawtypes"})
+        protected com.google.protobuf.MapField internalGetMutableMapField(
+                int number) {
+            switch (number) {
+                case 5:
+                    return internalGetMutableAttributes();
+                default:
+                    throw new RuntimeException(
+                            "Invalid map field number: " + number);
+            }
+        }
+
+        protected FieldAccessorTable
+        internalGetFieldAccessorTable() {
+            return EventmeshGrpc.internal_static_eventmesh_common_protocol_grpc_CloudEvent_fieldAccessorTable
+                    .ensureFieldAccessorsInitialized(
+                            CloudEvent.class, Builder.class);
+        }
+
+        // Construct using org.apache.eventmesh.common.protocol.grpc.protos.CloudEvent.newBuilder()
+        private Builder() {
+            maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+                BuilderParent parent) {
+            super(parent);
+            maybeForceBuilderInitialization();
+        }
+
+        private void maybeForceBuilderInitialization() {
+            if (com.google.protobuf.GeneratedMessageV3
+                    .alwaysUseFieldBuilders) {
+            }
+        }
+
+        public Builder clear() {
+            super.clear();
+            id_ = "";
+
+            source_ = "";
+
+            specVersion_ = "";
+
+            type_ = "";
+
+            internalGetMutableAttributes().clear();
+            dataCase_ = 0;
+            data_ = null;
+            return this;
+        }
+
+        public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+            return EventmeshGrpc.internal_static_eventmesh_common_protocol_grpc_CloudEvent_descriptor;
+        }
+
+        public CloudEvent getDefaultInstanceForType() {
+            return CloudEvent.getDefaultInstance();
+        }
+
+        public CloudEvent build() {
+            CloudEvent result = buildPartial();
+            if (!result.isInitialized()) {
+                throw newUninitializedMessageException(result);
+            }
+            return result;
+        }
+
+        public CloudEvent buildPartial() {
+            CloudEvent result = new CloudEvent(this);
+            result.id_ = id_;
+            result.source_ = source_;
+            result.specVersion_ = specVersion_;
+            result.type_ = type_;
+            result.attributes_ = internalGetAttributes();
+            result.attributes_.makeImmutable();
+            result.data_ = data_;
+            result.bitField0_ = 0;
+            result.dataCase_ = dataCase_;
+            onBuilt();
+            return result;
+        }
+
+        public Builder clone() {
+            return (Builder) super.clone();
+        }
+
+        public Builder setField(
+                com.google.protobuf.Descriptors.FieldDescriptor field,
+                Object value) {
+            return (Builder) super.setField(field, value);
+        }
+
+        public Builder clearField(
+                com.google.protobuf.Descriptors.FieldDescriptor field) {
+            return (Builder) super.clearField(field);
+        }
+
+        public Builder clearOneof(
+                com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+            return (Builder) super.clearOneof(oneof);
+        }
+
+        public Builder setRepeatedField(
+                com.google.protobuf.Descriptors.FieldDescriptor field,
+                int index, Object value) {
+            return (Builder) super.setRepeatedField(field, index, value);
+        }
+
+        public Builder addRepeatedField(
+                com.google.protobuf.Descriptors.FieldDescriptor field,
+                Object value) {
+            return (Builder) super.addRepeatedField(field, value);
+        }
+
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+            if (other instanceof CloudEvent) {
+                return mergeFrom((CloudEvent) other);
+            } else {
+                super.mergeFrom(other);
+                return this;
+            }
+        }
+
+        public Builder mergeFrom(CloudEvent other) {
+            if (other == CloudEvent.getDefaultInstance()) return this;
+            if (!other.getId().isEmpty()) {
+                id_ = other.id_;
+                onChanged();
+            }
+            if (!other.getSource().isEmpty()) {
+                source_ = other.source_;
+                onChanged();
+            }
+            if (!other.getSpecVersion().isEmpty()) {
+                specVersion_ = other.specVersion_;
+                onChanged();
+            }
+            if (!other.getType().isEmpty()) {
+                type_ = other.type_;
+                onChanged();
+            }
+            internalGetMutableAttributes().mergeFrom(
+                    other.internalGetAttributes());
+            switch (other.getDataCase()) {
+                case BINARY_DATA: {
+                    setBinaryData(other.getBinaryData());
+                    break;
+                }
+                case TEXT_DATA: {
+                    dataCase_ = 7;
+                    data_ = other.data_;
+                    onChanged();
+                    break;
+                }
+                case DATA_NOT_SET: {
+                    break;
+                }
+            }
+            this.mergeUnknownFields(other.unknownFields);
+            onChanged();
+            return this;
+        }
+
+        public final boolean isInitialized() {
+            return true;
+        }
+
+        public Builder mergeFrom(
+                com.google.protobuf.CodedInputStream input,
+                com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+                throws java.io.IOException {
+            CloudEvent parsedMessage = null;
+            try {
+                parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+            } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+                parsedMessage = (CloudEvent) e.getUnfinishedMessage();
+                throw e.unwrapIOException();
+            } finally {
+                if (parsedMessage != null) {
+                    mergeFrom(parsedMessage);
+                }
+            }
+            return this;
+        }
+
+        private int dataCase_ = 0;
+        private Object data_;
+
+        public DataCase getDataCase() {
+            return DataCase.forNumber(dataCase_);
+        }
+
+        public Builder clearData() {
+            dataCase_ = 0;
+            data_ = null;
+            onChanged();
+            return this;
+        }
+
+        private Object id_ = "";
+
+        /**
+         * <code>string id = 1;</code>
+         */
+        public String getId() {
+            Object ref = id_;
+            if (!(ref instanceof String)) {
+                com.google.protobuf.ByteString bs =
+                        (com.google.protobuf.ByteString) ref;
+                String s = bs.toStringUtf8();
+                id_ = s;
+                return s;
+            } else {
+                return (String) ref;
+            }
+        }
+
+        /**
+         * <code>string id = 1;</code>
+         */
+        public com.google.protobuf.ByteString
+        getIdBytes() {
+            Object ref = id_;
+            if (ref instanceof String) {
+                com.google.protobuf.ByteString b =
+                        com.google.protobuf.ByteString.copyFromUtf8(
+                                (String) ref);
+                id_ = b;
+                return b;
+            } else {
+                return (com.google.protobuf.ByteString) ref;
+            }
+        }
+
+        /**
+         * <code>string id = 1;</code>
+         */
+        public Builder setId(
+                String value) {
+            Objects.requireNonNull(value, "Id can not be null");
+
+            id_ = value;
+            onChanged();
+            return this;
+        }
+
+        /**
+         * <code>string id = 1;</code>
+         */
+        public Builder clearId() {
+            id_ = getDefaultInstance().getId();
+            onChanged();
+            return this;
+        }
+
+        /**
+         * <code>string id = 1;</code>
+         */
+        public Builder setIdBytes(
+                com.google.protobuf.ByteString value) {
+            Objects.requireNonNull(value, "IdBytes can not be null");
+            checkByteStringIsUtf8(value);
+
+            id_ = value;
+            onChanged();
+            return this;
+        }
+
+        private Object source_ = "";
+
+        /**
+         * <code>string source = 2;</code>
+         */
+        public String getSource() {
+            Object ref = source_;
+            if (!(ref instanceof String)) {
+                com.google.protobuf.ByteString bs =
+                        (com.google.protobuf.ByteString) ref;
+                String s = bs.toStringUtf8();
+                source_ = s;
+                return s;
+            } else {
+                return (String) ref;
+            }
+        }
+
+        /**
+         * <code>string source = 2;</code>
+         */
+        public com.google.protobuf.ByteString
+        getSourceBytes() {
+            Object ref = source_;
+            if (ref instanceof String) {
+                com.google.protobuf.ByteString b =
+                        com.google.protobuf.ByteString.copyFromUtf8(
+                                (String) ref);
+                source_ = b;
+                return b;
+            } else {
+                return (com.google.protobuf.ByteString) ref;
+            }
+        }
+
+        /**
+         * <code>string source = 2;</code>
+         */
+        public Builder setSource(
+                String value) {
+            Objects.requireNonNull(value, "Source can not be null");
+
+            source_ = value;
+            onChanged();
+            return this;
+        }
+
+        /**
+         * <code>string source = 2;</code>
+         */
+        public Builder clearSource() {
+            source_ = getDefaultInstance().getSource();
+            onChanged();
+            return this;
+        }
+
+        /**
+         * <code>string source = 2;</code>
+         */
+        public Builder setSourceBytes(
+                com.google.protobuf.ByteString value) {
+            Objects.requireNonNull(value, "SourceBytes can not be null");
+            checkByteStringIsUtf8(value);
+
+            source_ = value;
+            onChanged();
+            return this;
+        }
+
+        private Object specVersion_ = "";
+
+        /**
+         * <code>string spec_version = 3;</code>
+         */
+        public String getSpecVersion() {
+            Object ref = specVersion_;
+            if (!(ref instanceof String)) {
+                com.google.protobuf.ByteString bs =
+                        (com.google.protobuf.ByteString) ref;
+                String s = bs.toStringUtf8();
+                specVersion_ = s;
+                return s;
+            } else {
+                return (String) ref;
+            }
+        }
+
+        /**
+         * <code>string spec_version = 3;</code>
+         */
+        public com.google.protobuf.ByteString
+        getSpecVersionBytes() {
+            Object ref = specVersion_;
+            if (ref instanceof String) {
+                com.google.protobuf.ByteString b =
+                        com.google.protobuf.ByteString.copyFromUtf8(
+                                (String) ref);
+                specVersion_ = b;
+                return b;
+            } else {
+                return (com.google.protobuf.ByteString) ref;
+            }
+        }
+
+        /**
+         * <code>string spec_version = 3;</code>
+         */
+        public Builder setSpecVersion(
+                String value) {
+            Objects.requireNonNull(value, "SpecVersion can not be null");
+
+            specVersion_ = value;
+            onChanged();
+            return this;
+        }
+
+        /**
+         * <code>string spec_version = 3;</code>
+         */
+        public Builder clearSpecVersion() {
+            specVersion_ = getDefaultInstance().getSpecVersion();
+            onChanged();
+            return this;
+        }
+
+        /**
+         * <code>string spec_version = 3;</code>
+         */
+        public Builder setSpecVersionBytes(
+                com.google.protobuf.ByteString value) {
+            Objects.requireNonNull(value, "SpecVersionBytes can not be null");
+            checkByteStringIsUtf8(value);
+
+            specVersion_ = value;
+            onChanged();
+            return this;
+        }
+
+        private Object type_ = "";
+
+        /**
+         * <code>string type = 4;</code>
+         */
+        public String getType() {
+            Object ref = type_;
+            if (!(ref instanceof String)) {
+                com.google.protobuf.ByteString bs =
+                        (com.google.protobuf.ByteString) ref;
+                String s = bs.toStringUtf8();
+                type_ = s;
+                return s;
+            } else {
+                return (String) ref;
+            }
+        }
+
+        /**
+         * <code>string type = 4;</code>
+         */
+        public com.google.protobuf.ByteString
+        getTypeBytes() {
+            Object ref = type_;
+            if (ref instanceof String) {
+                com.google.protobuf.ByteString b =
+                        com.google.protobuf.ByteString.copyFromUtf8(
+                                (String) ref);
+                type_ = b;
+                return b;
+            } else {
+                return (com.google.protobuf.ByteString) ref;
+            }
+        }
+
+        /**
+         * <code>string type = 4;</code>
+         */
+        public Builder setType(
+                String value) {
+            Objects.requireNonNull(value, "Type can not be null");
+
+            type_ = value;
+            onChanged();
+            return this;
+        }
+
+        /**
+         * <code>string type = 4;</code>
+         */
+        public Builder clearType() {
+            type_ = getDefaultInstance().getType();
+            onChanged();
+            return this;
+        }
+
+        /**
+         * <code>string type = 4;</code>
+         */
+        public Builder setTypeBytes(
+                com.google.protobuf.ByteString value) {
+            Objects.requireNonNull(value, "TypeBytes can not be null");
+            checkByteStringIsUtf8(value);
+
+            type_ = value;
+            onChanged();
+            return this;
+        }
+
+        private com.google.protobuf.MapField<
+                String, CloudEventAttributeValue> attributes_;
+
+        private com.google.protobuf.MapField<String, CloudEventAttributeValue>
+        internalGetAttributes() {
+            if (attributes_ == null) {
+                return com.google.protobuf.MapField.emptyMapField(
+                        AttributesDefaultEntryHolder.defaultEntry);
+            }
+            return attributes_;
+        }
+
+        private com.google.protobuf.MapField<String, CloudEventAttributeValue>
+        internalGetMutableAttributes() {
+            onChanged();
+            if (attributes_ == null) {
+                attributes_ = com.google.protobuf.MapField.newMapField(
+                        AttributesDefaultEntryHolder.defaultEntry);
+            }
+            if (!attributes_.isMutable()) {
+                attributes_ = attributes_.copy();
+            }
+            return attributes_;
+        }
+
+        public int getAttributesCount() {
+            return internalGetAttributes().getMap().size();
+        }
+
+        /**
+         * <code>map&lt;string, .eventmesh.common.protocol.grpc.CloudEvent.CloudEventAttributeValue&gt; attributes = 5;</code>
+         */
+
+        public boolean containsAttributes(
+                String key) {
+            Objects.requireNonNull(key, "key can not be null");
+
+            return internalGetAttributes().getMap().containsKey(key);
+        }
+
+        /**
+         * Use {@link #getAttributesMap()} instead.
+         */
+        @Deprecated
+        public java.util.Map<String, CloudEventAttributeValue> getAttributes() {
+            return getAttributesMap();
+        }
+
+        /**
+         * <code>map&lt;string, .eventmesh.common.protocol.grpc.CloudEvent.CloudEventAttributeValue&gt; attributes = 5;</code>
+         */
+
+        public java.util.Map<String, CloudEventAttributeValue> getAttributesMap() {
+            return internalGetAttributes().getMap();
+        }
+
+        /**
+         * <code>map&lt;string, .eventmesh.common.protocol.grpc.CloudEvent.CloudEventAttributeValue&gt; attributes = 5;</code>
+         */
+
+        public CloudEventAttributeValue getAttributesOrDefault(
+                String key,
+                CloudEventAttributeValue defaultValue) {
+            Objects.requireNonNull(key, "key can not be null");
+
+            java.util.Map<String, CloudEventAttributeValue> map =
+                    internalGetAttributes().getMap();
+            CloudEventAttributeValue value = map.get(key);
+            if (value == null) return defaultValue;
+            return value;
+        }
+
+        /**
+         * <code>map&lt;string, .eventmesh.common.protocol.grpc.CloudEvent.CloudEventAttributeValue&gt; attributes = 5;</code>
+         */
+
+        public CloudEventAttributeValue getAttributesOrThrow(String key) {
+            Objects.requireNonNull(key, "key can not be null");
+
+            java.util.Map<String, CloudEventAttributeValue> map =
+                    internalGetAttributes().getMap();
+            if (!map.containsKey(key)) {
+                throw new IllegalArgumentException();
+            }
+            return map.get(key);
+        }
+
+        public Builder clearAttributes() {
+            internalGetMutableAttributes().getMutableMap().clear();
+            return this;
+        }
+
+        /**
+         * <code>map&lt;string, .eventmesh.common.protocol.grpc.CloudEvent.CloudEventAttributeValue&gt; attributes = 5;</code>
+         */
+
+        public Builder removeAttributes(String key) {
+            Objects.requireNonNull(key, "key can not be null");
+
+            internalGetMutableAttributes().getMutableMap().remove(key);
+            return this;
+        }
+
+        /**
+         * Use alternate mutation accessors instead.
+         */
+        @Deprecated
+        public java.util.Map<String, CloudEventAttributeValue> getMutableAttributes() {
+            return internalGetMutableAttributes().getMutableMap();
+        }
+
+        /**
+         * <code>map&lt;string, .eventmesh.common.protocol.grpc.CloudEvent.CloudEventAttributeValue&gt; attributes = 5;</code>
+         */
+        public Builder putAttributes(
+                String key,
+                CloudEventAttributeValue value) {
+            if (key == null) {
+                throw new NullPointerException();
+            }
+            if (value == null) {
+                throw new NullPointerException();
+            }
+            internalGetMutableAttributes().getMutableMap()
+                    .put(key, value);
+            return this;
+        }
+
+        /**
+         * <code>map&lt;string, .eventmesh.common.protocol.grpc.CloudEvent.CloudEventAttributeValue&gt; attributes = 5;</code>
+         */
+
+        public Builder putAllAttributes(java.util.Map<String, CloudEventAttributeValue> values) {
+            internalGetMutableAttributes().getMutableMap().putAll(values);
+            return this;
+        }
+
+        /**
+         * <code>bytes binary_data = 6;</code>
+         */
+        public boolean hasBinaryData() {
+            return dataCase_ == 6;
+        }
+
+        /**
+         * <code>bytes binary_data = 6;</code>
+         */
+        public com.google.protobuf.ByteString getBinaryData() {
+            if (dataCase_ == 6) {
+                return (com.google.protobuf.ByteString) data_;
+            }
+            return com.google.protobuf.ByteString.EMPTY;
+        }
+
+        /**
+         * <code>bytes binary_data = 6;</code>
+         */
+        public Builder setBinaryData(com.google.protobuf.ByteString value) {
+            Objects.requireNonNull(value, "BinaryData can not be null");
+            dataCase_ = 6;
+            data_ = value;
+            onChanged();
+            return this;
+        }
+
+        /**
+         * <code>bytes binary_data = 6;</code>
+         */
+        public Builder clearBinaryData() {
+            if (dataCase_ == 6) {
+                dataCase_ = 0;
+                data_ = null;
+                onChanged();
+            }
+            return this;
+        }
+
+        /**
+         * <code>string text_data = 7;</code>
+         */
+        public boolean hasTextData() {
+            return dataCase_ == 7;
+        }
+
+        /**
+         * <code>string text_data = 7;</code>
+         */
+        public String getTextData() {
+            Object ref = "";
+            if (dataCase_ == 7) {
+                ref = data_;
+            }
+            if (!(ref instanceof String)) {
+                com.google.protobuf.ByteString bs =
+                        (com.google.protobuf.ByteString) ref;
+                String s = bs.toStringUtf8();
+                if (dataCase_ == 7) {
+                    data_ = s;
+                }
+                return s;
+            } else {
+                return (String) ref;
+            }
+        }
+
+        /**
+         * <code>string text_data = 7;</code>
+         */
+        public com.google.protobuf.ByteString
+        getTextDataBytes() {
+            Object ref = "";
+            if (dataCase_ == 7) {
+                ref = data_;
+            }
+            if (ref instanceof String) {
+                com.google.protobuf.ByteString b =
+                        com.google.protobuf.ByteString.copyFromUtf8(
+                                (String) ref);
+                if (dataCase_ == 7) {
+                    data_ = b;
+                }
+                return b;
+            } else {
+                return (com.google.protobuf.ByteString) ref;
+            }
+        }
+
+        /**
+         * <code>string text_data = 7;</code>
+         */
+        public Builder setTextData(
+                String value) {
+            Objects.requireNonNull(value, "TextData can not be null");
+            dataCase_ = 7;
+            data_ = value;
+            onChanged();
+            return this;
+        }
+
+        /**
+         * <code>string text_data = 7;</code>
+         */
+        public Builder clearTextData() {
+            if (dataCase_ == 7) {
+                dataCase_ = 0;
+                data_ = null;
+                onChanged();
+            }
+            return this;
+        }
+
+        /**
+         * <code>string text_data = 7;</code>
+         */
+        public Builder setTextDataBytes(
+                com.google.protobuf.ByteString value) {
+            Objects.requireNonNull(value, "TextDataBytes can not be null");
+            checkByteStringIsUtf8(value);
+            dataCase_ = 7;
+            data_ = value;
+            onChanged();
+            return this;
+        }
+
+        public final Builder setUnknownFields(final com.google.protobuf.UnknownFieldSet unknownFields) {
+            return super.setUnknownFieldsProto3(unknownFields);
+        }
+
+        public final Builder mergeUnknownFields(final com.google.protobuf.UnknownFieldSet unknownFields) {
+            return super.mergeUnknownFields(unknownFields);
+        }
+
+
+        // @@protoc_insertion_point(builder_scope:eventmesh.common.protocol.grpc.CloudEvent)
+    }
+
+    // @@protoc_insertion_point(class_scope:eventmesh.common.protocol.grpc.CloudEvent)
+    private static final CloudEvent DEFAULT_INSTANCE;
+
+    static {
+        DEFAULT_INSTANCE = new CloudEvent();
+    }
+
+    public static CloudEvent getDefaultInstance() {
+        return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CloudEvent> PARSER =
+            new com.google.protobuf.AbstractParser<CloudEvent>() {
+                public CloudEvent parsePartialFrom(
+                        com.google.protobuf.CodedInputStream input,
+                        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+                        throws com.google.protobuf.InvalidProtocolBufferException {
+                    return new CloudEvent(input, extensionRegistry);
+                }
+            };
+
+    public static com.google.protobuf.Parser<CloudEvent> parser() {
+        return PARSER;
+    }
+
+    @Override
+    public com.google.protobuf.Parser<CloudEvent> getParserForType() {
+        return PARSER;
+    }
+
+    public CloudEvent getDefaultInstanceForType() {
+        return DEFAULT_INSTANCE;
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: eventmesh-client.proto
+
+package org.apache.eventmesh.common.protocol.grpc.protos;
+
+@SuppressWarnings({"all"})
+public interface CloudEventOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:eventmesh.common.protocol.grpc.CloudEvent)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>string id = 1;</code>
+   */
+  String getId();
+  /**
+   * <code>string id = 1;</code>
+   */
+  com.google.protobuf.ByteString
+      getIdBytes();
+
+  /**
+   * <code>string source = 2;</code>
+   */
+  String getSource();
+  /**
+   * <code>string source = 2;</code>
+   */
+  com.google.protobuf.ByteString
+      getSourceBytes();
+
+  /**
+   * <code>string spec_version = 3;</code>
+   */
+  String getSpecVersion();
+  /**
+   * <code>string spec_version = 3;</code>
+   */
+  com.google.protobuf.ByteString
+      getSpecVersionBytes();
+
+  /**
+   * <code>string type = 4;</code>
+   */
+  String getType();
+  /**
+   * <code>string type = 4;</code>
+   */
+  com.google.protobuf.ByteString
+      getTypeBytes();
+
+  /**
+   * <code>map&lt;string, .eventmesh.common.protocol.grpc.CloudEvent.CloudEventAttributeValue&gt; attributes = 5;</code>
+   */
+  int getAttributesCount();
+  /**
+   * <code>map&lt;string, .eventmesh.common.protocol.grpc.CloudEvent.CloudEventAttributeValue&gt; attributes = 5;</code>
+   */
+  boolean containsAttributes(
+      String key);
+  /**
+   * Use {@link #getAttributesMap()} instead.
+   */
+  @Deprecated
+  java.util.Map<String, CloudEvent.CloudEventAttributeValue>
+  getAttributes();
+  /**
+   * <code>map&lt;string, .eventmesh.common.protocol.grpc.CloudEvent.CloudEventAttributeValue&gt; attributes = 5;</code>
+   */
+  java.util.Map<String, CloudEvent.CloudEventAttributeValue>
+  getAttributesMap();
+  /**
+   * <code>map&lt;string, .eventmesh.common.protocol.grpc.CloudEvent.CloudEventAttributeValue&gt; attributes = 5;</code>
+   */
+  CloudEvent.CloudEventAttributeValue getAttributesOrDefault(
+      String key,
+      CloudEvent.CloudEventAttributeValue defaultValue);
+  /**
+   * <code>map&lt;string, .eventmesh.common.protocol.grpc.CloudEvent.CloudEventAttributeValue&gt; attributes = 5;</code>
+   */
+  CloudEvent.CloudEventAttributeValue getAttributesOrThrow(
+      String key);
+
+  /**
+   * <code>bytes binary_data = 6;</code>
+   */
+  boolean hasBinaryData();
+  /**
+   * <code>bytes binary_data = 6;</code>
+   */
+  com.google.protobuf.ByteString getBinaryData();
+
+  /**
+   * <code>string text_data = 7;</code>
+   */
+  boolean hasTextData();
+  /**
+   * <code>string text_data = 7;</code>
+   */
+  String getTextData();
+  /**
+   * <code>string text_data = 7;</code>
+   */
+  com.google.protobuf.ByteString
+      getTextDataBytes();
+
+  public CloudEvent.DataCase getDataCase();
+}
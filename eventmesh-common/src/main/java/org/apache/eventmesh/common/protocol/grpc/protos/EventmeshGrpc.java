@@ -97,6 +97,21 @@ public final class EventmeshGrpc {
   static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_eventmesh_common_protocol_grpc_Heartbeat_HeartbeatItem_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_eventmesh_common_protocol_grpc_CloudEvent_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_eventmesh_common_protocol_grpc_CloudEvent_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_eventmesh_common_protocol_grpc_CloudEvent_AttributesEntry_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_eventmesh_common_protocol_grpc_CloudEvent_AttributesEntry_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_eventmesh_common_protocol_grpc_CloudEvent_CloudEventAttributeValue_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_eventmesh_common_protocol_grpc_CloudEvent_CloudEventAttributeValue_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -107,85 +122,111 @@ public final class EventmeshGrpc {
   static {
     String[] descriptorData = {
       "\n\026eventmesh-client.proto\022\036eventmesh.comm" +
-      "on.protocol.grpc\"\332\001\n\rRequestHeader\022\013\n\003en" +
-      "v\030\001 \001(\t\022\016\n\006region\030\002 \001(\t\022\013\n\003idc\030\003 \001(\t\022\n\n\002" +
-      "ip\030\004 \001(\t\022\013\n\003pid\030\005 \001(\t\022\013\n\003sys\030\006 \001(\t\022\020\n\010us" +
-      "ername\030\007 \001(\t\022\020\n\010password\030\010 \001(\t\022\020\n\010langua" +
-      "ge\030\t \001(\t\022\024\n\014protocolType\030\n \001(\t\022\027\n\017protoc" +
-      "olVersion\030\013 \001(\t\022\024\n\014protocolDesc\030\014 \001(\t\"\307\002" +
-      "\n\rSimpleMessage\022=\n\006header\030\001 \001(\0132-.eventm" +
-      "esh.common.protocol.grpc.RequestHeader\022\025" +
-      "\n\rproducerGroup\030\002 \001(\t\022\r\n\005topic\030\003 \001(\t\022\017\n\007" +
-      "content\030\004 \001(\t\022\013\n\003ttl\030\005 \001(\t\022\020\n\010uniqueId\030\006" +
-      " \001(\t\022\016\n\006seqNum\030\007 \001(\t\022\013\n\003tag\030\010 \001(\t\022Q\n\npro" +
-      "perties\030\t \003(\0132=.eventmesh.common.protoco" +
-      "l.grpc.SimpleMessage.PropertiesEntry\0321\n\017" +
-      "PropertiesEntry\022\013\n\003key\030\001 \001(\t\022\r\n\005value\030\002 " +
-      "\001(\t:\0028\001\"\260\003\n\014BatchMessage\022=\n\006header\030\001 \001(\013" +
-      "2-.eventmesh.common.protocol.grpc.Reques" +
-      "tHeader\022\025\n\rproducerGroup\030\002 \001(\t\022\r\n\005topic\030" +
-      "\003 \001(\t\022M\n\013messageItem\030\004 \003(\01328.eventmesh.c" +
+      "on.protocol.grpc\032\037google/protobuf/timest" +
+      "amp.proto\"\332\001\n\rRequestHeader\022\013\n\003env\030\001 \001(\t" +
+      "\022\016\n\006region\030\002 \001(\t\022\013\n\003idc\030\003 \001(\t\022\n\n\002ip\030\004 \001(" +
+      "\t\022\013\n\003pid\030\005 \001(\t\022\013\n\003sys\030\006 \001(\t\022\020\n\010username\030" +
+      "\007 \001(\t\022\020\n\010password\030\010 \001(\t\022\020\n\010language\030\t \001(" +
+      "\t\022\024\n\014protocolType\030\n \001(\t\022\027\n\017protocolVersi" +
+      "on\030\013 \001(\t\022\024\n\014protocolDesc\030\014 \001(\t\"\223\003\n\rSimpl" +
+      "eMessage\022=\n\006header\030\001 \001(\0132-.eventmesh.com" +
+      "mon.protocol.grpc.RequestHeader\022\025\n\rprodu" +
+      "cerGroup\030\002 \001(\t\022\r\n\005topic\030\003 \001(\t\022\017\n\007content" +
+      "\030\004 \001(\t\022\013\n\003ttl\030\005 \001(\t\022\020\n\010uniqueId\030\006 \001(\t\022\016\n" +
+      "\006seqNum\030\007 \001(\t\022\013\n\003tag\030\010 \001(\t\022Q\n\nproperties" +
+      "\030\t \003(\0132=.eventmesh.common.protocol.grpc." +
+      "SimpleMessage.PropertiesEntry\022J\n\ncloudEv" +
+      "ent\030\n \001(\0132*.eventmesh.common.protocol.gr" +
+      "pc.CloudEventR\ncloudEvent\0321\n\017PropertiesE" +
+      "ntry\022\013\n\003key\030\001 \001(\t\022\r\n\005value\030\002 \001(\t:\0028\001\"\374\003\n" +
+      "\014BatchMessage\022=\n\006header\030\001 \001(\0132-.eventmes" +
+      "h.common.protocol.grpc.RequestHeader\022\025\n\r" +
+      "producerGroup\030\002 \001(\t\022\r\n\005topic\030\003 \001(\t\022M\n\013me" +
+      "ssageItem\030\004 \003(\01328.eventmesh.common.proto" +
+      "col.grpc.BatchMessage.MessageItem\032\267\002\n\013Me" +
+      "ssageItem\022\017\n\007content\030\001 \001(\t\022\013\n\003ttl\030\002 \001(\t\022" +
+      "\020\n\010uniqueId\030\003 \001(\t\022\016\n\006seqNum\030\004 \001(\t\022\013\n\003tag" +
+      "\030\005 \001(\t\022\\\n\nproperties\030\006 \003(\0132H.eventmesh.c" +
       "ommon.protocol.grpc.BatchMessage.Message" +
-      "Item\032\353\001\n\013MessageItem\022\017\n\007content\030\001 \001(\t\022\013\n" +
-      "\003ttl\030\002 \001(\t\022\020\n\010uniqueId\030\003 \001(\t\022\016\n\006seqNum\030\004" +
-      " \001(\t\022\013\n\003tag\030\005 \001(\t\022\\\n\nproperties\030\006 \003(\0132H." +
-      "eventmesh.common.protocol.grpc.BatchMess" +
-      "age.MessageItem.PropertiesEntry\0321\n\017Prope" +
-      "rtiesEntry\022\013\n\003key\030\001 \001(\t\022\r\n\005value\030\002 \001(\t:\002" +
-      "8\001\"?\n\010Response\022\020\n\010respCode\030\001 \001(\t\022\017\n\007resp" +
-      "Msg\030\002 \001(\t\022\020\n\010respTime\030\003 \001(\t\"\325\006\n\014Subscrip" +
-      "tion\022=\n\006header\030\001 \001(\0132-.eventmesh.common." +
-      "protocol.grpc.RequestHeader\022\025\n\rconsumerG" +
-      "roup\030\002 \001(\t\022X\n\021subscriptionItems\030\003 \003(\0132=." +
-      "eventmesh.common.protocol.grpc.Subscript" +
-      "ion.SubscriptionItem\022\013\n\003url\030\004 \001(\t\022A\n\005rep" +
-      "ly\030\005 \001(\01322.eventmesh.common.protocol.grp" +
-      "c.Subscription.Reply\032\274\002\n\020SubscriptionIte" +
-      "m\022\r\n\005topic\030\001 \001(\t\022\\\n\004mode\030\002 \001(\0162N.eventme" +
-      "sh.common.protocol.grpc.Subscription.Sub" +
-      "scriptionItem.SubscriptionMode\022\\\n\004type\030\003" +
-      " \001(\0162N.eventmesh.common.protocol.grpc.Su" +
-      "bscription.SubscriptionItem.Subscription" +
-      "Type\"4\n\020SubscriptionMode\022\016\n\nCLUSTERING\020\000" +
-      "\022\020\n\014BROADCASTING\020\001\"\'\n\020SubscriptionType\022\t" +
-      "\n\005ASYNC\020\000\022\010\n\004SYNC\020\001\032\205\002\n\005Reply\022\025\n\rproduce" +
-      "rGroup\030\001 \001(\t\022\r\n\005topic\030\002 \001(\t\022\017\n\007content\030\003" +
-      " \001(\t\022\013\n\003ttl\030\004 \001(\t\022\020\n\010uniqueId\030\005 \001(\t\022\016\n\006s" +
-      "eqNum\030\006 \001(\t\022\013\n\003tag\030\007 \001(\t\022V\n\nproperties\030\010" +
-      " \003(\0132B.eventmesh.common.protocol.grpc.Su" +
-      "bscription.Reply.PropertiesEntry\0321\n\017Prop" +
-      "ertiesEntry\022\013\n\003key\030\001 \001(\t\022\r\n\005value\030\002 \001(\t:" +
-      "\0028\001\"\340\002\n\tHeartbeat\022=\n\006header\030\001 \001(\0132-.even" +
-      "tmesh.common.protocol.grpc.RequestHeader" +
-      "\022H\n\nclientType\030\002 \001(\01624.eventmesh.common." +
-      "protocol.grpc.Heartbeat.ClientType\022\025\n\rpr" +
-      "oducerGroup\030\003 \001(\t\022\025\n\rconsumerGroup\030\004 \001(\t" +
-      "\022O\n\016heartbeatItems\030\005 \003(\01327.eventmesh.com" +
-      "mon.protocol.grpc.Heartbeat.HeartbeatIte" +
-      "m\032+\n\rHeartbeatItem\022\r\n\005topic\030\001 \001(\t\022\013\n\003url" +
-      "\030\002 \001(\t\"\036\n\nClientType\022\007\n\003PUB\020\000\022\007\n\003SUB\020\0012\314" +
-      "\002\n\020PublisherService\022b\n\007publish\022-.eventme" +
-      "sh.common.protocol.grpc.SimpleMessage\032(." +
-      "eventmesh.common.protocol.grpc.Response\022" +
-      "l\n\014requestReply\022-.eventmesh.common.proto" +
-      "col.grpc.SimpleMessage\032-.eventmesh.commo" +
-      "n.protocol.grpc.SimpleMessage\022f\n\014batchPu" +
-      "blish\022,.eventmesh.common.protocol.grpc.B" +
-      "atchMessage\032(.eventmesh.common.protocol." +
-      "grpc.Response2\321\002\n\017ConsumerService\022c\n\tsub" +
-      "scribe\022,.eventmesh.common.protocol.grpc." +
-      "Subscription\032(.eventmesh.common.protocol" +
-      ".grpc.Response\022r\n\017subscribeStream\022,.even" +
-      "tmesh.common.protocol.grpc.Subscription\032" +
-      "-.eventmesh.common.protocol.grpc.SimpleM" +
-      "essage(\0010\001\022e\n\013unsubscribe\022,.eventmesh.co" +
-      "mmon.protocol.grpc.Subscription\032(.eventm" +
-      "esh.common.protocol.grpc.Response2t\n\020Hea" +
-      "rtbeatService\022`\n\theartbeat\022).eventmesh.c" +
-      "ommon.protocol.grpc.Heartbeat\032(.eventmes" +
-      "h.common.protocol.grpc.ResponseBC\n0org.a" +
-      "pache.eventmesh.common.protocol.grpc.pro" +
-      "tosB\rEventmeshGrpcP\001b\006proto3"
+      "Item.PropertiesEntry\022J\n\ncloudEvent\030\007 \001(\013" +
+      "2*.eventmesh.common.protocol.grpc.CloudE" +
+      "ventR\ncloudEvent\0321\n\017PropertiesEntry\022\013\n\003k" +
+      "ey\030\001 \001(\t\022\r\n\005value\030\002 \001(\t:\0028\001\"W\n\010Response\022" +
+      "\020\n\010respCode\030\001 \001(\t\022\017\n\007respMsg\030\002 \001(\t\022\020\n\010re" +
+      "spTime\030\003 \001(\t\022\026\n\006seqNum\030\004 \001(\tR\006seqNum\"\325\006\n" +
+      "\014Subscription\022=\n\006header\030\001 \001(\0132-.eventmes" +
+      "h.common.protocol.grpc.RequestHeader\022\025\n\r" +
+      "consumerGroup\030\002 \001(\t\022X\n\021subscriptionItems" +
+      "\030\003 \003(\0132=.eventmesh.common.protocol.grpc." +
+      "Subscription.SubscriptionItem\022\013\n\003url\030\004 \001" +
+      "(\t\022A\n\005reply\030\005 \001(\01322.eventmesh.common.pro" +
+      "tocol.grpc.Subscription.Reply\032\274\002\n\020Subscr" +
+      "iptionItem\022\r\n\005topic\030\001 \001(\t\022\\\n\004mode\030\002 \001(\0162" +
+      "N.eventmesh.common.protocol.grpc.Subscri" +
+      "ption.SubscriptionItem.SubscriptionMode\022" +
+      "\\\n\004type\030\003 \001(\0162N.eventmesh.common.protoco" +
+      "l.grpc.Subscription.SubscriptionItem.Sub" +
+      "scriptionType\"4\n\020SubscriptionMode\022\016\n\nCLU" +
+      "STERING\020\000\022\020\n\014BROADCASTING\020\001\"\'\n\020Subscript" +
+      "ionType\022\t\n\005ASYNC\020\000\022\010\n\004SYNC\020\001\032\205\002\n\005Reply\022\025" +
+      "\n\rproducerGroup\030\001 \001(\t\022\r\n\005topic\030\002 \001(\t\022\017\n\007" +
+      "content\030\003 \001(\t\022\013\n\003ttl\030\004 \001(\t\022\020\n\010uniqueId\030\005" +
+      " \001(\t\022\016\n\006seqNum\030\006 \001(\t\022\013\n\003tag\030\007 \001(\t\022V\n\npro" +
+      "perties\030\010 \003(\0132B.eventmesh.common.protoco" +
+      "l.grpc.Subscription.Reply.PropertiesEntr" +
+      "y\0321\n\017PropertiesEntry\022\013\n\003key\030\001 \001(\t\022\r\n\005val" +
+      "ue\030\002 \001(\t:\0028\001\"\340\002\n\tHeartbeat\022=\n\006header\030\001 \001" +
+      "(\0132-.eventmesh.common.protocol.grpc.Requ" +
+      "estHeader\022H\n\nclientType\030\002 \001(\01624.eventmes" +
+      "h.common.protocol.grpc.Heartbeat.ClientT" +
+      "ype\022\025\n\rproducerGroup\030\003 \001(\t\022\025\n\rconsumerGr" +
+      "oup\030\004 \001(\t\022O\n\016heartbeatItems\030\005 \003(\01327.even" +
+      "tmesh.common.protocol.grpc.Heartbeat.Hea" +
+      "rtbeatItem\032+\n\rHeartbeatItem\022\r\n\005topic\030\001 \001" +
+      "(\t\022\013\n\003url\030\002 \001(\t\"\036\n\nClientType\022\007\n\003PUB\020\000\022\007" +
+      "\n\003SUB\020\001\"\263\005\n\nCloudEvent\022\016\n\002id\030\001 \001(\tR\002id\022\026" +
+      "\n\006source\030\002 \001(\tR\006source\022!\n\014spec_version\030\003" +
+      " \001(\tR\013specVersion\022\022\n\004type\030\004 \001(\tR\004type\022Z\n" +
+      "\nattributes\030\005 \003(\0132:.eventmesh.common.pro" +
+      "tocol.grpc.CloudEvent.AttributesEntryR\na" +
+      "ttributes\022!\n\013binary_data\030\006 \001(\014H\000R\nbinary" +
+      "Data\022\035\n\ttext_data\030\007 \001(\tH\000R\010textData\032\202\001\n\017" +
+      "AttributesEntry\022\020\n\003key\030\001 \001(\tR\003key\022Y\n\005val" +
+      "ue\030\002 \001(\0132C.eventmesh.common.protocol.grp" +
+      "c.CloudEvent.CloudEventAttributeValueR\005v" +
+      "alue:\0028\001\032\232\002\n\030CloudEventAttributeValue\022\037\n" +
+      "\nce_boolean\030\001 \001(\010H\000R\tceBoolean\022\037\n\nce_int" +
+      "eger\030\002 \001(\005H\000R\tceInteger\022\035\n\tce_string\030\003 \001" +
+      "(\tH\000R\010ceString\022\033\n\010ce_bytes\030\004 \001(\014H\000R\007ceBy" +
+      "tes\022\027\n\006ce_uri\030\005 \001(\tH\000R\005ceUri\022\036\n\nce_uri_r" +
+      "ef\030\006 \001(\tH\000R\010ceUriRef\022?\n\014ce_timestamp\030\007 \001" +
+      "(\0132\032.google.protobuf.TimestampH\000R\013ceTime" +
+      "stampB\006\n\004attrB\006\n\004data2\272\003\n\020PublisherServi" +
+      "ce\022b\n\007publish\022-.eventmesh.common.protoco" +
+      "l.grpc.SimpleMessage\032(.eventmesh.common." +
+      "protocol.grpc.Response\022l\n\014requestReply\022-" +
+      ".eventmesh.common.protocol.grpc.SimpleMe" +
+      "ssage\032-.eventmesh.common.protocol.grpc.S" +
+      "impleMessage\022f\n\014batchPublish\022,.eventmesh" +
+      ".common.protocol.grpc.BatchMessage\032(.eve" +
+      "ntmesh.common.protocol.grpc.Response\022l\n\r" +
+      "publishStream\022-.eventmesh.common.protoco" +
+      "l.grpc.SimpleMessage\032(.eventmesh.common." +
+      "protocol.grpc.Response(\0010\0012\321\002\n\017ConsumerS" +
+      "ervice\022c\n\tsubscribe\022,.eventmesh.common.p" +
+      "rotocol.grpc.Subscription\032(.eventmesh.co" +
+      "mmon.protocol.grpc.Response\022r\n\017subscribe" +
+      "Stream\022,.eventmesh.common.protocol.grpc." +
+      "Subscription\032-.eventmesh.common.protocol" +
+      ".grpc.SimpleMessage(\0010\001\022e\n\013unsubscribe\022," +
+      ".eventmesh.common.protocol.grpc.Subscrip" +
+      "tion\032(.eventmesh.common.protocol.grpc.Re" +
+      "sponse2t\n\020HeartbeatService\022`\n\theartbeat\022" +
+      ").eventmesh.common.protocol.grpc.Heartbe" +
+      "at\032(.eventmesh.common.protocol.grpc.Resp" +
+      "onseBC\n0org.apache.eventmesh.common.prot" +
+      "ocol.grpc.protosB\rEventmeshGrpcP\001b\006proto" +
+      "3"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -198,6 +239,7 @@ public final class EventmeshGrpc {
     com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
         new com.google.protobuf.Descriptors.FileDescriptor[] {
+          com.google.protobuf.TimestampProto.getDescriptor(),
         }, assigner);
     internal_static_eventmesh_common_protocol_grpc_RequestHeader_descriptor =
       getDescriptor().getMessageTypes().get(0);
@@ -210,7 +252,7 @@ public final class EventmeshGrpc {
     internal_static_eventmesh_common_protocol_grpc_SimpleMessage_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_eventmesh_common_protocol_grpc_SimpleMessage_descriptor,
-        new String[] { "Header", "ProducerGroup", "Topic", "Content", "Ttl", "UniqueId", "SeqNum", "Tag", "Properties", });
+        new String[] { "Header", "ProducerGroup", "Topic", "Content", "Ttl", "UniqueId", "SeqNum", "Tag", "Properties", "CloudEvent", });
     internal_static_eventmesh_common_protocol_grpc_SimpleMessage_PropertiesEntry_descriptor =
       internal_static_eventmesh_common_protocol_grpc_SimpleMessage_descriptor.getNestedTypes().get(0);
     internal_static_eventmesh_common_protocol_grpc_SimpleMessage_PropertiesEntry_fieldAccessorTable = new
@@ -228,7 +270,7 @@ public final class EventmeshGrpc {
     internal_static_eventmesh_common_protocol_grpc_BatchMessage_MessageItem_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_eventmesh_common_protocol_grpc_BatchMessage_MessageItem_descriptor,
-        new String[] { "Content", "Ttl", "UniqueId", "SeqNum", "Tag", "Properties", });
+        new String[] { "Content", "Ttl", "UniqueId", "SeqNum", "Tag", "Properties", "CloudEvent", });
     internal_static_eventmesh_common_protocol_grpc_BatchMessage_MessageItem_PropertiesEntry_descriptor =
       internal_static_eventmesh_common_protocol_grpc_BatchMessage_MessageItem_descriptor.getNestedTypes().get(0);
     internal_static_eventmesh_common_protocol_grpc_BatchMessage_MessageItem_PropertiesEntry_fieldAccessorTable = new
@@ -240,7 +282,7 @@ public final class EventmeshGrpc {
     internal_static_eventmesh_common_protocol_grpc_Response_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_eventmesh_common_protocol_grpc_Response_descriptor,
-        new String[] { "RespCode", "RespMsg", "RespTime", });
+        new String[] { "RespCode", "RespMsg", "RespTime", "SeqNum", });
     internal_static_eventmesh_common_protocol_grpc_Subscription_descriptor =
       getDescriptor().getMessageTypes().get(4);
     internal_static_eventmesh_common_protocol_grpc_Subscription_fieldAccessorTable = new
@@ -277,6 +319,25 @@ public final class EventmeshGrpc {
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_eventmesh_common_protocol_grpc_Heartbeat_HeartbeatItem_descriptor,
         new String[] { "Topic", "Url", });
+    internal_static_eventmesh_common_protocol_grpc_CloudEvent_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_eventmesh_common_protocol_grpc_CloudEvent_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_eventmesh_common_protocol_grpc_CloudEvent_descriptor,
+        new String[] { "Id", "Source", "SpecVersion", "Type", "Attributes", "BinaryData", "TextData", "Data", });
+    internal_static_eventmesh_common_protocol_grpc_CloudEvent_AttributesEntry_descriptor =
+      internal_static_eventmesh_common_protocol_grpc_CloudEvent_descriptor.getNestedTypes().get(0);
+    internal_static_eventmesh_common_protocol_grpc_CloudEvent_AttributesEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_eventmesh_common_protocol_grpc_CloudEvent_AttributesEntry_descriptor,
+        new String[] { "Key", "Value", });
+    internal_static_eventmesh_common_protocol_grpc_CloudEvent_CloudEventAttributeValue_descriptor =
+      internal_static_eventmesh_common_protocol_grpc_CloudEvent_descriptor.getNestedTypes().get(1);
+    internal_static_eventmesh_common_protocol_grpc_CloudEvent_CloudEventAttributeValue_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_eventmesh_common_protocol_grpc_CloudEvent_CloudEventAttributeValue_descriptor,
+        new String[] { "CeBoolean", "CeInteger", "CeString", "CeBytes", "CeUri", "CeUriRef", "CeTimestamp", "Attr", });
+    com.google.protobuf.TimestampProto.getDescriptor();
   }
 
   // @@protoc_insertion_point(outer_class_scope)
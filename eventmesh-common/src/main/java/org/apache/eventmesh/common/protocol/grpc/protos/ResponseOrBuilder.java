@@ -54,4 +54,22 @@ public interface ResponseOrBuilder extends
    */
   com.google.protobuf.ByteString
       getRespTimeBytes();
+
+  /**
+   * <pre>
+   * seqNum of the acknowledged message, only set on the acks of publishStream
+   * </pre>
+   *
+   * <code>string seqNum = 4;</code>
+   */
+  String getSeqNum();
+  /**
+   * <pre>
+   * seqNum of the acknowledged message, only set on the acks of publishStream
+   * </pre>
+   *
+   * <code>string seqNum = 4;</code>
+   */
+  com.google.protobuf.ByteString
+      getSeqNumBytes();
 }
@@ -141,4 +141,29 @@ public interface SimpleMessageOrBuilder extends
 
   String getPropertiesOrThrow(
       String key);
+
+  /**
+   * <pre>
+   * the event in the CloudEvents protobuf format, used instead of content
+   * </pre>
+   *
+   * <code>.eventmesh.common.protocol.grpc.CloudEvent cloudEvent = 10;</code>
+   */
+  boolean hasCloudEvent();
+  /**
+   * <pre>
+   * the event in the CloudEvents protobuf format, used instead of content
+   * </pre>
+   *
+   * <code>.eventmesh.common.protocol.grpc.CloudEvent cloudEvent = 10;</code>
+   */
+  CloudEvent getCloudEvent();
+  /**
+   * <pre>
+   * the event in the CloudEvents protobuf format, used instead of content
+   * </pre>
+   *
+   * <code>.eventmesh.common.protocol.grpc.CloudEvent cloudEvent = 10;</code>
+   */
+  CloudEventOrBuilder getCloudEventOrBuilder();
 }
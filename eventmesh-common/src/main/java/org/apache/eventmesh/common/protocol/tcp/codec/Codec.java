@@ -29,17 +29,19 @@ import org.apache.eventmesh.common.utils.JsonUtils;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 
-import java.util.Arrays;
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.TimeZone;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
 import io.netty.handler.codec.MessageToByteEncoder;
-import io.netty.handler.codec.ReplayingDecoder;
+import io.netty.util.AttributeKey;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -54,7 +56,19 @@ public class Codec {
     private static final int FRAME_MAX_LENGTH = 1024 * 1024 * 4;
 
     private static final byte[] CONSTANT_MAGIC_FLAG = serializeBytes("EventMesh");
-    private static final byte[] VERSION = serializeBytes("0000");
+    private static final int VERSION_LENGTH = 4;
+    private static final int LENGTH_FIELD_LENGTH = 4;
+
+    /**
+     * Magic flag and version, the length field follows them.
+     */
+    private static final int PREFIX_LENGTH = CONSTANT_MAGIC_FLAG.length + VERSION_LENGTH;
+
+    /**
+     * Codec version of the frames written to a channel, it is set by the client before HELLO_REQUEST and by the
+     * server when it decodes HELLO_REQUEST. Channels without this attribute use {@link CodecVersion#JSON}.
+     */
+    public static final AttributeKey<CodecVersion> CODEC_VERSION = AttributeKey.valueOf(Codec.class, "codec-version");
 
     // todo: move to constants
     public static final String CLOUD_EVENTS_PROTOCOL_NAME = "cloudevents";
@@ -82,105 +96,201 @@ public class Codec {
                 LOG.debug("Encoder pkg={}", JsonUtils.serialize(pkg));
             }
 
-            final byte[] headerData = serializeBytes(OBJECT_MAPPER.writeValueAsString(header));
             final byte[] bodyData;
-
             if (StringUtils.equals(CLOUD_EVENTS_PROTOCOL_NAME, header.getStringProperty(Constants.PROTOCOL_TYPE))) {
                 bodyData = (byte[]) pkg.getBody();
             } else {
                 bodyData = serializeBytes(OBJECT_MAPPER.writeValueAsString(pkg.getBody()));
             }
+            int bodyLength = ArrayUtils.getLength(bodyData);
 
+            final CodecVersion version = getCodecVersion(ctx);
+            out.writeBytes(CONSTANT_MAGIC_FLAG);
+            out.writeBytes(version.getFlag());
+            if (version == CodecVersion.BINARY) {
+                encodeBinary(header, bodyData, bodyLength, out);
+            } else {
+                encodeJson(header, bodyData, bodyLength, out);
+            }
+        }
+
+        private void encodeJson(Header header, byte[] bodyData, int bodyLength, ByteBuf out) throws Exception {
+            final byte[] headerData = serializeBytes(OBJECT_MAPPER.writeValueAsString(header));
             int headerLength = ArrayUtils.getLength(headerData);
-            int bodyLength = ArrayUtils.getLength(bodyData);
 
             int length = 4 + 4 + headerLength + bodyLength;
+            checkFrameLength(length);
 
-            if (length > FRAME_MAX_LENGTH) {
-                throw new IllegalArgumentException("message size is exceed limit!");
-            }
-
-            out.writeBytes(CONSTANT_MAGIC_FLAG);
-            out.writeBytes(VERSION);
             out.writeInt(length);
             out.writeInt(headerLength);
-            if (headerData != null) {
-                out.writeBytes(headerData);
+            out.writeBytes(headerData);
+            if (bodyData != null) {
+                out.writeBytes(bodyData);
             }
+        }
+
+        /**
+         * The header is written straight into the frame buffer, the length fields are filled in afterwards.
+         */
+        private void encodeBinary(Header header, byte[] bodyData, int bodyLength, ByteBuf out) {
+            final int lengthIndex = out.writerIndex();
+            out.writeInt(0);
+            out.writeInt(0);
+            BinaryHeaderSerializer.write(header, out);
+            int headerLength = out.writerIndex() - lengthIndex - 8;
+
+            int length = 4 + 4 + headerLength + bodyLength;
+            checkFrameLength(length);
+
+            out.setInt(lengthIndex, length);
+            out.setInt(lengthIndex + 4, headerLength);
             if (bodyData != null) {
                 out.writeBytes(bodyData);
             }
         }
+
+        private void checkFrameLength(int length) {
+            if (length > FRAME_MAX_LENGTH) {
+                throw new IllegalArgumentException("message size is exceed limit!");
+            }
+        }
+
+        private CodecVersion getCodecVersion(ChannelHandlerContext ctx) {
+            if (ctx == null) {
+                return CodecVersion.JSON;
+            }
+            CodecVersion version = ctx.channel().attr(CODEC_VERSION).get();
+            return version == null ? CodecVersion.JSON : version;
+        }
     }
 
-    public static class Decoder extends ReplayingDecoder<Package> {
-        @Override
-        public void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) throws Exception {
-            try {
-                if (null == in) {
-                    return;
-                }
+    /**
+     * Frames are split by the length field first, a frame is parsed only when all of its bytes have arrived. The
+     * magic flag and version are checked as soon as the prefix is readable and frames longer than
+     * {@link #FRAME_MAX_LENGTH} are rejected before they are buffered.
+     */
+    public static class Decoder extends LengthFieldBasedFrameDecoder {
 
-                byte[] flagBytes = parseFlag(in);
-                byte[] versionBytes = parseVersion(in);
-                validateFlag(flagBytes, versionBytes, ctx);
+        /**
+         * Version of the frame being buffered, null until its prefix has been validated
+         */
+        private CodecVersion prefixVersion;
 
-                final int length = in.readInt();
-                final int headerLength = in.readInt();
-                final int bodyLength = length - 8 - headerLength;
-                Header header = parseHeader(in, headerLength);
-                Object body = parseBody(in, header, bodyLength);
+        public Decoder() {
+            super(PREFIX_LENGTH + FRAME_MAX_LENGTH, PREFIX_LENGTH, LENGTH_FIELD_LENGTH, -LENGTH_FIELD_LENGTH, 0);
+        }
 
-                Package pkg = new Package(header, body);
-                out.add(pkg);
+        @Override
+        protected Object decode(ChannelHandlerContext ctx, ByteBuf in) throws Exception {
+            if (null == in) {
+                return null;
+            }
+            if (prefixVersion == null && in.readableBytes() >= PREFIX_LENGTH) {
+                prefixVersion = validatePrefix(in, in.readerIndex(), ctx);
+            }
+            ByteBuf frame;
+            try {
+                frame = (ByteBuf) super.decode(ctx, in);
             } catch (Exception e) {
-                LOG.error(String.format("decode error| receive: %s.", deserializeBytes(in.array())), e);
+                prefixVersion = null;
                 throw e;
             }
+            if (frame == null) {
+                return null;
+            }
+            CodecVersion version = prefixVersion;
+            prefixVersion = null;
+            try {
+                return decodeFrame(ctx, frame, version);
+            } catch (Exception e) {
+                // the frame may be large or binary, only its size is logged
+                LOG.error("decode error|frameLength={}|remoteAddress={}", frame.capacity(),
+                        ctx == null ? null : ctx.channel().remoteAddress(), e);
+                throw e;
+            } finally {
+                frame.release();
+            }
         }
 
-        private byte[] parseFlag(ByteBuf in) {
-            final byte[] flagBytes = new byte[CONSTANT_MAGIC_FLAG.length];
-            in.readBytes(flagBytes);
-            return flagBytes;
+        private Package decodeFrame(ChannelHandlerContext ctx, ByteBuf frame, CodecVersion version) throws Exception {
+            frame.skipBytes(PREFIX_LENGTH);
+
+            final int length = frame.readInt();
+            final int headerLength = frame.readInt();
+            final int bodyLength = length - 8 - headerLength;
+            Header header = version == CodecVersion.BINARY
+                    ? parseBinaryHeader(frame, headerLength) : parseHeader(frame, headerLength);
+            Object body = parseBody(frame, header, bodyLength);
+            negotiateCodecVersion(ctx, header, version);
+
+            return new Package(header, body);
         }
 
-        private byte[] parseVersion(ByteBuf in) {
-            final byte[] versionBytes = new byte[VERSION.length];
-            in.readBytes(versionBytes);
-            return versionBytes;
+        /**
+         * Checks the magic flag and version in place, the prefix is only copied out to build the error message.
+         */
+        private CodecVersion validatePrefix(ByteBuf in, int index, ChannelHandlerContext ctx) {
+            CodecVersion version = CodecVersion.of(in, index + CONSTANT_MAGIC_FLAG.length);
+            boolean validFlag = true;
+            for (int i = 0; validFlag && i < CONSTANT_MAGIC_FLAG.length; i++) {
+                validFlag = in.getByte(index + i) == CONSTANT_MAGIC_FLAG[i];
+            }
+            if (!validFlag || version == null) {
+                String errorMsg = String.format("invalid magic flag or version|flag=%s|version=%s|remoteAddress=%s",
+                        in.toString(index, CONSTANT_MAGIC_FLAG.length, Constants.DEFAULT_CHARSET),
+                        in.toString(index + CONSTANT_MAGIC_FLAG.length, VERSION_LENGTH, Constants.DEFAULT_CHARSET),
+                        ctx == null ? null : ctx.channel().remoteAddress());
+                throw new IllegalArgumentException(errorMsg);
+            }
+            return version;
         }
 
-        private Header parseHeader(ByteBuf in, int headerLength) throws JsonProcessingException {
+        private Header parseHeader(ByteBuf in, int headerLength) throws IOException {
             if (headerLength <= 0) {
                 return null;
             }
-            final byte[] headerData = new byte[headerLength];
-            in.readBytes(headerData);
             if (LOG.isDebugEnabled()) {
-                LOG.debug("Decode headerJson={}", deserializeBytes(headerData));
+                LOG.debug("Decode headerJson={}", in.toString(in.readerIndex(), headerLength, Constants.DEFAULT_CHARSET));
+            }
+            try (InputStream headerData = new ByteBufInputStream(in, headerLength)) {
+                return OBJECT_MAPPER.readValue(headerData, Header.class);
+            }
+        }
+
+        private Header parseBinaryHeader(ByteBuf in, int headerLength) {
+            if (headerLength <= 0) {
+                return null;
             }
-            return OBJECT_MAPPER.readValue(deserializeBytes(headerData), Header.class);
+            final int headerStart = in.readerIndex();
+            Header header = BinaryHeaderSerializer.read(in);
+            if (in.readerIndex() - headerStart != headerLength) {
+                throw new IllegalArgumentException(String.format("invalid binary header|headerLength=%d|read=%d",
+                        headerLength, in.readerIndex() - headerStart));
+            }
+            return header;
         }
 
         private Object parseBody(ByteBuf in, Header header, int bodyLength) throws JsonProcessingException {
             if (bodyLength <= 0 || header == null) {
                 return null;
             }
-            final byte[] bodyData = new byte[bodyLength];
-            in.readBytes(bodyData);
+            // decode the body straight from the frame buffer instead of copying it into an intermediate byte[]
+            final String bodyJson = in.readCharSequence(bodyLength, Constants.DEFAULT_CHARSET).toString();
             if (LOG.isDebugEnabled()) {
-                LOG.debug("Decode bodyJson={}", deserializeBytes(bodyData));
+                LOG.debug("Decode bodyJson={}", bodyJson);
             }
-            return deserializeBody(deserializeBytes(bodyData), header);
+            return deserializeBody(bodyJson, header);
         }
 
-        private void validateFlag(byte[] flagBytes, byte[] versionBytes, ChannelHandlerContext ctx) {
-            if (!Arrays.equals(flagBytes, CONSTANT_MAGIC_FLAG) || !Arrays.equals(versionBytes, VERSION)) {
-                String errorMsg = String.format("invalid magic flag or version|flag=%s|version=%s|remoteAddress=%s",
-                        deserializeBytes(flagBytes), deserializeBytes(versionBytes), ctx.channel().remoteAddress());
-                throw new IllegalArgumentException(errorMsg);
+        /**
+         * The server answers a client in the codec version of its HELLO_REQUEST, clients of older versions keep
+         * talking JSON.
+         */
+        private void negotiateCodecVersion(ChannelHandlerContext ctx, Header header, CodecVersion version) {
+            if (ctx == null || header == null || header.getCmd() != Command.HELLO_REQUEST) {
+                return;
             }
+            ctx.channel().attr(CODEC_VERSION).set(version);
         }
     }
 
@@ -218,16 +328,6 @@ public class Codec {
         }
     }
 
-    /**
-     * Deserialize bytes to String.
-     *
-     * @param bytes
-     * @return
-     */
-    private static String deserializeBytes(byte[] bytes) {
-        return new String(bytes, Constants.DEFAULT_CHARSET);
-    }
-
     /**
      * Serialize String to bytes.
      *
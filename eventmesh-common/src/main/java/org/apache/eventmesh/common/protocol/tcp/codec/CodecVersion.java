@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.common.protocol.tcp.codec;
+
+import org.apache.eventmesh.common.Constants;
+
+import java.util.Arrays;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Wire format versions understood by {@link Codec}. The version is written right after the magic flag of every
+ * frame, the encoder of a channel uses the version negotiated by the HELLO_REQUEST frame of that channel.
+ */
+public enum CodecVersion {
+
+    /**
+     * Header serialized as a JSON document.
+     */
+    JSON("0000"),
+
+    /**
+     * Header serialized as length-prefixed primitives, see {@link BinaryHeaderSerializer}.
+     */
+    BINARY("0001");
+
+    private static final CodecVersion[] VERSIONS = values();
+
+    private final byte[] flag;
+
+    CodecVersion(String flag) {
+        this.flag = flag.getBytes(Constants.DEFAULT_CHARSET);
+    }
+
+    public byte[] getFlag() {
+        return flag;
+    }
+
+    public static CodecVersion of(byte[] flag) {
+        for (CodecVersion version : VERSIONS) {
+            if (Arrays.equals(version.flag, flag)) {
+                return version;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Matches the version flag at the given index of the buffer without copying it.
+     */
+    public static CodecVersion of(ByteBuf buf, int index) {
+        for (CodecVersion version : VERSIONS) {
+            if (version.matches(buf, index)) {
+                return version;
+            }
+        }
+        return null;
+    }
+
+    private boolean matches(ByteBuf buf, int index) {
+        for (int i = 0; i < flag.length; i++) {
+            if (buf.getByte(index + i) != flag[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
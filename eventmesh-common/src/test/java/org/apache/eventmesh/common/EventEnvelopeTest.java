@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.common;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.AdditionalAnswers;
+import org.mockito.Mockito;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+import io.cloudevents.jackson.JsonFormat;
+import io.cloudevents.rw.CloudEventContextWriter;
+
+public class EventEnvelopeTest {
+
+    @Test
+    public void testWithExtension() {
+        CloudEvent event = createEvent();
+        EventEnvelope envelope = EventEnvelope.wrap(event)
+            .withExtension("timestamp", "1")
+            .withExtension("retries", 2)
+            .withExtension("route", "runtime");
+
+        Assert.assertEquals("1", envelope.getExtension("timestamp"));
+        Assert.assertEquals(2, envelope.getExtension("retries"));
+        Assert.assertEquals("runtime", envelope.getExtension("route"));
+        Assert.assertEquals("client", envelope.getExtension("subsystem"));
+        Assert.assertEquals(4, envelope.getExtensionNames().size());
+        Assert.assertEquals(event.getId(), envelope.getId());
+        Assert.assertEquals(event.getSubject(), envelope.getSubject());
+        Assert.assertSame(event.getData(), envelope.getData());
+        Assert.assertEquals("origin", event.getExtension("route"));
+        Assert.assertNull(event.getExtension("timestamp"));
+    }
+
+    @Test
+    public void testWrap() {
+        EventEnvelope envelope = EventEnvelope.wrap(createEvent());
+        Assert.assertSame(envelope, EventEnvelope.wrap(envelope));
+    }
+
+    @Test
+    public void testCopyOf() {
+        CloudEvent event = createEvent();
+        EventEnvelope envelope = EventEnvelope.wrap(event).withExtension("timestamp", "1");
+        EventEnvelope copy = EventEnvelope.copyOf(envelope).withExtension("timestamp", "2");
+
+        Assert.assertEquals("1", envelope.getExtension("timestamp"));
+        Assert.assertEquals("2", copy.getExtension("timestamp"));
+        Assert.assertSame(event, EventEnvelope.unwrap(copy));
+    }
+
+    @Test
+    public void testToCloudEvent() {
+        CloudEvent event = createEvent();
+        EventEnvelope envelope = EventEnvelope.wrap(event);
+        Assert.assertSame(event, envelope.toCloudEvent());
+
+        envelope.withExtension("timestamp", "1").withExtension("retries", 2).withExtension("redirect", true);
+        CloudEvent materialized = EventEnvelope.materialize(envelope);
+        Assert.assertFalse(materialized instanceof EventEnvelope);
+        Assert.assertSame(materialized, envelope.toCloudEvent());
+        Assert.assertEquals("1", materialized.getExtension("timestamp"));
+        Assert.assertEquals(2, materialized.getExtension("retries"));
+        Assert.assertEquals(true, materialized.getExtension("redirect"));
+        Assert.assertEquals("client", materialized.getExtension("subsystem"));
+        Assert.assertEquals(event.getId(), materialized.getId());
+
+        envelope.withExtension("timestamp", "2");
+        Assert.assertNotSame(materialized, envelope.toCloudEvent());
+        Assert.assertEquals("2", envelope.toCloudEvent().getExtension("timestamp"));
+    }
+
+    @Test
+    public void testUnwrap() {
+        CloudEvent event = createEvent();
+        Assert.assertSame(event, EventEnvelope.unwrap(event));
+        Assert.assertSame(event, EventEnvelope.unwrap(EventEnvelope.wrap(event).withExtension("timestamp", "1")));
+        Assert.assertSame(event, EventEnvelope.materialize(event));
+    }
+
+    @Test
+    public void testReadContext() {
+        EventEnvelope envelope = EventEnvelope.wrap(createEvent())
+            .withExtension("route", "runtime")
+            .withExtension("retries", 2);
+        Map<String, String> context = new HashMap<>();
+        envelope.readContext(new CloudEventContextWriter() {
+            @Override
+            public CloudEventContextWriter withContextAttribute(String name, String value) {
+                context.put(name, value);
+                return this;
+            }
+        });
+
+        Assert.assertEquals("1", context.get("id"));
+        Assert.assertEquals("client", context.get("subsystem"));
+        Assert.assertEquals("runtime", context.get("route"));
+        Assert.assertEquals("2", context.get("retries"));
+    }
+
+    @Test
+    public void testSerializeRepeatedExtension() throws Exception {
+        EventEnvelope envelope = EventEnvelope.wrap(createEvent())
+            .withExtension("route", "runtime")
+            .withExtension("retries", 1)
+            .withExtension("route", "retry")
+            .withExtension("retries", 2);
+        String json = new String(new JsonFormat().serialize(envelope), StandardCharsets.UTF_8);
+
+        Assert.assertEquals(1, countOf(json, "\"route\""));
+        Assert.assertEquals(1, countOf(json, "\"retries\""));
+        CloudEvent deserialized = new JsonFormat().deserialize(json.getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals("retry", deserialized.getExtension("route"));
+        Assert.assertEquals(2, deserialized.getExtension("retries"));
+        Assert.assertEquals("client", deserialized.getExtension("subsystem"));
+        Assert.assertEquals(envelope.toCloudEvent(), deserialized);
+    }
+
+    @Test
+    public void testSerializeEventWithoutContextReader() throws Exception {
+        CloudEvent event = createEvent();
+        // an event that only implements CloudEvent, so the envelope writes its attributes itself
+        CloudEvent plainEvent = Mockito.mock(CloudEvent.class, AdditionalAnswers.delegatesTo(event));
+        EventEnvelope envelope = EventEnvelope.wrap(plainEvent).withExtension("route", "runtime");
+        String json = new String(new JsonFormat().serialize(envelope), StandardCharsets.UTF_8);
+
+        Assert.assertEquals(1, countOf(json, "\"route\""));
+        CloudEvent deserialized = new JsonFormat().deserialize(json.getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals(event.getId(), deserialized.getId());
+        Assert.assertEquals(event.getSource(), deserialized.getSource());
+        Assert.assertEquals(event.getType(), deserialized.getType());
+        Assert.assertEquals(event.getSubject(), deserialized.getSubject());
+        Assert.assertEquals("runtime", deserialized.getExtension("route"));
+        Assert.assertEquals("client", deserialized.getExtension("subsystem"));
+    }
+
+    private static int countOf(String text, String token) {
+        int count = 0;
+        for (int index = text.indexOf(token); index >= 0; index = text.indexOf(token, index + token.length())) {
+            count++;
+        }
+        return count;
+    }
+
+    private CloudEvent createEvent() {
+        return CloudEventBuilder.v1()
+            .withId("1")
+            .withSource(URI.create("/"))
+            .withType("test")
+            .withSubject("topic")
+            .withData("text/plain", "content".getBytes(StandardCharsets.UTF_8))
+            .withExtension("subsystem", "client")
+            .withExtension("route", "origin")
+            .build();
+    }
+}
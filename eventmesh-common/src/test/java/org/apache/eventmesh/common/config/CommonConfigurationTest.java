@@ -18,6 +18,7 @@
 package org.apache.eventmesh.common.config;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.junit.Assert;
@@ -55,6 +56,14 @@ public class CommonConfigurationTest {
 
         Assert.assertEquals(Integer.valueOf(816), config.getEventMeshRegisterIntervalInMills());
         Assert.assertEquals(Integer.valueOf(1816), config.getEventMeshFetchRegistryAddrInterval());
+        Assert.assertEquals(Integer.valueOf(20), config.getEventMeshRetryTickInMills());
+        Assert.assertEquals(Integer.valueOf(256), config.getEventMeshRetryWheelSize());
+        Assert.assertEquals(Integer.valueOf(2816), config.getEventMeshRetryGroupMaxPending());
+        Assert.assertEquals(816, config.getEventMeshRateLimitGroupPermitsPerSecond());
+        Assert.assertEquals(1816, config.getEventMeshRateLimitTopicPermitsPerSecond());
+        Assert.assertEquals(Collections.singletonMap("group-succeed!!!", 16), config.getEventMeshRateLimitGroupPermits());
+        Assert.assertEquals(Collections.singletonMap("topic-succeed!!!", 8), config.getEventMeshRateLimitTopicPermits());
+        Assert.assertEquals(2816, config.getEventMeshRateLimitReloadIntervalInMills());
 
         List<String> list = new ArrayList<>();
         list.add("metrics-succeed1!!!");
@@ -70,6 +79,8 @@ public class CommonConfigurationTest {
 
         Assert.assertTrue(config.isEventMeshServerSecurityEnable());
         Assert.assertTrue(config.isEventMeshServerRegistryEnable());
+        Assert.assertEquals("nio", config.getEventMeshServerNettyTransport());
+        Assert.assertEquals(4, config.getEventMeshServerNettyAcceptorNum());
         Assert.assertTrue(config.isEventMeshServerTraceEnable());
 
         Assert.assertEquals("eventmesh.idc-succeed!!!", config.getEventMeshWebhookOrigin());
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.common.enums;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.EventLoopGroup;
+
+public class NettyTransportTest {
+
+    @Test
+    public void testOf() {
+        Assert.assertEquals(NettyTransport.NIO, NettyTransport.of("nio"));
+        Assert.assertEquals(NettyTransport.NIO, NettyTransport.of("NIO"));
+        Assert.assertTrue(NettyTransport.of(null).isAvailable());
+        Assert.assertTrue(NettyTransport.of("auto").isAvailable());
+        Assert.assertTrue(NettyTransport.of("io_uring").isAvailable());
+        Assert.assertEquals(NettyTransport.of("auto"), NettyTransport.of("unknown"));
+    }
+
+    @Test
+    public void testConnect() throws Exception {
+        for (NettyTransport transport : NettyTransport.values()) {
+            if (transport.isAvailable()) {
+                connect(transport, 1);
+            }
+        }
+    }
+
+    @Test
+    public void testConnectWithReusePort() throws Exception {
+        Assume.assumeTrue(NettyTransport.EPOLL.isAvailable());
+        connect(NettyTransport.EPOLL, 2);
+    }
+
+    private void connect(NettyTransport transport, int acceptorNum) throws Exception {
+        EventLoopGroup group = transport.newEventLoopGroup(2, null);
+        List<Channel> serverChannels = new ArrayList<>();
+        try {
+            ServerBootstrap serverBootstrap = new ServerBootstrap()
+                .group(group)
+                .channel(transport.getServerChannelClass())
+                .childHandler(new ChannelInboundHandlerAdapter());
+            if (acceptorNum > 1) {
+                serverBootstrap.option(transport.getReusePortOption(), true);
+            }
+            serverChannels.add(serverBootstrap.bind("127.0.0.1", 0).sync().channel());
+            int port = ((InetSocketAddress) serverChannels.get(0).localAddress()).getPort();
+            for (int i = 1; i < acceptorNum; i++) {
+                serverChannels.add(serverBootstrap.bind("127.0.0.1", port).sync().channel());
+            }
+
+            Channel channel = new Bootstrap()
+                .group(group)
+                .channel(transport.getChannelClass())
+                .handler(new ChannelInboundHandlerAdapter())
+                .connect("127.0.0.1", port).sync().channel();
+            Assert.assertTrue(channel.isActive());
+            channel.close().sync();
+        } finally {
+            for (Channel serverChannel : serverChannels) {
+                serverChannel.close().sync();
+            }
+            group.shutdownGracefully().sync();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.common.protocol.grpc.common;
+
+import org.apache.eventmesh.common.protocol.grpc.protos.SimpleMessage;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+
+public class CloudEventProtoConverterTest {
+
+    @Test
+    public void testRoundTripThroughSimpleMessage() throws Exception {
+        CloudEvent event = CloudEventBuilder.v1()
+            .withId("id-1")
+            .withSource(URI.create("/source"))
+            .withType("test.type")
+            .withSubject("TEST-TOPIC")
+            .withDataContentType("application/json")
+            .withTime(OffsetDateTime.of(2022, 1, 2, 3, 4, 5, 6000, ZoneOffset.UTC))
+            .withExtension("seqnum", "123")
+            .withExtension("retry", 3)
+            .withExtension("flag", true)
+            .withData("{\"k\":\"v\"}".getBytes(StandardCharsets.UTF_8))
+            .build();
+
+        SimpleMessage message = SimpleMessage.newBuilder()
+            .setTopic("TEST-TOPIC")
+            .setCloudEvent(CloudEventProtoConverter.toProto(event))
+            .build();
+        SimpleMessage parsed = SimpleMessage.parseFrom(message.toByteArray());
+
+        Assert.assertTrue(parsed.hasCloudEvent());
+        Assert.assertEquals("", parsed.getContent());
+        Assert.assertEquals("{\"k\":\"v\"}", parsed.getCloudEvent().getTextData());
+        Assert.assertEquals(event, CloudEventProtoConverter.fromProto(parsed.getCloudEvent()));
+    }
+
+    @Test
+    public void testBinaryData() {
+        byte[] data = new byte[] {0, 1, 2, (byte) 0xff};
+        CloudEvent event = CloudEventBuilder.v1()
+            .withId("id-2")
+            .withSource(URI.create("/source"))
+            .withType("test.type")
+            .withData(data)
+            .build();
+
+        org.apache.eventmesh.common.protocol.grpc.protos.CloudEvent proto = CloudEventProtoConverter.toProto(event);
+
+        Assert.assertArrayEquals(data, proto.getBinaryData().toByteArray());
+        Assert.assertArrayEquals(data, CloudEventProtoConverter.fromProto(proto).getData().toBytes());
+    }
+
+    @Test
+    public void testMessageWithoutCloudEvent() throws Exception {
+        SimpleMessage message = SimpleMessage.newBuilder().setContent("content").build();
+        SimpleMessage parsed = SimpleMessage.parseFrom(message.toByteArray());
+
+        Assert.assertFalse(parsed.hasCloudEvent());
+        Assert.assertEquals(message, parsed);
+    }
+}
@@ -17,17 +17,20 @@
 
 package org.apache.eventmesh.common.protocol.tcp.codec;
 
+import org.apache.eventmesh.common.Constants;
 import org.apache.eventmesh.common.protocol.tcp.Command;
 import org.apache.eventmesh.common.protocol.tcp.Header;
 import org.apache.eventmesh.common.protocol.tcp.Package;
-
-import java.util.ArrayList;
+import org.apache.eventmesh.common.protocol.tcp.UserAgent;
 
 import org.junit.Assert;
 import org.junit.Test;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.DecoderException;
+import io.netty.handler.codec.TooLongFrameException;
 
 public class CodecTest {
 
@@ -41,10 +44,95 @@ public class CodecTest {
         ByteBuf buf = PooledByteBufAllocator.DEFAULT.buffer();
         ce.encode(null, testP, buf);
         Codec.Decoder cd = new Codec.Decoder();
-        ArrayList<Object> result = new ArrayList<>();
-        cd.decode(null, buf, result);
-        Assert.assertNotNull(result.get(0));
-        Assert.assertEquals(testP.getHeader(), ((Package) result.get(0)).getHeader());
+        Object result = cd.decode(null, buf);
+        Assert.assertNotNull(result);
+        Assert.assertEquals(testP.getHeader(), ((Package) result).getHeader());
+    }
+
+    @Test
+    public void testBinaryCodec() {
+        Header header = new Header(Command.ASYNC_MESSAGE_TO_SERVER, 0, null, "seq-1");
+        header.putProperty(Constants.PROTOCOL_TYPE, Codec.CLOUD_EVENTS_PROTOCOL_NAME);
+        header.putProperty("intKey", 1);
+        header.putProperty("longKey", Long.MAX_VALUE);
+        header.putProperty("boolKey", true);
+        header.putProperty("nullKey", null);
+        Package testP = new Package(header, "{\"id\":\"1\"}".getBytes(Constants.DEFAULT_CHARSET));
+
+        EmbeddedChannel channel = new EmbeddedChannel(new Codec.Encoder(), new Codec.Decoder());
+        channel.attr(Codec.CODEC_VERSION).set(CodecVersion.BINARY);
+        Assert.assertTrue(channel.writeOutbound(testP));
+        ByteBuf buf = channel.readOutbound();
+        Assert.assertEquals("0001", buf.toString(9, 4, Constants.DEFAULT_CHARSET));
+
+        Assert.assertTrue(channel.writeInbound(buf));
+        Package result = channel.readInbound();
+        Assert.assertEquals(header, result.getHeader());
+        Assert.assertEquals("{\"id\":\"1\"}", result.getBody());
+        channel.finish();
+    }
+
+    @Test
+    public void testCodecVersionNegotiatedByHello() {
+        EmbeddedChannel client = new EmbeddedChannel(new Codec.Encoder());
+        client.attr(Codec.CODEC_VERSION).set(CodecVersion.BINARY);
+        Package hello = new Package(new Header(Command.HELLO_REQUEST, 0, null, "seq-1"), UserAgent.builder().group("group").build());
+        Assert.assertTrue(client.writeOutbound(hello));
+
+        EmbeddedChannel server = new EmbeddedChannel(new Codec.Encoder(), new Codec.Decoder());
+        Assert.assertNull(server.attr(Codec.CODEC_VERSION).get());
+        Assert.assertTrue(server.writeInbound((ByteBuf) client.readOutbound()));
+        Package result = server.readInbound();
+        Assert.assertEquals("group", ((UserAgent) result.getBody()).getGroup());
+        Assert.assertEquals(CodecVersion.BINARY, server.attr(Codec.CODEC_VERSION).get());
+
+        Assert.assertTrue(server.writeOutbound(new Package(new Header(Command.HELLO_RESPONSE, 0, "success", "seq-1"))));
+        ByteBuf response = server.readOutbound();
+        Assert.assertEquals("0001", response.toString(9, 4, Constants.DEFAULT_CHARSET));
+        response.release();
+        client.finish();
+        server.finish();
+    }
+
+    @Test
+    public void testDecodeFragmentedFrames() {
+        EmbeddedChannel channel = new EmbeddedChannel(new Codec.Encoder(), new Codec.Decoder());
+        for (int i = 0; i < 3; i++) {
+            Header header = new Header(Command.ASYNC_MESSAGE_TO_SERVER, 0, null, "seq-" + i);
+            header.putProperty(Constants.PROTOCOL_TYPE, Codec.CLOUD_EVENTS_PROTOCOL_NAME);
+            Assert.assertTrue(channel.writeOutbound(new Package(header, ("body-" + i).getBytes(Constants.DEFAULT_CHARSET))));
+        }
+        ByteBuf frames = PooledByteBufAllocator.DEFAULT.buffer();
+        for (ByteBuf frame = channel.readOutbound(); frame != null; frame = channel.readOutbound()) {
+            frames.writeBytes(frame);
+            frame.release();
+        }
+
+        while (frames.isReadable()) {
+            channel.writeInbound(frames.readRetainedSlice(Math.min(7, frames.readableBytes())));
+        }
+        frames.release();
+        for (int i = 0; i < 3; i++) {
+            Package result = channel.readInbound();
+            Assert.assertEquals("seq-" + i, result.getHeader().getSeq());
+            Assert.assertEquals("body-" + i, result.getBody());
+        }
+        Assert.assertNull(channel.readInbound());
+        channel.finish();
     }
 
+    @Test(expected = TooLongFrameException.class)
+    public void testDecodeTooLongFrame() {
+        ByteBuf buf = PooledByteBufAllocator.DEFAULT.buffer();
+        buf.writeCharSequence("EventMesh0000", Constants.DEFAULT_CHARSET);
+        buf.writeInt(Integer.MAX_VALUE);
+        new EmbeddedChannel(new Codec.Decoder()).writeInbound(buf);
+    }
+
+    @Test(expected = DecoderException.class)
+    public void testDecodeInvalidVersion() {
+        ByteBuf buf = PooledByteBufAllocator.DEFAULT.buffer();
+        buf.writeCharSequence("EventMesh9999", Constants.DEFAULT_CHARSET);
+        new EmbeddedChannel(new Codec.Decoder()).writeInbound(buf);
+    }
 }
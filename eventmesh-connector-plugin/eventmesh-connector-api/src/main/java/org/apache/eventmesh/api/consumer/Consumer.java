@@ -23,7 +23,10 @@ import org.apache.eventmesh.api.LifeCycle;
 import org.apache.eventmesh.spi.EventMeshExtensionType;
 import org.apache.eventmesh.spi.EventMeshSPI;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 import io.cloudevents.CloudEvent;
@@ -38,6 +41,19 @@ public interface Consumer extends LifeCycle {
 
     void updateOffset(List<CloudEvent> cloudEvents, AbstractContext context);
 
+    /**
+     * Acknowledge events consumed with different contexts at once, e.g. the events of a batch push.
+     * {@code contexts.get(i)} is the context {@code cloudEvents.get(i)} was consumed with.
+     * The default updates the offset once per context.
+     */
+    default void updateOffsetBatch(List<CloudEvent> cloudEvents, List<AbstractContext> contexts) {
+        Map<AbstractContext, List<CloudEvent>> eventsByContext = new IdentityHashMap<>();
+        for (int i = 0; i < cloudEvents.size(); i++) {
+            eventsByContext.computeIfAbsent(contexts.get(i), context -> new ArrayList<>()).add(cloudEvents.get(i));
+        }
+        eventsByContext.forEach((context, events) -> updateOffset(events, context));
+    }
+
     void subscribe(String topic) throws Exception;
 
     void unsubscribe(String topic);
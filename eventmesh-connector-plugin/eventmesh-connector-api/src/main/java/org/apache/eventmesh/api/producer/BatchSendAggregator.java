@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.api.producer;
+
+import org.apache.eventmesh.api.BatchSendCallback;
+import org.apache.eventmesh.api.SendCallback;
+import org.apache.eventmesh.api.SendResult;
+import org.apache.eventmesh.api.exception.ConnectorRuntimeException;
+import org.apache.eventmesh.api.exception.OnExceptionContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import io.cloudevents.CloudEvent;
+
+/**
+ * Collect the result of each event of a batch sent by several requests, and invoke the {@link BatchSendCallback}
+ * once all of them are known. The result of an event may be reported from any thread, only the first result of
+ * an event counts.
+ */
+public class BatchSendAggregator {
+
+    private final List<CloudEvent> cloudEvents;
+
+    private final BatchSendCallback batchSendCallback;
+
+    /**
+     * the {@link SendResult} or the {@link OnExceptionContext} of each event
+     */
+    private final AtomicReferenceArray<Object> results;
+
+    private final AtomicInteger pending;
+
+    public BatchSendAggregator(List<CloudEvent> cloudEvents, BatchSendCallback batchSendCallback) {
+        this.cloudEvents = cloudEvents;
+        this.batchSendCallback = batchSendCallback;
+        this.results = new AtomicReferenceArray<>(cloudEvents.size());
+        this.pending = new AtomicInteger(cloudEvents.size());
+        if (cloudEvents.isEmpty()) {
+            batchSendCallback.onSuccess(Collections.emptyList());
+        }
+    }
+
+    /**
+     * @return the callback reporting the result of the event at {@code index} of the batch
+     */
+    public SendCallback callbackOf(int index) {
+        return new SendCallback() {
+            @Override
+            public void onSuccess(SendResult sendResult) {
+                BatchSendAggregator.this.onSuccess(index, sendResult);
+            }
+
+            @Override
+            public void onException(OnExceptionContext context) {
+                BatchSendAggregator.this.onException(index, context);
+            }
+        };
+    }
+
+    public void onSuccess(int index, SendResult sendResult) {
+        if (results.compareAndSet(index, null, sendResult == null ? new SendResult() : sendResult)) {
+            complete();
+        }
+    }
+
+    public void onException(int index, OnExceptionContext context) {
+        if (results.compareAndSet(index, null, context == null ? new OnExceptionContext() : context)) {
+            complete();
+        }
+    }
+
+    public void onException(int index, Throwable throwable) {
+        CloudEvent cloudEvent = cloudEvents.get(index);
+        onException(index, OnExceptionContext.builder()
+            .messageId(cloudEvent.getId())
+            .topic(cloudEvent.getSubject())
+            .exception(throwable instanceof ConnectorRuntimeException
+                ? (ConnectorRuntimeException) throwable : new ConnectorRuntimeException(throwable))
+            .build());
+    }
+
+    private void complete() {
+        if (pending.decrementAndGet() != 0) {
+            return;
+        }
+        List<SendResult> sendResults = new ArrayList<>(cloudEvents.size());
+        List<CloudEvent> failedEvents = new ArrayList<>();
+        OnExceptionContext firstException = null;
+        for (int i = 0; i < cloudEvents.size(); i++) {
+            Object result = results.get(i);
+            if (result instanceof SendResult) {
+                sendResults.add((SendResult) result);
+            } else {
+                failedEvents.add(cloudEvents.get(i));
+                firstException = firstException == null ? (OnExceptionContext) result : firstException;
+            }
+        }
+        if (failedEvents.isEmpty()) {
+            batchSendCallback.onSuccess(sendResults);
+        } else {
+            batchSendCallback.onException(failedEvents, firstException);
+        }
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.eventmesh.api.producer;
 
+import org.apache.eventmesh.api.BatchSendCallback;
 import org.apache.eventmesh.api.LifeCycle;
 import org.apache.eventmesh.api.RequestReplyCallback;
 import org.apache.eventmesh.api.SendCallback;
@@ -24,6 +25,7 @@ import org.apache.eventmesh.api.SendResult;
 import org.apache.eventmesh.spi.EventMeshExtensionType;
 import org.apache.eventmesh.spi.EventMeshSPI;
 
+import java.util.List;
 import java.util.Properties;
 
 import io.cloudevents.CloudEvent;
@@ -38,6 +40,21 @@ public interface Producer extends LifeCycle {
 
     void publish(CloudEvent cloudEvent, SendCallback sendCallback) throws Exception;
 
+    /**
+     * Publish the events with as few requests to the broker as the connector allows, the callback is invoked once
+     * the result of every event is known. The default publishes the events one by one.
+     */
+    default void publishBatch(List<CloudEvent> cloudEvents, BatchSendCallback batchSendCallback) throws Exception {
+        BatchSendAggregator aggregator = new BatchSendAggregator(cloudEvents, batchSendCallback);
+        for (int i = 0; i < cloudEvents.size(); i++) {
+            try {
+                publish(cloudEvents.get(i), aggregator.callbackOf(i));
+            } catch (Exception e) {
+                aggregator.onException(i, e);
+            }
+        }
+    }
+
     void sendOneway(final CloudEvent cloudEvent);
 
     void request(CloudEvent cloudEvent, RequestReplyCallback rrCallback, long timeout) throws Exception;
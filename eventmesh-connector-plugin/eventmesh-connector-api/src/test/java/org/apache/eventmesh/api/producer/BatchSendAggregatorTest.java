@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.eventmesh.api.producer;
+
+import org.apache.eventmesh.api.BatchSendCallback;
+import org.apache.eventmesh.api.SendResult;
+import org.apache.eventmesh.api.exception.ConnectorRuntimeException;
+import org.apache.eventmesh.api.exception.OnExceptionContext;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+
+public class BatchSendAggregatorTest {
+
+    @Test
+    public void testAllSucceeded() {
+        RecordingCallback callback = new RecordingCallback();
+        BatchSendAggregator aggregator = new BatchSendAggregator(createEvents(3), callback);
+        for (int i = 2; i >= 0; i--) {
+            Assert.assertEquals(0, callback.invocations);
+            aggregator.onSuccess(i, sendResult("message-" + i));
+        }
+
+        Assert.assertEquals(1, callback.invocations);
+        Assert.assertEquals(3, callback.sendResults.size());
+        // the results keep the order of the batch, not the order they were reported in
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals("message-" + i, callback.sendResults.get(i).getMessageId());
+        }
+    }
+
+    @Test
+    public void testPartialFailure() {
+        List<CloudEvent> cloudEvents = createEvents(4);
+        RecordingCallback callback = new RecordingCallback();
+        BatchSendAggregator aggregator = new BatchSendAggregator(cloudEvents, callback);
+        aggregator.onSuccess(0, sendResult("message-0"));
+        aggregator.onException(3, new IllegalStateException("fourth"));
+        aggregator.callbackOf(1).onException(OnExceptionContext.builder().messageId("1").build());
+        aggregator.callbackOf(2).onSuccess(sendResult("message-2"));
+
+        Assert.assertEquals(1, callback.invocations);
+        Assert.assertNull(callback.sendResults);
+        Assert.assertEquals(Arrays.asList(cloudEvents.get(1), cloudEvents.get(3)), callback.failedEvents);
+        // the context of the first failed event of the batch, not the first one reported
+        Assert.assertEquals("1", callback.context.getMessageId());
+    }
+
+    @Test
+    public void testThrowableWrappedInContext() {
+        List<CloudEvent> cloudEvents = createEvents(1);
+        RecordingCallback callback = new RecordingCallback();
+        IllegalStateException exception = new IllegalStateException("failed");
+        new BatchSendAggregator(cloudEvents, callback).onException(0, exception);
+
+        Assert.assertEquals(1, callback.invocations);
+        Assert.assertEquals("0", callback.context.getMessageId());
+        Assert.assertEquals("topic", callback.context.getTopic());
+        Assert.assertTrue(callback.context.getException() instanceof ConnectorRuntimeException);
+        Assert.assertSame(exception, callback.context.getException().getCause());
+    }
+
+    @Test
+    public void testEmptyBatch() {
+        RecordingCallback callback = new RecordingCallback();
+        new BatchSendAggregator(Collections.emptyList(), callback);
+
+        Assert.assertEquals(1, callback.invocations);
+        Assert.assertTrue(callback.sendResults.isEmpty());
+    }
+
+    @Test
+    public void testSlotReportedTwice() {
+        RecordingCallback callback = new RecordingCallback();
+        BatchSendAggregator aggregator = new BatchSendAggregator(createEvents(2), callback);
+        aggregator.onSuccess(0, sendResult("message-0"));
+        // a late result of a slot already known neither completes the batch nor replaces the first result
+        aggregator.onException(0, new IllegalStateException("late"));
+        aggregator.onSuccess(0, sendResult("duplicate"));
+        Assert.assertEquals(0, callback.invocations);
+
+        aggregator.onSuccess(1, sendResult("message-1"));
+        aggregator.onSuccess(1, sendResult("duplicate"));
+        aggregator.onException(1, new IllegalStateException("late"));
+
+        Assert.assertEquals(1, callback.invocations);
+        Assert.assertEquals("message-0", callback.sendResults.get(0).getMessageId());
+        Assert.assertEquals("message-1", callback.sendResults.get(1).getMessageId());
+    }
+
+    @Test
+    public void testCallbackFiredOnceWithConcurrentResults() throws InterruptedException {
+        int size = 1000;
+        RecordingCallback callback = new RecordingCallback();
+        BatchSendAggregator aggregator = new BatchSendAggregator(createEvents(size), callback);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            // every thread reports every slot, each slot counts once whichever thread wins
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < size; i++) {
+                    aggregator.onSuccess(i, null);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Assert.assertEquals(1, callback.invocations);
+        Assert.assertEquals(size, callback.sendResults.size());
+    }
+
+    static List<CloudEvent> createEvents(int size) {
+        List<CloudEvent> cloudEvents = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            cloudEvents.add(CloudEventBuilder.v1()
+                .withId(String.valueOf(i))
+                .withSource(URI.create("testsource"))
+                .withType("testType")
+                .withSubject("topic")
+                .build());
+        }
+        return cloudEvents;
+    }
+
+    static SendResult sendResult(String messageId) {
+        SendResult sendResult = new SendResult();
+        sendResult.setMessageId(messageId);
+        return sendResult;
+    }
+
+    static class RecordingCallback implements BatchSendCallback {
+
+        volatile int invocations;
+
+        volatile List<SendResult> sendResults;
+
+        volatile List<CloudEvent> failedEvents;
+
+        volatile OnExceptionContext context;
+
+        @Override
+        public synchronized void onSuccess(List<SendResult> sendResults) {
+            this.invocations++;
+            this.sendResults = sendResults;
+        }
+
+        @Override
+        public synchronized void onException(List<CloudEvent> failedEvents, OnExceptionContext context) {
+            this.invocations++;
+            this.failedEvents = failedEvents;
+            this.context = context;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.eventmesh.api.producer;
+
+import org.apache.eventmesh.api.RequestReplyCallback;
+import org.apache.eventmesh.api.SendCallback;
+import org.apache.eventmesh.api.exception.OnExceptionContext;
+import org.apache.eventmesh.api.producer.BatchSendAggregatorTest.RecordingCallback;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.cloudevents.CloudEvent;
+
+public class ProducerTest {
+
+    @Test
+    public void testPublishBatchPublishesEachEvent() throws Exception {
+        List<CloudEvent> cloudEvents = BatchSendAggregatorTest.createEvents(3);
+        List<SendCallback> sendCallbacks = new ArrayList<>();
+        RecordingCallback callback = new RecordingCallback();
+        new TestProducer((cloudEvent, sendCallback) -> sendCallbacks.add(sendCallback)).publishBatch(cloudEvents, callback);
+
+        Assert.assertEquals(3, sendCallbacks.size());
+        // the callbacks complete asynchronously, the batch is done once all of them have
+        sendCallbacks.get(1).onSuccess(BatchSendAggregatorTest.sendResult("message-1"));
+        sendCallbacks.get(0).onSuccess(BatchSendAggregatorTest.sendResult("message-0"));
+        Assert.assertEquals(0, callback.invocations);
+        sendCallbacks.get(2).onSuccess(BatchSendAggregatorTest.sendResult("message-2"));
+
+        Assert.assertEquals(1, callback.invocations);
+        Assert.assertEquals("message-0", callback.sendResults.get(0).getMessageId());
+        Assert.assertEquals("message-2", callback.sendResults.get(2).getMessageId());
+    }
+
+    @Test
+    public void testPublishBatchReportsFailedEvents() throws Exception {
+        List<CloudEvent> cloudEvents = BatchSendAggregatorTest.createEvents(3);
+        RecordingCallback callback = new RecordingCallback();
+        new TestProducer((cloudEvent, sendCallback) -> {
+            switch (cloudEvent.getId()) {
+                case "0":
+                    throw new IllegalStateException("publish failed");
+                case "1":
+                    sendCallback.onSuccess(BatchSendAggregatorTest.sendResult("message-1"));
+                    break;
+                default:
+                    sendCallback.onException(OnExceptionContext.builder().messageId(cloudEvent.getId()).build());
+                    break;
+            }
+        }).publishBatch(cloudEvents, callback);
+
+        // an event whose publish throws is failed, the following events are still published
+        Assert.assertEquals(1, callback.invocations);
+        Assert.assertEquals(Arrays.asList(cloudEvents.get(0), cloudEvents.get(2)), callback.failedEvents);
+        Assert.assertEquals("0", callback.context.getMessageId());
+        Assert.assertEquals("publish failed", callback.context.getException().getCause().getMessage());
+    }
+
+    interface Publisher {
+
+        void publish(CloudEvent cloudEvent, SendCallback sendCallback) throws Exception;
+    }
+
+    /**
+     * A producer implementing only {@link Producer#publish}, so that {@link Producer#publishBatch} is the default
+     */
+    static class TestProducer implements Producer {
+
+        private final Publisher publisher;
+
+        TestProducer(Publisher publisher) {
+            this.publisher = publisher;
+        }
+
+        @Override
+        public void publish(CloudEvent cloudEvent, SendCallback sendCallback) throws Exception {
+            publisher.publish(cloudEvent, sendCallback);
+        }
+
+        @Override
+        public void init(Properties properties) {
+        }
+
+        @Override
+        public boolean isStarted() {
+            return true;
+        }
+
+        @Override
+        public boolean isClosed() {
+            return false;
+        }
+
+        @Override
+        public void start() {
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public void sendOneway(CloudEvent cloudEvent) {
+        }
+
+        @Override
+        public void request(CloudEvent cloudEvent, RequestReplyCallback rrCallback, long timeout) {
+        }
+
+        @Override
+        public boolean reply(CloudEvent cloudEvent, SendCallback sendCallback) {
+            return false;
+        }
+
+        @Override
+        public void checkTopicExist(String topic) {
+        }
+
+        @Override
+        public void setExtFields() {
+        }
+    }
+}
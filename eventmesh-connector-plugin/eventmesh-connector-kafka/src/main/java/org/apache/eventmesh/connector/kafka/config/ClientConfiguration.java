@@ -23,6 +23,14 @@ import org.apache.eventmesh.common.config.ConfigFiled;
 @Config(prefix = "eventMesh.server.kafka", path = "classPath://kafka-client.properties")
 public class ClientConfiguration {
 
+    public static final long DEFAULT_COMMIT_INTERVAL_MS = 1000L;
+
+    public static final int DEFAULT_MAX_RECONSUME_TIMES = 16;
+
+    public static final long DEFAULT_RECONSUME_BACKOFF_MS = 1000L;
+
+    public static final long DEFAULT_MANUAL_ACK_TIMEOUT_MS = 60_000L;
+
     @ConfigFiled(field = "namesrvAddr", notEmpty = true)
     public String namesrvAddr = "";
 
@@ -62,6 +70,15 @@ public class ClientConfiguration {
     @ConfigFiled(field = "client.rebalanceInterval")
     public Integer rebalanceInterval = 20 * 1000;
 
+    @ConfigFiled(field = "client.maxReconsumeTimes")
+    public Integer maxReconsumeTimes = DEFAULT_MAX_RECONSUME_TIMES;
+
+    @ConfigFiled(field = "client.reconsumeBackoffInMills")
+    public long reconsumeBackoff = DEFAULT_RECONSUME_BACKOFF_MS;
+
+    @ConfigFiled(field = "client.manualAckTimeoutInMills")
+    public long manualAckTimeout = DEFAULT_MANUAL_ACK_TIMEOUT_MS;
+
     @ConfigFiled(field = "cluster")
     public String clusterName = "";
 
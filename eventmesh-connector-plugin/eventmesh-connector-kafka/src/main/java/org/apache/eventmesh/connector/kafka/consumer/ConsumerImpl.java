@@ -19,20 +19,22 @@ package org.apache.eventmesh.connector.kafka.consumer;
 
 import org.apache.eventmesh.api.AbstractContext;
 import org.apache.eventmesh.api.EventListener;
-import org.apache.eventmesh.api.exception.ConnectorRuntimeException;
+import org.apache.eventmesh.common.ThreadPoolFactory;
+import org.apache.eventmesh.connector.kafka.config.ClientConfiguration;
 
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
-import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.serialization.StringDeserializer;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.slf4j.Logger;
@@ -48,10 +50,11 @@ public class ConsumerImpl {
     private AtomicBoolean started = new AtomicBoolean(false);
     private EventListener eventListener;
     private KafkaConsumerRunner kafkaConsumerRunner;
-    private ExecutorService executorService;
+    private ExecutorService pollExecutor;
+    private ThreadPoolExecutor consumeExecutor;
     private Set<String> topicsSet;
 
-    public ConsumerImpl(final Properties properties) {
+    public ConsumerImpl(final Properties properties, ClientConfiguration clientConfiguration) {
         Properties props = new Properties();
 
         // Other config props
@@ -60,11 +63,20 @@ public class ConsumerImpl {
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
         props.put(ConsumerConfig.GROUP_ID_CONFIG, properties.getProperty(ConsumerConfig.GROUP_ID_CONFIG));
         props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, clientConfiguration.pullBatchSize);
 
         this.properties = props;
         this.kafkaConsumer = new KafkaConsumer<String, CloudEvent>(props);
-        kafkaConsumerRunner = new KafkaConsumerRunner(this.kafkaConsumer);
-        executorService = Executors.newFixedThreadPool(10);
+        // a pool on an unbounded queue never grows past its core size, so the core is sized to consumeThreadMax and idle
+        // threads time out instead; the queue holds at most one task per assigned partition
+        int consumeThreads = Math.max(clientConfiguration.consumeThreadMin, clientConfiguration.consumeThreadMax);
+        consumeExecutor = ThreadPoolFactory.createThreadPoolExecutor(consumeThreads, consumeThreads, new LinkedBlockingQueue<>(),
+            "kafka-consume-%d", true);
+        consumeExecutor.allowCoreThreadTimeOut(true);
+        kafkaConsumerRunner = new KafkaConsumerRunner(this.kafkaConsumer, consumeExecutor, clientConfiguration.ackWindow,
+            ClientConfiguration.DEFAULT_COMMIT_INTERVAL_MS, clientConfiguration.maxReconsumeTimes, clientConfiguration.reconsumeBackoff,
+            clientConfiguration.manualAckTimeout);
+        pollExecutor = ThreadPoolFactory.createThreadPoolExecutor(1, 1, "kafka-poll-%d");
         topicsSet = new HashSet<>();
     }
 
@@ -74,14 +86,24 @@ public class ConsumerImpl {
 
     public void start() {
         if (this.started.compareAndSet(false, true)) {
-            executorService.submit(kafkaConsumerRunner);
+            pollExecutor.submit(kafkaConsumerRunner);
         }
     }
 
 
     public synchronized void shutdown() {
         if (this.started.compareAndSet(true, false)) {
-            this.kafkaConsumer.close();
+            // the poll thread owns the consumer, it commits the acked offsets and closes the consumer on its way out
+            this.kafkaConsumerRunner.shutdown();
+            pollExecutor.shutdown();
+            try {
+                if (!pollExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+                    logger.warn("kafka consumer poll loop didn't stop in time");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            consumeExecutor.shutdown();
         }
     }
 
@@ -95,43 +117,22 @@ public class ConsumerImpl {
         return !this.isStarted();
     }
 
-    public KafkaConsumer<String, CloudEvent> getKafkaConsumer() {
-        return kafkaConsumer;
-    }
-
     public synchronized void subscribe(String topic) {
-        try {
-            // Get the current subscription
-            topicsSet.add(topic);
-            List<String> topics = new ArrayList<>(topicsSet);
-            this.kafkaConsumer.subscribe(topics);
-        } catch (Exception e) {
-            logger.error("Error while subscribing the Kafka consumer to topic: ", e);
-            throw new ConnectorRuntimeException(
-                String.format("Kafka consumer can't attach to %s.", topic));
-        }
+        topicsSet.add(topic);
+        this.kafkaConsumerRunner.subscribe(topicsSet);
     }
 
     public synchronized void unsubscribe(String topic) {
-        try {
-            // Kafka will unsubscribe *all* topic if calling unsubscribe, so we
-            this.kafkaConsumer.unsubscribe();
-            topicsSet.remove(topic);
-            List<String> topics = new ArrayList<>(topicsSet);
-            this.kafkaConsumer.subscribe(topics);
-        } catch (Exception e) {
-            logger.error("Error while unsubscribing the Kafka consumer: ", e);
-            throw new ConnectorRuntimeException(String.format("kafka push consumer fails to unsubscribe topic: %s", topic));
-        }
+        topicsSet.remove(topic);
+        this.kafkaConsumerRunner.subscribe(topicsSet);
     }
 
     public void updateOffset(List<CloudEvent> cloudEvents, AbstractContext context) {
-        Long maxOffset = cloudEvents.stream().map(cloudEvent -> this.kafkaConsumerRunner.getOffset(cloudEvent)).max(Long::compare).get();
-        cloudEvents.forEach(cloudEvent -> this.updateOffset(cloudEvent.getSubject(), maxOffset));
+        this.kafkaConsumerRunner.updateOffset(Collections.singletonList(context));
     }
 
-    public void updateOffset(String topicName, long offset) {
-        this.kafkaConsumer.seek(new TopicPartition(topicName, 1), offset);
+    public void updateOffsetBatch(List<AbstractContext> contexts) {
+        this.kafkaConsumerRunner.updateOffset(contexts);
     }
 
     public void registerEventListener(EventListener listener) {
@@ -47,7 +47,7 @@ public class KafkaConsumerImpl implements Consumer {
         // Other config props
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, namesrvAddr);
         props.put(ConsumerConfig.GROUP_ID_CONFIG, consumerGroup);
-        consumer = new ConsumerImpl(props);
+        consumer = new ConsumerImpl(props, clientConfiguration);
     }
 
     @Override
@@ -55,6 +55,11 @@ public class KafkaConsumerImpl implements Consumer {
         consumer.updateOffset(cloudEvents, context);
     }
 
+    @Override
+    public void updateOffsetBatch(List<CloudEvent> cloudEvents, List<AbstractContext> contexts) {
+        consumer.updateOffsetBatch(contexts);
+    }
+
     @Override
     public void subscribe(String topic) throws Exception {
         consumer.subscribe(topic);
@@ -1,12 +1,12 @@
 /*
  * Licensed to the Apache Software Foundation (ASF) under one or more
- * contributor license agreements. See the NOTICE file distributed with
+ * contributor license agreements.  See the NOTICE file distributed with
  * this work for additional information regarding copyright ownership.
  * The ASF licenses this file to You under the Apache License, Version 2.0
  * (the "License"); you may not use this file except in compliance with
- * the License. You may obtain a copy of the License at
+ * the License.  You may obtain a copy of the License at
  *
- *    http://www.apache.org/licenses/LICENSE-2.0
+ *     http://www.apache.org/licenses/LICENSE-2.0
  *
  * Unless required by applicable law or agreed to in writing, software
  * distributed under the License is distributed on an "AS IS" BASIS,
@@ -17,102 +17,326 @@
 
 package org.apache.eventmesh.connector.kafka.consumer;
 
+import org.apache.eventmesh.api.AbstractContext;
 import org.apache.eventmesh.api.EventListener;
-import org.apache.eventmesh.api.EventMeshAction;
-import org.apache.eventmesh.api.EventMeshAsyncConsumeContext;
+import org.apache.eventmesh.common.ThreadPoolFactory;
+import org.apache.eventmesh.connector.kafka.config.ClientConfiguration;
 
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
-import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.errors.WakeupException;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.cloudevents.CloudEvent;
 
+/**
+ * Owns the kafka consumer, which is not thread safe, and runs its poll loop until shutdown.
+ * The records are handed to a {@link PartitionWorker} per partition, the acked offsets are committed
+ * asynchronously in batches once they are contiguous, and a partition is paused while too many of its
+ * records are pending.
+ */
 public class KafkaConsumerRunner implements Runnable {
+
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(500);
+
     private final Logger logger = LoggerFactory.getLogger(KafkaConsumerRunner.class);
+
     private final AtomicBoolean closed = new AtomicBoolean(false);
-    private final KafkaConsumer<String, CloudEvent> consumer;
-    private ConcurrentHashMap<CloudEvent, Long> cloudEventToOffset;
-    private EventListener listener;
-    private AtomicInteger offset;
 
-    public KafkaConsumerRunner(KafkaConsumer<String, CloudEvent> kafkaConsumer) {
-        this.consumer = kafkaConsumer;
-        cloudEventToOffset = new ConcurrentHashMap<>();
+    private final Consumer<String, CloudEvent> consumer;
+
+    private final Executor consumeExecutor;
+
+    private final int maxPendingPerPartition;
+
+    private final long commitIntervalMs;
+
+    private final int maxReconsumeTimes;
+
+    private final long reconsumeBackoffMs;
+
+    private final long manualAckTimeoutMs;
+
+    /**
+     * Hands the delayed records of the workers out again, shared by all the partitions
+     */
+    private final ScheduledExecutorService retryScheduler = ThreadPoolFactory.createSingleScheduledExecutor("kafka-reconsume-");
+
+    /**
+     * Workers of the assigned partitions, only modified by the poll thread
+     */
+    private final Map<TopicPartition, PartitionWorker> workers = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean subscriptionChanged = new AtomicBoolean(false);
+
+    private volatile Set<String> topics = Collections.emptySet();
+
+    private volatile EventListener listener;
+
+    private long lastCommitTime;
+
+    public KafkaConsumerRunner(Consumer<String, CloudEvent> consumer, Executor consumeExecutor, int maxPendingPerPartition,
+                               long commitIntervalMs) {
+        this(consumer, consumeExecutor, maxPendingPerPartition, commitIntervalMs, ClientConfiguration.DEFAULT_MAX_RECONSUME_TIMES,
+            ClientConfiguration.DEFAULT_RECONSUME_BACKOFF_MS);
+    }
+
+    /**
+     * @param maxReconsumeTimes  times a record is handed out again on ReconsumeLater before it is skipped
+     * @param reconsumeBackoffMs wait before the first reconsume of a record, doubled for each next one
+     */
+    public KafkaConsumerRunner(Consumer<String, CloudEvent> consumer, Executor consumeExecutor, int maxPendingPerPartition,
+                               long commitIntervalMs, int maxReconsumeTimes, long reconsumeBackoffMs) {
+        this(consumer, consumeExecutor, maxPendingPerPartition, commitIntervalMs, maxReconsumeTimes, reconsumeBackoffMs,
+            ClientConfiguration.DEFAULT_MANUAL_ACK_TIMEOUT_MS);
     }
 
-    public synchronized void setListener(EventListener listener) {
+    /**
+     * @param maxReconsumeTimes  times a record is handed out again on ReconsumeLater or a manual ack timeout before it is skipped
+     * @param reconsumeBackoffMs wait before the first reconsume of a record, doubled for each next one
+     * @param manualAckTimeoutMs wait for the ack of a record committed with ManualAck before consuming it again
+     */
+    public KafkaConsumerRunner(Consumer<String, CloudEvent> consumer, Executor consumeExecutor, int maxPendingPerPartition,
+                               long commitIntervalMs, int maxReconsumeTimes, long reconsumeBackoffMs, long manualAckTimeoutMs) {
+        this.consumer = consumer;
+        this.consumeExecutor = consumeExecutor;
+        this.maxPendingPerPartition = maxPendingPerPartition;
+        this.commitIntervalMs = commitIntervalMs;
+        this.maxReconsumeTimes = maxReconsumeTimes;
+        this.reconsumeBackoffMs = reconsumeBackoffMs;
+        this.manualAckTimeoutMs = manualAckTimeoutMs;
+    }
+
+    public void setListener(EventListener listener) {
         this.listener = listener;
     }
 
-    public long getOffset(CloudEvent cloudEvent) {
-        return cloudEventToOffset.getOrDefault(cloudEvent, 0L);
+    /**
+     * Replace the subscribed topics, applied by the poll thread
+     */
+    public void subscribe(Set<String> topics) {
+        this.topics = Collections.unmodifiableSet(new HashSet<>(topics));
+        subscriptionChanged.set(true);
+        consumer.wakeup();
+    }
+
+    /**
+     * Ack the records of the given contexts, their offsets are committed by the poll thread
+     */
+    public void updateOffset(List<AbstractContext> contexts) {
+        for (AbstractContext context : contexts) {
+            if (context instanceof KafkaRecordContext) {
+                ((KafkaRecordContext) context).ack();
+            } else {
+                logger.warn("can't update offset with context: {}", context);
+            }
+        }
     }
 
     @Override
     public void run() {
-        while (!closed.get()) {
-            try {
-                ConsumerRecords<String, CloudEvent> records = consumer.poll(Duration.ofMillis(10000));
-                // Handle new records
-                records.forEach(rec -> {
-                    try {
-                        CloudEvent cloudEvent = rec.value();
-                        String topicName = cloudEvent.getSubject();
-                        EventMeshAsyncConsumeContext eventMeshAsyncConsumeContext = new EventMeshAsyncConsumeContext() {
-                            @Override
-                            public void commit(EventMeshAction action) {
-                                switch (action) {
-                                    case CommitMessage:
-                                        // update offset
-                                        logger.info("message commit, topic: {}, current offset:{}", topicName,
-                                            rec.offset());
-                                        break;
-                                    case ReconsumeLater:
-                                        // don't update offset
-                                        break;
-                                    case ManualAck:
-                                        // update offset
-                                        logger
-                                            .info("message ack, topic: {}, current offset:{}", topicName, rec.offset());
-                                        break;
-                                    default:
-                                }
-                            }
-                        };
-                        cloudEventToOffset.put(cloudEvent, rec.offset());
-                        if (listener != null) {
-                            listener.consume(cloudEvent, eventMeshAsyncConsumeContext);
-                        }
-                    } catch (Exception e) {
-                        logger.info("Error parsing cloudevents: {}", e.getMessage());
+        try {
+            while (!closed.get()) {
+                try {
+                    if (subscriptionChanged.compareAndSet(true, false)) {
+                        applySubscription();
                     }
-                });
-            } catch (WakeupException e) {
-                // Ignore exception if closing
-                if (!closed.get()) {
-                    throw e;
+                    if (topics.isEmpty()) {
+                        Thread.sleep(POLL_TIMEOUT.toMillis());
+                        continue;
+                    }
+                    dispatch(consumer.poll(POLL_TIMEOUT));
+                    commitAcked(false);
+                    applyBackpressure();
+                } catch (WakeupException e) {
+                    // woken up to apply a new subscription or to shutdown
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                } catch (Exception e) {
+                    logger.error("kafka consumer poll loop error", e);
                 }
-            } finally {
-                consumer.close();
-                break;
             }
+        } finally {
+            try {
+                commitAcked(true);
+            } catch (Exception e) {
+                logger.warn("failed to commit offsets on shutdown", e);
+            }
+            workers.values().forEach(PartitionWorker::revoke);
+            workers.clear();
+            retryScheduler.shutdownNow();
+            consumer.close();
         }
     }
 
-    // Shutdown hook which can be called from a separate thread
+    private void applySubscription() {
+        Set<String> currentTopics = topics;
+        if (currentTopics.isEmpty()) {
+            consumer.unsubscribe();
+            revoke(new ArrayList<>(workers.keySet()));
+            return;
+        }
+        consumer.subscribe(currentTopics, new ConsumerRebalanceListener() {
+            @Override
+            public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+                commitBeforeRevoke(partitions);
+                revoke(partitions);
+            }
+
+            @Override
+            public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+                // workers are created on the first records of a partition
+            }
+
+            @Override
+            public void onPartitionsLost(Collection<TopicPartition> partitions) {
+                // the partitions belong to another member already, their offsets can't be committed
+                revoke(partitions);
+            }
+        });
+    }
+
+    private void dispatch(ConsumerRecords<String, CloudEvent> records) {
+        for (TopicPartition topicPartition : records.partitions()) {
+            workers.computeIfAbsent(topicPartition, tp -> new PartitionWorker(tp, consumeExecutor, retryScheduler, () -> listener,
+                    maxReconsumeTimes, reconsumeBackoffMs, manualAckTimeoutMs))
+                .submit(records.records(topicPartition));
+        }
+    }
+
+    private void commitAcked(boolean sync) {
+        long now = System.currentTimeMillis();
+        if (!sync && now - lastCommitTime < commitIntervalMs) {
+            return;
+        }
+        lastCommitTime = now;
+        Map<TopicPartition, OffsetAndMetadata> offsets = collectOffsets(workers.keySet());
+        if (offsets.isEmpty()) {
+            return;
+        }
+        if (sync) {
+            commitSync(offsets);
+            markCommitted(offsets);
+            return;
+        }
+        consumer.commitAsync(offsets, (committedOffsets, exception) -> {
+            if (exception != null) {
+                logger.warn("failed to commit offsets {}, retry in the next commit", committedOffsets, exception);
+                return;
+            }
+            markCommitted(committedOffsets);
+        });
+    }
+
+    private void commitBeforeRevoke(Collection<TopicPartition> partitions) {
+        Map<TopicPartition, OffsetAndMetadata> offsets = collectOffsets(partitions);
+        if (offsets.isEmpty()) {
+            return;
+        }
+        try {
+            commitSync(offsets);
+        } catch (Exception e) {
+            logger.warn("failed to commit offsets {} of the revoked partitions", offsets, e);
+        }
+    }
+
+    /**
+     * A wakeup of {@link #subscribe} or {@link #shutdown} which didn't land in poll aborts the next blocking call
+     * instead, commit again once it is consumed
+     */
+    private void commitSync(Map<TopicPartition, OffsetAndMetadata> offsets) {
+        try {
+            consumer.commitSync(offsets);
+        } catch (WakeupException e) {
+            consumer.commitSync(offsets);
+        }
+    }
+
+    private Map<TopicPartition, OffsetAndMetadata> collectOffsets(Collection<TopicPartition> partitions) {
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        for (TopicPartition topicPartition : partitions) {
+            PartitionWorker worker = workers.get(topicPartition);
+            if (worker != null && worker.getOffsetTracker().hasUncommittedAcks()) {
+                offsets.put(topicPartition, new OffsetAndMetadata(worker.getOffsetTracker().committableOffset()));
+            }
+        }
+        return offsets;
+    }
+
+    private void markCommitted(Map<TopicPartition, OffsetAndMetadata> offsets) {
+        offsets.forEach((topicPartition, offsetAndMetadata) -> {
+            PartitionWorker worker = workers.get(topicPartition);
+            if (worker != null) {
+                worker.getOffsetTracker().committed(offsetAndMetadata.offset());
+            }
+        });
+    }
+
+    private void revoke(Collection<TopicPartition> partitions) {
+        for (TopicPartition topicPartition : partitions) {
+            PartitionWorker worker = workers.remove(topicPartition);
+            if (worker != null) {
+                worker.revoke();
+            }
+        }
+    }
+
+    /**
+     * Pause the partitions with more pending records than allowed, resume them once half of those are acked
+     */
+    private void applyBackpressure() {
+        List<TopicPartition> toPause = new ArrayList<>();
+        List<TopicPartition> toResume = new ArrayList<>();
+        Set<TopicPartition> assignment = consumer.assignment();
+        for (Map.Entry<TopicPartition, PartitionWorker> entry : workers.entrySet()) {
+            if (!assignment.contains(entry.getKey())) {
+                continue;
+            }
+            PartitionWorker worker = entry.getValue();
+            int pendingCount = worker.getOffsetTracker().getPendingCount();
+            if (!worker.isPaused() && pendingCount >= maxPendingPerPartition) {
+                worker.setPaused(true);
+                toPause.add(entry.getKey());
+            } else if (worker.isPaused() && pendingCount <= maxPendingPerPartition / 2) {
+                worker.setPaused(false);
+                toResume.add(entry.getKey());
+            }
+        }
+        if (!toPause.isEmpty()) {
+            consumer.pause(toPause);
+            logger.info("pause partitions {} for backpressure", toPause);
+        }
+        if (!toResume.isEmpty()) {
+            consumer.resume(toResume);
+            logger.info("resume partitions {}", toResume);
+        }
+    }
+
+    /**
+     * Stop the poll loop, which commits the acked offsets and closes the consumer, can be called from any thread
+     */
     public void shutdown() {
         closed.set(true);
         consumer.wakeup();
     }
 }
-
-
-
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.connector.kafka.consumer;
+
+import org.apache.eventmesh.api.AbstractContext;
+
+/**
+ * Position of a consumed record, handed back by the runtime in updateOffset to ack the record
+ */
+public class KafkaRecordContext implements AbstractContext {
+
+    private final PartitionOffsetTracker offsetTracker;
+
+    private final long offset;
+
+    public KafkaRecordContext(PartitionOffsetTracker offsetTracker, long offset) {
+        this.offsetTracker = offsetTracker;
+        this.offset = offset;
+    }
+
+    public void ack() {
+        offsetTracker.ack(offset);
+    }
+
+    public long getOffset() {
+        return offset;
+    }
+
+    @Override
+    public String toString() {
+        return "KafkaRecordContext{" + offsetTracker.getTopicPartition() + "@" + offset + "}";
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.connector.kafka.consumer;
+
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks the offsets of one partition that are dispatched but not acked yet.
+ * The committable offset is the lowest pending one, so an ack out of order is only committed
+ * once all the offsets before it are acked too.
+ */
+public class PartitionOffsetTracker {
+
+    private final TopicPartition topicPartition;
+
+    private final ConcurrentSkipListSet<Long> pendingOffsets = new ConcurrentSkipListSet<>();
+
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    /**
+     * Offset after the last dispatched record, -1 if nothing is dispatched yet, only written by the poll thread
+     */
+    private volatile long nextOffset = -1L;
+
+    /**
+     * Last offset committed successfully, starting at the first dispatched offset, only accessed by the poll thread
+     */
+    private long committedOffset = -1L;
+
+    public PartitionOffsetTracker(TopicPartition topicPartition) {
+        this.topicPartition = topicPartition;
+    }
+
+    public void track(long offset) {
+        if (committedOffset < 0) {
+            committedOffset = offset;
+        }
+        if (pendingOffsets.add(offset)) {
+            pendingCount.incrementAndGet();
+        }
+        nextOffset = Math.max(nextOffset, offset + 1);
+    }
+
+    /**
+     * @return true if the offset was pending, acking an offset twice is a no-op
+     */
+    public boolean ack(long offset) {
+        if (pendingOffsets.remove(offset)) {
+            pendingCount.decrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    public boolean isPending(long offset) {
+        return pendingOffsets.contains(offset);
+    }
+
+    /**
+     * @return the offset to commit, which is the next one to consume, or -1 if nothing can be committed
+     */
+    public long committableOffset() {
+        long next = nextOffset;
+        Long lowestPending = pendingOffsets.ceiling(Long.MIN_VALUE);
+        return lowestPending == null ? next : lowestPending;
+    }
+
+    public boolean hasUncommittedAcks() {
+        return committableOffset() > committedOffset;
+    }
+
+    public void committed(long offset) {
+        committedOffset = Math.max(committedOffset, offset);
+    }
+
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    public TopicPartition getTopicPartition() {
+        return topicPartition;
+    }
+}
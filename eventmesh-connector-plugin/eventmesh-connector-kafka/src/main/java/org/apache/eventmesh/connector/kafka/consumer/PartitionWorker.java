@@ -0,0 +1,282 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.connector.kafka.consumer;
+
+import org.apache.eventmesh.api.EventListener;
+import org.apache.eventmesh.api.EventMeshAction;
+import org.apache.eventmesh.api.EventMeshAsyncConsumeContext;
+import org.apache.eventmesh.connector.kafka.config.ClientConfiguration;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.cloudevents.CloudEvent;
+
+/**
+ * Hands the records of one partition to the listener in offset order. At most one task of a worker
+ * runs on the shared executor at a time, so the partitions are consumed in parallel but each one in order.
+ * A record to reconsume goes back to the head of the partition, which waits for a backoff before handing it out again.
+ * A record left to the client with ManualAck is handed out again the same way if the client hasn't acked it within
+ * the manual ack timeout, so a lost ack can't hold back the commits of the partition forever.
+ */
+public class PartitionWorker implements Runnable {
+
+    private static final Logger logger = LoggerFactory.getLogger(PartitionWorker.class);
+
+    /**
+     * Records handled per task before yielding the thread to the other partitions
+     */
+    private static final int MAX_RECORDS_PER_TASK = 32;
+
+    /**
+     * The backoff doubles with each reconsume of a record, up to 2^MAX_BACKOFF_SHIFT times the initial backoff
+     */
+    private static final int MAX_BACKOFF_SHIFT = 5;
+
+    private static final long REJECTED_RETRY_DELAY_MS = 100L;
+
+    private final PartitionOffsetTracker offsetTracker;
+
+    private final Executor executor;
+
+    private final ScheduledExecutorService retryScheduler;
+
+    private final Supplier<EventListener> listenerSupplier;
+
+    private final int maxReconsumeTimes;
+
+    private final long reconsumeBackoffMs;
+
+    private final long manualAckTimeoutMs;
+
+    private final Deque<ConsumerRecord<String, CloudEvent>> records = new ConcurrentLinkedDeque<>();
+
+    /**
+     * Reconsume times of the records handed out again, by offset
+     */
+    private final Map<Long, Integer> reconsumeTimes = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+    private volatile boolean revoked = false;
+
+    /**
+     * No record is handed out before this {@link System#nanoTime()}, while a record to reconsume waits for its backoff.
+     * The retry scheduler measures its delays with the same clock, so a retry never finds the partition still delayed.
+     */
+    private volatile long resumeTime = System.nanoTime();
+
+    /**
+     * Whether the partition is paused for backpressure, only accessed by the poll thread
+     */
+    private boolean paused = false;
+
+    public PartitionWorker(TopicPartition topicPartition, Executor executor, ScheduledExecutorService retryScheduler,
+                           Supplier<EventListener> listenerSupplier, int maxReconsumeTimes, long reconsumeBackoffMs) {
+        this(topicPartition, executor, retryScheduler, listenerSupplier, maxReconsumeTimes, reconsumeBackoffMs,
+            ClientConfiguration.DEFAULT_MANUAL_ACK_TIMEOUT_MS);
+    }
+
+    /**
+     * @param manualAckTimeoutMs wait for the ack of a record the listener commits with ManualAck before handing it out
+     *                           again, no timeout if not positive
+     */
+    public PartitionWorker(TopicPartition topicPartition, Executor executor, ScheduledExecutorService retryScheduler,
+                           Supplier<EventListener> listenerSupplier, int maxReconsumeTimes, long reconsumeBackoffMs,
+                           long manualAckTimeoutMs) {
+        this.offsetTracker = new PartitionOffsetTracker(topicPartition);
+        this.executor = executor;
+        this.retryScheduler = retryScheduler;
+        this.listenerSupplier = listenerSupplier;
+        this.maxReconsumeTimes = maxReconsumeTimes;
+        this.reconsumeBackoffMs = reconsumeBackoffMs;
+        this.manualAckTimeoutMs = manualAckTimeoutMs;
+    }
+
+    /**
+     * Track and queue the records of a poll, called by the poll thread
+     */
+    public void submit(List<ConsumerRecord<String, CloudEvent>> partitionRecords) {
+        for (ConsumerRecord<String, CloudEvent> record : partitionRecords) {
+            offsetTracker.track(record.offset());
+            records.add(record);
+        }
+        schedule();
+    }
+
+    /**
+     * Stop handing records to the listener, the acks of the records in flight are ignored
+     */
+    public void revoke() {
+        revoked = true;
+        records.clear();
+        reconsumeTimes.clear();
+    }
+
+    @Override
+    public void run() {
+        try {
+            ConsumerRecord<String, CloudEvent> record;
+            for (int i = 0; i < MAX_RECORDS_PER_TASK && !revoked && !isDelayed() && (record = records.poll()) != null; i++) {
+                consume(record);
+            }
+        } finally {
+            scheduled.set(false);
+            if (!revoked && !records.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+
+    private void schedule() {
+        if (revoked || isDelayed() || !scheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(this);
+        } catch (RejectedExecutionException e) {
+            scheduled.set(false);
+            logger.warn("consume executor rejected the records of {}, retry in {}ms", offsetTracker.getTopicPartition(),
+                REJECTED_RETRY_DELAY_MS);
+            delay(REJECTED_RETRY_DELAY_MS);
+        }
+    }
+
+    private boolean isDelayed() {
+        return System.nanoTime() - resumeTime < 0;
+    }
+
+    /**
+     * Hold the records of the partition for the given time, then schedule them again
+     */
+    private void delay(long delayMs) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMs);
+        if (deadline - resumeTime > 0) {
+            resumeTime = deadline;
+        }
+        try {
+            retryScheduler.schedule(this::schedule, delayMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // the runner is stopping, the offsets of the queued records aren't committed so they are polled again
+            logger.warn("can't schedule the records of {} again, the consumer is shutting down", offsetTracker.getTopicPartition());
+        }
+    }
+
+    private void consume(ConsumerRecord<String, CloudEvent> record) {
+        CloudEvent cloudEvent = record.value();
+        KafkaRecordContext recordContext = new KafkaRecordContext(offsetTracker, record.offset());
+        EventListener listener = listenerSupplier.get();
+        if (cloudEvent == null || listener == null) {
+            logger.warn("skip record, no {}, {}", cloudEvent == null ? "cloudevent" : "listener", recordContext);
+            recordContext.ack();
+            return;
+        }
+
+        EventMeshAsyncConsumeContext eventMeshAsyncConsumeContext = new EventMeshAsyncConsumeContext() {
+            @Override
+            public void commit(EventMeshAction action) {
+                switch (action) {
+                    case CommitMessage:
+                        reconsumeTimes.remove(record.offset());
+                        recordContext.ack();
+                        break;
+                    case ReconsumeLater:
+                        // keep the offset pending and hand the record to the listener again
+                        redeliver(record, recordContext);
+                        break;
+                    case ManualAck:
+                        // the offset is acked by updateOffset once the client acks the message
+                        awaitManualAck(record, recordContext);
+                        break;
+                    default:
+                }
+            }
+        };
+        eventMeshAsyncConsumeContext.setAbstractContext(recordContext);
+        try {
+            listener.consume(cloudEvent, eventMeshAsyncConsumeContext);
+        } catch (Exception e) {
+            logger.error("listener failed to consume {}, skip it", recordContext, e);
+            reconsumeTimes.remove(record.offset());
+            recordContext.ack();
+        }
+    }
+
+    private void redeliver(ConsumerRecord<String, CloudEvent> record, KafkaRecordContext recordContext) {
+        if (revoked) {
+            return;
+        }
+        int times = reconsumeTimes.merge(record.offset(), 1, Integer::sum);
+        if (times > maxReconsumeTimes) {
+            logger.error("{} was reconsumed {} times, skip it", recordContext, maxReconsumeTimes);
+            reconsumeTimes.remove(record.offset());
+            recordContext.ack();
+            return;
+        }
+        // the records behind it stay queued, they are handed out after it once the backoff is over
+        records.addFirst(record);
+        delay(reconsumeBackoffMs << Math.min(times - 1, MAX_BACKOFF_SHIFT));
+    }
+
+    private void awaitManualAck(ConsumerRecord<String, CloudEvent> record, KafkaRecordContext recordContext) {
+        if (manualAckTimeoutMs <= 0) {
+            reconsumeTimes.remove(record.offset());
+            return;
+        }
+        try {
+            retryScheduler.schedule(() -> {
+                if (!offsetTracker.isPending(record.offset())) {
+                    reconsumeTimes.remove(record.offset());
+                    return;
+                }
+                logger.warn("{} was not acked within {}ms, consume it again", recordContext, manualAckTimeoutMs);
+                redeliver(record, recordContext);
+            }, manualAckTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // the runner is stopping, the offset isn't committed so the record is polled again if it isn't acked
+            reconsumeTimes.remove(record.offset());
+        }
+    }
+
+    public PartitionOffsetTracker getOffsetTracker() {
+        return offsetTracker;
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+    }
+}
@@ -17,9 +17,12 @@
 
 package org.apache.eventmesh.connector.kafka.producer;
 
+import org.apache.eventmesh.api.BatchSendCallback;
 import org.apache.eventmesh.api.RequestReplyCallback;
 import org.apache.eventmesh.api.SendCallback;
+import org.apache.eventmesh.api.SendResult;
 import org.apache.eventmesh.api.exception.ConnectorRuntimeException;
+import org.apache.eventmesh.api.producer.BatchSendAggregator;
 
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.producer.KafkaProducer;
@@ -27,6 +30,7 @@ import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.common.serialization.StringSerializer;
 
+import java.util.List;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
@@ -108,6 +112,33 @@ public class ProducerImpl {
     public void sendOneway(CloudEvent message) {
     }
 
+    /**
+     * Send the records without waiting for each other, so that the kafka producer packs the records of a partition
+     * into record batches
+     */
+    public void sendBatchAsync(List<CloudEvent> cloudEvents, BatchSendCallback batchSendCallback) {
+        BatchSendAggregator aggregator = new BatchSendAggregator(cloudEvents, batchSendCallback);
+        for (int i = 0; i < cloudEvents.size(); i++) {
+            CloudEvent cloudEvent = cloudEvents.get(i);
+            int index = i;
+            try {
+                this.producer.send(new ProducerRecord<>(cloudEvent.getSubject(), cloudEvent), (metadata, exception) -> {
+                    if (exception != null) {
+                        aggregator.onException(index, exception);
+                        return;
+                    }
+                    SendResult sendResult = new SendResult();
+                    sendResult.setTopic(metadata.topic());
+                    sendResult.setMessageId(cloudEvent.getId());
+                    aggregator.onSuccess(index, sendResult);
+                });
+            } catch (Exception e) {
+                log.error(String.format("Send message async Exception, %s", cloudEvent), e);
+                aggregator.onException(index, e);
+            }
+        }
+    }
+
     public void sendAsync(CloudEvent cloudEvent, SendCallback sendCallback) {
         try {
             this.producer.send(new ProducerRecord<>(cloudEvent.getSubject(), cloudEvent));
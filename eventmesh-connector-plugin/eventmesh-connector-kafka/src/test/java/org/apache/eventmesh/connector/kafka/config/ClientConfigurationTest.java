@@ -67,6 +67,9 @@ public class ClientConfigurationTest {
         Assert.assertEquals(config.pollNameServerInterval, Integer.valueOf(8816));
         Assert.assertEquals(config.heartbeatBrokerInterval, Integer.valueOf(9816));
         Assert.assertEquals(config.rebalanceInterval, Integer.valueOf(11816));
+        Assert.assertEquals(config.maxReconsumeTimes, Integer.valueOf(12816));
+        Assert.assertEquals(config.reconsumeBackoff, 13816);
+        Assert.assertEquals(config.manualAckTimeout, 14816);
         Assert.assertEquals(config.clusterName, "cluster-succeed!!!");
         Assert.assertEquals(config.accessKey, "accessKey-succeed!!!");
         Assert.assertEquals(config.secretKey, "secretKey-succeed!!!");
@@ -0,0 +1,306 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.connector.kafka.consumer;
+
+import org.apache.eventmesh.api.AbstractContext;
+import org.apache.eventmesh.api.EventMeshAction;
+import org.apache.eventmesh.api.EventMeshAsyncConsumeContext;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+
+public class KafkaConsumerRunnerTest {
+
+    private static final String TOPIC = "kafka-runner-topic";
+
+    private static final TopicPartition PARTITION_0 = new TopicPartition(TOPIC, 0);
+
+    private static final TopicPartition PARTITION_1 = new TopicPartition(TOPIC, 1);
+
+    private static final int MAX_RECONSUME_TIMES = 2;
+
+    private static final long RECONSUME_BACKOFF_MS = 50L;
+
+    private WakeupAwareMockConsumer mockConsumer;
+
+    private ExecutorService executorService;
+
+    private KafkaConsumerRunner runner;
+
+    @Before
+    public void setUp() {
+        mockConsumer = new WakeupAwareMockConsumer();
+        Map<TopicPartition, Long> beginningOffsets = new HashMap<>();
+        beginningOffsets.put(PARTITION_0, 0L);
+        beginningOffsets.put(PARTITION_1, 0L);
+        mockConsumer.updateBeginningOffsets(beginningOffsets);
+        executorService = Executors.newFixedThreadPool(3);
+    }
+
+    @After
+    public void tearDown() throws InterruptedException {
+        runner.shutdown();
+        executorService.shutdown();
+        Assert.assertTrue(executorService.awaitTermination(5, TimeUnit.SECONDS));
+        Assert.assertTrue(mockConsumer.closed());
+    }
+
+    @Test
+    public void testConsumeInOrderPerPartitionAndCommit() {
+        Map<Integer, List<Long>> consumedOffsets = new ConcurrentHashMap<>();
+        startRunner(2, (cloudEvent, context) -> {
+            KafkaRecordContext recordContext = (KafkaRecordContext) context.getAbstractContext();
+            consumedOffsets.computeIfAbsent(Integer.valueOf(cloudEvent.getSubject().substring(1)), key -> new CopyOnWriteArrayList<>())
+                .add(recordContext.getOffset());
+            context.commit(EventMeshAction.CommitMessage);
+        }, 100);
+
+        mockConsumer.schedulePollTask(() -> {
+            mockConsumer.rebalance(Arrays.asList(PARTITION_0, PARTITION_1));
+            addRecords(PARTITION_0, 0, 5);
+            addRecords(PARTITION_1, 0, 3);
+        });
+        awaitTrue(() -> committedOffset(PARTITION_0) == 5L && committedOffset(PARTITION_1) == 3L);
+
+        // the poll loop keeps running after the first batch
+        mockConsumer.schedulePollTask(() -> addRecords(PARTITION_0, 5, 2));
+        awaitTrue(() -> committedOffset(PARTITION_0) == 7L);
+
+        Assert.assertEquals(Arrays.asList(0L, 1L, 2L, 3L, 4L, 5L, 6L), consumedOffsets.get(0));
+        Assert.assertEquals(Arrays.asList(0L, 1L, 2L), consumedOffsets.get(1));
+    }
+
+    @Test
+    public void testCommitWaitsForContiguousAcks() throws InterruptedException {
+        List<AbstractContext> contexts = new CopyOnWriteArrayList<>();
+        startRunner(2, (cloudEvent, context) -> {
+            contexts.add(context.getAbstractContext());
+            context.commit(EventMeshAction.ManualAck);
+        }, 100);
+
+        mockConsumer.schedulePollTask(() -> {
+            mockConsumer.rebalance(Collections.singletonList(PARTITION_0));
+            addRecords(PARTITION_0, 0, 3);
+        });
+        awaitTrue(() -> contexts.size() == 3);
+
+        runner.updateOffset(Arrays.asList(contexts.get(1), contexts.get(2)));
+        Thread.sleep(200);
+        Assert.assertEquals(-1L, committedOffset(PARTITION_0));
+
+        runner.updateOffset(Collections.singletonList(contexts.get(0)));
+        awaitTrue(() -> committedOffset(PARTITION_0) == 3L);
+    }
+
+    @Test
+    public void testPauseAndResumeForBackpressure() {
+        List<AbstractContext> contexts = new CopyOnWriteArrayList<>();
+        startRunner(0, (cloudEvent, context) -> {
+            contexts.add(context.getAbstractContext());
+            context.commit(EventMeshAction.ManualAck);
+        }, 4);
+
+        mockConsumer.schedulePollTask(() -> {
+            mockConsumer.rebalance(Collections.singletonList(PARTITION_0));
+            addRecords(PARTITION_0, 0, 4);
+        });
+        awaitTrue(() -> mockConsumer.paused().contains(PARTITION_0));
+
+        // records of a paused partition aren't returned by poll
+        mockConsumer.schedulePollTask(() -> addRecords(PARTITION_0, 4, 1));
+        awaitTrue(() -> contexts.size() == 4);
+
+        runner.updateOffset(new ArrayList<>(contexts));
+        awaitTrue(() -> !mockConsumer.paused().contains(PARTITION_0));
+        awaitTrue(() -> contexts.size() == 5);
+        runner.updateOffset(Collections.singletonList(contexts.get(4)));
+        awaitTrue(() -> committedOffset(PARTITION_0) == 5L);
+    }
+
+    @Test
+    public void testReconsumeLater() {
+        List<Long> consumedOffsets = new CopyOnWriteArrayList<>();
+        startRunner(0, (cloudEvent, context) -> {
+            long offset = ((KafkaRecordContext) context.getAbstractContext()).getOffset();
+            boolean firstAttempt = !consumedOffsets.contains(offset);
+            consumedOffsets.add(offset);
+            context.commit(offset == 0L && firstAttempt ? EventMeshAction.ReconsumeLater : EventMeshAction.CommitMessage);
+        }, 100);
+
+        mockConsumer.schedulePollTask(() -> {
+            mockConsumer.rebalance(Collections.singletonList(PARTITION_0));
+            addRecords(PARTITION_0, 0, 2);
+        });
+        awaitTrue(() -> committedOffset(PARTITION_0) == 2L);
+        // the record is handed out again before the ones behind it
+        Assert.assertEquals(Arrays.asList(0L, 0L, 1L), consumedOffsets);
+    }
+
+    @Test
+    public void testReconsumeLaterSkippedAfterMaxTimes() {
+        List<Long> consumedOffsets = new CopyOnWriteArrayList<>();
+        startRunner(0, (cloudEvent, context) -> {
+            long offset = ((KafkaRecordContext) context.getAbstractContext()).getOffset();
+            consumedOffsets.add(offset);
+            context.commit(offset == 0L ? EventMeshAction.ReconsumeLater : EventMeshAction.CommitMessage);
+        }, 100);
+
+        mockConsumer.schedulePollTask(() -> {
+            mockConsumer.rebalance(Collections.singletonList(PARTITION_0));
+            addRecords(PARTITION_0, 0, 2);
+        });
+        awaitTrue(() -> committedOffset(PARTITION_0) == 2L);
+        Assert.assertEquals(Arrays.asList(0L, 0L, 0L, 1L), consumedOffsets);
+    }
+
+    @Test
+    public void testShutdownBetweenPollsCommitsAckedOffsets() {
+        AtomicInteger consumedCount = new AtomicInteger();
+        // no commit in the poll loop, the offsets are only committed on shutdown
+        startRunner(TimeUnit.MINUTES.toMillis(10), (cloudEvent, context) -> {
+            context.commit(EventMeshAction.CommitMessage);
+            consumedCount.incrementAndGet();
+        }, 100);
+
+        // the first round of the poll loop commits, whatever the interval, hand out the records after it
+        mockConsumer.schedulePollTask(() -> mockConsumer.rebalance(Collections.singletonList(PARTITION_0)));
+        mockConsumer.schedulePollTask(() -> addRecords(PARTITION_0, 0, 3));
+        awaitTrue(() -> consumedCount.get() == 3);
+
+        // the wakeup of shutdown lands after a poll returned, it aborts the commit on the way out instead
+        mockConsumer.afterPoll.set(runner::shutdown);
+        awaitTrue(() -> mockConsumer.closed());
+        Assert.assertEquals(3L, mockConsumer.syncCommitted.get(PARTITION_0).offset());
+    }
+
+    private void startRunner(long commitIntervalMs, RecordHandler recordHandler, int maxPendingPerPartition) {
+        runner = new KafkaConsumerRunner(mockConsumer, executorService, maxPendingPerPartition, commitIntervalMs,
+            MAX_RECONSUME_TIMES, RECONSUME_BACKOFF_MS);
+        runner.setListener((cloudEvent, context) -> recordHandler.handle(cloudEvent, (EventMeshAsyncConsumeContext) context));
+        runner.subscribe(Collections.singleton(TOPIC));
+        executorService.submit(runner);
+    }
+
+    private void addRecords(TopicPartition topicPartition, long fromOffset, int count) {
+        for (long offset = fromOffset; offset < fromOffset + count; offset++) {
+            CloudEvent cloudEvent = CloudEventBuilder.v1()
+                .withId(topicPartition + "@" + offset)
+                .withSource(URI.create("testsource"))
+                .withType("testType")
+                .withSubject("p" + topicPartition.partition())
+                .build();
+            mockConsumer.addRecord(new ConsumerRecord<>(TOPIC, topicPartition.partition(), offset, null, cloudEvent));
+        }
+    }
+
+    private long committedOffset(TopicPartition topicPartition) {
+        OffsetAndMetadata offsetAndMetadata = mockConsumer.committed(Collections.singleton(topicPartition)).get(topicPartition);
+        return offsetAndMetadata == null ? -1L : offsetAndMetadata.offset();
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (!condition.getAsBoolean()) {
+            Assert.assertTrue("condition not met in time", System.currentTimeMillis() < deadline);
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                Assert.fail();
+            }
+        }
+    }
+
+    private interface RecordHandler {
+        void handle(CloudEvent cloudEvent, EventMeshAsyncConsumeContext context);
+    }
+
+    /**
+     * Like the KafkaConsumer, a wakeup outside of poll aborts the next blocking call, commitSync included
+     */
+    private static class WakeupAwareMockConsumer extends MockConsumer<String, CloudEvent> {
+
+        private final AtomicBoolean wakeupPending = new AtomicBoolean(false);
+
+        private final AtomicReference<Runnable> afterPoll = new AtomicReference<>();
+
+        private final Map<TopicPartition, OffsetAndMetadata> syncCommitted = new ConcurrentHashMap<>();
+
+        WakeupAwareMockConsumer() {
+            super(OffsetResetStrategy.EARLIEST);
+        }
+
+        @Override
+        public synchronized ConsumerRecords<String, CloudEvent> poll(Duration timeout) {
+            if (wakeupPending.getAndSet(false)) {
+                throw new WakeupException();
+            }
+            ConsumerRecords<String, CloudEvent> records = super.poll(timeout);
+            Runnable task = afterPoll.getAndSet(null);
+            if (task != null) {
+                task.run();
+            }
+            return records;
+        }
+
+        @Override
+        public synchronized void commitSync(Map<TopicPartition, OffsetAndMetadata> offsets) {
+            if (wakeupPending.getAndSet(false)) {
+                throw new WakeupException();
+            }
+            super.commitSync(offsets);
+            syncCommitted.putAll(offsets);
+        }
+
+        @Override
+        public void wakeup() {
+            wakeupPending.set(true);
+        }
+    }
+}
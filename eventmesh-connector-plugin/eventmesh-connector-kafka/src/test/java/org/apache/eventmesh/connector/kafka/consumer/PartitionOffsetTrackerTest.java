@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.connector.kafka.consumer;
+
+import org.apache.kafka.common.TopicPartition;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PartitionOffsetTrackerTest {
+
+    @Test
+    public void testNothingCommittableBeforeDispatch() {
+        PartitionOffsetTracker tracker = new PartitionOffsetTracker(new TopicPartition("topic", 0));
+        Assert.assertEquals(-1L, tracker.committableOffset());
+        Assert.assertFalse(tracker.hasUncommittedAcks());
+    }
+
+    @Test
+    public void testCommitWhenContiguous() {
+        PartitionOffsetTracker tracker = new PartitionOffsetTracker(new TopicPartition("topic", 0));
+        for (long offset = 10; offset < 13; offset++) {
+            tracker.track(offset);
+        }
+        Assert.assertEquals(3, tracker.getPendingCount());
+        Assert.assertEquals(10L, tracker.committableOffset());
+
+        Assert.assertTrue(tracker.ack(11));
+        Assert.assertTrue(tracker.ack(12));
+        Assert.assertEquals(10L, tracker.committableOffset());
+
+        Assert.assertTrue(tracker.ack(10));
+        Assert.assertEquals(13L, tracker.committableOffset());
+        Assert.assertEquals(0, tracker.getPendingCount());
+        Assert.assertFalse(tracker.ack(10));
+        Assert.assertEquals(0, tracker.getPendingCount());
+    }
+
+    @Test
+    public void testCommittedOffset() {
+        PartitionOffsetTracker tracker = new PartitionOffsetTracker(new TopicPartition("topic", 0));
+        tracker.track(0);
+        tracker.ack(0);
+        Assert.assertTrue(tracker.hasUncommittedAcks());
+        tracker.committed(1);
+        Assert.assertFalse(tracker.hasUncommittedAcks());
+        tracker.track(1);
+        Assert.assertFalse(tracker.hasUncommittedAcks());
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.eventmesh.connector.kafka.consumer;
+
+import org.apache.eventmesh.api.EventListener;
+import org.apache.eventmesh.api.EventMeshAction;
+import org.apache.eventmesh.api.EventMeshAsyncConsumeContext;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+
+public class PartitionWorkerTest {
+
+    private static final TopicPartition PARTITION = new TopicPartition("partition-worker-topic", 0);
+
+    private ExecutorService executorService;
+
+    private ScheduledExecutorService retryScheduler;
+
+    private final List<Long> consumedOffsets = new CopyOnWriteArrayList<>();
+
+    private final EventListener listener = (cloudEvent, context) -> {
+        EventMeshAsyncConsumeContext consumeContext = (EventMeshAsyncConsumeContext) context;
+        consumedOffsets.add(((KafkaRecordContext) consumeContext.getAbstractContext()).getOffset());
+        consumeContext.commit(EventMeshAction.CommitMessage);
+    };
+
+    @Before
+    public void setUp() {
+        executorService = Executors.newSingleThreadExecutor();
+        retryScheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @After
+    public void tearDown() throws InterruptedException {
+        retryScheduler.shutdownNow();
+        executorService.shutdown();
+        Assert.assertTrue(executorService.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testRecordsScheduledAgainAfterRejection() throws InterruptedException {
+        AtomicInteger rejections = new AtomicInteger(2);
+        Executor rejectingExecutor = command -> {
+            if (rejections.getAndDecrement() > 0) {
+                throw new RejectedExecutionException("busy");
+            }
+            executorService.execute(command);
+        };
+        PartitionWorker worker = new PartitionWorker(PARTITION, rejectingExecutor, retryScheduler, () -> listener, 2, 50L);
+        worker.submit(createRecords(0, 3));
+
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (consumedOffsets.size() < 3 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(Arrays.asList(0L, 1L, 2L), consumedOffsets);
+        Assert.assertEquals(3L, worker.getOffsetTracker().committableOffset());
+    }
+
+    @Test
+    public void testRevokedRecordsNotScheduledAgain() throws InterruptedException {
+        Executor rejectingExecutor = command -> {
+            throw new RejectedExecutionException("shutdown");
+        };
+        PartitionWorker worker = new PartitionWorker(PARTITION, rejectingExecutor, retryScheduler, () -> listener, 2, 50L);
+        worker.submit(createRecords(0, 2));
+        worker.revoke();
+
+        Thread.sleep(300);
+        Assert.assertTrue(consumedOffsets.isEmpty());
+        Assert.assertEquals(2, worker.getOffsetTracker().getPendingCount());
+    }
+
+    @Test
+    public void testUnackedManualAckConsumedAgain() throws InterruptedException {
+        EventListener manualAckListener = (cloudEvent, context) -> {
+            EventMeshAsyncConsumeContext consumeContext = (EventMeshAsyncConsumeContext) context;
+            consumedOffsets.add(((KafkaRecordContext) consumeContext.getAbstractContext()).getOffset());
+            consumeContext.commit(EventMeshAction.ManualAck);
+        };
+        PartitionWorker worker = new PartitionWorker(PARTITION, executorService, retryScheduler, () -> manualAckListener,
+            2, 10L, 50L);
+        worker.submit(createRecords(0, 1));
+
+        // consumed once and twice again after the ack timeouts, then skipped
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (worker.getOffsetTracker().committableOffset() < 1L && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(Arrays.asList(0L, 0L, 0L), consumedOffsets);
+        Assert.assertEquals(1L, worker.getOffsetTracker().committableOffset());
+    }
+
+    @Test
+    public void testAckedManualAckNotConsumedAgain() throws InterruptedException {
+        EventListener manualAckListener = (cloudEvent, context) -> {
+            EventMeshAsyncConsumeContext consumeContext = (EventMeshAsyncConsumeContext) context;
+            KafkaRecordContext recordContext = (KafkaRecordContext) consumeContext.getAbstractContext();
+            consumedOffsets.add(recordContext.getOffset());
+            consumeContext.commit(EventMeshAction.ManualAck);
+            // acked by the client as updateOffset does
+            recordContext.ack();
+        };
+        PartitionWorker worker = new PartitionWorker(PARTITION, executorService, retryScheduler, () -> manualAckListener,
+            2, 10L, 50L);
+        worker.submit(createRecords(0, 2));
+
+        Thread.sleep(300);
+        Assert.assertEquals(Arrays.asList(0L, 1L), consumedOffsets);
+        Assert.assertEquals(2L, worker.getOffsetTracker().committableOffset());
+    }
+
+    private List<ConsumerRecord<String, CloudEvent>> createRecords(long fromOffset, int count) {
+        List<ConsumerRecord<String, CloudEvent>> records = new ArrayList<>(count);
+        for (long offset = fromOffset; offset < fromOffset + count; offset++) {
+            CloudEvent cloudEvent = CloudEventBuilder.v1()
+                .withId(PARTITION + "@" + offset)
+                .withSource(URI.create("testsource"))
+                .withType("testType")
+                .build();
+            records.add(new ConsumerRecord<>(PARTITION.topic(), PARTITION.partition(), offset, null, cloudEvent));
+        }
+        return records;
+    }
+}
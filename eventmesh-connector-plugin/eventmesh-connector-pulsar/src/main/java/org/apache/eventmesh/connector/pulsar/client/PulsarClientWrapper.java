@@ -17,8 +17,10 @@
 
 package org.apache.eventmesh.connector.pulsar.client;
 
+import org.apache.eventmesh.api.BatchSendCallback;
 import org.apache.eventmesh.api.SendCallback;
 import org.apache.eventmesh.api.exception.ConnectorRuntimeException;
+import org.apache.eventmesh.api.producer.BatchSendAggregator;
 import org.apache.eventmesh.connector.pulsar.config.ClientConfiguration;
 import org.apache.eventmesh.connector.pulsar.utils.CloudEventUtils;
 
@@ -28,7 +30,10 @@ import org.apache.pulsar.client.api.PulsarClient;
 import org.apache.pulsar.client.api.PulsarClientException;
 
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import io.cloudevents.CloudEvent;
@@ -99,6 +104,40 @@ public class PulsarClientWrapper {
         }
     }
 
+    /**
+     * Queue the events of each topic into the batch of its producer and flush it, instead of waiting for the
+     * batching delay
+     */
+    public void publishBatch(List<CloudEvent> cloudEvents, BatchSendCallback batchSendCallback) {
+        BatchSendAggregator aggregator = new BatchSendAggregator(cloudEvents, batchSendCallback);
+        Set<Producer<byte[]>> producers = new HashSet<>();
+        for (int i = 0; i < cloudEvents.size(); i++) {
+            CloudEvent cloudEvent = cloudEvents.get(i);
+            int index = i;
+            try {
+                String topic = cloudEvent.getSubject();
+                Producer<byte[]> producer = producerMap.computeIfAbsent(topic, k -> createProducer(topic));
+                byte[] serializedCloudEvent = EventFormatProvider
+                    .getInstance()
+                    .resolveFormat(JsonFormat.CONTENT_TYPE)
+                    .serialize(cloudEvent);
+                producer.sendAsync(serializedCloudEvent).whenComplete((messageId, throwable) -> {
+                    if (throwable != null) {
+                        aggregator.onException(index, throwable);
+                    } else {
+                        aggregator.onSuccess(index, CloudEventUtils.convertSendResult(cloudEvent));
+                    }
+                });
+                producers.add(producer);
+            } catch (Exception ex) {
+                log.error("Failed to publish cloudEvent for {} with exception: {}",
+                    cloudEvent.getSubject(), ex.getMessage());
+                aggregator.onException(index, ex);
+            }
+        }
+        producers.forEach(Producer::flushAsync);
+    }
+
     public void shutdown() throws PulsarClientException {
         pulsarClient.close();
         for (Map.Entry<String, Producer<byte[]>> producerEntry : producerMap.entrySet()) {
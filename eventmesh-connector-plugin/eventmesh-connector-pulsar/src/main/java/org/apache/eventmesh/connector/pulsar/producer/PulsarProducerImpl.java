@@ -17,6 +17,7 @@
 
 package org.apache.eventmesh.connector.pulsar.producer;
 
+import org.apache.eventmesh.api.BatchSendCallback;
 import org.apache.eventmesh.api.RequestReplyCallback;
 import org.apache.eventmesh.api.SendCallback;
 import org.apache.eventmesh.api.exception.ConnectorRuntimeException;
@@ -24,6 +25,7 @@ import org.apache.eventmesh.api.producer.Producer;
 import org.apache.eventmesh.common.config.Config;
 import org.apache.eventmesh.connector.pulsar.config.ClientConfiguration;
 
+import java.util.List;
 import java.util.Properties;
 
 import io.cloudevents.CloudEvent;
@@ -48,6 +50,11 @@ public class PulsarProducerImpl implements Producer {
         producer.publish(cloudEvent, sendCallback);
     }
 
+    @Override
+    public void publishBatch(List<CloudEvent> cloudEvents, BatchSendCallback batchSendCallback) throws Exception {
+        producer.publishBatch(cloudEvents, batchSendCallback);
+    }
+
     @Override
     public boolean isStarted() {
         return producer.isStarted();
@@ -17,11 +17,13 @@
 
 package org.apache.eventmesh.connector.rocketmq.producer;
 
+import org.apache.eventmesh.api.BatchSendCallback;
 import org.apache.eventmesh.api.RequestReplyCallback;
 import org.apache.eventmesh.api.SendCallback;
 import org.apache.eventmesh.api.SendResult;
 import org.apache.eventmesh.api.exception.ConnectorRuntimeException;
 import org.apache.eventmesh.api.exception.OnExceptionContext;
+import org.apache.eventmesh.api.producer.BatchSendAggregator;
 import org.apache.eventmesh.common.Constants;
 import org.apache.eventmesh.connector.rocketmq.cloudevent.RocketMQMessageFactory;
 import org.apache.eventmesh.connector.rocketmq.utils.CloudEventUtils;
@@ -37,6 +39,10 @@ import org.apache.rocketmq.common.message.MessageClientIDSetter;
 import org.apache.rocketmq.common.message.MessageConst;
 import org.apache.rocketmq.remoting.exception.RemotingException;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 
@@ -116,6 +122,92 @@ public class ProducerImpl extends AbstractProducer {
         }
     }
 
+    /**
+     * Send the messages of each topic in batches of at most the max message size with the async batch send of the
+     * producer. Delayed messages can not be batched, they are sent one by one.
+     */
+    public void sendBatchAsync(List<CloudEvent> cloudEvents, BatchSendCallback batchSendCallback) {
+        this.checkProducerServiceState(this.rocketmqProducer.getDefaultMQProducerImpl());
+        BatchSendAggregator aggregator = new BatchSendAggregator(cloudEvents, batchSendCallback);
+        Map<String, List<Integer>> indexesByTopic = new LinkedHashMap<>();
+        Message[] msgs = new Message[cloudEvents.size()];
+        for (int i = 0; i < cloudEvents.size(); i++) {
+            CloudEvent cloudEvent = cloudEvents.get(i);
+            Message msg = RocketMQMessageFactory.createWriter(Objects.requireNonNull(cloudEvent.getSubject())).writeBinary(cloudEvent);
+            msgs[i] = supplySysProp(msg, cloudEvent);
+            if (msg.getDelayTimeLevel() > 0) {
+                try {
+                    this.rocketmqProducer.send(msg, this.sendCallbackConvert(msg, aggregator.callbackOf(i)));
+                } catch (Exception e) {
+                    log.error(String.format("Send message async Exception, %s", msg), e);
+                    aggregator.onException(i, this.checkProducerException(msg.getTopic(), MessageClientIDSetter.getUniqID(msg), e));
+                }
+            } else {
+                indexesByTopic.computeIfAbsent(msg.getTopic(), topic -> new ArrayList<>()).add(i);
+            }
+        }
+
+        int maxBatchSize = this.rocketmqProducer.getMaxMessageSize();
+        for (List<Integer> indexes : indexesByTopic.values()) {
+            int from = 0;
+            int batchSize = 0;
+            for (int i = 0; i < indexes.size(); i++) {
+                int size = estimateSize(msgs[indexes.get(i)]);
+                if (i > from && batchSize + size > maxBatchSize) {
+                    sendBatchAsync(msgs, indexes.subList(from, i), aggregator);
+                    from = i;
+                    batchSize = 0;
+                }
+                batchSize += size;
+            }
+            sendBatchAsync(msgs, indexes.subList(from, indexes.size()), aggregator);
+        }
+    }
+
+    private void sendBatchAsync(Message[] msgs, List<Integer> indexes, BatchSendAggregator aggregator) {
+        List<Message> batch = new ArrayList<>(indexes.size());
+        indexes.forEach(index -> batch.add(msgs[index]));
+        String topic = batch.get(0).getTopic();
+        try {
+            this.rocketmqProducer.send(batch, new org.apache.rocketmq.client.producer.SendCallback() {
+                @Override
+                public void onSuccess(org.apache.rocketmq.client.producer.SendResult sendResultRmq) {
+                    // the id of a batch is the ids of its messages joined by commas
+                    String[] msgIds = StringUtils.split(sendResultRmq.getMsgId(), ',');
+                    for (int i = 0; i < indexes.size(); i++) {
+                        SendResult sendResult = new SendResult();
+                        sendResult.setTopic(topic);
+                        sendResult.setMessageId(msgIds != null && msgIds.length == indexes.size() ? msgIds[i] : sendResultRmq.getMsgId());
+                        aggregator.onSuccess(indexes.get(i), sendResult);
+                    }
+                }
+
+                @Override
+                public void onException(Throwable e) {
+                    log.error(String.format("Send batch messages async Exception, topic: %s, size: %d", topic, batch.size()), e);
+                    ConnectorRuntimeException onsEx = ProducerImpl.this.checkProducerException(topic, null, e);
+                    indexes.forEach(index -> aggregator.onException(index, onsEx));
+                }
+            });
+        } catch (Exception e) {
+            log.error(String.format("Send batch messages async Exception, topic: %s, size: %d", topic, batch.size()), e);
+            ConnectorRuntimeException onsEx = this.checkProducerException(topic, null, e);
+            indexes.forEach(index -> aggregator.onException(index, onsEx));
+        }
+    }
+
+    /**
+     * The size of the message in a batch, as the broker computes it
+     */
+    private static int estimateSize(Message msg) {
+        int size = msg.getTopic().length() + (msg.getBody() == null ? 0 : msg.getBody().length);
+        for (Map.Entry<String, String> property : msg.getProperties().entrySet()) {
+            size += property.getKey().length() + property.getValue().length();
+        }
+        // the log overhead of the message
+        return size + 20;
+    }
+
     public void request(CloudEvent cloudEvent, RequestReplyCallback rrCallback, long timeout)
             throws InterruptedException, RemotingException, MQClientException, MQBrokerException {
 
@@ -20,8 +20,11 @@ package org.apache.rocketmq.producer;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Fail.failBecauseExceptionWasNotThrown;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 
+import org.apache.eventmesh.api.BatchSendCallback;
 import org.apache.eventmesh.api.exception.ConnectorRuntimeException;
+import org.apache.eventmesh.api.exception.OnExceptionContext;
 import org.apache.eventmesh.common.Constants;
 import org.apache.eventmesh.connector.rocketmq.producer.AbstractProducer;
 import org.apache.eventmesh.connector.rocketmq.producer.ProducerImpl;
@@ -30,6 +33,7 @@ import org.apache.rocketmq.client.exception.MQBrokerException;
 import org.apache.rocketmq.client.exception.MQClientException;
 import org.apache.rocketmq.client.impl.producer.DefaultMQProducerImpl;
 import org.apache.rocketmq.client.producer.DefaultMQProducer;
+import org.apache.rocketmq.client.producer.SendCallback;
 import org.apache.rocketmq.client.producer.SendResult;
 import org.apache.rocketmq.client.producer.SendStatus;
 import org.apache.rocketmq.common.ServiceState;
@@ -39,6 +43,10 @@ import org.apache.rocketmq.remoting.exception.RemotingException;
 
 import java.lang.reflect.Field;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.Properties;
 
 import org.junit.After;
@@ -136,4 +144,76 @@ public class ProducerImplTest {
         Mockito.verify(rocketmqProducer).send(any(Message.class));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testSendBatchAsync() throws InterruptedException, RemotingException, MQClientException, MQBrokerException {
+        DefaultMQProducer defaultMQProducer = new DefaultMQProducer("testGroup");
+        DefaultMQProducerImpl defaultMQProducerImpl = new DefaultMQProducerImpl(defaultMQProducer);
+        defaultMQProducerImpl.setServiceState(ServiceState.RUNNING);
+        Mockito.when(rocketmqProducer.getDefaultMQProducerImpl()).thenReturn(defaultMQProducerImpl);
+        Mockito.when(rocketmqProducer.getMaxMessageSize()).thenReturn(1024 * 1024 * 4);
+        List<Collection<Message>> batches = new ArrayList<>();
+        Mockito.doAnswer(invocation -> {
+            batches.add(invocation.getArgument(0));
+            SendResult sendResult = new SendResult();
+            sendResult.setMsgId("TestMsgID1,TestMsgID2");
+            sendResult.setSendStatus(SendStatus.SEND_OK);
+            invocation.<SendCallback>getArgument(1).onSuccess(sendResult);
+            return null;
+        }).when(rocketmqProducer).send(anyCollection(), any(SendCallback.class));
+
+        List<org.apache.eventmesh.api.SendResult> results = new ArrayList<>();
+        producer.sendBatchAsync(Arrays.asList(createEvent("id1"), createEvent("id2")), new BatchSendCallback() {
+            @Override
+            public void onSuccess(List<org.apache.eventmesh.api.SendResult> sendResults) {
+                results.addAll(sendResults);
+            }
+
+            @Override
+            public void onException(List<CloudEvent> failedEvents, OnExceptionContext context) {
+                failBecauseExceptionWasNotThrown(ConnectorRuntimeException.class);
+            }
+        });
+
+        // one async batch send through the public api of the producer
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).hasSize(2);
+        assertThat(results).extracting(org.apache.eventmesh.api.SendResult::getMessageId).containsExactly("TestMsgID1", "TestMsgID2");
+    }
+
+    @Test
+    public void testSendBatchAsync_WithException() throws InterruptedException, RemotingException, MQClientException, MQBrokerException {
+        DefaultMQProducer defaultMQProducer = new DefaultMQProducer("testGroup");
+        DefaultMQProducerImpl defaultMQProducerImpl = new DefaultMQProducerImpl(defaultMQProducer);
+        defaultMQProducerImpl.setServiceState(ServiceState.RUNNING);
+        Mockito.when(rocketmqProducer.getDefaultMQProducerImpl()).thenReturn(defaultMQProducerImpl);
+        Mockito.when(rocketmqProducer.getMaxMessageSize()).thenReturn(1024 * 1024 * 4);
+        Mockito.doAnswer(invocation -> {
+            invocation.<SendCallback>getArgument(1).onException(new MQClientException("Send batch failed.", new Exception()));
+            return null;
+        }).when(rocketmqProducer).send(anyCollection(), any(SendCallback.class));
+
+        List<CloudEvent> failed = new ArrayList<>();
+        producer.sendBatchAsync(Arrays.asList(createEvent("id1"), createEvent("id2")), new BatchSendCallback() {
+            @Override
+            public void onSuccess(List<org.apache.eventmesh.api.SendResult> sendResults) {
+            }
+
+            @Override
+            public void onException(List<CloudEvent> failedEvents, OnExceptionContext context) {
+                failed.addAll(failedEvents);
+            }
+        });
+
+        assertThat(failed).extracting(CloudEvent::getId).containsExactly("id1", "id2");
+    }
+
+    private CloudEvent createEvent(String id) {
+        return CloudEventBuilder.v1()
+                .withId(id)
+                .withSource(URI.create("https://github.com/cloudevents/*****"))
+                .withType("producer.example")
+                .withSubject("HELLO_TOPIC")
+                .withData("hello world".getBytes(Constants.DEFAULT_CHARSET))
+                .build();
+    }
+}
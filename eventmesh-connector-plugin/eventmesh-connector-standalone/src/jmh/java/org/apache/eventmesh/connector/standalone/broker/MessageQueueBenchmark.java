@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.eventmesh.connector.standalone.broker;
+
+import org.apache.eventmesh.connector.standalone.broker.model.MessageEntity;
+import org.apache.eventmesh.connector.standalone.broker.model.TopicMetadata;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+
+/**
+ * One writer puts messages into a {@link MessageQueue} while 1, 2 or 4 readers follow it by offset the way
+ * SubScribeTask does: wait for the next offset, then read a batch of at most {@value #BATCH_SIZE} messages.
+ * The {@code messages} counter is the number of messages read per second by all readers.
+ *
+ * <p>Run with {@code ./gradlew :eventmesh-connector-plugin:eventmesh-connector-standalone:jmh}.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MessageQueueBenchmark {
+
+    private static final int BATCH_SIZE = 64;
+
+    private static final TopicMetadata TOPIC = new TopicMetadata("benchmark-topic");
+
+    @Param({"65536"})
+    private int capacity;
+
+    private MessageQueue messageQueue;
+
+    private CloudEvent event;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class ReaderState {
+
+        private long offset;
+
+        public long messages;
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws InterruptedException {
+        messageQueue = new MessageQueue(capacity);
+        event = CloudEventBuilder.v1()
+            .withId("benchmark")
+            .withSource(URI.create("benchmark"))
+            .withType("benchmark")
+            .withSubject(TOPIC.getTopicName())
+            .build();
+        for (int i = 0; i < capacity; i++) {
+            put();
+        }
+    }
+
+    @Benchmark
+    @Group("readers1")
+    @GroupThreads(1)
+    public void put1() throws InterruptedException {
+        put();
+    }
+
+    @Benchmark
+    @Group("readers1")
+    @GroupThreads(1)
+    public void read1(ReaderState readerState, Blackhole blackhole) throws InterruptedException {
+        read(readerState, blackhole);
+    }
+
+    @Benchmark
+    @Group("readers2")
+    @GroupThreads(1)
+    public void put2() throws InterruptedException {
+        put();
+    }
+
+    @Benchmark
+    @Group("readers2")
+    @GroupThreads(2)
+    public void read2(ReaderState readerState, Blackhole blackhole) throws InterruptedException {
+        read(readerState, blackhole);
+    }
+
+    @Benchmark
+    @Group("readers4")
+    @GroupThreads(1)
+    public void put4() throws InterruptedException {
+        put();
+    }
+
+    @Benchmark
+    @Group("readers4")
+    @GroupThreads(4)
+    public void read4(ReaderState readerState, Blackhole blackhole) throws InterruptedException {
+        read(readerState, blackhole);
+    }
+
+    private void put() throws InterruptedException {
+        messageQueue.put(new MessageEntity(TOPIC, event, -1L, 0L));
+    }
+
+    private void read(ReaderState readerState, Blackhole blackhole) throws InterruptedException {
+        messageQueue.awaitOffset(readerState.offset, 1, TimeUnit.MILLISECONDS);
+        List<MessageEntity> messageEntities = messageQueue.getRange(readerState.offset, BATCH_SIZE);
+        if (!messageEntities.isEmpty()) {
+            readerState.offset = messageEntities.get(messageEntities.size() - 1).getOffset() + 1;
+            readerState.messages += messageEntities.size();
+        }
+        blackhole.consume(messageEntities);
+    }
+}
@@ -23,6 +23,7 @@ import org.apache.eventmesh.api.admin.Admin;
 import org.apache.eventmesh.api.admin.TopicProperties;
 import org.apache.eventmesh.connector.standalone.broker.MessageQueue;
 import org.apache.eventmesh.connector.standalone.broker.StandaloneBroker;
+import org.apache.eventmesh.connector.standalone.broker.model.MessageEntity;
 import org.apache.eventmesh.connector.standalone.broker.model.TopicMetadata;
 
 import java.util.ArrayList;
@@ -77,7 +78,7 @@ public class StandaloneAdmin implements Admin {
             MessageQueue messageQueue = messageContainer.get(topicMetadata);
             topicList.add(new TopicProperties(
                 topicMetadata.getTopicName(),
-                messageQueue.getPutIndex() - messageQueue.getTakeIndex()
+                messageQueue.getSize()
             ));
         }
         topicList.sort(Comparator.comparing(t -> t.name));
@@ -100,7 +101,11 @@ public class StandaloneAdmin implements Admin {
             throw new Exception("The topic name doesn't exist in the message queue");
         }
         ConcurrentHashMap<TopicMetadata, MessageQueue> messageContainer = this.standaloneBroker.getMessageContainer();
-        long topicOffset = messageContainer.get(new TopicMetadata(topicName)).getTakeIndex();
+        MessageEntity head = messageContainer.get(new TopicMetadata(topicName)).getHead();
+        if (head == null) {
+            return new ArrayList<>();
+        }
+        long topicOffset = head.getOffset();
 
         List<CloudEvent> messageList = new ArrayList<>();
         for (int index = 0; index < length; index++) {
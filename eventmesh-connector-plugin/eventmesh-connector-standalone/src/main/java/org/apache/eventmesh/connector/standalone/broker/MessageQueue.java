@@ -19,64 +19,156 @@ package org.apache.eventmesh.connector.standalone.broker;
 
 import org.apache.eventmesh.connector.standalone.broker.model.MessageEntity;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
 import java.util.concurrent.locks.ReentrantLock;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import com.google.common.base.Preconditions;
 
 /**
- * This is a block queue, can get entity by offset.
- * The queue is a FIFO data structure.
+ * This is a ring buffer addressed by offset, the message of an offset is stored at {@code offset & (capacity - 1)}.
+ *
+ * <p>Writers are serialized and assign the offset of each message, readers never take a lock: a message is visible
+ * once the tail offset has been published, and a reader checks the offset of the entity it read to detect that
+ * the slot has been overwritten in the meantime.
+ *
+ * <p>The offsets of the active consumers are registered as gating sequences, the writer waits instead of
+ * overwriting a message which has not been delivered to all of them. The wait is bounded by the gate timeout:
+ * a consumer which has not moved on by then is dropped from the gate and the oldest message is overwritten,
+ * so one stalled consumer group can't block the producers of the topic. A dropped consumer skips the overwritten
+ * messages and is gated again by {@link #resumeGatingSequence(AtomicLong)} once it has caught up with the tail.
+ * Without gating sequences the oldest message is overwritten when the queue is full.
  */
 public class MessageQueue {
 
-    public MessageEntity[] items;
+    public static final int DEFAULT_CAPACITY = 2 << 10;
+
+    public static final long DEFAULT_GATE_TIMEOUT_MILLS = 3000L;
 
-    private int takeIndex;
+    private static final long WRITER_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
 
-    private int putIndex;
+    private final Logger logger = LoggerFactory.getLogger(MessageQueue.class);
 
-    private int count;
+    private final AtomicReferenceArray<MessageEntity> items;
 
-    private final ReentrantLock lock;
+    private final int capacity;
 
-    private final Condition notEmpty;
+    private final int mask;
 
-    private final Condition notFull;
+    private final long gateTimeoutNanos;
 
+    /**
+     * offset of the last published message, -1 if no message has been put
+     */
+    private final AtomicLong tailOffset = new AtomicLong(-1L);
+
+    /**
+     * messages before this offset have been removed by {@link #removeHead()}
+     */
+    private volatile long headOffset;
+
+    private final CopyOnWriteArrayList<AtomicLong> gatingSequences = new CopyOnWriteArrayList<>();
+
+    /**
+     * sequences dropped from the gate by the writer, kept until the consumer catches up or is removed
+     */
+    private final CopyOnWriteArrayList<AtomicLong> droppedSequences = new CopyOnWriteArrayList<>();
+
+    /**
+     * guards moving a sequence between the gating and the dropped sequences
+     */
+    private final Object gateLock = new Object();
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    /**
+     * only used by readers waiting for new messages, see {@link #awaitOffset(long, long, TimeUnit)}
+     */
+    private final ReentrantLock waitLock = new ReentrantLock();
+
+    private final Condition notEmpty = waitLock.newCondition();
+
+    private final AtomicInteger waiters = new AtomicInteger();
 
     public MessageQueue() {
-        this(2 << 10);
+        this(DEFAULT_CAPACITY);
     }
 
     public MessageQueue(int capacity) {
-        if (capacity <= 0) {
+        this(capacity, 0L);
+    }
+
+    /**
+     * @param capacity    rounded up to a power of 2
+     * @param startOffset offset of the first message put into this queue
+     */
+    public MessageQueue(int capacity, long startOffset) {
+        this(capacity, startOffset, DEFAULT_GATE_TIMEOUT_MILLS);
+    }
+
+    /**
+     * @param capacity         rounded up to a power of 2
+     * @param startOffset      offset of the first message put into this queue
+     * @param gateTimeoutMills how long the writer waits for a consumer before dropping it from the gate
+     */
+    public MessageQueue(int capacity, long startOffset, long gateTimeoutMills) {
+        if (capacity <= 0 || capacity > 1 << 30) {
             throw new IllegalArgumentException("capacity is illegal");
         }
-        this.items = new MessageEntity[capacity];
-        this.lock = new ReentrantLock();
-        this.notEmpty = lock.newCondition();
-        this.notFull = lock.newCondition();
+        this.capacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = this.capacity - 1;
+        this.items = new AtomicReferenceArray<>(this.capacity);
+        this.tailOffset.set(startOffset - 1);
+        this.headOffset = startOffset;
+        this.gateTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(gateTimeoutMills);
     }
 
     /**
-     * Insert the message at the tail of this queue, waiting for space to become available if the queue is full
+     * Insert the message at the tail of this queue and assign its offset, waiting at most the gate timeout for space
+     * to become available if a consumer has not received the message to be overwritten
      *
      * @param messageEntity
      */
     public void put(MessageEntity messageEntity) throws InterruptedException {
         Preconditions.checkNotNull(messageEntity);
-        ReentrantLock lock = this.lock;
-        lock.lockInterruptibly();
+        ReentrantLock writeLock = this.writeLock;
+        writeLock.lockInterruptibly();
+        try {
+            append(messageEntity);
+        } finally {
+            writeLock.unlock();
+        }
+        signalWaiters();
+    }
+
+    /**
+     * Insert the messages at the tail of this queue in order, the waiting readers are signalled once for all of them
+     *
+     * @param messageEntities
+     */
+    public void putAll(List<MessageEntity> messageEntities) throws InterruptedException {
+        Preconditions.checkNotNull(messageEntities);
+        ReentrantLock writeLock = this.writeLock;
+        writeLock.lockInterruptibly();
         try {
-            while (count == items.length) {
-                notFull.await();
+            for (MessageEntity messageEntity : messageEntities) {
+                append(messageEntity);
             }
-            enqueue(messageEntity);
         } finally {
-            lock.unlock();
+            writeLock.unlock();
         }
+        signalWaiters();
     }
 
     /**
@@ -87,15 +179,12 @@ public class MessageQueue {
      * @throws InterruptedException
      */
     public MessageEntity take() throws InterruptedException {
-        ReentrantLock lock = this.lock;
-        lock.lockInterruptibly();
-        try {
-            while (count == 0) {
-                notEmpty.await();
+        while (true) {
+            MessageEntity head = getHead();
+            if (head != null) {
+                return head;
             }
-            return dequeue();
-        } finally {
-            lock.unlock();
+            awaitOffset(Math.max(headOffset, tailOffset.get() + 1), Long.MAX_VALUE, TimeUnit.NANOSECONDS);
         }
     }
 
@@ -105,12 +194,17 @@ public class MessageQueue {
      * @return MessageEntity
      */
     public MessageEntity peek() {
-        ReentrantLock lock = this.lock;
-        lock.lock();
-        try {
-            return itemAt(takeIndex);
-        } finally {
-            lock.unlock();
+        while (true) {
+            long tail = tailOffset.get();
+            long head = headOffset(tail);
+            if (head > tail) {
+                return null;
+            }
+            MessageEntity messageEntity = items.get(index(head));
+            if (messageEntity != null && messageEntity.getOffset() == head) {
+                return messageEntity;
+            }
+            // the head has been removed or overwritten, read again
         }
     }
 
@@ -129,104 +223,252 @@ public class MessageQueue {
      * @return MessageEntity
      */
     public MessageEntity getTail() {
-        ReentrantLock lock = this.lock;
-        lock.lock();
-        try {
-            if (count == 0) {
+        while (true) {
+            long tail = tailOffset.get();
+            if (tail < headOffset(tail)) {
                 return null;
             }
-            int tailIndex = putIndex - 1;
-            if (tailIndex < 0) {
-                tailIndex += items.length;
+            MessageEntity messageEntity = items.get(index(tail));
+            if (messageEntity != null && messageEntity.getOffset() == tail) {
+                return messageEntity;
             }
-            return itemAt(tailIndex);
-        } finally {
-            lock.unlock();
         }
     }
 
     /**
-     * Get the message by offset, since the offset is increment, so we can get the first message in this queue
-     * and calculate the index of this offset
+     * Get the message by offset
      *
      * @param offset
-     * @return MessageEntity
+     * @return MessageEntity, null if the message of the offset has not been put
      */
     public MessageEntity getByOffset(long offset) {
-        ReentrantLock lock = this.lock;
-        lock.lock();
+        long tail = tailOffset.get();
+        if (offset > tail) {
+            return null;
+        }
+        MessageEntity messageEntity = offset < headOffset(tail) ? null : items.get(index(offset));
+        if (messageEntity == null || messageEntity.getOffset() != offset) {
+            throw new RuntimeException(String.format("The message has been deleted, offset: %s", offset));
+        }
+        return messageEntity;
+    }
+
+    /**
+     * Wait until the message of the offset has been put into this queue
+     *
+     * @param offset  offset
+     * @param timeout the maximum time to wait
+     * @param unit    the time unit of the timeout argument
+     * @return false if the waiting time elapsed before the message is available
+     * @throws InterruptedException
+     */
+    public boolean awaitOffset(long offset, long timeout, TimeUnit unit) throws InterruptedException {
+        if (tailOffset.get() >= offset) {
+            return true;
+        }
+        long nanos = unit.toNanos(timeout);
+        ReentrantLock waitLock = this.waitLock;
+        waitLock.lockInterruptibly();
+        waiters.incrementAndGet();
         try {
-            MessageEntity head = getHead();
-            if (head == null) {
-                return null;
+            while (tailOffset.get() < offset) {
+                if (nanos <= 0L) {
+                    return false;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
             }
-            if (head.getOffset() > offset) {
-                throw new RuntimeException(String.format("The message has been deleted, offset: %s", offset));
+            return true;
+        } finally {
+            waiters.decrementAndGet();
+            waitLock.unlock();
+        }
+    }
+
+    /**
+     * Get at most maxSize messages starting from the offset, if the message of the offset has been deleted,
+     * start from the head of this queue
+     *
+     * @param offset  offset
+     * @param maxSize max number of messages
+     * @return messages ordered by offset, empty if there is no message after the offset
+     */
+    public List<MessageEntity> getRange(long offset, int maxSize) {
+        while (true) {
+            long tail = tailOffset.get();
+            long startOffset = Math.max(offset, headOffset(tail));
+            if (startOffset > tail) {
+                return Collections.emptyList();
             }
-            MessageEntity tail = getTail();
-            if (tail == null || tail.getOffset() < offset) {
-                return null;
+            int size = (int) Math.min(maxSize, tail - startOffset + 1);
+            List<MessageEntity> messageEntities = new ArrayList<>(size);
+            for (long messageOffset = startOffset; messageOffset < startOffset + size; messageOffset++) {
+                MessageEntity messageEntity = items.get(index(messageOffset));
+                if (messageEntity == null || messageEntity.getOffset() != messageOffset) {
+                    break;
+                }
+                messageEntities.add(messageEntity);
             }
-            int offsetDis = (int) (head.getOffset() - offset);
-            int offsetIndex = takeIndex - offsetDis;
-            if (offsetIndex < 0) {
-                offsetIndex += items.length;
+            if (!messageEntities.isEmpty()) {
+                return messageEntities;
             }
-            return itemAt(offsetIndex);
-        } finally {
-            lock.unlock();
+            // the start offset has been overwritten by the writer, start again from the new head
         }
     }
 
+    /**
+     * Remove the oldest message, only called by the history message clear task
+     */
     public void removeHead() {
-        ReentrantLock lock = this.lock;
-        lock.lock();
-        try {
-            if (count == 0) {
-                return;
+        MessageEntity head = getHead();
+        if (head == null) {
+            return;
+        }
+        items.compareAndSet(index(head.getOffset()), head, null);
+        if (headOffset <= head.getOffset()) {
+            headOffset = head.getOffset() + 1;
+        }
+    }
+
+    /**
+     * Register the offset of a consumer, the writer will not overwrite the message of the offset
+     *
+     * @param sequence offset of the next message to deliver to the consumer
+     */
+    public void addGatingSequence(AtomicLong sequence) {
+        synchronized (gateLock) {
+            // a consumer joining a group which has been dropped is gated again together with the group
+            if (droppedSequences.contains(sequence)) {
+                droppedSequences.add(sequence);
+            } else {
+                gatingSequences.add(sequence);
             }
-            items[takeIndex++] = null;
-            if (takeIndex == items.length) {
-                takeIndex = 0;
+        }
+    }
+
+    public void removeGatingSequence(AtomicLong sequence) {
+        synchronized (gateLock) {
+            if (!gatingSequences.remove(sequence)) {
+                droppedSequences.remove(sequence);
             }
-            notFull.signalAll();
-        } finally {
-            lock.unlock();
         }
     }
 
+    /**
+     * Register again a sequence which has been dropped from the gate, once the consumer is within half the capacity
+     * of the tail, so the writer doesn't wait for a consumer which is still about to be overwritten
+     *
+     * @param sequence offset of the next message to deliver to the consumer
+     * @return true if the sequence is gated again
+     */
+    public boolean resumeGatingSequence(AtomicLong sequence) {
+        if (droppedSequences.isEmpty()) {
+            return false;
+        }
+        synchronized (gateLock) {
+            if (!droppedSequences.contains(sequence) || getNextOffset() - sequence.get() > capacity >> 1) {
+                return false;
+            }
+            // every consumer sharing the sequence has been dropped together, gate all of them again
+            while (droppedSequences.remove(sequence)) {
+                gatingSequences.add(sequence);
+            }
+        }
+        logger.info("consumer caught up at offset {}, add it to the gate again", sequence.get());
+        return true;
+    }
+
     public int getSize() {
-        return count;
+        long tail = tailOffset.get();
+        return (int) Math.max(0L, tail - headOffset(tail) + 1);
+    }
+
+    /**
+     * @return offset of the oldest message in this queue, {@link #getNextOffset()} if the queue is empty
+     */
+    public long getHeadOffset() {
+        long tail = tailOffset.get();
+        return Math.min(headOffset(tail), tail + 1);
+    }
+
+    /**
+     * @return offset of the next message put into this queue
+     */
+    public long getNextOffset() {
+        return tailOffset.get() + 1;
     }
 
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private long headOffset(long tail) {
+        return Math.max(headOffset, tail - capacity + 1);
+    }
 
-    private MessageEntity itemAt(int index) {
-        return items[index];
+    /**
+     * Must be called with the write lock held
+     */
+    private void append(MessageEntity messageEntity) throws InterruptedException {
+        long offset = tailOffset.get() + 1;
+        long wrapOffset = offset - capacity;
+        if (wrapOffset >= minGatingSequence(offset)) {
+            // the messages appended so far by putAll must be visible to the readers the writer waits for
+            signalWaiters();
+            long deadline = System.nanoTime() + gateTimeoutNanos;
+            while (wrapOffset >= minGatingSequence(offset)) {
+                if (System.nanoTime() - deadline >= 0) {
+                    dropStalledSequences(wrapOffset);
+                    break;
+                }
+                LockSupport.parkNanos(this, WRITER_PARK_NANOS);
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+            }
+        }
+        messageEntity.setOffset(offset);
+        items.set(index(offset), messageEntity);
+        tailOffset.set(offset);
     }
 
-    private void enqueue(MessageEntity messageEntity) {
-        items[putIndex++] = messageEntity;
-        if (putIndex == items.length) {
-            putIndex = 0;
+    /**
+     * Remove the consumers which still haven't received the message to be overwritten, they skip the overwritten
+     * messages and are not gated any more
+     */
+    private void dropStalledSequences(long wrapOffset) {
+        synchronized (gateLock) {
+            for (AtomicLong sequence : gatingSequences) {
+                if (sequence.get() <= wrapOffset && gatingSequences.remove(sequence)) {
+                    droppedSequences.add(sequence);
+                    logger.warn("consumer stalled at offset {} for more than {}ms, drop it from the gate and overwrite offset {}",
+                        sequence.get(), TimeUnit.NANOSECONDS.toMillis(gateTimeoutNanos), wrapOffset);
+                }
+            }
         }
-        count++;
-        notEmpty.signalAll();
     }
 
-    private MessageEntity dequeue() {
-        MessageEntity item = items[takeIndex++];
-        if (takeIndex == items.length) {
-            takeIndex = 0;
+    private long minGatingSequence(long defaultSequence) {
+        long min = defaultSequence;
+        for (AtomicLong sequence : gatingSequences) {
+            min = Math.min(min, sequence.get());
         }
-        notFull.signalAll();
-        return item;
+        return min;
     }
 
-    public int getTakeIndex() {
-        return takeIndex;
+    private int index(long offset) {
+        return (int) offset & mask;
     }
 
-    public int getPutIndex() {
-        return putIndex;
+    private void signalWaiters() {
+        if (waiters.get() == 0) {
+            return;
+        }
+        ReentrantLock waitLock = this.waitLock;
+        waitLock.lock();
+        try {
+            notEmpty.signalAll();
+        } finally {
+            waitLock.unlock();
+        }
     }
-}
\ No newline at end of file
+}
@@ -17,15 +17,30 @@
 
 package org.apache.eventmesh.connector.standalone.broker;
 
+import org.apache.eventmesh.api.exception.ConnectorRuntimeException;
+import org.apache.eventmesh.common.config.ConfigService;
 import org.apache.eventmesh.connector.standalone.broker.model.MessageEntity;
 import org.apache.eventmesh.connector.standalone.broker.model.TopicMetadata;
+import org.apache.eventmesh.connector.standalone.broker.storage.CommitLog;
+import org.apache.eventmesh.connector.standalone.broker.task.CommitLogFlushTask;
 import org.apache.eventmesh.connector.standalone.broker.task.HistoryMessageClearTask;
+import org.apache.eventmesh.connector.standalone.config.StandaloneConfiguration;
 
 import org.apache.commons.lang3.tuple.Pair;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import io.cloudevents.CloudEvent;
 
 /**
@@ -33,15 +48,47 @@ import io.cloudevents.CloudEvent;
  */
 public class StandaloneBroker {
 
+    private static final Logger logger = LoggerFactory.getLogger(StandaloneBroker.class);
+
+    private final StandaloneConfiguration configuration;
+
     private final ConcurrentHashMap<TopicMetadata, MessageQueue> messageContainer;
 
     // todo: move the offset manage to consumer
     private final ConcurrentHashMap<TopicMetadata, AtomicLong> offsetMap;
 
+    /**
+     * the offset of the next message to deliver, per topic and consumer group
+     */
+    private final ConcurrentHashMap<TopicMetadata, ConcurrentHashMap<String, AtomicLong>> consumerOffsetMap;
+
+    /**
+     * the durable commit log per topic, only used in file storage mode
+     */
+    private final ConcurrentHashMap<TopicMetadata, CommitLog> commitLogs;
+
+    private CommitLogFlushTask commitLogFlushTask;
+
+    private HistoryMessageClearTask historyMessageClearTask;
+
+    private final AtomicBoolean isShutdown = new AtomicBoolean(false);
+
     private StandaloneBroker() {
+        this(loadConfiguration());
+    }
+
+    StandaloneBroker(StandaloneConfiguration configuration) {
+        this.configuration = configuration;
         this.messageContainer = new ConcurrentHashMap<>();
         this.offsetMap = new ConcurrentHashMap<>();
-        startHistoryMessageCleanTask();
+        this.consumerOffsetMap = new ConcurrentHashMap<>();
+        this.commitLogs = new ConcurrentHashMap<>();
+        if (configuration.isFileStorage()) {
+            recoverTopics();
+            startCommitLogFlushTask();
+        } else {
+            startHistoryMessageCleanTask();
+        }
     }
 
     public ConcurrentHashMap<TopicMetadata, MessageQueue> getMessageContainer() {
@@ -68,21 +115,78 @@ public class StandaloneBroker {
         AtomicLong topicOffset = pair.getRight();
         MessageQueue messageQueue = pair.getLeft();
 
+        // the offset is assigned by the message queue
         MessageEntity messageEntity = new MessageEntity(
-            new TopicMetadata(topicName), message, topicOffset.getAndIncrement(), System.currentTimeMillis());
-        messageQueue.put(messageEntity);
+            new TopicMetadata(topicName), message, -1L, System.currentTimeMillis());
+        CommitLog commitLog = commitLogs.get(messageEntity.getTopicMetadata());
+        if (commitLog == null) {
+            messageQueue.put(messageEntity);
+        } else {
+            // the commit log and the queue must see the messages in the same order
+            synchronized (commitLog) {
+                messageEntity.setOffset(messageQueue.getNextOffset());
+                try {
+                    commitLog.append(messageEntity);
+                } catch (IOException e) {
+                    throw new ConnectorRuntimeException(String.format("append message to commit log of topic %s failed", topicName), e);
+                }
+                messageQueue.put(messageEntity);
+            }
+        }
+        topicOffset.accumulateAndGet(messageEntity.getOffset() + 1, Math::max);
 
         return messageEntity;
     }
 
+    /**
+     * put messages of a topic in order, with one append to the queue and, if enabled, the commit log
+     *
+     * @param topicName topic name
+     * @param messages  messages
+     * @throws InterruptedException
+     */
+    public List<MessageEntity> putMessages(String topicName, List<CloudEvent> messages) throws InterruptedException {
+        Pair<MessageQueue, AtomicLong> pair = createTopicIfAbsent(topicName);
+        MessageQueue messageQueue = pair.getLeft();
+
+        TopicMetadata topicMetadata = new TopicMetadata(topicName);
+        long storeTimestamp = System.currentTimeMillis();
+        List<MessageEntity> messageEntities = new ArrayList<>(messages.size());
+        for (CloudEvent message : messages) {
+            messageEntities.add(new MessageEntity(topicMetadata, message, -1L, storeTimestamp));
+        }
+        if (messageEntities.isEmpty()) {
+            return messageEntities;
+        }
+        CommitLog commitLog = commitLogs.get(topicMetadata);
+        if (commitLog == null) {
+            messageQueue.putAll(messageEntities);
+        } else {
+            synchronized (commitLog) {
+                long offset = messageQueue.getNextOffset();
+                for (MessageEntity messageEntity : messageEntities) {
+                    messageEntity.setOffset(offset++);
+                }
+                try {
+                    commitLog.appendAll(messageEntities);
+                } catch (IOException e) {
+                    throw new ConnectorRuntimeException(String.format("append message to commit log of topic %s failed", topicName), e);
+                }
+                messageQueue.putAll(messageEntities);
+            }
+        }
+        pair.getRight().accumulateAndGet(messageEntities.get(messageEntities.size() - 1).getOffset() + 1, Math::max);
+
+        return messageEntities;
+    }
+
     /**
      * Get the message, if the queue is empty then await
      *
      * @param topicName
      */
     public CloudEvent takeMessage(String topicName) throws InterruptedException {
-        TopicMetadata topicMetadata = new TopicMetadata(topicName);
-        return messageContainer.computeIfAbsent(topicMetadata, k -> new MessageQueue()).take().getMessage();
+        return createTopicIfAbsent(topicName).getLeft().take().getMessage();
     }
 
     /**
@@ -91,8 +195,7 @@ public class StandaloneBroker {
      * @param topicName
      */
     public CloudEvent getMessage(String topicName) {
-        TopicMetadata topicMetadata = new TopicMetadata(topicName);
-        MessageEntity head = messageContainer.computeIfAbsent(topicMetadata, k -> new MessageQueue()).getHead();
+        MessageEntity head = createTopicIfAbsent(topicName).getLeft().getHead();
         if (head == null) {
             return null;
         }
@@ -107,21 +210,174 @@ public class StandaloneBroker {
      * @return CloudEvent
      */
     public CloudEvent getMessage(String topicName, long offset) {
-        TopicMetadata topicMetadata = new TopicMetadata(topicName);
-        MessageEntity messageEntity = messageContainer.computeIfAbsent(topicMetadata, k -> new MessageQueue()).getByOffset(offset);
+        MessageQueue messageQueue = createTopicIfAbsent(topicName).getLeft();
+        CommitLog commitLog = commitLogs.get(new TopicMetadata(topicName));
+        MessageEntity messageEntity;
+        if (commitLog == null) {
+            messageEntity = messageQueue.getByOffset(offset);
+        } else {
+            messageEntity = offset < messageQueue.getHeadOffset() ? null : messageQueue.getRange(offset, 1).stream()
+                .filter(entity -> entity.getOffset() == offset).findFirst().orElse(null);
+            if (messageEntity == null) {
+                messageEntity = commitLog.read(offset);
+            }
+        }
         if (messageEntity == null) {
             return null;
         }
         return messageEntity.getMessage();
     }
 
+    /**
+     * Get the messages starting from the offset, if there is no message after the offset then await
+     *
+     * @param topicName topic name
+     * @param offset    offset of the first message
+     * @param maxSize   max number of messages
+     * @param timeout   the maximum time to wait
+     * @param unit      the time unit of the timeout argument
+     * @return messages ordered by offset, empty if the waiting time elapsed
+     * @throws InterruptedException
+     */
+    public List<MessageEntity> getMessages(String topicName, long offset, int maxSize, long timeout, TimeUnit unit)
+        throws InterruptedException {
+        MessageQueue messageQueue = createTopicIfAbsent(topicName).getLeft();
+        CommitLog commitLog = commitLogs.get(new TopicMetadata(topicName));
+        if (commitLog != null && offset < messageQueue.getHeadOffset()) {
+            // the messages have been evicted from memory, read them from the commit log
+            return commitLog.read(offset, maxSize);
+        }
+        messageQueue.awaitOffset(offset, timeout, unit);
+        List<MessageEntity> messageEntities = messageQueue.getRange(offset, maxSize);
+        if (commitLog != null && !messageEntities.isEmpty() && messageEntities.get(0).getOffset() != offset) {
+            // overwritten by the producer while reading
+            return commitLog.read(offset, maxSize);
+        }
+        return messageEntities;
+    }
+
+    /**
+     * Keep the messages from the offset in the queue until the consumer has read them, in file storage mode
+     * the messages can be read back from the commit log so the consumer does not hold back the producer
+     *
+     * @param topicName topic name
+     * @param offset    offset of the next message the consumer reads
+     */
+    public void addGatingSequence(String topicName, AtomicLong offset) {
+        if (!configuration.isFileStorage()) {
+            createTopicIfAbsent(topicName).getLeft().addGatingSequence(offset);
+        }
+    }
+
+    /**
+     * Gate the offset of a consumer again once it has caught up after being dropped for stalling the writer
+     *
+     * @param topicName topic name
+     * @param offset    offset of the consumer
+     */
+    public void resumeGatingSequence(String topicName, AtomicLong offset) {
+        MessageQueue messageQueue = messageContainer.get(new TopicMetadata(topicName));
+        if (messageQueue != null) {
+            messageQueue.resumeGatingSequence(offset);
+        }
+    }
+
+    public void removeGatingSequence(String topicName, AtomicLong offset) {
+        MessageQueue messageQueue = messageContainer.get(new TopicMetadata(topicName));
+        if (messageQueue != null) {
+            messageQueue.removeGatingSequence(offset);
+        }
+    }
+
+    /**
+     * Get the offset of the next message to deliver to the consumer group, a new consumer group starts from
+     * the oldest message of the topic
+     *
+     * @param topicName     topic name
+     * @param consumerGroup consumer group, if null the offset is not shared with other consumers
+     * @return offset shared by the consumers of this group
+     */
+    public AtomicLong getConsumerOffset(String topicName, String consumerGroup) {
+        TopicMetadata topicMetadata = new TopicMetadata(topicName);
+        Pair<MessageQueue, AtomicLong> pair = createTopicIfAbsent(topicName);
+        if (consumerGroup == null) {
+            return initialConsumerOffset(pair, topicMetadata, null);
+        }
+        return consumerOffsetMap.computeIfAbsent(topicMetadata, k -> new ConcurrentHashMap<>())
+            .computeIfAbsent(consumerGroup, k -> initialConsumerOffset(pair, topicMetadata, consumerGroup));
+    }
+
+    private AtomicLong initialConsumerOffset(Pair<MessageQueue, AtomicLong> pair, TopicMetadata topicMetadata,
+                                             String consumerGroup) {
+        CommitLog commitLog = commitLogs.get(topicMetadata);
+        if (commitLog != null) {
+            // a new consumer group replays the retained messages, a broadcast consumer only gets the new ones
+            return new AtomicLong(consumerGroup == null ? commitLog.getNextOffset() : commitLog.getFirstOffset());
+        }
+        MessageEntity head = pair.getLeft().getHead();
+        return new AtomicLong(head == null ? pair.getLeft().getNextOffset() : head.getOffset());
+    }
+
+    private static StandaloneConfiguration loadConfiguration() {
+        try {
+            return ConfigService.getInstance().buildConfigInstance(StandaloneConfiguration.class);
+        } catch (Exception e) {
+            logger.warn("load standalone configuration failed, use the default configuration", e);
+            return new StandaloneConfiguration();
+        }
+    }
+
+    private void recoverTopics() {
+        File storeDir = new File(configuration.getStoragePath());
+        for (String topicName : CommitLog.listTopics(storeDir)) {
+            TopicMetadata topicMetadata = new TopicMetadata(topicName);
+            createTopicIfAbsent(topicName);
+            try {
+                Map<String, Long> consumerOffsets = commitLogs.get(topicMetadata).loadConsumerOffsets();
+                ConcurrentHashMap<String, AtomicLong> groupOffsets =
+                    consumerOffsetMap.computeIfAbsent(topicMetadata, k -> new ConcurrentHashMap<>());
+                consumerOffsets.forEach((group, offset) -> groupOffsets.put(group, new AtomicLong(offset)));
+            } catch (IOException e) {
+                logger.warn("load consumer offsets of topic {} failed", topicName, e);
+            }
+            logger.info("recover topic {} from commit log, next offset {}", topicName,
+                commitLogs.get(topicMetadata).getNextOffset());
+        }
+    }
+
+    private void startCommitLogFlushTask() {
+        commitLogFlushTask = new CommitLogFlushTask(commitLogs, consumerOffsetMap,
+            configuration.getFlushIntervalMills(), configuration.getRetentionMills());
+        Thread thread = new Thread(commitLogFlushTask);
+        thread.setDaemon(true);
+        thread.setName("StandaloneBroker-CommitLogFlushTask");
+        thread.start();
+    }
+
     private void startHistoryMessageCleanTask() {
-        Thread thread = new Thread(new HistoryMessageClearTask(messageContainer));
+        historyMessageClearTask = new HistoryMessageClearTask(messageContainer);
+        Thread thread = new Thread(historyMessageClearTask);
         thread.setDaemon(true);
         thread.setName("StandaloneBroker-HistoryMessageCleanTask");
         thread.start();
     }
 
+    /**
+     * Stop the background tasks, in file storage mode the commit logs are flushed and the consumer offsets are
+     * stored a last time
+     */
+    public void shutdown() {
+        if (!isShutdown.compareAndSet(false, true)) {
+            return;
+        }
+        if (commitLogFlushTask != null) {
+            commitLogFlushTask.close();
+        }
+        if (historyMessageClearTask != null) {
+            historyMessageClearTask.shutdown();
+        }
+    }
+
     public boolean checkTopicExist(String topicName) {
         return messageContainer.containsKey(new TopicMetadata(topicName));
     }
@@ -134,11 +390,28 @@ public class StandaloneBroker {
      */
     public Pair<MessageQueue, AtomicLong> createTopicIfAbsent(String topicName) {
         TopicMetadata topicMetadata = new TopicMetadata(topicName);
-        MessageQueue messageQueue = messageContainer.computeIfAbsent(topicMetadata, k -> new MessageQueue());
+        MessageQueue messageQueue = messageContainer.computeIfAbsent(topicMetadata, k -> {
+            if (!configuration.isFileStorage()) {
+                return new MessageQueue(configuration.getQueueCapacity(topicName), 0L, configuration.getQueueGateTimeoutMills());
+            }
+            CommitLog commitLog = commitLogs.computeIfAbsent(k, this::openCommitLog);
+            return new MessageQueue(configuration.getQueueCapacity(topicName), commitLog.getNextOffset(),
+                configuration.getQueueGateTimeoutMills());
+        });
         AtomicLong offset = offsetMap.computeIfAbsent(topicMetadata, k -> new AtomicLong());
         return Pair.of(messageQueue, offset);
     }
 
+    private CommitLog openCommitLog(TopicMetadata topicMetadata) {
+        try {
+            return new CommitLog(new File(configuration.getStoragePath()), topicMetadata,
+                configuration.getSegmentSize(), configuration.getIndexInterval());
+        } catch (IOException e) {
+            throw new ConnectorRuntimeException(
+                String.format("open commit log of topic %s failed", topicMetadata.getTopicName()), e);
+        }
+    }
+
     /**
      * if the topic exists, delete the topic
      *
@@ -147,6 +420,11 @@ public class StandaloneBroker {
     public void deleteTopicIfExist(String topicName) {
         TopicMetadata topicMetadata = new TopicMetadata(topicName);
         messageContainer.remove(topicMetadata);
+        consumerOffsetMap.remove(topicMetadata);
+        CommitLog commitLog = commitLogs.remove(topicMetadata);
+        if (commitLog != null) {
+            commitLog.destroy();
+        }
     }
 
     public void updateOffset(TopicMetadata topicMetadata, long offset) {
@@ -158,5 +436,9 @@ public class StandaloneBroker {
 
     private static class StandaloneBrokerInstanceHolder {
         private static final StandaloneBroker instance = new StandaloneBroker();
+
+        static {
+            Runtime.getRuntime().addShutdownHook(new Thread(instance::shutdown, "StandaloneBroker-ShutdownHook"));
+        }
     }
 }
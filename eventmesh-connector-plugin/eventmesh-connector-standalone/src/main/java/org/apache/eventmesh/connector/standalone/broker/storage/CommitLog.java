@@ -0,0 +1,366 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.eventmesh.connector.standalone.broker.storage;
+
+import org.apache.eventmesh.connector.standalone.broker.model.MessageEntity;
+import org.apache.eventmesh.connector.standalone.broker.model.TopicMetadata;
+import org.apache.eventmesh.connector.standalone.broker.storage.CommitLogSegment.Record;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.cloudevents.core.format.EventFormat;
+import io.cloudevents.jackson.JsonFormat;
+
+/**
+ * The commit log of a topic: serialized CloudEvents appended to memory-mapped segment files of a fixed size,
+ * stored in one directory per topic.
+ *
+ * <p>Appends must be serialized by the caller, reads are served from the mapped segments without a lock.
+ * Each segment keeps a sparse index from offset to file position, rebuilt by scanning the segment on recovery.
+ *
+ * <p>The consumer offsets stored along with the log are the next offsets claimed by the consumer groups, which are
+ * claimed before delivery: a group resumes after the messages in flight at shutdown, consumption is at-most-once.
+ */
+public class CommitLog {
+
+    private static final Logger logger = LoggerFactory.getLogger(CommitLog.class);
+
+    private static final String CONSUMER_OFFSET_FILE = "consumer-offset.properties";
+
+    private final TopicMetadata topicMetadata;
+
+    private final File dir;
+
+    private final int segmentSize;
+
+    private final int indexInterval;
+
+    private final EventFormat eventFormat;
+
+    private final ConcurrentSkipListMap<Long, CommitLogSegment> segments = new ConcurrentSkipListMap<>();
+
+    private volatile CommitLogSegment activeSegment;
+
+    public CommitLog(File storeDir, TopicMetadata topicMetadata, int segmentSize, int indexInterval) throws IOException {
+        this.topicMetadata = topicMetadata;
+        this.dir = new File(storeDir, encode(topicMetadata.getTopicName()));
+        this.segmentSize = segmentSize;
+        this.indexInterval = indexInterval;
+        // the data is always written as base64, it is not necessarily json even without a content type
+        this.eventFormat = new JsonFormat(true, false);
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            throw new IOException("create commit log directory failed, dir: " + dir);
+        }
+        recover();
+    }
+
+    /**
+     * @return names of the topics which have a commit log in the store directory
+     */
+    public static List<String> listTopics(File storeDir) {
+        File[] dirs = storeDir.listFiles(File::isDirectory);
+        if (dirs == null) {
+            return Collections.emptyList();
+        }
+        List<String> topics = new ArrayList<>(dirs.length);
+        for (File topicDir : dirs) {
+            topics.add(decode(topicDir.getName()));
+        }
+        return topics;
+    }
+
+    private void recover() throws IOException {
+        File[] files = dir.listFiles((d, name) -> name.endsWith(CommitLogSegment.FILE_SUFFIX));
+        if (files != null) {
+            Arrays.sort(files);
+            for (File file : files) {
+                long baseOffset = Long.parseLong(file.getName().substring(0,
+                    file.getName().length() - CommitLogSegment.FILE_SUFFIX.length()));
+                CommitLogSegment segment = new CommitLogSegment(dir, baseOffset, segmentSize, indexInterval);
+                segment.recover();
+                if (activeSegment != null && activeSegment.getNextOffset() != baseOffset) {
+                    logger.warn("commit log is not continuous, topic: {}, offset: [{}, {})",
+                        topicMetadata.getTopicName(), activeSegment.getNextOffset(), baseOffset);
+                }
+                segments.put(baseOffset, segment);
+                activeSegment = segment;
+            }
+        }
+        if (activeSegment == null) {
+            roll(0L);
+        }
+        logger.info("recover commit log, topic: {}, offset: [{}, {})",
+            topicMetadata.getTopicName(), getFirstOffset(), getNextOffset());
+    }
+
+    /**
+     * Append the message, the offset of the message must be {@link #getNextOffset()}
+     *
+     * @param messageEntity message
+     * @throws IOException if a new segment can't be created
+     */
+    public void append(MessageEntity messageEntity) throws IOException {
+        appendAll(Collections.singletonList(messageEntity));
+    }
+
+    /**
+     * Append the messages with one write per segment, the offsets of the messages must follow each other from
+     * {@link #getNextOffset()}
+     *
+     * @param messageEntities messages
+     * @throws IOException if a new segment can't be created
+     */
+    public void appendAll(List<MessageEntity> messageEntities) throws IOException {
+        long offset = getNextOffset();
+        List<byte[]> bodies = new ArrayList<>(messageEntities.size());
+        for (MessageEntity messageEntity : messageEntities) {
+            if (messageEntity.getOffset() != offset) {
+                throw new IllegalStateException(String.format("The offset %s is not the next offset %s of the commit log",
+                    messageEntity.getOffset(), offset));
+            }
+            byte[] body = eventFormat.serialize(messageEntity.getMessage());
+            if (CommitLogSegment.RECORD_HEADER_SIZE + body.length > segmentSize) {
+                throw new IllegalArgumentException(String.format("The message is too large, size: %s", body.length));
+            }
+            bodies.add(body);
+            offset++;
+        }
+        int appended = 0;
+        while (appended < messageEntities.size()) {
+            int count = activeSegment.append(messageEntities, bodies, appended);
+            if (count == 0) {
+                roll(messageEntities.get(appended).getOffset());
+            }
+            appended += count;
+        }
+    }
+
+    /**
+     * Read at most maxSize messages starting from the offset, if the message of the offset has been deleted,
+     * start from the first message of the commit log
+     *
+     * @param offset  offset
+     * @param maxSize max number of messages
+     * @return messages ordered by offset
+     */
+    public List<MessageEntity> read(long offset, int maxSize) {
+        CommitLogSegment segment = retainSegment(offset);
+        if (segment == null) {
+            return Collections.emptyList();
+        }
+        List<MessageEntity> messageEntities = new ArrayList<>(Math.min(maxSize, 64));
+        try {
+            Record record = segment.read(Math.max(offset, segment.getBaseOffset()));
+            while (record != null) {
+                messageEntities.add(toMessageEntity(record));
+                if (messageEntities.size() >= maxSize) {
+                    break;
+                }
+                Record next = segment.readAt(record.nextPosition);
+                if (next == null) {
+                    Map.Entry<Long, CommitLogSegment> higher = segments.higherEntry(segment.getBaseOffset());
+                    if (higher == null || !higher.getValue().retain()) {
+                        break;
+                    }
+                    segment.release();
+                    segment = higher.getValue();
+                    next = segment.read(record.offset + 1);
+                }
+                record = next;
+            }
+        } finally {
+            segment.release();
+        }
+        return messageEntities;
+    }
+
+    /**
+     * Read the message of the offset
+     *
+     * @return null if the message doesn't exist
+     */
+    public MessageEntity read(long offset) {
+        Map.Entry<Long, CommitLogSegment> entry = segments.floorEntry(offset);
+        if (entry == null || !entry.getValue().retain()) {
+            return null;
+        }
+        try {
+            Record record = entry.getValue().read(offset);
+            return record == null ? null : toMessageEntity(record);
+        } finally {
+            entry.getValue().release();
+        }
+    }
+
+    public void flush() {
+        for (CommitLogSegment segment : segments.values()) {
+            if (segment.retain()) {
+                try {
+                    segment.flush();
+                } finally {
+                    segment.release();
+                }
+            }
+        }
+    }
+
+    /**
+     * Retain the segment of the offset, or the first segment if the offset has been deleted
+     *
+     * @return null if all the segments have been deleted
+     */
+    private CommitLogSegment retainSegment(long offset) {
+        while (true) {
+            Map.Entry<Long, CommitLogSegment> entry = segments.floorEntry(offset);
+            if (entry == null) {
+                entry = segments.firstEntry();
+            }
+            if (entry == null) {
+                return null;
+            }
+            if (entry.getValue().retain()) {
+                return entry.getValue();
+            }
+            // the segment has been deleted in the meantime, it is not in the map any more
+        }
+    }
+
+    /**
+     * Delete the oldest segments which have not been written for retentionMills, the active segment is kept
+     */
+    public void deleteExpiredSegments(long retentionMills) {
+        long now = System.currentTimeMillis();
+        Iterator<CommitLogSegment> iterator = segments.values().iterator();
+        while (iterator.hasNext()) {
+            CommitLogSegment segment = iterator.next();
+            if (segment == activeSegment || now - segment.getLastModifiedMills() < retentionMills) {
+                return;
+            }
+            iterator.remove();
+            try {
+                segment.delete();
+                logger.info("delete expired commit log segment, topic: {}, baseOffset: {}",
+                    topicMetadata.getTopicName(), segment.getBaseOffset());
+            } catch (IOException e) {
+                logger.error("delete expired commit log segment error, topic: {}", topicMetadata.getTopicName(), e);
+            }
+        }
+    }
+
+    /**
+     * Delete all the files of this commit log
+     */
+    public void destroy() {
+        for (CommitLogSegment segment : segments.values()) {
+            try {
+                segment.delete();
+            } catch (IOException e) {
+                logger.error("delete commit log segment error, topic: {}", topicMetadata.getTopicName(), e);
+            }
+        }
+        segments.clear();
+        File offsetFile = new File(dir, CONSUMER_OFFSET_FILE);
+        if ((offsetFile.exists() && !offsetFile.delete()) || !dir.delete()) {
+            logger.warn("delete commit log directory failed, dir: {}", dir);
+        }
+    }
+
+    public Map<String, Long> loadConsumerOffsets() throws IOException {
+        File offsetFile = new File(dir, CONSUMER_OFFSET_FILE);
+        Map<String, Long> consumerOffsets = new HashMap<>();
+        if (!offsetFile.exists()) {
+            return consumerOffsets;
+        }
+        Properties properties = new Properties();
+        try (InputStream inputStream = Files.newInputStream(offsetFile.toPath())) {
+            properties.load(inputStream);
+        }
+        properties.forEach((group, offset) -> consumerOffsets.put((String) group, Long.parseLong((String) offset)));
+        return consumerOffsets;
+    }
+
+    public void storeConsumerOffsets(Map<String, Long> consumerOffsets) throws IOException {
+        Properties properties = new Properties();
+        consumerOffsets.forEach((group, offset) -> properties.setProperty(group, String.valueOf(offset)));
+        Path tmpFile = new File(dir, CONSUMER_OFFSET_FILE + ".tmp").toPath();
+        try (OutputStream outputStream = Files.newOutputStream(tmpFile)) {
+            properties.store(outputStream, null);
+        }
+        Files.move(tmpFile, new File(dir, CONSUMER_OFFSET_FILE).toPath(), StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public long getFirstOffset() {
+        Map.Entry<Long, CommitLogSegment> firstEntry = segments.firstEntry();
+        // segments are cleared by destroy, the log is empty from the next offset on
+        return firstEntry == null ? getNextOffset() : firstEntry.getKey();
+    }
+
+    public long getNextOffset() {
+        return activeSegment.getNextOffset();
+    }
+
+    private void roll(long baseOffset) throws IOException {
+        CommitLogSegment segment = new CommitLogSegment(dir, baseOffset, segmentSize, indexInterval);
+        segments.put(baseOffset, segment);
+        activeSegment = segment;
+    }
+
+    private MessageEntity toMessageEntity(Record record) {
+        return new MessageEntity(topicMetadata, eventFormat.deserialize(record.body), record.offset, record.createTimeMills);
+    }
+
+    private static String encode(String topicName) {
+        try {
+            return URLEncoder.encode(topicName, StandardCharsets.UTF_8.name());
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String decode(String dirName) {
+        try {
+            return URLDecoder.decode(dirName, StandardCharsets.UTF_8.name());
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,376 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.eventmesh.connector.standalone.broker.storage;
+
+import org.apache.eventmesh.connector.standalone.broker.model.MessageEntity;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A memory-mapped file of the commit log, the name of the file is the offset of its first message.
+ *
+ * <p>Record layout: length(int) | offset(long) | createTimeMills(long) | crc(int) | body(length bytes).
+ * A record with a zero length or a wrong crc marks the end of the segment.
+ *
+ * <p>The segment is appended by one writer at a time, readers access the records before {@link #getWritePosition()}
+ * through their own view of the mapped buffer. A reader must {@link #retain()} the segment before reading it and
+ * {@link #release()} it afterwards: the buffer is unmapped and the file deleted by the last release after
+ * {@link #delete()}, reading an unmapped buffer would crash the jvm.
+ */
+class CommitLogSegment {
+
+    private static final Logger logger = LoggerFactory.getLogger(CommitLogSegment.class);
+
+    static final int RECORD_HEADER_SIZE = 4 + 8 + 8 + 4;
+
+    static final String FILE_SUFFIX = ".log";
+
+    private final File file;
+
+    private final long baseOffset;
+
+    private final int fileSize;
+
+    private final MappedByteBuffer mappedByteBuffer;
+
+    /**
+     * message offset to file position, one entry every indexInterval bytes
+     */
+    private final ConcurrentSkipListMap<Long, Integer> sparseIndex = new ConcurrentSkipListMap<>();
+
+    private final int indexInterval;
+
+    private volatile int writePosition;
+
+    private int lastIndexPosition = -1;
+
+    /**
+     * offset of the next message appended to this segment
+     */
+    private volatile long nextOffset;
+
+    private volatile long lastModifiedMills;
+
+    private int flushedPosition;
+
+    /**
+     * one reference held by the commit log until {@link #delete()}, plus one per reader
+     */
+    private final AtomicInteger refCount = new AtomicInteger(1);
+
+    private volatile boolean deleted;
+
+    CommitLogSegment(File dir, long baseOffset, int fileSize, int indexInterval) throws IOException {
+        this.file = new File(dir, fileName(baseOffset));
+        this.baseOffset = baseOffset;
+        this.fileSize = fileSize;
+        this.indexInterval = indexInterval;
+        this.nextOffset = baseOffset;
+        this.lastModifiedMills = file.exists() ? file.lastModified() : System.currentTimeMillis();
+        // the mapping stays valid after the channel is closed
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+            this.mappedByteBuffer = randomAccessFile.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+        }
+    }
+
+    static String fileName(long baseOffset) {
+        return String.format("%020d", baseOffset) + FILE_SUFFIX;
+    }
+
+    /**
+     * Scan the records written before a restart, rebuild the sparse index and find the write position
+     */
+    void recover() {
+        ByteBuffer buffer = mappedByteBuffer.duplicate();
+        int position = 0;
+        long offset = baseOffset;
+        while (position + RECORD_HEADER_SIZE <= fileSize) {
+            buffer.position(position);
+            int length = buffer.getInt();
+            long recordOffset = buffer.getLong();
+            buffer.getLong();
+            int crc = buffer.getInt();
+            if (length <= 0 || recordOffset != offset || position + RECORD_HEADER_SIZE + length > fileSize
+                || crc != crc(buffer, position + RECORD_HEADER_SIZE, length)) {
+                break;
+            }
+            index(offset, position);
+            position += RECORD_HEADER_SIZE + length;
+            offset++;
+        }
+        this.writePosition = position;
+        this.flushedPosition = position;
+        this.nextOffset = offset;
+    }
+
+    /**
+     * @return false if the segment has no room for the record
+     */
+    boolean append(long offset, long createTimeMills, byte[] body) {
+        int position = writePosition;
+        if (position + RECORD_HEADER_SIZE + body.length > fileSize) {
+            return false;
+        }
+        ByteBuffer buffer = mappedByteBuffer.duplicate();
+        position = write(buffer, position, offset, createTimeMills, body);
+        this.nextOffset = offset + 1;
+        this.lastModifiedMills = createTimeMills;
+        // publish the record to the readers
+        this.writePosition = position;
+        return true;
+    }
+
+    /**
+     * Append the records of the messages from the index {@code from} on, as many as the segment has room for, and
+     * publish them to the readers at once
+     *
+     * @param bodies serialized messages, in the order of the messages
+     * @return number of the records appended, 0 if the segment has no room for the first one
+     */
+    int append(List<MessageEntity> messageEntities, List<byte[]> bodies, int from) {
+        ByteBuffer buffer = mappedByteBuffer.duplicate();
+        int position = writePosition;
+        int i = from;
+        for (; i < messageEntities.size() && position + RECORD_HEADER_SIZE + bodies.get(i).length <= fileSize; i++) {
+            position = write(buffer, position, messageEntities.get(i).getOffset(), messageEntities.get(i).getCreateTimeMills(),
+                bodies.get(i));
+        }
+        if (i > from) {
+            this.nextOffset = messageEntities.get(i - 1).getOffset() + 1;
+            this.lastModifiedMills = messageEntities.get(i - 1).getCreateTimeMills();
+            // publish the records to the readers
+            this.writePosition = position;
+        }
+        return i - from;
+    }
+
+    /**
+     * @return position of the next record
+     */
+    private int write(ByteBuffer buffer, int position, long offset, long createTimeMills, byte[] body) {
+        buffer.position(position);
+        buffer.putInt(body.length);
+        buffer.putLong(offset);
+        buffer.putLong(createTimeMills);
+        CRC32 crc32 = new CRC32();
+        crc32.update(body, 0, body.length);
+        buffer.putInt((int) crc32.getValue());
+        buffer.put(body);
+        index(offset, position);
+        return position + RECORD_HEADER_SIZE + body.length;
+    }
+
+    /**
+     * Read the record of the offset
+     *
+     * @return null if the offset is not in this segment
+     */
+    Record read(long offset) {
+        int limit = writePosition;
+        Map.Entry<Long, Integer> floor = sparseIndex.floorEntry(offset);
+        if (floor == null || offset >= nextOffset) {
+            return null;
+        }
+        ByteBuffer buffer = mappedByteBuffer.duplicate();
+        int position = floor.getValue();
+        while (position + RECORD_HEADER_SIZE <= limit) {
+            buffer.position(position);
+            int length = buffer.getInt();
+            long recordOffset = buffer.getLong();
+            long createTimeMills = buffer.getLong();
+            buffer.getInt();
+            if (recordOffset == offset) {
+                byte[] body = new byte[length];
+                buffer.get(body);
+                return new Record(recordOffset, createTimeMills, body, position + RECORD_HEADER_SIZE + length);
+            }
+            position += RECORD_HEADER_SIZE + length;
+        }
+        return null;
+    }
+
+    /**
+     * Read the record at the position, which must be the end of a record returned by {@link #read(long)}
+     *
+     * @return null if there is no more record
+     */
+    Record readAt(int position) {
+        if (position + RECORD_HEADER_SIZE > writePosition) {
+            return null;
+        }
+        ByteBuffer buffer = mappedByteBuffer.duplicate();
+        buffer.position(position);
+        int length = buffer.getInt();
+        long recordOffset = buffer.getLong();
+        long createTimeMills = buffer.getLong();
+        buffer.getInt();
+        byte[] body = new byte[length];
+        buffer.get(body);
+        return new Record(recordOffset, createTimeMills, body, position + RECORD_HEADER_SIZE + length);
+    }
+
+    /**
+     * Write the appended records to the disk, only called by the flush task
+     */
+    void flush() {
+        int position = writePosition;
+        if (position > flushedPosition) {
+            mappedByteBuffer.force();
+            flushedPosition = position;
+        }
+    }
+
+    /**
+     * @return false if the segment has been deleted, it must not be read then
+     */
+    boolean retain() {
+        while (true) {
+            int count = refCount.get();
+            if (deleted || count <= 0) {
+                return false;
+            }
+            if (refCount.compareAndSet(count, count + 1)) {
+                return true;
+            }
+        }
+    }
+
+    void release() {
+        if (refCount.decrementAndGet() == 0) {
+            try {
+                destroy();
+            } catch (IOException e) {
+                logger.error("delete commit log segment error, file: {}", file, e);
+            }
+        }
+    }
+
+    /**
+     * Drop the reference of the commit log, the segment is deleted at once if no reader is reading it,
+     * otherwise by the last reader
+     *
+     * @throws IOException if the segment is deleted at once and the file can't be deleted
+     */
+    void delete() throws IOException {
+        deleted = true;
+        if (refCount.decrementAndGet() == 0) {
+            destroy();
+        }
+    }
+
+    private void destroy() throws IOException {
+        // the file of a mapped buffer can't be deleted on some platforms and its memory is only released by the gc
+        unmap(mappedByteBuffer);
+        if (!file.delete()) {
+            throw new IOException("delete commit log segment failed, file: " + file);
+        }
+    }
+
+    long getBaseOffset() {
+        return baseOffset;
+    }
+
+    long getNextOffset() {
+        return nextOffset;
+    }
+
+    int getWritePosition() {
+        return writePosition;
+    }
+
+    long getLastModifiedMills() {
+        return lastModifiedMills;
+    }
+
+    private void index(long offset, int position) {
+        if (lastIndexPosition < 0 || position - lastIndexPosition >= indexInterval) {
+            sparseIndex.put(offset, position);
+            lastIndexPosition = position;
+        }
+    }
+
+    private static void unmap(MappedByteBuffer buffer) {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Method invokeCleaner;
+            try {
+                invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            } catch (NoSuchMethodException e) {
+                // java 8, the direct buffer exposes its cleaner
+                Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+                cleanerMethod.setAccessible(true);
+                Object cleaner = cleanerMethod.invoke(buffer);
+                if (cleaner != null) {
+                    cleaner.getClass().getMethod("clean").invoke(cleaner);
+                }
+                return;
+            }
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            invokeCleaner.invoke(theUnsafe.get(null), buffer);
+        } catch (Exception e) {
+            logger.warn("unmap commit log segment failed, the memory is released by the gc", e);
+        }
+    }
+
+    private static int crc(ByteBuffer buffer, int position, int length) {
+        ByteBuffer body = buffer.duplicate();
+        body.position(position);
+        body.limit(position + length);
+        CRC32 crc32 = new CRC32();
+        crc32.update(body);
+        return (int) crc32.getValue();
+    }
+
+    static class Record {
+
+        final long offset;
+
+        final long createTimeMills;
+
+        final byte[] body;
+
+        /**
+         * position of the next record in the segment
+         */
+        final int nextPosition;
+
+        Record(long offset, long createTimeMills, byte[] body, int nextPosition) {
+            this.offset = offset;
+            this.createTimeMills = createTimeMills;
+            this.body = body;
+            this.nextPosition = nextPosition;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.eventmesh.connector.standalone.broker.task;
+
+import org.apache.eventmesh.connector.standalone.broker.model.TopicMetadata;
+import org.apache.eventmesh.connector.standalone.broker.storage.CommitLog;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This task flushes the commit logs to the disk in groups every flush interval, stores the consumer offsets and
+ * deletes the expired commit log segments.
+ */
+public class CommitLogFlushTask implements Runnable {
+
+    private final Logger logger = LoggerFactory.getLogger(CommitLogFlushTask.class);
+
+    /**
+     * how often the expired segments are deleted
+     */
+    private static final long CLEAN_INTERVAL_MILLS = 60 * 1000;
+
+    private final ConcurrentHashMap<TopicMetadata, CommitLog> commitLogs;
+
+    private final ConcurrentHashMap<TopicMetadata, ConcurrentHashMap<String, AtomicLong>> consumerOffsetMap;
+
+    private final long flushIntervalMills;
+
+    private final long retentionMills;
+
+    private long lastCleanTimeMills = System.currentTimeMillis();
+
+    private final CountDownLatch shutdownLatch = new CountDownLatch(1);
+
+    private volatile Thread runThread;
+
+    /**
+     * the consumer offsets written last time, the offset file is only rewritten when they change
+     */
+    private final Map<TopicMetadata, Map<String, Long>> storedConsumerOffsets = new HashMap<>();
+
+    public CommitLogFlushTask(ConcurrentHashMap<TopicMetadata, CommitLog> commitLogs,
+                              ConcurrentHashMap<TopicMetadata, ConcurrentHashMap<String, AtomicLong>> consumerOffsetMap,
+                              long flushIntervalMills, long retentionMills) {
+        this.commitLogs = commitLogs;
+        this.consumerOffsetMap = consumerOffsetMap;
+        this.flushIntervalMills = flushIntervalMills;
+        this.retentionMills = retentionMills;
+    }
+
+    @Override
+    public void run() {
+        runThread = Thread.currentThread();
+        while (shutdownLatch.getCount() > 0) {
+            flush();
+            if (System.currentTimeMillis() - lastCleanTimeMills >= CLEAN_INTERVAL_MILLS) {
+                commitLogs.values().forEach(commitLog -> commitLog.deleteExpiredSegments(retentionMills));
+                lastCleanTimeMills = System.currentTimeMillis();
+            }
+            try {
+                if (shutdownLatch.await(flushIntervalMills, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                logger.error("Thread is interrupted, thread name: {}", Thread.currentThread().getName(), e);
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Stop the task, then flush the commit logs and store the consumer offsets a last time
+     */
+    public void close() {
+        shutdownLatch.countDown();
+        Thread thread = runThread;
+        if (thread != null && thread != Thread.currentThread()) {
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+    }
+
+    public synchronized void flush() {
+        for (Map.Entry<TopicMetadata, CommitLog> entry : commitLogs.entrySet()) {
+            try {
+                entry.getValue().flush();
+                Map<String, AtomicLong> consumerOffsets = consumerOffsetMap.get(entry.getKey());
+                if (consumerOffsets == null || consumerOffsets.isEmpty()) {
+                    continue;
+                }
+                Map<String, Long> snapshot = new HashMap<>(consumerOffsets.size());
+                consumerOffsets.forEach((group, offset) -> snapshot.put(group, offset.get()));
+                if (!snapshot.equals(storedConsumerOffsets.get(entry.getKey()))) {
+                    entry.getValue().storeConsumerOffsets(snapshot);
+                    storedConsumerOffsets.put(entry.getKey(), snapshot);
+                }
+            } catch (Exception e) {
+                logger.error("flush commit log error, topic: {}", entry.getKey().getTopicName(), e);
+            }
+        }
+    }
+}
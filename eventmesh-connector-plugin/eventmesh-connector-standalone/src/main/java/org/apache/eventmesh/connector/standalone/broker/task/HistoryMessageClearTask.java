@@ -42,13 +42,15 @@ public class HistoryMessageClearTask implements Runnable {
      */
     private static final long MESSAGE_STORE_WINDOW = 60 * 60 * 1000;
 
+    private volatile boolean isRunning = true;
+
     public HistoryMessageClearTask(ConcurrentHashMap<TopicMetadata, MessageQueue> messageContainer) {
         this.messageContainer = messageContainer;
     }
 
     @Override
     public void run() {
-        while (true) {
+        while (isRunning) {
             messageContainer.forEach((topicMetadata, messageQueue) -> {
                 long currentTimeMillis = System.currentTimeMillis();
                 MessageEntity oldestMessage = messageQueue.getHead();
@@ -64,7 +66,12 @@ public class HistoryMessageClearTask implements Runnable {
             } catch (InterruptedException e) {
                 logger.error("Thread is interrupted, thread name: {}", Thread.currentThread().getName(), e);
                 Thread.currentThread().interrupt();
+                return;
             }
         }
     }
+
+    public void shutdown() {
+        isRunning = false;
+    }
 }
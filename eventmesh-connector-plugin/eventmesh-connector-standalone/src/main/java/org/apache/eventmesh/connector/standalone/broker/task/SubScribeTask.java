@@ -21,97 +21,184 @@ import org.apache.eventmesh.api.EventListener;
 import org.apache.eventmesh.api.EventMeshAction;
 import org.apache.eventmesh.api.EventMeshAsyncConsumeContext;
 import org.apache.eventmesh.connector.standalone.broker.StandaloneBroker;
+import org.apache.eventmesh.connector.standalone.broker.model.MessageEntity;
 
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.List;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import io.cloudevents.CloudEvent;
-
+/**
+ * Push the messages of a topic to the listener. The task blocks until new messages arrive and delivers them in
+ * batches, the offset is shared by the consumers of the same consumer group.
+ *
+ * <p>The offset of a message is claimed before the message is delivered, so the consumers of a group never
+ * receive the same message. The delivery is at-most-once: a message being consumed when the broker stops is not
+ * delivered again after a restart, even if the offsets are persisted in the commit log. A message the listener
+ * asks to reconsume later, during or after {@code consume}, is delivered again by the same task as long as it runs.
+ */
 public class SubScribeTask implements Runnable {
 
-    private String topicName;
-    private StandaloneBroker standaloneBroker;
-    private EventListener listener;
+    /**
+     * max number of messages fetched from the queue at a time
+     */
+    private static final int BATCH_SIZE = 64;
+
+    /**
+     * how long to wait for new messages before checking whether the task has been shutdown
+     */
+    private static final long POLL_TIMEOUT_MILLS = 1000;
+
+    /**
+     * how long to wait before delivering a message again if the listener asks to reconsume it later
+     */
+    private static final long RECONSUME_DELAY_MILLS = 1000;
+
+    private final String topicName;
+    private final StandaloneBroker standaloneBroker;
+    private final EventListener listener;
     private volatile boolean isRunning;
 
-    private AtomicInteger offset;
+    private final AtomicLong offset;
+
+    /**
+     * messages the listener asked to reconsume later, delivered again by the task once their delay has passed
+     */
+    private final DelayQueue<ReconsumeMessage> reconsumeMessages = new DelayQueue<>();
 
     private final Logger logger = LoggerFactory.getLogger(SubScribeTask.class);
 
     public SubScribeTask(String topicName,
+                         String consumerGroup,
                          StandaloneBroker standaloneBroker,
                          EventListener listener) {
         this.topicName = topicName;
         this.standaloneBroker = standaloneBroker;
         this.listener = listener;
+        this.offset = standaloneBroker.getConsumerOffset(topicName, consumerGroup);
         this.isRunning = true;
     }
 
     @Override
     public void run() {
+        standaloneBroker.addGatingSequence(topicName, offset);
+        try {
+            consumeMessages();
+        } finally {
+            standaloneBroker.removeGatingSequence(topicName, offset);
+        }
+    }
+
+    private void consumeMessages() {
         while (isRunning) {
             try {
-                logger.debug("execute subscribe task, topic: {}, offset: {}", topicName, offset);
-                if (offset == null) {
-                    CloudEvent message = standaloneBroker.getMessage(topicName);
-                    if (message != null) {
-                        Object tmpOffset = message.getExtension("offset");
-                        if (tmpOffset instanceof Integer) {
-                            offset = new AtomicInteger(Integer.parseInt(tmpOffset.toString()));
-                        } else {
-                            offset = new AtomicInteger(0);
-                        }
-
+                List<MessageEntity> messageEntities = standaloneBroker.getMessages(topicName, offset.get(), BATCH_SIZE,
+                    POLL_TIMEOUT_MILLS, TimeUnit.MILLISECONDS);
+                for (MessageEntity messageEntity : messageEntities) {
+                    if (!isRunning) {
+                        break;
                     }
+                    consume(messageEntity);
                 }
-                if (offset != null) {
-                    CloudEvent message = standaloneBroker.getMessage(topicName, offset.get());
-                    if (message != null) {
-                        EventMeshAsyncConsumeContext consumeContext = new EventMeshAsyncConsumeContext() {
-                            @Override
-                            public void commit(EventMeshAction action) {
-                                switch (action) {
-                                    case CommitMessage:
-                                        // update offset
-                                        logger.info("message commit, topic: {}, current offset:{}", topicName,
-                                            offset.get());
-                                        break;
-                                    case ReconsumeLater:
-                                        // don't update offset
-                                        break;
-                                    case ManualAck:
-                                        // update offset
-                                        offset.incrementAndGet();
-                                        logger
-                                            .info("message ack, topic: {}, current offset:{}", topicName, offset.get());
-                                        break;
-                                    default:
-
-                                }
-                            }
-                        };
-                        listener.consume(message, consumeContext);
-                    }
+                if (!messageEntities.isEmpty()) {
+                    // the writer may have dropped the offset from the gate while this consumer was stalled
+                    standaloneBroker.resumeGatingSequence(topicName, offset);
+                }
+                ReconsumeMessage reconsumeMessage;
+                while (isRunning && (reconsumeMessage = reconsumeMessages.poll()) != null) {
+                    deliver(reconsumeMessage.messageEntity);
                 }
-
-            } catch (Exception ex) {
-                logger.error("consumer error, topic: {}, offset: {}", topicName, offset == null ? null : offset.get(),
-                    ex);
-            }
-            try {
-                Thread.sleep(1000);
             } catch (InterruptedException e) {
                 logger.error("Thread is interrupted, topic: {}, offset: {} thread name: {}",
-                    topicName, offset == null ? null : offset.get(), Thread.currentThread().getName(), e);
+                    topicName, offset.get(), Thread.currentThread().getName(), e);
                 Thread.currentThread().interrupt();
+                return;
+            } catch (Exception ex) {
+                logger.error("consumer error, topic: {}, offset: {}", topicName, offset.get(), ex);
             }
         }
     }
 
+    private void consume(MessageEntity messageEntity) {
+        long messageOffset = messageEntity.getOffset();
+        long currentOffset = offset.get();
+        if (currentOffset > messageOffset) {
+            // consumed by another consumer of the group
+            return;
+        }
+        if (!offset.compareAndSet(currentOffset, messageOffset + 1)) {
+            return;
+        }
+        if (currentOffset < messageOffset) {
+            logger.warn("messages have been deleted before consumed, topic: {}, offset: [{}, {})",
+                topicName, currentOffset, messageOffset);
+        }
+
+        deliver(messageEntity);
+    }
+
+    private void deliver(MessageEntity messageEntity) {
+        listener.consume(messageEntity.getMessage(), new ConsumeContext(messageEntity));
+    }
+
     public void shutdown() {
         isRunning = false;
     }
 
+    private class ConsumeContext extends EventMeshAsyncConsumeContext {
+
+        private final MessageEntity messageEntity;
+
+        ConsumeContext(MessageEntity messageEntity) {
+            this.messageEntity = messageEntity;
+        }
+
+        /**
+         * The action is applied when the listener commits, which may be after {@code consume} has returned
+         */
+        @Override
+        public void commit(EventMeshAction action) {
+            switch (action) {
+                case CommitMessage:
+                case ManualAck:
+                    logger.debug("message ack, topic: {}, offset: {}", topicName, messageEntity.getOffset());
+                    break;
+                case ReconsumeLater:
+                    if (isRunning) {
+                        reconsumeMessages.offer(new ReconsumeMessage(messageEntity,
+                            System.currentTimeMillis() + RECONSUME_DELAY_MILLS));
+                    }
+                    break;
+                default:
+
+            }
+        }
+    }
+
+    private static class ReconsumeMessage implements Delayed {
+
+        private final MessageEntity messageEntity;
+
+        private final long reconsumeTime;
+
+        ReconsumeMessage(MessageEntity messageEntity, long reconsumeTime) {
+            this.messageEntity = messageEntity;
+            this.reconsumeTime = reconsumeTime;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(reconsumeTime - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed o) {
+            return Long.compare(reconsumeTime, ((ReconsumeMessage) o).reconsumeTime);
+        }
+    }
+
 }
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.eventmesh.connector.standalone.config;
+
+import org.apache.eventmesh.common.config.Config;
+import org.apache.eventmesh.common.config.ConfigFiled;
+import org.apache.eventmesh.connector.standalone.broker.MessageQueue;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Config(prefix = "eventMesh.server.standalone", path = "classPath://standalone-client.properties")
+public class StandaloneConfiguration {
+
+    public static final String STORAGE_MODE_MEMORY = "memory";
+
+    public static final String STORAGE_MODE_FILE = "file";
+
+    /**
+     * default capacity of the message queue of a topic
+     */
+    @ConfigFiled(field = "queue.capacity")
+    private int queueCapacity = MessageQueue.DEFAULT_CAPACITY;
+
+    /**
+     * capacity of the message queue per topic, eventMesh.server.standalone.queue.topicCapacity.{topic}={capacity}
+     */
+    @ConfigFiled(field = "queue.topicCapacity")
+    private Map<String, Integer> topicQueueCapacity = new HashMap<>();
+
+    /**
+     * how long a producer waits for a consumer group which has not received the message to be overwritten,
+     * the group is dropped from the gate after that and the message is overwritten
+     */
+    @ConfigFiled(field = "queue.gateTimeoutMills")
+    private long queueGateTimeoutMills = MessageQueue.DEFAULT_GATE_TIMEOUT_MILLS;
+
+    /**
+     * memory: messages are only kept in the message queue, file: messages are also appended to the commit log
+     */
+    @ConfigFiled(field = "storage.mode")
+    private String storageMode = STORAGE_MODE_MEMORY;
+
+    @ConfigFiled(field = "storage.path")
+    private String storagePath = System.getProperty("user.home") + File.separator + "eventmesh-standalone-store";
+
+    @ConfigFiled(field = "storage.segmentSize")
+    private int segmentSize = 64 * 1024 * 1024;
+
+    /**
+     * bytes between two entries of the sparse offset index
+     */
+    @ConfigFiled(field = "storage.indexInterval")
+    private int indexInterval = 4096;
+
+    @ConfigFiled(field = "storage.flushIntervalMills")
+    private int flushIntervalMills = 500;
+
+    @ConfigFiled(field = "storage.retentionMills")
+    private long retentionMills = 72 * 60 * 60 * 1000L;
+
+    public boolean isFileStorage() {
+        return STORAGE_MODE_FILE.equalsIgnoreCase(storageMode);
+    }
+
+    public int getQueueCapacity(String topicName) {
+        Integer capacity = topicQueueCapacity.get(topicName);
+        return capacity == null ? queueCapacity : capacity;
+    }
+}
@@ -25,7 +25,9 @@ import org.apache.eventmesh.connector.standalone.broker.StandaloneBroker;
 import org.apache.eventmesh.connector.standalone.broker.model.TopicMetadata;
 import org.apache.eventmesh.connector.standalone.broker.task.SubScribeTask;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
@@ -46,8 +48,15 @@ public class StandaloneConsumer implements Consumer {
 
     private final ExecutorService consumeExecutorService;
 
+    /**
+     * null for broadcast consumers, they don't share the offset with other consumers
+     */
+    private final String consumerGroup;
+
     public StandaloneConsumer(Properties properties) {
         this.standaloneBroker = StandaloneBroker.getInstance();
+        this.consumerGroup = Boolean.parseBoolean(properties.getProperty("isBroadcast", "false"))
+                ? null : properties.getProperty("consumerGroup", "");
         this.subscribeTaskTable = new ConcurrentHashMap<>(16);
         this.isStarted = new AtomicBoolean(false);
         this.consumeExecutorService = ThreadPoolFactory.createThreadPoolExecutor(
@@ -92,6 +101,17 @@ public class StandaloneConsumer implements Consumer {
 
     }
 
+    /**
+     * The offsets do not depend on the consume context, update the offset of each topic once
+     */
+    @Override
+    public void updateOffsetBatch(List<CloudEvent> cloudEvents, List<AbstractContext> contexts) {
+        Map<String, Long> offsets = new HashMap<>();
+        cloudEvents.forEach(cloudEvent -> offsets.merge(cloudEvent.getSubject(),
+            Objects.requireNonNull((Long) cloudEvent.getExtension("offset")), Math::max));
+        offsets.forEach((topic, offset) -> standaloneBroker.updateOffset(new TopicMetadata(topic), offset));
+    }
+
     @Override
     public void subscribe(String topic) throws Exception {
 
@@ -100,7 +120,7 @@ public class StandaloneConsumer implements Consumer {
         }
         synchronized (subscribeTaskTable) {
             standaloneBroker.createTopicIfAbsent(topic);
-            SubScribeTask subScribeTask = new SubScribeTask(topic, standaloneBroker, listener);
+            SubScribeTask subScribeTask = new SubScribeTask(topic, consumerGroup, standaloneBroker, listener);
             subscribeTaskTable.put(topic, subScribeTask);
             consumeExecutorService.execute(subScribeTask);
         }
@@ -66,6 +66,11 @@ public class StandaloneConsumerAdaptor implements Consumer {
         consumer.updateOffset(cloudEvents, context);
     }
 
+    @Override
+    public void updateOffsetBatch(List<CloudEvent> cloudEvents, List<AbstractContext> contexts) {
+        consumer.updateOffsetBatch(cloudEvents, contexts);
+    }
+
     @Override
     public void subscribe(String topic) throws Exception {
         consumer.subscribe(topic);
@@ -17,14 +17,20 @@
 
 package org.apache.eventmesh.connector.standalone.producer;
 
+import org.apache.eventmesh.api.BatchSendCallback;
 import org.apache.eventmesh.api.RequestReplyCallback;
 import org.apache.eventmesh.api.SendCallback;
 import org.apache.eventmesh.api.SendResult;
 import org.apache.eventmesh.api.exception.ConnectorRuntimeException;
 import org.apache.eventmesh.api.exception.OnExceptionContext;
+import org.apache.eventmesh.api.producer.BatchSendAggregator;
 import org.apache.eventmesh.connector.standalone.broker.StandaloneBroker;
 import org.apache.eventmesh.connector.standalone.broker.model.MessageEntity;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -100,6 +106,36 @@ public class StandaloneProducer {
         }
     }
 
+    /**
+     * Put the events of each topic into the broker at once
+     */
+    public void publishBatch(List<CloudEvent> cloudEvents, BatchSendCallback batchSendCallback) {
+        Preconditions.checkNotNull(cloudEvents);
+        Preconditions.checkNotNull(batchSendCallback);
+
+        BatchSendAggregator aggregator = new BatchSendAggregator(cloudEvents, batchSendCallback);
+        Map<String, List<Integer>> indexesByTopic = new LinkedHashMap<>();
+        for (int i = 0; i < cloudEvents.size(); i++) {
+            indexesByTopic.computeIfAbsent(cloudEvents.get(i).getSubject(), topic -> new ArrayList<>()).add(i);
+        }
+        indexesByTopic.forEach((topic, indexes) -> {
+            List<CloudEvent> topicEvents = new ArrayList<>(indexes.size());
+            indexes.forEach(index -> topicEvents.add(cloudEvents.get(index)));
+            try {
+                List<MessageEntity> messageEntities = standaloneBroker.putMessages(topic, topicEvents);
+                for (int i = 0; i < indexes.size(); i++) {
+                    SendResult sendResult = new SendResult();
+                    sendResult.setTopic(topic);
+                    sendResult.setMessageId(String.valueOf(messageEntities.get(i).getOffset()));
+                    aggregator.onSuccess(indexes.get(i), sendResult);
+                }
+            } catch (Exception e) {
+                logger.error("send messages error, topic: {}", topic, e);
+                indexes.forEach(index -> aggregator.onException(index, e));
+            }
+        });
+    }
+
     public void sendOneway(CloudEvent cloudEvent) {
         publish(cloudEvent);
     }
@@ -0,0 +1,249 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.eventmesh.connector.standalone.broker;
+
+import org.apache.eventmesh.connector.standalone.broker.model.MessageEntity;
+import org.apache.eventmesh.connector.standalone.broker.model.TopicMetadata;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+
+public class MessageQueueTest {
+
+    private static final TopicMetadata TOPIC = new TopicMetadata("message-queue-topic");
+
+    @Test
+    public void testCapacityRoundedUp() {
+        Assert.assertEquals(8, new MessageQueue(5).getCapacity());
+        Assert.assertEquals(8, new MessageQueue(8).getCapacity());
+        Assert.assertEquals(1, new MessageQueue(1).getCapacity());
+    }
+
+    @Test
+    public void testPutAssignsOffset() throws InterruptedException {
+        MessageQueue messageQueue = new MessageQueue(4);
+        Assert.assertNull(messageQueue.getHead());
+        Assert.assertNull(messageQueue.getTail());
+        for (int i = 0; i < 3; i++) {
+            messageQueue.put(newMessageEntity());
+        }
+        Assert.assertEquals(0, messageQueue.getHead().getOffset());
+        Assert.assertEquals(2, messageQueue.getTail().getOffset());
+        Assert.assertEquals(1, messageQueue.getByOffset(1).getOffset());
+        Assert.assertNull(messageQueue.getByOffset(3));
+        Assert.assertEquals(3, messageQueue.getSize());
+        Assert.assertEquals(3, messageQueue.getNextOffset());
+    }
+
+    @Test
+    public void testPutAllAssignsConsecutiveOffsets() throws InterruptedException {
+        MessageQueue messageQueue = new MessageQueue(4);
+        messageQueue.put(newMessageEntity());
+        List<MessageEntity> messageEntities = Arrays.asList(newMessageEntity(), newMessageEntity(), newMessageEntity());
+        messageQueue.putAll(messageEntities);
+        for (int i = 0; i < messageEntities.size(); i++) {
+            Assert.assertEquals(i + 1, messageEntities.get(i).getOffset());
+        }
+        Assert.assertEquals(4, messageQueue.getSize());
+        Assert.assertEquals(3, messageQueue.getTail().getOffset());
+    }
+
+    @Test
+    public void testOverwriteWithoutGatingSequence() throws InterruptedException {
+        MessageQueue messageQueue = new MessageQueue(4);
+        for (int i = 0; i < 10; i++) {
+            messageQueue.put(newMessageEntity());
+        }
+        Assert.assertEquals(6, messageQueue.getHead().getOffset());
+        Assert.assertEquals(9, messageQueue.getTail().getOffset());
+        Assert.assertEquals(4, messageQueue.getSize());
+        Assert.assertThrows(RuntimeException.class, () -> messageQueue.getByOffset(5));
+
+        List<MessageEntity> messageEntities = messageQueue.getRange(0, 3);
+        Assert.assertEquals(3, messageEntities.size());
+        Assert.assertEquals(6, messageEntities.get(0).getOffset());
+        Assert.assertEquals(8, messageEntities.get(2).getOffset());
+        Assert.assertTrue(messageQueue.getRange(10, 3).isEmpty());
+    }
+
+    @Test
+    public void testWriterWaitsForGatingSequence() throws Exception {
+        MessageQueue messageQueue = new MessageQueue(2);
+        AtomicLong sequence = new AtomicLong(0);
+        messageQueue.addGatingSequence(sequence);
+        messageQueue.put(newMessageEntity());
+        messageQueue.put(newMessageEntity());
+
+        Thread writer = new Thread(() -> {
+            try {
+                messageQueue.put(newMessageEntity());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        writer.start();
+        writer.join(200);
+        Assert.assertTrue(writer.isAlive());
+        Assert.assertEquals(1, messageQueue.getTail().getOffset());
+
+        sequence.set(1);
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+        Assert.assertFalse(writer.isAlive());
+        Assert.assertEquals(2, messageQueue.getTail().getOffset());
+        messageQueue.removeGatingSequence(sequence);
+    }
+
+    @Test
+    public void testStalledConsumerDroppedFromGate() throws Exception {
+        MessageQueue messageQueue = new MessageQueue(2, 0L, 100L);
+        // a consumer group which never acks keeps its sequence at the first offset
+        AtomicLong stalled = new AtomicLong(0);
+        AtomicLong active = new AtomicLong(0);
+        messageQueue.addGatingSequence(stalled);
+        messageQueue.addGatingSequence(active);
+        messageQueue.put(newMessageEntity());
+        messageQueue.put(newMessageEntity());
+        active.set(2);
+
+        long start = System.nanoTime();
+        messageQueue.put(newMessageEntity());
+        long waitedMills = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        Assert.assertTrue(waitedMills >= 100);
+        Assert.assertTrue(waitedMills < TimeUnit.SECONDS.toMillis(5));
+        Assert.assertEquals(2, messageQueue.getTail().getOffset());
+        Assert.assertEquals(1, messageQueue.getHead().getOffset());
+
+        // the stalled consumer is not gated any more, the active one still is
+        messageQueue.put(newMessageEntity());
+        Assert.assertEquals(3, messageQueue.getTail().getOffset());
+        Thread writer = new Thread(() -> {
+            try {
+                messageQueue.put(newMessageEntity());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        writer.start();
+        writer.join(50);
+        Assert.assertTrue(writer.isAlive());
+        active.set(4);
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+        Assert.assertEquals(4, messageQueue.getTail().getOffset());
+    }
+
+    @Test
+    public void testDroppedConsumerGatedAgainAfterCatchingUp() throws Exception {
+        MessageQueue messageQueue = new MessageQueue(4, 0L, 50L);
+        AtomicLong sequence = new AtomicLong(0);
+        messageQueue.addGatingSequence(sequence);
+        for (int i = 0; i < 5; i++) {
+            messageQueue.put(newMessageEntity());
+        }
+        // dropped at offset 0, still too far behind the tail to be gated again
+        Assert.assertEquals(1, messageQueue.getHeadOffset());
+        sequence.set(messageQueue.getHeadOffset());
+        Assert.assertFalse(messageQueue.resumeGatingSequence(sequence));
+
+        sequence.set(3);
+        Assert.assertTrue(messageQueue.resumeGatingSequence(sequence));
+        Assert.assertFalse(messageQueue.resumeGatingSequence(sequence));
+        messageQueue.put(newMessageEntity());
+        messageQueue.put(newMessageEntity());
+
+        // offset 3 is gated again, the writer waits for the consumer instead of overwriting it
+        Thread writer = new Thread(() -> {
+            try {
+                messageQueue.put(newMessageEntity());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        writer.start();
+        writer.join(20);
+        Assert.assertTrue(writer.isAlive());
+        sequence.set(7);
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+        Assert.assertEquals(7, messageQueue.getTail().getOffset());
+        Assert.assertEquals(4, messageQueue.getHeadOffset());
+    }
+
+    @Test
+    public void testRemoveDroppedGatingSequence() throws InterruptedException {
+        MessageQueue messageQueue = new MessageQueue(2, 0L, 10L);
+        AtomicLong sequence = new AtomicLong(0);
+        messageQueue.addGatingSequence(sequence);
+        for (int i = 0; i < 3; i++) {
+            messageQueue.put(newMessageEntity());
+        }
+        messageQueue.removeGatingSequence(sequence);
+        sequence.set(3);
+        Assert.assertFalse(messageQueue.resumeGatingSequence(sequence));
+    }
+
+    @Test
+    public void testAwaitOffset() throws Exception {
+        MessageQueue messageQueue = new MessageQueue(4);
+        Assert.assertFalse(messageQueue.awaitOffset(0, 10, TimeUnit.MILLISECONDS));
+
+        Thread writer = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+                messageQueue.put(newMessageEntity());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        writer.start();
+        Assert.assertTrue(messageQueue.awaitOffset(0, 5, TimeUnit.SECONDS));
+        Assert.assertEquals(0, messageQueue.take().getOffset());
+        writer.join();
+    }
+
+    @Test
+    public void testRemoveHead() throws InterruptedException {
+        MessageQueue messageQueue = new MessageQueue(4);
+        messageQueue.put(newMessageEntity());
+        messageQueue.put(newMessageEntity());
+        messageQueue.removeHead();
+        Assert.assertEquals(1, messageQueue.getHead().getOffset());
+        Assert.assertEquals(1, messageQueue.getSize());
+        messageQueue.removeHead();
+        Assert.assertNull(messageQueue.getHead());
+        Assert.assertEquals(0, messageQueue.getSize());
+    }
+
+    private MessageEntity newMessageEntity() {
+        CloudEvent cloudEvent = CloudEventBuilder.v1()
+            .withId("test")
+            .withSource(URI.create("testsource"))
+            .withType("testType")
+            .withSubject(TOPIC.getTopicName())
+            .build();
+        return new MessageEntity(TOPIC, cloudEvent, -1L, System.currentTimeMillis());
+    }
+}
@@ -18,17 +18,35 @@
 package org.apache.eventmesh.connector.standalone.broker;
 
 import org.apache.eventmesh.connector.standalone.broker.model.MessageEntity;
+import org.apache.eventmesh.connector.standalone.config.StandaloneConfiguration;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
+import org.junit.After;
 import org.junit.Assert;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import io.cloudevents.CloudEvent;
 import io.cloudevents.core.builder.CloudEventBuilder;
 
 public class StandaloneBrokerTest {
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final List<StandaloneBroker> fileBrokers = new ArrayList<>();
+
+    @After
+    public void tearDown() {
+        // stop the flush tasks before the storage directory is deleted
+        fileBrokers.forEach(StandaloneBroker::shutdown);
+    }
+
     @Test
     public void getInstance() {
         Assert.assertNotNull(StandaloneBroker.getInstance());
@@ -70,4 +88,71 @@ public class StandaloneBrokerTest {
     @Test
     public void checkTopicExist() {
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testFileStorage() throws InterruptedException {
+        StandaloneConfiguration configuration = new StandaloneConfiguration();
+        configuration.setStorageMode(StandaloneConfiguration.STORAGE_MODE_FILE);
+        configuration.setStoragePath(temporaryFolder.getRoot().getAbsolutePath());
+        configuration.setQueueCapacity(4);
+        StandaloneBroker instance = newFileBroker(configuration);
+        for (int i = 0; i < 10; i++) {
+            instance.putMessage("file-topic", CloudEventBuilder.v1()
+                .withId("test-" + i)
+                .withSource(URI.create("testsource"))
+                .withType("testType")
+                .build());
+        }
+        Assert.assertEquals(0, instance.getConsumerOffset("file-topic", "group").get());
+        // the evicted messages are read back from the commit log
+        List<MessageEntity> messageEntities = instance.getMessages("file-topic", 0, 10, 0, TimeUnit.MILLISECONDS);
+        Assert.assertEquals(10, messageEntities.size());
+        Assert.assertEquals("test-2", instance.getMessage("file-topic", 2).getId());
+        Assert.assertEquals("test-9", instance.getMessage("file-topic", 9).getId());
+
+        StandaloneBroker recovered = newFileBroker(configuration);
+        Assert.assertTrue(recovered.checkTopicExist("file-topic"));
+        Assert.assertEquals("test-5", recovered.getMessage("file-topic", 5).getId());
+        Assert.assertEquals(10, recovered.putMessage("file-topic", CloudEventBuilder.v1()
+            .withId("test-10")
+            .withSource(URI.create("testsource"))
+            .withType("testType")
+            .build()).getOffset());
+    }
+
+    @Test
+    public void testShutdownStoresConsumerOffsets() throws InterruptedException {
+        StandaloneConfiguration configuration = fileConfiguration();
+        // a long flush interval, only the flush on shutdown stores the offset
+        configuration.setFlushIntervalMills(60 * 1000);
+        StandaloneBroker instance = newFileBroker(configuration);
+        for (int i = 0; i < 3; i++) {
+            instance.putMessage("shutdown-topic", CloudEventBuilder.v1()
+                .withId("test-" + i)
+                .withSource(URI.create("testsource"))
+                .withType("testType")
+                .build());
+        }
+        instance.getConsumerOffset("shutdown-topic", "group").set(2);
+        instance.shutdown();
+        Assert.assertFalse(Thread.getAllStackTraces().keySet().stream()
+            .anyMatch(thread -> "StandaloneBroker-CommitLogFlushTask".equals(thread.getName())));
+
+        StandaloneBroker recovered = newFileBroker(configuration);
+        Assert.assertEquals(2, recovered.getConsumerOffset("shutdown-topic", "group").get());
+        Assert.assertEquals("test-2", recovered.getMessage("shutdown-topic", 2).getId());
+    }
+
+    private StandaloneConfiguration fileConfiguration() {
+        StandaloneConfiguration configuration = new StandaloneConfiguration();
+        configuration.setStorageMode(StandaloneConfiguration.STORAGE_MODE_FILE);
+        configuration.setStoragePath(temporaryFolder.getRoot().getAbsolutePath());
+        return configuration;
+    }
+
+    private StandaloneBroker newFileBroker(StandaloneConfiguration configuration) {
+        StandaloneBroker broker = new StandaloneBroker(configuration);
+        fileBrokers.add(broker);
+        return broker;
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.connector.standalone.broker.storage;
+
+import org.apache.eventmesh.connector.standalone.broker.model.MessageEntity;
+import org.apache.eventmesh.connector.standalone.broker.model.TopicMetadata;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+
+public class CommitLogTest {
+
+    private static final TopicMetadata TOPIC = new TopicMetadata("commit-log/topic");
+
+    private static final int SEGMENT_SIZE = 1024;
+
+    private static final int INDEX_INTERVAL = 128;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testAppendAndReadAcrossSegments() throws IOException {
+        File storeDir = temporaryFolder.getRoot();
+        CommitLog commitLog = new CommitLog(storeDir, TOPIC, SEGMENT_SIZE, INDEX_INTERVAL);
+        appendMessages(commitLog, 0, 50);
+
+        Assert.assertEquals(0, commitLog.getFirstOffset());
+        Assert.assertEquals(50, commitLog.getNextOffset());
+        Assert.assertEquals("message-37", commitLog.read(37).getMessage().getId());
+        Assert.assertNull(commitLog.read(50));
+
+        List<MessageEntity> messageEntities = commitLog.read(5, 40);
+        Assert.assertEquals(40, messageEntities.size());
+        for (int i = 0; i < messageEntities.size(); i++) {
+            Assert.assertEquals(5 + i, messageEntities.get(i).getOffset());
+            Assert.assertEquals("message-" + (5 + i), messageEntities.get(i).getMessage().getId());
+        }
+        Assert.assertEquals(Collections.singletonList(TOPIC.getTopicName()), CommitLog.listTopics(storeDir));
+        Assert.assertThrows(IllegalStateException.class,
+            () -> commitLog.append(new MessageEntity(TOPIC, newMessage(51), 51, System.currentTimeMillis())));
+    }
+
+    @Test
+    public void testAppendAllAcrossSegments() throws IOException {
+        File storeDir = temporaryFolder.getRoot();
+        CommitLog commitLog = new CommitLog(storeDir, TOPIC, SEGMENT_SIZE, INDEX_INTERVAL);
+        appendMessages(commitLog, 0, 3);
+        List<MessageEntity> batch = new ArrayList<>();
+        for (long offset = 3; offset < 50; offset++) {
+            batch.add(new MessageEntity(TOPIC, newMessage(offset), offset, System.currentTimeMillis()));
+        }
+        commitLog.appendAll(batch);
+
+        Assert.assertEquals(50, commitLog.getNextOffset());
+        List<MessageEntity> messageEntities = commitLog.read(0, 50);
+        Assert.assertEquals(50, messageEntities.size());
+        for (int i = 0; i < messageEntities.size(); i++) {
+            Assert.assertEquals("message-" + i, messageEntities.get(i).getMessage().getId());
+        }
+        commitLog.flush();
+        Assert.assertEquals(50, new CommitLog(storeDir, TOPIC, SEGMENT_SIZE, INDEX_INTERVAL).getNextOffset());
+
+        List<MessageEntity> gap = Arrays.asList(new MessageEntity(TOPIC, newMessage(50), 50, System.currentTimeMillis()),
+            new MessageEntity(TOPIC, newMessage(52), 52, System.currentTimeMillis()));
+        Assert.assertThrows(IllegalStateException.class, () -> commitLog.appendAll(gap));
+        Assert.assertEquals(50, commitLog.getNextOffset());
+    }
+
+    @Test
+    public void testFirstOffsetAfterDestroy() throws IOException {
+        CommitLog commitLog = new CommitLog(temporaryFolder.getRoot(), TOPIC, SEGMENT_SIZE, INDEX_INTERVAL);
+        appendMessages(commitLog, 0, 10);
+        commitLog.destroy();
+
+        Assert.assertEquals(10, commitLog.getFirstOffset());
+    }
+
+    @Test
+    public void testRecover() throws IOException {
+        File storeDir = temporaryFolder.getRoot();
+        CommitLog commitLog = new CommitLog(storeDir, TOPIC, SEGMENT_SIZE, INDEX_INTERVAL);
+        appendMessages(commitLog, 0, 30);
+        commitLog.flush();
+        commitLog.storeConsumerOffsets(Collections.singletonMap("group", 12L));
+
+        CommitLog recovered = new CommitLog(storeDir, TOPIC, SEGMENT_SIZE, INDEX_INTERVAL);
+        Assert.assertEquals(30, recovered.getNextOffset());
+        Assert.assertEquals("message-29", recovered.read(29).getMessage().getId());
+        Assert.assertEquals(Collections.singletonMap("group", 12L), recovered.loadConsumerOffsets());
+
+        appendMessages(recovered, 30, 5);
+        Assert.assertEquals(35, recovered.getNextOffset());
+        Assert.assertEquals(10, recovered.read(25, 100).size());
+    }
+
+    @Test
+    public void testDeleteExpiredSegments() throws IOException {
+        CommitLog commitLog = new CommitLog(temporaryFolder.getRoot(), TOPIC, SEGMENT_SIZE, INDEX_INTERVAL);
+        appendMessages(commitLog, 0, 50);
+        commitLog.deleteExpiredSegments(0);
+
+        Assert.assertTrue(commitLog.getFirstOffset() > 0);
+        Assert.assertEquals(50, commitLog.getNextOffset());
+        Assert.assertNull(commitLog.read(0));
+        // reading from a deleted offset starts at the oldest retained message
+        Assert.assertEquals(commitLog.getFirstOffset(), commitLog.read(0, 1).get(0).getOffset());
+    }
+
+    @Test
+    public void testSegmentDeletedByLastReader() throws IOException {
+        File dir = temporaryFolder.getRoot();
+        CommitLogSegment segment = new CommitLogSegment(dir, 0L, SEGMENT_SIZE, INDEX_INTERVAL);
+        Assert.assertTrue(segment.append(0L, System.currentTimeMillis(), "body".getBytes(StandardCharsets.UTF_8)));
+        File file = new File(dir, CommitLogSegment.fileName(0L));
+
+        Assert.assertTrue(segment.retain());
+        segment.delete();
+        // still mapped and readable by the reader which retained it
+        Assert.assertTrue(file.exists());
+        Assert.assertEquals("body", new String(segment.read(0L).body, StandardCharsets.UTF_8));
+        Assert.assertFalse(segment.retain());
+
+        segment.release();
+        Assert.assertFalse(file.exists());
+    }
+
+    private static void appendMessages(CommitLog commitLog, long startOffset, int count) throws IOException {
+        for (long offset = startOffset; offset < startOffset + count; offset++) {
+            commitLog.append(new MessageEntity(TOPIC, newMessage(offset), offset, System.currentTimeMillis()));
+        }
+    }
+
+    private static CloudEvent newMessage(long offset) {
+        return CloudEventBuilder.v1()
+            .withId("message-" + offset)
+            .withSource(URI.create("source"))
+            .withType("type")
+            .withData(("data-" + offset).getBytes(StandardCharsets.UTF_8))
+            .build();
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.eventmesh.connector.standalone.broker.task;
+
+import org.apache.eventmesh.api.EventListener;
+import org.apache.eventmesh.api.EventMeshAction;
+import org.apache.eventmesh.api.EventMeshAsyncConsumeContext;
+import org.apache.eventmesh.connector.standalone.broker.StandaloneBroker;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+
+public class SubScribeTaskTest {
+
+    private static final int MESSAGE_NUM = 100;
+
+    @Test
+    public void testDeliverWithoutDelay() throws Exception {
+        String topic = "subscribe-task-topic";
+        StandaloneBroker broker = StandaloneBroker.getInstance();
+        putMessages(broker, topic);
+
+        CountDownLatch latch = new CountDownLatch(MESSAGE_NUM);
+        SubScribeTask task = new SubScribeTask(topic, "group", broker, countDownListener(latch, new AtomicInteger()));
+        Thread thread = startTask(task);
+        try {
+            Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } finally {
+            task.shutdown();
+            thread.join();
+        }
+    }
+
+    @Test
+    public void testConsumerGroupOffset() throws Exception {
+        String topic = "subscribe-task-group-topic";
+        StandaloneBroker broker = StandaloneBroker.getInstance();
+        putMessages(broker, topic);
+
+        CountDownLatch groupLatch = new CountDownLatch(MESSAGE_NUM);
+        AtomicInteger groupCount = new AtomicInteger();
+        SubScribeTask first = new SubScribeTask(topic, "group", broker, countDownListener(groupLatch, groupCount));
+        SubScribeTask second = new SubScribeTask(topic, "group", broker, countDownListener(groupLatch, groupCount));
+        CountDownLatch otherLatch = new CountDownLatch(MESSAGE_NUM);
+        SubScribeTask other = new SubScribeTask(topic, "other-group", broker, countDownListener(otherLatch, new AtomicInteger()));
+
+        Thread firstThread = startTask(first);
+        Thread secondThread = startTask(second);
+        Thread otherThread = startTask(other);
+        try {
+            Assert.assertTrue(groupLatch.await(5, TimeUnit.SECONDS));
+            Assert.assertTrue(otherLatch.await(5, TimeUnit.SECONDS));
+            Assert.assertEquals(MESSAGE_NUM, groupCount.get());
+        } finally {
+            first.shutdown();
+            second.shutdown();
+            other.shutdown();
+            firstThread.join();
+            secondThread.join();
+            otherThread.join();
+        }
+    }
+
+    @Test
+    public void testReconsumeLaterCommittedAsynchronously() throws Exception {
+        String topic = "subscribe-task-reconsume-topic";
+        StandaloneBroker broker = StandaloneBroker.getInstance();
+        putMessages(broker, topic);
+
+        ExecutorService commitExecutor = Executors.newSingleThreadExecutor();
+        Map<String, AtomicInteger> deliveries = new ConcurrentHashMap<>();
+        CountDownLatch latch = new CountDownLatch(MESSAGE_NUM);
+        // the first delivery of every message is committed later from another thread and asks to reconsume
+        SubScribeTask task = new SubScribeTask(topic, "group", broker, (cloudEvent, context) -> {
+            int delivery = deliveries.computeIfAbsent(cloudEvent.getId(), id -> new AtomicInteger()).incrementAndGet();
+            EventMeshAction action = delivery == 1 ? EventMeshAction.ReconsumeLater : EventMeshAction.CommitMessage;
+            commitExecutor.execute(() -> ((EventMeshAsyncConsumeContext) context).commit(action));
+            if (delivery == 2) {
+                latch.countDown();
+            }
+        });
+        Thread thread = startTask(task);
+        try {
+            Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+            Assert.assertEquals(MESSAGE_NUM, deliveries.size());
+        } finally {
+            task.shutdown();
+            thread.join();
+            commitExecutor.shutdown();
+        }
+    }
+
+    private void putMessages(StandaloneBroker broker, String topic) throws InterruptedException {
+        for (int i = 0; i < MESSAGE_NUM; i++) {
+            CloudEvent cloudEvent = CloudEventBuilder.v1()
+                .withId(String.valueOf(i))
+                .withSource(URI.create("testsource"))
+                .withType("testType")
+                .withSubject(topic)
+                .build();
+            broker.putMessage(topic, cloudEvent);
+        }
+    }
+
+    private EventListener countDownListener(CountDownLatch latch, AtomicInteger count) {
+        return (cloudEvent, context) -> {
+            count.incrementAndGet();
+            latch.countDown();
+            ((EventMeshAsyncConsumeContext) context).commit(EventMeshAction.CommitMessage);
+        };
+    }
+
+    private Thread startTask(SubScribeTask task) {
+        Thread thread = new Thread(task);
+        thread.start();
+        return thread;
+    }
+}
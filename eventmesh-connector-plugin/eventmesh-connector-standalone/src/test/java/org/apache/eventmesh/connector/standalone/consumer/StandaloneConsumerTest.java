@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.eventmesh.connector.standalone.consumer;
+
+import org.apache.eventmesh.connector.standalone.broker.StandaloneBroker;
+import org.apache.eventmesh.connector.standalone.broker.model.TopicMetadata;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Properties;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+
+public class StandaloneConsumerTest {
+
+    private static final String TOPIC_A = "batch-offset-topic-a";
+
+    private static final String TOPIC_B = "batch-offset-topic-b";
+
+    private final StandaloneBroker standaloneBroker = StandaloneBroker.getInstance();
+
+    @After
+    public void tearDown() {
+        standaloneBroker.deleteTopicIfExist(TOPIC_A);
+        standaloneBroker.deleteTopicIfExist(TOPIC_B);
+    }
+
+    @Test
+    public void testUpdateOffsetBatchAcksMaxOffsetPerTopic() {
+        standaloneBroker.createTopicIfAbsent(TOPIC_A);
+        standaloneBroker.createTopicIfAbsent(TOPIC_B);
+        StandaloneConsumer consumer = new StandaloneConsumer(new Properties());
+
+        // the events of a batch are not sorted by offset, the largest one of each topic is acked
+        consumer.updateOffsetBatch(Arrays.asList(
+            createEvent(TOPIC_A, 3L),
+            createEvent(TOPIC_A, 5L),
+            createEvent(TOPIC_B, 2L),
+            createEvent(TOPIC_A, 4L)), Collections.emptyList());
+
+        Assert.assertEquals(5L, standaloneBroker.getOffsetMap().get(new TopicMetadata(TOPIC_A)).get());
+        Assert.assertEquals(2L, standaloneBroker.getOffsetMap().get(new TopicMetadata(TOPIC_B)).get());
+    }
+
+    private CloudEvent createEvent(String topic, long offset) {
+        return CloudEventBuilder.v1()
+            .withId(topic + "-" + offset)
+            .withSource(URI.create("testsource"))
+            .withType("testType")
+            .withSubject(topic)
+            .withExtension("offset", offset)
+            .build();
+    }
+}
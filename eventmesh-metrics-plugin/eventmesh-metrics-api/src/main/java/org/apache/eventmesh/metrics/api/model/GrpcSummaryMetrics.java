@@ -34,6 +34,10 @@ public class GrpcSummaryMetrics implements Metric {
     private long retrySize;
     private long subscribeTopicNum;
 
+    private final LatencyRecorder send2MQLatency = new LatencyRecorder();
+    private final LatencyRecorder push2ClientLatency = new LatencyRecorder();
+    private final LatencyRecorder retryLatency = new LatencyRecorder();
+
     public GrpcSummaryMetrics() {
         this.client2EventMeshMsgNum = new AtomicLong(0);
         this.eventMesh2MqMsgNum = new AtomicLong(0);
@@ -55,6 +59,30 @@ public class GrpcSummaryMetrics implements Metric {
         mq2EventMeshTPS = 1000 * mq2EventMeshMsgNum.get() / intervalMills;
     }
 
+    public void recordSend2MQLatency(String topic, long cost) {
+        send2MQLatency.record(topic, cost);
+    }
+
+    public void recordPush2ClientLatency(String topic, long cost) {
+        push2ClientLatency.record(topic, cost);
+    }
+
+    /**
+     * Record how long a retry waited past its deadline before it started running.
+     */
+    public void recordRetryLatency(long latency) {
+        retryLatency.record(latency);
+    }
+
+    /**
+     * Close the current latency interval of every recorder, exporters report the closed interval afterwards.
+     */
+    public void snapshotLatency() {
+        send2MQLatency.snapshot();
+        push2ClientLatency.snapshot();
+        retryLatency.snapshot();
+    }
+
     public AtomicLong getClient2EventMeshMsgNum() {
         return client2EventMeshMsgNum;
     }
@@ -102,4 +130,16 @@ public class GrpcSummaryMetrics implements Metric {
     public void setSubscribeTopicNum(long subscribeTopicNum) {
         this.subscribeTopicNum = subscribeTopicNum;
     }
+
+    public LatencyRecorder getSend2MQLatency() {
+        return send2MQLatency;
+    }
+
+    public LatencyRecorder getPush2ClientLatency() {
+        return push2ClientLatency;
+    }
+
+    public LatencyRecorder getRetryLatency() {
+        return retryLatency;
+    }
 }
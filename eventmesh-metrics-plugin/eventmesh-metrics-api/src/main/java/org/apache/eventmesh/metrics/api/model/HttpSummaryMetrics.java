@@ -19,9 +19,9 @@ package org.apache.eventmesh.metrics.api.model;
 
 import java.util.Collections;
 import java.util.LinkedList;
-import java.util.concurrent.DelayQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -34,32 +34,30 @@ public class HttpSummaryMetrics implements Metric {
     public HttpSummaryMetrics(final ThreadPoolExecutor batchMsgExecutor,
                               final ThreadPoolExecutor sendMsgExecutor,
                               final ThreadPoolExecutor pushMsgExecutor,
-                              final DelayQueue<?> httpFailedQueue) {
+                              final IntSupplier httpRetryQueueSize,
+                              final IntSupplier httpPushInflightSize) {
         this.batchMsgExecutor = batchMsgExecutor;
         this.sendMsgExecutor = sendMsgExecutor;
         this.pushMsgExecutor = pushMsgExecutor;
-        this.httpFailedQueue = httpFailedQueue;
+        this.httpRetryQueueSize = httpRetryQueueSize;
+        this.httpPushInflightSize = httpPushInflightSize;
     }
 
-    private float wholeCost = 0f;
-
-    private AtomicLong wholeRequestNum = new AtomicLong(0);
+    private final LatencyRecorder httpReqResLatency = new LatencyRecorder();
 
     //cumulative value
     private AtomicLong httpDiscard = new AtomicLong(0);
 
-    private AtomicLong maxCost = new AtomicLong(0);
-
     private AtomicLong httpRequestPerSecond = new AtomicLong(0);
 
     private LinkedList<Integer> httpRequestTPSSnapshots = new LinkedList<>();
 
     public float avgHTTPCost() {
-        return (wholeRequestNum.longValue() == 0L) ? 0f : wholeCost / wholeRequestNum.longValue();
+        return (float) httpReqResLatency.getSnapshot().getMean();
     }
 
     public long maxHTTPCost() {
-        return maxCost.longValue();
+        return httpReqResLatency.getSnapshot().getMax();
     }
 
     public long getHttpDiscard() {
@@ -92,32 +90,25 @@ public class HttpSummaryMetrics implements Metric {
     }
 
     public void recordHTTPReqResTimeCost(long cost) {
-        wholeRequestNum.incrementAndGet();
-        wholeCost = wholeCost + cost;
-        if (cost > maxCost.longValue()) {
-            maxCost.set(cost);
-        }
+        httpReqResLatency.record(cost);
     }
 
-    public void httpStatInfoClear() {
-        wholeRequestNum.set(0L);
-        wholeCost = 0f;
-        maxCost.set(0L);
-        httpDecodeNum.set(0L);
-        httpDecodeTimeCost = 0f;
+    public LatencyRecorder getHttpReqResLatency() {
+        return httpReqResLatency;
     }
 
-    private float httpDecodeTimeCost = 0f;
-
-    private AtomicLong httpDecodeNum = new AtomicLong(0);
+    private final LatencyRecorder httpDecodeLatency = new LatencyRecorder();
 
     public void recordDecodeTimeCost(long cost) {
-        httpDecodeNum.incrementAndGet();
-        httpDecodeTimeCost = httpDecodeTimeCost + cost;
+        httpDecodeLatency.record(cost);
     }
 
     public float avgHTTPBodyDecodeCost() {
-        return (httpDecodeNum.longValue() == 0L) ? 0f : httpDecodeTimeCost / httpDecodeNum.longValue();
+        return (float) httpDecodeLatency.getSnapshot().getMean();
+    }
+
+    public LatencyRecorder getHttpDecodeLatency() {
+        return httpDecodeLatency;
     }
     
     private AtomicLong sendBatchMsgNumPerSecond = new AtomicLong(0);
@@ -255,11 +246,7 @@ public class HttpSummaryMetrics implements Metric {
         replyMsgFailNumSum.set(0L);
     }
     
-    private float wholePushCost = 0f;
-
-    private AtomicLong wholePushRequestNum = new AtomicLong(0);
-
-    private AtomicLong maxHttpPushLatency = new AtomicLong(0);
+    private final LatencyRecorder httpPushLatency = new LatencyRecorder();
 
     private AtomicLong pushMsgNumPerSecond = new AtomicLong(0);
 
@@ -278,20 +265,20 @@ public class HttpSummaryMetrics implements Metric {
         }
     }
 
-    public void recordHTTPPushTimeCost(long cost) {
-        wholePushRequestNum.incrementAndGet();
-        wholePushCost = wholePushCost + cost;
-        if (cost > maxHttpPushLatency.longValue()) {
-            maxHttpPushLatency.set(cost);
-        }
+    public void recordHTTPPushTimeCost(String topic, long cost) {
+        httpPushLatency.record(topic, cost);
     }
 
     public float avgHTTPPushLatency() {
-        return (wholePushRequestNum.longValue() == 0L) ? 0f : wholePushCost / wholePushRequestNum.longValue();
+        return (float) httpPushLatency.getSnapshot().getMean();
     }
 
     public float maxHTTPPushLatency() {
-        return maxHttpPushLatency.floatValue();
+        return httpPushLatency.getSnapshot().getMax();
+    }
+
+    public LatencyRecorder getHttpPushLatency() {
+        return httpPushLatency;
     }
 
     public float maxPushMsgTPS() {
@@ -326,57 +313,79 @@ public class HttpSummaryMetrics implements Metric {
     public void cleanHttpPushMsgStat() {
         httpPushFailNumSum.set(0L);
         httpPushMsgNumSum.set(0L);
-        wholeRequestNum.set(0L);
-        wholeCost = 0f;
-        maxCost.set(0L);
     }
     
-    private float batchSend2MQWholeCost = 0f;
-
-    private AtomicLong batchSend2MQNum = new AtomicLong(0);
+    private final LatencyRecorder batchSend2MQLatency = new LatencyRecorder();
 
-    private float send2MQWholeCost = 0f;
+    private final LatencyRecorder send2MQLatency = new LatencyRecorder();
 
-    private AtomicLong send2MQNum = new AtomicLong(0);
-
-    private float reply2MQWholeCost = 0f;
-
-    private AtomicLong reply2MQNum = new AtomicLong(0);
+    private final LatencyRecorder reply2MQLatency = new LatencyRecorder();
 
     public void recordBatchSendMsgCost(long cost) {
-        batchSend2MQNum.incrementAndGet();
-        batchSend2MQWholeCost = batchSend2MQWholeCost + cost;
+        batchSend2MQLatency.record(cost);
     }
 
     public float avgBatchSendMsgCost() {
-        return (batchSend2MQNum.intValue() == 0) ? 0f : batchSend2MQWholeCost / batchSend2MQNum.intValue();
+        return (float) batchSend2MQLatency.getSnapshot().getMean();
+    }
+
+    public LatencyRecorder getBatchSend2MQLatency() {
+        return batchSend2MQLatency;
     }
 
     public void recordSendMsgCost(long cost) {
-        send2MQNum.incrementAndGet();
-        send2MQWholeCost = send2MQWholeCost + cost;
+        send2MQLatency.record(cost);
+    }
+
+    public void recordSendMsgCost(String topic, long cost) {
+        send2MQLatency.record(topic, cost);
     }
 
     public float avgSendMsgCost() {
-        return (send2MQNum.intValue() == 0) ? 0f : send2MQWholeCost / send2MQNum.intValue();
+        return (float) send2MQLatency.getSnapshot().getMean();
+    }
+
+    public LatencyRecorder getSend2MQLatency() {
+        return send2MQLatency;
     }
 
     public void recordReplyMsgCost(long cost) {
-        reply2MQNum.incrementAndGet();
-        reply2MQWholeCost = reply2MQWholeCost + cost;
+        reply2MQLatency.record(cost);
     }
 
     public float avgReplyMsgCost() {
-        return (reply2MQNum.intValue() == 0) ? 0f : reply2MQWholeCost / reply2MQNum.intValue();
+        return (float) reply2MQLatency.getSnapshot().getMean();
+    }
+
+    public LatencyRecorder getReply2MQLatency() {
+        return reply2MQLatency;
     }
 
-    public void send2MQStatInfoClear() {
-        batchSend2MQWholeCost = 0f;
-        batchSend2MQNum.set(0L);
-        send2MQWholeCost = 0f;
-        send2MQNum.set(0L);
-        reply2MQWholeCost = 0f;
-        reply2MQNum.set(0L);
+    private final LatencyRecorder httpRetryLatency = new LatencyRecorder();
+
+    /**
+     * Record how long a retry waited past its deadline before it started running.
+     */
+    public void recordHttpRetryLatency(long latency) {
+        httpRetryLatency.record(latency);
+    }
+
+    public LatencyRecorder getHttpRetryLatency() {
+        return httpRetryLatency;
+    }
+
+    /**
+     * Close the current latency interval of every recorder, the avg and max cost getters and the exporters report
+     * the closed interval afterwards.
+     */
+    public void snapshotLatency() {
+        httpReqResLatency.snapshot();
+        httpDecodeLatency.snapshot();
+        httpPushLatency.snapshot();
+        batchSend2MQLatency.snapshot();
+        send2MQLatency.snapshot();
+        reply2MQLatency.snapshot();
+        httpRetryLatency.snapshot();
     }
 
     // execute metrics
@@ -386,7 +395,9 @@ public class HttpSummaryMetrics implements Metric {
 
     private final ThreadPoolExecutor pushMsgExecutor;
 
-    private final DelayQueue<?> httpFailedQueue;
+    private final IntSupplier httpRetryQueueSize;
+
+    private final IntSupplier httpPushInflightSize;
 
     public int getBatchMsgQueueSize() {
         return batchMsgExecutor.getQueue().size();
@@ -401,7 +412,11 @@ public class HttpSummaryMetrics implements Metric {
     }
 
     public int getHttpRetryQueueSize() {
-        return httpFailedQueue.size();
+        return httpRetryQueueSize.getAsInt();
+    }
+
+    public int getHttpPushInflightSize() {
+        return httpPushInflightSize.getAsInt();
     }
 
 
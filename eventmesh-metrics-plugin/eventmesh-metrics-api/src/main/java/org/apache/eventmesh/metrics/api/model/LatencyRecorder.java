@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.metrics.api.model;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Latency distribution of one kind of operation, in total and per topic.
+ *
+ * <p>Samples go to HdrHistogram {@link Recorder}s, so any number of threads can record without locking and without
+ * contending with the reader. {@link #snapshot()} closes the current interval and publishes its distribution, which
+ * exporters then read through {@link #getSnapshot()} and {@link #getTopicSnapshots()} until the next interval closes.
+ *
+ * <p>The number of topic recorders is bounded, once the bound is reached samples of new topics are recorded under
+ * {@link #OVERFLOW} until {@link #snapshot()} drops topics that were idle for a whole interval.
+ */
+public class LatencyRecorder {
+
+    public static final String OVERFLOW = "_overflow_";
+
+    public static final int DEFAULT_MAX_TOPICS = 1000;
+
+    static final long HIGHEST_TRACKABLE_MILLS = TimeUnit.HOURS.toMillis(1);
+
+    /**
+     * Two significant digits keep the error below 1%, and a recorder small enough to keep one per topic.
+     */
+    private static final int SIGNIFICANT_DIGITS = 2;
+
+    private final int maxTopics;
+
+    private final Recorder recorder = newRecorder();
+
+    private final Map<String, Recorder> topicRecorders = new ConcurrentHashMap<>();
+
+    private final Histogram interval = new Histogram(HIGHEST_TRACKABLE_MILLS, SIGNIFICANT_DIGITS);
+
+    private volatile LatencySnapshot snapshot = LatencySnapshot.EMPTY;
+
+    private volatile Map<String, LatencySnapshot> topicSnapshots = Collections.emptyMap();
+
+    public LatencyRecorder() {
+        this(DEFAULT_MAX_TOPICS);
+    }
+
+    public LatencyRecorder(int maxTopics) {
+        this.maxTopics = maxTopics;
+    }
+
+    public void record(long costMills) {
+        recorder.recordValue(normalize(costMills));
+    }
+
+    public void record(String topic, long costMills) {
+        long value = normalize(costMills);
+        recorder.recordValue(value);
+        if (topic != null) {
+            topicRecorder(topic).recordValue(value);
+        }
+    }
+
+    /**
+     * Close the current interval. Topics without samples in the closed interval are dropped, a sample racing with
+     * the removal of its topic may get lost.
+     */
+    public synchronized void snapshot() {
+        recorder.getIntervalHistogramInto(interval);
+        snapshot = LatencySnapshot.of(interval);
+
+        Map<String, LatencySnapshot> topics = new HashMap<>();
+        Iterator<Map.Entry<String, Recorder>> iterator = topicRecorders.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Recorder> entry = iterator.next();
+            entry.getValue().getIntervalHistogramInto(interval);
+            if (interval.getTotalCount() == 0) {
+                iterator.remove();
+            } else {
+                topics.put(entry.getKey(), LatencySnapshot.of(interval));
+            }
+        }
+        topicSnapshots = Collections.unmodifiableMap(topics);
+    }
+
+    /**
+     * Distribution of the last closed interval over all topics.
+     */
+    public LatencySnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Distribution of the last closed interval per topic, only topics with samples in that interval are present.
+     */
+    public Map<String, LatencySnapshot> getTopicSnapshots() {
+        return topicSnapshots;
+    }
+
+    private Recorder topicRecorder(String topic) {
+        Recorder topicRecorder = topicRecorders.get(topic);
+        if (topicRecorder != null) {
+            return topicRecorder;
+        }
+        if (topicRecorders.size() >= maxTopics) {
+            return topicRecorders.computeIfAbsent(OVERFLOW, k -> newRecorder());
+        }
+        return topicRecorders.computeIfAbsent(topic, k -> newRecorder());
+    }
+
+    private static Recorder newRecorder() {
+        return new Recorder(HIGHEST_TRACKABLE_MILLS, SIGNIFICANT_DIGITS);
+    }
+
+    private static long normalize(long costMills) {
+        // wall clock costs may be negative after a clock adjustment
+        return Math.min(Math.max(costMills, 0L), HIGHEST_TRACKABLE_MILLS);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.metrics.api.model;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latency distribution of one completed {@link LatencyRecorder} interval, in milliseconds.
+ */
+public final class LatencySnapshot {
+
+    public static final LatencySnapshot EMPTY = new LatencySnapshot(0L, 0d, 0L, 0L, 0L, 0L, 0L);
+
+    private final long count;
+
+    private final double mean;
+
+    private final long max;
+
+    private final long p50;
+
+    private final long p90;
+
+    private final long p99;
+
+    private final long p999;
+
+    private LatencySnapshot(long count, double mean, long max, long p50, long p90, long p99, long p999) {
+        this.count = count;
+        this.mean = mean;
+        this.max = max;
+        this.p50 = p50;
+        this.p90 = p90;
+        this.p99 = p99;
+        this.p999 = p999;
+    }
+
+    static LatencySnapshot of(Histogram histogram) {
+        if (histogram.getTotalCount() == 0) {
+            return EMPTY;
+        }
+        return new LatencySnapshot(histogram.getTotalCount(),
+            histogram.getMean(),
+            histogram.getMaxValue(),
+            histogram.getValueAtPercentile(50d),
+            histogram.getValueAtPercentile(90d),
+            histogram.getValueAtPercentile(99d),
+            histogram.getValueAtPercentile(99.9d));
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public long getP50() {
+        return p50;
+    }
+
+    public long getP90() {
+        return p90;
+    }
+
+    public long getP99() {
+        return p99;
+    }
+
+    public long getP999() {
+        return p999;
+    }
+
+    @Override
+    public String toString() {
+        return "LatencySnapshot{count=" + count
+            + ",mean=" + mean
+            + ",max=" + max
+            + ",p50=" + p50
+            + ",p90=" + p90
+            + ",p99=" + p99
+            + ",p999=" + p999 + "}";
+    }
+}
@@ -38,6 +38,12 @@ public class TcpSummaryMetrics implements Metric {
 
     private int retrySize;
 
+    private final LatencyRecorder send2MQLatency = new LatencyRecorder();
+
+    private final LatencyRecorder push2ClientLatency = new LatencyRecorder();
+
+    private final LatencyRecorder retryLatency = new LatencyRecorder();
+
     public TcpSummaryMetrics() {
         this.client2eventMeshMsgNum = new AtomicInteger(0);
         this.eventMesh2mqMsgNum = new AtomicInteger(0);
@@ -136,4 +142,28 @@ public class TcpSummaryMetrics implements Metric {
     public int getRetrySize() {
         return retrySize;
     }
+
+    public void recordSend2MQLatency(String topic, long cost) {
+        send2MQLatency.record(topic, cost);
+    }
+
+    public void recordPush2ClientLatency(String topic, long cost) {
+        push2ClientLatency.record(topic, cost);
+    }
+
+    /**
+     * Record how long a retry waited past its deadline before it started running.
+     */
+    public void recordRetryLatency(long latency) {
+        retryLatency.record(latency);
+    }
+
+    /**
+     * Close the current latency interval of every recorder, exporters report the closed interval afterwards.
+     */
+    public void snapshotLatency() {
+        send2MQLatency.snapshot();
+        push2ClientLatency.snapshot();
+        retryLatency.snapshot();
+    }
 }
@@ -0,0 +1,291 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.metrics.api.model;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Throughput and backlog of one protocol, broken down by topic and consumer or producer group.
+ *
+ * <p>Counters are {@link LongAdder}s, so recording from many threads does not contend on a single cache line. The
+ * number of topic and group pairs is bounded, once the bound is reached new pairs are counted under
+ * {@link #OVERFLOW} until {@link #refreshTps} evicts pairs that were idle for a whole interval. The counts of an
+ * evicted pair are folded into {@link #OVERFLOW}, so the totals over all pairs never go backwards.
+ */
+public class TopicGroupMetrics implements Metric {
+
+    public static final String OVERFLOW = "_overflow_";
+
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    private static final Key OVERFLOW_KEY = new Key(OVERFLOW, OVERFLOW);
+
+    private final String protocol;
+
+    private final int maxSize;
+
+    private final Map<Key, Counters> counters = new ConcurrentHashMap<>();
+
+    private volatile Map<Key, Long> unackNum = Collections.emptyMap();
+
+    private volatile Map<String, Long> retryNum = Collections.emptyMap();
+
+    public TopicGroupMetrics(String protocol) {
+        this(protocol, DEFAULT_MAX_SIZE);
+    }
+
+    public TopicGroupMetrics(String protocol, int maxSize) {
+        this.protocol = protocol;
+        this.maxSize = maxSize;
+    }
+
+    public void recordPublish(String topic, String group) {
+        counters(topic, group).publishNum.increment();
+    }
+
+    public void recordPublish(String topic, String group, int count) {
+        counters(topic, group).publishNum.add(count);
+    }
+
+    public void recordPush(String topic, String group) {
+        counters(topic, group).pushNum.increment();
+    }
+
+    public void recordPushFailed(String topic, String group) {
+        counters(topic, group).pushFailNum.increment();
+    }
+
+    public void recordRateLimited(String topic, String group) {
+        counters(topic, group).rateLimitedNum.increment();
+    }
+
+    /**
+     * Replace the messages pushed but not yet acknowledged, as sampled from the protocol's in-flight state.
+     */
+    public void updateUnackNum(Map<Key, Long> unackNum) {
+        this.unackNum = Collections.unmodifiableMap(bound(unackNum));
+    }
+
+    /**
+     * Replace the retries waiting to run per group, as sampled from the protocol's retry lane.
+     */
+    public void updateRetryNum(Map<String, Long> retryNum) {
+        this.retryNum = Collections.unmodifiableMap(new HashMap<>(retryNum));
+    }
+
+    /**
+     * Compute the publish and push TPS of every pair over the last interval, and evict idle pairs into
+     * {@link #OVERFLOW} if the bound has been reached. A record racing with the eviction of its pair may get lost.
+     */
+    public void refreshTps(long intervalMills) {
+        boolean evict = pairs() >= maxSize;
+        Iterator<Map.Entry<Key, Counters>> iterator = counters.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Key, Counters> entry = iterator.next();
+            if (!entry.getValue().refreshTps(intervalMills) && evict && !OVERFLOW_KEY.equals(entry.getKey())) {
+                iterator.remove();
+                counters.computeIfAbsent(OVERFLOW_KEY, k -> new Counters()).fold(entry.getValue());
+            }
+        }
+    }
+
+    public String getProtocol() {
+        return protocol;
+    }
+
+    public Map<Key, Counters> getCounters() {
+        return Collections.unmodifiableMap(counters);
+    }
+
+    public Map<Key, Long> getUnackNum() {
+        return unackNum;
+    }
+
+    public Map<String, Long> getRetryNum() {
+        return retryNum;
+    }
+
+    private Counters counters(String topic, String group) {
+        Key key = new Key(topic, group);
+        Counters value = counters.get(key);
+        if (value != null) {
+            return value;
+        }
+        if (pairs() >= maxSize) {
+            return counters.computeIfAbsent(OVERFLOW_KEY, k -> new Counters());
+        }
+        return counters.computeIfAbsent(key, k -> new Counters());
+    }
+
+    /**
+     * Pairs counted under their own key, {@link #OVERFLOW} does not take up the bound.
+     */
+    private int pairs() {
+        return counters.containsKey(OVERFLOW_KEY) ? counters.size() - 1 : counters.size();
+    }
+
+    private Map<Key, Long> bound(Map<Key, Long> values) {
+        if (values.size() <= maxSize) {
+            return new HashMap<>(values);
+        }
+        Map<Key, Long> bounded = new HashMap<>();
+        values.forEach((key, value) -> {
+            if (bounded.size() < maxSize - 1 || bounded.containsKey(key)) {
+                bounded.put(key, value);
+            } else {
+                bounded.merge(OVERFLOW_KEY, value, Long::sum);
+            }
+        });
+        return bounded;
+    }
+
+    /**
+     * A topic and the group that published or consumed it, a missing topic or group is recorded as an empty string.
+     */
+    public static final class Key {
+
+        private final String topic;
+
+        private final String group;
+
+        public Key(String topic, String group) {
+            this.topic = topic == null ? "" : topic;
+            this.group = group == null ? "" : group;
+        }
+
+        public String getTopic() {
+            return topic;
+        }
+
+        public String getGroup() {
+            return group;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return topic.equals(key.topic) && group.equals(key.group);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(topic, group);
+        }
+
+        @Override
+        public String toString() {
+            return topic + "|" + group;
+        }
+    }
+
+    public static final class Counters {
+
+        private final LongAdder publishNum = new LongAdder();
+
+        private final LongAdder pushNum = new LongAdder();
+
+        private final LongAdder pushFailNum = new LongAdder();
+
+        private final LongAdder rateLimitedNum = new LongAdder();
+
+        private long lastPublishNum;
+
+        private long lastPushNum;
+
+        private long lastPushFailNum;
+
+        private long lastRateLimitedNum;
+
+        private volatile long publishTps;
+
+        private volatile long pushTps;
+
+        /**
+         * @return false if nothing was recorded since the last refresh
+         */
+        private synchronized boolean refreshTps(long intervalMills) {
+            long publish = publishNum.sum();
+            long push = pushNum.sum();
+            long pushFail = pushFailNum.sum();
+            long rateLimited = rateLimitedNum.sum();
+            publishTps = 1000 * (publish - lastPublishNum) / intervalMills;
+            pushTps = 1000 * (push - lastPushNum) / intervalMills;
+            final boolean active = publish != lastPublishNum || push != lastPushNum || pushFail != lastPushFailNum
+                || rateLimited != lastRateLimitedNum;
+            lastPublishNum = publish;
+            lastPushNum = push;
+            lastPushFailNum = pushFail;
+            lastRateLimitedNum = rateLimited;
+            return active;
+        }
+
+        /**
+         * Add the counts of an evicted pair, as already refreshed, so they do not show up as TPS.
+         */
+        private synchronized void fold(Counters evicted) {
+            long publish = evicted.publishNum.sum();
+            long push = evicted.pushNum.sum();
+            long pushFail = evicted.pushFailNum.sum();
+            long rateLimited = evicted.rateLimitedNum.sum();
+            publishNum.add(publish);
+            pushNum.add(push);
+            pushFailNum.add(pushFail);
+            rateLimitedNum.add(rateLimited);
+            lastPublishNum += publish;
+            lastPushNum += push;
+            lastPushFailNum += pushFail;
+            lastRateLimitedNum += rateLimited;
+        }
+
+        public long getPublishNum() {
+            return publishNum.sum();
+        }
+
+        public long getPushNum() {
+            return pushNum.sum();
+        }
+
+        public long getPushFailNum() {
+            return pushFailNum.sum();
+        }
+
+        public long getRateLimitedNum() {
+            return rateLimitedNum.sum();
+        }
+
+        public long getPublishTps() {
+            return publishTps;
+        }
+
+        public long getPushTps() {
+            return pushTps;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.metrics.api.model;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+
+/**
+ * Lookups of the webhook configs cached by the webhook receiver.
+ */
+public class WebHookConfigCacheMetrics implements Metric {
+
+    private final AtomicLong hitNum = new AtomicLong();
+
+    private final AtomicLong missNum = new AtomicLong();
+
+    private final AtomicLong refreshNum = new AtomicLong();
+
+    private final IntSupplier cacheSize;
+
+    private final IntSupplier notFoundCacheSize;
+
+    public WebHookConfigCacheMetrics(final IntSupplier cacheSize, final IntSupplier notFoundCacheSize) {
+        this.cacheSize = cacheSize;
+        this.notFoundCacheSize = notFoundCacheSize;
+    }
+
+    /**
+     * Lookups answered from the cache, including the paths cached as not found.
+     */
+    public AtomicLong getHitNum() {
+        return hitNum;
+    }
+
+    /**
+     * Lookups that had to load the config from the config store.
+     */
+    public AtomicLong getMissNum() {
+        return missNum;
+    }
+
+    /**
+     * Configs read from the config store, by lookups and background refreshes.
+     */
+    public AtomicLong getRefreshNum() {
+        return refreshNum;
+    }
+
+    public int getCacheSize() {
+        return cacheSize.getAsInt();
+    }
+
+    public int getNotFoundCacheSize() {
+        return notFoundCacheSize.getAsInt();
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.metrics.api;
+
+import org.apache.eventmesh.metrics.api.model.LatencyRecorder;
+import org.apache.eventmesh.metrics.api.model.LatencySnapshot;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LatencyRecorderTest {
+
+    @Test
+    public void testPercentiles() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        for (int i = 1; i <= 1000; i++) {
+            recorder.record(i);
+        }
+        Assert.assertSame(LatencySnapshot.EMPTY, recorder.getSnapshot());
+
+        recorder.snapshot();
+        LatencySnapshot snapshot = recorder.getSnapshot();
+        Assert.assertEquals(1000, snapshot.getCount());
+        Assert.assertEquals(500.5d, snapshot.getMean(), 5d);
+        assertClose(500, snapshot.getP50());
+        assertClose(900, snapshot.getP90());
+        assertClose(990, snapshot.getP99());
+        assertClose(999, snapshot.getP999());
+        assertClose(1000, snapshot.getMax());
+
+        recorder.snapshot();
+        Assert.assertEquals(0, recorder.getSnapshot().getCount());
+    }
+
+    @Test
+    public void testTopicSnapshots() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        recorder.record("a", 10);
+        recorder.record("a", 20);
+        recorder.record("b", 100);
+        recorder.record(30);
+        recorder.snapshot();
+
+        Assert.assertEquals(4, recorder.getSnapshot().getCount());
+        Assert.assertEquals(2, recorder.getTopicSnapshots().size());
+        Assert.assertEquals(2, recorder.getTopicSnapshots().get("a").getCount());
+        assertClose(100, recorder.getTopicSnapshots().get("b").getMax());
+
+        recorder.record("b", 1);
+        recorder.snapshot();
+        Assert.assertEquals(1, recorder.getTopicSnapshots().size());
+        Assert.assertNull(recorder.getTopicSnapshots().get("a"));
+    }
+
+    @Test
+    public void testTopicsBounded() {
+        LatencyRecorder recorder = new LatencyRecorder(2);
+        recorder.record("a", 10);
+        recorder.record("b", 20);
+        recorder.record("c", 30);
+        recorder.record("d", 40);
+        recorder.record("a", 50);
+        recorder.snapshot();
+
+        Assert.assertEquals(5, recorder.getSnapshot().getCount());
+        Assert.assertEquals(3, recorder.getTopicSnapshots().size());
+        Assert.assertEquals(2, recorder.getTopicSnapshots().get("a").getCount());
+        Assert.assertEquals(2, recorder.getTopicSnapshots().get(LatencyRecorder.OVERFLOW).getCount());
+        Assert.assertNull(recorder.getTopicSnapshots().get("c"));
+
+        recorder.record("a", 10);
+        recorder.snapshot();
+        recorder.record("c", 30);
+        recorder.snapshot();
+        Assert.assertEquals(1, recorder.getTopicSnapshots().get("c").getCount());
+    }
+
+    @Test
+    public void testOutOfRangeValues() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        recorder.record(-5);
+        recorder.record(Long.MAX_VALUE);
+        recorder.snapshot();
+
+        Assert.assertEquals(2, recorder.getSnapshot().getCount());
+        Assert.assertEquals(0, recorder.getSnapshot().getP50());
+        assertClose(TimeUnit.HOURS.toMillis(1), recorder.getSnapshot().getMax());
+    }
+
+    @Test
+    public void testConcurrentRecord() throws InterruptedException {
+        LatencyRecorder recorder = new LatencyRecorder();
+        int threads = 4;
+        int perThread = 10000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    recorder.record("topic", i % 100);
+                }
+                latch.countDown();
+            });
+        }
+        Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        recorder.snapshot();
+        Assert.assertEquals(threads * perThread, recorder.getSnapshot().getCount());
+        Assert.assertEquals(threads * perThread, recorder.getTopicSnapshots().get("topic").getCount());
+    }
+
+    private static void assertClose(long expected, long actual) {
+        // two significant digits
+        Assert.assertEquals(expected, actual, expected / 100d + 1);
+    }
+}
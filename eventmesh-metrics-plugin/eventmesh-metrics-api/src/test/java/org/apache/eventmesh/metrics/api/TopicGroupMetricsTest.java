@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.metrics.api;
+
+import org.apache.eventmesh.metrics.api.model.TopicGroupMetrics;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TopicGroupMetricsTest {
+
+    @Test
+    public void testRecord() {
+        TopicGroupMetrics metrics = new TopicGroupMetrics("HTTP");
+        metrics.recordPublish("t1", "g1");
+        metrics.recordPublish("t1", "g1", 3);
+        metrics.recordPush("t1", "g2");
+        metrics.recordPushFailed("t1", "g2");
+        metrics.recordRateLimited("t1", "g2");
+        metrics.recordPublish("t2", null);
+
+        Map<TopicGroupMetrics.Key, TopicGroupMetrics.Counters> counters = metrics.getCounters();
+        Assert.assertEquals(3, counters.size());
+        Assert.assertEquals(4, counters.get(new TopicGroupMetrics.Key("t1", "g1")).getPublishNum());
+        Assert.assertEquals(1, counters.get(new TopicGroupMetrics.Key("t1", "g2")).getPushNum());
+        Assert.assertEquals(1, counters.get(new TopicGroupMetrics.Key("t1", "g2")).getPushFailNum());
+        Assert.assertEquals(1, counters.get(new TopicGroupMetrics.Key("t1", "g2")).getRateLimitedNum());
+        Assert.assertEquals(1, counters.get(new TopicGroupMetrics.Key("t2", "")).getPublishNum());
+    }
+
+    @Test
+    public void testOverflow() {
+        TopicGroupMetrics metrics = new TopicGroupMetrics("TCP", 2);
+        metrics.recordPublish("t1", "g");
+        metrics.recordPublish("t2", "g");
+        metrics.recordPublish("t3", "g");
+        metrics.recordPublish("t4", "g");
+        metrics.recordPublish("t1", "g");
+
+        Map<TopicGroupMetrics.Key, TopicGroupMetrics.Counters> counters = metrics.getCounters();
+        Assert.assertEquals(3, counters.size());
+        Assert.assertEquals(2, counters.get(new TopicGroupMetrics.Key("t1", "g")).getPublishNum());
+        TopicGroupMetrics.Key overflow = new TopicGroupMetrics.Key(TopicGroupMetrics.OVERFLOW, TopicGroupMetrics.OVERFLOW);
+        Assert.assertEquals(2, counters.get(overflow).getPublishNum());
+    }
+
+    @Test
+    public void testRefreshTpsEvictsIdlePairs() {
+        TopicGroupMetrics metrics = new TopicGroupMetrics("GRPC", 2);
+        metrics.recordPush("t1", "g");
+        metrics.recordPush("t2", "g");
+        metrics.refreshTps(1000);
+        Assert.assertEquals(1, metrics.getCounters().get(new TopicGroupMetrics.Key("t1", "g")).getPushTps());
+
+        for (int i = 0; i < 10; i++) {
+            metrics.recordPush("t1", "g");
+        }
+        metrics.refreshTps(1000);
+        Assert.assertEquals(10, metrics.getCounters().get(new TopicGroupMetrics.Key("t1", "g")).getPushTps());
+        Assert.assertNull(metrics.getCounters().get(new TopicGroupMetrics.Key("t2", "g")));
+
+        metrics.recordPush("t3", "g");
+        Assert.assertEquals(1, metrics.getCounters().get(new TopicGroupMetrics.Key("t3", "g")).getPushNum());
+    }
+
+    @Test
+    public void testEvictedCountsFoldedIntoOverflow() {
+        TopicGroupMetrics metrics = new TopicGroupMetrics("HTTP", 2);
+        metrics.recordPublish("t1", "g", 5);
+        metrics.recordPush("t2", "g");
+        metrics.recordPushFailed("t2", "g");
+        metrics.refreshTps(1000);
+        metrics.recordPublish("t1", "g");
+        metrics.refreshTps(1000);
+
+        TopicGroupMetrics.Key overflow = new TopicGroupMetrics.Key(TopicGroupMetrics.OVERFLOW, TopicGroupMetrics.OVERFLOW);
+        Map<TopicGroupMetrics.Key, TopicGroupMetrics.Counters> counters = metrics.getCounters();
+        Assert.assertNull(counters.get(new TopicGroupMetrics.Key("t2", "g")));
+        Assert.assertEquals(1, counters.get(overflow).getPushNum());
+        Assert.assertEquals(1, counters.get(overflow).getPushFailNum());
+        Assert.assertEquals(6, counters.values().stream().mapToLong(TopicGroupMetrics.Counters::getPublishNum).sum());
+
+        metrics.refreshTps(1000);
+        Assert.assertEquals(0, counters.get(overflow).getPushTps());
+        Assert.assertNotNull(metrics.getCounters().get(overflow));
+    }
+
+    @Test
+    public void testUnackNumBounded() {
+        TopicGroupMetrics metrics = new TopicGroupMetrics("HTTP", 3);
+        Map<TopicGroupMetrics.Key, Long> unack = new HashMap<>();
+        for (int i = 0; i < 5; i++) {
+            unack.put(new TopicGroupMetrics.Key("t" + i, "g"), 10L);
+        }
+        metrics.updateUnackNum(unack);
+
+        Map<TopicGroupMetrics.Key, Long> bounded = metrics.getUnackNum();
+        Assert.assertEquals(3, bounded.size());
+        Assert.assertEquals(50L, bounded.values().stream().mapToLong(Long::longValue).sum());
+        TopicGroupMetrics.Key overflow = new TopicGroupMetrics.Key(TopicGroupMetrics.OVERFLOW, TopicGroupMetrics.OVERFLOW);
+        Assert.assertEquals(Long.valueOf(30L), bounded.get(overflow));
+    }
+}
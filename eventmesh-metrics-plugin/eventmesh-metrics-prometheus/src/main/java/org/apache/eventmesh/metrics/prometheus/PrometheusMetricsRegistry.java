@@ -23,10 +23,14 @@ import org.apache.eventmesh.metrics.api.model.GrpcSummaryMetrics;
 import org.apache.eventmesh.metrics.api.model.HttpSummaryMetrics;
 import org.apache.eventmesh.metrics.api.model.Metric;
 import org.apache.eventmesh.metrics.api.model.TcpSummaryMetrics;
+import org.apache.eventmesh.metrics.api.model.TopicGroupMetrics;
+import org.apache.eventmesh.metrics.api.model.WebHookConfigCacheMetrics;
 import org.apache.eventmesh.metrics.prometheus.config.PrometheusConfiguration;
 import org.apache.eventmesh.metrics.prometheus.metrics.PrometheusGrpcExporter;
 import org.apache.eventmesh.metrics.prometheus.metrics.PrometheusHttpExporter;
 import org.apache.eventmesh.metrics.prometheus.metrics.PrometheusTcpExporter;
+import org.apache.eventmesh.metrics.prometheus.metrics.PrometheusTopicGroupExporter;
+import org.apache.eventmesh.metrics.prometheus.metrics.PrometheusWebHookExporter;
 
 import java.io.IOException;
 
@@ -91,6 +95,14 @@ public class PrometheusMetricsRegistry implements MetricsRegistry {
         if (metric instanceof GrpcSummaryMetrics) {
             PrometheusGrpcExporter.export("apache-eventmesh", (GrpcSummaryMetrics) metric);
         }
+
+        if (metric instanceof TopicGroupMetrics) {
+            PrometheusTopicGroupExporter.export("apache-eventmesh", (TopicGroupMetrics) metric);
+        }
+
+        if (metric instanceof WebHookConfigCacheMetrics) {
+            PrometheusWebHookExporter.export("apache-eventmesh", (WebHookConfigCacheMetrics) metric);
+        }
     }
 
     @Override
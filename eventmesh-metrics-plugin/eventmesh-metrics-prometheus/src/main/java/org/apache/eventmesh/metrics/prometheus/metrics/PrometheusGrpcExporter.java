@@ -52,5 +52,12 @@ public class PrometheusGrpcExporter {
 
         observeOfValue(meter, "mq.provider.tps", "get tps of eventMesh to mq.", summaryMetrics::getEventMesh2MqTPS);
         observeOfValue(meter, "mq.consumer.tps", "get tps of eventMesh to mq.", summaryMetrics::getMq2EventMeshTPS);
+
+        PrometheusLatencyExporter.export(meter, METRICS_NAME_PREFIX + "mq.provider.latency",
+            "quantiles of eventMesh to mq latency.", UNIT, summaryMetrics.getSend2MQLatency());
+        PrometheusLatencyExporter.export(meter, METRICS_NAME_PREFIX + "client.latency",
+            "quantiles of eventMesh to client latency.", UNIT, summaryMetrics.getPush2ClientLatency());
+        PrometheusLatencyExporter.export(meter, METRICS_NAME_PREFIX + "retry.latency",
+            "quantiles of retry latency.", UNIT, summaryMetrics.getRetryLatency());
     }
 }
@@ -270,6 +270,14 @@ public class PrometheusHttpExporter {
             .setUpdater(result -> result.observe(summaryMetrics.getHttpRetryQueueSize(), Labels.empty()))
             .build();
 
+        //httpPushInflight
+        meter
+            .longValueObserverBuilder("eventmesh.http.push.inflight.size")
+            .setDescription("size of http push requests waiting for response.")
+            .setUnit("HTTP")
+            .setUpdater(result -> result.observe(summaryMetrics.getHttpPushInflightSize(), Labels.empty()))
+            .build();
+
         //batchAvgSend2MQCost
         meter
             .doubleValueObserverBuilder("eventmesh.batch.send.message.cost.avg")
@@ -293,6 +301,21 @@ public class PrometheusHttpExporter {
             .setUnit("HTTP")
             .setUpdater(result -> result.observe(summaryMetrics.avgReplyMsgCost(), Labels.empty()))
             .build();
+
+        PrometheusLatencyExporter.export(meter, "eventmesh.http.request.cost",
+            "quantiles of HTTP request cost.", "HTTP", summaryMetrics.getHttpReqResLatency());
+        PrometheusLatencyExporter.export(meter, "eventmesh.http.body.decode.cost",
+            "quantiles of HTTP body decode cost.", "HTTP", summaryMetrics.getHttpDecodeLatency());
+        PrometheusLatencyExporter.export(meter, "eventmesh.batch.send.message.cost",
+            "quantiles of batch send message cost.", "HTTP", summaryMetrics.getBatchSend2MQLatency());
+        PrometheusLatencyExporter.export(meter, "eventmesh.send.message.cost",
+            "quantiles of send message cost.", "HTTP", summaryMetrics.getSend2MQLatency());
+        PrometheusLatencyExporter.export(meter, "eventmesh.reply.message.cost",
+            "quantiles of reply message cost.", "HTTP", summaryMetrics.getReply2MQLatency());
+        PrometheusLatencyExporter.export(meter, "eventmesh.http.push.latency",
+            "quantiles of http push latency.", "HTTP", summaryMetrics.getHttpPushLatency());
+        PrometheusLatencyExporter.export(meter, "eventmesh.http.retry.latency",
+            "quantiles of http retry latency.", "HTTP", summaryMetrics.getHttpRetryLatency());
     }
 
 }
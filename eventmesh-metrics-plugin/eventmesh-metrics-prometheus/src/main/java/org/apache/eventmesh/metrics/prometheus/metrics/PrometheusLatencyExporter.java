@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.metrics.prometheus.metrics;
+
+import org.apache.eventmesh.metrics.api.model.LatencyRecorder;
+import org.apache.eventmesh.metrics.api.model.LatencySnapshot;
+
+import java.util.Map;
+
+import io.opentelemetry.api.metrics.AsynchronousInstrument.DoubleResult;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.common.Labels;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Exports the p50, p90, p99 and p999 of a {@link LatencyRecorder}, labelled by quantile, as {@code name} for all
+ * topics and as {@code name.topic} per topic.
+ */
+@UtilityClass
+public class PrometheusLatencyExporter {
+
+    private static final String QUANTILE = "quantile";
+
+    private static final String TOPIC = "topic";
+
+    public static void export(Meter meter, String name, String desc, String unit, LatencyRecorder recorder) {
+        meter.doubleValueObserverBuilder(name)
+            .setDescription(desc)
+            .setUnit(unit)
+            .setUpdater(result -> observe(result, recorder.getSnapshot()))
+            .build();
+
+        meter.doubleValueObserverBuilder(name + ".topic")
+            .setDescription(desc + " per topic")
+            .setUnit(unit)
+            .setUpdater(result -> {
+                for (Map.Entry<String, LatencySnapshot> entry : recorder.getTopicSnapshots().entrySet()) {
+                    observe(result, entry.getValue(), TOPIC, entry.getKey());
+                }
+            })
+            .build();
+    }
+
+    private static void observe(DoubleResult result, LatencySnapshot snapshot, String... labels) {
+        result.observe(snapshot.getP50(), quantile("0.5", labels));
+        result.observe(snapshot.getP90(), quantile("0.9", labels));
+        result.observe(snapshot.getP99(), quantile("0.99", labels));
+        result.observe(snapshot.getP999(), quantile("0.999", labels));
+    }
+
+    private static Labels quantile(String quantile, String... labels) {
+        String[] keyValues = new String[labels.length + 2];
+        System.arraycopy(labels, 0, keyValues, 0, labels.length);
+        keyValues[labels.length] = QUANTILE;
+        keyValues[labels.length + 1] = quantile;
+        return Labels.of(keyValues);
+    }
+}
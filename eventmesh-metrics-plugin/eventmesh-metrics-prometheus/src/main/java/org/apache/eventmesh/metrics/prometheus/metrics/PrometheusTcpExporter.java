@@ -85,5 +85,12 @@ public class PrometheusTcpExporter {
             .setUnit("TCP")
             .setUpdater(result -> result.observe(summaryMetrics.getSubTopicNum(), Labels.empty()))
             .build();
+
+        PrometheusLatencyExporter.export(meter, "eventmesh.tcp.mq.provider.latency",
+            "quantiles of eventMesh to mq latency.", "TCP", summaryMetrics.getSend2MQLatency());
+        PrometheusLatencyExporter.export(meter, "eventmesh.tcp.client.latency",
+            "quantiles of eventMesh to client latency.", "TCP", summaryMetrics.getPush2ClientLatency());
+        PrometheusLatencyExporter.export(meter, "eventmesh.tcp.retry.latency",
+            "quantiles of retry latency.", "TCP", summaryMetrics.getRetryLatency());
     }
 }
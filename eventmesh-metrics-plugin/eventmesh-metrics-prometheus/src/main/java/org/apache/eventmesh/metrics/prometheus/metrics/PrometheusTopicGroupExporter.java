@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.metrics.prometheus.metrics;
+
+import org.apache.eventmesh.metrics.api.model.TopicGroupMetrics;
+import org.apache.eventmesh.metrics.api.model.TopicGroupMetrics.Counters;
+import org.apache.eventmesh.metrics.api.model.TopicGroupMetrics.Key;
+
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+import io.opentelemetry.api.metrics.GlobalMeterProvider;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.common.Labels;
+
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class PrometheusTopicGroupExporter {
+
+    private static final String TOPIC = "topic";
+
+    private static final String GROUP = "group";
+
+    public static void export(final String meterName, final TopicGroupMetrics topicGroupMetrics) {
+        final Meter meter = GlobalMeterProvider.getMeter(meterName);
+        final String prefix = "eventmesh." + topicGroupMetrics.getProtocol() + ".";
+        final String unit = topicGroupMetrics.getProtocol().toUpperCase();
+
+        observeCounter(meter, prefix + "topic.publish.num", "sum of published messages per topic and group.", unit,
+            topicGroupMetrics, Counters::getPublishNum);
+        observeCounter(meter, prefix + "topic.push.num", "sum of pushed messages per topic and group.", unit,
+            topicGroupMetrics, Counters::getPushNum);
+        observeCounter(meter, prefix + "topic.push.fail.num", "sum of failed pushes per topic and group.", unit,
+            topicGroupMetrics, Counters::getPushFailNum);
+        observeCounter(meter, prefix + "topic.ratelimited.num", "sum of messages rejected by rate limiting per topic and group.", unit,
+            topicGroupMetrics, Counters::getRateLimitedNum);
+
+        meter.longValueObserverBuilder(prefix + "topic.unack.num")
+            .setDescription("messages pushed and not acknowledged per topic and group.")
+            .setUnit(unit)
+            .setUpdater(result -> topicGroupMetrics.getUnackNum()
+                .forEach((key, value) -> result.observe(value, labels(key))))
+            .build();
+
+        meter.longValueObserverBuilder(prefix + "group.retry.num")
+            .setDescription("retries waiting to run per group.")
+            .setUnit(unit)
+            .setUpdater(result -> topicGroupMetrics.getRetryNum()
+                .forEach((group, value) -> result.observe(value, Labels.of(GROUP, group))))
+            .build();
+    }
+
+    private static void observeCounter(Meter meter, String name, String desc, String unit,
+                                       TopicGroupMetrics topicGroupMetrics, ToLongFunction<Counters> counter) {
+        meter.longSumObserverBuilder(name)
+            .setDescription(desc)
+            .setUnit(unit)
+            .setUpdater(result -> {
+                for (Map.Entry<Key, Counters> entry : topicGroupMetrics.getCounters().entrySet()) {
+                    result.observe(counter.applyAsLong(entry.getValue()), labels(entry.getKey()));
+                }
+            })
+            .build();
+    }
+
+    private static Labels labels(Key key) {
+        return Labels.of(TOPIC, key.getTopic(), GROUP, key.getGroup());
+    }
+}
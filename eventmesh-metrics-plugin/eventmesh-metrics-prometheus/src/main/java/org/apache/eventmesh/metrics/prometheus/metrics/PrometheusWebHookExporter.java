@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.metrics.prometheus.metrics;
+
+import org.apache.eventmesh.metrics.api.model.WebHookConfigCacheMetrics;
+
+import java.util.function.Supplier;
+
+import io.opentelemetry.api.metrics.GlobalMeterProvider;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.common.Labels;
+
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class PrometheusWebHookExporter {
+
+    private static final String UNIT = "WEBHOOK";
+    private static final String METRICS_NAME_PREFIX = "eventmesh.webhook.config.cache.";
+
+    private void observeOfValue(Meter meter, String name, String desc, Supplier<Number> supplier) {
+        meter.doubleValueObserverBuilder(METRICS_NAME_PREFIX + name)
+            .setDescription(desc)
+            .setUnit(UNIT)
+            .setUpdater(result -> result.observe(supplier.get().doubleValue(), Labels.empty()))
+            .build();
+    }
+
+    public static void export(final String meterName, final WebHookConfigCacheMetrics cacheMetrics) {
+        final Meter meter = GlobalMeterProvider.getMeter(meterName);
+
+        observeOfValue(meter, "hit.num", "get num of webhook config lookups served by the cache.", cacheMetrics.getHitNum()::get);
+        observeOfValue(meter, "miss.num", "get num of webhook config lookups loaded from the config store.",
+            cacheMetrics.getMissNum()::get);
+        observeOfValue(meter, "refresh.num", "get num of webhook configs read from the config store.",
+            cacheMetrics.getRefreshNum()::get);
+        observeOfValue(meter, "size", "get num of cached webhook configs.", cacheMetrics::getCacheSize);
+        observeOfValue(meter, "not.found.size", "get num of callback paths cached as not found.",
+            cacheMetrics::getNotFoundCacheSize);
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.eventmesh.protocol.cloudevents.resolver.grpc;
 
 import org.apache.eventmesh.common.Constants;
+import org.apache.eventmesh.common.protocol.grpc.common.CloudEventProtoConverter;
 import org.apache.eventmesh.common.protocol.grpc.common.ProtocolKey;
 import org.apache.eventmesh.common.protocol.grpc.common.SimpleMessageWrapper;
 import org.apache.eventmesh.common.protocol.grpc.protos.BatchMessage;
@@ -40,11 +41,8 @@ import io.cloudevents.core.provider.EventFormatProvider;
 public class GrpcMessageProtocolResolver {
 
     public static CloudEvent buildEvent(SimpleMessage message) {
-        String cloudEventJson = message.getContent();
-
-        String contentType = message.getPropertiesOrDefault(ProtocolKey.CONTENT_TYPE, Constants.CONTENT_TYPE_CLOUDEVENTS_JSON);
-        EventFormat eventFormat = EventFormatProvider.getInstance().resolveFormat(contentType);
-        CloudEvent event = Objects.requireNonNull(eventFormat).deserialize(cloudEventJson.getBytes(StandardCharsets.UTF_8));
+        CloudEvent event = message.hasCloudEvent() ? CloudEventProtoConverter.fromProto(message.getCloudEvent())
+            : deserialize(message.getContent(), message.getPropertiesOrDefault(ProtocolKey.CONTENT_TYPE, Constants.CONTENT_TYPE_CLOUDEVENTS_JSON));
 
         RequestHeader header = message.getHeader();
 
@@ -95,26 +93,42 @@ public class GrpcMessageProtocolResolver {
             .setProtocolDesc(protocolDesc).setProtocolVersion(protocolVersion)
             .build();
 
-        String contentType = Objects.requireNonNull(cloudEvent.getDataContentType());
-        EventFormat eventFormat = EventFormatProvider.getInstance().resolveFormat(contentType);
-
         SimpleMessage.Builder messageBuilder = SimpleMessage.newBuilder()
             .setHeader(header)
-            .setContent(new String(Objects.requireNonNull(eventFormat).serialize(cloudEvent), StandardCharsets.UTF_8))
             .setProducerGroup(producerGroup)
             .setSeqNum(seqNum)
             .setUniqueId(uniqueId)
             .setTopic(cloudEvent.getSubject())
-            .setTtl(ttl)
+            .setTtl(ttl);
+
+        // events published in the protobuf format are delivered back in it, and also as JSON in the content field
+        // because subscribers on SDKs without the cloudEvent field only read the content
+        boolean protobufFormat =
+            Constants.CONTENT_TYPE_CLOUDEVENTS_PROTOBUF.equals(getCloudEventExtension(cloudEvent, ProtocolKey.CONTENT_TYPE, null));
+        String contentType = protobufFormat ? Constants.CONTENT_TYPE_CLOUDEVENTS_JSON : Objects.requireNonNull(cloudEvent.getDataContentType());
+        EventFormat eventFormat = EventFormatProvider.getInstance().resolveFormat(contentType);
+        messageBuilder.setContent(new String(Objects.requireNonNull(eventFormat).serialize(cloudEvent), StandardCharsets.UTF_8))
             .putProperties(ProtocolKey.CONTENT_TYPE, contentType);
+        if (protobufFormat) {
+            messageBuilder.setCloudEvent(CloudEventProtoConverter.toProto(cloudEvent));
+        }
 
         for (String key : cloudEvent.getExtensionNames()) {
             messageBuilder.putProperties(key, Objects.requireNonNull(cloudEvent.getExtension(key)).toString());
         }
+        if (protobufFormat) {
+            // the contenttype property describes the content field
+            messageBuilder.putProperties(ProtocolKey.CONTENT_TYPE, contentType);
+        }
 
         return new SimpleMessageWrapper(messageBuilder.build());
     }
 
+    private static CloudEvent deserialize(String content, String contentType) {
+        EventFormat eventFormat = EventFormatProvider.getInstance().resolveFormat(contentType);
+        return Objects.requireNonNull(eventFormat).deserialize(content.getBytes(StandardCharsets.UTF_8));
+    }
+
     private static String getCloudEventExtension(CloudEvent cloudEvent, String protocolKey, String defaultValue) {
         Object extension = cloudEvent.getExtension(protocolKey);
         return Objects.isNull(extension) ? defaultValue : extension.toString();
@@ -126,11 +140,8 @@ public class GrpcMessageProtocolResolver {
         RequestHeader header = batchMessage.getHeader();
 
         for (BatchMessage.MessageItem item : batchMessage.getMessageItemList()) {
-            String cloudEventJson = item.getContent();
-
-            String contentType = item.getPropertiesOrDefault(ProtocolKey.CONTENT_TYPE, Constants.CONTENT_TYPE_CLOUDEVENTS_JSON);
-            EventFormat eventFormat = EventFormatProvider.getInstance().resolveFormat(contentType);
-            CloudEvent event = Objects.requireNonNull(eventFormat).deserialize(cloudEventJson.getBytes(StandardCharsets.UTF_8));
+            CloudEvent event = item.hasCloudEvent() ? CloudEventProtoConverter.fromProto(item.getCloudEvent())
+                : deserialize(item.getContent(), item.getPropertiesOrDefault(ProtocolKey.CONTENT_TYPE, Constants.CONTENT_TYPE_CLOUDEVENTS_JSON));
 
             String env = StringUtils.isEmpty(header.getEnv()) ? getEventExtension(event, ProtocolKey.ENV) : header.getEnv();
             String idc = StringUtils.isEmpty(header.getIdc()) ? getEventExtension(event, ProtocolKey.IDC) : header.getIdc();
@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.tcp.client;
+
+import org.apache.eventmesh.common.protocol.tcp.Command;
+import org.apache.eventmesh.common.protocol.tcp.Header;
+import org.apache.eventmesh.common.protocol.tcp.OPStatus;
+import org.apache.eventmesh.common.protocol.tcp.Package;
+import org.apache.eventmesh.common.protocol.tcp.UserAgent;
+import org.apache.eventmesh.runtime.boot.EventMeshTCPServer;
+import org.apache.eventmesh.runtime.configuration.EventMeshTCPConfiguration;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.group.ClientSessionGroupMapping;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.Session;
+import org.apache.eventmesh.runtime.metrics.tcp.EventMeshTcpMonitor;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.AttributeKey;
+
+/**
+ * The per-packet overhead of {@link EventMeshTcpMessageDispatcher}, with a session table of {@code sessions} clients.
+ *
+ * <p>Every invocation feeds an ack packet through the dispatcher of one of the client channels. The
+ * {@code sessionTable} run looks the session up by remote address, as {@code ClientSessionGroupMapping.getSession(ctx)}
+ * used to, the {@code channelAttribute} run reads it from the channel the way it does now. Both run the same dispatcher
+ * and the same {@code MessageAckTask}, the ack executor runs the task on the calling thread so the benchmark does not
+ * measure a thread hop. The old dispatcher also repeated the lookup for the closed session check and the message flow
+ * log, so the difference measured here is a lower bound.
+ *
+ * <p>Run with {@code ./gradlew :eventmesh-runtime:jmh}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SessionLookupBenchmark {
+
+    /**
+     * The attribute {@link ClientSessionGroupMapping} keeps the session in, attribute keys are unique by name
+     */
+    private static final AttributeKey<Session> SESSION_KEY = AttributeKey.valueOf(ClientSessionGroupMapping.class, "session");
+
+    @Param({"100", "10000"})
+    private int sessions;
+
+    @Param({"sessionTable", "channelAttribute"})
+    private String lookup;
+
+    private EmbeddedChannel[] channels;
+
+    private Package[] packages;
+
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        EventMeshTCPConfiguration eventMeshTCPConfiguration = new EventMeshTCPConfiguration();
+        EventMeshTCPServer eventMeshTCPServer = new EventMeshTCPServer(null, eventMeshTCPConfiguration, null) {
+
+            private final EventMeshTcpMonitor eventMeshTcpMonitor = new EventMeshTcpMonitor(this, Collections.emptyList());
+
+            private final ClientSessionGroupMapping clientSessionGroupMapping = "sessionTable".equals(lookup)
+                ? new SessionTableMapping(this) : new ClientSessionGroupMapping(this);
+
+            private final TcpTaskExecutor taskHandleExecutor = new CallerRunsTaskExecutor();
+
+            @Override
+            public EventMeshTcpMonitor getEventMeshTcpMonitor() {
+                return eventMeshTcpMonitor;
+            }
+
+            @Override
+            public ClientSessionGroupMapping getClientSessionGroupMapping() {
+                return clientSessionGroupMapping;
+            }
+
+            @Override
+            public TcpTaskExecutor getTaskHandleExecutor() {
+                return taskHandleExecutor;
+            }
+
+            @Override
+            public TcpTaskExecutor getAckHandleExecutor() {
+                return taskHandleExecutor;
+            }
+        };
+        ClientSessionGroupMapping clientSessionGroupMapping = eventMeshTCPServer.getClientSessionGroupMapping();
+
+        channels = new EmbeddedChannel[sessions];
+        packages = new Package[sessions];
+        for (int i = 0; i < sessions; i++) {
+            InetSocketAddress address = new InetSocketAddress("10.0." + (i >> 8 & 0xff) + "." + (i & 0xff), 10000 + i);
+            EventMeshTcpMessageDispatcher dispatcher = new EventMeshTcpMessageDispatcher(eventMeshTCPServer);
+            channels[i] = new ClientChannel(address);
+            channels[i].pipeline().addLast(dispatcher);
+            ChannelHandlerContext ctx = channels[i].pipeline().context(dispatcher);
+
+            UserAgent client = new UserAgent();
+            client.setHost(address.getHostString());
+            client.setPort(address.getPort());
+            Session session = new Session(client, ctx, eventMeshTCPConfiguration);
+            if (clientSessionGroupMapping instanceof SessionTableMapping) {
+                ((SessionTableMapping) clientSessionGroupMapping).sessionTable.put(address, session);
+            }
+            channels[i].attr(SESSION_KEY).set(session);
+
+            // an ack of a response the session is not waiting for, the task only looks at the unacked messages
+            packages[i] = new Package(new Header(Command.RESPONSE_TO_CLIENT_ACK, OPStatus.SUCCESS.getCode(), null,
+                String.valueOf(i)));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        for (EmbeddedChannel channel : channels) {
+            channel.finishAndReleaseAll();
+        }
+    }
+
+    @Benchmark
+    public void dispatch() {
+        int index = next;
+        next = index + 1 == sessions ? 0 : index + 1;
+        channels[index].pipeline().fireChannelRead(packages[index]);
+    }
+
+    /**
+     * Looks the session of a channel up by its remote address, the lookup before the session was kept on the channel
+     */
+    private static final class SessionTableMapping extends ClientSessionGroupMapping {
+
+        private final Map<InetSocketAddress, Session> sessionTable = new ConcurrentHashMap<>();
+
+        private SessionTableMapping(EventMeshTCPServer eventMeshTCPServer) {
+            super(eventMeshTCPServer);
+        }
+
+        @Override
+        public Session getSession(ChannelHandlerContext ctx) {
+            return sessionTable.get((InetSocketAddress) ctx.channel().remoteAddress());
+        }
+    }
+
+    private static final class CallerRunsTaskExecutor extends TcpTaskExecutor {
+
+        private CallerRunsTaskExecutor() {
+            super(1, 1, "eventMesh-benchmark-tcpTaskHandle");
+        }
+
+        @Override
+        public void execute(Channel channel, Runnable task) {
+            task.run();
+        }
+    }
+
+    /**
+     * A client channel with a socket remote address like the channels of the server
+     */
+    private static final class ClientChannel extends EmbeddedChannel {
+
+        private final InetSocketAddress remoteAddress;
+
+        private ClientChannel(InetSocketAddress remoteAddress) {
+            this.remoteAddress = remoteAddress;
+        }
+
+        @Override
+        protected SocketAddress remoteAddress0() {
+            return remoteAddress;
+        }
+    }
+}
@@ -19,9 +19,11 @@ package org.apache.eventmesh.runtime.admin.handler;
 
 import org.apache.eventmesh.metrics.api.model.HttpSummaryMetrics;
 import org.apache.eventmesh.metrics.api.model.TcpSummaryMetrics;
+import org.apache.eventmesh.metrics.api.model.TopicGroupMetrics;
 import org.apache.eventmesh.runtime.admin.controller.HttpHandlerManager;
 import org.apache.eventmesh.runtime.admin.response.Error;
 import org.apache.eventmesh.runtime.admin.response.GetMetricsResponse;
+import org.apache.eventmesh.runtime.admin.response.GetTopicGroupMetricsResponse;
 import org.apache.eventmesh.runtime.admin.utils.JsonUtils;
 import org.apache.eventmesh.runtime.boot.EventMeshHTTPServer;
 import org.apache.eventmesh.runtime.boot.EventMeshTCPServer;
@@ -31,6 +33,12 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -43,6 +51,8 @@ public class MetricsHandler extends AbstractHttpHandler {
     private static final Logger logger = LoggerFactory.getLogger(ConfigurationHandler.class);
     private final HttpSummaryMetrics httpSummaryMetrics;
     private final TcpSummaryMetrics tcpSummaryMetrics;
+    private final TopicGroupMetrics httpTopicGroupMetrics;
+    private final TopicGroupMetrics tcpTopicGroupMetrics;
 
     public MetricsHandler(EventMeshHTTPServer eventMeshHTTPServer,
                           EventMeshTCPServer eventMeshTcpServer,
@@ -50,6 +60,8 @@ public class MetricsHandler extends AbstractHttpHandler {
         super(httpHandlerManager);
         this.httpSummaryMetrics = eventMeshHTTPServer.getMetrics().getSummaryMetrics();
         this.tcpSummaryMetrics = eventMeshTcpServer.getEventMeshTcpMonitor().getTcpSummaryMetrics();
+        this.httpTopicGroupMetrics = eventMeshHTTPServer.getMetrics().getTopicGroupMetrics();
+        this.tcpTopicGroupMetrics = eventMeshTcpServer.getEventMeshTcpMonitor().getTopicGroupMetrics();
     }
 
     /**
@@ -117,7 +129,10 @@ public class MetricsHandler extends AbstractHttpHandler {
                 tcpSummaryMetrics.getEventMesh2clientTPS(),
                 tcpSummaryMetrics.getAllTPS(),
                 tcpSummaryMetrics.getAllConnections(),
-                tcpSummaryMetrics.getSubTopicNum()
+                tcpSummaryMetrics.getSubTopicNum(),
+
+                getTopicGroupMetrics(),
+                getRetryGroupNum()
             );
             String result = JsonUtils.toJson(getMetricsResponse);
             httpExchange.sendResponseHeaders(200, result.getBytes().length);
@@ -144,6 +159,38 @@ public class MetricsHandler extends AbstractHttpHandler {
         }
     }
 
+    private List<GetTopicGroupMetricsResponse> getTopicGroupMetrics() {
+        List<GetTopicGroupMetricsResponse> topicGroupMetrics = new ArrayList<>();
+        for (TopicGroupMetrics metrics : new TopicGroupMetrics[] {httpTopicGroupMetrics, tcpTopicGroupMetrics}) {
+            Map<TopicGroupMetrics.Key, TopicGroupMetrics.Counters> counters = metrics.getCounters();
+            Map<TopicGroupMetrics.Key, Long> unackNum = metrics.getUnackNum();
+            Set<TopicGroupMetrics.Key> keys = new LinkedHashSet<>(counters.keySet());
+            keys.addAll(unackNum.keySet());
+            for (TopicGroupMetrics.Key key : keys) {
+                TopicGroupMetrics.Counters counter = counters.get(key);
+                topicGroupMetrics.add(new GetTopicGroupMetricsResponse(
+                    metrics.getProtocol(),
+                    key.getTopic(),
+                    key.getGroup(),
+                    counter == null ? 0 : counter.getPublishNum(),
+                    counter == null ? 0 : counter.getPublishTps(),
+                    counter == null ? 0 : counter.getPushNum(),
+                    counter == null ? 0 : counter.getPushTps(),
+                    counter == null ? 0 : counter.getPushFailNum(),
+                    counter == null ? 0 : counter.getRateLimitedNum(),
+                    unackNum.getOrDefault(key, 0L)
+                ));
+            }
+        }
+        return topicGroupMetrics;
+    }
+
+    private Map<String, Map<String, Long>> getRetryGroupNum() {
+        Map<String, Map<String, Long>> retryGroupNum = new HashMap<>();
+        retryGroupNum.put(httpTopicGroupMetrics.getProtocol(), httpTopicGroupMetrics.getRetryNum());
+        retryGroupNum.put(tcpTopicGroupMetrics.getProtocol(), tcpTopicGroupMetrics.getRetryNum());
+        return retryGroupNum;
+    }
 
     @Override
     public void handle(HttpExchange httpExchange) throws IOException {
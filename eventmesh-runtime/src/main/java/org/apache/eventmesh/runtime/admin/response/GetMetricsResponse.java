@@ -17,6 +17,9 @@
 
 package org.apache.eventmesh.runtime.admin.response;
 
+import java.util.List;
+import java.util.Map;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
@@ -67,6 +70,10 @@ public class GetMetricsResponse {
     public int allTCPConnections;
     public int subTopicTCPNum;
 
+    // Topic and group Metrics
+    public List<GetTopicGroupMetricsResponse> topicGroupMetrics;
+    public Map<String, Map<String, Long>> retryGroupNum;
+
 
     @JsonCreator
     public GetMetricsResponse(
@@ -112,7 +119,10 @@ public class GetMetricsResponse {
             @JsonProperty("eventMesh2clientTCPTPS") double eventMesh2clientTCPTPS,
             @JsonProperty("allTCPTPS") double allTCPTPS,
             @JsonProperty("allTCPConnections") int allTCPConnections,
-            @JsonProperty("subTopicTCPNum") int subTopicTCPNum
+            @JsonProperty("subTopicTCPNum") int subTopicTCPNum,
+            // Topic and group Metrics
+            @JsonProperty("topicGroupMetrics") List<GetTopicGroupMetricsResponse> topicGroupMetrics,
+            @JsonProperty("retryGroupNum") Map<String, Map<String, Long>> retryGroupNum
     ) {
         super();
         this.maxHTTPTPS = maxHTTPTPS;
@@ -156,5 +166,7 @@ public class GetMetricsResponse {
         this.allTCPTPS = allTCPTPS;
         this.allTCPConnections = allTCPConnections;
         this.subTopicTCPNum = subTopicTCPNum;
+        this.topicGroupMetrics = topicGroupMetrics;
+        this.retryGroupNum = retryGroupNum;
     }
 }
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.admin.response;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public class GetTopicGroupMetricsResponse {
+    public String protocol;
+    public String topic;
+    public String group;
+    public long publishNum;
+    public long publishTPS;
+    public long pushNum;
+    public long pushTPS;
+    public long pushFailNum;
+    public long rateLimitedNum;
+    public long unackNum;
+
+    @JsonCreator
+    public GetTopicGroupMetricsResponse(
+            @JsonProperty("protocol") String protocol,
+            @JsonProperty("topic") String topic,
+            @JsonProperty("group") String group,
+            @JsonProperty("publishNum") long publishNum,
+            @JsonProperty("publishTPS") long publishTPS,
+            @JsonProperty("pushNum") long pushNum,
+            @JsonProperty("pushTPS") long pushTPS,
+            @JsonProperty("pushFailNum") long pushFailNum,
+            @JsonProperty("rateLimitedNum") long rateLimitedNum,
+            @JsonProperty("unackNum") long unackNum
+    ) {
+        super();
+        this.protocol = protocol;
+        this.topic = topic;
+        this.group = group;
+        this.publishNum = publishNum;
+        this.publishTPS = publishTPS;
+        this.pushNum = pushNum;
+        this.pushTPS = pushTPS;
+        this.pushFailNum = pushFailNum;
+        this.rateLimitedNum = rateLimitedNum;
+        this.unackNum = unackNum;
+    }
+}
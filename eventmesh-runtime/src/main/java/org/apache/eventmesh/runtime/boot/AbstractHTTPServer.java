@@ -70,7 +70,6 @@ import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
 import io.netty.handler.codec.http.FullHttpRequest;
 import io.netty.handler.codec.http.FullHttpResponse;
@@ -199,7 +198,7 @@ public abstract class AbstractHTTPServer extends AbstractRemotingServer {
             final ServerBootstrap b = new ServerBootstrap();
             try {
                 b.group(this.getBossGroup(), this.getWorkerGroup())
-                        .channel(NioServerSocketChannel.class)
+                        .channel(getServerChannelClass())
                         .childHandler(new HttpsServerInitializer(
                                 useTLS ? SSLContextFactory.getSslContext(eventMeshHttpConfiguration) : null))
                         .childOption(ChannelOption.SO_KEEPALIVE, Boolean.TRUE);
@@ -208,10 +207,7 @@ public abstract class AbstractHTTPServer extends AbstractRemotingServer {
                     log.info("HTTPServer[port={}] started.", this.getPort());
                 }
 
-                b.bind(this.getPort())
-                        .channel()
-                        .closeFuture()
-                        .sync();
+                awaitClose(bind(b, this.getPort()));
             } catch (Exception e) {
                 log.error("HTTPServer start error!", e);
                 try {
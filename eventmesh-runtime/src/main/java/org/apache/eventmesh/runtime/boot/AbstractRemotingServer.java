@@ -17,16 +17,22 @@
 
 package org.apache.eventmesh.runtime.boot;
 
+import org.apache.eventmesh.common.config.CommonConfiguration;
+import org.apache.eventmesh.common.enums.NettyTransport;
 import org.apache.eventmesh.common.utils.ThreadUtils;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.ServerChannel;
 
 public abstract class AbstractRemotingServer {
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractRemotingServer.class);
@@ -41,6 +47,10 @@ public abstract class AbstractRemotingServer {
 
     private int port;
 
+    private NettyTransport transport = NettyTransport.NIO;
+
+    private int acceptorNum = 1;
+
     private static final int MAX_THREADS = Runtime.getRuntime().availableProcessors();
 
     public EventLoopGroup getBossGroup() {
@@ -75,8 +85,16 @@ public abstract class AbstractRemotingServer {
         this.port = port;
     }
 
+    public NettyTransport getTransport() {
+        return transport;
+    }
+
+    public Class<? extends ServerChannel> getServerChannelClass() {
+        return transport.getServerChannelClass();
+    }
+
     private EventLoopGroup initBossGroup(final String threadPrefix) {
-        bossGroup = new NioEventLoopGroup(1, new ThreadFactory() {
+        bossGroup = transport.newEventLoopGroup(acceptorNum, new ThreadFactory() {
             private final AtomicInteger count = new AtomicInteger(0);
 
             @Override
@@ -91,7 +109,7 @@ public abstract class AbstractRemotingServer {
     }
 
     private EventLoopGroup initIOGroup(final String threadPrefix, final int threadNum) {
-        ioGroup = new NioEventLoopGroup(threadNum, new ThreadFactory() {
+        ioGroup = transport.newEventLoopGroup(threadNum, new ThreadFactory() {
             private final AtomicInteger count = new AtomicInteger(0);
 
             @Override
@@ -103,7 +121,7 @@ public abstract class AbstractRemotingServer {
     }
 
     private EventLoopGroup initWorkerGroup(final String threadPrefix, final int threadNum) {
-        workerGroup = new NioEventLoopGroup(threadNum, new ThreadFactory() {
+        workerGroup = transport.newEventLoopGroup(threadNum, new ThreadFactory() {
             private final AtomicInteger count = new AtomicInteger(0);
 
             @Override
@@ -114,6 +132,24 @@ public abstract class AbstractRemotingServer {
         return workerGroup;
     }
 
+    /**
+     * Init the event loop groups on the netty transport of the configuration, with one acceptor thread per bind when
+     * SO_REUSEPORT is used.
+     */
+    public void init(final String threadPrefix, final CommonConfiguration configuration) throws Exception {
+        transport = NettyTransport.of(configuration.getEventMeshServerNettyTransport());
+        acceptorNum = 1;
+        if (configuration.getEventMeshServerNettyAcceptorNum() > 1) {
+            if (transport.getReusePortOption() != null) {
+                acceptorNum = configuration.getEventMeshServerNettyAcceptorNum();
+            } else {
+                LOGGER.warn("netty transport {} does not support SO_REUSEPORT, use one acceptor thread", transport);
+            }
+        }
+        LOGGER.info("{} uses netty transport {} with {} acceptor threads", threadPrefix, transport, acceptorNum);
+        init(threadPrefix);
+    }
+
     public void init(final String threadPrefix) throws Exception {
         initBossGroup(threadPrefix);
         initIOGroup(threadPrefix, MAX_THREADS);
@@ -145,5 +181,31 @@ public abstract class AbstractRemotingServer {
         }
     }
 
+    /**
+     * Bind the server to the port, once per acceptor thread with SO_REUSEPORT so the kernel spreads the new connections
+     * over the acceptor threads.
+     *
+     * @return the bound server channels
+     */
+    protected List<Channel> bind(final ServerBootstrap bootstrap, final int port) throws InterruptedException {
+        if (acceptorNum > 1) {
+            bootstrap.option(transport.getReusePortOption(), true);
+        }
+        final List<Channel> channels = new ArrayList<>(acceptorNum);
+        for (int i = 0; i < acceptorNum; i++) {
+            channels.add(bootstrap.bind(port).sync().channel());
+        }
+        return channels;
+    }
+
+    /**
+     * Wait until all the server channels are closed.
+     */
+    protected void awaitClose(final List<Channel> channels) throws InterruptedException {
+        for (final Channel channel : channels) {
+            channel.closeFuture().sync();
+        }
+    }
+
     public abstract void start() throws Exception;
 }
@@ -20,6 +20,7 @@ package org.apache.eventmesh.runtime.boot;
 import org.apache.eventmesh.common.config.ConfigService;
 import org.apache.eventmesh.common.utils.ConfigurationContextUtil;
 import org.apache.eventmesh.runtime.configuration.EventMeshGrpcConfiguration;
+import org.apache.eventmesh.runtime.core.retry.RetryScheduler;
 import org.apache.eventmesh.runtime.registry.Registry;
 
 public class EventMeshGrpcBootstrap implements EventMeshBootstrap {
@@ -30,8 +31,11 @@ public class EventMeshGrpcBootstrap implements EventMeshBootstrap {
 
     private final Registry registry;
 
-    public EventMeshGrpcBootstrap(Registry registry) {
+    private final RetryScheduler retryScheduler;
+
+    public EventMeshGrpcBootstrap(Registry registry, RetryScheduler retryScheduler) {
         this.registry = registry;
+        this.retryScheduler = retryScheduler;
 
         ConfigService configService = ConfigService.getInstance();
         this.eventMeshGrpcConfiguration = configService.buildConfigInstance(EventMeshGrpcConfiguration.class);
@@ -43,7 +47,7 @@ public class EventMeshGrpcBootstrap implements EventMeshBootstrap {
     public void init() throws Exception {
         // server init
         if (eventMeshGrpcConfiguration != null) {
-            eventMeshGrpcServer = new EventMeshGrpcServer(eventMeshGrpcConfiguration, registry);
+            eventMeshGrpcServer = new EventMeshGrpcServer(eventMeshGrpcConfiguration, registry, retryScheduler);
             eventMeshGrpcServer.init();
         }
     }
@@ -20,6 +20,7 @@ package org.apache.eventmesh.runtime.boot;
 import org.apache.eventmesh.api.registry.dto.EventMeshRegisterInfo;
 import org.apache.eventmesh.api.registry.dto.EventMeshUnRegisterInfo;
 import org.apache.eventmesh.common.ThreadPoolFactory;
+import org.apache.eventmesh.common.enums.NettyTransport;
 import org.apache.eventmesh.common.exception.EventMeshException;
 import org.apache.eventmesh.common.utils.ConfigurationContextUtil;
 import org.apache.eventmesh.common.utils.IPUtils;
@@ -33,13 +34,17 @@ import org.apache.eventmesh.runtime.core.protocol.grpc.retry.GrpcRetryer;
 import org.apache.eventmesh.runtime.core.protocol.grpc.service.ConsumerService;
 import org.apache.eventmesh.runtime.core.protocol.grpc.service.HeartbeatService;
 import org.apache.eventmesh.runtime.core.protocol.grpc.service.ProducerService;
+import org.apache.eventmesh.runtime.core.ratelimit.EventMeshRateLimiter;
+import org.apache.eventmesh.runtime.core.retry.RetryScheduler;
 import org.apache.eventmesh.runtime.metrics.grpc.EventMeshGrpcMonitor;
 import org.apache.eventmesh.runtime.registry.Registry;
+import org.apache.eventmesh.runtime.util.EventMeshThreadFactoryImpl;
 
 import org.apache.commons.lang3.RandomUtils;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClients;
 
+import java.net.InetSocketAddress;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -47,15 +52,15 @@ import java.util.Optional;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.assertj.core.util.Lists;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.grpc.Server;
-import io.grpc.ServerBuilder;
-
-import com.google.common.util.concurrent.RateLimiter;
+import io.grpc.netty.NettyServerBuilder;
+import io.netty.channel.EventLoopGroup;
 
 public class EventMeshGrpcServer {
 
@@ -67,8 +72,14 @@ public class EventMeshGrpcServer {
 
     private static final int MAX_LIMIT = 10;
 
+    private static final int SERVER_SHUTDOWN_TIMEOUT_SECONDS = 30;
+
     private Server server;
 
+    private EventLoopGroup bossGroup;
+
+    private EventLoopGroup workerGroup;
+
     private ProducerManager producerManager;
 
     private ConsumerManager consumerManager;
@@ -85,15 +96,19 @@ public class EventMeshGrpcServer {
 
     private List<CloseableHttpClient> httpClientPool;
 
-    private RateLimiter msgRateLimiter;
+    private EventMeshRateLimiter msgRateLimiter;
 
     private Registry registry;
 
     private EventMeshGrpcMonitor eventMeshGrpcMonitor;
 
-    public EventMeshGrpcServer(EventMeshGrpcConfiguration eventMeshGrpcConfiguration, Registry registry) {
+    private final RetryScheduler retryScheduler;
+
+    public EventMeshGrpcServer(EventMeshGrpcConfiguration eventMeshGrpcConfiguration, Registry registry,
+                               RetryScheduler retryScheduler) {
         this.eventMeshGrpcConfiguration = eventMeshGrpcConfiguration;
         this.registry = registry;
+        this.retryScheduler = retryScheduler;
     }
 
     public void init() throws Exception {
@@ -103,7 +118,9 @@ public class EventMeshGrpcServer {
 
         initHttpClientPool();
 
-        msgRateLimiter = RateLimiter.create(eventMeshGrpcConfiguration.getEventMeshMsgReqNumPerSecond());
+        msgRateLimiter = new EventMeshRateLimiter(EventMeshConstants.PROTOCOL_GRPC,
+            eventMeshGrpcConfiguration.getEventMeshMsgReqNumPerSecond(), eventMeshGrpcConfiguration);
+        msgRateLimiter.startReload(EventMeshGrpcConfiguration.class, EventMeshGrpcConfiguration::getEventMeshMsgReqNumPerSecond);
 
         producerManager = new ProducerManager(this);
         producerManager.init();
@@ -111,12 +128,12 @@ public class EventMeshGrpcServer {
         consumerManager = new ConsumerManager(this);
         consumerManager.init();
 
-        grpcRetryer = new GrpcRetryer(this);
+        grpcRetryer = new GrpcRetryer(this, retryScheduler);
         grpcRetryer.init();
 
         int serverPort = eventMeshGrpcConfiguration.getGrpcServerPort();
 
-        server = ServerBuilder.forPort(serverPort)
+        server = newServerBuilder(serverPort)
             .addService(new ProducerService(this, sendMsgExecutor))
             .addService(new ConsumerService(this, clientMgmtExecutor, replyMsgExecutor))
             .addService(new HeartbeatService(this, clientMgmtExecutor))
@@ -154,16 +171,55 @@ public class EventMeshGrpcServer {
         shutdownThreadPools();
         shutdownHttpClientPool();
 
+        // let in-flight calls finish before the event loops they run on go away
         server.shutdown();
+        if (!server.awaitTermination(SERVER_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            logger.warn("grpc server not terminated in {}s, shutting it down now", SERVER_SHUTDOWN_TIMEOUT_SECONDS);
+            server.shutdownNow();
+        }
+        bossGroup.shutdownGracefully();
+        workerGroup.shutdownGracefully();
 
         if (eventMeshGrpcConfiguration.isEventMeshServerRegistryEnable()) {
             this.unRegister();
         }
 
         eventMeshGrpcMonitor.shutdown();
+        msgRateLimiter.shutdown();
         logger.info("---------------EventMeshGRPCServer stopped-------------------");
     }
 
+    /**
+     * Server builder on the netty transport of the configuration, binding the port once per acceptor thread with
+     * SO_REUSEPORT when there is more than one.
+     */
+    private NettyServerBuilder newServerBuilder(int serverPort) {
+        NettyTransport transport = NettyTransport.of(eventMeshGrpcConfiguration.getEventMeshServerNettyTransport());
+        int acceptorNum = 1;
+        if (eventMeshGrpcConfiguration.getEventMeshServerNettyAcceptorNum() > 1) {
+            if (transport.getReusePortOption() != null) {
+                acceptorNum = eventMeshGrpcConfiguration.getEventMeshServerNettyAcceptorNum();
+            } else {
+                logger.warn("netty transport {} does not support SO_REUSEPORT, use one acceptor thread", transport);
+            }
+        }
+        logger.info("eventMesh-grpc uses netty transport {} with {} acceptor threads", transport, acceptorNum);
+
+        bossGroup = transport.newEventLoopGroup(acceptorNum, new EventMeshThreadFactoryImpl("eventMesh-grpc-boss", true));
+        workerGroup = transport.newEventLoopGroup(0, new EventMeshThreadFactoryImpl("eventMesh-grpc-worker", true));
+        NettyServerBuilder serverBuilder = NettyServerBuilder.forPort(serverPort)
+            .channelType(transport.getServerChannelClass())
+            .bossEventLoopGroup(bossGroup)
+            .workerEventLoopGroup(workerGroup);
+        if (acceptorNum > 1) {
+            serverBuilder.withOption(transport.getReusePortOption(), true);
+            for (int i = 1; i < acceptorNum; i++) {
+                serverBuilder.addListenAddress(new InetSocketAddress(serverPort));
+            }
+        }
+        return serverBuilder;
+    }
+
     public boolean register() {
         boolean registerResult = false;
         try {
@@ -225,7 +281,7 @@ public class EventMeshGrpcServer {
         return pushMsgExecutor;
     }
 
-    public RateLimiter getMsgRateLimiter() {
+    public EventMeshRateLimiter getMsgRateLimiter() {
         return msgRateLimiter;
     }
 
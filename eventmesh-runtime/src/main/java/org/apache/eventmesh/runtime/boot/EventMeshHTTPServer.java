@@ -51,7 +51,10 @@ import org.apache.eventmesh.runtime.core.protocol.http.processor.WebHookProcesso
 import org.apache.eventmesh.runtime.core.protocol.http.processor.inf.Client;
 import org.apache.eventmesh.runtime.core.protocol.http.producer.ProducerManager;
 import org.apache.eventmesh.runtime.core.protocol.http.push.HTTPClientPool;
+import org.apache.eventmesh.runtime.core.protocol.http.push.HTTPPushClient;
+import org.apache.eventmesh.runtime.core.protocol.http.push.InflightPushTracker;
 import org.apache.eventmesh.runtime.core.protocol.http.retry.HttpRetryer;
+import org.apache.eventmesh.runtime.core.ratelimit.EventMeshRateLimiter;
 import org.apache.eventmesh.runtime.metrics.http.HTTPMetricsServer;
 import org.apache.eventmesh.runtime.registry.Registry;
 import org.apache.eventmesh.webhook.receive.WebHookController;
@@ -69,7 +72,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.eventbus.EventBus;
-import com.google.common.util.concurrent.RateLimiter;
 
 public class EventMeshHTTPServer extends AbstractHTTPServer {
     private static final Logger LOGGER = LoggerFactory.getLogger(EventMeshHTTPServer.class);
@@ -92,6 +94,8 @@ public class EventMeshHTTPServer extends AbstractHTTPServer {
 
     private transient HttpRetryer httpRetryer;
 
+    private transient InflightPushTracker inflightPushTracker;
+
     public transient ThreadPoolExecutor batchMsgExecutor;
 
     public transient ThreadPoolExecutor sendMsgExecutor;
@@ -108,12 +112,14 @@ public class EventMeshHTTPServer extends AbstractHTTPServer {
 
     public ThreadPoolExecutor webhookExecutor;
 
-    private transient RateLimiter msgRateLimiter;
+    private transient EventMeshRateLimiter msgRateLimiter;
 
-    private transient RateLimiter batchRateLimiter;
+    private transient EventMeshRateLimiter batchRateLimiter;
 
     public transient HTTPClientPool httpClientPool = new HTTPClientPool(10);
 
+    private transient HTTPPushClient httpPushClient;
+
     public EventMeshHTTPServer(final EventMeshServer eventMeshServer,
                                final EventMeshHTTPConfiguration eventMeshHttpConfiguration) {
         super(eventMeshHttpConfiguration.getHttpServerPort(),
@@ -208,14 +214,18 @@ public class EventMeshHTTPServer extends AbstractHTTPServer {
         return adminExecutor;
     }
 
-    public RateLimiter getMsgRateLimiter() {
+    public EventMeshRateLimiter getMsgRateLimiter() {
         return msgRateLimiter;
     }
 
-    public RateLimiter getBatchRateLimiter() {
+    public EventMeshRateLimiter getBatchRateLimiter() {
         return batchRateLimiter;
     }
 
+    public HTTPPushClient getHttpPushClient() {
+        return httpPushClient;
+    }
+
     public Registry getRegistry() {
         return registry;
     }
@@ -224,12 +234,18 @@ public class EventMeshHTTPServer extends AbstractHTTPServer {
         if (LOGGER.isInfoEnabled()) {
             LOGGER.info("==================EventMeshHTTPServer Initialing==================");
         }
-        super.init("eventMesh-http");
+        super.init("eventMesh-http", eventMeshHttpConfiguration);
 
         initThreadPool();
 
-        msgRateLimiter = RateLimiter.create(eventMeshHttpConfiguration.getEventMeshHttpMsgReqNumPerSecond());
-        batchRateLimiter = RateLimiter.create(eventMeshHttpConfiguration.getEventMeshBatchMsgRequestNumPerSecond());
+        httpPushClient = new HTTPPushClient(this.getWorkerGroup(), this.getTransport(), eventMeshHttpConfiguration);
+
+        msgRateLimiter = new EventMeshRateLimiter(EventMeshConstants.PROTOCOL_HTTP,
+            eventMeshHttpConfiguration.getEventMeshHttpMsgReqNumPerSecond(), eventMeshHttpConfiguration);
+        msgRateLimiter.startReload(EventMeshHTTPConfiguration.class, EventMeshHTTPConfiguration::getEventMeshHttpMsgReqNumPerSecond);
+        batchRateLimiter = new EventMeshRateLimiter(EventMeshConstants.PROTOCOL_HTTP + "-batch",
+            eventMeshHttpConfiguration.getEventMeshBatchMsgRequestNumPerSecond(), eventMeshHttpConfiguration);
+        batchRateLimiter.startReload(EventMeshHTTPConfiguration.class, EventMeshHTTPConfiguration::getEventMeshBatchMsgRequestNumPerSecond);
 
         // The MetricsRegistry is singleton, so we can use factory method to get.
         final List<MetricsRegistry> metricsRegistries = Lists.newArrayList();
@@ -238,9 +254,11 @@ public class EventMeshHTTPServer extends AbstractHTTPServer {
                         metricsPlugins -> metricsPlugins.forEach(
                                 pluginType -> metricsRegistries.add(MetricsPluginFactory.getMetricsRegistry(pluginType))));
 
-        httpRetryer = new HttpRetryer(this);
+        httpRetryer = new HttpRetryer(this, eventMeshServer.getRetryScheduler());
         httpRetryer.init();
 
+        inflightPushTracker = new InflightPushTracker();
+
         this.setMetrics(new HTTPMetricsServer(this, metricsRegistries));
 
         subscriptionManager = new SubscriptionManager();
@@ -279,6 +297,7 @@ public class EventMeshHTTPServer extends AbstractHTTPServer {
         consumerManager.start();
         producerManager.start();
         httpRetryer.start();
+        inflightPushTracker.start();
         if (eventMeshHttpConfiguration.isEventMeshServerRegistryEnable()) {
             this.register();
         }
@@ -300,10 +319,17 @@ public class EventMeshHTTPServer extends AbstractHTTPServer {
 
         httpClientPool.shutdown();
 
+        httpPushClient.shutdown();
+
         producerManager.shutdown();
 
         httpRetryer.shutdown();
 
+        inflightPushTracker.shutdown();
+
+        msgRateLimiter.shutdown();
+        batchRateLimiter.shutdown();
+
         if (eventMeshHttpConfiguration.isEventMeshServerRegistryEnable()) {
             this.unRegister();
         }
@@ -404,6 +430,7 @@ public class EventMeshHTTPServer extends AbstractHTTPServer {
 
         final WebHookController webHookController = new WebHookController();
         webHookController.init();
+        Optional.ofNullable(webHookController.getConfigCacheMetrics()).ifPresent(this.getMetrics()::register);
         webHookProcessor.setWebHookController(webHookController);
         this.getHandlerService().register(webHookProcessor, webhookExecutor);
     }
@@ -435,4 +462,8 @@ public class EventMeshHTTPServer extends AbstractHTTPServer {
     public HttpRetryer getHttpRetryer() {
         return httpRetryer;
     }
+
+    public InflightPushTracker getInflightPushTracker() {
+        return inflightPushTracker;
+    }
 }
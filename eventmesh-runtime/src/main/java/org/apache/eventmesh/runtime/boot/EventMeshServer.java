@@ -25,6 +25,7 @@ import org.apache.eventmesh.runtime.admin.controller.ClientManageController;
 import org.apache.eventmesh.runtime.common.ServiceState;
 import org.apache.eventmesh.runtime.connector.ConnectorResource;
 import org.apache.eventmesh.runtime.constants.EventMeshConstants;
+import org.apache.eventmesh.runtime.core.retry.RetryScheduler;
 import org.apache.eventmesh.runtime.registry.Registry;
 import org.apache.eventmesh.runtime.trace.Trace;
 
@@ -45,6 +46,8 @@ public class EventMeshServer {
 
     private static Trace trace;
 
+    private final RetryScheduler retryScheduler;
+
     private final ConnectorResource connectorResource;
 
     private ServiceState serviceState;
@@ -66,6 +69,7 @@ public class EventMeshServer {
         trace = new Trace(configuration.isEventMeshServerTraceEnable());
         this.connectorResource = new ConnectorResource();
         trace = new Trace(configuration.isEventMeshServerTraceEnable());
+        retryScheduler = new RetryScheduler(configuration);
 
         final List<String> provideServerProtocols = configuration.getEventMeshProvideServerProtocols();
         for (final String provideServerProtocol : provideServerProtocols) {
@@ -76,7 +80,7 @@ public class EventMeshServer {
                 BOOTSTRAP_LIST.add(new EventMeshTcpBootstrap(this, registry));
             }
             if (ConfigurationContextUtil.GRPC.equals(provideServerProtocol)) {
-                BOOTSTRAP_LIST.add(new EventMeshGrpcBootstrap(registry));
+                BOOTSTRAP_LIST.add(new EventMeshGrpcBootstrap(registry, retryScheduler));
             }
         }
 
@@ -150,6 +154,7 @@ public class EventMeshServer {
                 registry.start();
             }
         }
+        retryScheduler.start();
         // server start
         for (final EventMeshBootstrap eventMeshBootstrap : BOOTSTRAP_LIST) {
             eventMeshBootstrap.start();
@@ -177,6 +182,8 @@ public class EventMeshServer {
             eventMeshBootstrap.shutdown();
         }
 
+        retryScheduler.shutdown();
+
         if (configuration != null
                 && configuration.isEventMeshServerRegistryEnable()) {
             registry.shutdown();
@@ -204,6 +211,10 @@ public class EventMeshServer {
         return trace;
     }
 
+    public RetryScheduler getRetryScheduler() {
+        return retryScheduler;
+    }
+
     public ServiceState getServiceState() {
         return serviceState;
     }
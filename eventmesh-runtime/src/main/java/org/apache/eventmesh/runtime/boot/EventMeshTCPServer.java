@@ -31,10 +31,12 @@ import org.apache.eventmesh.runtime.constants.EventMeshConstants;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.EventMeshTcpConnectionHandler;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.EventMeshTcpExceptionHandler;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.EventMeshTcpMessageDispatcher;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.TcpTaskExecutor;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.group.ClientSessionGroupMapping;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.rebalance.EventMeshRebalanceService;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.rebalance.EventmeshRebalanceImpl;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.retry.EventMeshTcpRetryer;
+import org.apache.eventmesh.runtime.core.ratelimit.EventMeshRateLimiter;
 import org.apache.eventmesh.runtime.metrics.tcp.EventMeshTcpMonitor;
 import org.apache.eventmesh.runtime.registry.Registry;
 import org.apache.eventmesh.runtime.util.EventMeshThreadFactoryImpl;
@@ -54,18 +56,12 @@ import io.netty.bootstrap.ServerBootstrap;
 import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.AdaptiveRecvByteBufAllocator;
 import io.netty.channel.Channel;
-import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
-import io.netty.channel.EventLoopGroup;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.handler.timeout.IdleStateHandler;
 import io.netty.handler.traffic.ChannelTrafficShapingHandler;
 import io.netty.handler.traffic.GlobalTrafficShapingHandler;
 
-import com.google.common.util.concurrent.RateLimiter;
-
-
 public class EventMeshTCPServer extends AbstractRemotingServer {
     private static final Logger LOGGER = LoggerFactory.getLogger(EventMeshTCPServer.class);
 
@@ -83,7 +79,9 @@ public class EventMeshTCPServer extends AbstractRemotingServer {
 
     private transient ScheduledExecutorService scheduler;
 
-    private transient ExecutorService taskHandleExecutorService;
+    private transient TcpTaskExecutor taskHandleExecutor;
+
+    private transient TcpTaskExecutor ackHandleExecutor;
 
     private transient ExecutorService broadcastMsgDownstreamExecutorService;
 
@@ -93,11 +91,7 @@ public class EventMeshTCPServer extends AbstractRemotingServer {
 
     private transient AdminWebHookConfigOperationManage adminWebHookConfigOperationManage;
 
-    private transient RateLimiter rateLimiter;
-
-    public void setClientSessionGroupMapping(final ClientSessionGroupMapping clientSessionGroupMapping) {
-        this.clientSessionGroupMapping = clientSessionGroupMapping;
-    }
+    private transient EventMeshRateLimiter rateLimiter;
 
     public ScheduledExecutorService getScheduler() {
         return scheduler;
@@ -107,23 +101,23 @@ public class EventMeshTCPServer extends AbstractRemotingServer {
         this.scheduler = scheduler;
     }
 
-    public ExecutorService getTaskHandleExecutorService() {
-        return taskHandleExecutorService;
+    public TcpTaskExecutor getTaskHandleExecutor() {
+        return taskHandleExecutor;
     }
 
-    public ExecutorService getBroadcastMsgDownstreamExecutorService() {
-        return broadcastMsgDownstreamExecutorService;
+    public TcpTaskExecutor getAckHandleExecutor() {
+        return ackHandleExecutor;
     }
 
-    public void setTaskHandleExecutorService(final ExecutorService taskHandleExecutorService) {
-        this.taskHandleExecutorService = taskHandleExecutorService;
+    public ExecutorService getBroadcastMsgDownstreamExecutorService() {
+        return broadcastMsgDownstreamExecutorService;
     }
 
-    public RateLimiter getRateLimiter() {
+    public EventMeshRateLimiter getRateLimiter() {
         return rateLimiter;
     }
 
-    public void setRateLimiter(final RateLimiter rateLimiter) {
+    public void setRateLimiter(final EventMeshRateLimiter rateLimiter) {
         this.rateLimiter = rateLimiter;
     }
 
@@ -161,7 +155,7 @@ public class EventMeshTCPServer extends AbstractRemotingServer {
             };
 
             bootstrap.group(this.getBossGroup(), this.getIoGroup())
-                    .channel(NioServerSocketChannel.class)
+                    .channel(getServerChannelClass())
                     .option(ChannelOption.SO_BACKLOG, 128)
                     .option(ChannelOption.SO_REUSEADDR, true)
                     .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 10_000)
@@ -178,9 +172,9 @@ public class EventMeshTCPServer extends AbstractRemotingServer {
 
             try {
                 int port = eventMeshTCPConfiguration.eventMeshTcpServerPort;
-                ChannelFuture f = bootstrap.bind(port).sync();
+                List<Channel> channels = bind(bootstrap, port);
                 LOGGER.info("EventMeshTCPServer[port={}] started.....", port);
-                f.channel().closeFuture().sync();
+                awaitClose(channels);
             } catch (Exception e) {
                 LOGGER.error("EventMeshTCPServer RemotingServer Start Err!", e);
                 try {
@@ -201,7 +195,9 @@ public class EventMeshTCPServer extends AbstractRemotingServer {
         }
         initThreadPool();
 
-        rateLimiter = RateLimiter.create(eventMeshTCPConfiguration.eventMeshTcpMsgReqnumPerSecond);
+        rateLimiter = new EventMeshRateLimiter(EventMeshConstants.PROTOCOL_TCP,
+            eventMeshTCPConfiguration.eventMeshTcpMsgReqnumPerSecond, eventMeshTCPConfiguration);
+        rateLimiter.startReload(EventMeshTCPConfiguration.class, configuration -> configuration.eventMeshTcpMsgReqnumPerSecond);
 
         globalTrafficShapingHandler = newGTSHandler(scheduler, eventMeshTCPConfiguration.getGtc().getReadLimit());
 
@@ -213,7 +209,7 @@ public class EventMeshTCPServer extends AbstractRemotingServer {
         clientSessionGroupMapping = new ClientSessionGroupMapping(this);
         clientSessionGroupMapping.init();
 
-        eventMeshTcpRetryer = new EventMeshTcpRetryer(this);
+        eventMeshTcpRetryer = new EventMeshTcpRetryer(this, eventMeshServer.getRetryScheduler());
         eventMeshTcpRetryer.init();
 
         // The MetricsRegistry is singleton, so we can use factory method to get.
@@ -291,6 +287,8 @@ public class EventMeshTCPServer extends AbstractRemotingServer {
 
         eventMeshTcpMonitor.shutdown();
 
+        rateLimiter.shutdown();
+
         shutdownThreadPool();
         if (LOGGER.isInfoEnabled()) {
             LOGGER.info("--------------------------EventMeshTCPServer Shutdown");
@@ -332,16 +330,16 @@ public class EventMeshTCPServer extends AbstractRemotingServer {
     }
 
     private void initThreadPool() throws Exception {
-        super.init("eventMesh-tcp");
+        super.init("eventMesh-tcp", eventMeshTCPConfiguration);
 
         scheduler = ThreadPoolFactory.createScheduledExecutor(eventMeshTCPConfiguration.eventMeshTcpGlobalScheduler,
                 new EventMeshThreadFactoryImpl("eventMesh-tcp-scheduler", true));
 
-        taskHandleExecutorService = ThreadPoolFactory.createThreadPoolExecutor(
-                eventMeshTCPConfiguration.eventMeshTcpTaskHandleExecutorPoolSize,
-                eventMeshTCPConfiguration.eventMeshTcpTaskHandleExecutorPoolSize,
-                new LinkedBlockingQueue<>(10_000),
-                new EventMeshThreadFactoryImpl("eventMesh-tcp-task-handle", true));
+        taskHandleExecutor = new TcpTaskExecutor(eventMeshTCPConfiguration.eventMeshTcpTaskHandleExecutorPoolSize,
+                eventMeshTCPConfiguration.eventMeshTcpTaskHandleExecutorQueueSize, "eventMesh-tcp-task-handle");
+
+        ackHandleExecutor = new TcpTaskExecutor(eventMeshTCPConfiguration.eventMeshTcpAckHandleExecutorPoolSize,
+                eventMeshTCPConfiguration.eventMeshTcpTaskHandleExecutorQueueSize, "eventMesh-tcp-ack-handle");
 
         broadcastMsgDownstreamExecutorService = ThreadPoolFactory.createThreadPoolExecutor(
                 eventMeshTCPConfiguration.eventMeshTcpMsgDownStreamExecutorPoolSize,
@@ -352,7 +350,8 @@ public class EventMeshTCPServer extends AbstractRemotingServer {
 
     private void shutdownThreadPool() {
         scheduler.shutdown();
-        taskHandleExecutorService.shutdown();
+        taskHandleExecutor.shutdown();
+        ackHandleExecutor.shutdown();
     }
 
     private GlobalTrafficShapingHandler newGTSHandler(final ScheduledExecutorService executor, final long readLimit) {
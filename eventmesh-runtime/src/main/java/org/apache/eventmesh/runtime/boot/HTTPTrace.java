@@ -43,6 +43,9 @@ public class HTTPTrace {
     }
 
     public TraceOperation getTraceOperation(HttpRequest httpRequest, Channel channel, boolean traceEnabled) {
+        if (!useTrace) {
+            return new TraceOperation(Span.getInvalid(), null, traceEnabled);
+        }
 
         final Map<String, Object> headerMap = Utils.parseHttpHeader(httpRequest);
         Span span = TraceUtils.prepareServerSpan(headerMap, EventMeshTraceConstants.TRACE_UPSTREAM_EVENTMESH_SERVER_SPAN,
@@ -84,6 +87,18 @@ public class HTTPTrace {
             }
         }
 
+        public void exceptionTrace(@Nullable Throwable ex, CloudEvent ce) {
+            if (!HTTPTrace.this.useTrace) {
+                return;
+            }
+            if (childTraceOperation != null) {
+                childTraceOperation.exceptionTrace(ex, ce);
+            }
+            try (Scope ignored = span.makeCurrent()) {
+                TraceUtils.finishSpanWithException(span, ce, ex.getMessage(), ex);
+            }
+        }
+
         public void endLatestTrace(CloudEvent ce) {
             if (childTraceOperation != null) {
                 TraceOperation traceOperation = this.childTraceOperation.getChildTraceOperation();
@@ -104,6 +119,16 @@ public class HTTPTrace {
             }
         }
 
+        public void exceptionLatestTrace(@Nullable Throwable ex, CloudEvent ce) {
+            if (childTraceOperation != null) {
+                TraceOperation traceOperation = this.childTraceOperation.getChildTraceOperation();
+                this.childTraceOperation.setChildTraceOperation(null);
+
+                childTraceOperation.exceptionTrace(ex, ce);
+                this.childTraceOperation = traceOperation;
+            }
+        }
+
         public TraceOperation createClientTraceOperation(Map<String, Object> map, String spanName, boolean isSpanFinishInOtherThread) {
             TraceOperation traceOperation = new TraceOperation(TraceUtils.prepareClientSpan(map, spanName, isSpanFinishInOtherThread),
                 null, this.traceEnabled);
@@ -111,6 +136,14 @@ public class HTTPTrace {
             return traceOperation;
         }
 
+        public TraceOperation createClientTraceOperation(String protocolVersion, CloudEvent ce, String spanName,
+                                                         boolean isSpanFinishInOtherThread) {
+            TraceOperation traceOperation = new TraceOperation(
+                TraceUtils.prepareClientSpan(protocolVersion, ce, spanName, isSpanFinishInOtherThread), null, this.traceEnabled);
+            this.setChildTraceOperation(traceOperation);
+            return traceOperation;
+        }
+
         public void setChildTraceOperation(TraceOperation traceOperation) {
             if (childTraceOperation != null) {
                 childTraceOperation.setChildTraceOperation(traceOperation);
@@ -72,6 +72,18 @@ public class EventMeshGrpcConfiguration extends CommonConfiguration {
     @ConfigFiled(field = "retry.blockQ.size")
     private int eventMeshServerRetryBlockQueueSize = 10000;
 
+    /**
+     * max messages of a subscribeStream waiting for the client to be ready
+     */
+    @ConfigFiled(field = "grpc.stream.pushQueueSize")
+    private int eventMeshServerStreamPushQueueSize = 1000;
+
+    /**
+     * max messages of a publishStream sent to the queue but not acked yet
+     */
+    @ConfigFiled(field = "grpc.stream.publishMaxInFlight")
+    private int eventMeshServerStreamPublishMaxInFlight = 1000;
+
     @ConfigFiled(field = "batchmsg.blockQ.size")
     private int eventMeshServerBatchBlockQueueSize = 1000;
 
@@ -91,6 +91,18 @@ public class EventMeshHTTPConfiguration extends CommonConfiguration {
     @ConfigFiled(field = "pushmsg.blockQ.size")
     private int eventMeshServerPushMsgBlockQSize = 1000;
 
+    @ConfigFiled(field = "pushmsg.connections.perEndpoint")
+    private int eventMeshServerPushMsgMaxConnectionsPerEndpoint = 64;
+
+    @ConfigFiled(field = "pushmsg.inflight.perUrl")
+    private int eventMeshServerPushMsgMaxInflightPerUrl = 256;
+
+    @ConfigFiled(field = "pushmsg.connectTimeout")
+    private int eventMeshServerPushMsgConnectTimeout = 3000;
+
+    @ConfigFiled(field = "pushmsg.requestTimeout")
+    private int eventMeshServerPushMsgRequestTimeout = 30000;
+
     @ConfigFiled(field = "clientM.blockQ.size")
     private int eventMeshServerClientManageBlockQSize = 1000;
 
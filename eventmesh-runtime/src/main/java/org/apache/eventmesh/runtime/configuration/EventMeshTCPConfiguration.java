@@ -56,9 +56,29 @@ public class EventMeshTCPConfiguration extends CommonConfiguration {
     @ConfigFiled(field = "global.scheduler")
     public int eventMeshTcpGlobalScheduler = 5;
 
+    /**
+     * Number of single threaded executors the tasks of the tcp connections are sharded over, a connection always uses
+     * the same one so its tasks run in order.
+     */
     @ConfigFiled(field = "tcp.taskHandleExecutorPoolSize")
     public int eventMeshTcpTaskHandleExecutorPoolSize = Runtime.getRuntime().availableProcessors();
 
+    @ConfigFiled(field = "tcp.taskHandleExecutorQueueSize")
+    public int eventMeshTcpTaskHandleExecutorQueueSize = 10_000;
+
+    /**
+     * Number of single threaded executors the acks of the tcp connections are sharded over, apart from the other tasks
+     * so acks do not wait behind message transfers. Their queues have the task handle queue size.
+     */
+    @ConfigFiled(field = "tcp.ackHandleExecutorPoolSize")
+    public int eventMeshTcpAckHandleExecutorPoolSize = Math.max(Runtime.getRuntime().availableProcessors() / 2, 1);
+
+    /**
+     * Whether heartbeats are handled on the event loop of the connection instead of a task handle executor.
+     */
+    @ConfigFiled(field = "tcp.taskHandleInline.enabled")
+    public boolean eventMeshTcpTaskHandleInlineEnabled = true;
+
     @ConfigFiled(field = "tcp.msgDownStreamExecutorPoolSize")
     public int eventMeshTcpMsgDownStreamExecutorPoolSize = Math.max(Runtime.getRuntime().availableProcessors(), 8);
 
@@ -83,6 +103,9 @@ public class EventMeshTCPConfiguration extends CommonConfiguration {
     @ConfigFiled(field = "retry.pushRetryQueueSize")
     public int eventMeshTcpMsgRetryQueueSize = 10000;
 
+    @ConfigFiled(field = "retry.pushRetryThreadNum")
+    public int eventMeshTcpMsgRetryThreadNum = 3;
+
     @ConfigFiled(field = "tcp.RebalanceIntervalInMills")
     public Integer eventMeshTcpRebalanceIntervalInMills = 30 * 1000;
 
@@ -98,6 +121,12 @@ public class EventMeshTCPConfiguration extends CommonConfiguration {
     @ConfigFiled(field = "tcp.pushFailIsolateTimeInMills")
     public int eventMeshTcpPushFailIsolateTimeInMills = 30 * 1000;
 
+    /**
+     * how to choose the session of a group to downstream msg, loadAware or freePriority
+     */
+    @ConfigFiled(field = "tcp.downstreamDispatchStrategy")
+    public String eventMeshTcpDownstreamDispatchStrategy = "loadAware";
+
     @ConfigFiled(field = "gracefulShutdown.sleepIntervalInMills")
     public int gracefulShutdownSleepIntervalInMills = 1000;
 
@@ -77,6 +77,8 @@ public class EventMeshConstants {
 
     public static final int DEFAULT_PUSH_RETRY_TIME_DISTANCE_IN_MILLSECONDS = 3000;
 
+    public static final int DEFAULT_RETRY_MAX_BACKOFF_IN_MILLSECONDS = 60_000;
+
     public static final String PURPOSE_PUB = "pub";
     public static final String PURPOSE_PUB_UPPER_CASE = "PUB";
     public static final String PURPOSE_SUB = "sub";
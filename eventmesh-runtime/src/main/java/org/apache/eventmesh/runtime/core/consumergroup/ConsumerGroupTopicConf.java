@@ -17,6 +17,7 @@
 
 package org.apache.eventmesh.runtime.core.consumergroup;
 
+import org.apache.eventmesh.common.protocol.BatchPushConfig;
 import org.apache.eventmesh.common.protocol.SubscriptionItem;
 
 import java.io.Serializable;
@@ -119,6 +120,17 @@ public class ConsumerGroupTopicConf implements Serializable {
         this.subscriptionItem = subscriptionItem;
     }
 
+    /**
+     * @return batch push settings of the subscription, null if the events are pushed one by one
+     */
+    public BatchPushConfig getBatchPushConfig() {
+        if (subscriptionItem == null || subscriptionItem.getBatchPush() == null
+                || !subscriptionItem.getBatchPush().isEnabled()) {
+            return null;
+        }
+        return subscriptionItem.getBatchPush();
+    }
+
     public Map<String, List<String>> getIdcUrls() {
         return idcUrls;
     }
@@ -21,7 +21,9 @@ import org.apache.eventmesh.api.AbstractContext;
 import org.apache.eventmesh.api.EventListener;
 import org.apache.eventmesh.api.consumer.Consumer;
 import org.apache.eventmesh.api.factory.ConnectorPluginFactory;
+import org.apache.eventmesh.common.EventEnvelope;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
 
@@ -74,6 +76,24 @@ public class MQConsumerWrapper extends MQWrapper {
     }
 
     public void updateOffset(List<CloudEvent> events, AbstractContext eventMeshConsumeConcurrentlyContext) {
-        meshMQPushConsumer.updateOffset(events, eventMeshConsumeConcurrentlyContext);
+        meshMQPushConsumer.updateOffset(unwrap(events), eventMeshConsumeConcurrentlyContext);
+    }
+
+    public void updateOffsetBatch(List<CloudEvent> events, List<AbstractContext> contexts) {
+        meshMQPushConsumer.updateOffsetBatch(unwrap(events), contexts);
+    }
+
+    /**
+     * Connectors track offsets by the events they delivered, not by the envelopes the runtime wrapped them in.
+     */
+    private static List<CloudEvent> unwrap(List<CloudEvent> events) {
+        if (events == null || events.stream().noneMatch(EventEnvelope.class::isInstance)) {
+            return events;
+        }
+        List<CloudEvent> unwrapped = new ArrayList<>(events.size());
+        for (CloudEvent event : events) {
+            unwrapped.add(EventEnvelope.unwrap(event));
+        }
+        return unwrapped;
     }
 }
@@ -17,11 +17,15 @@
 
 package org.apache.eventmesh.runtime.core.plugin;
 
+import org.apache.eventmesh.api.BatchSendCallback;
 import org.apache.eventmesh.api.RequestReplyCallback;
 import org.apache.eventmesh.api.SendCallback;
 import org.apache.eventmesh.api.factory.ConnectorPluginFactory;
 import org.apache.eventmesh.api.producer.Producer;
+import org.apache.eventmesh.common.EventEnvelope;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 
 import org.slf4j.Logger;
@@ -78,16 +82,24 @@ public class MQProducerWrapper extends MQWrapper {
     }
 
     public void send(CloudEvent cloudEvent, SendCallback sendCallback) throws Exception {
-        meshMQProducer.publish(cloudEvent, sendCallback);
+        meshMQProducer.publish(EventEnvelope.materialize(cloudEvent), sendCallback);
+    }
+
+    public void publishBatch(List<CloudEvent> cloudEvents, BatchSendCallback batchSendCallback) throws Exception {
+        List<CloudEvent> materialized = new ArrayList<>(cloudEvents.size());
+        for (CloudEvent cloudEvent : cloudEvents) {
+            materialized.add(EventEnvelope.materialize(cloudEvent));
+        }
+        meshMQProducer.publishBatch(materialized, batchSendCallback);
     }
 
     public void request(CloudEvent cloudEvent, RequestReplyCallback rrCallback, long timeout)
             throws Exception {
-        meshMQProducer.request(cloudEvent, rrCallback, timeout);
+        meshMQProducer.request(EventEnvelope.materialize(cloudEvent), rrCallback, timeout);
     }
 
     public boolean reply(final CloudEvent cloudEvent, final SendCallback sendCallback) throws Exception {
-        return meshMQProducer.reply(cloudEvent, sendCallback);
+        return meshMQProducer.reply(EventEnvelope.materialize(cloudEvent), sendCallback);
     }
 
     public Producer getMeshMQProducer() {
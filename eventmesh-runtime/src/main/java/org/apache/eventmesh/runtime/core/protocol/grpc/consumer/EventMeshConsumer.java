@@ -31,6 +31,7 @@ import org.apache.eventmesh.api.SendCallback;
 import org.apache.eventmesh.api.SendResult;
 import org.apache.eventmesh.api.exception.OnExceptionContext;
 import org.apache.eventmesh.common.Constants;
+import org.apache.eventmesh.common.EventEnvelope;
 import org.apache.eventmesh.common.protocol.grpc.protos.Subscription;
 import org.apache.eventmesh.common.protocol.grpc.protos.Subscription.SubscriptionItem.SubscriptionMode;
 import org.apache.eventmesh.runtime.boot.EventMeshGrpcServer;
@@ -55,7 +56,6 @@ import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
 
 import io.cloudevents.CloudEvent;
-import io.cloudevents.core.builder.CloudEventBuilder;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -236,10 +236,9 @@ public class EventMeshConsumer {
 
     private EventListener createEventListener(final SubscriptionMode subscriptionMode) {
         return (event, context) -> {
-            event = CloudEventBuilder.from(event)
+            event = EventEnvelope.wrap(event)
                     .withExtension(EventMeshConstants.REQ_MQ2EVENTMESH_TIMESTAMP,
-                            String.valueOf(System.currentTimeMillis()))
-                    .build();
+                            String.valueOf(System.currentTimeMillis()));
 
             final String topic = event.getSubject();
             final String bizSeqNo = Optional.ofNullable(
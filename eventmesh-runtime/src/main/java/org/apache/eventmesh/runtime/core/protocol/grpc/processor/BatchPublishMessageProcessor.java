@@ -17,13 +17,12 @@
 
 package org.apache.eventmesh.runtime.core.protocol.grpc.processor;
 
-import org.apache.eventmesh.api.SendCallback;
+import org.apache.eventmesh.api.BatchSendCallback;
 import org.apache.eventmesh.api.SendResult;
 import org.apache.eventmesh.api.exception.AclException;
 import org.apache.eventmesh.api.exception.OnExceptionContext;
 import org.apache.eventmesh.common.protocol.ProtocolTransportObject;
 import org.apache.eventmesh.common.protocol.grpc.common.BatchMessageWrapper;
-import org.apache.eventmesh.common.protocol.grpc.common.ProtocolKey;
 import org.apache.eventmesh.common.protocol.grpc.common.StatusCode;
 import org.apache.eventmesh.common.protocol.grpc.protos.BatchMessage;
 import org.apache.eventmesh.common.protocol.grpc.protos.RequestHeader;
@@ -33,15 +32,13 @@ import org.apache.eventmesh.protocol.api.ProtocolAdaptor;
 import org.apache.eventmesh.protocol.api.ProtocolPluginFactory;
 import org.apache.eventmesh.runtime.acl.Acl;
 import org.apache.eventmesh.runtime.boot.EventMeshGrpcServer;
-import org.apache.eventmesh.runtime.constants.EventMeshConstants;
 import org.apache.eventmesh.runtime.core.protocol.grpc.producer.EventMeshProducer;
 import org.apache.eventmesh.runtime.core.protocol.grpc.producer.ProducerManager;
-import org.apache.eventmesh.runtime.core.protocol.grpc.producer.SendMessageContext;
 import org.apache.eventmesh.runtime.core.protocol.grpc.service.EventEmitter;
 import org.apache.eventmesh.runtime.core.protocol.grpc.service.ServiceUtils;
+import org.apache.eventmesh.runtime.core.ratelimit.RateLimitResult;
 
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -82,10 +79,12 @@ public class BatchPublishMessageProcessor {
         }
 
         // control flow rate limit
-        if (!eventMeshGrpcServer.getMsgRateLimiter()
-            .tryAcquire(EventMeshConstants.DEFAULT_FASTFAIL_TIMEOUT_IN_MILLISECONDS, TimeUnit.MILLISECONDS)) {
-            logger.error("Send message speed over limit.");
-            ServiceUtils.sendRespAndDone(StatusCode.EVENTMESH_BATCH_SPEED_OVER_LIMIT_ERR, emitter);
+        RateLimitResult rateLimitResult = eventMeshGrpcServer.getMsgRateLimiter()
+            .tryAcquire(message.getProducerGroup(), message.getTopic(), Math.max(1, message.getMessageItemCount()));
+        if (!rateLimitResult.isPassed()) {
+            logger.error("Send message speed over limit, {}.", rateLimitResult.getDesc());
+            eventMeshGrpcServer.getMetricsMonitor().getTopicGroupMetrics().recordRateLimited(message.getTopic(), message.getProducerGroup());
+            ServiceUtils.sendRespAndDone(StatusCode.EVENTMESH_BATCH_SPEED_OVER_LIMIT_ERR, rateLimitResult.getDesc(), emitter);
             return;
         }
 
@@ -96,32 +95,29 @@ public class BatchPublishMessageProcessor {
         ProtocolAdaptor<ProtocolTransportObject> grpcCommandProtocolAdaptor = ProtocolPluginFactory.getProtocolAdaptor(protocolType);
         List<CloudEvent> cloudEvents = grpcCommandProtocolAdaptor.toBatchCloudEvent(new BatchMessageWrapper(message));
 
-        for (CloudEvent event : cloudEvents) {
-            String seqNum = event.getId();
-            String uniqueId = (event.getExtension(ProtocolKey.UNIQUE_ID) == null) ? "" : event.getExtension(ProtocolKey.UNIQUE_ID).toString();
-            ProducerManager producerManager = eventMeshGrpcServer.getProducerManager();
-            EventMeshProducer eventMeshProducer = producerManager.getEventMeshProducer(producerGroup);
-
-            SendMessageContext sendMessageContext = new SendMessageContext(seqNum, event, eventMeshProducer, eventMeshGrpcServer);
+        ProducerManager producerManager = eventMeshGrpcServer.getProducerManager();
+        EventMeshProducer eventMeshProducer = producerManager.getEventMeshProducer(producerGroup);
 
+        for (int i = 0; i < cloudEvents.size(); i++) {
             eventMeshGrpcServer.getMetricsMonitor().recordSendMsgToQueue();
-            long startTime = System.currentTimeMillis();
-            eventMeshProducer.send(sendMessageContext, new SendCallback() {
-                @Override
-                public void onSuccess(SendResult sendResult) {
-                    long endTime = System.currentTimeMillis();
-                    logger.info("message|eventMesh2mq|REQ|BatchSend|send2MQCost={}ms|topic={}|bizSeqNo={}|uniqueId={}",
-                        endTime - startTime, topic, seqNum, uniqueId);
-                }
-
-                @Override
-                public void onException(OnExceptionContext context) {
-                    long endTime = System.currentTimeMillis();
-                    logger.error("message|eventMesh2mq|REQ|BatchSend|send2MQCost={}ms|topic={}|bizSeqNo={}|uniqueId={}",
-                        endTime - startTime, topic, seqNum, uniqueId, context.getException());
-                }
-            });
         }
+        eventMeshGrpcServer.getMetricsMonitor().getTopicGroupMetrics().recordPublish(topic, producerGroup, cloudEvents.size());
+        long startTime = System.currentTimeMillis();
+        eventMeshProducer.sendBatch(cloudEvents, new BatchSendCallback() {
+            @Override
+            public void onSuccess(List<SendResult> sendResults) {
+                long endTime = System.currentTimeMillis();
+                logger.info("message|eventMesh2mq|REQ|BatchSend|send2MQCost={}ms|topic={}|size={}",
+                    endTime - startTime, topic, sendResults.size());
+            }
+
+            @Override
+            public void onException(List<CloudEvent> failedEvents, OnExceptionContext context) {
+                long endTime = System.currentTimeMillis();
+                logger.error("message|eventMesh2mq|REQ|BatchSend|send2MQCost={}ms|topic={}|size={}|failed={}",
+                    endTime - startTime, topic, cloudEvents.size(), failedEvents.size(), context.getException());
+            }
+        });
         ServiceUtils.sendRespAndDone(StatusCode.SUCCESS, "batch publish success", emitter);
     }
 
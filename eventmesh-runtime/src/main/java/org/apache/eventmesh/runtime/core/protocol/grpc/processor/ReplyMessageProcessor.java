@@ -37,10 +37,9 @@ import org.apache.eventmesh.runtime.core.protocol.grpc.producer.ProducerManager;
 import org.apache.eventmesh.runtime.core.protocol.grpc.producer.SendMessageContext;
 import org.apache.eventmesh.runtime.core.protocol.grpc.service.EventEmitter;
 import org.apache.eventmesh.runtime.core.protocol.grpc.service.ServiceUtils;
+import org.apache.eventmesh.runtime.core.ratelimit.RateLimitResult;
 import org.apache.eventmesh.runtime.util.EventMeshUtil;
 
-import java.util.concurrent.TimeUnit;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -80,10 +79,12 @@ public class ReplyMessageProcessor {
         }
 
         // control flow rate limit
-        if (!eventMeshGrpcServer.getMsgRateLimiter()
-            .tryAcquire(EventMeshConstants.DEFAULT_FASTFAIL_TIMEOUT_IN_MILLISECONDS, TimeUnit.MILLISECONDS)) {
-            logger.error("Send message speed over limit.");
-            ServiceUtils.sendStreamRespAndDone(requestHeader, StatusCode.EVENTMESH_SEND_MESSAGE_SPEED_OVER_LIMIT_ERR, emitter);
+        RateLimitResult rateLimitResult = eventMeshGrpcServer.getMsgRateLimiter().tryAcquire(message.getProducerGroup(), null);
+        if (!rateLimitResult.isPassed()) {
+            logger.error("Send message speed over limit, {}.", rateLimitResult.getDesc());
+            eventMeshGrpcServer.getMetricsMonitor().getTopicGroupMetrics().recordRateLimited(null, message.getProducerGroup());
+            ServiceUtils.sendStreamRespAndDone(requestHeader, StatusCode.EVENTMESH_SEND_MESSAGE_SPEED_OVER_LIMIT_ERR,
+                rateLimitResult.getDesc(), emitter);
             return;
         }
 
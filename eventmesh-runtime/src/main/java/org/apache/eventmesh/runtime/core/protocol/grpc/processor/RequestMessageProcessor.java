@@ -29,16 +29,14 @@ import org.apache.eventmesh.protocol.api.ProtocolAdaptor;
 import org.apache.eventmesh.protocol.api.ProtocolPluginFactory;
 import org.apache.eventmesh.runtime.acl.Acl;
 import org.apache.eventmesh.runtime.boot.EventMeshGrpcServer;
-import org.apache.eventmesh.runtime.constants.EventMeshConstants;
 import org.apache.eventmesh.runtime.core.protocol.grpc.producer.EventMeshProducer;
 import org.apache.eventmesh.runtime.core.protocol.grpc.producer.ProducerManager;
 import org.apache.eventmesh.runtime.core.protocol.grpc.producer.SendMessageContext;
 import org.apache.eventmesh.runtime.core.protocol.grpc.service.EventEmitter;
 import org.apache.eventmesh.runtime.core.protocol.grpc.service.ServiceUtils;
+import org.apache.eventmesh.runtime.core.ratelimit.RateLimitResult;
 import org.apache.eventmesh.runtime.util.EventMeshUtil;
 
-import java.util.concurrent.TimeUnit;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -78,10 +76,12 @@ public class RequestMessageProcessor {
         }
 
         // control flow rate limit
-        if (!eventMeshGrpcServer.getMsgRateLimiter()
-            .tryAcquire(EventMeshConstants.DEFAULT_FASTFAIL_TIMEOUT_IN_MILLISECONDS, TimeUnit.MILLISECONDS)) {
-            logger.error("Send message speed over limit.");
-            ServiceUtils.sendStreamRespAndDone(message.getHeader(), StatusCode.EVENTMESH_SEND_MESSAGE_SPEED_OVER_LIMIT_ERR, emitter);
+        RateLimitResult rateLimitResult = eventMeshGrpcServer.getMsgRateLimiter().tryAcquire(message.getProducerGroup(), message.getTopic());
+        if (!rateLimitResult.isPassed()) {
+            logger.error("Send message speed over limit, {}.", rateLimitResult.getDesc());
+            eventMeshGrpcServer.getMetricsMonitor().getTopicGroupMetrics().recordRateLimited(message.getTopic(), message.getProducerGroup());
+            ServiceUtils.sendStreamRespAndDone(message.getHeader(), StatusCode.EVENTMESH_SEND_MESSAGE_SPEED_OVER_LIMIT_ERR,
+                rateLimitResult.getDesc(), emitter);
             return;
         }
 
@@ -101,6 +101,7 @@ public class RequestMessageProcessor {
         SendMessageContext sendMessageContext = new SendMessageContext(message.getSeqNum(), cloudEvent, eventMeshProducer, eventMeshGrpcServer);
 
         eventMeshGrpcServer.getMetricsMonitor().recordSendMsgToQueue();
+        eventMeshGrpcServer.getMetricsMonitor().getTopicGroupMetrics().recordPublish(topic, producerGroup);
         long startTime = System.currentTimeMillis();
         eventMeshProducer.request(sendMessageContext, new RequestReplyCallback() {
             @Override
@@ -32,16 +32,14 @@ import org.apache.eventmesh.protocol.api.ProtocolAdaptor;
 import org.apache.eventmesh.protocol.api.ProtocolPluginFactory;
 import org.apache.eventmesh.runtime.acl.Acl;
 import org.apache.eventmesh.runtime.boot.EventMeshGrpcServer;
-import org.apache.eventmesh.runtime.constants.EventMeshConstants;
 import org.apache.eventmesh.runtime.core.protocol.grpc.producer.EventMeshProducer;
 import org.apache.eventmesh.runtime.core.protocol.grpc.producer.ProducerManager;
 import org.apache.eventmesh.runtime.core.protocol.grpc.producer.SendMessageContext;
 import org.apache.eventmesh.runtime.core.protocol.grpc.service.EventEmitter;
 import org.apache.eventmesh.runtime.core.protocol.grpc.service.ServiceUtils;
+import org.apache.eventmesh.runtime.core.ratelimit.RateLimitResult;
 import org.apache.eventmesh.runtime.util.EventMeshUtil;
 
-import java.util.concurrent.TimeUnit;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -81,10 +79,11 @@ public class SendAsyncMessageProcessor {
         }
 
         // control flow rate limit
-        if (!eventMeshGrpcServer.getMsgRateLimiter()
-            .tryAcquire(EventMeshConstants.DEFAULT_FASTFAIL_TIMEOUT_IN_MILLISECONDS, TimeUnit.MILLISECONDS)) {
-            logger.error("Send message speed over limit.");
-            ServiceUtils.sendRespAndDone(StatusCode.EVENTMESH_BATCH_SPEED_OVER_LIMIT_ERR, emitter);
+        RateLimitResult rateLimitResult = eventMeshGrpcServer.getMsgRateLimiter().tryAcquire(message.getProducerGroup(), message.getTopic());
+        if (!rateLimitResult.isPassed()) {
+            logger.error("Send message speed over limit, {}.", rateLimitResult.getDesc());
+            eventMeshGrpcServer.getMetricsMonitor().getTopicGroupMetrics().recordRateLimited(message.getTopic(), message.getProducerGroup());
+            ServiceUtils.sendRespAndDone(StatusCode.EVENTMESH_SEND_MESSAGE_SPEED_OVER_LIMIT_ERR, rateLimitResult.getDesc(), emitter);
             return;
         }
 
@@ -105,6 +104,7 @@ public class SendAsyncMessageProcessor {
                 eventMeshProducer, eventMeshGrpcServer);
 
         eventMeshGrpcServer.getMetricsMonitor().recordSendMsgToQueue();
+        eventMeshGrpcServer.getMetricsMonitor().getTopicGroupMetrics().recordPublish(topic, producerGroup);
         long startTime = System.currentTimeMillis();
         eventMeshProducer.send(sendMessageContext, new SendCallback() {
             @Override
@@ -114,6 +114,7 @@ public class SendAsyncMessageProcessor {
                 logger.info("message|eventMesh2mq|REQ|ASYNC|send2MQCost={}ms|topic={}|bizSeqNo={}|uniqueId={}",
                     endTime - startTime, topic, seqNum, uniqueId);
                 eventMeshGrpcServer.getMetricsMonitor().recordSendMsgToClient();
+                eventMeshGrpcServer.getMetricsMonitor().recordSend2MQLatency(topic, endTime - startTime);
             }
 
             @Override
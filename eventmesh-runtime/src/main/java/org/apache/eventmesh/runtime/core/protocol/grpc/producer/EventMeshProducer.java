@@ -17,6 +17,7 @@
 
 package org.apache.eventmesh.runtime.core.protocol.grpc.producer;
 
+import org.apache.eventmesh.api.BatchSendCallback;
 import org.apache.eventmesh.api.RequestReplyCallback;
 import org.apache.eventmesh.api.SendCallback;
 import org.apache.eventmesh.runtime.common.ServiceState;
@@ -26,11 +27,14 @@ import org.apache.eventmesh.runtime.core.consumergroup.ProducerGroupConf;
 import org.apache.eventmesh.runtime.core.plugin.MQProducerWrapper;
 import org.apache.eventmesh.runtime.util.EventMeshUtil;
 
+import java.util.List;
 import java.util.Properties;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.cloudevents.CloudEvent;
+
 public class EventMeshProducer {
 
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
@@ -46,6 +50,10 @@ public class EventMeshProducer {
         mqProducerWrapper.send(sendMsgContext.getEvent(), sendCallback);
     }
 
+    public void sendBatch(List<CloudEvent> cloudEvents, BatchSendCallback batchSendCallback) throws Exception {
+        mqProducerWrapper.publishBatch(cloudEvents, batchSendCallback);
+    }
+
     public void request(SendMessageContext sendMsgContext, RequestReplyCallback rrCallback, long timeout)
         throws Exception {
         mqProducerWrapper.request(sendMsgContext.getEvent(), rrCallback, timeout);
@@ -19,6 +19,7 @@ package org.apache.eventmesh.runtime.core.protocol.grpc.push;
 
 import org.apache.eventmesh.api.AbstractContext;
 import org.apache.eventmesh.common.Constants;
+import org.apache.eventmesh.common.EventEnvelope;
 import org.apache.eventmesh.common.protocol.ProtocolTransportObject;
 import org.apache.eventmesh.common.protocol.grpc.common.SimpleMessageWrapper;
 import org.apache.eventmesh.common.protocol.grpc.protos.SimpleMessage;
@@ -31,6 +32,7 @@ import org.apache.eventmesh.runtime.constants.EventMeshConstants;
 import org.apache.eventmesh.runtime.core.protocol.grpc.consumer.EventMeshConsumer;
 import org.apache.eventmesh.runtime.core.protocol.grpc.retry.GrpcRetryer;
 import org.apache.eventmesh.runtime.core.protocol.grpc.retry.RetryContext;
+import org.apache.eventmesh.runtime.core.retry.RetryBackoff;
 
 import java.util.Collections;
 import java.util.Map;
@@ -83,7 +85,7 @@ public abstract class AbstractPushRequest extends RetryContext {
         try {
             String protocolType = Objects.requireNonNull(cloudEvent.getExtension(Constants.PROTOCOL_TYPE)).toString();
             ProtocolAdaptor<ProtocolTransportObject> protocolAdaptor = ProtocolPluginFactory.getProtocolAdaptor(protocolType);
-            ProtocolTransportObject protocolTransportObject = protocolAdaptor.fromCloudEvent(cloudEvent);
+            ProtocolTransportObject protocolTransportObject = protocolAdaptor.fromCloudEvent(EventEnvelope.materialize(cloudEvent));
             return ((SimpleMessageWrapper) protocolTransportObject).getMessage();
         } catch (Exception e) {
             LOGGER.error("Error in getting EventMeshMessage from CloudEvent", e);
@@ -111,13 +113,19 @@ public abstract class AbstractPushRequest extends RetryContext {
     protected void delayRetry() {
         if (retryTimes < EventMeshConstants.DEFAULT_PUSH_RETRY_TIMES) {
             retryTimes++;
-            delay((long) retryTimes * EventMeshConstants.DEFAULT_PUSH_RETRY_TIME_DISTANCE_IN_MILLSECONDS);
+            delay(RetryBackoff.exponential(EventMeshConstants.DEFAULT_PUSH_RETRY_TIME_DISTANCE_IN_MILLSECONDS, retryTimes,
+                EventMeshConstants.DEFAULT_RETRY_MAX_BACKOFF_IN_MILLSECONDS));
             grpcRetryer.pushRetry(this);
         } else {
             complete();
         }
     }
 
+    @Override
+    public String getRetryGroup() {
+        return handleMsgContext.getConsumerGroup();
+    }
+
     protected boolean isComplete() {
         return complete.get();
     }
@@ -136,8 +144,10 @@ public abstract class AbstractPushRequest extends RetryContext {
     }
 
     protected void complete() {
-        complete.compareAndSet(Boolean.FALSE, Boolean.TRUE);
-        finish();
+        // a stream push may be sent late after its timeout retry, finish only once
+        if (complete.compareAndSet(Boolean.FALSE, Boolean.TRUE)) {
+            finish();
+        }
     }
 
     protected void timeout() {
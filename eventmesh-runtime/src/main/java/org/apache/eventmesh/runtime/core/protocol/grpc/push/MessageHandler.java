@@ -18,10 +18,13 @@
 package org.apache.eventmesh.runtime.core.protocol.grpc.push;
 
 import org.apache.eventmesh.common.ThreadPoolFactory;
+import org.apache.eventmesh.metrics.api.model.TopicGroupMetrics;
 import org.apache.eventmesh.runtime.core.protocol.grpc.consumer.consumergroup.GrpcType;
+import org.apache.eventmesh.runtime.core.protocol.grpc.consumer.consumergroup.StreamTopicConfig;
 
 import org.apache.commons.collections4.MapUtils;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.RejectedExecutionException;
@@ -53,6 +56,20 @@ public class MessageHandler {
         SCHEDULER.scheduleAtFixedRate(this::checkTimeout, 0, 1000, TimeUnit.MILLISECONDS);
     }
 
+    /**
+     * Requests waiting for a response per topic and consumer group.
+     */
+    public static Map<TopicGroupMetrics.Key, Long> waitingRequestsByTopic() {
+        Map<TopicGroupMetrics.Key, Long> sizes = new HashMap<>();
+        waitingRequests.forEach((consumerGroup, requests) -> {
+            for (AbstractPushRequest request : requests) {
+                sizes.merge(new TopicGroupMetrics.Key(request.getHandleMsgContext().getConsumeTopicConfig().getTopic(),
+                    consumerGroup), 1L, Long::sum);
+            }
+        });
+        return sizes;
+    }
+
     private void checkTimeout() {
         waitingRequests.forEach((key, value) -> {
             for (AbstractPushRequest request : value) {
@@ -71,6 +88,14 @@ public class MessageHandler {
             return false;
         }
 
+        if (GrpcType.STREAM == handleMsgContext.getGrpcType()
+            && !StreamPushRequest.canAccept((StreamTopicConfig) handleMsgContext.getConsumeTopicConfig(),
+                handleMsgContext.getEventMeshGrpcServer().getEventMeshGrpcConfiguration().getEventMeshIDC())) {
+            LOGGER.warn("event emitters are full, so reject, this message will be send back to MQ, consumerGroup:{}, topic:{}",
+                    handleMsgContext.getConsumerGroup(), handleMsgContext.getConsumeTopicConfig().getTopic());
+            return false;
+        }
+
         try {
             pushExecutor.submit(() -> {
                 AbstractPushRequest pushRequest = createGrpcPushRequest(handleMsgContext);
@@ -27,16 +27,18 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.RandomUtils;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import io.grpc.stub.StreamObserver;
-
 public class StreamPushRequest extends AbstractPushRequest {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(StreamPushRequest.class);
@@ -49,6 +51,11 @@ public class StreamPushRequest extends AbstractPushRequest {
 
     private final int startIdx;
 
+    /**
+     * The broadcast emitters that failed to take the message in the last attempt
+     */
+    private volatile List<EventEmitter<SimpleMessage>> retryEmitters;
+
     public StreamPushRequest(HandleMsgContext handleMsgContext, Map<String, Set<AbstractPushRequest>> waitingRequests) {
         super(handleMsgContext, waitingRequests);
 
@@ -65,61 +72,154 @@ public class StreamPushRequest extends AbstractPushRequest {
             return;
         }
 
-        List<EventEmitter<SimpleMessage>> eventEmitters = selectEmitter();
+        // a broadcast retry only goes to the emitters that have not taken the message yet
+        List<EventEmitter<SimpleMessage>> eventEmitters = retryEmitters != null ? retryEmitters : selectEmitter();
+        if (eventEmitters.isEmpty()) {
+            return;
+        }
 
-        for (EventEmitter<SimpleMessage> eventEmitter : eventEmitters) {
-            this.lastPushTime = System.currentTimeMillis();
+        this.lastPushTime = System.currentTimeMillis();
+        final SimpleMessage message = SimpleMessage.newBuilder(simpleMessage)
+            .putProperties(EventMeshConstants.REQ_EVENTMESH2C_TIMESTAMP, String.valueOf(lastPushTime)).build();
+        simpleMessage = message;
 
-            simpleMessage = SimpleMessage.newBuilder(simpleMessage)
-                    .putProperties(EventMeshConstants.REQ_EVENTMESH2C_TIMESTAMP, String.valueOf(lastPushTime)).build();
-            try {
-                // catch the error and retry, don't use eventEmitter.onNext() to hide the error
-                StreamObserver<SimpleMessage> emitter = eventEmitter.getEmitter();
-                synchronized (emitter) {
-                    emitter.onNext(simpleMessage);
+        // the message is complete once it has been written to every selected stream
+        final AtomicInteger remaining = new AtomicInteger(eventEmitters.size());
+        final Queue<EventEmitter<SimpleMessage>> failedEmitters = new ConcurrentLinkedQueue<>();
+        for (EventEmitter<SimpleMessage> eventEmitter : eventEmitters) {
+            boolean queued = eventEmitter.offer(message, t -> {
+                long cost = System.currentTimeMillis() - lastPushTime;
+                if (t == null) {
+                    LOGGER.info("message|eventMesh2client|emitter|topic={}|bizSeqNo={}" + "|uniqueId={}|cost={}",
+                        message.getTopic(), message.getSeqNum(), message.getUniqueId(), cost);
+                    eventMeshGrpcServer.getMetricsMonitor().recordPush2ClientLatency(message.getTopic(), cost);
+                    eventMeshGrpcServer.getMetricsMonitor().getTopicGroupMetrics()
+                        .recordPush(message.getTopic(), handleMsgContext.getConsumerGroup());
+                } else {
+                    failedEmitters.add(eventEmitter);
+                    eventMeshGrpcServer.getMetricsMonitor().getTopicGroupMetrics()
+                        .recordPushFailed(message.getTopic(), handleMsgContext.getConsumerGroup());
+                    LOGGER.error("message|eventMesh2client|exception={} |emitter|topic={}|bizSeqNo={}" + "|uniqueId={}|cost={}",
+                        t.getMessage(), message.getTopic(), message.getSeqNum(), message.getUniqueId(), cost, t);
                 }
+                onSent(remaining, failedEmitters);
+            });
+            if (!queued) {
+                failedEmitters.add(eventEmitter);
+                eventMeshGrpcServer.getMetricsMonitor().getTopicGroupMetrics()
+                    .recordPushFailed(message.getTopic(), handleMsgContext.getConsumerGroup());
+                LOGGER.warn("message|eventMesh2client|emitter is full or closed|topic={}|bizSeqNo={}|uniqueId={}",
+                    message.getTopic(), message.getSeqNum(), message.getUniqueId());
+                onSent(remaining, failedEmitters);
+            }
+        }
+    }
 
-                long cost = System.currentTimeMillis() - lastPushTime;
-                LOGGER.info("message|eventMesh2client|emitter|topic={}|bizSeqNo={}" + "|uniqueId={}|cost={}",
-                        simpleMessage.getTopic(), simpleMessage.getSeqNum(), simpleMessage.getUniqueId(), cost);
-                complete();
-            } catch (Throwable t) {
-                long cost = System.currentTimeMillis() - lastPushTime;
-                LOGGER.error("message|eventMesh2client|exception={} |emitter|topic={}|bizSeqNo={}" + "|uniqueId={}|cost={}",
-                        t.getMessage(), simpleMessage.getTopic(), simpleMessage.getSeqNum(),
-                        simpleMessage.getUniqueId(), cost, t);
+    private void onSent(AtomicInteger remaining, Queue<EventEmitter<SimpleMessage>> failedEmitters) {
+        if (remaining.decrementAndGet() != 0 || isComplete()) {
+            return;
+        }
+        if (failedEmitters.isEmpty()) {
+            complete();
+            return;
+        }
+        if (subscriptionMode == SubscriptionMode.BROADCASTING) {
+            retryEmitters = new ArrayList<>(failedEmitters);
+        }
+        if (retryTimes < EventMeshConstants.DEFAULT_PUSH_RETRY_TIMES) {
+            delayRetry();
+            return;
+        }
+        refuse();
+    }
 
-                delayRetry();
+    /**
+     * The subscribers did not take the message within the retries. A clustering message is sent back to the MQ
+     * before its offset is committed, so that it is consumed again instead of being lost. Sending a broadcast
+     * message back would deliver it again to the subscribers that already got it, so it is dropped.
+     */
+    private void refuse() {
+        if (subscriptionMode == SubscriptionMode.CLUSTERING && eventMeshConsumer != null) {
+            try {
+                eventMeshConsumer.sendMessageBack(handleMsgContext.getConsumerGroup(), handleMsgContext.getEvent(),
+                    simpleMessage.getUniqueId(), simpleMessage.getSeqNum());
+            } catch (Exception e) {
+                LOGGER.error("message|eventMesh2client|sendMessageBack failed|topic={}|bizSeqNo={}|uniqueId={}",
+                    simpleMessage.getTopic(), simpleMessage.getSeqNum(), simpleMessage.getUniqueId(), e);
             }
+        } else {
+            LOGGER.error("message|eventMesh2client|dropped|emitters={}|topic={}|bizSeqNo={}|uniqueId={}",
+                retryEmitters == null ? 0 : retryEmitters.size(), simpleMessage.getTopic(), simpleMessage.getSeqNum(),
+                simpleMessage.getUniqueId());
         }
+        complete();
     }
 
     private List<EventEmitter<SimpleMessage>> selectEmitter() {
-        List<EventEmitter<SimpleMessage>> emitterList = MapUtils.getObject(idcEmitters,
-                eventMeshGrpcConfiguration.getEventMeshIDC(), null);
-        if (CollectionUtils.isNotEmpty(emitterList)) {
-            if (subscriptionMode == SubscriptionMode.CLUSTERING) {
-                return Collections.singletonList(emitterList.get((startIdx + retryTimes) % emitterList.size()));
-            } else if (subscriptionMode == SubscriptionMode.BROADCASTING) {
-                return emitterList;
-            } else {
-                LOGGER.error("Invalid Subscription Mode, no message returning back to subscriber.");
-                return Collections.emptyList();
-            }
+        List<EventEmitter<SimpleMessage>> candidates = candidateEmitters(idcEmitters, totalEmitters,
+            eventMeshGrpcConfiguration.getEventMeshIDC());
+        if (candidates.isEmpty()) {
+            LOGGER.error("No event emitters from subscriber, no message returning.");
+            return Collections.emptyList();
+        }
+        if (subscriptionMode == SubscriptionMode.CLUSTERING) {
+            return Collections.singletonList(leastBacklogged(candidates));
+        } else if (subscriptionMode == SubscriptionMode.BROADCASTING) {
+            return candidates;
         }
+        LOGGER.error("Invalid Subscription Mode, no message returning back to subscriber.");
+        return Collections.emptyList();
+    }
 
-        if (CollectionUtils.isNotEmpty(totalEmitters)) {
-            if (subscriptionMode == SubscriptionMode.CLUSTERING) {
-                return Collections.singletonList(totalEmitters.get((startIdx + retryTimes) % totalEmitters.size()));
-            } else if (subscriptionMode == SubscriptionMode.BROADCASTING) {
-                return totalEmitters;
-            } else {
-                LOGGER.error("Invalid Subscription Mode, no message returning back to subscriber.");
-                return Collections.emptyList();
-            }
+    /**
+     * Whether the subscribers of the topic can take another message: in clustering mode one emitter must have room,
+     * in broadcasting mode every emitter. A message that can not be taken is refused, so that it stays in the MQ.
+     */
+    static boolean canAccept(StreamTopicConfig topicConfig, String idc) {
+        List<EventEmitter<SimpleMessage>> candidates = candidateEmitters(topicConfig.getIdcEmitters(),
+            topicConfig.getTotalEmitters(), idc);
+        if (topicConfig.getSubscriptionMode() == SubscriptionMode.BROADCASTING) {
+            return candidates.stream().allMatch(EventEmitter::canOffer);
         }
+        return candidates.isEmpty() || candidates.stream().anyMatch(EventEmitter::canOffer);
+    }
 
-        LOGGER.error("No event emitters from subscriber, no message returning.");
+    /**
+     * The emitters of the local IDC, or all emitters if the local IDC has none
+     */
+    private static List<EventEmitter<SimpleMessage>> candidateEmitters(
+        Map<String, List<EventEmitter<SimpleMessage>>> idcEmitters, List<EventEmitter<SimpleMessage>> totalEmitters,
+        String idc) {
+        List<EventEmitter<SimpleMessage>> emitterList = MapUtils.getObject(idcEmitters, idc, null);
+        if (CollectionUtils.isNotEmpty(emitterList)) {
+            return emitterList;
+        }
+        if (CollectionUtils.isNotEmpty(totalEmitters)) {
+            return totalEmitters;
+        }
         return Collections.emptyList();
     }
+
+    /**
+     * The emitter with the fewest messages waiting for its client, starting from a rotating index so that idle
+     * emitters share the load.
+     */
+    private EventEmitter<SimpleMessage> leastBacklogged(List<EventEmitter<SimpleMessage>> emitters) {
+        int size = emitters.size();
+        int offset = startIdx + retryTimes;
+        EventEmitter<SimpleMessage> selected = null;
+        int minBacklog = Integer.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            EventEmitter<SimpleMessage> emitter = emitters.get((offset + i) % size);
+            int backlog = emitter.getBacklog();
+            if (backlog < minBacklog) {
+                selected = emitter;
+                minBacklog = backlog;
+                if (backlog == 0) {
+                    break;
+                }
+            }
+        }
+        return selected;
+    }
 }
@@ -18,6 +18,7 @@
 package org.apache.eventmesh.runtime.core.protocol.grpc.push;
 
 import org.apache.eventmesh.common.Constants;
+import org.apache.eventmesh.common.protocol.grpc.common.CloudEventProtoConverter;
 import org.apache.eventmesh.common.protocol.grpc.protos.RequestHeader;
 import org.apache.eventmesh.common.protocol.grpc.protos.SimpleMessage;
 import org.apache.eventmesh.common.protocol.grpc.protos.Subscription.SubscriptionItem.SubscriptionMode;
@@ -51,11 +52,14 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.cloudevents.core.provider.EventFormatProvider;
+
 import com.fasterxml.jackson.core.type.TypeReference;
 
 public class WebhookPushRequest extends AbstractPushRequest {
@@ -116,11 +120,12 @@ public class WebhookPushRequest extends AbstractPushRequest {
             builder.addHeader(ProtocolKey.PROTOCOL_TYPE, requestHeader.getProtocolType());
             builder.addHeader(ProtocolKey.PROTOCOL_DESC, requestHeader.getProtocolDesc());
             builder.addHeader(ProtocolKey.PROTOCOL_VERSION, requestHeader.getProtocolVersion());
-            builder.addHeader(ProtocolKey.CONTENT_TYPE, simpleMessage.getPropertiesOrDefault(ProtocolKey.CONTENT_TYPE,
-                    Constants.CONTENT_TYPE_CLOUDEVENTS_JSON));
+            // webhook subscribers keep receiving the JSON format, whatever format the event was published in
+            builder.addHeader(ProtocolKey.CONTENT_TYPE, simpleMessage.hasCloudEvent() ? Constants.CONTENT_TYPE_CLOUDEVENTS_JSON
+                    : simpleMessage.getPropertiesOrDefault(ProtocolKey.CONTENT_TYPE, Constants.CONTENT_TYPE_CLOUDEVENTS_JSON));
 
             List<NameValuePair> body = new ArrayList<>();
-            body.add(new BasicNameValuePair(PushMessageRequestBody.CONTENT, simpleMessage.getContent()));
+            body.add(new BasicNameValuePair(PushMessageRequestBody.CONTENT, getContent()));
             body.add(new BasicNameValuePair(PushMessageRequestBody.BIZSEQNO, simpleMessage.getSeqNum()));
             body.add(new BasicNameValuePair(PushMessageRequestBody.UNIQUEID, simpleMessage.getUniqueId()));
             body.add(new BasicNameValuePair(PushMessageRequestBody.RANDOMNO, handleMsgContext.getMsgRandomNo()));
@@ -134,7 +139,8 @@ public class WebhookPushRequest extends AbstractPushRequest {
 
             builder.setEntity(new UrlEncodedFormEntity(body, StandardCharsets.UTF_8));
 
-            //eventMeshHTTPServer.metrics.summaryMetrics.recordPushMsg();
+            eventMeshGrpcServer.getMetricsMonitor().getTopicGroupMetrics()
+                    .recordPush(simpleMessage.getTopic(), handleMsgContext.getConsumerGroup());
 
             addToWaitingMap(this);
 
@@ -149,6 +155,8 @@ public class WebhookPushRequest extends AbstractPushRequest {
                                 simpleMessage.getUniqueId());
             } catch (IOException e) {
                 long cost = System.currentTimeMillis() - lastPushTime;
+                eventMeshGrpcServer.getMetricsMonitor().getTopicGroupMetrics()
+                        .recordPushFailed(simpleMessage.getTopic(), handleMsgContext.getConsumerGroup());
                 MESSAGE_LOGGER.error(
                         "message|eventMesh2client|exception={} |emitter|topic={}|bizSeqNo={}"
                                 + "|uniqueId={}|cost={}", e.getMessage(), simpleMessage.getTopic(),
@@ -178,9 +186,10 @@ public class WebhookPushRequest extends AbstractPushRequest {
         return response -> {
             removeWaitingMap(WebhookPushRequest.this);
             long cost = System.currentTimeMillis() - lastPushTime;
-            //eventMeshHTTPServer.metrics.summaryMetrics.recordHTTPPushTimeCost(cost);
+            eventMeshGrpcServer.getMetricsMonitor().recordPush2ClientLatency(simpleMessage.getTopic(), cost);
             if (response.getStatusLine().getStatusCode() != HttpStatus.SC_OK) {
-                //eventMeshHTTPServer.metrics.summaryMetrics.recordHttpPushMsgFailed();
+                eventMeshGrpcServer.getMetricsMonitor().getTopicGroupMetrics()
+                        .recordPushFailed(simpleMessage.getTopic(), handleMsgContext.getConsumerGroup());
                 MESSAGE_LOGGER.info(
                         "message|eventMesh2client|exception|url={}|topic={}|bizSeqNo={}"
                                 + "|uniqueId={}|cost={}", selectedPushUrl, simpleMessage.getTopic(),
@@ -232,6 +241,15 @@ public class WebhookPushRequest extends AbstractPushRequest {
         }
     }
 
+    private String getContent() {
+        if (!simpleMessage.hasCloudEvent()) {
+            return simpleMessage.getContent();
+        }
+        byte[] content = Objects.requireNonNull(EventFormatProvider.getInstance().resolveFormat(Constants.CONTENT_TYPE_CLOUDEVENTS_JSON))
+                .serialize(CloudEventProtoConverter.fromProto(simpleMessage.getCloudEvent()));
+        return new String(content, StandardCharsets.UTF_8);
+    }
+
     @SuppressWarnings("unchecked")
     private List<String> getUrl() {
         List<String> localIdcUrl = MapUtils.getObject(urls,
@@ -23,4 +23,11 @@ import java.util.concurrent.Delayed;
  */
 public interface DelayRetryable extends Delayed {
     boolean retry() throws Exception;
+
+    /**
+     * Group the retry counts against in the retry quota, null if it only counts against the protocol quota.
+     */
+    default String getRetryGroup() {
+        return null;
+    }
 }
@@ -19,13 +19,11 @@ package org.apache.eventmesh.runtime.core.protocol.grpc.retry;
 
 import org.apache.eventmesh.runtime.boot.EventMeshGrpcServer;
 import org.apache.eventmesh.runtime.configuration.EventMeshGrpcConfiguration;
+import org.apache.eventmesh.runtime.constants.EventMeshConstants;
+import org.apache.eventmesh.runtime.core.retry.RetryLane;
+import org.apache.eventmesh.runtime.core.retry.RetryScheduler;
 
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.DelayQueue;
-import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -38,78 +36,49 @@ public class GrpcRetryer {
 
     private EventMeshGrpcConfiguration grpcConfiguration;
 
-    public GrpcRetryer(EventMeshGrpcServer eventMeshGrpcServer) {
+    private final RetryScheduler retryScheduler;
+
+    public GrpcRetryer(EventMeshGrpcServer eventMeshGrpcServer, RetryScheduler retryScheduler) {
         this.grpcConfiguration = eventMeshGrpcServer.getEventMeshGrpcConfiguration();
+        this.retryScheduler = retryScheduler;
     }
 
-    private DelayQueue<DelayRetryable> failed = new DelayQueue<DelayRetryable>();
-
-    private ThreadPoolExecutor pool;
-
-    private Thread dispatcher;
+    private RetryLane lane;
 
     public void pushRetry(DelayRetryable delayRetryable) {
-        if (failed.size() >= grpcConfiguration.getEventMeshServerRetryBlockQueueSize()) {
-            retryLogger.error("[RETRY-QUEUE] is full!");
-            return;
-        }
-        failed.offer(delayRetryable);
-    }
-
-    public void init() {
-        pool = new ThreadPoolExecutor(
-                grpcConfiguration.getEventMeshServerRetryThreadNum(),
-                grpcConfiguration.getEventMeshServerRetryThreadNum(), 60000, TimeUnit.MILLISECONDS,
-                new ArrayBlockingQueue<>(grpcConfiguration.getEventMeshServerRetryBlockQueueSize()),
-                new ThreadFactory() {
-                    private AtomicInteger count = new AtomicInteger();
-
-                    @Override
-                    public Thread newThread(Runnable r) {
-                        Thread thread = new Thread(r, "grpc-retry-" + count.incrementAndGet());
-                        thread.setPriority(Thread.NORM_PRIORITY);
-                        thread.setDaemon(true);
-                        return thread;
-                    }
-                }, new ThreadPoolExecutor.AbortPolicy());
-
-        dispatcher = new Thread(() -> {
+        lane.schedule(delayRetryable.getRetryGroup(), delayRetryable.getDelay(TimeUnit.MILLISECONDS), () -> {
             try {
-                DelayRetryable retryObj = null;
-                while (!Thread.currentThread().isInterrupted()
-                    && (retryObj = failed.take()) != null) {
-                    final DelayRetryable delayRetryable = retryObj;
-                    pool.execute(() -> {
-                        try {
-                            delayRetryable.retry();
-                            if (retryLogger.isDebugEnabled()) {
-                                retryLogger.debug("retryObj : {}", delayRetryable);
-                            }
-                        } catch (Exception e) {
-                            retryLogger.error("grpc-retry-dispatcher error!", e);
-                        }
-                    });
+                delayRetryable.retry();
+                if (retryLogger.isDebugEnabled()) {
+                    retryLogger.debug("retryObj : {}", delayRetryable);
                 }
             } catch (Exception e) {
                 retryLogger.error("grpc-retry-dispatcher error!", e);
             }
-        }, "grpc-retry-dispatcher");
-        dispatcher.setDaemon(true);
+        });
+    }
+
+    public void init() {
+        lane = retryScheduler.register(EventMeshConstants.PROTOCOL_GRPC,
+            grpcConfiguration.getEventMeshServerRetryBlockQueueSize(),
+            grpcConfiguration.getEventMeshServerRetryThreadNum());
         logger.info("GrpcRetryer inited......");
     }
 
     public int size() {
-        return failed.size();
+        return lane.getPendingCount();
+    }
+
+    public RetryLane getLane() {
+        return lane;
     }
 
     public void shutdown() {
-        dispatcher.interrupt();
-        pool.shutdown();
+        lane.shutdown();
         logger.info("GrpcRetryer shutdown......");
     }
 
     public void start() throws Exception {
-        dispatcher.start();
         logger.info("GrpcRetryer started......");
     }
 }
@@ -17,18 +17,64 @@
 
 package org.apache.eventmesh.runtime.core.protocol.grpc.service;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.function.Consumer;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 
 public class EventEmitter<T> {
+
     private final Logger logger = LoggerFactory.getLogger(EventEmitter.class);
 
     private final StreamObserver<T> emitter;
 
+    /**
+     * The emitter as a server side stream, null if flow control is not used
+     */
+    private final ServerCallStreamObserver<T> serverEmitter;
+
+    private final int maxPending;
+
+    /**
+     * Events offered but not yet written because the transport was not ready, guarded by this
+     */
+    private final Queue<PendingEvent<T>> pending = new ArrayDeque<>();
+
+    private volatile boolean closed;
+
     public EventEmitter(StreamObserver<T> emitter) {
         this.emitter = emitter;
+        this.maxPending = Integer.MAX_VALUE;
+        this.serverEmitter = null;
+    }
+
+    /**
+     * Emitter of a server side stream that only writes while the stream is ready. It must be created before the call
+     * handler returns, the ready and cancel handlers of the stream can not be set later.
+     *
+     * @param maxPending max events waiting for the stream to become ready
+     */
+    public EventEmitter(StreamObserver<T> emitter, int maxPending) {
+        this.emitter = emitter;
+        this.maxPending = maxPending;
+        if (emitter instanceof ServerCallStreamObserver) {
+            this.serverEmitter = (ServerCallStreamObserver<T>) emitter;
+            this.serverEmitter.setOnReadyHandler(this::drain);
+            this.serverEmitter.setOnCancelHandler(() -> {
+                closed = true;
+                drain();
+            });
+        } else {
+            this.serverEmitter = null;
+        }
     }
 
     public synchronized void onNext(T event) {
@@ -39,23 +85,112 @@ public class EventEmitter<T> {
         }
     }
 
-    public synchronized void onCompleted() {
-        try {
-            emitter.onCompleted();
-        } catch (Throwable t) {
-            logger.warn("StreamObserver Error onCompleted. {}", t.getMessage());
+    /**
+     * Queue an event, it is written once the transport of the stream is ready, that is once the client has granted
+     * enough flow control credits.
+     *
+     * @param onSent called with null after the event has been written, or with the cause if it could not be written
+     * @return false if the stream is closed or already has {@code maxPending} events waiting
+     */
+    public boolean offer(T event, Consumer<Throwable> onSent) {
+        synchronized (this) {
+            if (closed || pending.size() >= maxPending) {
+                return false;
+            }
+            pending.offer(new PendingEvent<>(event, onSent));
         }
+        drain();
+        return true;
     }
 
-    public synchronized void onError(Throwable t) {
-        try {
-            emitter.onError(t);
-        } catch (Throwable t1) {
-            logger.warn("StreamObserver Error onError. {}", t1.getMessage());
+    /**
+     * Write the queued events as long as the transport is ready, called again by the ready handler of the stream.
+     */
+    void drain() {
+        List<PendingEvent<T>> sent = new ArrayList<>();
+        List<Throwable> causes = new ArrayList<>();
+        synchronized (this) {
+            while (!pending.isEmpty() && (closed || isReady())) {
+                PendingEvent<T> pendingEvent = pending.poll();
+                Throwable cause = null;
+                if (closed) {
+                    cause = Status.CANCELLED.withDescription("stream closed").asRuntimeException();
+                } else {
+                    try {
+                        emitter.onNext(pendingEvent.event);
+                    } catch (Throwable t) {
+                        cause = t;
+                    }
+                }
+                sent.add(pendingEvent);
+                causes.add(cause);
+            }
+        }
+        // run the callbacks out of the lock, they may commit offsets or retry on another emitter
+        for (int i = 0; i < sent.size(); i++) {
+            try {
+                sent.get(i).onSent.accept(causes.get(i));
+            } catch (Throwable t) {
+                logger.warn("EventEmitter callback error. {}", t.getMessage());
+            }
+        }
+    }
+
+    private boolean isReady() {
+        return serverEmitter == null || serverEmitter.isReady();
+    }
+
+    /**
+     * Whether an event offered now would be queued, that is the stream is open and its backlog is not full
+     */
+    public synchronized boolean canOffer() {
+        return !closed && pending.size() < maxPending;
+    }
+
+    /**
+     * Events waiting for the stream to become ready
+     */
+    public synchronized int getBacklog() {
+        return pending.size();
+    }
+
+    public void onCompleted() {
+        synchronized (this) {
+            closed = true;
+            try {
+                emitter.onCompleted();
+            } catch (Throwable t) {
+                logger.warn("StreamObserver Error onCompleted. {}", t.getMessage());
+            }
+        }
+        drain();
+    }
+
+    public void onError(Throwable t) {
+        synchronized (this) {
+            closed = true;
+            try {
+                emitter.onError(t);
+            } catch (Throwable t1) {
+                logger.warn("StreamObserver Error onError. {}", t1.getMessage());
+            }
         }
+        drain();
     }
 
     public StreamObserver<T> getEmitter() {
         return emitter;
     }
+
+    private static class PendingEvent<T> {
+
+        private final T event;
+
+        private final Consumer<Throwable> onSent;
+
+        PendingEvent(T event, Consumer<Throwable> onSent) {
+            this.event = event;
+            this.onSent = onSent;
+        }
+    }
 }
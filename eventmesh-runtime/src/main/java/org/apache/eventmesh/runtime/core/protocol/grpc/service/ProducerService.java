@@ -108,4 +108,10 @@ public class ProducerService extends PublisherServiceGrpc.PublisherServiceImplBa
         });
     }
 
+    @Override
+    public StreamObserver<SimpleMessage> publishStream(StreamObserver<Response> responseObserver) {
+        return new PublishStreamObserver(eventMeshGrpcServer, threadPoolExecutor, responseObserver,
+            eventMeshGrpcServer.getEventMeshGrpcConfiguration().getEventMeshServerStreamPublishMaxInFlight());
+    }
+
 }
@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.grpc.service;
+
+import org.apache.eventmesh.common.protocol.grpc.common.StatusCode;
+import org.apache.eventmesh.common.protocol.grpc.protos.Response;
+import org.apache.eventmesh.common.protocol.grpc.protos.SimpleMessage;
+import org.apache.eventmesh.runtime.boot.EventMeshGrpcServer;
+import org.apache.eventmesh.runtime.constants.EventMeshConstants;
+import org.apache.eventmesh.runtime.core.protocol.grpc.processor.SendAsyncMessageProcessor;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+
+/**
+ * Receiving side of a publishStream. Every message is sent to the queue by {@link SendAsyncMessageProcessor} on the
+ * send executor and acked on the response stream with a {@link Response} carrying its seqNum. Messages are only
+ * requested from the transport while fewer than {@code maxInFlight} of them are waiting for their ack, so a fast
+ * producer is held back by gRPC flow control instead of piling up in the executor queue.
+ */
+public class PublishStreamObserver implements StreamObserver<SimpleMessage> {
+
+    private final Logger logger = LoggerFactory.getLogger(PublishStreamObserver.class);
+
+    private final Logger cmdLogger = LoggerFactory.getLogger("cmd");
+
+    private final EventMeshGrpcServer eventMeshGrpcServer;
+
+    private final ThreadPoolExecutor threadPoolExecutor;
+
+    private final SendAsyncMessageProcessor sendAsyncMessageProcessor;
+
+    private final EventEmitter<Response> emitter;
+
+    /**
+     * The response stream with manual inbound flow control, null if the observer is not a server call
+     */
+    private final ServerCallStreamObserver<Response> serverObserver;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final AtomicBoolean completed = new AtomicBoolean();
+
+    private volatile boolean halfClosed;
+
+    private volatile boolean logged;
+
+    /**
+     * Must be created before the call handler returns, auto request of the stream can not be disabled later.
+     */
+    public PublishStreamObserver(EventMeshGrpcServer eventMeshGrpcServer, ThreadPoolExecutor threadPoolExecutor,
+                                 StreamObserver<Response> responseObserver, int maxInFlight) {
+        this.eventMeshGrpcServer = eventMeshGrpcServer;
+        this.threadPoolExecutor = threadPoolExecutor;
+        this.sendAsyncMessageProcessor = new SendAsyncMessageProcessor(eventMeshGrpcServer);
+        this.emitter = new EventEmitter<>(responseObserver);
+        if (responseObserver instanceof ServerCallStreamObserver) {
+            this.serverObserver = (ServerCallStreamObserver<Response>) responseObserver;
+            this.serverObserver.disableAutoRequest();
+            this.serverObserver.request(maxInFlight);
+        } else {
+            this.serverObserver = null;
+        }
+    }
+
+    @Override
+    public void onNext(SimpleMessage message) {
+        if (!logged) {
+            logged = true;
+            cmdLogger.info("cmd={}|{}|client2eventMesh|from={}|to={}", "PublishStream",
+                EventMeshConstants.PROTOCOL_GRPC, message.getHeader().getIp(),
+                eventMeshGrpcServer.getEventMeshGrpcConfiguration().getEventMeshIp());
+        }
+        eventMeshGrpcServer.getMetricsMonitor().recordReceiveMsgFromClient();
+
+        inFlight.incrementAndGet();
+        EventEmitter<Response> ackEmitter = new EventEmitter<>(new AckObserver(message.getSeqNum()));
+        try {
+            threadPoolExecutor.submit(() -> {
+                try {
+                    sendAsyncMessageProcessor.process(message, ackEmitter);
+                } catch (Exception e) {
+                    logger.error("Error code {}, error message {}", StatusCode.EVENTMESH_SEND_ASYNC_MSG_ERR.getRetCode(),
+                        StatusCode.EVENTMESH_SEND_ASYNC_MSG_ERR.getErrMsg(), e);
+                    ServiceUtils.sendRespAndDone(StatusCode.EVENTMESH_SEND_ASYNC_MSG_ERR, e.getMessage(), ackEmitter);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            logger.warn("Send message executor is full, reject message {}", message.getSeqNum());
+            ServiceUtils.sendRespAndDone(StatusCode.OVERLOAD, ackEmitter);
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        logger.warn("PublishStream closed by client. {}", t.getMessage());
+        completed.set(true);
+    }
+
+    @Override
+    public void onCompleted() {
+        halfClosed = true;
+        if (inFlight.get() == 0) {
+            complete();
+        }
+    }
+
+    /**
+     * Messages received but not acked yet
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private void acked() {
+        if (serverObserver != null && !completed.get()) {
+            serverObserver.request(1);
+        }
+        if (inFlight.decrementAndGet() == 0 && halfClosed) {
+            complete();
+        }
+    }
+
+    private void complete() {
+        if (completed.compareAndSet(false, true)) {
+            emitter.onCompleted();
+        }
+    }
+
+    /**
+     * Receives the single response of one message from the processor and writes it to the stream as its ack.
+     */
+    class AckObserver implements StreamObserver<Response> {
+
+        private final String seqNum;
+
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        private volatile boolean responded;
+
+        AckObserver(String seqNum) {
+            this.seqNum = seqNum;
+        }
+
+        @Override
+        public void onNext(Response response) {
+            responded = true;
+            if (!completed.get()) {
+                emitter.onNext(response.toBuilder().setSeqNum(seqNum).build());
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            // the client waits for an ack of every message, a failed send is acked with an error
+            if (!responded && !done.get()) {
+                onNext(Response.newBuilder()
+                    .setRespCode(StatusCode.EVENTMESH_SEND_ASYNC_MSG_ERR.getRetCode())
+                    .setRespMsg(StatusCode.EVENTMESH_SEND_ASYNC_MSG_ERR.getErrMsg() + EventMeshConstants.BLANK_SPACE + t.getMessage())
+                    .setRespTime(String.valueOf(System.currentTimeMillis()))
+                    .build());
+            }
+            onCompleted();
+        }
+
+        @Override
+        public void onCompleted() {
+            if (done.compareAndSet(false, true)) {
+                acked();
+            }
+        }
+    }
+}
@@ -48,7 +48,8 @@ public class ServiceUtils {
 
     public static boolean validateMessage(SimpleMessage message) {
         return StringUtils.isNotEmpty(message.getUniqueId()) && StringUtils.isNotEmpty(message.getProducerGroup())
-                && StringUtils.isNotEmpty(message.getTopic()) && StringUtils.isNotEmpty(message.getContent())
+                && StringUtils.isNotEmpty(message.getTopic())
+                && (message.hasCloudEvent() || StringUtils.isNotEmpty(message.getContent()))
                 && StringUtils.isNotEmpty(message.getTtl());
     }
 
@@ -57,7 +58,8 @@ public class ServiceUtils {
             return false;
         }
         for (BatchMessage.MessageItem item : batchMessage.getMessageItemList()) {
-            if (StringUtils.isEmpty(item.getContent()) || StringUtils.isEmpty(item.getSeqNum())
+            if (!item.hasCloudEvent() && StringUtils.isEmpty(item.getContent())
+                    || StringUtils.isEmpty(item.getSeqNum())
                     || StringUtils.isEmpty(item.getTtl())
                     || StringUtils.isEmpty(item.getUniqueId())) {
                 return false;
@@ -29,6 +29,7 @@ import org.apache.eventmesh.api.EventMeshAsyncConsumeContext;
 import org.apache.eventmesh.api.SendCallback;
 import org.apache.eventmesh.api.SendResult;
 import org.apache.eventmesh.api.exception.OnExceptionContext;
+import org.apache.eventmesh.common.EventEnvelope;
 import org.apache.eventmesh.common.protocol.SubscriptionItem;
 import org.apache.eventmesh.common.protocol.SubscriptionMode;
 import org.apache.eventmesh.common.protocol.http.common.ProtocolKey;
@@ -56,7 +57,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.cloudevents.CloudEvent;
-import io.cloudevents.core.builder.CloudEventBuilder;
 import io.opentelemetry.api.trace.Span;
 
 public class EventMeshConsumer {
@@ -106,19 +106,17 @@ public class EventMeshConsumer {
             String protocolVersion =
                     Objects.requireNonNull(event.getSpecVersion()).toString();
 
-            Span span = TraceUtils.prepareServerSpan(
-                    EventMeshUtil.getCloudEventExtensionMap(protocolVersion, event),
+            Span span = TraceUtils.prepareServerSpan(protocolVersion, event,
                     EventMeshTraceConstants.TRACE_DOWNSTREAM_EVENTMESH_SERVER_SPAN, false);
             try {
                 String topic = event.getSubject();
                 String bizSeqNo = Objects.requireNonNull(event.getExtension(ProtocolKey.ClientInstanceKey.BIZSEQNO)).toString();
                 String uniqueId = Objects.requireNonNull(event.getExtension(ProtocolKey.ClientInstanceKey.UNIQUEID)).toString();
 
-                event = CloudEventBuilder.from(event)
+                event = EventEnvelope.wrap(event)
                         .withExtension(EventMeshConstants.REQ_MQ2EVENTMESH_TIMESTAMP, String.valueOf(System.currentTimeMillis()))
                         .withExtension(EventMeshConstants.REQ_RECEIVE_EVENTMESH_IP,
-                                eventMeshHTTPServer.getEventMeshHttpConfiguration().getEventMeshServerIp())
-                        .build();
+                                eventMeshHTTPServer.getEventMeshHttpConfiguration().getEventMeshServerIp());
                 if (messageLogger.isDebugEnabled()) {
                     messageLogger.debug("message|mq2eventMesh|topic={}|event={}", topic, event);
                 } else {
@@ -180,17 +178,15 @@ public class EventMeshConsumer {
             String protocolVersion =
                     Objects.requireNonNull(event.getSpecVersion()).toString();
 
-            Span span = TraceUtils.prepareServerSpan(
-                    EventMeshUtil.getCloudEventExtensionMap(protocolVersion, event),
+            Span span = TraceUtils.prepareServerSpan(protocolVersion, event,
                     EventMeshTraceConstants.TRACE_DOWNSTREAM_EVENTMESH_SERVER_SPAN, false);
             try {
 
-                event = CloudEventBuilder.from(event)
+                event = EventEnvelope.wrap(event)
                         .withExtension(EventMeshConstants.REQ_MQ2EVENTMESH_TIMESTAMP,
                                 String.valueOf(System.currentTimeMillis()))
                         .withExtension(EventMeshConstants.REQ_RECEIVE_EVENTMESH_IP,
-                                eventMeshHTTPServer.getEventMeshHttpConfiguration().getEventMeshServerIp())
-                        .build();
+                                eventMeshHTTPServer.getEventMeshHttpConfiguration().getEventMeshServerIp());
 
                 String topic = event.getSubject();
                 String bizSeqNo = getEventExtension(event, ProtocolKey.ClientInstanceKey.BIZSEQNO, "");
@@ -297,6 +293,14 @@ public class EventMeshConsumer {
         }
     }
 
+    public void updateOffsetBatch(SubscriptionMode subscriptionMode, List<CloudEvent> events, List<AbstractContext> contexts) {
+        if (SubscriptionMode.BROADCASTING.equals(subscriptionMode)) {
+            broadcastMqConsumer.updateOffsetBatch(events, contexts);
+        } else {
+            persistentMqConsumer.updateOffsetBatch(events, contexts);
+        }
+    }
+
     public ConsumerGroupConf getConsumerGroupConf() {
         return consumerGroupConf;
     }
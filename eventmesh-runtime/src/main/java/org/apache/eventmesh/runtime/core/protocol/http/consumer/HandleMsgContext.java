@@ -20,6 +20,7 @@ package org.apache.eventmesh.runtime.core.protocol.http.consumer;
 import org.apache.eventmesh.api.AbstractContext;
 import org.apache.eventmesh.common.Constants;
 import org.apache.eventmesh.common.protocol.SubscriptionItem;
+import org.apache.eventmesh.common.protocol.SubscriptionMode;
 import org.apache.eventmesh.runtime.boot.EventMeshHTTPServer;
 import org.apache.eventmesh.runtime.constants.EventMeshConstants;
 import org.apache.eventmesh.runtime.core.consumergroup.ConsumerGroupConf;
@@ -27,9 +28,13 @@ import org.apache.eventmesh.runtime.core.consumergroup.ConsumerGroupTopicConf;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.time.DateFormatUtils;
+import org.apache.commons.lang3.tuple.Pair;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -213,6 +218,33 @@ public class HandleMsgContext {
         }
     }
 
+    /**
+     * Finish the contexts of a batch push, acking the events of the same consumer and subscription mode in one call.
+     */
+    public static void finish(List<HandleMsgContext> handleMsgContexts) {
+        Map<Pair<EventMeshConsumer, SubscriptionMode>, List<HandleMsgContext>> groups = new LinkedHashMap<>();
+        for (HandleMsgContext handleMsgContext : handleMsgContexts) {
+            if (Objects.isNull(handleMsgContext.eventMeshConsumer) || Objects.isNull(handleMsgContext.context)
+                || Objects.isNull(handleMsgContext.event)) {
+                continue;
+            }
+            groups.computeIfAbsent(Pair.of(handleMsgContext.eventMeshConsumer, handleMsgContext.subscriptionItem.getMode()),
+                key -> new ArrayList<>()).add(handleMsgContext);
+        }
+        for (Map.Entry<Pair<EventMeshConsumer, SubscriptionMode>, List<HandleMsgContext>> group : groups.entrySet()) {
+            List<CloudEvent> events = new ArrayList<>(group.getValue().size());
+            List<AbstractContext> contexts = new ArrayList<>(group.getValue().size());
+            for (HandleMsgContext handleMsgContext : group.getValue()) {
+                events.add(handleMsgContext.event);
+                contexts.add(handleMsgContext.context);
+            }
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("messageAcked|batch|size={}", events.size());
+            }
+            group.getKey().getLeft().updateOffsetBatch(group.getKey().getRight(), events, contexts);
+        }
+    }
+
     public String getUniqueId() {
         return uniqueId;
     }
@@ -17,6 +17,7 @@
 
 package org.apache.eventmesh.runtime.core.protocol.http.processor;
 
+import org.apache.eventmesh.api.BatchSendCallback;
 import org.apache.eventmesh.api.SendCallback;
 import org.apache.eventmesh.api.SendResult;
 import org.apache.eventmesh.api.exception.OnExceptionContext;
@@ -41,6 +42,7 @@ import org.apache.eventmesh.runtime.core.protocol.http.async.AsyncContext;
 import org.apache.eventmesh.runtime.core.protocol.http.processor.inf.HttpRequestProcessor;
 import org.apache.eventmesh.runtime.core.protocol.http.producer.EventMeshProducer;
 import org.apache.eventmesh.runtime.core.protocol.http.producer.SendMessageContext;
+import org.apache.eventmesh.runtime.core.ratelimit.RateLimitResult;
 import org.apache.eventmesh.runtime.util.RemotingHelper;
 
 import org.apache.commons.collections4.CollectionUtils;
@@ -52,7 +54,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -188,13 +189,14 @@ public class BatchSendMessageProcessor implements HttpRequestProcessor {
 
         }
 
-        if (!eventMeshHTTPServer.getBatchRateLimiter()
-                .tryAcquire(eventSize, EventMeshConstants.DEFAULT_FASTFAIL_TIMEOUT_IN_MILLISECONDS, TimeUnit.MILLISECONDS)) {
+        RateLimitResult rateLimitResult = eventMeshHTTPServer.getBatchRateLimiter().tryAcquire(producerGroup, null, eventSize);
+        if (!rateLimitResult.isPassed()) {
             responseEventMeshCommand = asyncContext.getRequest().createHttpCommandResponse(
                 sendMessageBatchResponseHeader,
                 SendMessageBatchResponseBody.buildBody(EventMeshRetCode.EVENTMESH_BATCH_SPEED_OVER_LIMIT_ERR.getRetCode(),
-                    EventMeshRetCode.EVENTMESH_BATCH_SPEED_OVER_LIMIT_ERR.getErrMsg()));
+                    EventMeshRetCode.EVENTMESH_BATCH_SPEED_OVER_LIMIT_ERR.getErrMsg() + rateLimitResult.getDesc()));
             eventMeshHTTPServer.getMetrics().getSummaryMetrics().recordSendBatchMsgDiscard(eventSize);
+            eventMeshHTTPServer.getMetrics().getTopicGroupMetrics().recordRateLimited(null, producerGroup);
             asyncContext.onComplete(responseEventMeshCommand);
             return;
         }
@@ -283,28 +285,13 @@ public class BatchSendMessageProcessor implements HttpRequestProcessor {
 
         long delta = eventSize;
         eventMeshHTTPServer.getMetrics().getSummaryMetrics().recordSendBatchMsg(delta);
+        for (Map.Entry<String, List<CloudEvent>> entry : topicBatchMessageMappings.entrySet()) {
+            eventMeshHTTPServer.getMetrics().getTopicGroupMetrics()
+                .recordPublish(entry.getKey(), producerGroup, entry.getValue().size());
+        }
 
         if (eventMeshHTTPServer.getEventMeshHttpConfiguration().isEventMeshServerBatchMsgBatchEnabled()) {
-            for (List<CloudEvent> eventlist : topicBatchMessageMappings.values()) {
-                // TODO: Implementation in API. Consider whether to put it in the plug-in.
-                CloudEvent event = null;
-                // TODO: Detect the maximum length of messages for different producers.
-                final SendMessageContext sendMessageContext = new SendMessageContext(batchId, event, batchEventMeshProducer,
-                        eventMeshHTTPServer);
-                sendMessageContext.setEventList(eventlist);
-                batchEventMeshProducer.send(sendMessageContext, new SendCallback() {
-                    @Override
-                    public void onSuccess(SendResult sendResult) {
-                    }
-
-                    @Override
-                    public void onException(OnExceptionContext context) {
-                        batchMessageLogger.warn("", context.getException());
-                        eventMeshHTTPServer.getHttpRetryer().pushRetry(sendMessageContext.delay(10000));
-                    }
-
-                });
-            }
+            sendBatch(batchId, eventList, batchEventMeshProducer);
         } else {
             for (CloudEvent event : eventList) {
                 final SendMessageContext sendMessageContext = new SendMessageContext(batchId, event, batchEventMeshProducer,
@@ -339,6 +326,29 @@ public class BatchSendMessageProcessor implements HttpRequestProcessor {
         return;
     }
 
+    /**
+     * Connectors group the events by topic themselves, hand over the whole batch in one call. Only the events
+     * which failed are retried.
+     */
+    void sendBatch(String batchId, List<CloudEvent> eventList, EventMeshProducer batchEventMeshProducer) throws Exception {
+        final SendMessageContext sendMessageContext = new SendMessageContext(batchId, null, batchEventMeshProducer,
+                eventMeshHTTPServer);
+        sendMessageContext.setEventList(eventList);
+        batchEventMeshProducer.sendBatch(sendMessageContext, new BatchSendCallback() {
+            @Override
+            public void onSuccess(List<SendResult> sendResults) {
+            }
+
+            @Override
+            public void onException(List<CloudEvent> failedEvents, OnExceptionContext context) {
+                batchMessageLogger.warn("batch send failed, failed={}", failedEvents.size(), context.getException());
+                sendMessageContext.setEventList(failedEvents);
+                eventMeshHTTPServer.getHttpRetryer().pushRetry(sendMessageContext.delay(10000));
+            }
+
+        });
+    }
+
     @Override
     public boolean rejectRequest() {
         return false;
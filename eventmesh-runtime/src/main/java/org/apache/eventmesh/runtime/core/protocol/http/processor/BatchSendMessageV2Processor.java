@@ -40,6 +40,7 @@ import org.apache.eventmesh.runtime.core.protocol.http.async.AsyncContext;
 import org.apache.eventmesh.runtime.core.protocol.http.processor.inf.HttpRequestProcessor;
 import org.apache.eventmesh.runtime.core.protocol.http.producer.EventMeshProducer;
 import org.apache.eventmesh.runtime.core.protocol.http.producer.SendMessageContext;
+import org.apache.eventmesh.runtime.core.ratelimit.RateLimitResult;
 import org.apache.eventmesh.runtime.util.EventMeshUtil;
 import org.apache.eventmesh.runtime.util.RemotingHelper;
 
@@ -47,7 +48,6 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Objects;
-import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -192,15 +192,15 @@ public class BatchSendMessageV2Processor implements HttpRequestProcessor {
             }
         }
 
-        if (!eventMeshHTTPServer.getBatchRateLimiter()
-            .tryAcquire(EventMeshConstants.DEFAULT_FASTFAIL_TIMEOUT_IN_MILLISECONDS,
-                TimeUnit.MILLISECONDS)) {
+        RateLimitResult rateLimitResult = eventMeshHTTPServer.getBatchRateLimiter().tryAcquire(producerGroup, topic);
+        if (!rateLimitResult.isPassed()) {
             responseEventMeshCommand = request.createHttpCommandResponse(
                 sendMessageBatchV2ResponseHeader,
                 SendMessageBatchV2ResponseBody
                     .buildBody(EventMeshRetCode.EVENTMESH_BATCH_SPEED_OVER_LIMIT_ERR.getRetCode(),
-                        EventMeshRetCode.EVENTMESH_BATCH_SPEED_OVER_LIMIT_ERR.getErrMsg()));
+                        EventMeshRetCode.EVENTMESH_BATCH_SPEED_OVER_LIMIT_ERR.getErrMsg() + rateLimitResult.getDesc()));
             eventMeshHTTPServer.getMetrics().getSummaryMetrics().recordSendBatchMsgDiscard(1);
+            eventMeshHTTPServer.getMetrics().getTopicGroupMetrics().recordRateLimited(topic, producerGroup);
             asyncContext.onComplete(responseEventMeshCommand);
             return;
         }
@@ -254,6 +254,7 @@ public class BatchSendMessageV2Processor implements HttpRequestProcessor {
         }
 
         eventMeshHTTPServer.getMetrics().getSummaryMetrics().recordSendBatchMsg(1);
+        eventMeshHTTPServer.getMetrics().getTopicGroupMetrics().recordPublish(topic, producerGroup);
 
         final SendMessageContext sendMessageContext =
             new SendMessageContext(bizNo, event, batchEventMeshProducer, eventMeshHTTPServer);
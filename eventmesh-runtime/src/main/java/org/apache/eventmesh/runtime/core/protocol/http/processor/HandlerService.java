@@ -26,6 +26,8 @@ import org.apache.eventmesh.runtime.boot.HTTPTrace.TraceOperation;
 import org.apache.eventmesh.runtime.common.EventMeshTrace;
 import org.apache.eventmesh.runtime.core.protocol.http.async.AsyncContext;
 import org.apache.eventmesh.runtime.metrics.http.HTTPMetricsServer;
+import org.apache.eventmesh.runtime.trace.TraceUtils;
+import org.apache.eventmesh.runtime.util.EventMeshUtil;
 import org.apache.eventmesh.runtime.util.HttpResponseUtils;
 import org.apache.eventmesh.runtime.util.RemotingHelper;
 
@@ -46,6 +48,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.cloudevents.CloudEvent;
+import io.cloudevents.SpecVersion;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.FullHttpRequest;
@@ -333,13 +336,18 @@ public class HandlerService {
         // for error response
         public void sendErrorResponse(EventMeshRetCode retCode, Map<String, Object> responseHeaderMap, Map<String, Object> responseBodyMap,
                                       Map<String, Object> traceMap) {
+            sendErrorResponse(retCode, retCode.getErrMsg(), responseHeaderMap, responseBodyMap, traceMap);
+        }
+
+        public void sendErrorResponse(EventMeshRetCode retCode, String retMsg, Map<String, Object> responseHeaderMap,
+                                      Map<String, Object> responseBodyMap, Map<String, Object> traceMap) {
             this.traceMap = traceMap;
             try {
                 responseBodyMap.put("retCode", retCode.getRetCode());
-                responseBodyMap.put("retMsg", retCode.getErrMsg());
+                responseBodyMap.put("retMsg", retMsg);
                 HttpEventWrapper responseWrapper = asyncContext.getRequest().createHttpResponse(responseHeaderMap, responseBodyMap);
                 asyncContext.onComplete(responseWrapper);
-                this.exception = new RuntimeException(retCode.getErrMsg());
+                this.exception = new RuntimeException(retMsg);
                 this.response = asyncContext.getResponse().httpResponse();
                 this.error();
             } catch (Exception e) {
@@ -350,6 +358,19 @@ public class HandlerService {
             }
         }
 
+        // for error response of an event, the extensions of the event are only read when trace is enabled
+        public void sendEventErrorResponse(EventMeshRetCode retCode, Map<String, Object> responseHeaderMap, Map<String, Object> responseBodyMap,
+                                           CloudEvent event) {
+            sendEventErrorResponse(retCode, retCode.getErrMsg(), responseHeaderMap, responseBodyMap, event);
+        }
+
+        public void sendEventErrorResponse(EventMeshRetCode retCode, String retMsg, Map<String, Object> responseHeaderMap,
+                                           Map<String, Object> responseBodyMap, CloudEvent event) {
+            Map<String, Object> traceMap = TraceUtils.isEnabled()
+                ? EventMeshUtil.getCloudEventExtensionMap(SpecVersion.V1.toString(), event) : null;
+            sendErrorResponse(retCode, retMsg, responseHeaderMap, responseBodyMap, traceMap);
+        }
+
         /**
          * @param count
          */
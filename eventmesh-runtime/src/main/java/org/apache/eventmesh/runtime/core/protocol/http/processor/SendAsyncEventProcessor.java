@@ -37,6 +37,7 @@ import org.apache.eventmesh.runtime.constants.EventMeshConstants;
 import org.apache.eventmesh.runtime.core.protocol.http.async.AsyncContext;
 import org.apache.eventmesh.runtime.core.protocol.http.producer.EventMeshProducer;
 import org.apache.eventmesh.runtime.core.protocol.http.producer.SendMessageContext;
+import org.apache.eventmesh.runtime.core.ratelimit.RateLimitResult;
 import org.apache.eventmesh.runtime.util.EventMeshUtil;
 import org.apache.eventmesh.runtime.util.RemotingHelper;
 import org.apache.eventmesh.trace.api.common.EventMeshTraceConstants;
@@ -47,7 +48,6 @@ import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.TimeUnit;
 
 import io.cloudevents.CloudEvent;
 import io.cloudevents.SpecVersion;
@@ -131,8 +131,8 @@ public class SendAsyncEventProcessor implements AsyncHttpProcessor {
                 || event.getSpecVersion() == null
                 || StringUtils.isAnyBlank(event.getId(), event.getType(), event.getSubject())) {
 
-            handlerSpecific.sendErrorResponse(EventMeshRetCode.EVENTMESH_PROTOCOL_HEADER_ERR, responseHeaderMap,
-                    responseBodyMap, EventMeshUtil.getCloudEventExtensionMap(SpecVersion.V1.toString(), event));
+            handlerSpecific.sendEventErrorResponse(EventMeshRetCode.EVENTMESH_PROTOCOL_HEADER_ERR, responseHeaderMap,
+                    responseBodyMap, event);
 
             return;
         }
@@ -145,8 +145,8 @@ public class SendAsyncEventProcessor implements AsyncHttpProcessor {
 
         if (StringUtils.isAnyBlank(idc, pid, sys)
                 || !StringUtils.isNumeric(pid)) {
-            handlerSpecific.sendErrorResponse(EventMeshRetCode.EVENTMESH_PROTOCOL_HEADER_ERR, responseHeaderMap,
-                    responseBodyMap, EventMeshUtil.getCloudEventExtensionMap(SpecVersion.V1.toString(), event));
+            handlerSpecific.sendEventErrorResponse(EventMeshRetCode.EVENTMESH_PROTOCOL_HEADER_ERR, responseHeaderMap,
+                    responseBodyMap, event);
             return;
         }
 
@@ -157,8 +157,8 @@ public class SendAsyncEventProcessor implements AsyncHttpProcessor {
         //validate body
         if (StringUtils.isAnyBlank(bizNo, uniqueId, producerGroup, topic)
                 || event.getData() == null) {
-            handlerSpecific.sendErrorResponse(EventMeshRetCode.EVENTMESH_PROTOCOL_BODY_ERR, responseHeaderMap,
-                    responseBodyMap, EventMeshUtil.getCloudEventExtensionMap(SpecVersion.V1.toString(), event));
+            handlerSpecific.sendEventErrorResponse(EventMeshRetCode.EVENTMESH_PROTOCOL_BODY_ERR, responseHeaderMap,
+                    responseBodyMap, event);
             return;
         }
 
@@ -172,8 +172,8 @@ public class SendAsyncEventProcessor implements AsyncHttpProcessor {
             try {
                 Acl.doAclCheckInHttpSend(remoteAddr, user, pass, subsystem, topic, requestURI);
             } catch (Exception e) {
-                handlerSpecific.sendErrorResponse(EventMeshRetCode.EVENTMESH_ACL_ERR, responseHeaderMap,
-                        responseBodyMap, EventMeshUtil.getCloudEventExtensionMap(SpecVersion.V1.toString(), event));
+                handlerSpecific.sendEventErrorResponse(EventMeshRetCode.EVENTMESH_ACL_ERR, responseHeaderMap,
+                        responseBodyMap, event);
                 if (log.isWarnEnabled()) {
                     log.warn("CLIENT HAS NO PERMISSION,SendAsyncMessageProcessor send failed", e);
                 }
@@ -182,18 +182,20 @@ public class SendAsyncEventProcessor implements AsyncHttpProcessor {
         }
 
         // control flow rate limit
-        if (!eventMeshHTTPServer.getMsgRateLimiter()
-                .tryAcquire(EventMeshConstants.DEFAULT_FASTFAIL_TIMEOUT_IN_MILLISECONDS, TimeUnit.MILLISECONDS)) {
-            handlerSpecific.sendErrorResponse(EventMeshRetCode.EVENTMESH_HTTP_MES_SEND_OVER_LIMIT_ERR, responseHeaderMap,
-                    responseBodyMap, EventMeshUtil.getCloudEventExtensionMap(SpecVersion.V1.toString(), event));
+        RateLimitResult rateLimitResult = eventMeshHTTPServer.getMsgRateLimiter().tryAcquire(producerGroup, topic);
+        if (!rateLimitResult.isPassed()) {
+            eventMeshHTTPServer.getMetrics().getTopicGroupMetrics().recordRateLimited(topic, producerGroup);
+            handlerSpecific.sendEventErrorResponse(EventMeshRetCode.EVENTMESH_HTTP_MES_SEND_OVER_LIMIT_ERR,
+                    EventMeshRetCode.EVENTMESH_HTTP_MES_SEND_OVER_LIMIT_ERR.getErrMsg() + rateLimitResult.getDesc(),
+                    responseHeaderMap, responseBodyMap, event);
             return;
         }
 
         final EventMeshProducer eventMeshProducer = eventMeshHTTPServer.getProducerManager().getEventMeshProducer(producerGroup);
 
         if (!eventMeshProducer.getStarted().get()) {
-            handlerSpecific.sendErrorResponse(EventMeshRetCode.EVENTMESH_GROUP_PRODUCER_STOPED_ERR, responseHeaderMap,
-                    responseBodyMap, EventMeshUtil.getCloudEventExtensionMap(SpecVersion.V1.toString(), event));
+            handlerSpecific.sendEventErrorResponse(EventMeshRetCode.EVENTMESH_GROUP_PRODUCER_STOPED_ERR, responseHeaderMap,
+                    responseBodyMap, event);
             return;
         }
 
@@ -203,8 +205,8 @@ public class SendAsyncEventProcessor implements AsyncHttpProcessor {
                 log.error("Event size exceeds the limit: {}",
                         eventMeshHTTPServer.getEventMeshHttpConfiguration().getEventMeshEventSize());
             }
-            handlerSpecific.sendErrorResponse(EventMeshRetCode.EVENTMESH_PROTOCOL_BODY_SIZE_ERR, responseHeaderMap,
-                    responseBodyMap, EventMeshUtil.getCloudEventExtensionMap(SpecVersion.V1.toString(), event));
+            handlerSpecific.sendEventErrorResponse(EventMeshRetCode.EVENTMESH_PROTOCOL_BODY_SIZE_ERR, responseHeaderMap,
+                    responseBodyMap, event);
             return;
         }
 
@@ -222,14 +224,15 @@ public class SendAsyncEventProcessor implements AsyncHttpProcessor {
             if (log.isErrorEnabled()) {
                 log.error("msg2MQMsg err, bizSeqNo={}, topic={}", bizNo, topic, e);
             }
-            handlerSpecific.sendErrorResponse(EventMeshRetCode.EVENTMESH_PACKAGE_MSG_ERR, responseHeaderMap,
-                    responseBodyMap, EventMeshUtil.getCloudEventExtensionMap(SpecVersion.V1.toString(), event));
+            handlerSpecific.sendEventErrorResponse(EventMeshRetCode.EVENTMESH_PACKAGE_MSG_ERR, responseHeaderMap,
+                    responseBodyMap, event);
             return;
         }
 
         final SendMessageContext sendMessageContext = new SendMessageContext(bizNo, event, eventMeshProducer,
                 eventMeshHTTPServer);
         eventMeshHTTPServer.getMetrics().getSummaryMetrics().recordSendMsg();
+        eventMeshHTTPServer.getMetrics().getTopicGroupMetrics().recordPublish(topic, producerGroup);
 
         final long startTime = System.currentTimeMillis();
 
@@ -237,7 +240,7 @@ public class SendAsyncEventProcessor implements AsyncHttpProcessor {
             event = CloudEventBuilder.from(sendMessageContext.getEvent())
                     .withExtension(EventMeshConstants.REQ_EVENTMESH2MQ_TIMESTAMP, String.valueOf(System.currentTimeMillis()))
                     .build();
-            handlerSpecific.getTraceOperation().createClientTraceOperation(EventMeshUtil.getCloudEventExtensionMap(SpecVersion.V1.toString(), event),
+            handlerSpecific.getTraceOperation().createClientTraceOperation(SpecVersion.V1.toString(), event,
                     EventMeshTraceConstants.TRACE_UPSTREAM_EVENTMESH_CLIENT_SPAN, false);
 
             eventMeshProducer.send(sendMessageContext, new SendCallback() {
@@ -261,8 +264,7 @@ public class SendAsyncEventProcessor implements AsyncHttpProcessor {
                     responseBodyMap.put(EventMeshConstants.RET_MSG, EventMeshRetCode.EVENTMESH_SEND_ASYNC_MSG_ERR.getErrMsg()
                             + EventMeshUtil.stackTrace(context.getException(), 2));
                     eventMeshHTTPServer.getHttpRetryer().pushRetry(sendMessageContext.delay(10_000));
-                    handlerSpecific.getTraceOperation().exceptionLatestTrace(context.getException(),
-                            EventMeshUtil.getCloudEventExtensionMap(SpecVersion.V1.toString(), sendMessageContext.getEvent()));
+                    handlerSpecific.getTraceOperation().exceptionLatestTrace(context.getException(), sendMessageContext.getEvent());
 
                     handlerSpecific.sendResponse(responseHeaderMap, responseBodyMap);
                     if (log.isErrorEnabled()) {
@@ -39,6 +39,7 @@ import org.apache.eventmesh.runtime.core.protocol.http.async.CompleteHandler;
 import org.apache.eventmesh.runtime.core.protocol.http.processor.inf.HttpRequestProcessor;
 import org.apache.eventmesh.runtime.core.protocol.http.producer.EventMeshProducer;
 import org.apache.eventmesh.runtime.core.protocol.http.producer.SendMessageContext;
+import org.apache.eventmesh.runtime.core.ratelimit.RateLimitResult;
 import org.apache.eventmesh.runtime.util.EventMeshUtil;
 import org.apache.eventmesh.runtime.util.RemotingHelper;
 
@@ -46,7 +47,6 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Objects;
-import java.util.concurrent.TimeUnit;
 
 import io.cloudevents.CloudEvent;
 import io.cloudevents.core.builder.CloudEventBuilder;
@@ -179,15 +179,15 @@ public class SendSyncMessageProcessor implements HttpRequestProcessor {
         }
 
         // control flow rate limit
-        if (!eventMeshHTTPServer.getMsgRateLimiter()
-                .tryAcquire(EventMeshConstants.DEFAULT_FASTFAIL_TIMEOUT_IN_MILLISECONDS,
-                        TimeUnit.MILLISECONDS)) {
+        RateLimitResult rateLimitResult = eventMeshHTTPServer.getMsgRateLimiter().tryAcquire(producerGroup, topic);
+        if (!rateLimitResult.isPassed()) {
             responseEventMeshCommand = asyncContext.getRequest().createHttpCommandResponse(
                     sendMessageResponseHeader,
                     SendMessageResponseBody
                             .buildBody(EventMeshRetCode.EVENTMESH_HTTP_MES_SEND_OVER_LIMIT_ERR.getRetCode(),
-                                    EventMeshRetCode.EVENTMESH_HTTP_MES_SEND_OVER_LIMIT_ERR.getErrMsg()));
+                                    EventMeshRetCode.EVENTMESH_HTTP_MES_SEND_OVER_LIMIT_ERR.getErrMsg() + rateLimitResult.getDesc()));
             eventMeshHTTPServer.getMetrics().getSummaryMetrics().recordHTTPDiscard();
+            eventMeshHTTPServer.getMetrics().getTopicGroupMetrics().recordRateLimited(topic, producerGroup);
             asyncContext.onComplete(responseEventMeshCommand);
             return;
         }
@@ -250,6 +250,7 @@ public class SendSyncMessageProcessor implements HttpRequestProcessor {
                 new SendMessageContext(bizNo, newEevent, eventMeshProducer,
                         eventMeshHTTPServer);
         eventMeshHTTPServer.getMetrics().getSummaryMetrics().recordSendMsg();
+        eventMeshHTTPServer.getMetrics().getTopicGroupMetrics().recordPublish(topic, producerGroup);
 
         final long startTime = System.currentTimeMillis();
 
@@ -347,7 +348,7 @@ public class SendSyncMessageProcessor implements HttpRequestProcessor {
             eventMeshHTTPServer.getHttpRetryer().pushRetry(sendMessageContext.delay(10_000));
             final long endTime = System.currentTimeMillis();
             eventMeshHTTPServer.getMetrics().getSummaryMetrics().recordSendMsgFailed();
-            eventMeshHTTPServer.getMetrics().getSummaryMetrics().recordSendMsgCost(endTime - startTime);
+            eventMeshHTTPServer.getMetrics().getSummaryMetrics().recordSendMsgCost(topic, endTime - startTime);
 
             if (log.isErrorEnabled()) {
                 log.error(
@@ -17,6 +17,7 @@
 
 package org.apache.eventmesh.runtime.core.protocol.http.producer;
 
+import org.apache.eventmesh.api.BatchSendCallback;
 import org.apache.eventmesh.api.RequestReplyCallback;
 import org.apache.eventmesh.api.SendCallback;
 import org.apache.eventmesh.runtime.configuration.EventMeshHTTPConfiguration;
@@ -54,6 +55,10 @@ public class EventMeshProducer {
         mqProducerWrapper.send(sendMsgContext.getEvent(), sendCallback);
     }
 
+    public void sendBatch(SendMessageContext sendMsgContext, BatchSendCallback batchSendCallback) throws Exception {
+        mqProducerWrapper.publishBatch(sendMsgContext.getEventList(), batchSendCallback);
+    }
+
     public void request(SendMessageContext sendMsgContext, RequestReplyCallback rrCallback, long timeout)
             throws Exception {
         mqProducerWrapper.request(sendMsgContext.getEvent(), rrCallback, timeout);
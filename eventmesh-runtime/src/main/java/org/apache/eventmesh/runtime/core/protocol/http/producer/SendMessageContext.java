@@ -17,6 +17,7 @@
 
 package org.apache.eventmesh.runtime.core.protocol.http.producer;
 
+import org.apache.eventmesh.api.BatchSendCallback;
 import org.apache.eventmesh.api.SendCallback;
 import org.apache.eventmesh.api.SendResult;
 import org.apache.eventmesh.api.exception.OnExceptionContext;
@@ -134,6 +135,23 @@ public class SendMessageContext extends RetryContext {
         }
 
         retryTimes++;
+        if (eventList != null) {
+            eventMeshProducer.sendBatch(this, new BatchSendCallback() {
+
+                @Override
+                public void onSuccess(List<SendResult> sendResults) {
+                }
+
+                @Override
+                public void onException(List<CloudEvent> failedEvents, OnExceptionContext context) {
+                    logger.warn("", context.getException());
+                    eventMeshHTTPServer.getMetrics().getSummaryMetrics().recordSendBatchMsgFailed(failedEvents.size());
+                }
+
+            });
+            return true;
+        }
+
         eventMeshProducer.send(this, new SendCallback() {
 
             @Override
@@ -17,22 +17,35 @@
 
 package org.apache.eventmesh.runtime.core.protocol.http.push;
 
+import org.apache.eventmesh.common.Constants;
+import org.apache.eventmesh.common.protocol.SubscriptionType;
+import org.apache.eventmesh.common.protocol.http.common.ProtocolKey;
+import org.apache.eventmesh.common.protocol.http.common.ProtocolVersion;
+import org.apache.eventmesh.common.protocol.http.common.RequestCode;
+import org.apache.eventmesh.common.utils.IPUtils;
 import org.apache.eventmesh.runtime.boot.EventMeshHTTPServer;
 import org.apache.eventmesh.runtime.configuration.EventMeshHTTPConfiguration;
 import org.apache.eventmesh.runtime.constants.EventMeshConstants;
 import org.apache.eventmesh.runtime.core.protocol.http.consumer.HandleMsgContext;
 import org.apache.eventmesh.runtime.core.protocol.http.retry.HttpRetryer;
 import org.apache.eventmesh.runtime.core.protocol.http.retry.RetryContext;
+import org.apache.eventmesh.runtime.core.retry.RetryBackoff;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.RandomUtils;
+import org.apache.commons.lang3.StringUtils;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+
 import com.google.common.collect.Lists;
 
 public abstract class AbstractHTTPPushRequest extends RetryContext {
@@ -59,6 +72,11 @@ public abstract class AbstractHTTPPushRequest extends RetryContext {
 
     private AtomicBoolean complete = new AtomicBoolean(Boolean.FALSE);
 
+    /**
+     * Entry of the current attempt in the {@link InflightPushTracker}
+     */
+    volatile InflightPushTracker.Entry inflightEntry;
+
     public AbstractHTTPPushRequest(HandleMsgContext handleMsgContext) {
         this.eventMeshHTTPServer = handleMsgContext.getEventMeshHTTPServer();
         this.handleMsgContext = handleMsgContext;
@@ -86,18 +104,35 @@ public abstract class AbstractHTTPPushRequest extends RetryContext {
     public void delayRetry() {
         if (retryTimes < EventMeshConstants.DEFAULT_PUSH_RETRY_TIMES) {
             retryTimes++;
-            delay(retryTimes * EventMeshConstants.DEFAULT_PUSH_RETRY_TIME_DISTANCE_IN_MILLSECONDS);
+            delay(RetryBackoff.exponential(EventMeshConstants.DEFAULT_PUSH_RETRY_TIME_DISTANCE_IN_MILLSECONDS, retryTimes,
+                EventMeshConstants.DEFAULT_RETRY_MAX_BACKOFF_IN_MILLSECONDS));
             retryer.pushRetry(this);
         } else {
             complete.compareAndSet(Boolean.FALSE, Boolean.TRUE);
         }
     }
 
+    @Override
+    public String getRetryGroup() {
+        return handleMsgContext.getConsumerGroup();
+    }
+
     public String getUrl() {
-        List<String> localIDCUrl = MapUtils.getObject(urls,
-                eventMeshHttpConfiguration.getEventMeshIDC(), null);
+        return selectUrl(urls, eventMeshHttpConfiguration.getEventMeshIDC(), startIdx + retryTimes);
+    }
+
+    /**
+     * Select the push url, the urls of the local IDC are preferred
+     *
+     * @param urls  IDC to urls
+     * @param idc   local IDC
+     * @param index index of the url, wrapped by the number of urls
+     * @return url, null if there is no url
+     */
+    public static String selectUrl(Map<String, List<String>> urls, String idc, int index) {
+        List<String> localIDCUrl = MapUtils.getObject(urls, idc, null);
         if (CollectionUtils.isNotEmpty(localIDCUrl)) {
-            return localIDCUrl.get((startIdx + retryTimes) % localIDCUrl.size());
+            return localIDCUrl.get(index % localIDCUrl.size());
         }
 
         List<String> otherIDCUrl = new ArrayList<String>();
@@ -106,12 +141,44 @@ public abstract class AbstractHTTPPushRequest extends RetryContext {
         }
 
         if (CollectionUtils.isNotEmpty(otherIDCUrl)) {
-            return otherIDCUrl.get((startIdx + retryTimes) % otherIDCUrl.size());
+            return otherIDCUrl.get(index % otherIDCUrl.size());
         }
 
         return null;
     }
 
+    protected String getRequestCode() {
+        if (SubscriptionType.SYNC == handleMsgContext.getSubscriptionItem().getType()) {
+            return String.valueOf(RequestCode.HTTP_PUSH_CLIENT_SYNC.getRequestCode());
+        }
+        return String.valueOf(RequestCode.HTTP_PUSH_CLIENT_ASYNC.getRequestCode());
+    }
+
+    protected HttpHeaders buildPushHeaders(String requestCode) {
+        HttpHeaders headers = new DefaultHttpHeaders();
+        headers.add(ProtocolKey.REQUEST_CODE, requestCode);
+        headers.add(ProtocolKey.LANGUAGE, Constants.LANGUAGE_JAVA);
+        headers.add(ProtocolKey.VERSION, ProtocolVersion.V1.getVersion());
+        headers.add(ProtocolKey.EventMeshInstanceKey.EVENTMESHCLUSTER, eventMeshHttpConfiguration.getEventMeshCluster());
+        headers.add(ProtocolKey.EventMeshInstanceKey.EVENTMESHIP, IPUtils.getLocalAddress());
+        headers.add(ProtocolKey.EventMeshInstanceKey.EVENTMESHENV, eventMeshHttpConfiguration.getEventMeshEnv());
+        headers.add(ProtocolKey.EventMeshInstanceKey.EVENTMESHIDC, eventMeshHttpConfiguration.getEventMeshIDC());
+        return headers;
+    }
+
+    /**
+     * The delay asked by the Retry-After header of a 429 response, in delay-seconds as defined by HTTP
+     *
+     * @return delay in millis, 0 if the header is missing or not a number of seconds
+     */
+    static long retryAfterMillis(HttpHeaders headers) {
+        String retryAfter = headers.get(HttpHeaderNames.RETRY_AFTER);
+        if (!StringUtils.isNumeric(retryAfter)) {
+            return 0;
+        }
+        return TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter));
+    }
+
     public boolean isComplete() {
         return complete.get();
     }
@@ -18,16 +18,13 @@
 package org.apache.eventmesh.runtime.core.protocol.http.push;
 
 import org.apache.eventmesh.common.Constants;
+import org.apache.eventmesh.common.EventEnvelope;
 import org.apache.eventmesh.common.exception.JsonException;
 import org.apache.eventmesh.common.protocol.ProtocolTransportObject;
-import org.apache.eventmesh.common.protocol.SubscriptionType;
 import org.apache.eventmesh.common.protocol.http.HttpCommand;
 import org.apache.eventmesh.common.protocol.http.HttpEventWrapper;
 import org.apache.eventmesh.common.protocol.http.body.message.PushMessageRequestBody;
 import org.apache.eventmesh.common.protocol.http.common.ClientRetCode;
-import org.apache.eventmesh.common.protocol.http.common.ProtocolKey;
-import org.apache.eventmesh.common.protocol.http.common.ProtocolVersion;
-import org.apache.eventmesh.common.protocol.http.common.RequestCode;
 import org.apache.eventmesh.common.utils.IPUtils;
 import org.apache.eventmesh.common.utils.JsonUtils;
 import org.apache.eventmesh.common.utils.RandomStringUtils;
@@ -40,36 +37,26 @@ import org.apache.eventmesh.runtime.util.WebhookUtil;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.time.DateFormatUtils;
-import org.apache.http.Header;
-import org.apache.http.HttpEntity;
-import org.apache.http.HttpResponse;
 import org.apache.http.HttpStatus;
 import org.apache.http.NameValuePair;
-import org.apache.http.client.ResponseHandler;
-import org.apache.http.client.entity.UrlEncodedFormEntity;
-import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.utils.URLEncodedUtils;
 import org.apache.http.message.BasicNameValuePair;
-import org.apache.http.util.EntityUtils;
 
-import java.io.IOException;
-import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.cloudevents.CloudEvent;
-import io.cloudevents.core.builder.CloudEventBuilder;
+import io.netty.handler.codec.http.HttpHeaders;
 
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.google.common.collect.Sets;
 
 public class AsyncHTTPPushRequest extends AbstractHTTPPushRequest {
 
@@ -79,13 +66,19 @@ public class AsyncHTTPPushRequest extends AbstractHTTPPushRequest {
 
     public static final Logger LOGGER = LoggerFactory.getLogger("AsyncHTTPPushRequest");
 
+    private static final String FORM_CONTENT_TYPE = "application/x-www-form-urlencoded; charset=UTF-8";
+
     public String currPushUrl;
-    private Map<String, Set<AbstractHTTPPushRequest>> waitingRequests;
+    private final InflightPushTracker inflightPushTracker;
+
+    /**
+     * incremented by every attempt, a response of an earlier attempt that timed out is ignored
+     */
+    private final AtomicInteger attempt = new AtomicInteger();
 
-    public AsyncHTTPPushRequest(HandleMsgContext handleMsgContext,
-                                Map<String, Set<AbstractHTTPPushRequest>> waitingRequests) {
+    public AsyncHTTPPushRequest(HandleMsgContext handleMsgContext, InflightPushTracker inflightPushTracker) {
         super(handleMsgContext);
-        this.waitingRequests = waitingRequests;
+        this.inflightPushTracker = inflightPushTracker;
     }
 
     @Override
@@ -97,33 +90,15 @@ public class AsyncHTTPPushRequest extends AbstractHTTPPushRequest {
             return;
         }
 
-        HttpPost builder = new HttpPost(currPushUrl);
-
-        String requestCode = "";
-        if (SubscriptionType.SYNC == handleMsgContext.getSubscriptionItem().getType()) {
-            requestCode = String.valueOf(RequestCode.HTTP_PUSH_CLIENT_SYNC.getRequestCode());
-        } else {
-            requestCode = String.valueOf(RequestCode.HTTP_PUSH_CLIENT_ASYNC.getRequestCode());
-        }
+        String requestCode = getRequestCode();
         String localAddress = IPUtils.getLocalAddress();
-        builder.addHeader(ProtocolKey.REQUEST_CODE, requestCode);
-        builder.addHeader(ProtocolKey.LANGUAGE, Constants.LANGUAGE_JAVA);
-        builder.addHeader(ProtocolKey.VERSION, ProtocolVersion.V1.getVersion());
-        builder.addHeader(ProtocolKey.EventMeshInstanceKey.EVENTMESHCLUSTER,
-            handleMsgContext.getEventMeshHTTPServer()
-                .getEventMeshHttpConfiguration().getEventMeshCluster());
-        builder.addHeader(ProtocolKey.EventMeshInstanceKey.EVENTMESHIP, localAddress);
-        builder.addHeader(ProtocolKey.EventMeshInstanceKey.EVENTMESHENV,
-            handleMsgContext.getEventMeshHTTPServer().getEventMeshHttpConfiguration().getEventMeshEnv());
-        builder.addHeader(ProtocolKey.EventMeshInstanceKey.EVENTMESHIDC,
-            handleMsgContext.getEventMeshHTTPServer().getEventMeshHttpConfiguration().getEventMeshIDC());
-
-        CloudEvent event = CloudEventBuilder.from(handleMsgContext.getEvent())
+        HttpHeaders builder = buildPushHeaders(requestCode);
+
+        EventEnvelope event = EventEnvelope.copyOf(handleMsgContext.getEvent())
             .withExtension(EventMeshConstants.REQ_EVENTMESH2C_TIMESTAMP,
                 String.valueOf(System.currentTimeMillis()))
             .withExtension(EventMeshConstants.RSP_URL, currPushUrl)
-            .withExtension(EventMeshConstants.RSP_GROUP, handleMsgContext.getConsumerGroup())
-            .build();
+            .withExtension(EventMeshConstants.RSP_GROUP, handleMsgContext.getConsumerGroup());
         handleMsgContext.setEvent(event);
 
         String content = "";
@@ -133,7 +108,7 @@ public class AsyncHTTPPushRequest extends AbstractHTTPPushRequest {
             ProtocolAdaptor<ProtocolTransportObject> protocolAdaptor = ProtocolPluginFactory.getProtocolAdaptor(protocolType);
 
             ProtocolTransportObject protocolTransportObject =
-                protocolAdaptor.fromCloudEvent(handleMsgContext.getEvent());
+                protocolAdaptor.fromCloudEvent(event.toCloudEvent());
             if (protocolTransportObject instanceof HttpCommand) {
                 content = ((HttpCommand) protocolTransportObject).getBody().toMap().get("content").toString();
             } else {
@@ -142,8 +117,8 @@ public class AsyncHTTPPushRequest extends AbstractHTTPPushRequest {
                 Set<Map.Entry<String, Object>> sysHeaderMapEntry = sysHeaderMap.entrySet();
                 content = new String(httpEventWrapper.getBody(), StandardCharsets.UTF_8);
                 for (Map.Entry<String, Object> header : sysHeaderMapEntry) {
-                    if (!builder.containsHeader(header.getKey())) {
-                        builder.addHeader(header.getKey(), header.getValue().toString());
+                    if (!builder.contains(header.getKey())) {
+                        builder.add(header.getKey(), header.getValue().toString());
                     }
                 }
             }
@@ -177,110 +152,107 @@ public class AsyncHTTPPushRequest extends AbstractHTTPPushRequest {
         body.add(new BasicNameValuePair(PushMessageRequestBody.EXTFIELDS,
             JsonUtils.serialize(EventMeshUtil.getEventProp(handleMsgContext.getEvent()))));
 
-        HttpEntity httpEntity = new UrlEncodedFormEntity(body, StandardCharsets.UTF_8);
-
-        builder.setEntity(httpEntity);
-
         // for CloudEvents Webhook spec
         String urlAuthType = handleMsgContext.getConsumerGroupConfig().getConsumerGroupTopicConf()
             .get(handleMsgContext.getTopic()).getHttpAuthTypeMap().get(currPushUrl);
 
-        WebhookUtil.setWebhookHeaders(builder, httpEntity.getContentType().getValue(),
+        WebhookUtil.setWebhookHeaders(builder, FORM_CONTENT_TYPE,
             eventMeshHttpConfiguration.getEventMeshWebhookOrigin(),
             urlAuthType);
 
 
         eventMeshHTTPServer.getMetrics().getSummaryMetrics().recordPushMsg();
+        eventMeshHTTPServer.getMetrics().getTopicGroupMetrics()
+            .recordPush(handleMsgContext.getTopic(), handleMsgContext.getConsumerGroup());
 
         this.lastPushTime = System.currentTimeMillis();
 
-        addToWaitingMap(this);
+        final int currentAttempt = attempt.incrementAndGet();
+        inflightPushTracker.add(this);
 
         if (CMD_LOGGER.isInfoEnabled()) {
             CMD_LOGGER.info("cmd={}|eventMesh2client|from={}|to={}", requestCode,
                 localAddress, currPushUrl);
         }
 
-        try {
-            eventMeshHTTPServer.httpClientPool.getClient().execute(builder, new ResponseHandler<Object>() {
-                @Override
-                public Object handleResponse(HttpResponse response) {
-                    removeWaitingMap(AsyncHTTPPushRequest.this);
-                    long cost = System.currentTimeMillis() - lastPushTime;
-                    eventMeshHTTPServer.getMetrics().getSummaryMetrics().recordHTTPPushTimeCost(cost);
-
-                    if (processResponseStatus(response.getStatusLine().getStatusCode(), response)) {
-                        // this is successful response, process response payload
-                        String res = "";
-                        try {
-                            res = EntityUtils.toString(response.getEntity(),
-                                Charset.forName(EventMeshConstants.DEFAULT_CHARSET));
-                        } catch (IOException e) {
-                            handleMsgContext.finish();
-                            return new Object();
-                        }
-                        ClientRetCode result = processResponseContent(res);
-                        if (MESSAGE_LOGGER.isInfoEnabled()) {
-                            MESSAGE_LOGGER.info(
-                                "message|eventMesh2client|{}|url={}|topic={}|bizSeqNo={}"
-                                    + "|uniqueId={}|cost={}",
-                                result, currPushUrl, handleMsgContext.getTopic(),
-                                handleMsgContext.getBizSeqNo(), handleMsgContext.getUniqueId(), cost);
-                        }
-                        if (result == ClientRetCode.OK || result == ClientRetCode.REMOTE_OK) {
-                            complete();
-                            if (isComplete()) {
-                                handleMsgContext.finish();
-                            }
-                        } else if (result == ClientRetCode.RETRY) {
-                            delayRetry();
-                            if (isComplete()) {
-                                handleMsgContext.finish();
-                            }
-                        } else if (result == ClientRetCode.NOLISTEN) {
-                            delayRetry();
-                            if (isComplete()) {
-                                handleMsgContext.finish();
-                            }
-                        } else if (result == ClientRetCode.FAIL) {
-                            complete();
-                            if (isComplete()) {
-                                handleMsgContext.finish();
-                            }
-                        }
-                    } else {
-                        eventMeshHTTPServer.getMetrics().getSummaryMetrics().recordHttpPushMsgFailed();
-                        if (MESSAGE_LOGGER.isInfoEnabled()) {
-                            MESSAGE_LOGGER.info(
-                                "message|eventMesh2client|exception|url={}|topic={}|bizSeqNo={}"
-                                    + "|uniqueId={}|cost={}", currPushUrl, handleMsgContext.getTopic(),
-                                handleMsgContext.getBizSeqNo(), handleMsgContext.getUniqueId(), cost);
-                        }
-
-                        if (isComplete()) {
-                            handleMsgContext.finish();
-                        }
-                    }
-                    return new Object();
+        byte[] httpEntity = URLEncodedUtils.format(body, StandardCharsets.UTF_8).getBytes(StandardCharsets.UTF_8);
+        eventMeshHTTPServer.getHttpPushClient().post(currPushUrl, builder, httpEntity).whenComplete((response, throwable) -> {
+            if (currentAttempt != attempt.get()) {
+                // the timeout of this attempt released its entry already, the current entry belongs to the next attempt
+                return;
+            }
+            inflightPushTracker.remove(AsyncHTTPPushRequest.this);
+            if (throwable != null) {
+                MESSAGE_LOGGER.error("push2client err, url={}", currPushUrl, throwable);
+                delayRetry();
+                if (isComplete()) {
+                    handleMsgContext.finish();
                 }
-            });
+                return;
+            }
+            handleResponse(response);
+        });
 
-            if (MESSAGE_LOGGER.isDebugEnabled()) {
-                MESSAGE_LOGGER.debug("message|eventMesh2client|url={}|topic={}|event={}", currPushUrl,
-                    handleMsgContext.getTopic(),
-                    handleMsgContext.getEvent());
-            } else {
-                if (MESSAGE_LOGGER.isInfoEnabled()) {
-                    MESSAGE_LOGGER
-                        .info("message|eventMesh2client|url={}|topic={}|bizSeqNo={}|uniqueId={}",
-                            currPushUrl, handleMsgContext.getTopic(),
-                            handleMsgContext.getBizSeqNo(), handleMsgContext.getUniqueId());
+        if (MESSAGE_LOGGER.isDebugEnabled()) {
+            MESSAGE_LOGGER.debug("message|eventMesh2client|url={}|topic={}|event={}", currPushUrl,
+                handleMsgContext.getTopic(),
+                handleMsgContext.getEvent());
+        } else {
+            if (MESSAGE_LOGGER.isInfoEnabled()) {
+                MESSAGE_LOGGER
+                    .info("message|eventMesh2client|url={}|topic={}|bizSeqNo={}|uniqueId={}",
+                        currPushUrl, handleMsgContext.getTopic(),
+                        handleMsgContext.getBizSeqNo(), handleMsgContext.getUniqueId());
+            }
+        }
+    }
+
+    private void handleResponse(HTTPPushClient.Response response) {
+        long cost = System.currentTimeMillis() - lastPushTime;
+        eventMeshHTTPServer.getMetrics().getSummaryMetrics().recordHTTPPushTimeCost(handleMsgContext.getTopic(), cost);
+
+        if (processResponseStatus(response.getStatusCode(), response.getHeaders())) {
+            // this is successful response, process response payload
+            ClientRetCode result = processResponseContent(response.getContent());
+            if (MESSAGE_LOGGER.isInfoEnabled()) {
+                MESSAGE_LOGGER.info(
+                    "message|eventMesh2client|{}|url={}|topic={}|bizSeqNo={}"
+                        + "|uniqueId={}|cost={}",
+                    result, currPushUrl, handleMsgContext.getTopic(),
+                    handleMsgContext.getBizSeqNo(), handleMsgContext.getUniqueId(), cost);
+            }
+            if (result == ClientRetCode.OK || result == ClientRetCode.REMOTE_OK) {
+                complete();
+                if (isComplete()) {
+                    handleMsgContext.finish();
+                }
+            } else if (result == ClientRetCode.RETRY) {
+                delayRetry();
+                if (isComplete()) {
+                    handleMsgContext.finish();
+                }
+            } else if (result == ClientRetCode.NOLISTEN) {
+                delayRetry();
+                if (isComplete()) {
+                    handleMsgContext.finish();
+                }
+            } else if (result == ClientRetCode.FAIL) {
+                complete();
+                if (isComplete()) {
+                    handleMsgContext.finish();
                 }
             }
-        } catch (IOException e) {
-            MESSAGE_LOGGER.error("push2client err", e);
-            removeWaitingMap(this);
-            delayRetry();
+        } else {
+            eventMeshHTTPServer.getMetrics().getSummaryMetrics().recordHttpPushMsgFailed();
+            eventMeshHTTPServer.getMetrics().getTopicGroupMetrics()
+                .recordPushFailed(handleMsgContext.getTopic(), handleMsgContext.getConsumerGroup());
+            if (MESSAGE_LOGGER.isInfoEnabled()) {
+                MESSAGE_LOGGER.info(
+                    "message|eventMesh2client|exception|url={}|topic={}|bizSeqNo={}"
+                        + "|uniqueId={}|cost={}", currPushUrl, handleMsgContext.getTopic(),
+                    handleMsgContext.getBizSeqNo(), handleMsgContext.getUniqueId(), cost);
+            }
+
             if (isComplete()) {
                 handleMsgContext.finish();
             }
@@ -304,7 +276,7 @@ public class AsyncHTTPPushRequest extends AbstractHTTPPushRequest {
         return sb.toString();
     }
 
-    boolean processResponseStatus(int httpStatus, HttpResponse httpResponse) {
+    boolean processResponseStatus(int httpStatus, HttpHeaders httpHeaders) {
         if (httpStatus == HttpStatus.SC_OK || httpStatus == HttpStatus.SC_CREATED
             || httpStatus == HttpStatus.SC_NO_CONTENT || httpStatus == HttpStatus.SC_ACCEPTED) {
             // success http response
@@ -314,9 +286,9 @@ public class AsyncHTTPPushRequest extends AbstractHTTPPushRequest {
 
             // Response Status code is 429 Too Many Requests
             // retry after the time specified by the header
-            Optional<Header> optHeader = Arrays.stream(httpResponse.getHeaders("Retry-After")).findAny();
-            if (optHeader.isPresent() && StringUtils.isNumeric(optHeader.get().getValue())) {
-                delayRetry(Long.parseLong(optHeader.get().getValue()));
+            long retryAfter = retryAfterMillis(httpHeaders);
+            if (retryAfter > 0) {
+                delayRetry(retryAfter);
             }
             return false;
         } else if (httpStatus == HttpStatus.SC_GONE || httpStatus == HttpStatus.SC_UNSUPPORTED_MEDIA_TYPE) {
@@ -365,19 +337,15 @@ public class AsyncHTTPPushRequest extends AbstractHTTPPushRequest {
         }
     }
 
-    private void addToWaitingMap(AsyncHTTPPushRequest request) {
-        if (waitingRequests.containsKey(request.handleMsgContext.getConsumerGroup())) {
-            waitingRequests.get(request.handleMsgContext.getConsumerGroup()).add(request);
-            return;
-        }
-        waitingRequests
-            .put(request.handleMsgContext.getConsumerGroup(), Sets.newConcurrentHashSet());
-        waitingRequests.get(request.handleMsgContext.getConsumerGroup()).add(request);
-    }
-
-    private void removeWaitingMap(AsyncHTTPPushRequest request) {
-        if (waitingRequests.containsKey(request.handleMsgContext.getConsumerGroup())) {
-            waitingRequests.get(request.handleMsgContext.getConsumerGroup()).remove(request);
+    @Override
+    public void timeout() {
+        if (!isComplete() && System.currentTimeMillis() - lastPushTime >= ttl) {
+            // the response of the timed out attempt is ignored
+            attempt.incrementAndGet();
+            delayRetry();
+            if (isComplete()) {
+                handleMsgContext.finish();
+            }
         }
     }
 
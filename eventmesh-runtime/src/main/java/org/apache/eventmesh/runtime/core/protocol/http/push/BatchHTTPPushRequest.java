@@ -0,0 +1,364 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.http.push;
+
+import org.apache.eventmesh.common.Constants;
+import org.apache.eventmesh.common.EventEnvelope;
+import org.apache.eventmesh.common.protocol.http.common.ClientRetCode;
+import org.apache.eventmesh.common.utils.JsonUtils;
+import org.apache.eventmesh.runtime.constants.EventMeshConstants;
+import org.apache.eventmesh.runtime.core.protocol.http.consumer.HandleMsgContext;
+import org.apache.eventmesh.runtime.util.WebhookUtil;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.time.DateFormatUtils;
+import org.apache.http.HttpStatus;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.format.EventFormat;
+import io.cloudevents.jackson.JsonFormat;
+import io.netty.handler.codec.http.HttpHeaders;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Push several events of a topic to one subscriber url in a single request.
+ *
+ * <p>The body is a CloudEvents json batch, an array of structured json events. The subscriber answers with
+ * either one result for the whole batch, {@code {"retCode":1}}, or one result per event in the order of the
+ * request, {@code [{"retCode":1},{"retCode":2}]}. The events answered with RETRY or NOLISTEN are pushed again
+ * in the next attempt, the others are finished.
+ */
+public class BatchHTTPPushRequest extends AbstractHTTPPushRequest {
+
+    public static final Logger MESSAGE_LOGGER = LoggerFactory.getLogger("message");
+
+    public static final Logger CMD_LOGGER = LoggerFactory.getLogger("cmd");
+
+    public static final String CLOUDEVENTS_BATCH_CONTENT_TYPE = "application/cloudevents-batch+json; charset=UTF-8";
+
+    private static final EventFormat JSON_FORMAT = new JsonFormat();
+
+    /**
+     * events without a data content type are not necessarily json, their data is written as base64
+     */
+    private static final EventFormat BASE64_DATA_JSON_FORMAT = new JsonFormat(true, false);
+
+    private final InflightPushTracker inflightPushTracker;
+
+    /**
+     * the events not acked yet, in push order
+     */
+    private volatile List<Item> items;
+
+    /**
+     * incremented by every attempt, a response of an earlier attempt that timed out is ignored
+     */
+    private final AtomicInteger attempt = new AtomicInteger();
+
+    private String currPushUrl;
+
+    /**
+     * @param url the subscriber url the events were batched for, the first attempt goes to it and the retries rotate
+     *            away from it
+     */
+    public BatchHTTPPushRequest(List<Item> items, String url, InflightPushTracker inflightPushTracker) {
+        super(items.get(0).getHandleMsgContext());
+        this.items = Collections.unmodifiableList(new ArrayList<>(items));
+        this.inflightPushTracker = inflightPushTracker;
+        String idc = eventMeshHttpConfiguration.getEventMeshIDC();
+        for (int i = 0; i < totalUrls.size(); i++) {
+            if (url.equals(selectUrl(urls, idc, i))) {
+                this.startIdx = i;
+                break;
+            }
+        }
+    }
+
+    /**
+     * Serialize the event as a structured json CloudEvent, the element of a batch
+     */
+    public static Item newItem(HandleMsgContext handleMsgContext, String url) {
+        EventEnvelope event = EventEnvelope.copyOf(handleMsgContext.getEvent())
+            .withExtension(EventMeshConstants.REQ_EVENTMESH2C_TIMESTAMP, String.valueOf(System.currentTimeMillis()))
+            .withExtension(EventMeshConstants.RSP_URL, url)
+            .withExtension(EventMeshConstants.RSP_GROUP, handleMsgContext.getConsumerGroup());
+        handleMsgContext.setEvent(event);
+        EventFormat eventFormat = event.getDataContentType() == null && event.getData() != null
+            ? BASE64_DATA_JSON_FORMAT : JSON_FORMAT;
+        return new Item(handleMsgContext, url, eventFormat.serialize(event));
+    }
+
+    @Override
+    public void tryHTTPRequest() {
+        currPushUrl = getUrl();
+        if (StringUtils.isBlank(currPushUrl)) {
+            return;
+        }
+
+        final List<Item> sending = forUrl(items, currPushUrl);
+        items = sending;
+        final int currentAttempt = attempt.incrementAndGet();
+        String requestCode = getRequestCode();
+        HttpHeaders headers = buildPushHeaders(requestCode);
+
+        String urlAuthType = handleMsgContext.getConsumerGroupConfig().getConsumerGroupTopicConf()
+            .get(handleMsgContext.getTopic()).getHttpAuthTypeMap().get(currPushUrl);
+        WebhookUtil.setWebhookHeaders(headers, CLOUDEVENTS_BATCH_CONTENT_TYPE,
+            eventMeshHttpConfiguration.getEventMeshWebhookOrigin(), urlAuthType);
+
+        for (int i = 0; i < sending.size(); i++) {
+            eventMeshHTTPServer.getMetrics().getSummaryMetrics().recordPushMsg();
+            eventMeshHTTPServer.getMetrics().getTopicGroupMetrics()
+                .recordPush(handleMsgContext.getTopic(), handleMsgContext.getConsumerGroup());
+        }
+        this.lastPushTime = System.currentTimeMillis();
+        inflightPushTracker.add(this);
+
+        if (CMD_LOGGER.isInfoEnabled()) {
+            CMD_LOGGER.info("cmd={}|eventMesh2client|batch|to={}|size={}", requestCode, currPushUrl, sending.size());
+        }
+
+        eventMeshHTTPServer.getHttpPushClient().post(currPushUrl, headers, encode(sending)).whenComplete((response, throwable) -> {
+            if (currentAttempt != attempt.get()) {
+                // the timeout of this attempt released its entry already, the current entry belongs to the next attempt
+                return;
+            }
+            inflightPushTracker.remove(this);
+            if (throwable != null) {
+                MESSAGE_LOGGER.error("batch push2client err, url={}, size={}", currPushUrl, sending.size(), throwable);
+                retryOrFinish(sending);
+                return;
+            }
+            handleResponse(response, sending);
+        });
+    }
+
+    private void handleResponse(HTTPPushClient.Response response, List<Item> sending) {
+        long cost = System.currentTimeMillis() - lastPushTime;
+        eventMeshHTTPServer.getMetrics().getSummaryMetrics().recordHTTPPushTimeCost(handleMsgContext.getTopic(), cost);
+
+        int httpStatus = response.getStatusCode();
+        if (httpStatus == HttpStatus.SC_GONE || httpStatus == HttpStatus.SC_UNSUPPORTED_MEDIA_TYPE) {
+            // failed with no retry
+            eventMeshHTTPServer.getMetrics().getSummaryMetrics().recordHttpPushMsgFailed();
+            eventMeshHTTPServer.getMetrics().getTopicGroupMetrics()
+                .recordPushFailed(handleMsgContext.getTopic(), handleMsgContext.getConsumerGroup());
+            complete();
+            finish(sending);
+            return;
+        }
+        if (httpStatus < HttpStatus.SC_OK || httpStatus >= HttpStatus.SC_MULTIPLE_CHOICES) {
+            eventMeshHTTPServer.getMetrics().getSummaryMetrics().recordHttpPushMsgFailed();
+            eventMeshHTTPServer.getMetrics().getTopicGroupMetrics()
+                .recordPushFailed(handleMsgContext.getTopic(), handleMsgContext.getConsumerGroup());
+            if (MESSAGE_LOGGER.isInfoEnabled()) {
+                MESSAGE_LOGGER.info("message|eventMesh2client|batch|exception|url={}|topic={}|status={}|size={}|cost={}",
+                    currPushUrl, handleMsgContext.getTopic(), httpStatus, sending.size(), cost);
+            }
+            long retryAfter = httpStatus == 429 ? retryAfterMillis(response.getHeaders()) : 0;
+            if (retryAfter > 0) {
+                delayRetry(retryAfter);
+                if (isComplete()) {
+                    finish(sending);
+                }
+                return;
+            }
+            retryOrFinish(sending);
+            return;
+        }
+
+        List<ClientRetCode> results = processResponseContent(response.getContent(), sending.size());
+        List<Item> retryItems = new ArrayList<>();
+        List<Item> finishedItems = new ArrayList<>(sending.size());
+        for (int i = 0; i < sending.size(); i++) {
+            ClientRetCode result = results.get(i);
+            if (result == ClientRetCode.RETRY || result == ClientRetCode.NOLISTEN) {
+                retryItems.add(sending.get(i));
+            } else {
+                finishedItems.add(sending.get(i));
+            }
+        }
+        finish(finishedItems);
+        if (MESSAGE_LOGGER.isInfoEnabled()) {
+            MESSAGE_LOGGER.info("message|eventMesh2client|batch|url={}|topic={}|size={}|retry={}|cost={}",
+                currPushUrl, handleMsgContext.getTopic(), sending.size(), retryItems.size(), cost);
+        }
+        if (retryItems.isEmpty()) {
+            complete();
+            return;
+        }
+        items = Collections.unmodifiableList(retryItems);
+        retryOrFinish(retryItems);
+    }
+
+    /**
+     * Map the response content to one result per event, an unknown result is regarded as FAIL
+     */
+    List<ClientRetCode> processResponseContent(String content, int size) {
+        List<ClientRetCode> results = new ArrayList<>(Collections.nCopies(size, ClientRetCode.FAIL));
+        if (StringUtils.isBlank(content)) {
+            return results;
+        }
+        try {
+            JsonNode jsonNode = JsonUtils.getJsonNode(content);
+            if (jsonNode.isArray()) {
+                for (int i = 0; i < Math.min(size, jsonNode.size()); i++) {
+                    results.set(i, toClientRetCode(jsonNode.get(i)));
+                }
+            } else {
+                Collections.fill(results, toClientRetCode(jsonNode));
+            }
+        } catch (Exception e) {
+            if (MESSAGE_LOGGER.isWarnEnabled()) {
+                MESSAGE_LOGGER.warn("url:{}, topic:{}, httpResponse:{}", currPushUrl, handleMsgContext.getTopic(), content);
+            }
+        }
+        return results;
+    }
+
+    private static ClientRetCode toClientRetCode(JsonNode result) {
+        JsonNode retCode = result != null && result.isObject() ? result.get("retCode") : result;
+        if (retCode != null && retCode.isInt() && ClientRetCode.contains(retCode.intValue())) {
+            return ClientRetCode.get(retCode.intValue());
+        }
+        return ClientRetCode.FAIL;
+    }
+
+    private void retryOrFinish(List<Item> pending) {
+        delayRetry();
+        if (isComplete()) {
+            finish(pending);
+        }
+    }
+
+    private static void finish(List<Item> pending) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<HandleMsgContext> handleMsgContexts = new ArrayList<>(pending.size());
+        pending.forEach(item -> handleMsgContexts.add(item.getHandleMsgContext()));
+        HandleMsgContext.finish(handleMsgContexts);
+    }
+
+    /**
+     * The events carry the subscriber url they are pushed to, a retry to another subscriber serializes them again.
+     */
+    static List<Item> forUrl(List<Item> items, String url) {
+        if (items.stream().allMatch(item -> url.equals(item.getUrl()))) {
+            return items;
+        }
+        List<Item> rebased = new ArrayList<>(items.size());
+        for (Item item : items) {
+            rebased.add(url.equals(item.getUrl()) ? item : newItem(item.getHandleMsgContext(), url));
+        }
+        return Collections.unmodifiableList(rebased);
+    }
+
+    static byte[] encode(List<Item> items) {
+        int size = 2 + items.size();
+        for (Item item : items) {
+            size += item.getBody().length;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(size);
+        out.write('[');
+        for (int i = 0; i < items.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.write(items.get(i).getBody(), 0, items.get(i).getBody().length);
+        }
+        out.write(']');
+        return out.toByteArray();
+    }
+
+    public List<Item> getItems() {
+        return items;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("batchPushRequest={")
+            .append("topic=").append(handleMsgContext.getTopic())
+            .append(",size=").append(items.size())
+            .append(",startIdx=").append(startIdx)
+            .append(",retryTimes=").append(retryTimes)
+            .append(",executeTime=")
+            .append(DateFormatUtils.format(executeTime, Constants.DATE_FORMAT))
+            .append(",lastPushTime=")
+            .append(DateFormatUtils.format(lastPushTime, Constants.DATE_FORMAT))
+            .append(",createTime=")
+            .append(DateFormatUtils.format(createTime, Constants.DATE_FORMAT)).append("}");
+        return sb.toString();
+    }
+
+    @Override
+    public void timeout() {
+        if (!isComplete() && System.currentTimeMillis() - lastPushTime >= ttl) {
+            // the response of the timed out attempt is ignored
+            attempt.incrementAndGet();
+            retryOrFinish(items);
+        }
+    }
+
+    @Override
+    public boolean retry() {
+        tryHTTPRequest();
+        return true;
+    }
+
+    /**
+     * An event of a batch and its serialized form
+     */
+    public static class Item {
+
+        private final HandleMsgContext handleMsgContext;
+
+        private final String url;
+
+        private final byte[] body;
+
+        public Item(HandleMsgContext handleMsgContext, String url, byte[] body) {
+            this.handleMsgContext = handleMsgContext;
+            this.url = url;
+            this.body = body;
+        }
+
+        public HandleMsgContext getHandleMsgContext() {
+            return handleMsgContext;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.http.push;
+
+import org.apache.eventmesh.common.protocol.BatchPushConfig;
+import org.apache.eventmesh.runtime.core.protocol.http.consumer.HandleMsgContext;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collect the events of batch push subscriptions per topic and subscriber url, a batch is pushed by a
+ * {@link BatchHTTPPushRequest} when it reaches the max size or max bytes, or when its first event has waited
+ * for the max linger time.
+ */
+public class BatchPushAccumulator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchPushAccumulator.class);
+
+    private final InflightPushTracker inflightPushTracker;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final ConcurrentHashMap<Pair<String, String>, Batch> batches = new ConcurrentHashMap<>();
+
+    public BatchPushAccumulator(InflightPushTracker inflightPushTracker, ScheduledExecutorService scheduler) {
+        this.inflightPushTracker = inflightPushTracker;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Add the event to the batch of its topic and a subscriber url
+     *
+     * @return false if the event can not be pushed
+     */
+    public boolean add(HandleMsgContext handleMsgContext) {
+        BatchPushConfig batchPushConfig = handleMsgContext.getConsumeTopicConfig().getBatchPushConfig();
+        String url = AbstractHTTPPushRequest.selectUrl(handleMsgContext.getConsumeTopicConfig().getIdcUrls(),
+            handleMsgContext.getEventMeshHTTPServer().getEventMeshHttpConfiguration().getEventMeshIDC(),
+            ThreadLocalRandom.current().nextInt(Integer.MAX_VALUE));
+        if (batchPushConfig == null || StringUtils.isBlank(url)) {
+            return false;
+        }
+
+        BatchHTTPPushRequest.Item item;
+        try {
+            item = BatchHTTPPushRequest.newItem(handleMsgContext, url);
+        } catch (Exception e) {
+            LOGGER.error("serialize event for batch push failed, topic: {}", handleMsgContext.getTopic(), e);
+            return false;
+        }
+
+        Pair<String, String> key = Pair.of(handleMsgContext.getTopic(), url);
+        List<BatchHTTPPushRequest.Item> ready = null;
+        boolean added = false;
+        while (!added) {
+            Batch batch = batches.computeIfAbsent(key, Batch::new);
+            synchronized (batch) {
+                // the batch was drained and removed after it was got from the map, add to a new one
+                if (batch.removed) {
+                    continue;
+                }
+                batch.items.add(item);
+                batch.bytes += item.getBody().length;
+                if (batch.items.size() >= batchPushConfig.getMaxBatchSize() || batch.bytes >= batchPushConfig.getMaxBatchBytes()) {
+                    ready = drain(batch);
+                } else if (batch.items.size() == 1) {
+                    batch.lingerFuture = scheduler.schedule(() -> flush(batch), batchPushConfig.getMaxLingerMills(),
+                        TimeUnit.MILLISECONDS);
+                }
+                added = true;
+            }
+        }
+        if (ready != null) {
+            push(url, ready);
+        }
+        return true;
+    }
+
+    /**
+     * Push all the collected events
+     */
+    public void flush() {
+        batches.values().forEach(this::flush);
+    }
+
+    private void flush(Batch batch) {
+        List<BatchHTTPPushRequest.Item> ready;
+        synchronized (batch) {
+            ready = drain(batch);
+        }
+        if (!ready.isEmpty()) {
+            push(batch.key.getRight(), ready);
+        }
+    }
+
+    /**
+     * Take the events of the batch and remove the batch from the map, the next event of the same topic and url
+     * starts a new batch, so the map only holds the batches with events waiting to be pushed
+     */
+    private List<BatchHTTPPushRequest.Item> drain(Batch batch) {
+        List<BatchHTTPPushRequest.Item> drained = batch.drain();
+        if (!batch.removed) {
+            batch.removed = true;
+            batches.remove(batch.key, batch);
+        }
+        return drained;
+    }
+
+    int getBatchCount() {
+        return batches.size();
+    }
+
+    private void push(String url, List<BatchHTTPPushRequest.Item> ready) {
+        try {
+            new BatchHTTPPushRequest(ready, url, inflightPushTracker).tryHTTPRequest();
+        } catch (Exception e) {
+            LOGGER.error("batch push failed, topic: {}, size: {}", ready.get(0).getHandleMsgContext().getTopic(),
+                ready.size(), e);
+        }
+    }
+
+    private static class Batch {
+
+        private final Pair<String, String> key;
+
+        private List<BatchHTTPPushRequest.Item> items = new ArrayList<>();
+
+        private int bytes;
+
+        private ScheduledFuture<?> lingerFuture;
+
+        private boolean removed;
+
+        private Batch(Pair<String, String> key) {
+            this.key = key;
+        }
+
+        private List<BatchHTTPPushRequest.Item> drain() {
+            if (lingerFuture != null) {
+                lingerFuture.cancel(false);
+                lingerFuture = null;
+            }
+            if (items.isEmpty()) {
+                return Collections.emptyList();
+            }
+            List<BatchHTTPPushRequest.Item> drained = items;
+            items = new ArrayList<>();
+            bytes = 0;
+            return drained;
+        }
+    }
+}
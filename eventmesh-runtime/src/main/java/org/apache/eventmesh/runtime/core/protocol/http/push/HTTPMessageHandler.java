@@ -22,27 +22,18 @@ import org.apache.eventmesh.common.ThreadPoolFactory;
 import org.apache.eventmesh.runtime.core.protocol.http.consumer.EventMeshConsumer;
 import org.apache.eventmesh.runtime.core.protocol.http.consumer.HandleMsgContext;
 import org.apache.eventmesh.runtime.trace.TraceUtils;
-import org.apache.eventmesh.runtime.util.EventMeshUtil;
 import org.apache.eventmesh.trace.api.common.EventMeshTraceConstants;
 
-import org.apache.commons.collections4.MapUtils;
-
-import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.opentelemetry.api.trace.Span;
 
-import com.google.common.collect.Maps;
-import com.google.common.collect.Sets;
-
 public class HTTPMessageHandler implements MessageHandler {
 
     public static final Logger LOGGER = LoggerFactory.getLogger(HTTPMessageHandler.class);
@@ -50,52 +41,45 @@ public class HTTPMessageHandler implements MessageHandler {
     private transient EventMeshConsumer eventMeshConsumer;
 
     private static final transient ScheduledExecutorService SCHEDULER =
-            ThreadPoolFactory.createSingleScheduledExecutor("eventMesh-pushMsgTimeout-");
+            ThreadPoolFactory.createSingleScheduledExecutor("eventMesh-batchPushLinger-");
 
     private static final Integer CONSUMER_GROUP_WAITING_REQUEST_THRESHOLD = 10000;
 
-    public static final transient Map<String, Set<AbstractHTTPPushRequest>> waitingRequests = Maps.newConcurrentMap();
-
     private transient ThreadPoolExecutor pushExecutor;
 
-    private void checkTimeout() {
-        waitingRequests.forEach((key, value) -> {
-            value.forEach(r -> {
-                r.timeout();
-                waitingRequests.get(r.handleMsgContext.getConsumerGroup()).remove(r);
-            });
-        });
-
-    }
+    private final transient InflightPushTracker inflightPushTracker;
 
+    private final transient BatchPushAccumulator batchPushAccumulator;
 
     public HTTPMessageHandler(EventMeshConsumer eventMeshConsumer) {
         this.eventMeshConsumer = eventMeshConsumer;
         this.pushExecutor = eventMeshConsumer.getEventMeshHTTPServer().pushMsgExecutor;
-        waitingRequests.put(this.eventMeshConsumer.getConsumerGroupConf().getConsumerGroup(), Sets.newConcurrentHashSet());
-        SCHEDULER.scheduleAtFixedRate(this::checkTimeout, 0, 1000, TimeUnit.MILLISECONDS);
+        this.inflightPushTracker = eventMeshConsumer.getEventMeshHTTPServer().getInflightPushTracker();
+        this.batchPushAccumulator = new BatchPushAccumulator(inflightPushTracker, SCHEDULER);
     }
 
     @Override
     public boolean handle(final HandleMsgContext handleMsgContext) {
-        if (MapUtils.getObject(waitingRequests, handleMsgContext.getConsumerGroup(), Sets.newConcurrentHashSet()).size()
-                > CONSUMER_GROUP_WAITING_REQUEST_THRESHOLD) {
+        if (inflightPushTracker.size(handleMsgContext.getConsumerGroup()) > CONSUMER_GROUP_WAITING_REQUEST_THRESHOLD) {
             LOGGER.warn("waitingRequests is too many, so reject, this message will be send back to MQ, "
                             + "consumerGroup:{}, threshold:{}",
                     handleMsgContext.getConsumerGroup(), CONSUMER_GROUP_WAITING_REQUEST_THRESHOLD);
             return false;
         }
 
+        if (handleMsgContext.getConsumeTopicConfig().getBatchPushConfig() != null) {
+            return batchPushAccumulator.add(handleMsgContext);
+        }
+
         try {
             pushExecutor.submit(() -> {
                 String protocolVersion = Objects.requireNonNull(handleMsgContext.getEvent().getSpecVersion()).toString();
 
-                Span span = TraceUtils.prepareClientSpan(EventMeshUtil.getCloudEventExtensionMap(protocolVersion,
-                                handleMsgContext.getEvent()),
+                Span span = TraceUtils.prepareClientSpan(protocolVersion, handleMsgContext.getEvent(),
                         EventMeshTraceConstants.TRACE_DOWNSTREAM_EVENTMESH_CLIENT_SPAN, false);
 
                 try {
-                    new AsyncHTTPPushRequest(handleMsgContext, waitingRequests).tryHTTPRequest();
+                    new AsyncHTTPPushRequest(handleMsgContext, inflightPushTracker).tryHTTPRequest();
                 } finally {
                     TraceUtils.finishSpan(span, handleMsgContext.getEvent());
                 }
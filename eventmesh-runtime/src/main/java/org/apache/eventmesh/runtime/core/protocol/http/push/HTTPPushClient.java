@@ -0,0 +1,364 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.http.push;
+
+import org.apache.eventmesh.common.enums.NettyTransport;
+import org.apache.eventmesh.runtime.configuration.EventMeshHTTPConfiguration;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.channels.ClosedChannelException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.net.ssl.SSLException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.pool.AbstractChannelPoolHandler;
+import io.netty.channel.pool.AbstractChannelPoolMap;
+import io.netty.channel.pool.ChannelHealthChecker;
+import io.netty.channel.pool.FixedChannelPool;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpClientCodec;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.handler.timeout.IdleStateHandler;
+import io.netty.resolver.dns.DnsAddressResolverGroup;
+import io.netty.resolver.dns.DnsServerAddressStreamProviders;
+import io.netty.util.AttributeKey;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.FutureListener;
+import io.netty.util.concurrent.Promise;
+import io.netty.util.concurrent.ScheduledFuture;
+
+/**
+ * Non-blocking http client used to push messages to the subscriber urls.
+ *
+ * <p>The connections run on the event loops of the http server, so an in-flight push does not hold a thread.
+ * The channels are created with the transport of those event loops.
+ * Each endpoint (scheme, host and port) has its own pool of keep-alive connections, a connection serves one
+ * request at a time and goes back to the pool once the response is read. The number of in-flight requests
+ * is limited per subscriber url, a request over the limit fails immediately with a
+ * {@link RejectedExecutionException} and is retried later by the caller.
+ *
+ * <p>Host names are resolved with the asynchronous netty dns resolver, a slow dns server must not block the
+ * event loops shared with the http server.
+ */
+public class HTTPPushClient {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HTTPPushClient.class);
+
+    private static final AttributeKey<Promise<Response>> RESPONSE_PROMISE = AttributeKey.valueOf("HTTPPushClient.responsePromise");
+
+    private static final int MAX_CONTENT_LENGTH = 4 * 1024 * 1024;
+
+    private static final int DEFAULT_IDLETIME_SECONDS = 30;
+
+    private final Bootstrap bootstrap;
+
+    private final SslContext sslContext;
+
+    private final int maxConnectionsPerEndpoint;
+
+    private final int maxInflightPerUrl;
+
+    private final long connectTimeoutMills;
+
+    private final long requestTimeoutMills;
+
+    private final ResponseHandler responseHandler = new ResponseHandler();
+
+    private final DnsAddressResolverGroup addressResolverGroup;
+
+    /**
+     * in-flight request count of each url, an url without in-flight request is removed so the map only holds
+     * the urls currently pushed to
+     */
+    private final ConcurrentHashMap<String, Integer> inflightRequests = new ConcurrentHashMap<>();
+
+    private final AbstractChannelPoolMap<URI, FixedChannelPool> channelPools = new AbstractChannelPoolMap<URI, FixedChannelPool>() {
+        @Override
+        protected FixedChannelPool newPool(URI endpoint) {
+            return newChannelPool(endpoint);
+        }
+    };
+
+    /**
+     * @param eventLoopGroup event loops the connections run on
+     * @param transport      netty transport the event loops were created with
+     */
+    public HTTPPushClient(EventLoopGroup eventLoopGroup, NettyTransport transport, EventMeshHTTPConfiguration eventMeshHttpConfiguration) {
+        this.maxConnectionsPerEndpoint = eventMeshHttpConfiguration.getEventMeshServerPushMsgMaxConnectionsPerEndpoint();
+        this.maxInflightPerUrl = eventMeshHttpConfiguration.getEventMeshServerPushMsgMaxInflightPerUrl();
+        this.connectTimeoutMills = eventMeshHttpConfiguration.getEventMeshServerPushMsgConnectTimeout();
+        this.requestTimeoutMills = eventMeshHttpConfiguration.getEventMeshServerPushMsgRequestTimeout();
+        this.addressResolverGroup = new DnsAddressResolverGroup(transport.getDatagramChannelClass(),
+            DnsServerAddressStreamProviders.platformDefault());
+        this.bootstrap = new Bootstrap()
+            .group(eventLoopGroup)
+            .channel(transport.getChannelClass())
+            .resolver(addressResolverGroup)
+            .option(ChannelOption.TCP_NODELAY, true)
+            .option(ChannelOption.SO_KEEPALIVE, true)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeoutMills);
+        this.sslContext = buildSslContext();
+    }
+
+    /**
+     * Post the body to the url.
+     *
+     * @param url     subscriber url
+     * @param headers request headers
+     * @param body    request body
+     * @return future completed with the response on the event loop of the connection, or completed
+     *     exceptionally when the request can not be sent, times out or the connection is closed
+     */
+    public CompletableFuture<Response> post(String url, HttpHeaders headers, byte[] body) {
+        CompletableFuture<Response> future = new CompletableFuture<>();
+        URI uri;
+        try {
+            uri = URI.create(url);
+        } catch (IllegalArgumentException e) {
+            future.completeExceptionally(e);
+            return future;
+        }
+
+        if (inflightRequests.merge(url, 1, Integer::sum) > maxInflightPerUrl) {
+            releaseInflight(url);
+            future.completeExceptionally(new RejectedExecutionException(
+                String.format("too many in-flight push requests, url: %s, limit: %d", url, maxInflightPerUrl)));
+            return future;
+        }
+
+        FixedChannelPool channelPool;
+        try {
+            channelPool = channelPools.get(endpoint(uri));
+        } catch (RuntimeException e) {
+            complete(future, url, null, e);
+            return future;
+        }
+        channelPool.acquire().addListener((FutureListener<Channel>) acquired -> {
+            if (!acquired.isSuccess()) {
+                complete(future, url, null, acquired.cause());
+                return;
+            }
+            Channel channel = acquired.getNow();
+            Promise<Response> promise = channel.eventLoop().newPromise();
+            ScheduledFuture<?> timeout = channel.eventLoop().schedule(() -> {
+                if (promise.tryFailure(new TimeoutException(
+                    String.format("push request timeout, url: %s, timeout: %dms", url, requestTimeoutMills)))) {
+                    channel.close();
+                }
+            }, requestTimeoutMills, TimeUnit.MILLISECONDS);
+            promise.addListener((Future<Response> completed) -> {
+                timeout.cancel(false);
+                channel.attr(RESPONSE_PROMISE).compareAndSet(promise, null);
+                channelPool.release(channel);
+                complete(future, url, completed.getNow(), completed.cause());
+            });
+            channel.attr(RESPONSE_PROMISE).set(promise);
+
+            FullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST,
+                pathAndQuery(uri), Unpooled.wrappedBuffer(body));
+            request.headers().set(headers)
+                .set(HttpHeaderNames.HOST, uri.getPort() == -1 ? uri.getHost() : uri.getHost() + ":" + uri.getPort())
+                .set(HttpHeaderNames.CONNECTION, HttpHeaderValues.KEEP_ALIVE)
+                .setInt(HttpHeaderNames.CONTENT_LENGTH, body.length);
+            channel.writeAndFlush(request).addListener(written -> {
+                if (!written.isSuccess()) {
+                    promise.tryFailure(written.cause());
+                    channel.close();
+                }
+            });
+        });
+        return future;
+    }
+
+    /**
+     * release the in-flight permit before completing, so the caller can send the next request from the callback
+     */
+    private void complete(CompletableFuture<Response> future, String url, Response response, Throwable cause) {
+        releaseInflight(url);
+        if (cause == null) {
+            future.complete(response);
+        } else {
+            future.completeExceptionally(cause);
+        }
+    }
+
+    private void releaseInflight(String url) {
+        inflightRequests.computeIfPresent(url, (k, count) -> count > 1 ? count - 1 : null);
+    }
+
+    int getInflightUrlCount() {
+        return inflightRequests.size();
+    }
+
+    public void shutdown() {
+        channelPools.close();
+        addressResolverGroup.close();
+    }
+
+    private FixedChannelPool newChannelPool(URI endpoint) {
+        boolean useTls = "https".equalsIgnoreCase(endpoint.getScheme());
+        if (useTls && sslContext == null) {
+            throw new IllegalStateException("tls is not available for push client, url: " + endpoint);
+        }
+        // left unresolved, the address is resolved by the dns resolver group of the bootstrap on each connect
+        Bootstrap poolBootstrap = bootstrap.clone()
+            .remoteAddress(InetSocketAddress.createUnresolved(endpoint.getHost(), endpoint.getPort()));
+        return new FixedChannelPool(poolBootstrap, new AbstractChannelPoolHandler() {
+            @Override
+            public void channelCreated(Channel channel) {
+                ChannelPipeline pipeline = channel.pipeline();
+                if (useTls) {
+                    pipeline.addLast(sslContext.newHandler(channel.alloc(), endpoint.getHost(), endpoint.getPort()));
+                }
+                pipeline.addLast(new HttpClientCodec(),
+                    new HttpObjectAggregator(MAX_CONTENT_LENGTH),
+                    new IdleStateHandler(0, 0, DEFAULT_IDLETIME_SECONDS),
+                    responseHandler);
+            }
+        }, ChannelHealthChecker.ACTIVE, FixedChannelPool.AcquireTimeoutAction.FAIL, connectTimeoutMills,
+            maxConnectionsPerEndpoint, Integer.MAX_VALUE);
+    }
+
+    private static URI endpoint(URI uri) {
+        String scheme = uri.getScheme() == null ? "http" : uri.getScheme().toLowerCase();
+        if (!"http".equals(scheme) && !"https".equals(scheme)) {
+            throw new IllegalArgumentException("unsupported push url scheme: " + uri);
+        }
+        if (uri.getHost() == null) {
+            throw new IllegalArgumentException("push url has no host: " + uri);
+        }
+        int port = uri.getPort() != -1 ? uri.getPort() : "https".equals(scheme) ? 443 : 80;
+        return URI.create(scheme + "://" + uri.getHost() + ":" + port);
+    }
+
+    private static String pathAndQuery(URI uri) {
+        String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+        return uri.getRawQuery() == null ? path : path + "?" + uri.getRawQuery();
+    }
+
+    private static SslContext buildSslContext() {
+        try {
+            // the subscriber certificates are not verified, same as the blocking HTTPClientPool
+            return SslContextBuilder.forClient().trustManager(InsecureTrustManagerFactory.INSTANCE).build();
+        } catch (SSLException e) {
+            LOGGER.error("build ssl context for push client error", e);
+            return null;
+        }
+    }
+
+    @ChannelHandler.Sharable
+    private static class ResponseHandler extends SimpleChannelInboundHandler<FullHttpResponse> {
+
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, FullHttpResponse msg) {
+            Promise<Response> promise = ctx.channel().attr(RESPONSE_PROMISE).getAndSet(null);
+            if (!HttpUtil.isKeepAlive(msg)) {
+                ctx.close();
+            }
+            if (promise != null) {
+                promise.trySuccess(new Response(msg.status().code(), msg.headers(),
+                    msg.content().toString(StandardCharsets.UTF_8)));
+            }
+        }
+
+        @Override
+        public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+            Promise<Response> promise = ctx.channel().attr(RESPONSE_PROMISE).getAndSet(null);
+            if (promise != null) {
+                promise.tryFailure(new ClosedChannelException());
+            }
+            super.channelInactive(ctx);
+        }
+
+        @Override
+        public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+            if (evt instanceof IdleStateEvent) {
+                ctx.close();
+                return;
+            }
+            super.userEventTriggered(ctx, evt);
+        }
+
+        @Override
+        public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+            Promise<Response> promise = ctx.channel().attr(RESPONSE_PROMISE).getAndSet(null);
+            if (promise != null) {
+                promise.tryFailure(cause instanceof IOException ? cause : new IOException(cause));
+            }
+            ctx.close();
+        }
+    }
+
+    public static class Response {
+
+        private final int statusCode;
+
+        private final HttpHeaders headers;
+
+        private final String content;
+
+        public Response(int statusCode, HttpHeaders headers, String content) {
+            this.statusCode = statusCode;
+            this.headers = headers;
+            this.content = content;
+        }
+
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        public String getContent() {
+            return content;
+        }
+    }
+}
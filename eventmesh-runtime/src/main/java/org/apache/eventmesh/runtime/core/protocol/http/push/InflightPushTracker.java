@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.eventmesh.runtime.core.protocol.http.push;
+
+import org.apache.eventmesh.common.ThreadPoolFactory;
+import org.apache.eventmesh.metrics.api.model.TopicGroupMetrics;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * In-flight push requests of an HTTP server, indexed by the time they time out.
+ *
+ * <p>Requests are kept in a min-heap ordered by deadline, so the timeout check only looks at the head of the heap and
+ * never touches a request that is still within its ttl. A request that gets its response is just marked as done and
+ * dropped once it reaches the head, or when done requests make up most of the heap.
+ */
+public class InflightPushTracker {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InflightPushTracker.class);
+
+    private static final long CHECK_INTERVAL_MILLS = 100;
+
+    private static final int PURGE_THRESHOLD = 1024;
+
+    private final PriorityQueue<Entry> deadlines = new PriorityQueue<>(Comparator.comparingLong(entry -> entry.deadline));
+
+    private final Map<String, AtomicInteger> groupInflight = new ConcurrentHashMap<>();
+
+    private final Map<TopicGroupMetrics.Key, AtomicInteger> topicInflight = new ConcurrentHashMap<>();
+
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    private final AtomicInteger released = new AtomicInteger();
+
+    private ScheduledExecutorService scheduler;
+
+    public void start() {
+        scheduler = ThreadPoolFactory.createSingleScheduledExecutor("eventMesh-pushMsgTimeout-");
+        scheduler.scheduleAtFixedRate(() -> checkTimeout(System.currentTimeMillis()), CHECK_INTERVAL_MILLS,
+            CHECK_INTERVAL_MILLS, TimeUnit.MILLISECONDS);
+    }
+
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    /**
+     * Track a request that has just been pushed, it times out at its last push time plus its ttl.
+     */
+    public void add(AbstractHTTPPushRequest request) {
+        AtomicInteger groupCounter = groupInflight.computeIfAbsent(request.handleMsgContext.getConsumerGroup(),
+            k -> new AtomicInteger());
+        AtomicInteger topicCounter = topicInflight.computeIfAbsent(
+            new TopicGroupMetrics.Key(request.handleMsgContext.getTopic(), request.handleMsgContext.getConsumerGroup()),
+            k -> new AtomicInteger());
+        groupCounter.incrementAndGet();
+        topicCounter.incrementAndGet();
+        inflight.incrementAndGet();
+        Entry entry = new Entry(request, request.lastPushTime + request.ttl, groupCounter, topicCounter);
+        request.inflightEntry = entry;
+        synchronized (deadlines) {
+            deadlines.offer(entry);
+        }
+    }
+
+    /**
+     * Stop tracking a request once its response has arrived.
+     */
+    public void remove(AbstractHTTPPushRequest request) {
+        Entry entry = request.inflightEntry;
+        if (entry != null && entry.release()) {
+            released.incrementAndGet();
+        }
+    }
+
+    public int size() {
+        return inflight.get();
+    }
+
+    public int size(String consumerGroup) {
+        AtomicInteger counter = groupInflight.get(consumerGroup);
+        return counter == null ? 0 : counter.get();
+    }
+
+    /**
+     * In-flight requests per topic and consumer group, pairs without in-flight requests are left out.
+     */
+    public Map<TopicGroupMetrics.Key, Long> sizeByTopic() {
+        Map<TopicGroupMetrics.Key, Long> sizes = new HashMap<>();
+        topicInflight.forEach((key, counter) -> {
+            int size = counter.get();
+            if (size > 0) {
+                sizes.put(key, (long) size);
+            }
+        });
+        return sizes;
+    }
+
+    /**
+     * Time out the requests whose deadline has passed.
+     */
+    void checkTimeout(long now) {
+        purge();
+        while (true) {
+            Entry entry;
+            synchronized (deadlines) {
+                entry = deadlines.peek();
+                if (entry == null || entry.deadline > now) {
+                    return;
+                }
+                deadlines.poll();
+            }
+            if (!entry.release()) {
+                released.decrementAndGet();
+                continue;
+            }
+            try {
+                entry.request.timeout();
+            } catch (Exception e) {
+                LOGGER.error("push request timeout handle failed, {}", entry.request, e);
+            }
+        }
+    }
+
+    private void purge() {
+        int done = released.get();
+        if (done < PURGE_THRESHOLD || done < inflight.get()) {
+            return;
+        }
+        int purged;
+        synchronized (deadlines) {
+            int before = deadlines.size();
+            deadlines.removeIf(entry -> entry.done.get());
+            purged = before - deadlines.size();
+        }
+        released.addAndGet(-purged);
+    }
+
+    final class Entry {
+
+        private final AbstractHTTPPushRequest request;
+
+        private final long deadline;
+
+        private final AtomicInteger groupCounter;
+
+        private final AtomicInteger topicCounter;
+
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        private Entry(AbstractHTTPPushRequest request, long deadline, AtomicInteger groupCounter,
+                      AtomicInteger topicCounter) {
+            this.request = request;
+            this.deadline = deadline;
+            this.groupCounter = groupCounter;
+            this.topicCounter = topicCounter;
+        }
+
+        private boolean release() {
+            if (!done.compareAndSet(false, true)) {
+                return false;
+            }
+            groupCounter.decrementAndGet();
+            topicCounter.decrementAndGet();
+            inflight.decrementAndGet();
+            return true;
+        }
+    }
+}
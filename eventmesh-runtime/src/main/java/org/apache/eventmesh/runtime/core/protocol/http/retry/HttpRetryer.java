@@ -18,13 +18,11 @@
 package org.apache.eventmesh.runtime.core.protocol.http.retry;
 
 import org.apache.eventmesh.runtime.boot.EventMeshHTTPServer;
+import org.apache.eventmesh.runtime.constants.EventMeshConstants;
+import org.apache.eventmesh.runtime.core.retry.RetryLane;
+import org.apache.eventmesh.runtime.core.retry.RetryScheduler;
 
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.DelayQueue;
-import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,86 +35,52 @@ public class HttpRetryer {
 
     private EventMeshHTTPServer eventMeshHTTPServer;
 
-    public HttpRetryer(EventMeshHTTPServer eventMeshHTTPServer) {
+    private final RetryScheduler retryScheduler;
+
+    public HttpRetryer(EventMeshHTTPServer eventMeshHTTPServer, RetryScheduler retryScheduler) {
         this.eventMeshHTTPServer = eventMeshHTTPServer;
+        this.retryScheduler = retryScheduler;
     }
 
-    private DelayQueue<DelayRetryable> failed = new DelayQueue<>();
-
-    private ThreadPoolExecutor pool;
-
-    private Thread dispatcher;
+    private RetryLane lane;
 
     public void pushRetry(DelayRetryable delayRetryable) {
-        if (failed.size() >= eventMeshHTTPServer.getEventMeshHttpConfiguration().getEventMeshServerRetryBlockQSize()) {
-            retryLogger.error("[RETRY-QUEUE] is full!");
-            return;
-        }
-        failed.offer(delayRetryable);
-    }
-
-    public void init() {
-        pool = new ThreadPoolExecutor(eventMeshHTTPServer.getEventMeshHttpConfiguration().getEventMeshServerRetryThreadNum(),
-                eventMeshHTTPServer.getEventMeshHttpConfiguration().getEventMeshServerRetryThreadNum(),
-                60000,
-                TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(
-                    eventMeshHTTPServer.getEventMeshHttpConfiguration().getEventMeshServerRetryBlockQSize()),
-                new ThreadFactory() {
-                    private AtomicInteger count = new AtomicInteger();
-
-                    @Override
-                    public Thread newThread(Runnable r) {
-                        Thread thread = new Thread(r, "http-retry-" + count.incrementAndGet());
-                        thread.setPriority(Thread.NORM_PRIORITY);
-                        thread.setDaemon(true);
-                        return thread;
-                    }
-                },
-                new ThreadPoolExecutor.AbortPolicy());
-
-        dispatcher = new Thread(() -> {
+        lane.schedule(delayRetryable.getRetryGroup(), delayRetryable.getDelay(TimeUnit.MILLISECONDS), () -> {
             try {
-                DelayRetryable retryObj;
-                while (!Thread.currentThread().isInterrupted() && (retryObj = failed.take()) != null) {
-                    final DelayRetryable delayRetryable = retryObj;
-                    pool.execute(() -> {
-                        try {
-                            delayRetryable.retry();
-                            if (retryLogger.isDebugEnabled()) {
-                                retryLogger.debug("retryObj : {}", delayRetryable);
-                            }
-                        } catch (Exception e) {
-                            retryLogger.error("http-retry-dispatcher error!", e);
-                        }
-                    });
+                delayRetryable.retry();
+                if (retryLogger.isDebugEnabled()) {
+                    retryLogger.debug("retryObj : {}", delayRetryable);
                 }
             } catch (Exception e) {
                 retryLogger.error("http-retry-dispatcher error!", e);
             }
-        }, "http-retry-dispatcher");
-        dispatcher.setDaemon(true);
+        });
+    }
+
+    public void init() {
+        lane = retryScheduler.register(EventMeshConstants.PROTOCOL_HTTP,
+            eventMeshHTTPServer.getEventMeshHttpConfiguration().getEventMeshServerRetryBlockQSize(),
+            eventMeshHTTPServer.getEventMeshHttpConfiguration().getEventMeshServerRetryThreadNum());
         logger.info("HttpRetryer inited......");
     }
 
     public int size() {
-        return failed.size();
+        return lane.getPendingCount();
     }
 
     /**
-     * Get failed queue, this method is just used for metrics.
+     * Get the retry lane of the shared retry scheduler, this method is just used for metrics.
      */
-    public DelayQueue<DelayRetryable> getFailedQueue() {
-        return failed;
+    public RetryLane getLane() {
+        return lane;
     }
 
     public void shutdown() {
-        dispatcher.interrupt();
-        pool.shutdown();
+        lane.shutdown();
         logger.info("HttpRetryer shutdown......");
     }
 
     public void start() throws Exception {
-        dispatcher.start();
         logger.info("HttpRetryer started......");
     }
 }
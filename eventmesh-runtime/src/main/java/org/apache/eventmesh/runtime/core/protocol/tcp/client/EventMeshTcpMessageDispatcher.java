@@ -69,13 +69,13 @@ public class EventMeshTcpMessageDispatcher extends SimpleChannelInboundHandler<P
         Command cmd = pkg.getHeader().getCmd();
         try {
             Runnable task;
+            Session session = eventMeshTCPServer.getClientSessionGroupMapping().getSession(ctx);
 
             if (isNeedTrace(cmd)) {
                 pkg.getHeader().getProperties()
                         .put(EventMeshConstants.REQ_C2EVENTMESH_TIMESTAMP, startTime);
                 pkg.getHeader().getProperties().put(EventMeshConstants.REQ_SEND_EVENTMESH_IP,
                         eventMeshTCPServer.getEventMeshTCPConfiguration().getEventMeshServerIp());
-                Session session = eventMeshTCPServer.getClientSessionGroupMapping().getSession(ctx);
 
                 pkg.getHeader().getProperties().put(EventMeshConstants.REQ_SYS, session.getClient().getSubsystem());
                 pkg.getHeader().getProperties().put(EventMeshConstants.REQ_IP, session.getClient().getHost());
@@ -88,7 +88,7 @@ public class EventMeshTcpMessageDispatcher extends SimpleChannelInboundHandler<P
                     MESSAGE_LOGGER.info("pkg|c2eventMesh|cmd={}|pkg={}", cmd, pkg);
                 }
                 task = new RecommendTask(pkg, ctx, startTime, eventMeshTCPServer);
-                eventMeshTCPServer.getTaskHandleExecutorService().submit(task);
+                eventMeshTCPServer.getTaskHandleExecutor().execute(ctx.channel(), task);
                 return;
             }
             
@@ -97,21 +97,20 @@ public class EventMeshTcpMessageDispatcher extends SimpleChannelInboundHandler<P
                     MESSAGE_LOGGER.info("pkg|c2eventMesh|cmd={}|pkg={}", cmd, pkg);
                 }
                 task = new HelloTask(pkg, ctx, startTime, eventMeshTCPServer);
-                eventMeshTCPServer.getTaskHandleExecutorService().submit(task);
+                eventMeshTCPServer.getTaskHandleExecutor().execute(ctx.channel(), task);
                 return;
             }
 
-            if (eventMeshTCPServer.getClientSessionGroupMapping().getSession(ctx) == null) {
+            if (session == null) {
                 if (MESSAGE_LOGGER.isInfoEnabled()) {
                     MESSAGE_LOGGER.info("pkg|c2eventMesh|cmd={}|pkg={},no session is found", cmd, pkg);
                 }
                 throw new Exception("no session is found");
             }
 
-            logMessageFlow(ctx, pkg, cmd);
+            logMessageFlow(session, pkg, cmd);
 
-            if (eventMeshTCPServer.getClientSessionGroupMapping().getSession(ctx)
-                    .getSessionState() == SessionState.CLOSED) {
+            if (session.getSessionState() == SessionState.CLOSED) {
                 throw new Exception(
                         "this eventMesh tcp session will be closed, may be reboot or version change!");
             }
@@ -180,18 +179,15 @@ public class EventMeshTcpMessageDispatcher extends SimpleChannelInboundHandler<P
         }
     }
 
-    private void logMessageFlow(ChannelHandlerContext ctx, Package pkg, Command cmd) {
+    private void logMessageFlow(Session session, Package pkg, Command cmd) {
+        if (!MESSAGE_LOGGER.isInfoEnabled()) {
+            return;
+        }
         if (pkg.getBody() instanceof EventMeshMessage) {
-            if (MESSAGE_LOGGER.isInfoEnabled()) {
-                MESSAGE_LOGGER.info("pkg|c2eventMesh|cmd={}|Msg={}|user={}", cmd,
-                        EventMeshUtil.printMqMessage((EventMeshMessage) pkg.getBody()),
-                        eventMeshTCPServer.getClientSessionGroupMapping().getSession(ctx).getClient());
-            }
+            MESSAGE_LOGGER.info("pkg|c2eventMesh|cmd={}|Msg={}|user={}", cmd,
+                    EventMeshUtil.printMqMessage((EventMeshMessage) pkg.getBody()), session.getClient());
         } else {
-            if (MESSAGE_LOGGER.isInfoEnabled()) {
-                MESSAGE_LOGGER.info("pkg|c2eventMesh|cmd={}|pkg={}|user={}", cmd, pkg,
-                        eventMeshTCPServer.getClientSessionGroupMapping().getSession(ctx).getClient());
-            }
+            MESSAGE_LOGGER.info("pkg|c2eventMesh|cmd={}|pkg={}|user={}", cmd, pkg, session.getClient());
         }
     }
 
@@ -209,12 +205,22 @@ public class EventMeshTcpMessageDispatcher extends SimpleChannelInboundHandler<P
         }
     }
 
+    /**
+     * Heartbeats only touch the in-memory state of the session, they are handled on the event loop when inline
+     * handling is enabled so they neither hop threads nor queue behind message transfers. Acks update the offset
+     * through the connector, which may block, so they run on the ack handle executor of the channel instead: their own
+     * lane, in order per connection. The other commands run on the task handle executor of the channel, which keeps
+     * them in order per connection.
+     */
     private void dispatch(ChannelHandlerContext ctx, Package pkg, long startTime, Command cmd)
             throws Exception {
         Runnable task;
+        boolean inline = false;
+        boolean ack = false;
         switch (cmd) {
             case HEARTBEAT_REQUEST:
                 task = new HeartBeatTask(pkg, ctx, startTime, eventMeshTCPServer);
+                inline = true;
                 break;
             case CLIENT_GOODBYE_REQUEST:
             case SERVER_GOODBYE_RESPONSE:
@@ -240,10 +246,19 @@ public class EventMeshTcpMessageDispatcher extends SimpleChannelInboundHandler<P
             case BROADCAST_MESSAGE_TO_CLIENT_ACK:
             case REQUEST_TO_CLIENT_ACK:
                 task = new MessageAckTask(pkg, ctx, startTime, eventMeshTCPServer);
+                ack = true;
                 break;
             default:
                 throw new Exception("unknown cmd");
         }
-        eventMeshTCPServer.getTaskHandleExecutorService().submit(task);
+        if (inline && eventMeshTCPServer.getEventMeshTCPConfiguration().eventMeshTcpTaskHandleInlineEnabled) {
+            task.run();
+            return;
+        }
+        if (ack) {
+            eventMeshTCPServer.getAckHandleExecutor().execute(ctx.channel(), task);
+            return;
+        }
+        eventMeshTCPServer.getTaskHandleExecutor().execute(ctx.channel(), task);
     }
 }
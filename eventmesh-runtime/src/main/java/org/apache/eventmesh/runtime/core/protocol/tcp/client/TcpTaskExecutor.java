@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.tcp.client;
+
+import org.apache.eventmesh.common.ThreadPoolFactory;
+import org.apache.eventmesh.runtime.util.EventMeshThreadFactoryImpl;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import io.netty.channel.Channel;
+
+/**
+ * Runs the tasks of the tcp connections on single threaded executors sharded by channel, so the tasks of a connection
+ * run one at a time and in the order they were read, while different connections do not share a queue.
+ */
+public class TcpTaskExecutor {
+
+    private final ThreadPoolExecutor[] shards;
+
+    public TcpTaskExecutor(int shardNum, int queueSize, String threadNamePrefix) {
+        this.shards = new ThreadPoolExecutor[Math.max(shardNum, 1)];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = ThreadPoolFactory.createThreadPoolExecutor(1, 1, new LinkedBlockingQueue<>(queueSize),
+                new EventMeshThreadFactoryImpl(threadNamePrefix + "-" + i, true));
+        }
+    }
+
+    /**
+     * Run the task on the executor of the channel.
+     *
+     * @throws java.util.concurrent.RejectedExecutionException if the queue of the executor is full
+     */
+    public void execute(Channel channel, Runnable task) {
+        shard(channel).execute(task);
+    }
+
+    ThreadPoolExecutor shard(Channel channel) {
+        return shards[(channel.id().hashCode() & Integer.MAX_VALUE) % shards.length];
+    }
+
+    public void shutdown() {
+        for (ThreadPoolExecutor shard : shards) {
+            shard.shutdown();
+        }
+    }
+}
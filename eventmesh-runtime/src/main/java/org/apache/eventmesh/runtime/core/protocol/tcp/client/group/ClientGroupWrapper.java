@@ -25,6 +25,7 @@ import org.apache.eventmesh.api.RequestReplyCallback;
 import org.apache.eventmesh.api.SendCallback;
 import org.apache.eventmesh.api.SendResult;
 import org.apache.eventmesh.api.exception.OnExceptionContext;
+import org.apache.eventmesh.common.EventEnvelope;
 import org.apache.eventmesh.common.protocol.SubscriptionItem;
 import org.apache.eventmesh.common.protocol.SubscriptionMode;
 import org.apache.eventmesh.common.utils.JsonUtils;
@@ -61,7 +62,6 @@ import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import io.cloudevents.CloudEvent;
-import io.cloudevents.core.builder.CloudEventBuilder;
 import io.opentelemetry.api.trace.Span;
 
 import com.google.common.base.Preconditions;
@@ -107,6 +107,11 @@ public class ClientGroupWrapper {
     private final ConcurrentHashMap<String, Set<Session>> topic2sessionInGroupMapping =
             new ConcurrentHashMap<String, Set<Session>>();
 
+    /**
+     * copy-on-write snapshot of topic2sessionInGroupMapping, read by the downstream dispatch without locking
+     */
+    private final ConcurrentHashMap<String, Session[]> topic2sessionIndex = new ConcurrentHashMap<>();
+
     private final ConcurrentHashMap<String, SubscriptionItem> subscriptions = new ConcurrentHashMap<>();
 
     public AtomicBoolean producerStarted = new AtomicBoolean(Boolean.FALSE);
@@ -207,6 +212,7 @@ public class ClientGroupWrapper {
             }
             r = topic2sessionInGroupMapping.get(topic).add(session);
             if (r) {
+                refreshTopicSessionIndex(topic);
 
                 if (log.isInfoEnabled()) {
                     log.info("addSubscription success, group:{} topic:{} client:{}", group,
@@ -229,6 +235,26 @@ public class ClientGroupWrapper {
         return r;
     }
 
+    /**
+     * must be called with the write lock of groupLock held
+     */
+    private void refreshTopicSessionIndex(String topic) {
+        Set<Session> sessions = topic2sessionInGroupMapping.get(topic);
+        if (CollectionUtils.isEmpty(sessions)) {
+            topic2sessionIndex.remove(topic);
+        } else {
+            topic2sessionIndex.put(topic, sessions.toArray(new Session[0]));
+        }
+    }
+
+    /**
+     * select a session of this group to downstream a message of the topic
+     */
+    public Session selectSession(String topic) {
+        return downstreamDispatchStrategy.select(group, topic, groupConsumerSessions,
+                topic2sessionIndex.get(topic));
+    }
+
     public boolean removeSubscription(SubscriptionItem subscriptionItem, Session session) {
         if (subscriptionItem == null) {
             log.error("addSubscription param error,subscriptionItem is null, session:{}", session);
@@ -248,6 +274,7 @@ public class ClientGroupWrapper {
             if (topic2sessionInGroupMapping.containsKey(topic)) {
                 r = topic2sessionInGroupMapping.get(topic).remove(session);
                 if (r) {
+                    refreshTopicSessionIndex(topic);
 
                     if (log.isInfoEnabled()) {
                         log.info(
@@ -446,24 +473,22 @@ public class ClientGroupWrapper {
             String protocolVersion =
                     Objects.requireNonNull(event.getSpecVersion()).toString();
 
-            Span span = TraceUtils.prepareServerSpan(
-                    EventMeshUtil.getCloudEventExtensionMap(protocolVersion, event),
+            Span span = TraceUtils.prepareServerSpan(protocolVersion, event,
                     EventMeshTraceConstants.TRACE_DOWNSTREAM_EVENTMESH_SERVER_SPAN, false);
 
             try {
                 eventMeshTcpMonitor.getTcpSummaryMetrics().getMq2eventMeshMsgNum()
                         .incrementAndGet();
-                event = CloudEventBuilder.from(event)
+                event = EventEnvelope.wrap(event)
                         .withExtension(EventMeshConstants.REQ_MQ2EVENTMESH_TIMESTAMP,
                                 String.valueOf(System.currentTimeMillis()))
                         .withExtension(EventMeshConstants.REQ_RECEIVE_EVENTMESH_IP,
-                                eventMeshTCPConfiguration.getEventMeshServerIp()).build();
+                                eventMeshTCPConfiguration.getEventMeshServerIp());
                 String topic = event.getSubject();
 
                 EventMeshAsyncConsumeContext eventMeshAsyncConsumeContext =
                         (EventMeshAsyncConsumeContext) context;
-                Session session = downstreamDispatchStrategy
-                        .select(group, topic, groupConsumerSessions);
+                Session session = selectSession(topic);
                 String bizSeqNo = EventMeshUtil.getMessageBizSeq(event);
                 if (session == null) {
                     try {
@@ -496,11 +521,11 @@ public class ClientGroupWrapper {
                                     group, topic, bizSeqNo);
                         } else {
                             sendBackTimes++;
-                            event = CloudEventBuilder.from(event)
+                            event = EventEnvelope.wrap(event)
                                     .withExtension(EventMeshConstants.EVENTMESH_SEND_BACK_TIMES,
                                             sendBackTimes.toString())
                                     .withExtension(EventMeshConstants.EVENTMESH_SEND_BACK_IP,
-                                            eventMeshTCPConfiguration.getEventMeshServerIp()).build();
+                                            eventMeshTCPConfiguration.getEventMeshServerIp());
                             sendMsgBackToBroker(event, bizSeqNo);
                         }
                     } catch (Exception e) {
@@ -561,17 +586,16 @@ public class ClientGroupWrapper {
             String protocolVersion =
                     Objects.requireNonNull(event.getSpecVersion()).toString();
 
-            Span span = TraceUtils.prepareServerSpan(
-                    EventMeshUtil.getCloudEventExtensionMap(protocolVersion, event),
+            Span span = TraceUtils.prepareServerSpan(protocolVersion, event,
                     EventMeshTraceConstants.TRACE_DOWNSTREAM_EVENTMESH_SERVER_SPAN, false);
             try {
                 eventMeshTcpMonitor.getTcpSummaryMetrics().getMq2eventMeshMsgNum()
                         .incrementAndGet();
-                event = CloudEventBuilder.from(event)
+                event = EventEnvelope.wrap(event)
                         .withExtension(EventMeshConstants.REQ_MQ2EVENTMESH_TIMESTAMP,
                                 String.valueOf(System.currentTimeMillis()))
                         .withExtension(EventMeshConstants.REQ_RECEIVE_EVENTMESH_IP,
-                                eventMeshTCPConfiguration.getEventMeshServerIp()).build();
+                                eventMeshTCPConfiguration.getEventMeshServerIp());
                 String topic = event.getSubject();
 
                 EventMeshAsyncConsumeContext eventMeshAsyncConsumeContext =
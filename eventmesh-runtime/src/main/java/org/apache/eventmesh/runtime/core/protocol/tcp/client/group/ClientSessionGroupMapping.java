@@ -26,6 +26,7 @@ import org.apache.eventmesh.runtime.constants.EventMeshConstants;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.EventMeshTcp2Client;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.group.dispatch.DownstreamDispatchStrategy;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.group.dispatch.FreePriorityDispatchStrategy;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.group.dispatch.LoadAwareDispatchStrategy;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.Session;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.SessionState;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.push.DownStreamMsgContext;
@@ -33,6 +34,7 @@ import org.apache.eventmesh.runtime.util.EventMeshUtil;
 import org.apache.eventmesh.runtime.util.RemotingHelper;
 
 import org.apache.commons.collections4.MapUtils;
+import org.apache.commons.lang3.StringUtils;
 
 import java.lang.ref.WeakReference;
 import java.net.InetSocketAddress;
@@ -40,6 +42,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
@@ -47,6 +50,7 @@ import org.slf4j.LoggerFactory;
 
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.AttributeKey;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -55,6 +59,12 @@ public class ClientSessionGroupMapping {
 
     private static final Logger SESSION_LOGGER = LoggerFactory.getLogger("sessionLogger");
 
+    /**
+     * The session of a channel, set when HELLO creates the session and cleared when it is closed, so the packets of
+     * the channel do not look it up in sessionTable by remote address.
+     */
+    private static final AttributeKey<Session> SESSION_KEY = AttributeKey.valueOf(ClientSessionGroupMapping.class, "session");
+
     private final ConcurrentHashMap<InetSocketAddress, Session> sessionTable = new ConcurrentHashMap<>();
 
     private final ConcurrentHashMap<String /** subsystem eg . 5109 or 5109-1A0 */, ClientGroupWrapper> clientGroupMap =
@@ -82,7 +92,7 @@ public class ClientSessionGroupMapping {
     }
 
     public Session getSession(ChannelHandlerContext ctx) {
-        return getSession((InetSocketAddress) ctx.channel().remoteAddress());
+        return ctx.channel().attr(SESSION_KEY).get();
     }
 
     public Session getSession(InetSocketAddress address) {
@@ -99,6 +109,7 @@ public class ClientSessionGroupMapping {
             session = new Session(user, ctx, eventMeshTCPServer.getEventMeshTCPConfiguration());
             initClientGroupWrapper(user, session);
             sessionTable.put(addr, session);
+            ctx.channel().attr(SESSION_KEY).set(session);
             SESSION_LOGGER.info("session|open|succeed|user={}", user);
         } else {
             session = sessionTable.get(addr);
@@ -128,14 +139,35 @@ public class ClientSessionGroupMapping {
             return;
         }
 
-        closeSession(session);
+        closeSessionOnTaskExecutor(ctx, session);
 
         //remove session from sessionTable
         sessionTable.remove(addr);
+        ctx.channel().attr(SESSION_KEY).set(null);
 
         SESSION_LOGGER.info("session|close|succeed|user={}", session.getClient());
     }
 
+    /**
+     * Close the session on the task handle executor of its channel, behind the tasks already read from the connection,
+     * so the close is ordered with the message transfers of the session instead of racing with them. A close the
+     * executor does not take, because it is full or shut down, runs on the calling thread.
+     */
+    private void closeSessionOnTaskExecutor(ChannelHandlerContext ctx, Session session) throws Exception {
+        try {
+            eventMeshTCPServer.getTaskHandleExecutor().execute(ctx.channel(), () -> {
+                try {
+                    closeSession(session);
+                } catch (Exception e) {
+                    log.error("close session failed, user:{}", session.getClient(), e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("task handle executor rejected the close of session, close it in place, user:{}", session.getClient());
+            closeSession(session);
+        }
+    }
+
     private void closeSession(Session session) throws Exception {
         final String remoteAddress = RemotingHelper.parseChannelRemoteAddr(session.getContext().channel());
         if (SessionState.CLOSED == session.getSessionState()) {
@@ -177,6 +209,14 @@ public class ClientSessionGroupMapping {
                 downstreamDispatchStrategy);
     }
 
+    private DownstreamDispatchStrategy buildDispatchStrategy() {
+        if (StringUtils.equalsIgnoreCase("freePriority",
+                eventMeshTCPServer.getEventMeshTCPConfiguration().eventMeshTcpDownstreamDispatchStrategy)) {
+            return new FreePriorityDispatchStrategy();
+        }
+        return new LoadAwareDispatchStrategy();
+    }
+
     private void initClientGroupWrapper(UserAgent user, Session session) throws Exception {
         if (!lockMap.containsKey(user.getGroup())) {
             Object obj = lockMap.putIfAbsent(user.getGroup(), new Object());
@@ -187,7 +227,7 @@ public class ClientSessionGroupMapping {
         synchronized (lockMap.get(user.getGroup())) {
             if (!clientGroupMap.containsKey(user.getGroup())) {
                 ClientGroupWrapper cgw = constructClientGroupWrapper(user.getSubsystem(), user.getGroup(),
-                        eventMeshTCPServer, new FreePriorityDispatchStrategy());
+                        eventMeshTCPServer, buildDispatchStrategy());
                 clientGroupMap.put(user.getGroup(), cgw);
                 log.info("create new ClientGroupWrapper, group:{}", user.getGroup());
             }
@@ -302,10 +342,7 @@ public class ClientSessionGroupMapping {
                             session.getClient());
                     continue;
                 }
-                Session reChooseSession = clientGroupWrapper.getDownstreamDispatchStrategy()
-                        .select(clientGroupWrapper.getGroup(),
-                                downStreamMsgContext.event.getSubject(),
-                                clientGroupWrapper.groupConsumerSessions);
+                Session reChooseSession = clientGroupWrapper.selectSession(downStreamMsgContext.event.getSubject());
                 if (reChooseSession != null) {
                     downStreamMsgContext.session = reChooseSession;
                     reChooseSession.getPusher().unAckMsg(downStreamMsgContext.seq, downStreamMsgContext);
@@ -34,4 +34,17 @@ public interface DownstreamDispatchStrategy {
      * @return client session
      */
     Session select(String group, String topic, Set<Session> consumeSessions);
+
+    /**
+     * select a SESSION from the sessions indexed for the topic
+     *
+     * @param group
+     * @param topic
+     * @param consumeSessions all consumer sessions of the group
+     * @param topicSessions   sessions subscribed to the topic, null if the topic is not indexed
+     * @return client session
+     */
+    default Session select(String group, String topic, Set<Session> consumeSessions, Session[] topicSessions) {
+        return select(group, topic, consumeSessions);
+    }
 }
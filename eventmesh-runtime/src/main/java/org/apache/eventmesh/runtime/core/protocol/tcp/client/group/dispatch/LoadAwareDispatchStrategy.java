@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.eventmesh.runtime.core.protocol.tcp.client.group.dispatch;
+
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.Session;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.SessionState;
+
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Picks the less loaded of two randomly chosen sessions (power of two choices), using the
+ * number of unacked messages as the load of a session.
+ *
+ * <p>Works on the per-topic session index kept by the ClientGroupWrapper, so selecting a session
+ * does not walk the whole consumer group. Closed and isolated sessions are skipped when they are
+ * drawn; isolated sessions are only used if every session of the topic is isolated.
+ */
+public class LoadAwareDispatchStrategy implements DownstreamDispatchStrategy {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoadAwareDispatchStrategy.class);
+
+    @Override
+    public Session select(final String group, final String topic, final Set<Session> groupConsumerSessions) {
+        if (CollectionUtils.isEmpty(groupConsumerSessions)
+                || StringUtils.isBlank(topic)
+                || StringUtils.isBlank(group)) {
+            return null;
+        }
+
+        final List<Session> subscribed = new ArrayList<>(groupConsumerSessions.size());
+        for (final Session session : groupConsumerSessions) {
+            if (session.getSessionContext().subscribeTopics.containsKey(topic)) {
+                subscribed.add(session);
+            }
+        }
+        return select(group, topic, groupConsumerSessions, subscribed.toArray(new Session[0]));
+    }
+
+    @Override
+    public Session select(final String group, final String topic, final Set<Session> groupConsumerSessions,
+                          final Session[] topicSessions) {
+        if (topicSessions == null) {
+            return select(group, topic, groupConsumerSessions);
+        }
+
+        final int size = topicSessions.length;
+        if (size == 0) {
+            return null;
+        }
+
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final int first = random.nextInt(size);
+        if (size > 1) {
+            int second = random.nextInt(size - 1);
+            if (second >= first) {
+                second++;
+            }
+            final Session chosen = lessLoaded(topicSessions[first], topicSessions[second]);
+            if (chosen != null) {
+                return chosen;
+            }
+        }
+        return scan(group, topic, topicSessions, first);
+    }
+
+    private static Session lessLoaded(final Session a, final Session b) {
+        final boolean aDispatchable = isDispatchable(a);
+        final boolean bDispatchable = isDispatchable(b);
+        if (aDispatchable && bDispatchable) {
+            return a.getPusher().getTotalUnackMsgs() <= b.getPusher().getTotalUnackMsgs() ? a : b;
+        }
+        if (aDispatchable) {
+            return a;
+        }
+        return bDispatchable ? b : null;
+    }
+
+    /**
+     * Both random picks were unusable, walk the sessions once starting from {@code from}.
+     */
+    private static Session scan(final String group, final String topic, final Session[] sessions, final int from) {
+        Session isolated = null;
+        for (int i = 0; i < sessions.length; i++) {
+            final Session session = sessions[(from + i) % sessions.length];
+            if (SessionState.CLOSED == session.getSessionState()) {
+                continue;
+            }
+            if (!session.isIsolated()) {
+                return session;
+            }
+            if (isolated == null) {
+                isolated = session;
+            }
+        }
+
+        if (isolated == null) {
+            if (LOGGER.isWarnEnabled()) {
+                LOGGER.warn("all sessions can't downstream msg,group:{},topic:{}", group, topic);
+            }
+        } else {
+            if (LOGGER.isWarnEnabled()) {
+                LOGGER.warn("all sessions are isolated,group:{},topic:{}", group, topic);
+            }
+        }
+        return isolated;
+    }
+
+    private static boolean isDispatchable(final Session session) {
+        return SessionState.CLOSED != session.getSessionState() && !session.isIsolated();
+    }
+}
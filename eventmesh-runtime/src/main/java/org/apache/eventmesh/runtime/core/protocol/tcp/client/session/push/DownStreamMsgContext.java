@@ -86,14 +86,22 @@ public class DownStreamMsgContext extends RetryContext {
             List<CloudEvent> events = new ArrayList<>();
             events.add(event);
             consumer.updateOffset(events, consumeConcurrentlyContext);
-            logger.info("ackMsg seq:{}, topic:{}, bizSeq:{}", seq, events.get(0).getSubject(),
-                events.get(0).getExtension(EventMeshConstants.PROPERTY_MESSAGE_KEYS));
+            // one ack per pushed message, keep the per message log off the info level
+            if (logger.isDebugEnabled()) {
+                logger.debug("ackMsg seq:{}, topic:{}, bizSeq:{}", seq, events.get(0).getSubject(),
+                    events.get(0).getExtension(EventMeshConstants.PROPERTY_MESSAGE_KEYS));
+            }
         } else {
             logger.warn("ackMsg seq:{} failed,consumer is null:{}, context is null:{} , msgs is null:{}", seq,
                 consumer == null, consumeConcurrentlyContext == null, event == null);
         }
     }
 
+    @Override
+    public String getRetryGroup() {
+        return session.getClient().getGroup();
+    }
+
     @Override
     public String toString() {
         return "DownStreamMsgContext{"
@@ -134,9 +142,7 @@ public class DownStreamMsgContext extends RetryContext {
             Session rechoosen;
             String topic = this.event.getSubject();
             if (SubscriptionMode.BROADCASTING != this.subscriptionItem.getMode()) {
-                rechoosen = Objects.requireNonNull(this.session.getClientGroupWrapper().get())
-                    .getDownstreamDispatchStrategy().select(Objects.requireNonNull(this.session.getClientGroupWrapper().get()).getSysId(),
-                        topic, Objects.requireNonNull(this.session.getClientGroupWrapper().get()).getGroupConsumerSessions());
+                rechoosen = Objects.requireNonNull(this.session.getClientGroupWrapper().get()).selectSession(topic);
             } else {
                 rechoosen = this.session;
             }
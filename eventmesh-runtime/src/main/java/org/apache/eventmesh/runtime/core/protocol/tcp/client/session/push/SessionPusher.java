@@ -18,6 +18,7 @@
 package org.apache.eventmesh.runtime.core.protocol.tcp.client.session.push;
 
 import org.apache.eventmesh.common.Constants;
+import org.apache.eventmesh.common.EventEnvelope;
 import org.apache.eventmesh.common.protocol.ProtocolTransportObject;
 import org.apache.eventmesh.common.protocol.SubscriptionMode;
 import org.apache.eventmesh.common.protocol.SubscriptionType;
@@ -29,6 +30,7 @@ import org.apache.eventmesh.protocol.api.ProtocolAdaptor;
 import org.apache.eventmesh.protocol.api.ProtocolPluginFactory;
 import org.apache.eventmesh.runtime.constants.EventMeshConstants;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.Session;
+import org.apache.eventmesh.runtime.metrics.tcp.EventMeshTcpMonitor;
 import org.apache.eventmesh.runtime.trace.TraceUtils;
 import org.apache.eventmesh.runtime.util.EventMeshUtil;
 import org.apache.eventmesh.trace.api.common.EventMeshTraceConstants;
@@ -43,7 +45,6 @@ import java.util.concurrent.atomic.AtomicLong;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import io.cloudevents.core.builder.CloudEventBuilder;
 import io.netty.channel.ChannelFutureListener;
 import io.opentelemetry.api.trace.Span;
 
@@ -92,15 +93,15 @@ public class SessionPusher {
 
         Package pkg = new Package();
 
-        downStreamMsgContext.event = CloudEventBuilder.from(downStreamMsgContext.event)
+        EventEnvelope envelope = EventEnvelope.copyOf(downStreamMsgContext.event)
             .withExtension(EventMeshConstants.REQ_EVENTMESH2C_TIMESTAMP, String.valueOf(System.currentTimeMillis()))
             .withExtension(EventMeshConstants.RSP_SYS, session.getClient().getSubsystem())
             .withExtension(EventMeshConstants.RSP_GROUP, session.getClient().getGroup())
             .withExtension(EventMeshConstants.RSP_IDC, session.getClient().getIdc())
-            .withExtension(EventMeshConstants.RSP_IP, session.getClient().getHost())
-            .build();
+            .withExtension(EventMeshConstants.RSP_IP, session.getClient().getHost());
+        downStreamMsgContext.event = envelope;
         try {
-            pkg = (Package) protocolAdaptor.fromCloudEvent(downStreamMsgContext.event);
+            pkg = (Package) protocolAdaptor.fromCloudEvent(envelope.toCloudEvent());
             pkg.setHeader(new Header(cmd, OPStatus.SUCCESS.getCode(), null, downStreamMsgContext.seq));
             pkg.getHeader().putProperty(Constants.PROTOCOL_TYPE, protocolType);
             messageLogger.info("pkg|mq2eventMesh|cmd={}|mqMsg={}|user={}", cmd, pkg, session.getClient());
@@ -116,7 +117,7 @@ public class SessionPusher {
             //TODO uploadTrace
             String protocolVersion = Objects.requireNonNull(downStreamMsgContext.event.getSpecVersion()).toString();
 
-            Span span = TraceUtils.prepareClientSpan(EventMeshUtil.getCloudEventExtensionMap(protocolVersion, downStreamMsgContext.event),
+            Span span = TraceUtils.prepareClientSpan(protocolVersion, downStreamMsgContext.event,
                 EventMeshTraceConstants.TRACE_DOWNSTREAM_EVENTMESH_CLIENT_SPAN, false);
 
             try {
@@ -126,6 +127,10 @@ public class SessionPusher {
                             logger.error("downstreamMsg fail,seq:{}, retryTimes:{}, event:{}", downStreamMsgContext.seq,
                                 downStreamMsgContext.retryTimes, downStreamMsgContext.event);
                             deliverFailMsgsCount.incrementAndGet();
+                            Objects.requireNonNull(session.getClientGroupWrapper().get())
+                                .getEventMeshTcpMonitor()
+                                .getTopicGroupMetrics()
+                                .recordPushFailed(downStreamMsgContext.event.getSubject(), session.getClient().getGroup());
 
                             //how long to isolate client when push fail
                             long isolateTime = System.currentTimeMillis()
@@ -141,8 +146,17 @@ public class SessionPusher {
                             Objects.requireNonNull(session.getClientGroupWrapper().get()).getEventMeshTcpRetryer().pushRetry(downStreamMsgContext);
                         } else {
                             deliveredMsgsCount.incrementAndGet();
-                            logger.info("downstreamMsg success,seq:{}, retryTimes:{}, bizSeq:{}", downStreamMsgContext.seq,
-                                downStreamMsgContext.retryTimes, EventMeshUtil.getMessageBizSeq(downStreamMsgContext.event));
+                            EventMeshTcpMonitor monitor = Objects.requireNonNull(session.getClientGroupWrapper().get())
+                                .getEventMeshTcpMonitor();
+                            monitor.getTopicGroupMetrics()
+                                .recordPush(downStreamMsgContext.event.getSubject(), session.getClient().getGroup());
+                            monitor.getTcpSummaryMetrics()
+                                .recordPush2ClientLatency(downStreamMsgContext.event.getSubject(),
+                                    System.currentTimeMillis() - downStreamMsgContext.lastPushTime);
+                            if (logger.isInfoEnabled()) {
+                                logger.info("downstreamMsg success,seq:{}, retryTimes:{}, bizSeq:{}", downStreamMsgContext.seq,
+                                    downStreamMsgContext.retryTimes, EventMeshUtil.getMessageBizSeq(downStreamMsgContext.event));
+                            }
 
                             if (session.isIsolated()) {
                                 logger.info("cancel isolated,client:{}", session.getClient());
@@ -160,7 +174,9 @@ public class SessionPusher {
 
     public void unAckMsg(String seq, DownStreamMsgContext downStreamMsgContext) {
         downStreamMap.put(seq, downStreamMsgContext);
-        logger.info("put msg in unAckMsg,seq:{},unAckMsgSize:{}", seq, getTotalUnackMsgs());
+        if (logger.isInfoEnabled()) {
+            logger.info("put msg in unAckMsg,seq:{},unAckMsgSize:{}", seq, getTotalUnackMsgs());
+        }
     }
 
     public int getTotalUnackMsgs() {
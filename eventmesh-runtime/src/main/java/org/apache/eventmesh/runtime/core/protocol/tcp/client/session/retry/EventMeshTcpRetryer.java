@@ -19,13 +19,12 @@ package org.apache.eventmesh.runtime.core.protocol.tcp.client.session.retry;
 
 import org.apache.eventmesh.common.protocol.SubscriptionType;
 import org.apache.eventmesh.runtime.boot.EventMeshTCPServer;
+import org.apache.eventmesh.runtime.constants.EventMeshConstants;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.push.DownStreamMsgContext;
-import org.apache.eventmesh.runtime.util.EventMeshThreadFactoryImpl;
+import org.apache.eventmesh.runtime.core.retry.RetryLane;
+import org.apache.eventmesh.runtime.core.retry.RetryScheduler;
 import org.apache.eventmesh.runtime.util.EventMeshUtil;
 
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.DelayQueue;
-import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
@@ -37,19 +36,13 @@ public class EventMeshTcpRetryer {
 
     private EventMeshTCPServer eventMeshTCPServer;
 
-    private DelayQueue<RetryContext> retrys = new DelayQueue<RetryContext>();
+    private final RetryScheduler retryScheduler;
 
-    private ThreadPoolExecutor pool = new ThreadPoolExecutor(3,
-        3,
-        60000,
-        TimeUnit.MILLISECONDS, new ArrayBlockingQueue<Runnable>(1000),
-        new EventMeshThreadFactoryImpl("eventMesh-tcp-retry", true),
-        new ThreadPoolExecutor.AbortPolicy());
+    private RetryLane lane;
 
-    private Thread dispatcher;
-
-    public EventMeshTcpRetryer(EventMeshTCPServer eventMeshTCPServer) {
+    public EventMeshTcpRetryer(EventMeshTCPServer eventMeshTCPServer, RetryScheduler retryScheduler) {
         this.eventMeshTCPServer = eventMeshTCPServer;
+        this.retryScheduler = retryScheduler;
     }
 
     public EventMeshTCPServer getEventMeshTCPServer() {
@@ -61,13 +54,6 @@ public class EventMeshTcpRetryer {
     }
 
     public void pushRetry(RetryContext retryContext) {
-        if (retrys.size() >= eventMeshTCPServer.getEventMeshTCPConfiguration().eventMeshTcpMsgRetryQueueSize) {
-            logger.error("pushRetry fail,retrys is too much,allow max retryQueueSize:{}, retryTimes:{}, seq:{}, bizSeq:{}",
-                eventMeshTCPServer.getEventMeshTCPConfiguration().eventMeshTcpMsgRetryQueueSize, retryContext.retryTimes,
-                retryContext.seq, EventMeshUtil.getMessageBizSeq(retryContext.event));
-            return;
-        }
-
         int maxRetryTimes = eventMeshTCPServer.getEventMeshTCPConfiguration().eventMeshTcpMsgAsyncRetryTimes;
         if (retryContext instanceof DownStreamMsgContext) {
             DownStreamMsgContext downStreamMsgContext = (DownStreamMsgContext) retryContext;
@@ -82,41 +68,41 @@ public class EventMeshTcpRetryer {
             return;
         }
 
-        retrys.offer(retryContext);
+        if (!lane.schedule(retryContext.getRetryGroup(), retryContext.getDelay(TimeUnit.MILLISECONDS), retryContext::retry)) {
+            logger.error("pushRetry fail,retrys is too much,allow max retryQueueSize:{}, retryTimes:{}, seq:{}, bizSeq:{}",
+                eventMeshTCPServer.getEventMeshTCPConfiguration().eventMeshTcpMsgRetryQueueSize, retryContext.retryTimes,
+                retryContext.seq, EventMeshUtil.getMessageBizSeq(retryContext.event));
+            return;
+        }
         logger.info("pushRetry success,seq:{}, retryTimes:{}, bizSeq:{}", retryContext.seq, retryContext.retryTimes,
             EventMeshUtil.getMessageBizSeq(retryContext.event));
     }
 
     public void init() {
-        dispatcher = new Thread(() -> {
-            try {
-                RetryContext retryContext;
-                while ((retryContext = retrys.take()) != null) {
-                    pool.execute(retryContext::retry);
-                }
-            } catch (Exception e) {
-                logger.error("retry-dispatcher error!", e);
-            }
-        }, "retry-dispatcher");
-        dispatcher.setDaemon(true);
+        lane = retryScheduler.register(EventMeshConstants.PROTOCOL_TCP,
+            eventMeshTCPServer.getEventMeshTCPConfiguration().eventMeshTcpMsgRetryQueueSize,
+            eventMeshTCPServer.getEventMeshTCPConfiguration().eventMeshTcpMsgRetryThreadNum);
         logger.info("EventMeshTcpRetryer inited......");
     }
 
     public void start() throws Exception {
-        dispatcher.start();
         logger.info("EventMeshTcpRetryer started......");
     }
 
     public void shutdown() {
-        pool.shutdown();
+        lane.shutdown();
         logger.info("EventMeshTcpRetryer shutdown......");
     }
 
     public int getRetrySize() {
-        return retrys.size();
+        return lane.getPendingCount();
+    }
+
+    public RetryLane getLane() {
+        return lane;
     }
 
     public void printRetryThreadPoolState() {
-        //ThreadPoolHelper.printState(pool);
+        logger.info("retry state: {}", lane);
     }
 }
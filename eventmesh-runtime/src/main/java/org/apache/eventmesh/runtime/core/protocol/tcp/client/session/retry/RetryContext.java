@@ -17,6 +17,9 @@
 
 package org.apache.eventmesh.runtime.core.protocol.tcp.client.session.retry;
 
+import org.apache.eventmesh.runtime.constants.EventMeshConstants;
+import org.apache.eventmesh.runtime.core.retry.RetryBackoff;
+
 import java.util.concurrent.Delayed;
 import java.util.concurrent.TimeUnit;
 
@@ -33,10 +36,18 @@ public abstract class RetryContext implements Delayed {
     public long executeTime = System.currentTimeMillis();
 
     public RetryContext delay(long delay) {
-        this.executeTime = System.currentTimeMillis() + (retryTimes + 1) * delay;
+        this.executeTime = System.currentTimeMillis()
+            + RetryBackoff.exponential(delay, retryTimes + 1, EventMeshConstants.DEFAULT_RETRY_MAX_BACKOFF_IN_MILLSECONDS);
         return this;
     }
 
+    /**
+     * Group the retry counts against in the retry quota, null if it only counts against the protocol quota.
+     */
+    public String getRetryGroup() {
+        return null;
+    }
+
     @Override
     public int compareTo(Delayed delayed) {
         RetryContext obj = (RetryContext) delayed;
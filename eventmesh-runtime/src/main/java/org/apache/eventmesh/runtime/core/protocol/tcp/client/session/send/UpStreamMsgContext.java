@@ -75,6 +75,11 @@ public class UpStreamMsgContext extends RetryContext {
         return createTime;
     }
 
+    @Override
+    public String getRetryGroup() {
+        return session.getClient().getGroup();
+    }
+
     @Override
     public String toString() {
         return "UpStreamMsgContext{seq=" + seq
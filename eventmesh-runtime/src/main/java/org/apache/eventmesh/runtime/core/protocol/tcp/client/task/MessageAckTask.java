@@ -58,7 +58,9 @@ public class MessageAckTask extends AbstractTask {
                         seq, session.getClient());
             }
         }
-        MESSAGE_LOGGER.info("pkg|c2eventMesh|cmd={}|seq=[{}]|user={}|wait={}ms|cost={}ms", cmd, seq, session.getClient(),
-                taskExecuteTime - startTime, System.currentTimeMillis() - startTime);
+        if (MESSAGE_LOGGER.isDebugEnabled()) {
+            MESSAGE_LOGGER.debug("pkg|c2eventMesh|cmd={}|seq=[{}]|user={}|wait={}ms|cost={}ms", cmd, seq, session.getClient(),
+                    taskExecuteTime - startTime, System.currentTimeMillis() - startTime);
+        }
     }
 }
@@ -23,6 +23,7 @@ import org.apache.eventmesh.api.SendCallback;
 import org.apache.eventmesh.api.SendResult;
 import org.apache.eventmesh.api.exception.OnExceptionContext;
 import org.apache.eventmesh.common.Constants;
+import org.apache.eventmesh.common.EventEnvelope;
 import org.apache.eventmesh.common.protocol.ProtocolTransportObject;
 import org.apache.eventmesh.common.protocol.tcp.Command;
 import org.apache.eventmesh.common.protocol.tcp.Header;
@@ -33,9 +34,11 @@ import org.apache.eventmesh.protocol.api.ProtocolPluginFactory;
 import org.apache.eventmesh.runtime.acl.Acl;
 import org.apache.eventmesh.runtime.boot.EventMeshTCPServer;
 import org.apache.eventmesh.runtime.constants.EventMeshConstants;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.SessionState;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.send.EventMeshTcpSendResult;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.send.EventMeshTcpSendStatus;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.send.UpStreamMsgContext;
+import org.apache.eventmesh.runtime.core.ratelimit.RateLimitResult;
 import org.apache.eventmesh.runtime.trace.AttributeKeys;
 import org.apache.eventmesh.runtime.trace.SpanKey;
 import org.apache.eventmesh.runtime.trace.TraceUtils;
@@ -53,7 +56,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.cloudevents.CloudEvent;
-import io.cloudevents.core.builder.CloudEventBuilder;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
@@ -65,8 +67,6 @@ public class MessageTransferTask extends AbstractTask {
     private static final Logger LOGGER = LoggerFactory.getLogger(MessageTransferTask.class);
     private static final Logger MESSAGE_LOGGER = LoggerFactory.getLogger("message");
 
-    private static final int TRY_PERMIT_TIME_OUT = 5;
-
     public MessageTransferTask(Package pkg, ChannelHandlerContext ctx, long startTime,
                                EventMeshTCPServer eventMeshTCPServer) {
         super(pkg, ctx, startTime, eventMeshTCPServer);
@@ -126,11 +126,12 @@ public class MessageTransferTask extends AbstractTask {
                         cmd.getValue());
             }
 
-            if (!eventMeshTCPServer.getRateLimiter()
-                    .tryAcquire(TRY_PERMIT_TIME_OUT, TimeUnit.MILLISECONDS)) {
+            String group = session.getClient().getGroup();
+            RateLimitResult rateLimitResult = eventMeshTCPServer.getRateLimiter().tryAcquire(group, event.getSubject());
+            if (!rateLimitResult.isPassed()) {
 
-                msg.setHeader(new Header(replyCmd, OPStatus.FAIL.getCode(),
-                        "Tps overload, global flow control",
+                msg.setHeader(new Header(replyCmd, OPStatus.TPS_OVERLOAD.getCode(),
+                        rateLimitResult.getDesc(),
                         pkg.getHeader().getSeq()));
                 ctx.writeAndFlush(msg).addListener(
                         new ChannelFutureListener() {
@@ -142,32 +143,38 @@ public class MessageTransferTask extends AbstractTask {
                         }
                 );
 
-                TraceUtils.finishSpanWithException(ctx, event, "Tps overload, global flow control",
+                TraceUtils.finishSpanWithException(ctx, event, rateLimitResult.getDesc(),
                         null);
 
-                LOGGER.warn(
-                        "======Tps overload, global flow control, rate:{}! PLEASE CHECK!========",
-                        eventMeshTCPServer.getRateLimiter().getRate());
+                eventMeshTCPServer.getEventMeshTcpMonitor().getTopicGroupMetrics()
+                        .recordRateLimited(event.getSubject(), group);
+                LOGGER.warn("{}, group:{}, topic:{}", rateLimitResult.getDesc(), group, event.getSubject());
                 return;
             }
 
-            synchronized (session) {
-                long sendTime = System.currentTimeMillis();
-                event = addTimestamp(event, cmd, sendTime);
-
-                sendStatus = session
-                        .upstreamMsg(pkg.getHeader(), event,
-                                createSendCallback(replyCmd, taskExecuteTime, event),
-                                startTime, taskExecuteTime);
-
-                if (StringUtils.equals(EventMeshTcpSendStatus.SUCCESS.name(),
-                        sendStatus.getSendStatus().name())) {
-                    MESSAGE_LOGGER.info("pkg|eventMesh2mq|cmd={}|Msg={}|user={}|wait={}ms|cost={}ms",
-                            cmd, event,
-                            session.getClient(), taskExecuteTime - startTime, sendTime - startTime);
-                } else {
-                    throw new Exception(sendStatus.getDetail());
-                }
+            // the session is closed on the task handle executor of its channel, which runs this task too, so the send
+            // never interleaves with the close
+            if (session.getSessionState() == SessionState.CLOSED) {
+                throw new Exception("the session has been closed");
+            }
+
+            long sendTime = System.currentTimeMillis();
+            event = addTimestamp(event, cmd, sendTime);
+
+            sendStatus = session
+                    .upstreamMsg(pkg.getHeader(), event,
+                            createSendCallback(replyCmd, taskExecuteTime, event),
+                            startTime, taskExecuteTime);
+
+            if (StringUtils.equals(EventMeshTcpSendStatus.SUCCESS.name(),
+                    sendStatus.getSendStatus().name())) {
+                eventMeshTCPServer.getEventMeshTcpMonitor().getTopicGroupMetrics()
+                        .recordPublish(event.getSubject(), session.getClient().getGroup());
+                MESSAGE_LOGGER.info("pkg|eventMesh2mq|cmd={}|Msg={}|user={}|wait={}ms|cost={}ms",
+                        cmd, event,
+                        session.getClient(), taskExecuteTime - startTime, sendTime - startTime);
+            } else {
+                throw new Exception(sendStatus.getDetail());
             }
         } catch (Exception e) {
             LOGGER.error("MessageTransferTask failed|cmd={}|event={}|user={}", cmd, event,
@@ -190,23 +197,21 @@ public class MessageTransferTask extends AbstractTask {
 
     private CloudEvent addTimestamp(CloudEvent event, Command cmd, long sendTime) {
         if (cmd == RESPONSE_TO_SERVER) {
-            event = CloudEventBuilder.from(event)
+            event = EventEnvelope.wrap(event)
                     .withExtension(EventMeshConstants.RSP_C2EVENTMESH_TIMESTAMP,
                             String.valueOf(startTime))
                     .withExtension(EventMeshConstants.RSP_EVENTMESH2MQ_TIMESTAMP,
                             String.valueOf(sendTime))
                     .withExtension(EventMeshConstants.RSP_SEND_EVENTMESH_IP,
-                            eventMeshTCPServer.getEventMeshTCPConfiguration().getEventMeshServerIp())
-                    .build();
+                            eventMeshTCPServer.getEventMeshTCPConfiguration().getEventMeshServerIp());
         } else {
-            event = CloudEventBuilder.from(event)
+            event = EventEnvelope.wrap(event)
                     .withExtension(EventMeshConstants.REQ_C2EVENTMESH_TIMESTAMP,
                             String.valueOf(startTime))
                     .withExtension(EventMeshConstants.REQ_EVENTMESH2MQ_TIMESTAMP,
                             String.valueOf(sendTime))
                     .withExtension(EventMeshConstants.REQ_SEND_EVENTMESH_IP,
-                            eventMeshTCPServer.getEventMeshTCPConfiguration().getEventMeshServerIp())
-                    .build();
+                            eventMeshTCPServer.getEventMeshTCPConfiguration().getEventMeshServerIp());
         }
         return event;
     }
@@ -233,9 +238,11 @@ public class MessageTransferTask extends AbstractTask {
             @Override
             public void onSuccess(SendResult sendResult) {
                 session.getSender().getUpstreamBuff().release();
+                long cost = System.currentTimeMillis() - createTime;
                 MESSAGE_LOGGER.info("upstreamMsg message success|user={}|callback cost={}",
-                        session.getClient(),
-                        System.currentTimeMillis() - createTime);
+                        session.getClient(), cost);
+                eventMeshTCPServer.getEventMeshTcpMonitor().getTcpSummaryMetrics()
+                        .recordSend2MQLatency(event.getSubject(), cost);
                 if (replyCmd == Command.BROADCAST_MESSAGE_TO_SERVER_ACK
                         || replyCmd == Command.ASYNC_MESSAGE_TO_SERVER_ACK) {
                     msg.setHeader(
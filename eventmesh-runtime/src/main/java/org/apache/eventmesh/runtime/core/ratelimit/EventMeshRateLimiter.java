@@ -0,0 +1,307 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.ratelimit;
+
+import org.apache.eventmesh.common.ThreadPoolFactory;
+import org.apache.eventmesh.common.config.CommonConfiguration;
+import org.apache.eventmesh.common.config.ConfigService;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Rate limiter of the messages one protocol server accepts, with a token bucket for the whole server, one for every
+ * producer group and one for every topic, see {@link TokenBucket}.
+ *
+ * <p>The topic is checked first and the server last, and the permits taken from the levels that passed are given back
+ * when a later one rejects, so a producer group over its quota does not use up the budget of the others. Groups and
+ * topics without a quota do not get a bucket at all, and a bucket that has been full for a reload interval is dropped
+ * on reload, so the groups and topics seen once do not stay in memory.
+ *
+ * <p>A request over quota is rejected at once, it does not wait for a permit the way the fast-fail timeout of the
+ * Guava RateLimiter did, so no worker thread is parked by the limiter.
+ *
+ * <p>The quotas of all the limiters are reloaded by one task, which reads the configuration file once per round.
+ */
+public class EventMeshRateLimiter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventMeshRateLimiter.class);
+
+    private static final ScheduledExecutorService RELOADER =
+        ThreadPoolFactory.createSingleScheduledExecutor("eventMesh-rateLimitReloader-");
+
+    private static final List<Reloader<?>> RELOADERS = new CopyOnWriteArrayList<>();
+
+    private static ScheduledFuture<?> reloadTask;
+
+    private final String name;
+
+    private final TokenBucket nodeBucket;
+
+    private final Map<String, TokenBucket> groupBuckets = new ConcurrentHashMap<>();
+
+    private final Map<String, TokenBucket> topicBuckets = new ConcurrentHashMap<>();
+
+    private final Map<RateLimitResult, LongAdder> rejected = new EnumMap<>(RateLimitResult.class);
+
+    private volatile Quota quota;
+
+    public EventMeshRateLimiter(String name, double nodePermitsPerSecond, CommonConfiguration configuration) {
+        this.name = name;
+        this.nodeBucket = new TokenBucket(nodePermitsPerSecond);
+        this.quota = new Quota(configuration);
+        for (RateLimitResult result : RateLimitResult.values()) {
+            rejected.put(result, new LongAdder());
+        }
+    }
+
+    public RateLimitResult tryAcquire(String group, String topic) {
+        return tryAcquire(group, topic, 1);
+    }
+
+    /**
+     * @param group producer group of the request, null skips the group quota
+     * @param topic topic of the request, null skips the topic quota, e.g. for a batch of several topics
+     */
+    public RateLimitResult tryAcquire(String group, String topic, int permits) {
+        Quota current = this.quota;
+        TokenBucket topicBucket = topic == null ? null
+            : bucket(topicBuckets, topic, current.topicPermits, current.topicDefaultPermits);
+        if (topicBucket != null && !topicBucket.tryAcquire(permits)) {
+            return reject(RateLimitResult.TOPIC_LIMITED);
+        }
+
+        TokenBucket groupBucket = group == null ? null
+            : bucket(groupBuckets, group, current.groupPermits, current.groupDefaultPermits);
+        if (groupBucket != null && !groupBucket.tryAcquire(permits)) {
+            release(topicBucket, permits);
+            return reject(RateLimitResult.GROUP_LIMITED);
+        }
+
+        if (!nodeBucket.tryAcquire(permits)) {
+            release(topicBucket, permits);
+            release(groupBucket, permits);
+            return reject(RateLimitResult.NODE_LIMITED);
+        }
+        return RateLimitResult.PASSED;
+    }
+
+    /**
+     * Apply new quotas, the buckets keep the permits they have already handed out.
+     */
+    public void reload(double nodePermitsPerSecond, CommonConfiguration configuration) {
+        reload(nodePermitsPerSecond, configuration, System.nanoTime());
+    }
+
+    void reload(double nodePermitsPerSecond, CommonConfiguration configuration, long nowNanos) {
+        Quota current = new Quota(configuration);
+        if (nodeBucket.getRate() != Math.max(nodePermitsPerSecond, 0) || !current.equals(quota)) {
+            LOGGER.info("{} rate limit reloaded, node:{}, group:{} {}, topic:{} {}", name, nodePermitsPerSecond,
+                current.groupDefaultPermits, current.groupPermits, current.topicDefaultPermits, current.topicPermits);
+        }
+        nodeBucket.setRate(nodePermitsPerSecond);
+        this.quota = current;
+        long idleSince = nowNanos - TimeUnit.MILLISECONDS.toNanos(current.reloadIntervalInMills);
+        reloadBuckets(groupBuckets, current.groupPermits, current.groupDefaultPermits, idleSince);
+        reloadBuckets(topicBuckets, current.topicPermits, current.topicDefaultPermits, idleSince);
+    }
+
+    /**
+     * Re-read the quotas from the root configuration file periodically, together with the other limiters.
+     *
+     * @param nodePermitsPerSecond reads the server quota of this protocol from its configuration
+     */
+    public <T extends CommonConfiguration> void startReload(Class<T> configurationClass,
+                                                            ToDoubleFunction<T> nodePermitsPerSecond) {
+        synchronized (EventMeshRateLimiter.class) {
+            if (RELOADERS.stream().anyMatch(reloader -> reloader.limiter == this)) {
+                return;
+            }
+            RELOADERS.add(new Reloader<>(this, configurationClass, nodePermitsPerSecond));
+            if (reloadTask == null) {
+                long interval = quota.reloadIntervalInMills;
+                reloadTask = RELOADER.scheduleWithFixedDelay(EventMeshRateLimiter::reloadAll, interval, interval,
+                    TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    public void shutdown() {
+        synchronized (EventMeshRateLimiter.class) {
+            RELOADERS.removeIf(reloader -> reloader.limiter == this);
+            if (RELOADERS.isEmpty() && reloadTask != null) {
+                reloadTask.cancel(false);
+                reloadTask = null;
+            }
+        }
+    }
+
+    private static void reloadAll() {
+        ConfigService configService = ConfigService.getInstance();
+        try {
+            configService.refreshRootConfig();
+        } catch (Exception e) {
+            LOGGER.error("rate limit reload failed", e);
+            return;
+        }
+        // limiters of the same protocol share one configuration instance
+        Map<Class<?>, CommonConfiguration> configurations = new HashMap<>();
+        for (Reloader<?> reloader : RELOADERS) {
+            try {
+                reloader.reload(configService, configurations);
+            } catch (Exception e) {
+                LOGGER.error("{} rate limit reload failed", reloader.limiter.name, e);
+            }
+        }
+    }
+
+    public double getNodePermitsPerSecond() {
+        return nodeBucket.getRate();
+    }
+
+    public long getRejectedNum(RateLimitResult result) {
+        return rejected.get(result).sum();
+    }
+
+    private RateLimitResult reject(RateLimitResult result) {
+        rejected.get(result).increment();
+        return result;
+    }
+
+    private static void release(TokenBucket bucket, int permits) {
+        if (bucket != null) {
+            bucket.release(permits);
+        }
+    }
+
+    private static TokenBucket bucket(Map<String, TokenBucket> buckets, String key, Map<String, Integer> permits,
+                                      int defaultPermits) {
+        TokenBucket bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        int rate = permits.getOrDefault(key, defaultPermits);
+        if (rate <= 0) {
+            return null;
+        }
+        return buckets.computeIfAbsent(key, k -> new TokenBucket(rate));
+    }
+
+    int getBucketNum() {
+        return groupBuckets.size() + topicBuckets.size();
+    }
+
+    /**
+     * Update the rates of the buckets and drop the ones without quota or full since {@code idleSince}, a request racing
+     * with the drop may be counted on the dropped bucket, which only lets that one request through early.
+     */
+    private static void reloadBuckets(Map<String, TokenBucket> buckets, Map<String, Integer> permits, int defaultPermits,
+                                      long idleSince) {
+        Iterator<Map.Entry<String, TokenBucket>> iterator = buckets.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, TokenBucket> entry = iterator.next();
+            int rate = permits.getOrDefault(entry.getKey(), defaultPermits);
+            if (rate <= 0 || entry.getValue().isFullSince(idleSince)) {
+                iterator.remove();
+            } else {
+                entry.getValue().setRate(rate);
+            }
+        }
+    }
+
+    private static final class Reloader<T extends CommonConfiguration> {
+
+        private final EventMeshRateLimiter limiter;
+
+        private final Class<T> configurationClass;
+
+        private final ToDoubleFunction<T> nodePermitsPerSecond;
+
+        private Reloader(EventMeshRateLimiter limiter, Class<T> configurationClass, ToDoubleFunction<T> nodePermitsPerSecond) {
+            this.limiter = limiter;
+            this.configurationClass = configurationClass;
+            this.nodePermitsPerSecond = nodePermitsPerSecond;
+        }
+
+        private void reload(ConfigService configService, Map<Class<?>, CommonConfiguration> configurations) {
+            T configuration = configurationClass.cast(configurations.computeIfAbsent(configurationClass,
+                configService::buildConfigInstance));
+            limiter.reload(nodePermitsPerSecond.applyAsDouble(configuration), configuration);
+        }
+    }
+
+    private static final class Quota {
+
+        private final int groupDefaultPermits;
+
+        private final int topicDefaultPermits;
+
+        private final Map<String, Integer> groupPermits;
+
+        private final Map<String, Integer> topicPermits;
+
+        private final long reloadIntervalInMills;
+
+        private Quota(CommonConfiguration configuration) {
+            this.groupDefaultPermits = configuration.getEventMeshRateLimitGroupPermitsPerSecond();
+            this.topicDefaultPermits = configuration.getEventMeshRateLimitTopicPermitsPerSecond();
+            this.groupPermits = nonNull(configuration.getEventMeshRateLimitGroupPermits());
+            this.topicPermits = nonNull(configuration.getEventMeshRateLimitTopicPermits());
+            this.reloadIntervalInMills = Math.max(1000, configuration.getEventMeshRateLimitReloadIntervalInMills());
+        }
+
+        private static Map<String, Integer> nonNull(Map<String, Integer> permits) {
+            return permits == null ? Collections.emptyMap() : permits;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Quota)) {
+                return false;
+            }
+            Quota quota = (Quota) o;
+            return groupDefaultPermits == quota.groupDefaultPermits
+                && topicDefaultPermits == quota.topicDefaultPermits
+                && groupPermits.equals(quota.groupPermits)
+                && topicPermits.equals(quota.topicPermits);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(groupDefaultPermits, topicDefaultPermits, groupPermits, topicPermits);
+        }
+    }
+}
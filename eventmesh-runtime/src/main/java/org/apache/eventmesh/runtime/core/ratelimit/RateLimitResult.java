@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.ratelimit;
+
+/**
+ * Outcome of {@link EventMeshRateLimiter#tryAcquire}, naming the quota a rejected request ran into.
+ */
+public enum RateLimitResult {
+
+    PASSED("passed"),
+    NODE_LIMITED("Tps overload, server flow control"),
+    GROUP_LIMITED("Tps overload, producer group flow control"),
+    TOPIC_LIMITED("Tps overload, topic flow control");
+
+    private final String desc;
+
+    RateLimitResult(String desc) {
+        this.desc = desc;
+    }
+
+    public boolean isPassed() {
+        return this == PASSED;
+    }
+
+    public String getDesc() {
+        return desc;
+    }
+}
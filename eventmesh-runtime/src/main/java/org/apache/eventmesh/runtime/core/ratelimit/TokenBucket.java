@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket, implemented as the generic cell rate algorithm.
+ *
+ * <p>Instead of a token count the bucket keeps the time at which it will be full again, a request of n permits moves
+ * that time n intervals further and passes if it stays within one second of burst from now. A request larger than the
+ * burst passes on a full bucket and is paid for by the requests after it, like the Guava RateLimiter did.
+ */
+public class TokenBucket {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong fullAt = new AtomicLong(Long.MIN_VALUE);
+
+    private volatile Rate rate;
+
+    public TokenBucket(double permitsPerSecond) {
+        setRate(permitsPerSecond);
+    }
+
+    /**
+     * @param permitsPerSecond 0 or less makes the bucket unlimited
+     */
+    public void setRate(double permitsPerSecond) {
+        this.rate = new Rate(permitsPerSecond);
+    }
+
+    public double getRate() {
+        return rate.permitsPerSecond;
+    }
+
+    public boolean isUnlimited() {
+        return rate.intervalNanos == 0;
+    }
+
+    public boolean tryAcquire(int permits) {
+        return tryAcquire(permits, System.nanoTime());
+    }
+
+    boolean tryAcquire(int permits, long nowNanos) {
+        Rate current = this.rate;
+        if (current.intervalNanos == 0) {
+            return true;
+        }
+        long cost = current.intervalNanos * permits;
+        for (; ; ) {
+            long prev = fullAt.get();
+            long start = Math.max(prev, nowNanos);
+            if (start != nowNanos && start - nowNanos + cost > current.burstNanos) {
+                return false;
+            }
+            if (fullAt.compareAndSet(prev, start + cost)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Whether the bucket has been full since the given time, a full bucket can be dropped and created again without
+     * changing what it lets through.
+     */
+    boolean isFullSince(long nanos) {
+        return fullAt.get() <= nanos;
+    }
+
+    /**
+     * Give back permits acquired by a request that was rejected afterwards.
+     */
+    public void release(int permits) {
+        Rate current = this.rate;
+        if (current.intervalNanos != 0) {
+            fullAt.addAndGet(-current.intervalNanos * permits);
+        }
+    }
+
+    private static final class Rate {
+
+        private final double permitsPerSecond;
+
+        private final long intervalNanos;
+
+        private final long burstNanos;
+
+        private Rate(double permitsPerSecond) {
+            this.permitsPerSecond = Math.max(permitsPerSecond, 0);
+            this.intervalNanos = permitsPerSecond > 0 ? Math.max(1, (long) (NANOS_PER_SECOND / permitsPerSecond)) : 0;
+            this.burstNanos = Math.max(NANOS_PER_SECOND, intervalNanos);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.eventmesh.runtime.core.retry;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Exponential backoff with jitter for retry delays.
+ */
+public final class RetryBackoff {
+
+    private static final int MAX_SHIFT = 30;
+
+    private RetryBackoff() {
+    }
+
+    /**
+     * Delay of the given attempt: {@code baseMills * 2^(attempt - 1)} capped at {@code maxMills}, of which the upper
+     * half is randomized so that retries failing together do not come back together.
+     *
+     * @param attempt retry attempt, starting at 1
+     */
+    public static long exponential(long baseMills, int attempt, long maxMills) {
+        if (baseMills <= 0) {
+            return 0;
+        }
+        int shift = Math.min(Math.max(attempt - 1, 0), MAX_SHIFT);
+        long delay = baseMills > (maxMills >> shift) ? maxMills : baseMills << shift;
+        long half = delay / 2;
+        return delay - half + ThreadLocalRandom.current().nextLong(half + 1);
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.eventmesh.runtime.core.retry;
+
+import org.apache.eventmesh.runtime.util.EventMeshThreadFactoryImpl;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongConsumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Retries of one protocol on the shared {@link RetryScheduler}.
+ *
+ * <p>A task counts against the protocol and consumer group quota from {@link #schedule} until a worker thread picks
+ * it up, so the executor backlog is bounded by the quota as well and nothing is dropped without being counted.
+ */
+public class RetryLane {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("retry");
+
+    private final RetryScheduler scheduler;
+
+    private final String protocol;
+
+    private final int maxPending;
+
+    private final int maxPendingPerGroup;
+
+    private final ThreadPoolExecutor executor;
+
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private final Map<String, AtomicInteger> groupPending = new ConcurrentHashMap<>();
+
+    private final LongAdder dropped = new LongAdder();
+
+    private final LongAdder executed = new LongAdder();
+
+    private final LongAdder totalLatency = new LongAdder();
+
+    private final AtomicLong maxLatency = new AtomicLong();
+
+    private volatile LongConsumer latencyListener;
+
+    RetryLane(RetryScheduler scheduler, String protocol, int maxPending, int maxPendingPerGroup, int threadNum) {
+        this.scheduler = scheduler;
+        this.protocol = protocol;
+        this.maxPending = maxPending;
+        this.maxPendingPerGroup = maxPendingPerGroup;
+        this.executor = new ThreadPoolExecutor(threadNum, threadNum, 60000, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(), new EventMeshThreadFactoryImpl(protocol + "-retry", true));
+    }
+
+    /**
+     * Schedule a retry.
+     *
+     * @param group      consumer or producer group of the retry, null if it should only count against the protocol quota
+     * @param delayMills delay before the retry runs
+     * @return false if the retry was dropped because a quota is exhausted
+     */
+    public boolean schedule(String group, long delayMills, Runnable action) {
+        if (pending.incrementAndGet() > maxPending) {
+            pending.decrementAndGet();
+            dropped.increment();
+            LOGGER.error("[RETRY-QUEUE] is full! protocol:{}, maxPending:{}", protocol, maxPending);
+            return false;
+        }
+
+        AtomicInteger groupCounter = null;
+        if (group != null) {
+            groupCounter = groupPending.computeIfAbsent(group, k -> new AtomicInteger());
+            if (groupCounter.incrementAndGet() > maxPendingPerGroup) {
+                groupCounter.decrementAndGet();
+                pending.decrementAndGet();
+                dropped.increment();
+                LOGGER.error("[RETRY-QUEUE] is full! protocol:{}, group:{}, maxPendingPerGroup:{}", protocol, group,
+                    maxPendingPerGroup);
+                return false;
+            }
+        }
+
+        scheduler.submit(new RetryTask(this, groupCounter, System.currentTimeMillis() + Math.max(0, delayMills), action));
+        return true;
+    }
+
+    void execute(RetryTask task) {
+        try {
+            executor.execute(() -> run(task));
+        } catch (RejectedExecutionException e) {
+            release(task);
+            dropped.increment();
+            LOGGER.warn("{}-retry rejected, lane is shut down", protocol);
+        }
+    }
+
+    private void run(RetryTask task) {
+        release(task);
+        long latency = System.currentTimeMillis() - task.deadline;
+        totalLatency.add(latency);
+        maxLatency.accumulateAndGet(latency, Math::max);
+        LongConsumer listener = latencyListener;
+        if (listener != null) {
+            listener.accept(latency);
+        }
+        executed.increment();
+        try {
+            task.action.run();
+        } catch (Exception e) {
+            LOGGER.error("{}-retry error!", protocol, e);
+        }
+    }
+
+    private void release(RetryTask task) {
+        pending.decrementAndGet();
+        if (task.groupPending != null) {
+            task.groupPending.decrementAndGet();
+        }
+    }
+
+    public void shutdown() {
+        scheduler.unregister(this);
+        executor.shutdown();
+    }
+
+    public String getProtocol() {
+        return protocol;
+    }
+
+    /**
+     * Retries waiting for their deadline or for a worker thread.
+     */
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    public int getPendingCount(String group) {
+        AtomicInteger counter = groupPending.get(group);
+        return counter == null ? 0 : counter.get();
+    }
+
+    /**
+     * Pending retries per group, groups without pending retries are left out.
+     */
+    public Map<String, Long> getPendingCountByGroup() {
+        Map<String, Long> counts = new HashMap<>();
+        groupPending.forEach((group, counter) -> {
+            int count = counter.get();
+            if (count > 0) {
+                counts.put(group, (long) count);
+            }
+        });
+        return counts;
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public long getExecutedCount() {
+        return executed.sum();
+    }
+
+    /**
+     * Average time between the deadline of a retry and the moment it started running.
+     */
+    public float getAvgLatencyMills() {
+        long count = executed.sum();
+        return count == 0 ? 0f : (float) totalLatency.sum() / count;
+    }
+
+    public long getMaxLatencyMills() {
+        return maxLatency.get();
+    }
+
+    /**
+     * Listener called with the latency of every retry that starts running, used to feed the protocol metrics.
+     */
+    public void setLatencyListener(LongConsumer latencyListener) {
+        this.latencyListener = latencyListener;
+    }
+
+    @Override
+    public String toString() {
+        return "RetryLane{protocol=" + protocol
+            + ",pending=" + getPendingCount()
+            + ",dropped=" + getDroppedCount()
+            + ",executed=" + getExecutedCount()
+            + ",avgLatencyMills=" + getAvgLatencyMills()
+            + ",maxLatencyMills=" + getMaxLatencyMills() + "}";
+    }
+}
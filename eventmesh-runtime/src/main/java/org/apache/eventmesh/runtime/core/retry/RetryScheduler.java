@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.eventmesh.runtime.core.retry;
+
+import org.apache.eventmesh.common.config.CommonConfiguration;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Retry scheduler shared by the TCP, HTTP and gRPC retryers.
+ *
+ * <p>Producers hand their tasks to a lock-free inbox, a single tick thread moves them into a {@link TimingWheel}
+ * and, once a deadline is reached, passes them to the executor of the {@link RetryLane} they were scheduled on.
+ * Each protocol registers its own lane so that quotas, worker threads and metrics stay separated.
+ */
+public class RetryScheduler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RetryScheduler.class);
+
+    private final long tickMills;
+
+    private final int maxPendingPerGroup;
+
+    private final TimingWheel wheel;
+
+    private final Queue<RetryTask> inbox = new ConcurrentLinkedQueue<>();
+
+    private final Map<String, RetryLane> lanes = new ConcurrentHashMap<>();
+
+    private final Thread ticker;
+
+    public RetryScheduler(CommonConfiguration configuration) {
+        this(configuration.getEventMeshRetryTickInMills(), configuration.getEventMeshRetryWheelSize(),
+            configuration.getEventMeshRetryGroupMaxPending());
+    }
+
+    public RetryScheduler(long tickMills, int wheelSize, int maxPendingPerGroup) {
+        this.tickMills = tickMills;
+        this.maxPendingPerGroup = maxPendingPerGroup;
+        this.wheel = new TimingWheel(tickMills, wheelSize, System.currentTimeMillis());
+        this.ticker = new Thread(this::tick, "eventMesh-retry-ticker");
+        this.ticker.setDaemon(true);
+    }
+
+    /**
+     * Register the retry lane of a protocol.
+     *
+     * @param protocol   protocol name, also used as thread name prefix
+     * @param maxPending max tasks of this protocol waiting in the wheel or for a worker thread
+     * @param threadNum  worker threads running the retries of this protocol
+     */
+    public RetryLane register(String protocol, int maxPending, int threadNum) {
+        RetryLane lane = new RetryLane(this, protocol, maxPending, maxPendingPerGroup, threadNum);
+        if (lanes.putIfAbsent(protocol, lane) != null) {
+            lane.shutdown();
+            throw new IllegalStateException("retry lane already registered for protocol " + protocol);
+        }
+        return lane;
+    }
+
+    public void start() {
+        ticker.start();
+        LOGGER.info("RetryScheduler started, tickMills:{}, maxPendingPerGroup:{}", tickMills, maxPendingPerGroup);
+    }
+
+    public void shutdown() {
+        ticker.interrupt();
+        LOGGER.info("RetryScheduler shutdown......");
+    }
+
+    public RetryLane getLane(String protocol) {
+        return lanes.get(protocol);
+    }
+
+    public int getPendingCount() {
+        int pending = 0;
+        for (RetryLane lane : lanes.values()) {
+            pending += lane.getPendingCount();
+        }
+        return pending;
+    }
+
+    void submit(RetryTask task) {
+        inbox.offer(task);
+    }
+
+    void unregister(RetryLane lane) {
+        lanes.remove(lane.getProtocol(), lane);
+    }
+
+    private void tick() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                RetryTask task;
+                while ((task = inbox.poll()) != null) {
+                    if (!wheel.add(task)) {
+                        task.fire();
+                    }
+                }
+                wheel.advance(System.currentTimeMillis(), entry -> ((RetryTask) entry).fire());
+
+                long sleepMills = wheel.nextTickMills() - System.currentTimeMillis();
+                if (sleepMills > 0) {
+                    Thread.sleep(sleepMills);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                LOGGER.error("eventMesh-retry-ticker error!", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.eventmesh.runtime.core.retry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel.
+ *
+ * <p>Every level has {@code wheelSize} buckets. The first level advances one bucket per {@code tickMills}, each
+ * further level spans a whole rotation of the level below with one bucket and is only created once a deadline needs
+ * it. Adding an entry and expiring it are O(1), entries of higher levels are cascaded down when their bucket comes
+ * up. An entry expires once the tick holding its deadline has passed, so it never fires early and at most one tick
+ * late. The wheel is not thread safe, {@link RetryScheduler} drives it from its single tick thread.
+ */
+final class TimingWheel {
+
+    private final long tickMills;
+
+    private final int wheelSize;
+
+    private final List<Entry[]> levels = new ArrayList<>();
+
+    /**
+     * Start of the last expired first level tick, always a multiple of {@code tickMills}.
+     */
+    private long currentTime;
+
+    private int size;
+
+    TimingWheel(long tickMills, int wheelSize, long startMills) {
+        if (tickMills <= 0 || wheelSize < 2) {
+            throw new IllegalArgumentException("tickMills must be positive and wheelSize at least 2");
+        }
+        this.tickMills = tickMills;
+        this.wheelSize = wheelSize;
+        this.currentTime = startMills - startMills % tickMills - tickMills;
+        level(0);
+    }
+
+    /**
+     * Add an entry to the wheel.
+     *
+     * @return false if the deadline of the entry has already passed, the caller should run it right away
+     */
+    boolean add(Entry entry) {
+        if (entry.deadline < currentTime + tickMills) {
+            return false;
+        }
+        long tick = tickMills;
+        for (int level = 0; ; level++) {
+            long levelStart = currentTime - currentTime % tick;
+            if (entry.deadline - levelStart < tick * wheelSize) {
+                Entry[] buckets = level(level);
+                int slot = (int) ((entry.deadline / tick) % wheelSize);
+                entry.next = buckets[slot];
+                buckets[slot] = entry;
+                size++;
+                return true;
+            }
+            if (tick > Long.MAX_VALUE / wheelSize / wheelSize) {
+                throw new IllegalArgumentException("deadline is too far away: " + entry.deadline);
+            }
+            tick *= wheelSize;
+        }
+    }
+
+    /**
+     * Advance the wheel up to {@code now}, handing every entry whose deadline has been reached to {@code expired}.
+     */
+    void advance(long now, Consumer<Entry> expired) {
+        while (nextTickMills() <= now) {
+            currentTime += tickMills;
+
+            int top = 0;
+            long tick = tickMills;
+            while (top + 1 < levels.size() && currentTime % (tick * wheelSize) == 0) {
+                tick *= wheelSize;
+                top++;
+            }
+
+            // cascade from the highest level whose bucket starts now down to the first level, whose entries expire
+            for (int level = top; level >= 0; level--) {
+                Entry[] buckets = levels.get(level);
+                int slot = (int) ((currentTime / tick) % wheelSize);
+                Entry entry = buckets[slot];
+                buckets[slot] = null;
+                while (entry != null) {
+                    Entry next = entry.next;
+                    entry.next = null;
+                    size--;
+                    if (!add(entry)) {
+                        expired.accept(entry);
+                    }
+                    entry = next;
+                }
+                tick /= wheelSize;
+            }
+        }
+    }
+
+    /**
+     * Time at which the next tick can be expired.
+     */
+    long nextTickMills() {
+        return currentTime + 2 * tickMills;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private Entry[] level(int level) {
+        while (levels.size() <= level) {
+            levels.add(new Entry[wheelSize]);
+        }
+        return levels.get(level);
+    }
+
+    /**
+     * Intrusive list node, subclasses carry the payload so that scheduling does not allocate wrapper objects.
+     */
+    abstract static class Entry {
+
+        final long deadline;
+
+        Entry next;
+
+        Entry(long deadline) {
+            this.deadline = deadline;
+        }
+    }
+}
@@ -20,7 +20,10 @@ package org.apache.eventmesh.runtime.metrics.grpc;
 import org.apache.eventmesh.common.ThreadPoolFactory;
 import org.apache.eventmesh.metrics.api.MetricsRegistry;
 import org.apache.eventmesh.metrics.api.model.GrpcSummaryMetrics;
+import org.apache.eventmesh.metrics.api.model.TopicGroupMetrics;
 import org.apache.eventmesh.runtime.boot.EventMeshGrpcServer;
+import org.apache.eventmesh.runtime.constants.EventMeshConstants;
+import org.apache.eventmesh.runtime.core.protocol.grpc.push.MessageHandler;
 import org.apache.eventmesh.runtime.util.EventMeshThreadFactoryImpl;
 
 import java.util.List;
@@ -43,11 +46,13 @@ public class EventMeshGrpcMonitor {
     private ScheduledExecutorService scheduler;
     private ScheduledFuture<?> scheduleTask;
     private GrpcSummaryMetrics grpcSummaryMetrics;
+    private TopicGroupMetrics topicGroupMetrics;
 
     public EventMeshGrpcMonitor(EventMeshGrpcServer eventMeshGrpcServer, List<MetricsRegistry> metricsRegistries) {
         this.eventMeshGrpcServer = Preconditions.checkNotNull(eventMeshGrpcServer);
         this.metricsRegistries = Preconditions.checkNotNull(metricsRegistries);
         this.grpcSummaryMetrics = new GrpcSummaryMetrics();
+        this.topicGroupMetrics = new TopicGroupMetrics(EventMeshConstants.PROTOCOL_GRPC);
         this.scheduler = ThreadPoolFactory.createScheduledExecutor(SCHEDULE_THREAD_SIZE,
             new EventMeshThreadFactoryImpl(THREAD_NAME_PREFIX, true));
     }
@@ -59,12 +64,18 @@ public class EventMeshGrpcMonitor {
     public void start() throws Exception {
         metricsRegistries.forEach(metricsRegistry -> {
             metricsRegistry.register(grpcSummaryMetrics);
+            metricsRegistry.register(topicGroupMetrics);
         });
+        eventMeshGrpcServer.getGrpcRetryer().getLane().setLatencyListener(grpcSummaryMetrics::recordRetryLatency);
 
         // update tps metrics and clear counter
         scheduleTask = scheduler.scheduleAtFixedRate(() -> {
             grpcSummaryMetrics.refreshTpsMetrics(SCHEDULE_PERIOD_MILLS);
             grpcSummaryMetrics.clearAllMessageCounter();
+            grpcSummaryMetrics.snapshotLatency();
+            topicGroupMetrics.refreshTps(SCHEDULE_PERIOD_MILLS);
+            topicGroupMetrics.updateUnackNum(MessageHandler.waitingRequestsByTopic());
+            topicGroupMetrics.updateRetryNum(eventMeshGrpcServer.getGrpcRetryer().getLane().getPendingCountByGroup());
             grpcSummaryMetrics.setRetrySize(eventMeshGrpcServer.getGrpcRetryer().size());
             grpcSummaryMetrics.setSubscribeTopicNum(eventMeshGrpcServer.getConsumerManager().getAllConsumerTopic().size());
         }, DELAY_MILLS, SCHEDULE_PERIOD_MILLS, TimeUnit.MILLISECONDS);
@@ -90,6 +101,18 @@ public class EventMeshGrpcMonitor {
         grpcSummaryMetrics.getEventMesh2ClientMsgNum().incrementAndGet();
     }
 
+    public void recordSend2MQLatency(String topic, long cost) {
+        grpcSummaryMetrics.recordSend2MQLatency(topic, cost);
+    }
+
+    public void recordPush2ClientLatency(String topic, long cost) {
+        grpcSummaryMetrics.recordPush2ClientLatency(topic, cost);
+    }
+
+    public TopicGroupMetrics getTopicGroupMetrics() {
+        return topicGroupMetrics;
+    }
+
     public void shutdown() throws Exception {
         scheduleTask.cancel(true);
         metricsRegistries.forEach(MetricsRegistry::showdown);
@@ -19,7 +19,10 @@ package org.apache.eventmesh.runtime.metrics.http;
 
 import org.apache.eventmesh.metrics.api.MetricsRegistry;
 import org.apache.eventmesh.metrics.api.model.HttpSummaryMetrics;
+import org.apache.eventmesh.metrics.api.model.Metric;
+import org.apache.eventmesh.metrics.api.model.TopicGroupMetrics;
 import org.apache.eventmesh.runtime.boot.EventMeshHTTPServer;
+import org.apache.eventmesh.runtime.constants.EventMeshConstants;
 
 import java.util.List;
 import java.util.Objects;
@@ -42,6 +45,8 @@ public class HTTPMetricsServer {
 
     private final transient HttpSummaryMetrics summaryMetrics;
 
+    private final transient TopicGroupMetrics topicGroupMetrics;
+
     public HTTPMetricsServer(final EventMeshHTTPServer eventMeshHTTPServer,
                              final List<MetricsRegistry> metricsRegistries) {
         Objects.requireNonNull(eventMeshHTTPServer, "EventMeshHTTPServer can not be null");
@@ -53,7 +58,10 @@ public class HTTPMetricsServer {
                 eventMeshHTTPServer.batchMsgExecutor,
                 eventMeshHTTPServer.sendMsgExecutor,
                 eventMeshHTTPServer.pushMsgExecutor,
-                eventMeshHTTPServer.getHttpRetryer().getFailedQueue());
+                eventMeshHTTPServer.getHttpRetryer()::size,
+                eventMeshHTTPServer.getInflightPushTracker()::size);
+        eventMeshHTTPServer.getHttpRetryer().getLane().setLatencyListener(summaryMetrics::recordHttpRetryLatency);
+        this.topicGroupMetrics = new TopicGroupMetrics(EventMeshConstants.PROTOCOL_HTTP);
 
         init();
     }
@@ -68,6 +76,7 @@ public class HTTPMetricsServer {
     public void start() {
         metricsRegistries.forEach(metricsRegistry -> {
             metricsRegistry.register(summaryMetrics);
+            metricsRegistry.register(topicGroupMetrics);
             if (LOGGER.isInfoEnabled()) {
                 LOGGER.info("Register httpMetrics to {}", metricsRegistry.getClass().getName());
             }
@@ -97,6 +106,13 @@ public class HTTPMetricsServer {
         }
     }
 
+    /**
+     * Register the metric of a component served by the http server, e.g. the webhook config cache.
+     */
+    public void register(final Metric metric) {
+        metricsRegistries.forEach(metricsRegistry -> metricsRegistry.register(metric));
+    }
+
     public void shutdown() {
         metricsSchedule.shutdown();
         metricsRegistries.forEach(MetricsRegistry::showdown);
@@ -121,6 +137,11 @@ public class HTTPMetricsServer {
 
     private void logPrintServerMetrics(final HttpSummaryMetrics summaryMetrics,
                                        final EventMeshHTTPServer eventMeshHTTPServer) {
+        summaryMetrics.snapshotLatency();
+        topicGroupMetrics.refreshTps(30 * 1000);
+        topicGroupMetrics.updateUnackNum(eventMeshHTTPServer.getInflightPushTracker().sizeByTopic());
+        topicGroupMetrics.updateRetryNum(eventMeshHTTPServer.getHttpRetryer().getLane().getPendingCountByGroup());
+
         if (LOGGER.isInfoEnabled()) {
             LOGGER.info("===========================================SERVER METRICS==================================================");
 
@@ -133,8 +154,6 @@ public class HTTPMetricsServer {
                     summaryMetrics.getHttpDiscard());
         }
 
-        summaryMetrics.httpStatInfoClear();
-
 
         if (LOGGER.isInfoEnabled()) {
             LOGGER.info("maxBatchSendMsgTPS: {}, avgBatchSendMsgTPS: {}, sum: {}. sumFail: {}, sumFailRate: {}, discard : {}",
@@ -182,11 +201,12 @@ public class HTTPMetricsServer {
 
 
         if (LOGGER.isInfoEnabled()) {
-            LOGGER.info("batchMsgQ: {}, sendMsgQ: {}, pushMsgQ: {}, httpRetryQ: {}",
+            LOGGER.info("batchMsgQ: {}, sendMsgQ: {}, pushMsgQ: {}, pushInflight: {}, httpRetry: {}",
                     eventMeshHTTPServer.getBatchMsgExecutor().getQueue().size(),
                     eventMeshHTTPServer.getSendMsgExecutor().getQueue().size(),
                     eventMeshHTTPServer.getPushMsgExecutor().getQueue().size(),
-                    eventMeshHTTPServer.getHttpRetryer().size());
+                    eventMeshHTTPServer.getInflightPushTracker().size(),
+                    eventMeshHTTPServer.getHttpRetryer().getLane());
         }
 
 
@@ -195,11 +215,19 @@ public class HTTPMetricsServer {
                     summaryMetrics.avgBatchSendMsgCost(),
                     summaryMetrics.avgSendMsgCost(),
                     summaryMetrics.avgReplyMsgCost());
+            LOGGER.info("p99HTTPCost: {}, p99Send2MQCost: {}, p99PushLatency: {}, p99RetryLatency: {}",
+                    summaryMetrics.getHttpReqResLatency().getSnapshot().getP99(),
+                    summaryMetrics.getSend2MQLatency().getSnapshot().getP99(),
+                    summaryMetrics.getHttpPushLatency().getSnapshot().getP99(),
+                    summaryMetrics.getHttpRetryLatency().getSnapshot().getP99());
         }
-        summaryMetrics.send2MQStatInfoClear();
     }
 
     public HttpSummaryMetrics getSummaryMetrics() {
         return summaryMetrics;
     }
+
+    public TopicGroupMetrics getTopicGroupMetrics() {
+        return topicGroupMetrics;
+    }
 }
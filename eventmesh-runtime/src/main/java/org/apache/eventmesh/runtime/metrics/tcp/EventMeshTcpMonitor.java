@@ -19,16 +19,20 @@ package org.apache.eventmesh.runtime.metrics.tcp;
 
 import org.apache.eventmesh.metrics.api.MetricsRegistry;
 import org.apache.eventmesh.metrics.api.model.TcpSummaryMetrics;
+import org.apache.eventmesh.metrics.api.model.TopicGroupMetrics;
 import org.apache.eventmesh.runtime.boot.EventMeshTCPServer;
 import org.apache.eventmesh.runtime.constants.EventMeshConstants;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.EventMeshTcpConnectionHandler;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.Session;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.push.DownStreamMsgContext;
 import org.apache.eventmesh.runtime.metrics.MonitorMetricConstants;
 
 import java.net.InetSocketAddress;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
@@ -65,11 +69,14 @@ public class EventMeshTcpMonitor {
 
     private final TcpSummaryMetrics tcpSummaryMetrics;
 
+    private final TopicGroupMetrics topicGroupMetrics;
+
     private final List<MetricsRegistry> metricsRegistries;
 
     public EventMeshTcpMonitor(EventMeshTCPServer eventMeshTCPServer, List<MetricsRegistry> metricsRegistries) {
         this.eventMeshTCPServer = eventMeshTCPServer;
         this.tcpSummaryMetrics = new TcpSummaryMetrics();
+        this.topicGroupMetrics = new TopicGroupMetrics(EventMeshConstants.PROTOCOL_TCP);
         this.metricsRegistries = Preconditions.checkNotNull(metricsRegistries);
     }
 
@@ -81,8 +88,10 @@ public class EventMeshTcpMonitor {
     public void start() throws Exception {
         metricsRegistries.forEach(metricsRegistry -> {
             metricsRegistry.register(tcpSummaryMetrics);
+            metricsRegistry.register(topicGroupMetrics);
             log.info("Register tcpMetrics to {}", metricsRegistry.getClass().getName());
         });
+        eventMeshTCPServer.getEventMeshTcpRetryer().getLane().setLatencyListener(tcpSummaryMetrics::recordRetryLatency);
 
         int delay = 60 * 1000;
         monitorTpsTask = eventMeshTCPServer.getScheduler().scheduleAtFixedRate((() -> {
@@ -102,11 +111,15 @@ public class EventMeshTcpMonitor {
             tcpSummaryMetrics.resetMq2eventMeshMsgNum();
             tcpSummaryMetrics.setMq2eventMeshTPS((int) 1000.0d * msgNum / period);
 
+            tcpSummaryMetrics.snapshotLatency();
+            topicGroupMetrics.refreshTps(period);
+
             //count topics subscribed by client in this eventMesh
             ConcurrentHashMap<InetSocketAddress, Session> sessionMap =
                     eventMeshTCPServer.getClientSessionGroupMapping().getSessionMap();
             Iterator<Session> sessionIterator = sessionMap.values().iterator();
             Set<String> topicSet = new HashSet<>();
+            Map<TopicGroupMetrics.Key, Long> unackNum = new HashMap<>();
             while (sessionIterator.hasNext()) {
                 Session session = sessionIterator.next();
                 AtomicLong deliveredMsgsCount = session.getPusher().getDeliveredMsgsCount();
@@ -120,7 +133,13 @@ public class EventMeshTcpMonitor {
                         unAckMsgsCount, sendTopics, subscribeTopics, session.getClient());
 
                 topicSet.addAll(session.getSessionContext().subscribeTopics.keySet());
+                for (DownStreamMsgContext downStreamMsgContext : session.getPusher().getUnAckMsg().values()) {
+                    unackNum.merge(new TopicGroupMetrics.Key(downStreamMsgContext.event.getSubject(), session.getClient().getGroup()),
+                            1L, Long::sum);
+                }
             }
+            topicGroupMetrics.updateUnackNum(unackNum);
+            topicGroupMetrics.updateRetryNum(eventMeshTCPServer.getEventMeshTcpRetryer().getLane().getPendingCountByGroup());
             tcpSummaryMetrics.setSubTopicNum(topicSet.size());
             tcpSummaryMetrics.setAllConnections(EventMeshTcpConnectionHandler.connections.get());
             printAppLogger(tcpSummaryMetrics);
@@ -171,6 +190,10 @@ public class EventMeshTcpMonitor {
         return tcpSummaryMetrics;
     }
 
+    public TopicGroupMetrics getTopicGroupMetrics() {
+        return topicGroupMetrics;
+    }
+
     public void shutdown() throws Exception {
         monitorTpsTask.cancel(true);
         monitorThreadPoolTask.cancel(true);
@@ -17,10 +17,15 @@
 
 package org.apache.eventmesh.runtime.trace;
 
+import org.apache.eventmesh.common.config.ConfigService;
 import org.apache.eventmesh.trace.api.EventMeshTraceService;
 import org.apache.eventmesh.trace.api.TracePluginFactory;
+import org.apache.eventmesh.trace.api.config.ExporterConfiguration;
 
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
@@ -39,17 +44,33 @@ public class Trace {
     private final boolean useTrace;
     private EventMeshTraceService eventMeshTraceService;
 
+    // extensions copied into span attributes, all of them up to attributeMaxNum if empty
+    private Set<String> attributeKeys = Collections.emptySet();
+    private int attributeMaxNum = Integer.MAX_VALUE;
+
     public Trace(boolean useTrace) {
         this.useTrace = useTrace;
     }
 
     public void init(String tracePluginType) throws Exception {
         if (useTrace) {
+            ExporterConfiguration exporterConfiguration = ConfigService.getInstance()
+                .buildConfigInstance(ExporterConfiguration.class);
+            attributeKeys = new LinkedHashSet<>(exporterConfiguration.getEventMeshTraceAttributeKeys());
+            attributeMaxNum = exporterConfiguration.getEventMeshTraceAttributeMaxNum();
+
             eventMeshTraceService = TracePluginFactory.getEventMeshTraceService(tracePluginType);
             eventMeshTraceService.init();
         }
     }
 
+    /**
+     * Callers check this before reading the event for tracing, so nothing is built when trace is disabled.
+     */
+    public boolean isEnabled() {
+        return useTrace;
+    }
+
     public Span createSpan(String spanName, SpanKind spanKind, long startTime, TimeUnit timeUnit,
                            Context context, boolean isSpanFinishInOtherThread) {
         if (!useTrace) {
@@ -68,6 +89,15 @@ public class Trace {
             isSpanFinishInOtherThread);
     }
 
+    public Span createSpan(String spanName, SpanKind spanKind, Context context, String topic,
+                           boolean isSpanFinishInOtherThread) {
+        if (!useTrace) {
+            return Span.getInvalid();
+        }
+        return eventMeshTraceService.createSpan(spanName, spanKind, context, topic,
+            isSpanFinishInOtherThread);
+    }
+
     public Context extractFrom(Context context, Map<String, Object> map) {
         if (!useTrace) {
             return null;
@@ -101,9 +131,7 @@ public class Trace {
         }
 
         //add trace info
-        for (String entry : cloudEvent.getExtensionNames()) {
-            span.setAttribute(entry, cloudEvent.getExtension(entry) == null ? "" : cloudEvent.getExtension(entry).toString());
-        }
+        setAttributes(span, cloudEvent);
         return span;
     }
 
@@ -121,9 +149,7 @@ public class Trace {
             return span;
         }
 
-        for (String entry : cloudEvent.getExtensionNames()) {
-            span.setAttribute(entry, cloudEvent.getExtension(entry) == null ? "" : cloudEvent.getExtension(entry).toString());
-        }
+        setAttributes(span, cloudEvent);
         return span;
     }
 
@@ -137,16 +163,55 @@ public class Trace {
             return null;
         }
 
-        if (map == null || map.size() < 1) {
+        if (map == null || map.size() < 1 || !span.isRecording()) {
             return span;
         }
 
-        for (Map.Entry<String, Object> entry : map.entrySet()) {
-            span.setAttribute(entry.getKey(), entry.getValue().toString());
+        if (attributeKeys.isEmpty()) {
+            int num = 0;
+            for (Map.Entry<String, Object> entry : map.entrySet()) {
+                if (num++ >= attributeMaxNum) {
+                    break;
+                }
+                span.setAttribute(entry.getKey(), String.valueOf(entry.getValue()));
+            }
+            return span;
+        }
+        for (String key : attributeKeys) {
+            Object value = map.get(key);
+            if (value != null) {
+                span.setAttribute(key, value.toString());
+            }
         }
         return span;
     }
 
+    /**
+     * Copy the allowed extensions of the event, a span that is not sampled is skipped.
+     */
+    private void setAttributes(Span span, CloudEvent cloudEvent) {
+        if (!span.isRecording()) {
+            return;
+        }
+        if (attributeKeys.isEmpty()) {
+            int num = 0;
+            for (String name : cloudEvent.getExtensionNames()) {
+                if (num++ >= attributeMaxNum) {
+                    break;
+                }
+                Object value = cloudEvent.getExtension(name);
+                span.setAttribute(name, value == null ? "" : value.toString());
+            }
+            return;
+        }
+        for (String name : attributeKeys) {
+            Object value = cloudEvent.getExtension(name);
+            if (value != null) {
+                span.setAttribute(name, value.toString());
+            }
+        }
+    }
+
     public void finishSpan(ChannelHandlerContext ctx, StatusCode statusCode) {
         try {
             if (useTrace) {
@@ -18,6 +18,7 @@
 package org.apache.eventmesh.runtime.trace;
 
 import org.apache.eventmesh.runtime.boot.EventMeshServer;
+import org.apache.eventmesh.runtime.util.EventMeshUtil;
 
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
@@ -35,8 +36,19 @@ import io.opentelemetry.context.Context;
 public class TraceUtils {
     private static Logger logger = LoggerFactory.getLogger(TraceUtils.class);
 
+    /**
+     * Whether trace is enabled, callers check it before building anything that is only used by trace.
+     */
+    public static boolean isEnabled() {
+        Trace trace = EventMeshServer.getTrace();
+        return trace != null && trace.isEnabled();
+    }
+
     public static Span prepareClientSpan(Map<String, Object> map, String spanName,
                                          boolean isSpanFinishInOtherThread) {
+        if (!isEnabled()) {
+            return Span.getInvalid();
+        }
         Span span = null;
         try {
             span = EventMeshServer.getTrace().createSpan(
@@ -48,8 +60,23 @@ public class TraceUtils {
         return span;
     }
 
+    /**
+     * Prepare a client span of the event, the event is not read if trace is disabled.
+     */
+    public static Span prepareClientSpan(String protocolVersion, CloudEvent event, String spanName,
+                                         boolean isSpanFinishInOtherThread) {
+        if (!isEnabled()) {
+            return Span.getInvalid();
+        }
+        return prepareClientSpan(EventMeshUtil.getCloudEventExtensionMap(protocolVersion, event), spanName,
+            isSpanFinishInOtherThread);
+    }
+
     public static Span prepareServerSpan(Map<String, Object> map, String spanName,
                                          boolean isSpanFinishInOtherThread) {
+        if (!isEnabled()) {
+            return Span.getInvalid();
+        }
         Span span = null;
         try {
             Context traceContext = EventMeshServer.getTrace().extractFrom(Context.current(), map);
@@ -61,8 +88,33 @@ public class TraceUtils {
         return span;
     }
 
+    /**
+     * Prepare a server span of the event, sampled by the topic of the event. The event is not read if trace is
+     * disabled.
+     */
+    public static Span prepareServerSpan(String protocolVersion, CloudEvent event, String spanName,
+                                         boolean isSpanFinishInOtherThread) {
+        if (!isEnabled()) {
+            return Span.getInvalid();
+        }
+        Span span = null;
+        try {
+            Map<String, Object> map = EventMeshUtil.getCloudEventExtensionMap(protocolVersion, event);
+            Context traceContext = EventMeshServer.getTrace().extractFrom(Context.current(), map);
+            String topic = event == null ? null : event.getSubject();
+            span = EventMeshServer.getTrace()
+                .createSpan(spanName, SpanKind.SERVER, traceContext, topic, isSpanFinishInOtherThread);
+        } catch (Throwable ex) {
+            logger.warn("upload trace fail when prepareSpan", ex);
+        }
+        return span;
+    }
+
     public static Span prepareServerSpan(Map<String, Object> map, String spanName, long startTime,
                                          TimeUnit timeUnit, boolean isSpanFinishInOtherThread) {
+        if (!isEnabled()) {
+            return Span.getInvalid();
+        }
         Span span = null;
         try {
             Context traceContext = EventMeshServer.getTrace().extractFrom(Context.current(), map);
@@ -82,6 +134,9 @@ public class TraceUtils {
 
 
     public static void finishSpan(Span span, CloudEvent event) {
+        if (!isEnabled()) {
+            return;
+        }
         try {
             logger.debug("finishSpan with event:{}", event);
             EventMeshServer.getTrace().addTraceInfoToSpan(span, event);
@@ -93,6 +148,9 @@ public class TraceUtils {
     }
 
     public static void finishSpan(ChannelHandlerContext ctx, CloudEvent event) {
+        if (!isEnabled()) {
+            return;
+        }
         try {
             logger.debug("finishSpan with event:{}", event);
             EventMeshServer.getTrace().addTraceInfoToSpan(ctx, event);
@@ -105,6 +163,9 @@ public class TraceUtils {
 
     public static void finishSpanWithException(ChannelHandlerContext ctx, CloudEvent event,
                                                String errMsg, Throwable e) {
+        if (!isEnabled()) {
+            return;
+        }
         try {
             logger.debug("finishSpanWithException with event:{}", event);
             EventMeshServer.getTrace().addTraceInfoToSpan(ctx, event);
@@ -116,6 +177,9 @@ public class TraceUtils {
 
     public static void finishSpanWithException(Span span, Map<String, Object> map, String errMsg,
                                                Throwable e) {
+        if (!isEnabled()) {
+            return;
+        }
         try {
             logger.debug("finishSpanWithException with map:{}", map);
             EventMeshServer.getTrace().addTraceInfoToSpan(span, map);
@@ -124,4 +188,17 @@ public class TraceUtils {
             logger.warn("upload trace fail when finishSpanWithException", ex);
         }
     }
+
+    public static void finishSpanWithException(Span span, CloudEvent event, String errMsg, Throwable e) {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            logger.debug("finishSpanWithException with event:{}", event);
+            EventMeshServer.getTrace().addTraceInfoToSpan(span, event);
+            EventMeshServer.getTrace().finishSpan(span, StatusCode.ERROR, errMsg, e);
+        } catch (Throwable ex) {
+            logger.warn("upload trace fail when finishSpanWithException", ex);
+        }
+    }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.eventmesh.runtime.util;
 
+import org.apache.eventmesh.common.EventEnvelope;
 import org.apache.eventmesh.common.protocol.tcp.EventMeshMessage;
 import org.apache.eventmesh.common.protocol.tcp.UserAgent;
 import org.apache.eventmesh.common.utils.RandomStringUtils;
@@ -332,6 +333,9 @@ public class EventMeshUtil {
         } else if (StringUtils.equals(SpecVersion.V03.toString(), protocolVersion)
                 && cloudEvent instanceof CloudEventV03) {
             ((CloudEventV03) cloudEvent).readContext(eventMeshCloudEventWriter);
+        } else if (cloudEvent instanceof EventEnvelope
+                && StringUtils.equals(cloudEvent.getSpecVersion().toString(), protocolVersion)) {
+            ((EventEnvelope) cloudEvent).readContext(eventMeshCloudEventWriter);
         }
 
         return eventMeshCloudEventWriter.getExtensionMap();
@@ -113,6 +113,9 @@ public class Utils {
      * @param startTime
      */
     public static void logSucceedMessageFlow(Package pkg, UserAgent user, long startTime, long taskExecuteTime) {
+        if (!MESSAGE_LOGGER.isInfoEnabled()) {
+            return;
+        }
         if (pkg.getBody() instanceof EventMeshMessage) {
             MESSAGE_LOGGER.info("pkg|eventMesh2c|cmd={}|mqMsg={}|user={}|wait={}ms|cost={}ms", pkg.getHeader().getCmd(),
                     EventMeshUtil.printMqMessage((EventMeshMessage) pkg.getBody()), user, taskExecuteTime - startTime,
@@ -32,6 +32,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 
+import io.netty.handler.codec.http.HttpHeaders;
+
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -84,6 +86,19 @@ public class WebhookUtil {
         }
     }
 
+    public static void setWebhookHeaders(final HttpHeaders headers,
+                                         final String contentType,
+                                         final String requestOrigin,
+                                         final String urlAuthType) {
+        headers.set(CONTENT_TYPE_HEADER, contentType);
+        headers.set(REQUEST_ORIGIN_HEADER, requestOrigin);
+
+        final Map<String, String> authParam = getHttpAuthParam(urlAuthType);
+        if (authParam != null) {
+            authParam.forEach(headers::add);
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private static Map<String, String> getHttpAuthParam(final String authType) {
         if (StringUtils.isEmpty(authType)) {
@@ -55,6 +55,8 @@ public class EventMeshGrpcConfigurationTest {
         Assert.assertEquals(config.getEventMeshServerPullRegistryInterval(), 11816);
         Assert.assertEquals(config.getEventMeshServerAsyncAccumulationThreshold(), 12816);
         Assert.assertEquals(config.getEventMeshServerRetryBlockQueueSize(), 13816);
+        Assert.assertEquals(config.getEventMeshServerStreamPushQueueSize(), 2816);
+        Assert.assertEquals(config.getEventMeshServerStreamPublishMaxInFlight(), 2816);
         Assert.assertEquals(config.getEventMeshServerBatchBlockQueueSize(), 14816);
         Assert.assertEquals(config.getEventMeshServerSendMsgBlockQueueSize(), 15816);
         Assert.assertEquals(config.getEventMeshServerPushMsgBlockQueueSize(), 16816);
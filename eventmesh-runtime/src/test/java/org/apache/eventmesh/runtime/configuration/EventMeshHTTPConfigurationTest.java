@@ -62,6 +62,10 @@ public class EventMeshHTTPConfigurationTest {
         Assert.assertEquals(config.getEventMeshServerBatchBlockQSize(), 14816);
         Assert.assertEquals(config.getEventMeshServerSendMsgBlockQSize(), 15816);
         Assert.assertEquals(config.getEventMeshServerPushMsgBlockQSize(), 16816);
+        Assert.assertEquals(config.getEventMeshServerPushMsgMaxConnectionsPerEndpoint(), 24816);
+        Assert.assertEquals(config.getEventMeshServerPushMsgMaxInflightPerUrl(), 25816);
+        Assert.assertEquals(config.getEventMeshServerPushMsgConnectTimeout(), 26816);
+        Assert.assertEquals(config.getEventMeshServerPushMsgRequestTimeout(), 27816);
         Assert.assertEquals(config.getEventMeshServerClientManageBlockQSize(), 17816);
         Assert.assertEquals(config.getEventMeshServerBusyCheckInterval(), 18816);
         Assert.assertEquals(config.isEventMeshServerConsumerEnabled(), Boolean.TRUE);
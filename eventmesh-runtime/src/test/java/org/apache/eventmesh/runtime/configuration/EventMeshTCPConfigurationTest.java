@@ -49,6 +49,9 @@ public class EventMeshTCPConfigurationTest {
         Assert.assertEquals(config.eventMeshTcpClientMaxNum, 5816);
         Assert.assertEquals(config.eventMeshTcpGlobalScheduler, 6816);
         Assert.assertEquals(config.eventMeshTcpTaskHandleExecutorPoolSize, 7816);
+        Assert.assertEquals(config.eventMeshTcpTaskHandleExecutorQueueSize, 7817);
+        Assert.assertEquals(config.eventMeshTcpAckHandleExecutorPoolSize, 7818);
+        Assert.assertFalse(config.eventMeshTcpTaskHandleInlineEnabled);
         Assert.assertEquals(config.eventMeshTcpMsgDownStreamExecutorPoolSize, 8816);
         Assert.assertEquals(config.eventMeshTcpSessionExpiredInMills, 1816);
         Assert.assertEquals(config.eventMeshTcpSessionUpstreamBufferSize, 11816);
@@ -57,11 +60,13 @@ public class EventMeshTCPConfigurationTest {
         Assert.assertEquals(config.eventMeshTcpMsgRetrySyncDelayInMills, 14816);
         Assert.assertEquals(config.eventMeshTcpMsgRetryAsyncDelayInMills, 15816);
         Assert.assertEquals(config.eventMeshTcpMsgRetryQueueSize, 16816);
+        Assert.assertEquals(config.eventMeshTcpMsgRetryThreadNum, 17816);
         Assert.assertEquals(config.eventMeshTcpRebalanceIntervalInMills, Integer.valueOf(17816));
         Assert.assertEquals(config.eventMeshServerAdminPort, 18816);
         Assert.assertEquals(config.eventMeshTcpSendBackEnabled, Boolean.TRUE);
         Assert.assertEquals(config.eventMeshTcpSendBackMaxTimes, 3);
         Assert.assertEquals(config.eventMeshTcpPushFailIsolateTimeInMills, 21816);
+        Assert.assertEquals(config.eventMeshTcpDownstreamDispatchStrategy, "freePriority");
         Assert.assertEquals(config.gracefulShutdownSleepIntervalInMills, 22816);
         Assert.assertEquals(config.sleepIntervalInRebalanceRedirectMills, 23816);
         Assert.assertEquals(config.eventMeshEventSize, 22816);
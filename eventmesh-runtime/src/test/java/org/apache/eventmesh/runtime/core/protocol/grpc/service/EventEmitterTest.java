@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.eventmesh.runtime.core.protocol.grpc.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+
+public class EventEmitterTest {
+
+    private ServerCallStreamObserver<String> observer;
+
+    private EventEmitter<String> emitter;
+
+    private Runnable onReadyHandler;
+
+    private Runnable onCancelHandler;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        observer = mock(ServerCallStreamObserver.class);
+        emitter = new EventEmitter<>(observer, 2);
+
+        ArgumentCaptor<Runnable> onReady = ArgumentCaptor.forClass(Runnable.class);
+        verify(observer).setOnReadyHandler(onReady.capture());
+        onReadyHandler = onReady.getValue();
+        ArgumentCaptor<Runnable> onCancel = ArgumentCaptor.forClass(Runnable.class);
+        verify(observer).setOnCancelHandler(onCancel.capture());
+        onCancelHandler = onCancel.getValue();
+    }
+
+    @Test
+    public void testWriteWhenReady() {
+        when(observer.isReady()).thenReturn(false);
+        List<Throwable> results = new ArrayList<>();
+        Assert.assertTrue(emitter.offer("a", results::add));
+        Assert.assertTrue(emitter.offer("b", results::add));
+        verify(observer, never()).onNext(any());
+        Assert.assertEquals(2, emitter.getBacklog());
+        Assert.assertTrue(results.isEmpty());
+
+        // the client granted more credits
+        when(observer.isReady()).thenReturn(true);
+        onReadyHandler.run();
+        verify(observer).onNext("a");
+        verify(observer).onNext("b");
+        Assert.assertEquals(0, emitter.getBacklog());
+        Assert.assertEquals(2, results.size());
+        Assert.assertNull(results.get(0));
+        Assert.assertNull(results.get(1));
+    }
+
+    @Test
+    public void testRejectWhenFull() {
+        when(observer.isReady()).thenReturn(false);
+        Assert.assertTrue(emitter.offer("a", t -> { }));
+        Assert.assertTrue(emitter.offer("b", t -> { }));
+        Assert.assertFalse(emitter.canOffer());
+        Assert.assertFalse(emitter.offer("c", t -> { }));
+        Assert.assertEquals(2, emitter.getBacklog());
+    }
+
+    @Test
+    public void testFailPendingOnCancel() {
+        when(observer.isReady()).thenReturn(false);
+        List<Throwable> results = new ArrayList<>();
+        emitter.offer("a", results::add);
+
+        onCancelHandler.run();
+        Assert.assertEquals(1, results.size());
+        Assert.assertEquals(Status.Code.CANCELLED, ((StatusRuntimeException) results.get(0)).getStatus().getCode());
+        Assert.assertFalse(emitter.offer("b", results::add));
+        verify(observer, times(0)).onNext(any());
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.grpc.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.eventmesh.common.protocol.grpc.common.StatusCode;
+import org.apache.eventmesh.common.protocol.grpc.protos.Response;
+import org.apache.eventmesh.common.protocol.grpc.protos.SimpleMessage;
+import org.apache.eventmesh.runtime.boot.EventMeshGrpcServer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.grpc.stub.ServerCallStreamObserver;
+
+public class PublishStreamObserverTest {
+
+    private ServerCallStreamObserver<Response> observer;
+
+    private ThreadPoolExecutor executor;
+
+    private final List<Runnable> tasks = new ArrayList<>();
+
+    private PublishStreamObserver publishStream;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        observer = mock(ServerCallStreamObserver.class);
+        executor = mock(ThreadPoolExecutor.class);
+        when(executor.submit(any(Runnable.class))).then(invocation -> {
+            tasks.add(invocation.getArgument(0));
+            return null;
+        });
+        publishStream = new PublishStreamObserver(mock(EventMeshGrpcServer.class, RETURNS_DEEP_STUBS), executor, observer, 2);
+    }
+
+    @Test
+    public void testAckWithSeqNum() {
+        verify(observer).disableAutoRequest();
+        verify(observer).request(2);
+
+        // a message without header is acked with a protocol error by the processor
+        publishStream.onNext(SimpleMessage.newBuilder().setSeqNum("1").build());
+        Assert.assertEquals(1, publishStream.getInFlight());
+        tasks.forEach(Runnable::run);
+
+        ArgumentCaptor<Response> ack = ArgumentCaptor.forClass(Response.class);
+        verify(observer).onNext(ack.capture());
+        Assert.assertEquals("1", ack.getValue().getSeqNum());
+        Assert.assertEquals(StatusCode.EVENTMESH_PROTOCOL_HEADER_ERR.getRetCode(), ack.getValue().getRespCode());
+        Assert.assertEquals(0, publishStream.getInFlight());
+        verify(observer).request(1);
+        verify(observer, never()).onCompleted();
+    }
+
+    @Test
+    public void testCompleteAfterPendingAcks() {
+        publishStream.onNext(SimpleMessage.newBuilder().setSeqNum("1").build());
+        publishStream.onNext(SimpleMessage.newBuilder().setSeqNum("2").build());
+        publishStream.onCompleted();
+        verify(observer, never()).onCompleted();
+
+        tasks.forEach(Runnable::run);
+        verify(observer, times(2)).onNext(any());
+        verify(observer, times(2)).request(1);
+        verify(observer).onCompleted();
+    }
+
+    @Test
+    public void testAckOverloadWhenRejected() {
+        when(executor.submit(any(Runnable.class))).thenThrow(new RejectedExecutionException());
+        publishStream.onNext(SimpleMessage.newBuilder().setSeqNum("3").build());
+
+        ArgumentCaptor<Response> ack = ArgumentCaptor.forClass(Response.class);
+        verify(observer).onNext(ack.capture());
+        Assert.assertEquals("3", ack.getValue().getSeqNum());
+        Assert.assertEquals(StatusCode.OVERLOAD.getRetCode(), ack.getValue().getRespCode());
+        Assert.assertEquals(0, publishStream.getInFlight());
+    }
+
+    @Test
+    public void testAckErrorWhenSendFails() {
+        publishStream.onNext(SimpleMessage.newBuilder().setSeqNum("4").build());
+        // the emitter of the message is failed instead of responded
+        publishStream.new AckObserver("4").onError(new IllegalStateException("send failed"));
+
+        ArgumentCaptor<Response> ack = ArgumentCaptor.forClass(Response.class);
+        verify(observer).onNext(ack.capture());
+        Assert.assertEquals("4", ack.getValue().getSeqNum());
+        Assert.assertEquals(StatusCode.EVENTMESH_SEND_ASYNC_MSG_ERR.getRetCode(), ack.getValue().getRespCode());
+        Assert.assertTrue(ack.getValue().getRespMsg().contains("send failed"));
+        Assert.assertEquals(0, publishStream.getInFlight());
+        verify(observer).request(1);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.eventmesh.runtime.core.protocol.http.processor;
+
+import org.apache.eventmesh.api.BatchSendCallback;
+import org.apache.eventmesh.api.exception.OnExceptionContext;
+import org.apache.eventmesh.runtime.boot.EventMeshHTTPServer;
+import org.apache.eventmesh.runtime.core.protocol.http.producer.EventMeshProducer;
+import org.apache.eventmesh.runtime.core.protocol.http.producer.SendMessageContext;
+import org.apache.eventmesh.runtime.core.protocol.http.retry.DelayRetryable;
+import org.apache.eventmesh.runtime.core.protocol.http.retry.HttpRetryer;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+
+public class BatchSendMessageProcessorTest {
+
+    private HttpRetryer httpRetryer;
+
+    private EventMeshProducer eventMeshProducer;
+
+    private BatchSendMessageProcessor processor;
+
+    /**
+     * the events handed to each sendBatch call, and the callback of the call
+     */
+    private final List<List<CloudEvent>> sentBatches = new ArrayList<>();
+
+    private final List<BatchSendCallback> batchSendCallbacks = new ArrayList<>();
+
+    @Before
+    public void setUp() throws Exception {
+        httpRetryer = Mockito.mock(HttpRetryer.class);
+        EventMeshHTTPServer eventMeshHTTPServer = Mockito.mock(EventMeshHTTPServer.class);
+        Mockito.when(eventMeshHTTPServer.getHttpRetryer()).thenReturn(httpRetryer);
+        eventMeshProducer = Mockito.mock(EventMeshProducer.class);
+        Mockito.doAnswer(invocation -> {
+            sentBatches.add(new ArrayList<>(invocation.<SendMessageContext>getArgument(0).getEventList()));
+            batchSendCallbacks.add(invocation.getArgument(1));
+            return null;
+        }).when(eventMeshProducer).sendBatch(Mockito.any(), Mockito.any());
+        processor = new BatchSendMessageProcessor(eventMeshHTTPServer);
+    }
+
+    @Test
+    public void testSendBatchInOneCall() throws Exception {
+        List<CloudEvent> cloudEvents = createEvents("topic-a", "topic-b", "topic-a");
+        processor.sendBatch("batch", cloudEvents, eventMeshProducer);
+
+        Assert.assertEquals(Collections.singletonList(cloudEvents), sentBatches);
+        batchSendCallbacks.get(0).onSuccess(Collections.emptyList());
+        Mockito.verifyNoInteractions(httpRetryer);
+    }
+
+    @Test
+    public void testRetryOnlyFailedEvents() throws Exception {
+        List<CloudEvent> cloudEvents = createEvents("topic-a", "topic-b", "topic-a");
+        processor.sendBatch("batch", cloudEvents, eventMeshProducer);
+        List<CloudEvent> failedEvents = Arrays.asList(cloudEvents.get(1), cloudEvents.get(2));
+        batchSendCallbacks.get(0).onException(failedEvents, OnExceptionContext.builder().build());
+
+        ArgumentCaptor<DelayRetryable> retryCaptor = ArgumentCaptor.forClass(DelayRetryable.class);
+        Mockito.verify(httpRetryer).pushRetry(retryCaptor.capture());
+        SendMessageContext retryContext = (SendMessageContext) retryCaptor.getValue();
+        Assert.assertEquals(failedEvents, retryContext.getEventList());
+
+        // the retry sends the failed events again, not the whole batch
+        Assert.assertTrue(retryContext.retry());
+        Assert.assertEquals(2, sentBatches.size());
+        Assert.assertEquals(failedEvents, sentBatches.get(1));
+    }
+
+    private List<CloudEvent> createEvents(String... topics) {
+        List<CloudEvent> cloudEvents = new ArrayList<>(topics.length);
+        for (int i = 0; i < topics.length; i++) {
+            cloudEvents.add(CloudEventBuilder.v1()
+                .withId(String.valueOf(i))
+                .withSource(URI.create("testsource"))
+                .withType("testType")
+                .withSubject(topics[i])
+                .build());
+        }
+        return cloudEvents;
+    }
+}
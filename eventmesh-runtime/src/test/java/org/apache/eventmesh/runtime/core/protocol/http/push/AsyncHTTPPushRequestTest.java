@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.http.push;
+
+import org.apache.eventmesh.api.AbstractContext;
+import org.apache.eventmesh.common.Constants;
+import org.apache.eventmesh.common.protocol.ProtocolTransportObject;
+import org.apache.eventmesh.common.protocol.SubscriptionItem;
+import org.apache.eventmesh.common.protocol.SubscriptionMode;
+import org.apache.eventmesh.common.protocol.SubscriptionType;
+import org.apache.eventmesh.common.protocol.http.HttpEventWrapper;
+import org.apache.eventmesh.protocol.api.ProtocolAdaptor;
+import org.apache.eventmesh.protocol.api.ProtocolPluginFactory;
+import org.apache.eventmesh.runtime.boot.EventMeshHTTPServer;
+import org.apache.eventmesh.runtime.configuration.EventMeshHTTPConfiguration;
+import org.apache.eventmesh.runtime.core.consumergroup.ConsumerGroupConf;
+import org.apache.eventmesh.runtime.core.consumergroup.ConsumerGroupTopicConf;
+import org.apache.eventmesh.runtime.core.protocol.http.consumer.EventMeshConsumer;
+import org.apache.eventmesh.runtime.core.protocol.http.consumer.HandleMsgContext;
+import org.apache.eventmesh.runtime.core.protocol.http.retry.HttpRetryer;
+import org.apache.eventmesh.runtime.metrics.http.HTTPMetricsServer;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+
+public class AsyncHTTPPushRequestTest {
+
+    private static final String URL = "http://127.0.0.1:8080/async";
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testResponseAfterTimeoutIsIgnored() throws Exception {
+        EventMeshHTTPServer eventMeshHTTPServer = Mockito.mock(EventMeshHTTPServer.class);
+        EventMeshHTTPConfiguration eventMeshHttpConfiguration = new EventMeshHTTPConfiguration();
+        eventMeshHttpConfiguration.setEventMeshWebhookOrigin("eventmesh.test");
+        Mockito.when(eventMeshHTTPServer.getEventMeshHttpConfiguration()).thenReturn(eventMeshHttpConfiguration);
+        Mockito.when(eventMeshHTTPServer.getMetrics()).thenReturn(Mockito.mock(HTTPMetricsServer.class, Mockito.RETURNS_DEEP_STUBS));
+        HttpRetryer httpRetryer = Mockito.mock(HttpRetryer.class);
+        Mockito.when(eventMeshHTTPServer.getHttpRetryer()).thenReturn(httpRetryer);
+        HTTPPushClient httpPushClient = Mockito.mock(HTTPPushClient.class);
+        Mockito.when(eventMeshHTTPServer.getHttpPushClient()).thenReturn(httpPushClient);
+        CompletableFuture<HTTPPushClient.Response> firstAttempt = new CompletableFuture<>();
+        CompletableFuture<HTTPPushClient.Response> secondAttempt = new CompletableFuture<>();
+        Mockito.when(httpPushClient.post(Mockito.anyString(), Mockito.any(), Mockito.any()))
+            .thenReturn(firstAttempt, secondAttempt);
+
+        SubscriptionItem subscriptionItem = new SubscriptionItem("async-topic", SubscriptionMode.CLUSTERING, SubscriptionType.ASYNC);
+        ConsumerGroupTopicConf consumerGroupTopicConf = new ConsumerGroupTopicConf();
+        consumerGroupTopicConf.setTopic("async-topic");
+        consumerGroupTopicConf.setSubscriptionItem(subscriptionItem);
+        consumerGroupTopicConf.setUrls(Collections.singleton(URL));
+        consumerGroupTopicConf.setIdcUrls(Collections.singletonMap("idc", Collections.singletonList(URL)));
+        ConsumerGroupConf consumerGroupConf = new ConsumerGroupConf("async-group");
+        consumerGroupConf.getConsumerGroupTopicConf().put("async-topic", consumerGroupTopicConf);
+
+        CloudEvent event = CloudEventBuilder.v1()
+            .withId("1")
+            .withSource(URI.create("source"))
+            .withType("type")
+            .withExtension(Constants.PROTOCOL_TYPE, "test")
+            .withData("1".getBytes(StandardCharsets.UTF_8))
+            .build();
+        EventMeshConsumer eventMeshConsumer = Mockito.mock(EventMeshConsumer.class);
+        HandleMsgContext handleMsgContext = new HandleMsgContext("1", "async-group", eventMeshConsumer, "async-topic", event,
+            subscriptionItem, Mockito.mock(AbstractContext.class), consumerGroupConf, eventMeshHTTPServer, "1", "1",
+            consumerGroupTopicConf);
+        handleMsgContext.setTtl(0);
+
+        ProtocolAdaptor<ProtocolTransportObject> protocolAdaptor = Mockito.mock(ProtocolAdaptor.class);
+        HttpEventWrapper httpEventWrapper = new HttpEventWrapper();
+        httpEventWrapper.setBody("1".getBytes(StandardCharsets.UTF_8));
+        Mockito.when(protocolAdaptor.fromCloudEvent(Mockito.any())).thenReturn(httpEventWrapper);
+
+        try (MockedStatic<ProtocolPluginFactory> protocolPluginFactory = Mockito.mockStatic(ProtocolPluginFactory.class)) {
+            protocolPluginFactory.when(() -> ProtocolPluginFactory.getProtocolAdaptor("test")).thenReturn(protocolAdaptor);
+
+            InflightPushTracker inflightPushTracker = new InflightPushTracker();
+            AsyncHTTPPushRequest request = new AsyncHTTPPushRequest(handleMsgContext, inflightPushTracker);
+
+            request.tryHTTPRequest();
+            Assert.assertEquals(1, inflightPushTracker.size());
+            // the first attempt times out and is pushed again
+            inflightPushTracker.checkTimeout(System.currentTimeMillis() + 1);
+            Assert.assertEquals(0, inflightPushTracker.size());
+            Mockito.verify(httpRetryer, Mockito.times(1)).pushRetry(request);
+            request.tryHTTPRequest();
+            Assert.assertEquals(1, inflightPushTracker.size());
+
+            // the late response of the first attempt neither releases the entry of the second one nor finishes the request
+            firstAttempt.complete(new HTTPPushClient.Response(200, new DefaultHttpHeaders(), "{\"retCode\":1}"));
+            Assert.assertEquals(1, inflightPushTracker.size());
+            Assert.assertFalse(request.isComplete());
+            Mockito.verify(eventMeshConsumer, Mockito.never()).updateOffset(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+
+            secondAttempt.complete(new HTTPPushClient.Response(200, new DefaultHttpHeaders(), "{\"retCode\":1}"));
+            Assert.assertEquals(0, inflightPushTracker.size());
+            Assert.assertTrue(request.isComplete());
+            Mockito.verify(eventMeshConsumer, Mockito.times(1)).updateOffset(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+            Mockito.verify(httpRetryer, Mockito.times(1)).pushRetry(request);
+        }
+    }
+}
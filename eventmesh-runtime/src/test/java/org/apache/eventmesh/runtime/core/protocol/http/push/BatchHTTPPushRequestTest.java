@@ -0,0 +1,234 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.http.push;
+
+import org.apache.eventmesh.common.protocol.BatchPushConfig;
+import org.apache.eventmesh.common.protocol.SubscriptionItem;
+import org.apache.eventmesh.common.protocol.SubscriptionMode;
+import org.apache.eventmesh.common.protocol.SubscriptionType;
+import org.apache.eventmesh.common.protocol.http.common.ClientRetCode;
+import org.apache.eventmesh.runtime.boot.EventMeshHTTPServer;
+import org.apache.eventmesh.runtime.configuration.EventMeshHTTPConfiguration;
+import org.apache.eventmesh.runtime.constants.EventMeshConstants;
+import org.apache.eventmesh.runtime.core.consumergroup.ConsumerGroupConf;
+import org.apache.eventmesh.runtime.core.consumergroup.ConsumerGroupTopicConf;
+import org.apache.eventmesh.runtime.core.protocol.http.consumer.HandleMsgContext;
+import org.apache.eventmesh.runtime.core.protocol.http.retry.HttpRetryer;
+import org.apache.eventmesh.runtime.metrics.http.HTTPMetricsServer;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+import io.cloudevents.core.provider.EventFormatProvider;
+import io.cloudevents.jackson.JsonFormat;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class BatchHTTPPushRequestTest {
+
+    private static final String URL = "http://127.0.0.1:8080/batch";
+
+    private EventMeshHTTPServer eventMeshHTTPServer;
+
+    private ConsumerGroupTopicConf consumerGroupTopicConf;
+
+    @Before
+    public void setUp() {
+        eventMeshHTTPServer = Mockito.mock(EventMeshHTTPServer.class);
+        EventMeshHTTPConfiguration eventMeshHttpConfiguration = new EventMeshHTTPConfiguration();
+        eventMeshHttpConfiguration.setEventMeshWebhookOrigin("eventmesh.test");
+        Mockito.when(eventMeshHTTPServer.getEventMeshHttpConfiguration()).thenReturn(eventMeshHttpConfiguration);
+
+        SubscriptionItem subscriptionItem = new SubscriptionItem("batch-topic", SubscriptionMode.CLUSTERING, SubscriptionType.ASYNC);
+        subscriptionItem.setBatchPush(new BatchPushConfig());
+        consumerGroupTopicConf = new ConsumerGroupTopicConf();
+        consumerGroupTopicConf.setTopic("batch-topic");
+        consumerGroupTopicConf.setSubscriptionItem(subscriptionItem);
+        consumerGroupTopicConf.setUrls(Collections.singleton(URL));
+        consumerGroupTopicConf.setIdcUrls(Collections.singletonMap("idc", Collections.singletonList(URL)));
+    }
+
+    @Test
+    public void testBatchPushConfig() {
+        Assert.assertNotNull(consumerGroupTopicConf.getBatchPushConfig());
+        consumerGroupTopicConf.getSubscriptionItem().setBatchPush(new BatchPushConfig(1, 1024, 10));
+        Assert.assertNull(consumerGroupTopicConf.getBatchPushConfig());
+        consumerGroupTopicConf.getSubscriptionItem().setBatchPush(null);
+        Assert.assertNull(consumerGroupTopicConf.getBatchPushConfig());
+    }
+
+    @Test
+    public void testEncode() throws Exception {
+        List<BatchHTTPPushRequest.Item> items = Arrays.asList(
+            BatchHTTPPushRequest.newItem(newHandleMsgContext("json", "application/json", "{\"a\":1}"), URL),
+            BatchHTTPPushRequest.newItem(newHandleMsgContext("text", null, "plain text"), URL));
+
+        JsonNode batch = new ObjectMapper().readTree(BatchHTTPPushRequest.encode(items));
+        Assert.assertTrue(batch.isArray());
+        Assert.assertEquals(2, batch.size());
+
+        JsonFormat jsonFormat = (JsonFormat) EventFormatProvider.getInstance().resolveFormat(JsonFormat.CONTENT_TYPE);
+        CloudEvent json = jsonFormat.deserialize(batch.get(0).toString().getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals("json", json.getId());
+        Assert.assertEquals(URL, json.getExtension(EventMeshConstants.RSP_URL));
+        Assert.assertEquals("{\"a\":1}", new String(json.getData().toBytes(), StandardCharsets.UTF_8));
+
+        CloudEvent text = jsonFormat.deserialize(batch.get(1).toString().getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals("text", text.getId());
+        Assert.assertEquals("plain text", new String(text.getData().toBytes(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testStaleResponseKeepsCurrentAttemptTracked() {
+        Mockito.when(eventMeshHTTPServer.getMetrics()).thenReturn(Mockito.mock(HTTPMetricsServer.class, Mockito.RETURNS_DEEP_STUBS));
+        Mockito.when(eventMeshHTTPServer.getHttpRetryer()).thenReturn(Mockito.mock(HttpRetryer.class));
+        HTTPPushClient httpPushClient = Mockito.mock(HTTPPushClient.class);
+        Mockito.when(eventMeshHTTPServer.getHttpPushClient()).thenReturn(httpPushClient);
+        CompletableFuture<HTTPPushClient.Response> firstAttempt = new CompletableFuture<>();
+        CompletableFuture<HTTPPushClient.Response> secondAttempt = new CompletableFuture<>();
+        Mockito.when(httpPushClient.post(Mockito.anyString(), Mockito.any(), Mockito.any()))
+            .thenReturn(firstAttempt, secondAttempt);
+
+        HandleMsgContext handleMsgContext = newHandleMsgContext("1", null, "1");
+        ConsumerGroupConf consumerGroupConf = new ConsumerGroupConf("batch-group");
+        consumerGroupConf.getConsumerGroupTopicConf().put("batch-topic", consumerGroupTopicConf);
+        handleMsgContext.setConsumerGroupConfig(consumerGroupConf);
+        handleMsgContext.setTtl(0);
+        InflightPushTracker inflightPushTracker = new InflightPushTracker();
+        BatchHTTPPushRequest request = new BatchHTTPPushRequest(
+            Collections.singletonList(BatchHTTPPushRequest.newItem(handleMsgContext, URL)), URL, inflightPushTracker);
+
+        request.tryHTTPRequest();
+        Assert.assertEquals(1, inflightPushTracker.size());
+        // the first attempt times out and is pushed again
+        inflightPushTracker.checkTimeout(System.currentTimeMillis() + 1);
+        Assert.assertEquals(0, inflightPushTracker.size());
+        request.tryHTTPRequest();
+        Assert.assertEquals(1, inflightPushTracker.size());
+
+        // the late response of the first attempt doesn't release the entry of the second one
+        firstAttempt.completeExceptionally(new TimeoutException("late"));
+        Assert.assertEquals(1, inflightPushTracker.size());
+        Assert.assertEquals(1, inflightPushTracker.size("batch-group"));
+
+        secondAttempt.completeExceptionally(new TimeoutException("failed"));
+        Assert.assertEquals(0, inflightPushTracker.size());
+    }
+
+    @Test
+    public void testPushToBatchUrlFirst() {
+        String otherUrl = "http://127.0.0.1:8081/batch";
+        List<String> urls = Arrays.asList(URL, otherUrl);
+        consumerGroupTopicConf.setUrls(new HashSet<>(urls));
+        consumerGroupTopicConf.setIdcUrls(Collections.singletonMap("idc", urls));
+        for (String url : urls) {
+            for (int i = 0; i < 10; i++) {
+                BatchHTTPPushRequest request = new BatchHTTPPushRequest(Collections.singletonList(
+                    BatchHTTPPushRequest.newItem(newHandleMsgContext("1", null, "1"), url)), url, new InflightPushTracker());
+                Assert.assertEquals(url, request.getUrl());
+                // a retry goes to another subscriber
+                request.retryTimes++;
+                Assert.assertNotEquals(url, request.getUrl());
+            }
+        }
+    }
+
+    @Test
+    public void testRetryCarriesRetriedUrl() throws Exception {
+        String otherUrl = "http://127.0.0.1:8081/batch";
+        List<String> urls = Arrays.asList(URL, otherUrl);
+        consumerGroupTopicConf.setUrls(new HashSet<>(urls));
+        consumerGroupTopicConf.setIdcUrls(Collections.singletonMap("idc", urls));
+        Mockito.when(eventMeshHTTPServer.getMetrics()).thenReturn(Mockito.mock(HTTPMetricsServer.class, Mockito.RETURNS_DEEP_STUBS));
+        HTTPPushClient httpPushClient = Mockito.mock(HTTPPushClient.class);
+        Mockito.when(eventMeshHTTPServer.getHttpPushClient()).thenReturn(httpPushClient);
+        Mockito.when(httpPushClient.post(Mockito.anyString(), Mockito.any(), Mockito.any())).thenReturn(new CompletableFuture<>());
+
+        HandleMsgContext handleMsgContext = newHandleMsgContext("1", null, "1");
+        ConsumerGroupConf consumerGroupConf = new ConsumerGroupConf("batch-group");
+        consumerGroupConf.getConsumerGroupTopicConf().put("batch-topic", consumerGroupTopicConf);
+        handleMsgContext.setConsumerGroupConfig(consumerGroupConf);
+        BatchHTTPPushRequest request = new BatchHTTPPushRequest(
+            Collections.singletonList(BatchHTTPPushRequest.newItem(handleMsgContext, URL)), URL, new InflightPushTracker());
+        request.retryTimes++;
+        request.tryHTTPRequest();
+
+        ArgumentCaptor<byte[]> body = ArgumentCaptor.forClass(byte[].class);
+        Mockito.verify(httpPushClient).post(Mockito.eq(otherUrl), Mockito.any(), body.capture());
+        JsonNode batch = new ObjectMapper().readTree(body.getValue());
+        JsonFormat jsonFormat = (JsonFormat) EventFormatProvider.getInstance().resolveFormat(JsonFormat.CONTENT_TYPE);
+        CloudEvent event = jsonFormat.deserialize(batch.get(0).toString().getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals(otherUrl, event.getExtension(EventMeshConstants.RSP_URL));
+    }
+
+    @Test
+    public void testRetryAfterInSeconds() {
+        HttpHeaders headers = new DefaultHttpHeaders();
+        Assert.assertEquals(0, AbstractHTTPPushRequest.retryAfterMillis(headers));
+        headers.set(HttpHeaderNames.RETRY_AFTER, "Wed, 21 Oct 2015 07:28:00 GMT");
+        Assert.assertEquals(0, AbstractHTTPPushRequest.retryAfterMillis(headers));
+        headers.set(HttpHeaderNames.RETRY_AFTER, "3");
+        Assert.assertEquals(3000, AbstractHTTPPushRequest.retryAfterMillis(headers));
+    }
+
+    @Test
+    public void testProcessResponseContent() {
+        BatchHTTPPushRequest request = new BatchHTTPPushRequest(Arrays.asList(
+            BatchHTTPPushRequest.newItem(newHandleMsgContext("1", null, "1"), URL),
+            BatchHTTPPushRequest.newItem(newHandleMsgContext("2", null, "2"), URL),
+            BatchHTTPPushRequest.newItem(newHandleMsgContext("3", null, "3"), URL)), URL, new InflightPushTracker());
+
+        Assert.assertEquals(Collections.nCopies(3, ClientRetCode.OK), request.processResponseContent("{\"retCode\":1}", 3));
+        Assert.assertEquals(Arrays.asList(ClientRetCode.OK, ClientRetCode.RETRY, ClientRetCode.FAIL),
+            request.processResponseContent("[{\"retCode\":1},{\"retCode\":2}]", 3));
+        Assert.assertEquals(Arrays.asList(ClientRetCode.REMOTE_OK, ClientRetCode.NOLISTEN, ClientRetCode.FAIL),
+            request.processResponseContent("[0,5,100]", 3));
+        Assert.assertEquals(Collections.nCopies(3, ClientRetCode.FAIL), request.processResponseContent("", 3));
+        Assert.assertEquals(Collections.nCopies(3, ClientRetCode.FAIL), request.processResponseContent("not json", 3));
+    }
+
+    private HandleMsgContext newHandleMsgContext(String id, String dataContentType, String data) {
+        CloudEvent event = CloudEventBuilder.v1()
+            .withId(id)
+            .withSource(URI.create("source"))
+            .withType("type")
+            .withDataContentType(dataContentType)
+            .withData(data.getBytes(StandardCharsets.UTF_8))
+            .build();
+        return new HandleMsgContext("1", "batch-group", null, "batch-topic", event,
+            consumerGroupTopicConf.getSubscriptionItem(), null, null, eventMeshHTTPServer, id, id, consumerGroupTopicConf);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.http.push;
+
+import org.apache.eventmesh.common.protocol.BatchPushConfig;
+import org.apache.eventmesh.common.protocol.SubscriptionItem;
+import org.apache.eventmesh.common.protocol.SubscriptionMode;
+import org.apache.eventmesh.common.protocol.SubscriptionType;
+import org.apache.eventmesh.runtime.boot.EventMeshHTTPServer;
+import org.apache.eventmesh.runtime.configuration.EventMeshHTTPConfiguration;
+import org.apache.eventmesh.runtime.core.consumergroup.ConsumerGroupTopicConf;
+import org.apache.eventmesh.runtime.core.protocol.http.consumer.HandleMsgContext;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+
+public class BatchPushAccumulatorTest {
+
+    private static final String URL = "http://127.0.0.1:8080/batch";
+
+    private EventMeshHTTPServer eventMeshHTTPServer;
+
+    private ConsumerGroupTopicConf consumerGroupTopicConf;
+
+    private BatchPushAccumulator accumulator;
+
+    @Before
+    public void setUp() {
+        eventMeshHTTPServer = Mockito.mock(EventMeshHTTPServer.class);
+        Mockito.when(eventMeshHTTPServer.getEventMeshHttpConfiguration()).thenReturn(new EventMeshHTTPConfiguration());
+
+        SubscriptionItem subscriptionItem = new SubscriptionItem("batch-topic", SubscriptionMode.CLUSTERING, SubscriptionType.ASYNC);
+        subscriptionItem.setBatchPush(new BatchPushConfig(2, BatchPushConfig.DEFAULT_MAX_BATCH_BYTES,
+            BatchPushConfig.DEFAULT_MAX_LINGER_MILLS));
+        consumerGroupTopicConf = new ConsumerGroupTopicConf();
+        consumerGroupTopicConf.setTopic("batch-topic");
+        consumerGroupTopicConf.setSubscriptionItem(subscriptionItem);
+        consumerGroupTopicConf.setUrls(Collections.singleton(URL));
+        consumerGroupTopicConf.setIdcUrls(Collections.singletonMap("idc", Collections.singletonList(URL)));
+
+        // the linger flush is never scheduled, batches are only pushed when full or flushed
+        accumulator = new BatchPushAccumulator(new InflightPushTracker(), Mockito.mock(ScheduledExecutorService.class));
+    }
+
+    @Test
+    public void testDrainedBatchRemoved() {
+        Assert.assertTrue(accumulator.add(newHandleMsgContext("1")));
+        Assert.assertEquals(1, accumulator.getBatchCount());
+        accumulator.flush();
+        Assert.assertEquals(0, accumulator.getBatchCount());
+
+        Assert.assertTrue(accumulator.add(newHandleMsgContext("2")));
+        Assert.assertEquals(1, accumulator.getBatchCount());
+        Assert.assertTrue(accumulator.add(newHandleMsgContext("3")));
+        Assert.assertEquals(0, accumulator.getBatchCount());
+    }
+
+    private HandleMsgContext newHandleMsgContext(String id) {
+        CloudEvent event = CloudEventBuilder.v1()
+            .withId(id)
+            .withSource(URI.create("source"))
+            .withType("type")
+            .withData(id.getBytes(StandardCharsets.UTF_8))
+            .build();
+        return new HandleMsgContext("1", "batch-group", null, "batch-topic", event,
+            consumerGroupTopicConf.getSubscriptionItem(), null, null, eventMeshHTTPServer, id, id, consumerGroupTopicConf);
+    }
+}
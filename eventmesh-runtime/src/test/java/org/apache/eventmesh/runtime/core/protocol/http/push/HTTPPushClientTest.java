@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.http.push;
+
+import org.apache.eventmesh.common.enums.NettyTransport;
+import org.apache.eventmesh.runtime.configuration.EventMeshHTTPConfiguration;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http.HttpVersion;
+
+public class HTTPPushClientTest {
+
+    private EventLoopGroup eventLoopGroup;
+
+    private EventLoopGroup serverEventLoopGroup;
+
+    private Channel serverChannel;
+
+    private String url;
+
+    private final Set<Channel> serverConnections = ConcurrentHashMap.newKeySet();
+
+    private volatile CountDownLatch responseLatch = new CountDownLatch(0);
+
+    @Before
+    public void setUp() throws InterruptedException {
+        eventLoopGroup = new NioEventLoopGroup(2);
+        serverEventLoopGroup = new NioEventLoopGroup(2);
+        serverChannel = new ServerBootstrap()
+            .group(serverEventLoopGroup)
+            .channel(NioServerSocketChannel.class)
+            .childHandler(new ChannelInitializer<SocketChannel>() {
+                @Override
+                protected void initChannel(SocketChannel ch) {
+                    serverConnections.add(ch);
+                    ch.pipeline().addLast(new HttpServerCodec(), new HttpObjectAggregator(65536),
+                        new SimpleChannelInboundHandler<FullHttpRequest>() {
+                            @Override
+                            protected void channelRead0(ChannelHandlerContext ctx, FullHttpRequest msg) throws Exception {
+                                responseLatch.await(5, TimeUnit.SECONDS);
+                                FullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1,
+                                    HttpResponseStatus.OK, Unpooled.copiedBuffer(msg.uri() + "|"
+                                    + msg.content().toString(StandardCharsets.UTF_8), StandardCharsets.UTF_8));
+                                response.headers().setInt(HttpHeaderNames.CONTENT_LENGTH, response.content().readableBytes());
+                                if (msg.headers().contains("test-header")) {
+                                    response.headers().set(HttpHeaderNames.RETRY_AFTER, msg.headers().get("test-header"));
+                                }
+                                ctx.writeAndFlush(response);
+                            }
+                        });
+                }
+            })
+            .bind("127.0.0.1", 0).sync().channel();
+        url = "http://127.0.0.1:" + ((InetSocketAddress) serverChannel.localAddress()).getPort() + "/push?a=b";
+    }
+
+    @After
+    public void tearDown() {
+        serverChannel.close();
+        eventLoopGroup.shutdownGracefully(0, 1, TimeUnit.SECONDS);
+        serverEventLoopGroup.shutdownGracefully(0, 1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testPostReusesConnection() throws Exception {
+        HTTPPushClient client = new HTTPPushClient(eventLoopGroup, NettyTransport.NIO, new EventMeshHTTPConfiguration());
+        for (int i = 0; i < 3; i++) {
+            DefaultHttpHeaders headers = new DefaultHttpHeaders();
+            headers.set("test-header", String.valueOf(i));
+            HTTPPushClient.Response response = client.post(url, headers, ("body-" + i).getBytes(StandardCharsets.UTF_8))
+                .get(5, TimeUnit.SECONDS);
+            Assert.assertEquals(200, response.getStatusCode());
+            Assert.assertEquals("/push?a=b|body-" + i, response.getContent());
+            Assert.assertEquals(String.valueOf(i), response.getHeaders().get(HttpHeaderNames.RETRY_AFTER));
+        }
+        Assert.assertEquals(1, serverConnections.size());
+        Assert.assertEquals(0, client.getInflightUrlCount());
+        client.shutdown();
+    }
+
+    @Test
+    public void testPostResolvesHostName() throws Exception {
+        HTTPPushClient client = new HTTPPushClient(eventLoopGroup, NettyTransport.NIO, new EventMeshHTTPConfiguration());
+        String hostNameUrl = url.replace("127.0.0.1", "localhost");
+        HTTPPushClient.Response response = client.post(hostNameUrl, new DefaultHttpHeaders(), new byte[0])
+            .get(5, TimeUnit.SECONDS);
+        Assert.assertEquals(200, response.getStatusCode());
+        client.shutdown();
+    }
+
+    @Test
+    public void testPostWithAutoTransport() throws Exception {
+        // the worker group of the http server runs on the native transport where it is available
+        NettyTransport transport = NettyTransport.of("auto");
+        EventLoopGroup transportEventLoopGroup = transport.newEventLoopGroup(1, null);
+        try {
+            HTTPPushClient client = new HTTPPushClient(transportEventLoopGroup, transport, new EventMeshHTTPConfiguration());
+            HTTPPushClient.Response response = client.post(url, new DefaultHttpHeaders(), "body".getBytes(StandardCharsets.UTF_8))
+                .get(5, TimeUnit.SECONDS);
+            Assert.assertEquals(200, response.getStatusCode());
+            response = client.post(url.replace("127.0.0.1", "localhost"), new DefaultHttpHeaders(), new byte[0])
+                .get(5, TimeUnit.SECONDS);
+            Assert.assertEquals(200, response.getStatusCode());
+            client.shutdown();
+        } finally {
+            transportEventLoopGroup.shutdownGracefully(0, 1, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testInflightLimit() throws Exception {
+        EventMeshHTTPConfiguration configuration = new EventMeshHTTPConfiguration();
+        configuration.setEventMeshServerPushMsgMaxInflightPerUrl(1);
+        HTTPPushClient client = new HTTPPushClient(eventLoopGroup, NettyTransport.NIO, configuration);
+        responseLatch = new CountDownLatch(1);
+
+        CompletableFuture<HTTPPushClient.Response> first = client.post(url, new DefaultHttpHeaders(), new byte[0]);
+        ExecutionException e = Assert.assertThrows(ExecutionException.class,
+            () -> client.post(url, new DefaultHttpHeaders(), new byte[0]).get(5, TimeUnit.SECONDS));
+        Assert.assertTrue(e.getCause() instanceof RejectedExecutionException);
+
+        responseLatch.countDown();
+        Assert.assertEquals(200, first.get(5, TimeUnit.SECONDS).getStatusCode());
+        Assert.assertEquals(200, client.post(url, new DefaultHttpHeaders(), new byte[0]).get(5, TimeUnit.SECONDS).getStatusCode());
+        Assert.assertEquals(0, client.getInflightUrlCount());
+        client.shutdown();
+    }
+
+    @Test
+    public void testRequestTimeout() throws Exception {
+        EventMeshHTTPConfiguration configuration = new EventMeshHTTPConfiguration();
+        configuration.setEventMeshServerPushMsgRequestTimeout(100);
+        HTTPPushClient client = new HTTPPushClient(eventLoopGroup, NettyTransport.NIO, configuration);
+        responseLatch = new CountDownLatch(1);
+
+        ExecutionException e = Assert.assertThrows(ExecutionException.class,
+            () -> client.post(url, new DefaultHttpHeaders(), new byte[0]).get(5, TimeUnit.SECONDS));
+        Assert.assertTrue(e.getCause() instanceof TimeoutException);
+        responseLatch.countDown();
+        client.shutdown();
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.eventmesh.runtime.core.protocol.http.push;
+
+import org.apache.eventmesh.runtime.core.protocol.http.consumer.HandleMsgContext;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class InflightPushTrackerTest {
+
+    private final InflightPushTracker tracker = new InflightPushTracker();
+
+    @Test
+    public void testCheckTimeout() {
+        AbstractHTTPPushRequest first = newRequest("group1", 1000, 100);
+        AbstractHTTPPushRequest second = newRequest("group1", 1000, 300);
+        AbstractHTTPPushRequest third = newRequest("group2", 1000, 200);
+        tracker.add(first);
+        tracker.add(second);
+        tracker.add(third);
+        Assert.assertEquals(3, tracker.size());
+        Assert.assertEquals(2, tracker.size("group1"));
+        Assert.assertEquals(1, tracker.size("group2"));
+
+        tracker.checkTimeout(1099);
+        Mockito.verify(first, Mockito.never()).timeout();
+        Assert.assertEquals(3, tracker.size());
+
+        tracker.checkTimeout(1200);
+        Mockito.verify(first).timeout();
+        Mockito.verify(third).timeout();
+        Mockito.verify(second, Mockito.never()).timeout();
+        Assert.assertEquals(1, tracker.size());
+        Assert.assertEquals(1, tracker.size("group1"));
+        Assert.assertEquals(0, tracker.size("group2"));
+    }
+
+    @Test
+    public void testRemove() {
+        AbstractHTTPPushRequest request = newRequest("group1", 1000, 100);
+        tracker.add(request);
+        tracker.remove(request);
+        tracker.remove(request);
+        Assert.assertEquals(0, tracker.size());
+        Assert.assertEquals(0, tracker.size("group1"));
+
+        tracker.checkTimeout(2000);
+        Mockito.verify(request, Mockito.never()).timeout();
+        Assert.assertEquals(0, tracker.size());
+    }
+
+    @Test
+    public void testPurge() {
+        for (int i = 0; i < 2000; i++) {
+            AbstractHTTPPushRequest request = newRequest("group1", 1000, 100);
+            tracker.add(request);
+            tracker.remove(request);
+        }
+        AbstractHTTPPushRequest pending = newRequest("group1", 1000, 100);
+        tracker.add(pending);
+
+        tracker.checkTimeout(1000);
+        Assert.assertEquals(1, tracker.size());
+        tracker.checkTimeout(1100);
+        Mockito.verify(pending).timeout();
+        Assert.assertEquals(0, tracker.size());
+    }
+
+    private static AbstractHTTPPushRequest newRequest(String consumerGroup, long lastPushTime, int ttl) {
+        HandleMsgContext handleMsgContext = Mockito.mock(HandleMsgContext.class);
+        Mockito.when(handleMsgContext.getConsumerGroup()).thenReturn(consumerGroup);
+        AbstractHTTPPushRequest request = Mockito.mock(AbstractHTTPPushRequest.class);
+        request.handleMsgContext = handleMsgContext;
+        request.lastPushTime = lastPushTime;
+        request.ttl = ttl;
+        return request;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.eventmesh.runtime.core.protocol.tcp.client.group.dispatch;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.eventmesh.common.protocol.SubscriptionItem;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.Session;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.SessionContext;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.SessionState;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.push.SessionPusher;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LoadAwareDispatchStrategyTest {
+
+    private static final String GROUP = "group";
+
+    private static final String TOPIC = "topic";
+
+    private final LoadAwareDispatchStrategy strategy = new LoadAwareDispatchStrategy();
+
+    @Test
+    public void testSelectLeastLoaded() {
+        Session busy = mockSession(10, SessionState.RUNNING, false);
+        Session idle = mockSession(1, SessionState.RUNNING, false);
+        Session[] sessions = {busy, idle};
+
+        for (int i = 0; i < 100; i++) {
+            Assert.assertSame(idle, strategy.select(GROUP, TOPIC, Collections.emptySet(), sessions));
+        }
+    }
+
+    @Test
+    public void testSkipClosedAndIsolated() {
+        Session closed = mockSession(0, SessionState.CLOSED, false);
+        Session isolated = mockSession(0, SessionState.RUNNING, true);
+        Session available = mockSession(100, SessionState.RUNNING, false);
+        Session[] sessions = {closed, isolated, available};
+
+        for (int i = 0; i < 100; i++) {
+            Assert.assertSame(available, strategy.select(GROUP, TOPIC, Collections.emptySet(), sessions));
+        }
+    }
+
+    @Test
+    public void testAllIsolated() {
+        Session closed = mockSession(0, SessionState.CLOSED, false);
+        Session isolated = mockSession(0, SessionState.RUNNING, true);
+
+        Assert.assertSame(isolated, strategy.select(GROUP, TOPIC, Collections.emptySet(), new Session[] {closed, isolated}));
+        Assert.assertNull(strategy.select(GROUP, TOPIC, Collections.emptySet(), new Session[] {closed}));
+        Assert.assertNull(strategy.select(GROUP, TOPIC, Collections.emptySet(), new Session[0]));
+    }
+
+    @Test
+    public void testSelectWithoutIndex() {
+        Session subscribed = mockSession(0, SessionState.RUNNING, false);
+        subscribed.getSessionContext().subscribeTopics.put(TOPIC, new SubscriptionItem());
+        Session other = mockSession(0, SessionState.RUNNING, false);
+        Set<Session> groupSessions = new HashSet<>();
+        groupSessions.add(subscribed);
+        groupSessions.add(other);
+
+        for (int i = 0; i < 100; i++) {
+            Assert.assertSame(subscribed, strategy.select(GROUP, TOPIC, groupSessions, null));
+        }
+        Assert.assertNull(strategy.select(GROUP, "", groupSessions));
+    }
+
+    private Session mockSession(int unackMsgs, SessionState state, boolean isolated) {
+        Session session = mock(Session.class);
+        SessionPusher pusher = mock(SessionPusher.class);
+        when(pusher.getTotalUnackMsgs()).thenReturn(unackMsgs);
+        when(session.getPusher()).thenReturn(pusher);
+        when(session.getSessionState()).thenReturn(state);
+        when(session.isIsolated()).thenReturn(isolated);
+        when(session.getSessionContext()).thenReturn(new SessionContext(session));
+        return session;
+    }
+}
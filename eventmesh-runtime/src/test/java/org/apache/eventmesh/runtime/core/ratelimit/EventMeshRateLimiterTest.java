@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.ratelimit;
+
+import org.apache.eventmesh.common.config.CommonConfiguration;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class EventMeshRateLimiterTest {
+
+    @Test
+    public void testGroupQuota() {
+        CommonConfiguration configuration = new CommonConfiguration();
+        configuration.setEventMeshRateLimitGroupPermitsPerSecond(1);
+        configuration.setEventMeshRateLimitGroupPermits(Collections.singletonMap("vip", 0));
+        EventMeshRateLimiter limiter = new EventMeshRateLimiter("test", 0, configuration);
+
+        Assert.assertEquals(RateLimitResult.PASSED, limiter.tryAcquire("noisy", "t", 2));
+        Assert.assertEquals(RateLimitResult.GROUP_LIMITED, limiter.tryAcquire("noisy", "t"));
+        Assert.assertEquals(RateLimitResult.PASSED, limiter.tryAcquire("quiet", "t"));
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(RateLimitResult.PASSED, limiter.tryAcquire("vip", "t"));
+        }
+        Assert.assertEquals(1, limiter.getRejectedNum(RateLimitResult.GROUP_LIMITED));
+    }
+
+    @Test
+    public void testTopicQuotaAndNode() {
+        CommonConfiguration configuration = new CommonConfiguration();
+        configuration.setEventMeshRateLimitTopicPermits(Collections.singletonMap("hot", 1));
+        EventMeshRateLimiter limiter = new EventMeshRateLimiter("test", 5, configuration);
+
+        Assert.assertEquals(RateLimitResult.PASSED, limiter.tryAcquire("g", "hot", 2));
+        Assert.assertEquals(RateLimitResult.TOPIC_LIMITED, limiter.tryAcquire("g", "hot"));
+        Assert.assertEquals(RateLimitResult.PASSED, limiter.tryAcquire("g", "cold", 3));
+        Assert.assertEquals(RateLimitResult.NODE_LIMITED, limiter.tryAcquire("g", "cold"));
+        Assert.assertEquals(RateLimitResult.NODE_LIMITED, limiter.tryAcquire(null, null));
+    }
+
+    @Test
+    public void testReload() {
+        CommonConfiguration configuration = new CommonConfiguration();
+        configuration.setEventMeshRateLimitGroupPermitsPerSecond(1);
+        EventMeshRateLimiter limiter = new EventMeshRateLimiter("test", 0, configuration);
+        Assert.assertEquals(RateLimitResult.PASSED, limiter.tryAcquire("g", "t", 2));
+        Assert.assertEquals(RateLimitResult.GROUP_LIMITED, limiter.tryAcquire("g", "t"));
+
+        configuration.setEventMeshRateLimitGroupPermitsPerSecond(0);
+        limiter.reload(1, configuration);
+        Assert.assertEquals(1, limiter.getNodePermitsPerSecond(), 0);
+        Assert.assertEquals(RateLimitResult.PASSED, limiter.tryAcquire("g", "t"));
+    }
+
+    @Test
+    public void testIdleBucketsDropped() {
+        CommonConfiguration configuration = new CommonConfiguration();
+        configuration.setEventMeshRateLimitTopicPermitsPerSecond(1);
+        configuration.setEventMeshRateLimitReloadIntervalInMills(1000);
+        EventMeshRateLimiter limiter = new EventMeshRateLimiter("test", 0, configuration);
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(RateLimitResult.PASSED, limiter.tryAcquire(null, "topic-" + i));
+        }
+        Assert.assertEquals(100, limiter.getBucketNum());
+
+        // the buckets are full again one second after the acquire, and idle after another reload interval
+        long now = System.nanoTime();
+        limiter.reload(0, configuration, now);
+        Assert.assertEquals(100, limiter.getBucketNum());
+        Assert.assertEquals(RateLimitResult.TOPIC_LIMITED, limiter.tryAcquire(null, "topic-0"));
+        limiter.reload(0, configuration, now + TimeUnit.SECONDS.toNanos(3));
+        Assert.assertEquals(0, limiter.getBucketNum());
+    }
+}
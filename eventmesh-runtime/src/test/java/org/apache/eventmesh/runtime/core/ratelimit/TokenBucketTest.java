@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    public void testBurstAndRefill() {
+        TokenBucket bucket = new TokenBucket(10);
+        long now = 0;
+        int passed = 0;
+        while (bucket.tryAcquire(1, now)) {
+            passed++;
+        }
+        Assert.assertEquals(10, passed);
+
+        Assert.assertFalse(bucket.tryAcquire(1, now + SECOND / 20));
+        Assert.assertTrue(bucket.tryAcquire(1, now + SECOND / 10));
+        Assert.assertTrue(bucket.tryAcquire(5, now + SECOND));
+    }
+
+    @Test
+    public void testLargeRequestOnFullBucket() {
+        TokenBucket bucket = new TokenBucket(10);
+        Assert.assertTrue(bucket.tryAcquire(30, 0));
+        Assert.assertFalse(bucket.tryAcquire(1, SECOND));
+        Assert.assertTrue(bucket.tryAcquire(1, 3 * SECOND));
+    }
+
+    @Test
+    public void testReleaseAndRate() {
+        TokenBucket bucket = new TokenBucket(1);
+        Assert.assertTrue(bucket.tryAcquire(1, 0));
+        Assert.assertFalse(bucket.tryAcquire(1, 0));
+        bucket.release(1);
+        Assert.assertTrue(bucket.tryAcquire(1, 0));
+
+        bucket.setRate(0);
+        Assert.assertTrue(bucket.isUnlimited());
+        Assert.assertTrue(bucket.tryAcquire(1000, 0));
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.eventmesh.runtime.core.retry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RetrySchedulerTest {
+
+    private RetryScheduler scheduler;
+
+    @Before
+    public void setUp() {
+        scheduler = new RetryScheduler(5, 8, 2);
+        scheduler.start();
+    }
+
+    @After
+    public void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void testTimingWheelCascade() {
+        TimingWheel wheel = new TimingWheel(10, 4, 1000);
+        List<Long> expired = new ArrayList<>();
+        // first level spans 40ms, the second 160ms and the third 640ms
+        for (long deadline : new long[] {1015, 1055, 1170, 1700, 1039, 1000}) {
+            Assert.assertTrue(wheel.add(new TestEntry(deadline)));
+        }
+        Assert.assertFalse(wheel.add(new TestEntry(999)));
+        Assert.assertEquals(6, wheel.size());
+
+        for (long now = 1000; now <= 1800; now += 10) {
+            long time = now;
+            wheel.advance(now, entry -> {
+                Assert.assertTrue(entry.deadline < time);
+                Assert.assertTrue(entry.deadline >= time - 10);
+                expired.add(entry.deadline);
+            });
+        }
+        Assert.assertEquals(0, wheel.size());
+        Assert.assertEquals(Arrays.asList(1000L, 1015L, 1039L, 1055L, 1170L, 1700L), expired);
+    }
+
+    @Test
+    public void testSchedule() throws Exception {
+        RetryLane lane = scheduler.register("test", 10, 2);
+        CountDownLatch latch = new CountDownLatch(3);
+        long start = System.currentTimeMillis();
+        Assert.assertTrue(lane.schedule("group", 50, latch::countDown));
+        Assert.assertTrue(lane.schedule(null, 30, latch::countDown));
+        Assert.assertTrue(lane.schedule(null, 0, latch::countDown));
+
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assert.assertTrue(System.currentTimeMillis() - start >= 50);
+        lane.shutdown();
+        Assert.assertNull(scheduler.getLane("test"));
+    }
+
+    @Test
+    public void testQuota() throws Exception {
+        RetryLane lane = scheduler.register("test", 3, 1);
+        Assert.assertTrue(lane.schedule("group", 60_000, () -> { }));
+        Assert.assertTrue(lane.schedule("group", 60_000, () -> { }));
+        Assert.assertFalse(lane.schedule("group", 60_000, () -> { }));
+        Assert.assertTrue(lane.schedule("other", 60_000, () -> { }));
+        Assert.assertFalse(lane.schedule(null, 60_000, () -> { }));
+
+        Assert.assertEquals(3, lane.getPendingCount());
+        Assert.assertEquals(2, lane.getPendingCount("group"));
+        Assert.assertEquals(2, lane.getDroppedCount());
+        Assert.assertEquals(3, scheduler.getPendingCount());
+        lane.shutdown();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testRegisterTwice() {
+        scheduler.register("test", 1, 1);
+        scheduler.register("test", 1, 1);
+    }
+
+    @Test
+    public void testBackoff() {
+        for (int attempt = 1; attempt <= 40; attempt++) {
+            long delay = RetryBackoff.exponential(100, attempt, 1000);
+            long expected = Math.min(1000, 100L << Math.min(attempt - 1, 30));
+            Assert.assertTrue(delay >= expected - expected / 2);
+            Assert.assertTrue(delay <= expected);
+        }
+        Assert.assertEquals(0, RetryBackoff.exponential(0, 1, 1000));
+    }
+
+    private static class TestEntry extends TimingWheel.Entry {
+
+        TestEntry(long deadline) {
+            super(deadline);
+        }
+    }
+}
@@ -57,6 +57,21 @@ public class EventMeshGrpcClientConfig {
     @Builder.Default
     private boolean useTls = false;
 
+    /**
+     * Publish CloudEvents in the native protobuf field of the gRPC messages instead of the JSON {@code content}.
+     * Servers that do not know the protobuf field drop the event, so upgrade all the EventMesh servers before
+     * turning it on in the clients.
+     */
+    @Builder.Default
+    private boolean useProtobufCloudEvent = false;
+
+    /**
+     * Messages of the subscribe stream requested from the server before the listener has handled them, one more is
+     * requested after each handled message.
+     */
+    @Builder.Default
+    private int subscribeStreamPrefetch = 16;
+
     @Override
     public String toString() {
         return "ClientConfig={"
@@ -89,6 +104,12 @@ public class EventMeshGrpcClientConfig {
             + ","
             + "useTls="
             + useTls
+            + ","
+            + "useProtobufCloudEvent="
+            + useProtobufCloudEvent
+            + ","
+            + "subscribeStreamPrefetch="
+            + subscribeStreamPrefetch
             + "}";
     }
 }
@@ -30,8 +30,15 @@ import java.util.concurrent.CountDownLatch;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
 import io.grpc.stub.StreamObserver;
 
+/**
+ * Receives the messages of the subscribe stream and sends the replies on it. The messages are requested from the
+ * server as the listener handles them, at most {@link EventMeshGrpcClientConfig#getSubscribeStreamPrefetch()} ahead,
+ * so a slow listener holds back the server through gRPC flow control instead of buffering messages in the client.
+ */
 public class SubStreamHandler<T> extends Thread {
 
     private static final Logger logger = LoggerFactory.getLogger(SubStreamHandler.class);
@@ -44,6 +51,11 @@ public class SubStreamHandler<T> extends Thread {
 
     private StreamObserver<Subscription> sender;
 
+    /**
+     * The call of the stream with manual inbound flow control, set when the call starts
+     */
+    private volatile ClientCallStreamObserver<Subscription> requestStream;
+
     private final ReceiveMsgHook<T> listener;
 
     public SubStreamHandler(ConsumerServiceStub consumerAsyncClient, EventMeshGrpcClientConfig clientConfig,
@@ -63,28 +75,22 @@ public class SubStreamHandler<T> extends Thread {
     }
 
     private StreamObserver<SimpleMessage> createReceiver() {
-        return new StreamObserver<SimpleMessage>() {
+        return new ClientResponseObserver<Subscription, SimpleMessage>() {
+            @Override
+            public void beforeStart(ClientCallStreamObserver<Subscription> requestStream) {
+                SubStreamHandler.this.requestStream = requestStream;
+                requestStream.disableAutoRequestWithInitial(clientConfig.getSubscribeStreamPrefetch());
+            }
+
             @Override
             public void onNext(SimpleMessage message) {
-                T msg = EventMeshClientUtil.buildMessage(message, listener.getProtocolType());
-
-                if (msg instanceof Map) {
-                    logger.info("Received message from Server." + message);
-                } else {
-                    logger.info("Received message from Server.|seq={}|uniqueId={}|", message.getSeqNum(), message.getUniqueId());
-                    Subscription streamReply = null;
-                    try {
-                        Optional<T> reply = listener.handle(msg);
-                        if (reply.isPresent()) {
-                            streamReply = buildReplyMessage(message, reply.get());
-                        }
-                    } catch (Throwable t) {
-                        logger.error("Error in handling reply message.|seq={}|uniqueId={}|", message.getSeqNum(), message.getUniqueId(), t);
-                    }
-                    if (streamReply != null) {
-                        logger.info("Sending reply message to Server.|seq={}|uniqueId={}|", streamReply.getReply().getSeqNum(),
-                            streamReply.getReply().getUniqueId());
-                        senderOnNext(streamReply);
+                try {
+                    handleMessage(message);
+                } finally {
+                    // credit for the next message once this one has been handled
+                    ClientCallStreamObserver<Subscription> call = requestStream;
+                    if (call != null) {
+                        call.request(1);
                     }
                 }
             }
@@ -103,8 +109,33 @@ public class SubStreamHandler<T> extends Thread {
         };
     }
 
+    private void handleMessage(SimpleMessage message) {
+        T msg = EventMeshClientUtil.buildMessage(message, listener.getProtocolType());
+
+        if (msg instanceof Map) {
+            logger.info("Received message from Server." + message);
+        } else {
+            logger.info("Received message from Server.|seq={}|uniqueId={}|", message.getSeqNum(), message.getUniqueId());
+            Subscription streamReply = null;
+            try {
+                Optional<T> reply = listener.handle(msg);
+                if (reply.isPresent()) {
+                    streamReply = buildReplyMessage(message, reply.get());
+                }
+            } catch (Throwable t) {
+                logger.error("Error in handling reply message.|seq={}|uniqueId={}|", message.getSeqNum(), message.getUniqueId(), t);
+            }
+            if (streamReply != null) {
+                logger.info("Sending reply message to Server.|seq={}|uniqueId={}|", streamReply.getReply().getSeqNum(),
+                    streamReply.getReply().getUniqueId());
+                senderOnNext(streamReply);
+            }
+        }
+    }
+
     private Subscription buildReplyMessage(SimpleMessage reqMessage, T replyMessage) {
-        SimpleMessage simpleMessage = EventMeshClientUtil.buildSimpleMessage(replyMessage, clientConfig, listener.getProtocolType());
+        // Subscription.Reply only carries a string content, so the reply keeps the serialized format
+        SimpleMessage simpleMessage = EventMeshClientUtil.buildSimpleMessage(replyMessage, clientConfig, listener.getProtocolType(), false);
 
         Subscription.Reply reply = Subscription.Reply.newBuilder()
             .setProducerGroup(clientConfig.getConsumerGroup())
@@ -79,9 +79,7 @@ public class CloudEventProducer {
 
     public Response publish(CloudEvent cloudEvent) {
         logger.info("Publish message " + cloudEvent.toString());
-        CloudEvent enhanceEvent = enhanceCloudEvent(cloudEvent, null);
-
-        SimpleMessage enhancedMessage = EventMeshClientUtil.buildSimpleMessage(enhanceEvent, clientConfig, PROTOCOL_TYPE);
+        SimpleMessage enhancedMessage = buildSimpleMessage(cloudEvent);
 
         try {
             Response response = publisherClient.publish(enhancedMessage);
@@ -114,6 +112,11 @@ public class CloudEventProducer {
         }
     }
 
+    SimpleMessage buildSimpleMessage(CloudEvent cloudEvent) {
+        CloudEvent enhanceEvent = enhanceCloudEvent(cloudEvent, null);
+        return EventMeshClientUtil.buildSimpleMessage(enhanceEvent, clientConfig, PROTOCOL_TYPE);
+    }
+
     private CloudEvent enhanceCloudEvent(final CloudEvent cloudEvent, String timeout) {
         CloudEventBuilder builder = CloudEventBuilder.from(cloudEvent)
             .withExtension(ProtocolKey.ENV, clientConfig.getEnv())
@@ -28,6 +28,7 @@ import org.apache.eventmesh.common.protocol.grpc.protos.Response;
 import org.apache.eventmesh.common.protocol.grpc.protos.SimpleMessage;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
@@ -51,6 +52,8 @@ public class EventMeshGrpcProducer implements AutoCloseable {
 
     CloudEventProducer cloudEventProducer;
 
+    PublishStreamProducer publishStreamProducer;
+
     public EventMeshGrpcProducer(EventMeshGrpcClientConfig clientConfig) {
         this.clientConfig = clientConfig;
         channel = ManagedChannelBuilder.forAddress(clientConfig.getServerAddr(), clientConfig.getServerPort())
@@ -58,6 +61,7 @@ public class EventMeshGrpcProducer implements AutoCloseable {
         publisherClient = PublisherServiceGrpc.newBlockingStub(channel);
 
         cloudEventProducer = new CloudEventProducer(clientConfig, publisherClient);
+        publishStreamProducer = new PublishStreamProducer(PublisherServiceGrpc.newStub(channel));
     }
 
     public Response publish(EventMeshMessage message) {
@@ -99,6 +103,19 @@ public class EventMeshGrpcProducer implements AutoCloseable {
         return cloudEventProducer.publish(cloudEvent);
     }
 
+    /**
+     * Publish without waiting for the previous messages to be acked, all async publishes of the producer share one
+     * stream of the channel.
+     */
+    public CompletableFuture<Response> publishAsync(EventMeshMessage message) {
+        SimpleMessage simpleMessage = EventMeshClientUtil.buildSimpleMessage(message, clientConfig, PROTOCOL_TYPE);
+        return publishStreamProducer.publish(simpleMessage);
+    }
+
+    public CompletableFuture<Response> publishAsync(CloudEvent cloudEvent) {
+        return publishStreamProducer.publish(cloudEventProducer.buildSimpleMessage(cloudEvent));
+    }
+
     public CloudEvent requestReply(CloudEvent cloudEvent, int timeout) {
         return cloudEventProducer.requestReply(cloudEvent, timeout);
     }
@@ -125,6 +142,7 @@ public class EventMeshGrpcProducer implements AutoCloseable {
 
     @Override
     public void close() {
+        publishStreamProducer.close();
         channel.shutdown();
     }
 }
\ No newline at end of file
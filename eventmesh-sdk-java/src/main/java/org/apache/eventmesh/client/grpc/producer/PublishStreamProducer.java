@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.client.grpc.producer;
+
+import org.apache.eventmesh.common.protocol.grpc.protos.PublisherServiceGrpc.PublisherServiceStub;
+import org.apache.eventmesh.common.protocol.grpc.protos.Response;
+import org.apache.eventmesh.common.protocol.grpc.protos.SimpleMessage;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+
+/**
+ * Publishes messages over a single publishStream of the channel. Messages are pipelined without waiting for each
+ * other, the future of a message is completed by the ack carrying its seqNum, or exceptionally if the stream fails
+ * first. A failed stream is replaced on the next publish.
+ *
+ * <p>Messages are only written while the stream is ready, the others wait in the outbound queue of the stream until
+ * the transport asks for more, so a slow server holds back the writes instead of filling the gRPC buffers.
+ */
+public class PublishStreamProducer implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(PublishStreamProducer.class);
+
+    private final PublisherServiceStub publisherAsyncClient;
+
+    /**
+     * The open stream, guarded by this
+     */
+    private PublishStream stream;
+
+    public PublishStreamProducer(PublisherServiceStub publisherAsyncClient) {
+        this.publisherAsyncClient = publisherAsyncClient;
+    }
+
+    public CompletableFuture<Response> publish(SimpleMessage message) {
+        CompletableFuture<Response> future = new CompletableFuture<>();
+        try {
+            synchronized (this) {
+                if (stream == null) {
+                    stream = new PublishStream();
+                    publisherAsyncClient.publishStream(stream);
+                }
+                stream.send(message, future);
+            }
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (stream != null) {
+                // the server completes the stream once every sent message has been acked
+                stream.close();
+                stream = null;
+            }
+        }
+    }
+
+    private synchronized void remove(PublishStream closed) {
+        if (stream == closed) {
+            stream = null;
+        }
+    }
+
+    private class PublishStream implements ClientResponseObserver<SimpleMessage, Response> {
+
+        private final Map<String, CompletableFuture<Response>> pending = new ConcurrentHashMap<>();
+
+        private final Queue<SimpleMessage> outbound = new ConcurrentLinkedQueue<>();
+
+        private ClientCallStreamObserver<SimpleMessage> sender;
+
+        /**
+         * Half close the stream once the outbound queue is drained, guarded by this
+         */
+        private boolean closing;
+
+        private boolean halfClosed;
+
+        @Override
+        public void beforeStart(ClientCallStreamObserver<SimpleMessage> requestStream) {
+            this.sender = requestStream;
+            requestStream.setOnReadyHandler(this::drain);
+        }
+
+        void send(SimpleMessage message, CompletableFuture<Response> future) {
+            if (pending.putIfAbsent(message.getSeqNum(), future) != null) {
+                throw new IllegalArgumentException("Message with seqNum " + message.getSeqNum() + " is waiting for its ack");
+            }
+            outbound.add(message);
+            drain();
+        }
+
+        void close() {
+            synchronized (this) {
+                closing = true;
+            }
+            drain();
+        }
+
+        /**
+         * Write the queued messages while the transport is ready, called by the publishers and by the ready handler
+         */
+        private void drain() {
+            RuntimeException failure;
+            synchronized (this) {
+                try {
+                    while (sender.isReady()) {
+                        SimpleMessage message = outbound.poll();
+                        if (message == null) {
+                            break;
+                        }
+                        sender.onNext(message);
+                    }
+                    if (closing && !halfClosed && outbound.isEmpty()) {
+                        halfClosed = true;
+                        sender.onCompleted();
+                    }
+                    return;
+                } catch (RuntimeException e) {
+                    failure = e;
+                }
+            }
+            // outside the lock of the stream, the publishers lock the producer before the stream
+            logger.error("PublishStream write failed, {} messages are not acked. {}", pending.size(), failure.getMessage());
+            sender.cancel("PublishStream write failed", failure);
+            remove(this);
+            fail(failure);
+        }
+
+        @Override
+        public void onNext(Response response) {
+            CompletableFuture<Response> future = pending.remove(response.getSeqNum());
+            if (future == null) {
+                logger.warn("Received ack of unknown message {}", response);
+                return;
+            }
+            future.complete(response);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            logger.error("PublishStream failed, {} messages are not acked. {}", pending.size(), t.getMessage());
+            remove(this);
+            fail(t);
+        }
+
+        @Override
+        public void onCompleted() {
+            remove(this);
+            fail(new IllegalStateException("PublishStream completed before the ack"));
+        }
+
+        private void fail(Throwable t) {
+            outbound.clear();
+            pending.values().forEach(future -> future.completeExceptionally(t));
+            pending.clear();
+        }
+    }
+}
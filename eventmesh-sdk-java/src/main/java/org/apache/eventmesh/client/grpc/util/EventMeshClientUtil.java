@@ -21,6 +21,7 @@ import org.apache.eventmesh.client.grpc.config.EventMeshGrpcClientConfig;
 import org.apache.eventmesh.client.tcp.common.EventMeshCommon;
 import org.apache.eventmesh.common.Constants;
 import org.apache.eventmesh.common.EventMeshMessage;
+import org.apache.eventmesh.common.protocol.grpc.common.CloudEventProtoConverter;
 import org.apache.eventmesh.common.protocol.grpc.common.ProtocolKey;
 import org.apache.eventmesh.common.protocol.grpc.protos.BatchMessage;
 import org.apache.eventmesh.common.protocol.grpc.protos.RequestHeader;
@@ -87,8 +88,9 @@ public class EventMeshClientUtil {
         if (EventMeshCommon.CLOUD_EVENTS_PROTOCOL_NAME.equals(protocolType)) {
             String contentType = message.getPropertiesOrDefault(ProtocolKey.CONTENT_TYPE, JsonFormat.CONTENT_TYPE);
             try {
-                CloudEvent cloudEvent = Objects.requireNonNull(EventFormatProvider.getInstance().resolveFormat(contentType))
-                    .deserialize(content.getBytes(StandardCharsets.UTF_8));
+                CloudEvent cloudEvent = message.hasCloudEvent() ? CloudEventProtoConverter.fromProto(message.getCloudEvent())
+                    : Objects.requireNonNull(EventFormatProvider.getInstance().resolveFormat(contentType))
+                        .deserialize(content.getBytes(StandardCharsets.UTF_8));
 
                 CloudEventBuilder cloudEventBuilder = CloudEventBuilder.from(cloudEvent)
                     .withSubject(message.getTopic())
@@ -114,15 +116,23 @@ public class EventMeshClientUtil {
         }
     }
 
+    /**
+     * Build the gRPC message for an event, a CloudEvent is carried in the native protobuf field only when
+     * {@link EventMeshGrpcClientConfig#isUseProtobufCloudEvent()} is set.
+     */
     public static <T> SimpleMessage buildSimpleMessage(T message, EventMeshGrpcClientConfig clientConfig,
                                                        String protocolType) {
+        return buildSimpleMessage(message, clientConfig, protocolType, clientConfig.isUseProtobufCloudEvent());
+    }
+
+    /**
+     * Build the gRPC message for an event. With {@code protobufFormat} set, a CloudEvent is carried in the
+     * native {@code cloudEvent} field instead of being serialized to a string in {@code content}.
+     */
+    public static <T> SimpleMessage buildSimpleMessage(T message, EventMeshGrpcClientConfig clientConfig,
+                                                       String protocolType, boolean protobufFormat) {
         if (EventMeshCommon.CLOUD_EVENTS_PROTOCOL_NAME.equals(protocolType)) {
             CloudEvent cloudEvent = (CloudEvent) message;
-            String contentType = StringUtils.isEmpty(cloudEvent.getDataContentType()) ? Constants.CONTENT_TYPE_CLOUDEVENTS_JSON
-                : cloudEvent.getDataContentType();
-            byte[] bodyByte = Objects.requireNonNull(EventFormatProvider.getInstance().resolveFormat(contentType))
-                .serialize(cloudEvent);
-            String content = new String(bodyByte, StandardCharsets.UTF_8);
             String ttl = cloudEvent.getExtension(Constants.EVENTMESH_MESSAGE_CONST_TTL) == null ? Constants.DEFAULT_EVENTMESH_MESSAGE_TTL
                 : Objects.requireNonNull(cloudEvent.getExtension(Constants.EVENTMESH_MESSAGE_CONST_TTL)).toString();
 
@@ -138,13 +148,25 @@ public class EventMeshClientUtil {
                 .setTopic(cloudEvent.getSubject())
                 .setTtl(ttl)
                 .setSeqNum(seqNum)
-                .setUniqueId(uniqueId)
-                .setContent(content)
-                .putProperties(ProtocolKey.CONTENT_TYPE, contentType);
+                .setUniqueId(uniqueId);
+
+            if (protobufFormat) {
+                // extensions already travel as typed attributes of the protobuf event
+                return builder.setCloudEvent(CloudEventProtoConverter.toProto(cloudEvent))
+                    .putProperties(ProtocolKey.CONTENT_TYPE, Constants.CONTENT_TYPE_CLOUDEVENTS_PROTOBUF)
+                    .build();
+            }
+
+            String contentType = StringUtils.isEmpty(cloudEvent.getDataContentType()) ? Constants.CONTENT_TYPE_CLOUDEVENTS_JSON
+                : cloudEvent.getDataContentType();
+            byte[] bodyByte = Objects.requireNonNull(EventFormatProvider.getInstance().resolveFormat(contentType))
+                .serialize(cloudEvent);
+            builder.setContent(new String(bodyByte, StandardCharsets.UTF_8));
 
             for (String extName : cloudEvent.getExtensionNames()) {
                 builder.putProperties(extName, Objects.requireNonNull(cloudEvent.getExtension(extName)).toString());
             }
+            builder.putProperties(ProtocolKey.CONTENT_TYPE, contentType);
 
             return builder.build();
         } else {
@@ -184,22 +206,25 @@ public class EventMeshClientUtil {
                 .setTopic(events.get(0).getSubject());
 
             for (CloudEvent event : events) {
-                String contentType = StringUtils.isEmpty(event.getDataContentType()) ? Constants.CONTENT_TYPE_CLOUDEVENTS_JSON
-                    : event.getDataContentType();
-                byte[] bodyByte = Objects.requireNonNull(EventFormatProvider.getInstance().resolveFormat(contentType))
-                    .serialize(event);
-                String content = new String(bodyByte, StandardCharsets.UTF_8);
-
                 String ttl = event.getExtension(Constants.EVENTMESH_MESSAGE_CONST_TTL) == null ? Constants.DEFAULT_EVENTMESH_MESSAGE_TTL
                     : Objects.requireNonNull(event.getExtension(Constants.EVENTMESH_MESSAGE_CONST_TTL)).toString();
 
-                BatchMessage.MessageItem messageItem = BatchMessage.MessageItem.newBuilder()
-                    .setContent(content)
+                BatchMessage.MessageItem.Builder messageItem = BatchMessage.MessageItem.newBuilder()
                     .setTtl(ttl)
                     .setSeqNum(Objects.requireNonNull(event.getExtension(ProtocolKey.SEQ_NUM)).toString())
-                    .setUniqueId(Objects.requireNonNull(event.getExtension(ProtocolKey.UNIQUE_ID)).toString())
-                    .putProperties(ProtocolKey.CONTENT_TYPE, contentType)
-                    .build();
+                    .setUniqueId(Objects.requireNonNull(event.getExtension(ProtocolKey.UNIQUE_ID)).toString());
+
+                if (clientConfig.isUseProtobufCloudEvent()) {
+                    messageItem.setCloudEvent(CloudEventProtoConverter.toProto(event))
+                        .putProperties(ProtocolKey.CONTENT_TYPE, Constants.CONTENT_TYPE_CLOUDEVENTS_PROTOBUF);
+                } else {
+                    String contentType = StringUtils.isEmpty(event.getDataContentType()) ? Constants.CONTENT_TYPE_CLOUDEVENTS_JSON
+                        : event.getDataContentType();
+                    byte[] bodyByte = Objects.requireNonNull(EventFormatProvider.getInstance().resolveFormat(contentType))
+                        .serialize(event);
+                    messageItem.setContent(new String(bodyByte, StandardCharsets.UTF_8))
+                        .putProperties(ProtocolKey.CONTENT_TYPE, contentType);
+                }
 
                 messageBuilder.addMessageItem(messageItem);
             }
@@ -18,9 +18,11 @@
 package org.apache.eventmesh.client.tcp.common;
 
 import org.apache.eventmesh.client.tcp.conf.EventMeshTCPClientConfig;
+import org.apache.eventmesh.common.enums.NettyTransport;
 import org.apache.eventmesh.common.protocol.tcp.Package;
 import org.apache.eventmesh.common.protocol.tcp.UserAgent;
 import org.apache.eventmesh.common.protocol.tcp.codec.Codec;
+import org.apache.eventmesh.common.protocol.tcp.codec.CodecVersion;
 
 import java.io.Closeable;
 import java.net.InetSocketAddress;
@@ -47,9 +49,7 @@ import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.SimpleChannelInboundHandler;
-import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioSocketChannel;
 
 import com.google.common.base.Preconditions;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
@@ -65,10 +65,13 @@ public abstract class TcpClient implements Closeable {
     protected final transient String host;
     protected final transient int port;
     protected final transient UserAgent userAgent;
+    protected final transient CodecVersion codecVersion;
 
     private final transient Bootstrap bootstrap = new Bootstrap();
 
-    private final transient EventLoopGroup workers = new NioEventLoopGroup();
+    private final transient NettyTransport transport;
+
+    private final transient EventLoopGroup workers;
 
     private transient Channel channel;
 
@@ -85,11 +88,15 @@ public abstract class TcpClient implements Closeable {
         this.host = eventMeshTcpClientConfig.getHost();
         this.port = eventMeshTcpClientConfig.getPort();
         this.userAgent = eventMeshTcpClientConfig.getUserAgent();
+        this.codecVersion = eventMeshTcpClientConfig.getCodecVersion();
+        this.transport = NettyTransport.of(eventMeshTcpClientConfig.getTransport() == null
+                ? null : eventMeshTcpClientConfig.getTransport().name());
+        this.workers = transport.newEventLoopGroup(0, null);
     }
 
     protected synchronized void open(SimpleChannelInboundHandler<Package> handler) throws Exception {
         bootstrap.group(workers);
-        bootstrap.channel(NioSocketChannel.class);
+        bootstrap.channel(transport.getChannelClass());
         bootstrap.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 1_000)
                 .option(ChannelOption.SO_KEEPALIVE, true)
                 .option(ChannelOption.SO_SNDBUF, 64 * 1024)
@@ -98,6 +105,7 @@ public abstract class TcpClient implements Closeable {
                 .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT);
         bootstrap.handler(new ChannelInitializer<SocketChannel>() {
             public void initChannel(SocketChannel ch) {
+                ch.attr(Codec.CODEC_VERSION).set(codecVersion);
                 ch.pipeline().addLast(new Codec.Encoder(), new Codec.Decoder())
                         .addLast(handler, newExceptionHandler());
             }
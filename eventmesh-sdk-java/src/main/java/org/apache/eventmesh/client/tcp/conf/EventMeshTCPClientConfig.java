@@ -17,7 +17,9 @@
 
 package org.apache.eventmesh.client.tcp.conf;
 
+import org.apache.eventmesh.common.enums.NettyTransport;
 import org.apache.eventmesh.common.protocol.tcp.UserAgent;
+import org.apache.eventmesh.common.protocol.tcp.codec.CodecVersion;
 
 import lombok.Builder;
 import lombok.Data;
@@ -28,4 +30,15 @@ public class EventMeshTCPClientConfig {
     private String host;
     private int port;
     private UserAgent userAgent;
+
+    /**
+     * Wire format of the frames sent to the server, {@link CodecVersion#BINARY} requires a server that supports it.
+     */
+    @Builder.Default
+    private CodecVersion codecVersion = CodecVersion.JSON;
+
+    /**
+     * Netty transport of the connection, null selects the first one available of epoll, kqueue and nio.
+     */
+    private NettyTransport transport;
 }
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.eventmesh.client.grpc.consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.eventmesh.client.grpc.config.EventMeshGrpcClientConfig;
+import org.apache.eventmesh.common.EventMeshMessage;
+import org.apache.eventmesh.common.protocol.grpc.protos.ConsumerServiceGrpc;
+import org.apache.eventmesh.common.protocol.grpc.protos.SimpleMessage;
+import org.apache.eventmesh.common.protocol.grpc.protos.Subscription;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+
+public class SubStreamHandlerTest {
+
+    private static final int MESSAGE_NUM = 5;
+
+    private static final int PREFETCH = 2;
+
+    /**
+     * messages the server could write before the client ran out of credit
+     */
+    private final AtomicInteger sent = new AtomicInteger();
+
+    private final CountDownLatch firstSent = new CountDownLatch(1);
+
+    private Server server;
+
+    private ManagedChannel channel;
+
+    private SubStreamHandler<EventMeshMessage> handler;
+
+    @Before
+    public void setUp() throws Exception {
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+            .addService(new ConsumerServiceGrpc.ConsumerServiceImplBase() {
+                @Override
+                public StreamObserver<Subscription> subscribeStream(StreamObserver<SimpleMessage> responseObserver) {
+                    ServerCallStreamObserver<SimpleMessage> serverCall = (ServerCallStreamObserver<SimpleMessage>) responseObserver;
+                    serverCall.setOnReadyHandler(() -> {
+                        while (serverCall.isReady() && sent.get() < MESSAGE_NUM) {
+                            int seqNum = sent.incrementAndGet();
+                            serverCall.onNext(SimpleMessage.newBuilder().setSeqNum(String.valueOf(seqNum))
+                                .setUniqueId(String.valueOf(seqNum)).setTopic("topic").setContent("content").build());
+                            firstSent.countDown();
+                        }
+                    });
+                    return new StreamObserver<Subscription>() {
+                        @Override
+                        public void onNext(Subscription subscription) {
+                        }
+
+                        @Override
+                        public void onError(Throwable t) {
+                        }
+
+                        @Override
+                        public void onCompleted() {
+                            responseObserver.onCompleted();
+                        }
+                    };
+                }
+            }).build().start();
+        channel = InProcessChannelBuilder.forName(name).build();
+    }
+
+    @After
+    public void tearDown() {
+        if (handler != null) {
+            handler.close();
+        }
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Test
+    public void testRequestAfterHandled() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch handledAll = new CountDownLatch(MESSAGE_NUM);
+        List<String> handled = new CopyOnWriteArrayList<>();
+        handler = new SubStreamHandler<>(ConsumerServiceGrpc.newStub(channel),
+            EventMeshGrpcClientConfig.builder().subscribeStreamPrefetch(PREFETCH).build(),
+            new ReceiveMsgHook<EventMeshMessage>() {
+                @Override
+                public Optional<EventMeshMessage> handle(EventMeshMessage msg) throws Throwable {
+                    release.await();
+                    handled.add(msg.getBizSeqNo());
+                    handledAll.countDown();
+                    return Optional.empty();
+                }
+
+                @Override
+                public String getProtocolType() {
+                    return null;
+                }
+            });
+        handler.sendSubscription(Subscription.getDefaultInstance());
+
+        // the listener blocks on the first message, the server can't write more than the prefetched messages
+        assertThat(firstSent.await(3, TimeUnit.SECONDS)).isTrue();
+        TimeUnit.MILLISECONDS.sleep(200);
+        assertThat(sent.get()).isEqualTo(PREFETCH);
+
+        release.countDown();
+        assertThat(handledAll.await(3, TimeUnit.SECONDS)).isTrue();
+        assertThat(handled).containsExactly("1", "2", "3", "4", "5");
+    }
+}
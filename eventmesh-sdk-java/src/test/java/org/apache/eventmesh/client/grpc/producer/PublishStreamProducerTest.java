@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.client.grpc.producer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.apache.eventmesh.common.protocol.grpc.protos.PublisherServiceGrpc;
+import org.apache.eventmesh.common.protocol.grpc.protos.Response;
+import org.apache.eventmesh.common.protocol.grpc.protos.SimpleMessage;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ManagedChannel;
+import io.grpc.MethodDescriptor;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+
+public class PublishStreamProducerTest {
+
+    private final AtomicInteger streams = new AtomicInteger();
+
+    private final List<String> received = new CopyOnWriteArrayList<>();
+
+    /**
+     * messages written to the transport by the client
+     */
+    private final AtomicInteger sent = new AtomicInteger();
+
+    /**
+     * if set, the server requests the messages of a stream through {@link #serverCall}
+     */
+    private volatile boolean manualRequest;
+
+    private volatile ServerCallStreamObserver<Response> serverCall;
+
+    private Server server;
+
+    private ManagedChannel channel;
+
+    private PublishStreamProducer producer;
+
+    @Before
+    public void setUp() throws Exception {
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name).directExecutor()
+            .addService(new PublisherServiceGrpc.PublisherServiceImplBase() {
+                @Override
+                public StreamObserver<SimpleMessage> publishStream(StreamObserver<Response> responseObserver) {
+                    streams.incrementAndGet();
+                    if (manualRequest) {
+                        serverCall = (ServerCallStreamObserver<Response>) responseObserver;
+                        serverCall.disableAutoRequest();
+                    }
+                    return new StreamObserver<SimpleMessage>() {
+                        @Override
+                        public void onNext(SimpleMessage message) {
+                            received.add(message.getSeqNum());
+                            if ("fail".equals(message.getContent())) {
+                                responseObserver.onError(Status.INTERNAL.asRuntimeException());
+                                return;
+                            }
+                            if (!"noAck".equals(message.getContent())) {
+                                responseObserver.onNext(Response.newBuilder().setRespCode("0").setSeqNum(message.getSeqNum()).build());
+                            }
+                        }
+
+                        @Override
+                        public void onError(Throwable t) {
+                        }
+
+                        @Override
+                        public void onCompleted() {
+                            responseObserver.onCompleted();
+                        }
+                    };
+                }
+            }).build().start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().intercept(new ClientInterceptor() {
+            @Override
+            public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
+                                                                       CallOptions callOptions, Channel next) {
+                return new ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT>(next.newCall(method, callOptions)) {
+                    @Override
+                    public void sendMessage(ReqT message) {
+                        sent.incrementAndGet();
+                        super.sendMessage(message);
+                    }
+                };
+            }
+        }).build();
+        producer = new PublishStreamProducer(PublisherServiceGrpc.newStub(channel));
+    }
+
+    @After
+    public void tearDown() {
+        producer.close();
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Test
+    public void testPublishOnOneStream() throws Exception {
+        CompletableFuture<Response> first = producer.publish(message("1", "a"));
+        CompletableFuture<Response> second = producer.publish(message("2", "b"));
+
+        assertThat(first.get(3, TimeUnit.SECONDS).getSeqNum()).isEqualTo("1");
+        assertThat(second.get(3, TimeUnit.SECONDS).getSeqNum()).isEqualTo("2");
+        assertThat(streams.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testStreamFailure() throws Exception {
+        CompletableFuture<Response> pending = producer.publish(message("1", "noAck"));
+        CompletableFuture<Response> failed = producer.publish(message("2", "fail"));
+
+        assertThatThrownBy(() -> pending.get(3, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class);
+        assertThatThrownBy(() -> failed.get(3, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class);
+
+        // the next publish opens a new stream
+        assertThat(producer.publish(message("3", "c")).get(3, TimeUnit.SECONDS).getSeqNum()).isEqualTo("3");
+        assertThat(streams.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void testWriteOnlyWhenReady() throws Exception {
+        manualRequest = true;
+        final CompletableFuture<Response> first = producer.publish(message("1", "a"));
+        final CompletableFuture<Response> second = producer.publish(message("2", "b"));
+        // the server has not requested any message, both wait in the outbound queue
+        assertThat(sent.get()).isZero();
+        assertThat(received).isEmpty();
+
+        serverCall.request(1);
+        assertThat(first.get(3, TimeUnit.SECONDS).getSeqNum()).isEqualTo("1");
+        assertThat(second.isDone()).isFalse();
+        assertThat(sent.get()).isEqualTo(1);
+
+        serverCall.request(1);
+        assertThat(second.get(3, TimeUnit.SECONDS).getSeqNum()).isEqualTo("2");
+        assertThat(received).containsExactly("1", "2");
+    }
+
+    @Test
+    public void testDuplicateSeqNum() {
+        producer.publish(message("1", "noAck"));
+        assertThatThrownBy(() -> producer.publish(message("1", "a")).get(3, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    private SimpleMessage message(String seqNum, String content) {
+        return SimpleMessage.newBuilder().setSeqNum(seqNum).setContent(content).build();
+    }
+}
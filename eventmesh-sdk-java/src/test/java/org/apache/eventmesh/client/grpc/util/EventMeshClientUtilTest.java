@@ -23,6 +23,7 @@ import org.apache.eventmesh.client.grpc.config.EventMeshGrpcClientConfig;
 import org.apache.eventmesh.client.tcp.common.EventMeshCommon;
 import org.apache.eventmesh.common.Constants;
 import org.apache.eventmesh.common.EventMeshMessage;
+import org.apache.eventmesh.common.protocol.grpc.common.CloudEventProtoConverter;
 import org.apache.eventmesh.common.protocol.grpc.common.ProtocolKey;
 import org.apache.eventmesh.common.protocol.grpc.protos.BatchMessage;
 import org.apache.eventmesh.common.protocol.grpc.protos.SimpleMessage;
@@ -83,6 +84,20 @@ public class EventMeshClientUtilTest {
         assertThat(cloudEvent.getExtension(ProtocolKey.UNIQUE_ID)).isEqualTo(message.getUniqueId());
     }
 
+    @Test
+    public void testBuildMessageWithNativeCloudEvent() {
+        CloudEvent event = CloudEventBuilder.v1().withId("id").withSource(URI.create("source")).withType("type").build();
+        SimpleMessage message = SimpleMessage.newBuilder().setSeqNum("1").setUniqueId(RandomStringUtils.generateNum(5))
+            .setTopic("mockTopic")
+            .setCloudEvent(CloudEventProtoConverter.toProto(event))
+            .putProperties(ProtocolKey.CONTENT_TYPE, Constants.CONTENT_TYPE_CLOUDEVENTS_PROTOBUF).build();
+        Object buildMessage = EventMeshClientUtil.buildMessage(message, EventMeshCommon.CLOUD_EVENTS_PROTOCOL_NAME);
+        assertThat(buildMessage).isInstanceOf(CloudEvent.class);
+        CloudEvent cloudEvent = (CloudEvent) buildMessage;
+        assertThat(cloudEvent).hasFieldOrPropertyWithValue("id", "id").hasFieldOrPropertyWithValue("subject", message.getTopic());
+        assertThat(cloudEvent.getExtension(ProtocolKey.SEQ_NUM)).isEqualTo(message.getSeqNum());
+    }
+
     @Test
     public void testBuildMessageWithDefaultProto() {
         SimpleMessage message = SimpleMessage.newBuilder().setSeqNum("1").setUniqueId(RandomStringUtils.generateNum(5))
@@ -100,7 +115,7 @@ public class EventMeshClientUtilTest {
         CloudEvent cloudEvent = CloudEventBuilder.v1().withSubject("mockSubject").withId("mockId")
             .withSource(URI.create("mockSource")).withType("mockType").withExtension(ProtocolKey.SEQ_NUM, "1")
             .withExtension(ProtocolKey.UNIQUE_ID, "uniqueId").build();
-        EventMeshGrpcClientConfig clientConfig = EventMeshGrpcClientConfig.builder().build();
+        EventMeshGrpcClientConfig clientConfig = EventMeshGrpcClientConfig.builder().useProtobufCloudEvent(true).build();
         assertThat(EventMeshClientUtil.buildSimpleMessage(cloudEvent, clientConfig,
             EventMeshCommon.CLOUD_EVENTS_PROTOCOL_NAME)).hasFieldOrPropertyWithValue("header",
                 EventMeshClientUtil.buildHeader(clientConfig, EventMeshCommon.CLOUD_EVENTS_PROTOCOL_NAME))
@@ -109,9 +124,23 @@ public class EventMeshClientUtilTest {
             .hasFieldOrPropertyWithValue("ttl", "4000")
             .hasFieldOrPropertyWithValue("seqNum", cloudEvent.getExtension(ProtocolKey.SEQ_NUM))
             .hasFieldOrPropertyWithValue("uniqueId", cloudEvent.getExtension(ProtocolKey.UNIQUE_ID))
-            .hasFieldOrPropertyWithValue("content", new String(
-                EventFormatProvider.getInstance().resolveFormat(JsonFormat.CONTENT_TYPE).serialize(cloudEvent),
-                StandardCharsets.UTF_8));
+            .hasFieldOrPropertyWithValue("content", "")
+            .hasFieldOrPropertyWithValue("cloudEvent", CloudEventProtoConverter.toProto(cloudEvent));
+    }
+
+    @Test
+    public void buildSimpleMessageWithCloudEventJson() {
+        CloudEvent cloudEvent = CloudEventBuilder.v1().withSubject("mockSubject").withId("mockId")
+            .withSource(URI.create("mockSource")).withType("mockType").withExtension(ProtocolKey.SEQ_NUM, "1")
+            .withExtension(ProtocolKey.UNIQUE_ID, "uniqueId").build();
+        EventMeshGrpcClientConfig clientConfig = EventMeshGrpcClientConfig.builder().build();
+        SimpleMessage message = EventMeshClientUtil.buildSimpleMessage(cloudEvent, clientConfig,
+            EventMeshCommon.CLOUD_EVENTS_PROTOCOL_NAME);
+        assertThat(message.hasCloudEvent()).isFalse();
+        assertThat(message).hasFieldOrPropertyWithValue("content", new String(
+            EventFormatProvider.getInstance().resolveFormat(JsonFormat.CONTENT_TYPE).serialize(cloudEvent),
+            StandardCharsets.UTF_8));
+        assertThat(message.getPropertiesMap()).containsEntry(ProtocolKey.CONTENT_TYPE, JsonFormat.CONTENT_TYPE);
     }
 
     @Test
@@ -136,19 +165,34 @@ public class EventMeshClientUtilTest {
             CloudEventBuilder.v1().withSubject("mockSubject").withId("mockId").withSource(URI.create("mockSource"))
                 .withType("mockType").withExtension(ProtocolKey.SEQ_NUM, "1")
                 .withExtension(ProtocolKey.UNIQUE_ID, "uniqueId").build());
-        EventMeshGrpcClientConfig clientConfig = EventMeshGrpcClientConfig.builder().build();
+        EventMeshGrpcClientConfig clientConfig = EventMeshGrpcClientConfig.builder().useProtobufCloudEvent(true).build();
         BatchMessage batchMessage = EventMeshClientUtil.buildBatchMessages(cloudEvents, clientConfig,
             EventMeshCommon.CLOUD_EVENTS_PROTOCOL_NAME);
         assertThat(batchMessage).hasFieldOrPropertyWithValue("header",
                 EventMeshClientUtil.buildHeader(clientConfig, EventMeshCommon.CLOUD_EVENTS_PROTOCOL_NAME))
             .hasFieldOrPropertyWithValue("topic", cloudEvents.get(0).getSubject())
             .hasFieldOrPropertyWithValue("producerGroup", clientConfig.getProducerGroup());
-        assertThat(batchMessage.getMessageItemList()).hasSize(1).first().hasFieldOrPropertyWithValue("content",
-                new String(EventFormatProvider.getInstance().resolveFormat(JsonFormat.CONTENT_TYPE)
-                    .serialize(cloudEvents.get(0)), StandardCharsets.UTF_8))
+        assertThat(batchMessage.getMessageItemList()).hasSize(1).first()
+            .hasFieldOrPropertyWithValue("cloudEvent", CloudEventProtoConverter.toProto(cloudEvents.get(0)))
             .hasFieldOrPropertyWithValue("ttl", "4000")
             .hasFieldOrPropertyWithValue("seqNum", cloudEvents.get(0).getExtension(ProtocolKey.SEQ_NUM))
             .hasFieldOrPropertyWithValue("uniqueId", cloudEvents.get(0).getExtension(ProtocolKey.UNIQUE_ID));
+        assertThat(batchMessage.getMessageItem(0).getPropertiesMap()).containsEntry(ProtocolKey.CONTENT_TYPE,
+            Constants.CONTENT_TYPE_CLOUDEVENTS_PROTOBUF);
+    }
+
+    @Test
+    public void buildBatchMessagesWithCloudEventJson() {
+        CloudEvent cloudEvent = CloudEventBuilder.v1().withSubject("mockSubject").withId("mockId")
+            .withSource(URI.create("mockSource")).withType("mockType").withExtension(ProtocolKey.SEQ_NUM, "1")
+            .withExtension(ProtocolKey.UNIQUE_ID, "uniqueId").build();
+        EventMeshGrpcClientConfig clientConfig = EventMeshGrpcClientConfig.builder().build();
+        BatchMessage batchMessage = EventMeshClientUtil.buildBatchMessages(Collections.singletonList(cloudEvent), clientConfig,
+            EventMeshCommon.CLOUD_EVENTS_PROTOCOL_NAME);
+        assertThat(batchMessage.getMessageItem(0).hasCloudEvent()).isFalse();
+        assertThat(batchMessage.getMessageItem(0)).hasFieldOrPropertyWithValue("content", new String(
+            EventFormatProvider.getInstance().resolveFormat(JsonFormat.CONTENT_TYPE).serialize(cloudEvent),
+            StandardCharsets.UTF_8));
         assertThat(batchMessage.getMessageItem(0).getPropertiesMap()).containsEntry(ProtocolKey.CONTENT_TYPE,
             JsonFormat.CONTENT_TYPE);
     }
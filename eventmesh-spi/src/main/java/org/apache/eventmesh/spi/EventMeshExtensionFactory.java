@@ -25,6 +25,7 @@ import org.apache.eventmesh.spi.loader.MetaInfExtensionClassLoader;
 import org.apache.commons.lang3.StringUtils;
 
 import java.io.IOException;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.List;
@@ -56,6 +57,13 @@ public class EventMeshExtensionFactory {
     private static final ConcurrentHashMap<String, Object> EXTENSION_INSTANCE_CACHE =
         new ConcurrentHashMap<>(16);
 
+    /**
+     * extension type name/extension instance name -> constructor of the extension instance class, so prototype
+     * extensions do not look up their class and constructor on every fetch
+     */
+    private static final ConcurrentHashMap<String, Constructor<?>> EXTENSION_CONSTRUCTOR_CACHE =
+        new ConcurrentHashMap<>(16);
+
     /**
      * @param extensionType extension plugin class type
      * @param extensionName extension instance name
@@ -82,18 +90,18 @@ public class EventMeshExtensionFactory {
     @SuppressWarnings("unchecked")
     private static <T> T getSingletonExtension(Class<T> extensionType, String extensionInstanceName) {
         return (T) EXTENSION_INSTANCE_CACHE.computeIfAbsent(extensionInstanceName, name -> {
-            Class<T> extensionInstanceClass = getExtensionInstanceClass(extensionType, extensionInstanceName);
+            Constructor<T> extensionInstanceConstructor = getExtensionInstanceConstructor(extensionType, extensionInstanceName);
             try {
-                if (extensionInstanceClass == null) {
+                if (extensionInstanceConstructor == null) {
                     return null;
                 }
-                T extensionInstance = extensionInstanceClass.getDeclaredConstructor().newInstance();
+                T extensionInstance = extensionInstanceConstructor.newInstance();
                 ConfigService.getInstance().populateConfigForObject(extensionInstance);
 
                 logger.info("initialize extension instance success, extensionType: {}, extensionInstanceName: {}",
                         extensionType, extensionInstanceName);
                 return extensionInstance;
-            } catch (NoSuchMethodException | InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
                 throw new ExtensionException("Extension initialize error", e);
             } catch (NoSuchFieldException | IOException e) {
                 logger.error("initialize extension instance config failed, extensionType: {}, extensionInstanceName: {}",
@@ -104,18 +112,18 @@ public class EventMeshExtensionFactory {
     }
 
     private static <T> T getPrototypeExtension(Class<T> extensionType, String extensionInstanceName) {
-        Class<T> extensionInstanceClass = getExtensionInstanceClass(extensionType, extensionInstanceName);
+        Constructor<T> extensionInstanceConstructor = getExtensionInstanceConstructor(extensionType, extensionInstanceName);
         try {
-            if (extensionInstanceClass == null) {
+            if (extensionInstanceConstructor == null) {
                 return null;
             }
-            T extensionInstance = extensionInstanceClass.getDeclaredConstructor().newInstance();
+            T extensionInstance = extensionInstanceConstructor.newInstance();
             ConfigService.getInstance().populateConfigForObject(extensionInstance);
 
             logger.info("initialize extension instance success, extensionType: {}, extensionName: {}",
                     extensionType, extensionInstanceName);
             return extensionInstance;
-        } catch (NoSuchMethodException | InstantiationException | IllegalAccessException | InvocationTargetException e) {
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
             throw new ExtensionException("Extension initialize error", e);
         } catch (NoSuchFieldException | IOException e) {
             logger.error("initialize extension instance config failed, extensionType: {}, extensionInstanceName: {}",
@@ -124,6 +132,22 @@ public class EventMeshExtensionFactory {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private static <T> Constructor<T> getExtensionInstanceConstructor(Class<T> extensionType, String extensionInstanceName) {
+        return (Constructor<T>) EXTENSION_CONSTRUCTOR_CACHE.computeIfAbsent(extensionType.getName() + "/" + extensionInstanceName,
+            key -> {
+                Class<T> extensionInstanceClass = getExtensionInstanceClass(extensionType, extensionInstanceName);
+                if (extensionInstanceClass == null) {
+                    return null;
+                }
+                try {
+                    return extensionInstanceClass.getDeclaredConstructor();
+                } catch (NoSuchMethodException e) {
+                    throw new ExtensionException("Extension initialize error", e);
+                }
+            });
+    }
+
     @SuppressWarnings("unchecked")
     private static <T> Class<T> getExtensionInstanceClass(Class<T> extensionType, String extensionInstanceName) {
         for (ExtensionClassLoader extensionClassLoader : extensionClassLoaders) {
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.spi.loader;
+
+import org.apache.eventmesh.spi.ExtensionException;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * The index the {@code installPlugin} build task writes into a plugin dir, it lists the jars of the plugin and the
+ * extension classes they provide.
+ *
+ * <p>A plugin with an index is loaded without walking its dir and without looking up the extension resources in the
+ * jars of all the plugins loaded before it. The format is a properties file:
+ * <pre>
+ * jars=a.jar,b.jar
+ * extension.{extension type}/{extension name}={extension class}
+ * </pre>
+ */
+public class EventMeshPluginIndex {
+
+    public static final String INDEX_FILE_NAME = "eventmesh-plugin.index";
+
+    private static final String JARS_KEY = "jars";
+
+    private static final String EXTENSION_KEY_PREFIX = "extension.";
+
+    private static final String EXTENSION_NAME_SEPARATOR = "/";
+
+    private final List<URL> jarUrls;
+
+    /**
+     * extension type name -> extension name -> extension class name
+     */
+    private final Map<String, Map<String, String>> extensionClassNames;
+
+    private EventMeshPluginIndex(List<URL> jarUrls, Map<String, Map<String, String>> extensionClassNames) {
+        this.jarUrls = jarUrls;
+        this.extensionClassNames = extensionClassNames;
+    }
+
+    /**
+     * @param pluginDir plugin dir
+     * @return the index of the plugin, or null if the plugin dir has no index
+     */
+    public static EventMeshPluginIndex load(File pluginDir) {
+        File indexFile = new File(pluginDir, INDEX_FILE_NAME);
+        if (!indexFile.isFile()) {
+            return null;
+        }
+        Properties properties = new Properties();
+        try (InputStream inputStream = Files.newInputStream(indexFile.toPath())) {
+            properties.load(inputStream);
+        } catch (IOException e) {
+            throw new ExtensionException("load plugin index error", e);
+        }
+        return parse(pluginDir, properties);
+    }
+
+    private static EventMeshPluginIndex parse(File pluginDir, Properties properties) {
+        List<URL> jarUrls = new ArrayList<>();
+        String jars = properties.getProperty(JARS_KEY, "");
+        for (String jar : jars.split(",")) {
+            if (jar.trim().isEmpty()) {
+                continue;
+            }
+            try {
+                jarUrls.add(new File(pluginDir, jar.trim()).toURI().toURL());
+            } catch (MalformedURLException e) {
+                throw new ExtensionException(e);
+            }
+        }
+
+        Map<String, Map<String, String>> extensionClassNames = new HashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            if (!key.startsWith(EXTENSION_KEY_PREFIX)) {
+                continue;
+            }
+            int separator = key.lastIndexOf(EXTENSION_NAME_SEPARATOR);
+            if (separator <= EXTENSION_KEY_PREFIX.length()) {
+                throw new ExtensionException(String.format("plugin index key: %s is invalided", key));
+            }
+            extensionClassNames.computeIfAbsent(key.substring(EXTENSION_KEY_PREFIX.length(), separator), k -> new HashMap<>())
+                .put(key.substring(separator + 1), properties.getProperty(key));
+        }
+        return new EventMeshPluginIndex(jarUrls, extensionClassNames);
+    }
+
+    public List<URL> getJarUrls() {
+        return jarUrls;
+    }
+
+    /**
+     * @param extensionType extension type class
+     * @return extension name -> extension class name of the extensions of the type
+     */
+    public Map<String, String> getExtensionClassNames(Class<?> extensionType) {
+        return extensionClassNames.getOrDefault(extensionType.getName(), Collections.emptyMap());
+    }
+}
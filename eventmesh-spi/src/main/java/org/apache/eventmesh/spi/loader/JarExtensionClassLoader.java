@@ -42,7 +42,8 @@ import com.google.common.base.Joiner;
 import com.google.common.collect.Lists;
 
 /**
- * Load extension from '${eventMeshPluginDir}', the default loading directory is './plugin'
+ * Load extension from '${eventMeshPluginDir}', the default loading directory is './plugin'.
+ * A plugin dir with an {@link EventMeshPluginIndex} is loaded from its index, other plugin dirs are scanned.
  */
 public class JarExtensionClassLoader implements ExtensionClassLoader {
 
@@ -50,7 +51,10 @@ public class JarExtensionClassLoader implements ExtensionClassLoader {
 
     private static final String EVENT_MESH_PLUGIN_DIR = "eventMeshPluginDir";
 
-    private static final ConcurrentHashMap<Class<?>, Map<String, Class<?>>> EXTENSION_CLASS_CACHE =
+    /**
+     * extension type name/extension instance name -> extension instance name to extension instance class
+     */
+    private static final ConcurrentHashMap<String, Map<String, Class<?>>> EXTENSION_CLASS_CACHE =
             new ConcurrentHashMap<>(16);
 
     private static final String EVENTMESH_EXTENSION_PLUGIN_DIR =
@@ -60,8 +64,8 @@ public class JarExtensionClassLoader implements ExtensionClassLoader {
     @Override
     public <T> Map<String, Class<?>> loadExtensionClass(Class<T> extensionType,
                                                         String extensionInstanceName) {
-        return EXTENSION_CLASS_CACHE
-                .computeIfAbsent(extensionType, t -> doLoadExtensionClass(t, extensionInstanceName));
+        return EXTENSION_CLASS_CACHE.computeIfAbsent(extensionType.getName() + "/" + extensionInstanceName,
+                k -> doLoadExtensionClass(extensionType, extensionInstanceName));
     }
 
     private <T> Map<String, Class<?>> doLoadExtensionClass(Class<T> extensionType,
@@ -75,9 +79,16 @@ public class JarExtensionClassLoader implements ExtensionClassLoader {
                 extensionInstanceName
         ).toString();
 
+        EventMeshUrlClassLoader urlClassLoader = EventMeshUrlClassLoader.getInstance();
+        EventMeshPluginIndex pluginIndex = EventMeshPluginIndex.load(new File(pluginDir));
+        if (pluginIndex != null) {
+            urlClassLoader.addUrls(pluginIndex.getJarUrls());
+            extensionMap.putAll(loadClasses(urlClassLoader, pluginIndex.getExtensionClassNames(extensionType), extensionType));
+            return extensionMap;
+        }
+
         String extensionFileName =
                 EventMeshExtensionConstant.EVENTMESH_EXTENSION_META_DIR + extensionType.getName();
-        EventMeshUrlClassLoader urlClassLoader = EventMeshUrlClassLoader.getInstance();
         urlClassLoader.addUrls(loadJarPathFromResource(pluginDir));
         try {
             Enumeration<URL> extensionUrls = urlClassLoader.getResources(extensionFileName);
@@ -122,29 +133,33 @@ public class JarExtensionClassLoader implements ExtensionClassLoader {
     private static <T> Map<String, Class<?>> loadResources(URLClassLoader urlClassLoader, URL url,
                                                            Class<T> extensionType)
             throws IOException {
-        Map<String, Class<?>> extensionMap = new HashMap<>();
         try (InputStream inputStream = url.openStream()) {
             Properties properties = new Properties();
             properties.load(inputStream);
-            properties.forEach((extensionName, extensionClass) -> {
-                String extensionNameStr = (String) extensionName;
-                String extensionClassStr = (String) extensionClass;
-                try {
-                    Class<?> targetClass = urlClassLoader.loadClass(extensionClassStr);
-                    logger
-                            .info("load extension class success, extensionType: {}, extensionClass: {}",
-                                    extensionType, targetClass);
-                    if (!extensionType.isAssignableFrom(targetClass)) {
-                        throw new ExtensionException(
-                                String.format("class: %s is not subClass of %s", targetClass,
-                                        extensionType));
-                    }
-                    extensionMap.put(extensionNameStr, targetClass);
-                } catch (ClassNotFoundException e) {
-                    throw new ExtensionException("load extension class error", e);
-                }
-            });
+            Map<String, String> extensionClassNames = new HashMap<>();
+            properties.forEach((extensionName, extensionClass) ->
+                    extensionClassNames.put((String) extensionName, (String) extensionClass));
+            return loadClasses(urlClassLoader, extensionClassNames, extensionType);
         }
+    }
+
+    private static <T> Map<String, Class<?>> loadClasses(URLClassLoader urlClassLoader, Map<String, String> extensionClassNames,
+                                                         Class<T> extensionType) {
+        Map<String, Class<?>> extensionMap = new HashMap<>();
+        extensionClassNames.forEach((extensionNameStr, extensionClassStr) -> {
+            try {
+                Class<?> targetClass = urlClassLoader.loadClass(extensionClassStr);
+                logger.info("load extension class success, extensionType: {}, extensionClass: {}",
+                        extensionType, targetClass);
+                if (!extensionType.isAssignableFrom(targetClass)) {
+                    throw new ExtensionException(
+                            String.format("class: %s is not subClass of %s", targetClass, extensionType));
+                }
+                extensionMap.put(extensionNameStr, targetClass);
+            } catch (ClassNotFoundException e) {
+                throw new ExtensionException("load extension class error", e);
+            }
+        });
         return extensionMap;
     }
 }
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.spi.loader;
+
+import org.apache.eventmesh.spi.example.TestPrototypeExtension;
+import org.apache.eventmesh.spi.example.TestSingletonExtension;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class EventMeshPluginIndexTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testLoad() throws Exception {
+        File pluginDir = temporaryFolder.newFolder("plugin", "connector", "test");
+        Properties properties = new Properties();
+        properties.setProperty("jars", "eventmesh-connector-test.jar,test-client.jar");
+        properties.setProperty("extension." + TestSingletonExtension.class.getName() + "/singletonExtension",
+            "org.apache.eventmesh.spi.example.SingletonExtension");
+        properties.setProperty("extension." + TestPrototypeExtension.class.getName() + "/prototypeExtension",
+            "org.apache.eventmesh.spi.example.PrototypeExtension");
+        try (OutputStream outputStream = Files.newOutputStream(new File(pluginDir, EventMeshPluginIndex.INDEX_FILE_NAME).toPath())) {
+            properties.store(outputStream, null);
+        }
+
+        EventMeshPluginIndex pluginIndex = EventMeshPluginIndex.load(pluginDir);
+        Assert.assertNotNull(pluginIndex);
+        Assert.assertEquals(2, pluginIndex.getJarUrls().size());
+        Assert.assertEquals(new File(pluginDir, "eventmesh-connector-test.jar").toURI().toURL(), pluginIndex.getJarUrls().get(0));
+
+        Map<String, String> singletonExtensions = pluginIndex.getExtensionClassNames(TestSingletonExtension.class);
+        Assert.assertEquals(1, singletonExtensions.size());
+        Assert.assertEquals("org.apache.eventmesh.spi.example.SingletonExtension", singletonExtensions.get("singletonExtension"));
+        Assert.assertTrue(pluginIndex.getExtensionClassNames(String.class).isEmpty());
+    }
+
+    @Test
+    public void testLoadWithoutIndex() throws Exception {
+        Assert.assertNull(EventMeshPluginIndex.load(temporaryFolder.newFolder("empty")));
+    }
+}
@@ -47,5 +47,13 @@ public interface EventMeshTraceService {
     Span createSpan(String spanName, SpanKind spanKind, Context context,
                     boolean isSpanFinishInOtherThread) throws TraceException;
 
+    /**
+     * Create a span of the topic, the topic is recorded before the span starts so the sampler can decide by it.
+     */
+    default Span createSpan(String spanName, SpanKind spanKind, Context context, String topic,
+                            boolean isSpanFinishInOtherThread) throws TraceException {
+        return createSpan(spanName, spanKind, context, isSpanFinishInOtherThread);
+    }
+
     void shutdown() throws TraceException;
 }
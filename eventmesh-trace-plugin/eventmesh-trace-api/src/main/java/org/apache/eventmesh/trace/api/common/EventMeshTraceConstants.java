@@ -29,4 +29,6 @@ public class EventMeshTraceConstants {
     public static final String TRACE_DOWNSTREAM_EVENTMESH_CLIENT_SPAN = "downstream-eventmesh-client-span";
 
     public static final String TRACE_EVENTMESH_SDK_SERVER_SPAN = "eventmesh-sdk-server-span";
+
+    public static final String TRACE_TOPIC_ATTRIBUTE = "messaging.destination";
 }
@@ -20,6 +20,11 @@ package org.apache.eventmesh.trace.api.config;
 import org.apache.eventmesh.common.config.Config;
 import org.apache.eventmesh.common.config.ConfigFiled;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import lombok.Data;
 
 /**
@@ -40,4 +45,34 @@ public class ExporterConfiguration {
 
     @ConfigFiled(field = "export.interval")
     private int eventMeshTraceExportInterval = 5;
+
+    /**
+     * ratio of the traces started by eventMesh that are sampled, between 0 and 1
+     */
+    @ConfigFiled(field = "sample.ratio")
+    private double eventMeshTraceSampleRatio = 1.0d;
+
+    /**
+     * ratio per topic, eventmesh.trace.sample.topicRatio.{topic}={ratio}, overrides sample.ratio
+     */
+    @ConfigFiled(field = "sample.topicRatio")
+    private Map<String, Double> eventMeshTraceSampleTopicRatio = new HashMap<>();
+
+    /**
+     * follow the sampling decision of the upstream span when there is one
+     */
+    @ConfigFiled(field = "sample.parentBased")
+    private boolean eventMeshTraceSampleParentBased = true;
+
+    /**
+     * extensions of the event copied into span attributes, all of them if empty
+     */
+    @ConfigFiled(field = "attribute.keys")
+    private List<String> eventMeshTraceAttributeKeys = new ArrayList<>();
+
+    /**
+     * max number of extensions copied into span attributes when attribute.keys is empty
+     */
+    @ConfigFiled(field = "attribute.max.num")
+    private int eventMeshTraceAttributeMaxNum = 32;
 }
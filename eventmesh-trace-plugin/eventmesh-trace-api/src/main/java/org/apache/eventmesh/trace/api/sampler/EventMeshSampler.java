@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.trace.api.sampler;
+
+import org.apache.eventmesh.trace.api.common.EventMeshTraceConstants;
+import org.apache.eventmesh.trace.api.config.ExporterConfiguration;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+
+/**
+ * Head sampler of the traces started by eventMesh, the ratio is chosen by the topic of the span if it has one.
+ *
+ * <p>The decision is made on the trace id, so every eventMesh that sees the same trace decides the same way.
+ */
+public class EventMeshSampler implements Sampler {
+
+    private static final AttributeKey<String> TOPIC = AttributeKey.stringKey(EventMeshTraceConstants.TRACE_TOPIC_ATTRIBUTE);
+
+    private final Sampler defaultSampler;
+
+    private final Map<String, Sampler> topicSamplers;
+
+    public EventMeshSampler(double ratio, Map<String, Double> topicRatio) {
+        this.defaultSampler = Sampler.traceIdRatioBased(ratio);
+        Map<String, Sampler> samplers = new HashMap<>();
+        topicRatio.forEach((topic, value) -> samplers.put(topic, Sampler.traceIdRatioBased(value)));
+        this.topicSamplers = Collections.unmodifiableMap(samplers);
+    }
+
+    /**
+     * Create the sampler configured by exporter.properties, wrapped to follow the upstream decision if parent based.
+     */
+    public static Sampler create(ExporterConfiguration exporterConfiguration) {
+        Sampler sampler = new EventMeshSampler(exporterConfiguration.getEventMeshTraceSampleRatio(),
+            exporterConfiguration.getEventMeshTraceSampleTopicRatio());
+        return exporterConfiguration.isEventMeshTraceSampleParentBased() ? Sampler.parentBased(sampler) : sampler;
+    }
+
+    @Override
+    public SamplingResult shouldSample(Context parentContext, String traceId, String name, SpanKind spanKind,
+                                       Attributes attributes, List<LinkData> parentLinks) {
+        Sampler sampler = defaultSampler;
+        String topic = attributes.get(TOPIC);
+        if (topic != null) {
+            sampler = topicSamplers.getOrDefault(topic, defaultSampler);
+        }
+        return sampler.shouldSample(parentContext, traceId, name, spanKind, attributes, parentLinks);
+    }
+
+    @Override
+    public String getDescription() {
+        return "EventMeshSampler{default=" + defaultSampler.getDescription() + ",topics=" + topicSamplers.keySet() + "}";
+    }
+}
@@ -19,6 +19,8 @@ package org.apache.eventmesh.trace.api.config;
 
 import org.apache.eventmesh.common.config.ConfigService;
 
+import java.util.Arrays;
+
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -33,5 +35,10 @@ public class ExporterConfigurationTest {
         Assert.assertEquals(1816, config.getEventMeshTraceMaxQueueSize());
         Assert.assertEquals(2816, config.getEventMeshTraceExportTimeout());
         Assert.assertEquals(3816, config.getEventMeshTraceExportInterval());
+        Assert.assertEquals(0.5d, config.getEventMeshTraceSampleRatio(), 0);
+        Assert.assertEquals(Double.valueOf(0.1d), config.getEventMeshTraceSampleTopicRatio().get("topic-a"));
+        Assert.assertFalse(config.isEventMeshTraceSampleParentBased());
+        Assert.assertEquals(Arrays.asList("bizseqno", "uniqueid"), config.getEventMeshTraceAttributeKeys());
+        Assert.assertEquals(32, config.getEventMeshTraceAttributeMaxNum());
     }
 }
\ No newline at end of file
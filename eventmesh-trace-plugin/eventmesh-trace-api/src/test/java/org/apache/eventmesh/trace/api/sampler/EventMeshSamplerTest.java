@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.trace.api.sampler;
+
+import org.apache.eventmesh.trace.api.common.EventMeshTraceConstants;
+
+import java.util.Collections;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
+
+public class EventMeshSamplerTest {
+
+    private static final String TRACE_ID = "0af7651916cd43dd8448eb211c80319c";
+
+    @Test
+    public void testTopicRatio() {
+        Sampler sampler = new EventMeshSampler(0d, Collections.singletonMap("topic-a", 1d));
+
+        Assert.assertEquals(SamplingDecision.RECORD_AND_SAMPLE, shouldSample(sampler, Context.root(), "topic-a"));
+        Assert.assertEquals(SamplingDecision.DROP, shouldSample(sampler, Context.root(), "topic-b"));
+        Assert.assertEquals(SamplingDecision.DROP, shouldSample(sampler, Context.root(), null));
+    }
+
+    @Test
+    public void testParentBased() {
+        Sampler sampler = Sampler.parentBased(new EventMeshSampler(0d, Collections.emptyMap()));
+        SpanContext parent = SpanContext.createFromRemoteParent(TRACE_ID, "b7ad6b7169203331", TraceFlags.getSampled(),
+            TraceState.getDefault());
+        Context context = Context.root().with(Span.wrap(parent));
+
+        Assert.assertEquals(SamplingDecision.RECORD_AND_SAMPLE, shouldSample(sampler, context, "topic-a"));
+        Assert.assertEquals(SamplingDecision.DROP, shouldSample(sampler, Context.root(), "topic-a"));
+    }
+
+    private SamplingDecision shouldSample(Sampler sampler, Context context, String topic) {
+        Attributes attributes = topic == null ? Attributes.empty()
+            : Attributes.builder().put(EventMeshTraceConstants.TRACE_TOPIC_ATTRIBUTE, topic).build();
+        return sampler.shouldSample(context, TRACE_ID, "span", SpanKind.SERVER, attributes, Collections.emptyList())
+            .getDecision();
+    }
+}
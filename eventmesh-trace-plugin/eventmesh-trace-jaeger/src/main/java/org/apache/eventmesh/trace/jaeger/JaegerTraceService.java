@@ -21,8 +21,10 @@ import static io.opentelemetry.api.common.AttributeKey.stringKey;
 
 import org.apache.eventmesh.common.config.Config;
 import org.apache.eventmesh.trace.api.EventMeshTraceService;
+import org.apache.eventmesh.trace.api.common.EventMeshTraceConstants;
 import org.apache.eventmesh.trace.api.config.ExporterConfiguration;
 import org.apache.eventmesh.trace.api.exception.TraceException;
+import org.apache.eventmesh.trace.api.sampler.EventMeshSampler;
 import org.apache.eventmesh.trace.jaeger.common.JaegerConstants;
 import org.apache.eventmesh.trace.jaeger.config.JaegerConfiguration;
 
@@ -114,6 +116,7 @@ public class JaegerTraceService implements EventMeshTraceService {
 
         sdkTracerProvider = SdkTracerProvider.builder()
             .addSpanProcessor(spanProcessor)
+            .setSampler(EventMeshSampler.create(exporterConfiguration))
             .setResource(Resource.getDefault().merge(serviceNameResource))
             .build();
 
@@ -174,6 +177,17 @@ public class JaegerTraceService implements EventMeshTraceService {
             .startSpan();
     }
 
+    @Override
+    public Span createSpan(String spanName, SpanKind spanKind, Context context, String topic,
+                           boolean isSpanFinishInOtherThread) throws TraceException {
+        return tracer.spanBuilder(spanName)
+            .setParent(context)
+            .setSpanKind(spanKind)
+            .setAttribute(EventMeshTraceConstants.TRACE_TOPIC_ATTRIBUTE, topic)
+            .setStartTimestamp(System.currentTimeMillis(), TimeUnit.MILLISECONDS)
+            .startSpan();
+    }
+
     @Override
     public void shutdown() throws TraceException {
         sdkTracerProvider.close();
@@ -19,8 +19,10 @@ package org.apache.eventmesh.trace.pinpoint;
 
 import org.apache.eventmesh.common.config.Config;
 import org.apache.eventmesh.trace.api.EventMeshTraceService;
+import org.apache.eventmesh.trace.api.common.EventMeshTraceConstants;
 import org.apache.eventmesh.trace.api.config.ExporterConfiguration;
 import org.apache.eventmesh.trace.api.exception.TraceException;
+import org.apache.eventmesh.trace.api.sampler.EventMeshSampler;
 import org.apache.eventmesh.trace.pinpoint.common.PinpointConstants;
 import org.apache.eventmesh.trace.pinpoint.config.PinpointConfiguration;
 import org.apache.eventmesh.trace.pinpoint.exporter.PinpointSpanExporter;
@@ -92,6 +94,7 @@ public class PinpointTraceService implements EventMeshTraceService {
 
         sdkTracerProvider = SdkTracerProvider.builder()
             .addSpanProcessor(spanProcessor)
+            .setSampler(EventMeshSampler.create(exporterConfiguration))
             .build();
 
         OpenTelemetry openTelemetry = OpenTelemetrySdk.builder()
@@ -156,6 +159,17 @@ public class PinpointTraceService implements EventMeshTraceService {
             .startSpan();
     }
 
+    @Override
+    public Span createSpan(String spanName, SpanKind spanKind, Context context, String topic,
+                           boolean isSpanFinishInOtherThread) throws TraceException {
+        return tracer.spanBuilder(spanName)
+            .setParent(context)
+            .setSpanKind(spanKind)
+            .setAttribute(EventMeshTraceConstants.TRACE_TOPIC_ATTRIBUTE, topic)
+            .setStartTimestamp(System.currentTimeMillis(), TimeUnit.MILLISECONDS)
+            .startSpan();
+    }
+
     @Override
     public void shutdown() throws TraceException {
         sdkTracerProvider.close();
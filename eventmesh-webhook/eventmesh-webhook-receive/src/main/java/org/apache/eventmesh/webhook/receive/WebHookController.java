@@ -23,12 +23,14 @@ import org.apache.eventmesh.api.exception.OnExceptionContext;
 import org.apache.eventmesh.common.config.ConfigService;
 import org.apache.eventmesh.common.protocol.ProtocolTransportObject;
 import org.apache.eventmesh.common.protocol.http.WebhookProtocolTransportObject;
+import org.apache.eventmesh.metrics.api.model.WebHookConfigCacheMetrics;
 import org.apache.eventmesh.protocol.api.ProtocolAdaptor;
 import org.apache.eventmesh.protocol.api.ProtocolPluginFactory;
 import org.apache.eventmesh.webhook.api.WebHookConfig;
 import org.apache.eventmesh.webhook.receive.config.ReceiveConfiguration;
 import org.apache.eventmesh.webhook.receive.protocol.ProtocolManage;
 import org.apache.eventmesh.webhook.receive.storage.HookConfigOperationManage;
+import org.apache.eventmesh.webhook.receive.storage.NacosWebHookConfigCache;
 
 import java.util.Map;
 import java.util.Objects;
@@ -75,6 +77,14 @@ public class WebHookController {
         this.protocolAdaptor = ProtocolPluginFactory.getProtocolAdaptor(PROTOCOL_ADAPTOR);
     }
 
+    /**
+     * Metrics of the webhook config cache, null when the configs are not cached from nacos
+     */
+    public WebHookConfigCacheMetrics getConfigCacheMetrics() {
+        NacosWebHookConfigCache nacosWebHookConfigCache = hookConfigOperationManage.getNacosWebHookConfigCache();
+        return nacosWebHookConfigCache == null ? null : nacosWebHookConfigCache.getMetrics();
+    }
+
     /**
      * 1. get webhookConfig from path 2. get ManufacturerProtocol and execute 3.
      * convert to cloudEvent obj 4. send cloudEvent
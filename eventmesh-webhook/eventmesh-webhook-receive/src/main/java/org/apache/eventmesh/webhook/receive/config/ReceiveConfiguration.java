@@ -36,6 +36,24 @@ public class ReceiveConfiguration {
     @ConfigFiled(field = "fileMode.filePath")
     private String filePath;
 
+    /**
+     * Age after which a webhook config cached in nacos mode is reloaded in the background.
+     */
+    @ConfigFiled(field = "cache.refreshIntervalInMills")
+    private long cacheRefreshIntervalInMills = 60_000L;
+
+    /**
+     * Time a callback path without config is answered from the cache in nacos mode before it is looked up again.
+     */
+    @ConfigFiled(field = "cache.notFoundTtlInMills")
+    private long cacheNotFoundTtlInMills = 10_000L;
+
+    /**
+     * Max number of callback paths without config cached in nacos mode.
+     */
+    @ConfigFiled(field = "cache.notFoundMaxSize")
+    private int cacheNotFoundMaxSize = 10_000;
+
     @ConfigFiled(field = "", reload = true)
     private Properties operationProperties;
 
@@ -17,13 +17,9 @@
 
 package org.apache.eventmesh.webhook.receive.storage;
 
-import static org.apache.eventmesh.webhook.api.WebHookOperationConstant.DATA_ID_EXTENSION;
-import static org.apache.eventmesh.webhook.api.WebHookOperationConstant.GROUP_PREFIX;
 import static org.apache.eventmesh.webhook.api.WebHookOperationConstant.OPERATION_MODE_FILE;
 import static org.apache.eventmesh.webhook.api.WebHookOperationConstant.OPERATION_MODE_NACOS;
-import static org.apache.eventmesh.webhook.api.WebHookOperationConstant.TIMEOUT_MS;
 
-import org.apache.eventmesh.common.utils.JsonUtils;
 import org.apache.eventmesh.webhook.api.WebHookConfig;
 import org.apache.eventmesh.webhook.api.WebHookConfigOperation;
 import org.apache.eventmesh.webhook.api.utils.StringUtils;
@@ -32,7 +28,6 @@ import org.apache.eventmesh.webhook.receive.config.ReceiveConfiguration;
 import java.io.FileNotFoundException;
 import java.util.List;
 import java.util.Map;
-import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
 
 
@@ -50,7 +45,7 @@ public class HookConfigOperationManage implements WebHookConfigOperation {
     private final Map<String, WebHookConfig> cacheWebHookConfig = new ConcurrentHashMap<>();
     public Logger logger = LoggerFactory.getLogger(this.getClass());
     private String operationMode;
-    private ConfigService nacosConfigService;
+    private NacosWebHookConfigCache nacosWebHookConfigCache;
 
     public HookConfigOperationManage() {
     }
@@ -67,12 +62,19 @@ public class HookConfigOperationManage implements WebHookConfigOperation {
         if (OPERATION_MODE_FILE.equals(operationMode)) {
             new WebhookFileListener(receiveConfiguration.getFilePath(), cacheWebHookConfig);
         } else if (OPERATION_MODE_NACOS.equals(operationMode)) {
-            nacosModeInit(receiveConfiguration.getOperationProperties());
+            nacosModeInit(receiveConfiguration);
         }
     }
 
-    private void nacosModeInit(Properties config) throws NacosException {
-        nacosConfigService = ConfigFactory.createConfigService(config);
+    private void nacosModeInit(ReceiveConfiguration receiveConfiguration) throws NacosException {
+        ConfigService nacosConfigService = ConfigFactory.createConfigService(receiveConfiguration.getOperationProperties());
+        nacosWebHookConfigCache = new NacosWebHookConfigCache(nacosConfigService, receiveConfiguration.getCacheRefreshIntervalInMills(),
+            receiveConfiguration.getCacheNotFoundTtlInMills(), receiveConfiguration.getCacheNotFoundMaxSize());
+        nacosWebHookConfigCache.init();
+    }
+
+    public NacosWebHookConfigCache getNacosWebHookConfigCache() {
+        return nacosWebHookConfigCache;
     }
 
     @Override
@@ -80,13 +82,7 @@ public class HookConfigOperationManage implements WebHookConfigOperation {
         if (OPERATION_MODE_FILE.equals(operationMode)) {
             return cacheWebHookConfig.get(StringUtils.getFileName(webHookConfig.getCallbackPath()));
         } else if (OPERATION_MODE_NACOS.equals(operationMode)) {
-            try {
-                String content = nacosConfigService.getConfig(webHookConfig.getManufacturerEventName() + DATA_ID_EXTENSION,
-                    GROUP_PREFIX + webHookConfig.getManufacturerName(), TIMEOUT_MS);
-                return JsonUtils.deserialize(content, WebHookConfig.class);
-            } catch (NacosException e) {
-                logger.error("queryWebHookConfigById failed", e);
-            }
+            return nacosWebHookConfigCache.get(webHookConfig.getCallbackPath());
         }
         return null;
     }
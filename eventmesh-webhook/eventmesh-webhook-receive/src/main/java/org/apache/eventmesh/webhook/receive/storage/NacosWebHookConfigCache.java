@@ -0,0 +1,340 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.webhook.receive.storage;
+
+import static org.apache.eventmesh.webhook.api.WebHookOperationConstant.DATA_ID_EXTENSION;
+import static org.apache.eventmesh.webhook.api.WebHookOperationConstant.GROUP_PREFIX;
+import static org.apache.eventmesh.webhook.api.WebHookOperationConstant.MANUFACTURERS_DATA_ID;
+import static org.apache.eventmesh.webhook.api.WebHookOperationConstant.TIMEOUT_MS;
+
+import org.apache.eventmesh.common.ThreadPoolFactory;
+import org.apache.eventmesh.common.utils.JsonUtils;
+import org.apache.eventmesh.metrics.api.model.WebHookConfigCacheMetrics;
+import org.apache.eventmesh.webhook.api.ManufacturerObject;
+import org.apache.eventmesh.webhook.api.WebHookConfig;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.alibaba.nacos.api.config.ConfigService;
+import com.alibaba.nacos.api.config.listener.AbstractListener;
+import com.alibaba.nacos.api.config.listener.Listener;
+import com.alibaba.nacos.api.exception.NacosException;
+
+/**
+ * Local cache of the webhook configs stored in Nacos, keyed by callback path, so a webhook request does not fetch its
+ * config from Nacos.
+ *
+ * <p>The configs listed in the manufacturers config are loaded at startup and kept up to date by Nacos listeners,
+ * configs added or removed later are picked up through the listener of the manufacturers config. A callback path that
+ * is not cached is read once from the groups of all manufacturers without registering a listener, a path without config
+ * is kept in a bounded not found cache for a short time so unknown paths do not reach Nacos on every request. Entries
+ * older than the refresh interval are still returned and reloaded in the background, in case a listener notification
+ * was lost.
+ */
+public class NacosWebHookConfigCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(NacosWebHookConfigCache.class);
+
+    private static final String CONSTANTS_WEBHOOK = "webhook";
+
+    private final ConfigService configService;
+
+    private final long refreshIntervalInMills;
+
+    private final long notFoundTtlInMills;
+
+    private final Map<String, Entry> cache = new ConcurrentHashMap<>();
+
+    /**
+     * expire time of the callback paths without config, the eldest path is dropped when the cache is full
+     */
+    private final Map<String, Long> notFoundCache;
+
+    /**
+     * listeners of the webhook configs, keyed by group and data id
+     */
+    private final Map<String, Listener> listeners = new ConcurrentHashMap<>();
+
+    private final ExecutorService refreshExecutor = ThreadPoolFactory.createThreadPoolExecutor(1, 1, "webhook-config-refresh");
+
+    private final WebHookConfigCacheMetrics metrics;
+
+    private volatile Set<String> manufacturers = Collections.emptySet();
+
+    public NacosWebHookConfigCache(ConfigService configService, long refreshIntervalInMills, long notFoundTtlInMills,
+                                   int notFoundMaxSize) {
+        this.configService = configService;
+        this.refreshIntervalInMills = refreshIntervalInMills;
+        this.notFoundTtlInMills = notFoundTtlInMills;
+        this.notFoundCache = Collections.synchronizedMap(new LinkedHashMap<String, Long>() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > notFoundMaxSize;
+            }
+        });
+        this.metrics = new WebHookConfigCacheMetrics(cache::size, notFoundCache::size);
+    }
+
+    /**
+     * Load the configs of all manufacturers and listen to their changes.
+     */
+    public void init() throws NacosException {
+        String content = configService.getConfigAndSignListener(MANUFACTURERS_DATA_ID, CONSTANTS_WEBHOOK, TIMEOUT_MS,
+            new AbstractListener() {
+                @Override
+                public void receiveConfigInfo(String configInfo) {
+                    refreshExecutor.execute(() -> onManufacturersChange(configInfo));
+                }
+            });
+        onManufacturersChange(content);
+    }
+
+    public WebHookConfig get(String callbackPath) {
+        Entry entry = cache.get(callbackPath);
+        if (entry != null) {
+            metrics.getHitNum().incrementAndGet();
+            if (System.currentTimeMillis() - entry.loadTime > refreshIntervalInMills && entry.refreshing.compareAndSet(false, true)) {
+                try {
+                    refreshExecutor.execute(() -> refresh(entry));
+                } catch (RejectedExecutionException e) {
+                    entry.refreshing.set(false);
+                    logger.warn("refresh webhookConfig {} rejected", callbackPath);
+                }
+            }
+            return entry.config;
+        }
+        Long notFoundExpireTime = notFoundCache.get(callbackPath);
+        if (notFoundExpireTime != null && notFoundExpireTime > System.currentTimeMillis()) {
+            metrics.getHitNum().incrementAndGet();
+            return null;
+        }
+        metrics.getMissNum().incrementAndGet();
+        return load(callbackPath);
+    }
+
+    public WebHookConfigCacheMetrics getMetrics() {
+        return metrics;
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    int listenerSize() {
+        return listeners.size();
+    }
+
+    public void shutdown() {
+        refreshExecutor.shutdown();
+    }
+
+    private void onManufacturersChange(String content) {
+        ManufacturerObject manufacturerObject = content == null || content.isEmpty()
+            ? new ManufacturerObject() : JsonUtils.deserialize(content, ManufacturerObject.class);
+        if (manufacturerObject == null) {
+            return;
+        }
+        Set<String> names = new HashSet<>(manufacturerObject.getManufacturerSet());
+        names.addAll(manufacturerObject.getManufacturerEventMap().keySet());
+        manufacturers = names;
+        Set<String> listed = new HashSet<>();
+        for (Map.Entry<String, List<String>> events : manufacturerObject.getManufacturerEventMap().entrySet()) {
+            for (String dataId : events.getValue()) {
+                String group = GROUP_PREFIX + events.getKey();
+                listed.add(listenerKey(dataId, group));
+                try {
+                    listen(dataId, group);
+                } catch (NacosException e) {
+                    logger.error("load webhookConfig {} failed", dataId, e);
+                }
+            }
+        }
+        // configs removed from the manufacturers config are no longer followed
+        for (String key : listeners.keySet()) {
+            if (!listed.contains(key)) {
+                // data ids are url encoded, the last separator ends the group
+                int separator = key.lastIndexOf('/');
+                unlisten(key.substring(separator + 1), key.substring(0, separator));
+            }
+        }
+        // paths cached as not found may belong to a manufacturer or config that was just added
+        notFoundCache.clear();
+    }
+
+    /**
+     * Read the config of the callback path from the groups of all manufacturers, a config found this way is listened
+     * to from then on.
+     */
+    private WebHookConfig load(String callbackPath) {
+        String dataId = getDataId(callbackPath);
+        for (String manufacturer : manufacturers) {
+            String group = GROUP_PREFIX + manufacturer;
+            try {
+                String content = configService.getConfig(dataId, group, TIMEOUT_MS);
+                metrics.getRefreshNum().incrementAndGet();
+                WebHookConfig webHookConfig = update(dataId, group, content);
+                if (webHookConfig != null) {
+                    listen(dataId, group);
+                    return webHookConfig;
+                }
+            } catch (NacosException e) {
+                logger.error("queryWebHookConfigById failed", e);
+                return null;
+            }
+        }
+        notFoundCache.put(callbackPath, System.currentTimeMillis() + notFoundTtlInMills);
+        return null;
+    }
+
+    private void refresh(Entry entry) {
+        try {
+            String dataId = getDataId(entry.config.getCallbackPath());
+            String content = configService.getConfig(dataId, entry.group, TIMEOUT_MS);
+            metrics.getRefreshNum().incrementAndGet();
+            if (update(dataId, entry.group, content) == null) {
+                unlisten(dataId, entry.group);
+            }
+        } catch (NacosException e) {
+            logger.error("refresh webhookConfig {} failed", entry.config.getCallbackPath(), e);
+        } finally {
+            entry.refreshing.set(false);
+        }
+    }
+
+    private void listen(String dataId, String group) throws NacosException {
+        String key = listenerKey(dataId, group);
+        if (listeners.containsKey(key)) {
+            return;
+        }
+        Listener listener = new AbstractListener() {
+            @Override
+            public void receiveConfigInfo(String configInfo) {
+                if (update(dataId, group, configInfo) == null) {
+                    unlisten(dataId, group);
+                }
+            }
+        };
+        if (listeners.putIfAbsent(key, listener) != null) {
+            return;
+        }
+        String content;
+        try {
+            content = configService.getConfigAndSignListener(dataId, group, TIMEOUT_MS, listener);
+        } catch (NacosException e) {
+            listeners.remove(key, listener);
+            throw e;
+        }
+        metrics.getRefreshNum().incrementAndGet();
+        if (update(dataId, group, content) == null) {
+            unlisten(dataId, group);
+        }
+    }
+
+    private void unlisten(String dataId, String group) {
+        Listener listener = listeners.remove(listenerKey(dataId, group));
+        if (listener != null) {
+            configService.removeListener(dataId, group, listener);
+        }
+        remove(dataId, group);
+    }
+
+    private WebHookConfig update(String dataId, String group, String content) {
+        if (content == null || content.isEmpty()) {
+            remove(dataId, group);
+            return null;
+        }
+        WebHookConfig webHookConfig = JsonUtils.deserialize(content, WebHookConfig.class);
+        if (webHookConfig == null || webHookConfig.getCallbackPath() == null) {
+            return null;
+        }
+        cache.put(webHookConfig.getCallbackPath(), new Entry(webHookConfig, group));
+        notFoundCache.remove(webHookConfig.getCallbackPath());
+        return webHookConfig;
+    }
+
+    /**
+     * Remove the cached config of the data id if it was loaded from the group, the same callback path may be
+     * configured in the group of another manufacturer.
+     */
+    private void remove(String dataId, String group) {
+        String callbackPath = getCallbackPath(dataId);
+        Entry entry = cache.get(callbackPath);
+        if (entry != null && group.equals(entry.group)) {
+            cache.remove(callbackPath, entry);
+        }
+    }
+
+    private static String listenerKey(String dataId, String group) {
+        return group + "/" + dataId;
+    }
+
+    /**
+     * Data id of a callback path, the same one {@code NacosWebHookConfigOperation} stores the config under.
+     */
+    static String getDataId(String callbackPath) {
+        try {
+            return URLEncoder.encode(callbackPath, StandardCharsets.UTF_8.name()) + DATA_ID_EXTENSION;
+        } catch (UnsupportedEncodingException e) {
+            return callbackPath + DATA_ID_EXTENSION;
+        }
+    }
+
+    static String getCallbackPath(String dataId) {
+        String encoded = dataId.endsWith(DATA_ID_EXTENSION)
+            ? dataId.substring(0, dataId.length() - DATA_ID_EXTENSION.length()) : dataId;
+        try {
+            return URLDecoder.decode(encoded, StandardCharsets.UTF_8.name());
+        } catch (UnsupportedEncodingException e) {
+            return encoded;
+        }
+    }
+
+    private static class Entry {
+
+        private final WebHookConfig config;
+
+        private final String group;
+
+        private final long loadTime = System.currentTimeMillis();
+
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        Entry(WebHookConfig config, String group) {
+            this.config = config;
+            this.group = group;
+        }
+    }
+}
@@ -47,5 +47,6 @@ public class ReceiveConfigurationTest {
         Assert.assertEquals(properties, config.getOperationProperties());
         Assert.assertEquals("standalone", config.getConnectorPluginType());
         Assert.assertEquals(".", config.getFilePath());
+        Assert.assertEquals(30000L, config.getCacheRefreshIntervalInMills());
     }
 }
\ No newline at end of file
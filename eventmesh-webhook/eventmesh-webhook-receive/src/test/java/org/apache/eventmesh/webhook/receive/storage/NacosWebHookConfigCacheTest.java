@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.webhook.receive.storage;
+
+import static org.apache.eventmesh.webhook.api.WebHookOperationConstant.MANUFACTURERS_DATA_ID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.eventmesh.common.utils.JsonUtils;
+import org.apache.eventmesh.webhook.api.ManufacturerObject;
+import org.apache.eventmesh.webhook.api.WebHookConfig;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.alibaba.nacos.api.config.ConfigService;
+import com.alibaba.nacos.api.config.listener.Listener;
+
+public class NacosWebHookConfigCacheTest {
+
+    private static final String CALLBACK_PATH = "/webhook/github/eventmesh/all";
+
+    private static final String GROUP = "webhook_github";
+
+    private final AtomicReference<Listener> configListener = new AtomicReference<>();
+
+    private ConfigService configService;
+
+    private NacosWebHookConfigCache cache;
+
+    @Before
+    public void setUp() throws Exception {
+        configService = mock(ConfigService.class);
+        ManufacturerObject manufacturerObject = new ManufacturerObject();
+        manufacturerObject.addManufacturer("github");
+        manufacturerObject.getManufacturerEvents("github").add(NacosWebHookConfigCache.getDataId(CALLBACK_PATH));
+        when(configService.getConfigAndSignListener(eq(MANUFACTURERS_DATA_ID), anyString(), anyLong(), any()))
+            .thenReturn(JsonUtils.serialize(manufacturerObject));
+
+        when(configService.getConfigAndSignListener(eq(NacosWebHookConfigCache.getDataId(CALLBACK_PATH)), eq(GROUP), anyLong(), any()))
+            .thenAnswer(invocation -> {
+                configListener.set(invocation.getArgument(3));
+                return JsonUtils.serialize(webHookConfig("eventmesh-all"));
+            });
+
+        cache = new NacosWebHookConfigCache(configService, 60_000L, 60_000L, 2);
+        cache.init();
+    }
+
+    @After
+    public void tearDown() {
+        cache.shutdown();
+    }
+
+    @Test
+    public void testWarmUpAndHit() throws Exception {
+        Assert.assertEquals(1, cache.size());
+        WebHookConfig config = cache.get(CALLBACK_PATH);
+        Assert.assertNotNull(config);
+        Assert.assertEquals("eventmesh-all", config.getCloudEventName());
+        Assert.assertEquals(1, cache.getMetrics().getHitNum().get());
+        Assert.assertEquals(0, cache.getMetrics().getMissNum().get());
+        verify(configService, never()).getConfig(anyString(), anyString(), anyLong());
+    }
+
+    @Test
+    public void testListenerUpdatesAndRemoves() {
+        configListener.get().receiveConfigInfo(JsonUtils.serialize(webHookConfig("eventmesh-changed")));
+        Assert.assertEquals("eventmesh-changed", cache.get(CALLBACK_PATH).getCloudEventName());
+
+        configListener.get().receiveConfigInfo(null);
+        Assert.assertEquals(0, cache.size());
+        Assert.assertEquals(0, cache.listenerSize());
+        verify(configService).removeListener(eq(NacosWebHookConfigCache.getDataId(CALLBACK_PATH)), eq(GROUP), eq(configListener.get()));
+    }
+
+    @Test
+    public void testRemovalKeepsConfigOfOtherGroup() throws Exception {
+        cache.shutdown();
+        ManufacturerObject manufacturerObject = new ManufacturerObject();
+        for (String manufacturer : new String[] {"github", "gitlab"}) {
+            manufacturerObject.addManufacturer(manufacturer);
+            manufacturerObject.getManufacturerEvents(manufacturer).add(NacosWebHookConfigCache.getDataId(CALLBACK_PATH));
+        }
+        when(configService.getConfigAndSignListener(eq(MANUFACTURERS_DATA_ID), anyString(), anyLong(), any()))
+            .thenReturn(JsonUtils.serialize(manufacturerObject));
+        AtomicReference<Listener> gitlabListener = new AtomicReference<>();
+        when(configService.getConfigAndSignListener(eq(NacosWebHookConfigCache.getDataId(CALLBACK_PATH)), eq("webhook_gitlab"),
+            anyLong(), any()))
+            .thenAnswer(invocation -> {
+                gitlabListener.set(invocation.getArgument(3));
+                return JsonUtils.serialize(webHookConfig("eventmesh-gitlab"));
+            });
+        cache = new NacosWebHookConfigCache(configService, 60_000L, 60_000L, 2);
+        cache.init();
+
+        configListener.get().receiveConfigInfo(JsonUtils.serialize(webHookConfig("eventmesh-github")));
+        gitlabListener.get().receiveConfigInfo(null);
+        Assert.assertEquals("eventmesh-github", cache.get(CALLBACK_PATH).getCloudEventName());
+        Assert.assertEquals(1, cache.listenerSize());
+    }
+
+    @Test
+    public void testUnknownPathIsCachedWithoutListener() throws Exception {
+        String unknownPath = "/webhook/github/unknown";
+        Assert.assertNull(cache.get(unknownPath));
+        Assert.assertNull(cache.get(unknownPath));
+        Assert.assertEquals(1, cache.getMetrics().getMissNum().get());
+        Assert.assertEquals(1, cache.getMetrics().getHitNum().get());
+        Assert.assertEquals(1, cache.getMetrics().getNotFoundCacheSize());
+        verify(configService, times(1)).getConfig(eq(NacosWebHookConfigCache.getDataId(unknownPath)), eq(GROUP), anyLong());
+        verify(configService, never()).getConfigAndSignListener(eq(NacosWebHookConfigCache.getDataId(unknownPath)), anyString(),
+            anyLong(), any());
+        Assert.assertEquals(1, cache.listenerSize());
+    }
+
+    @Test
+    public void testNotFoundCacheIsBounded() {
+        for (int i = 0; i < 5; i++) {
+            Assert.assertNull(cache.get("/webhook/github/unknown-" + i));
+        }
+        Assert.assertEquals(2, cache.getMetrics().getNotFoundCacheSize());
+        Assert.assertEquals(5, cache.getMetrics().getMissNum().get());
+    }
+
+    @Test
+    public void testNotFoundEntryExpires() throws Exception {
+        cache.shutdown();
+        cache = new NacosWebHookConfigCache(configService, 60_000L, 0L, 2);
+        cache.init();
+        String unknownPath = "/webhook/github/unknown";
+        Assert.assertNull(cache.get(unknownPath));
+        Thread.sleep(1);
+        Assert.assertNull(cache.get(unknownPath));
+        Assert.assertEquals(2, cache.getMetrics().getMissNum().get());
+        verify(configService, times(2)).getConfig(eq(NacosWebHookConfigCache.getDataId(unknownPath)), eq(GROUP), anyLong());
+    }
+
+    @Test
+    public void testDataIdRoundTrip() {
+        Assert.assertEquals(CALLBACK_PATH, NacosWebHookConfigCache.getCallbackPath(NacosWebHookConfigCache.getDataId(CALLBACK_PATH)));
+    }
+
+    private static WebHookConfig webHookConfig(String cloudEventName) {
+        WebHookConfig webHookConfig = new WebHookConfig();
+        webHookConfig.setCallbackPath(CALLBACK_PATH);
+        webHookConfig.setManufacturerName("github");
+        webHookConfig.setCloudEventName(cloudEventName);
+        return webHookConfig;
+    }
+}